@@ -0,0 +1,74 @@
+package org.yamcs.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.yamcs.YConfiguration;
+import org.yamcs.events.EventProducerFactory;
+import org.yamcs.mdb.Mdb;
+import org.yamcs.mdb.MdbFactory;
+import org.yamcs.utils.FileUtils;
+import org.yamcs.yarch.YarchDatabase;
+import org.yamcs.yarch.YarchDatabaseInstance;
+import org.yamcs.yarch.rocksdb.RdbStorageEngine;
+
+/**
+ * Common setup for the benchmarks.
+ * <p>
+ * The configuration is read from the classpath (see src/main/resources); the reference MDB is loaded from the
+ * <code>tests</code> module so the benchmarks have to be run from the benchmarks directory.
+ */
+public class BenchmarkSupport {
+    /**
+     * the instance name used for all the benchmarks requiring an MDB
+     */
+    public static final String REFMDB_INSTANCE = "refmdb";
+
+    private BenchmarkSupport() {
+    }
+
+    /**
+     * Resets the configuration and enables the mockup event producer without an event queue (no event is sent or
+     * kept anywhere).
+     */
+    public static void setupConfig() {
+        YConfiguration.setupTest(null);
+        EventProducerFactory.setMockup(false);
+    }
+
+    /**
+     * Loads (if not already loaded) and returns the reference MDB
+     */
+    public static Mdb refMdb() {
+        setupConfig();
+        return MdbFactory.getInstance(REFMDB_INSTANCE);
+    }
+
+    /**
+     * Creates a new empty yarch database instance with the given name. Any data left from a previous run is removed.
+     */
+    public static YarchDatabaseInstance createEmptyInstance(String instance) throws IOException {
+        setupConfig();
+        dropInstance(instance);
+        Path dir = Path.of(YarchDatabase.getDataDir());
+        FileUtils.deleteRecursivelyIfExists(dir.resolve(instance));
+        FileUtils.deleteRecursivelyIfExists(dir.resolve(instance + ".rdb"));
+        FileUtils.deleteRecursivelyIfExists(dir.resolve(instance + ".tbs"));
+
+        RdbStorageEngine.getInstance().createTablespace(instance);
+        return YarchDatabase.getInstance(instance);
+    }
+
+    /**
+     * Removes the yarch database instance and its tablespace from memory
+     */
+    public static void dropInstance(String instance) {
+        if (YarchDatabase.hasInstance(instance)) {
+            YarchDatabase.removeInstance(instance);
+        }
+        RdbStorageEngine rse = RdbStorageEngine.getInstance();
+        if (rse.getTablespace(instance) != null) {
+            rse.dropTablespace(instance);
+        }
+    }
+}
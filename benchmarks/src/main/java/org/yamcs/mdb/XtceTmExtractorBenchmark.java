@@ -0,0 +1,68 @@
+package org.yamcs.mdb;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.yamcs.benchmarks.BenchmarkSupport;
+import org.yamcs.tests.RefMdbPacketGenerator;
+import org.yamcs.utils.TimeEncoding;
+
+/**
+ * Measures the extraction of all parameters from one packet starting at the root container.
+ * <p>
+ * The packets are chosen to cover fixed size integer/float entries (PKT1_1), strings of various kinds (PKT1_3) and a
+ * larger packet with many entries (PKT1_4).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class XtceTmExtractorBenchmark {
+
+    @Param({ "PKT1_1", "PKT1_3", "PKT1_4" })
+    String packet;
+
+    XtceTmExtractor extractor;
+    byte[] pkt;
+    long now;
+
+    @Setup
+    public void setup() {
+        Mdb mdb = BenchmarkSupport.refMdb();
+        extractor = new XtceTmExtractor(mdb);
+        extractor.provideAll();
+
+        RefMdbPacketGenerator tmGenerator = new RefMdbPacketGenerator();
+        switch (packet) {
+        case "PKT1_1":
+            pkt = tmGenerator.generate_PKT1_1();
+            break;
+        case "PKT1_3":
+            pkt = tmGenerator.generate_PKT1_3();
+            break;
+        case "PKT1_4":
+            pkt = tmGenerator.generate_PKT14();
+            break;
+        default:
+            throw new IllegalArgumentException("Unknown packet " + packet);
+        }
+        now = TimeEncoding.getWallclockTime();
+    }
+
+    @Benchmark
+    public ContainerProcessingResult processPacket() {
+        return extractor.processPacket(pkt, now, now, 0);
+    }
+}
@@ -0,0 +1,102 @@
+package org.yamcs.parameter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.yamcs.utils.TimeEncoding;
+import org.yamcs.utils.ValueUtility;
+import org.yamcs.xtce.Parameter;
+import org.yamcs.xtce.SpaceSystem;
+import org.yamcs.xtce.XtceDb;
+
+/**
+ * Measures updating and reading the {@link LastValueCache} with a configurable number of parameters.
+ * <p>
+ * The parameters are updated in round-robin which is the worst case for the cache locality.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class LastValueCacheBenchmark {
+
+    @Param({ "1000", "200000" })
+    int numParameters;
+
+    LastValueCache lvc;
+    ParameterValue[] values;
+    Parameter[] params;
+    List<ParameterValue> batch;
+    int idx;
+
+    @Setup
+    public void setup() {
+        TimeEncoding.setUp();
+        values = new ParameterValue[numParameters];
+        params = new Parameter[numParameters];
+        SpaceSystem ss = new SpaceSystem("benchmark");
+        ss.setQualifiedName("/benchmark");
+        for (int i = 0; i < numParameters; i++) {
+            Parameter p = new Parameter("p" + i);
+            p.setQualifiedName("/benchmark/p" + i);
+            ss.addParameter(p);
+            params[i] = p;
+        }
+        SpaceSystem root = new SpaceSystem("");
+        root.setQualifiedName("/");
+        root.addSpaceSystem(ss);
+        // assigns the parameter indexes
+        new XtceDb(root).buildIndexMaps();
+
+        lvc = new LastValueCache(numParameters, Collections.emptyList());
+        long now = TimeEncoding.getWallclockTime();
+        for (int i = 0; i < numParameters; i++) {
+            ParameterValue pv = new ParameterValue(params[i]);
+            pv.setGenerationTime(now);
+            pv.setAcquisitionTime(now);
+            pv.setEngValue(ValueUtility.getDoubleValue(i));
+            values[i] = pv;
+            lvc.add(pv);
+        }
+        batch = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            batch.add(values[i * (numParameters / 50)]);
+        }
+    }
+
+    @Benchmark
+    public void add() {
+        lvc.add(values[next()]);
+    }
+
+    @Benchmark
+    public void addAll() {
+        lvc.addAll(batch);
+    }
+
+    @Benchmark
+    public ParameterValue getValue() {
+        return lvc.getValue(params[next()]);
+    }
+
+    private int next() {
+        int k = idx;
+        idx = (k + 1 == numParameters) ? 0 : k + 1;
+        return k;
+    }
+}
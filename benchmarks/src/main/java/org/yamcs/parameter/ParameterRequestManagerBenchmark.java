@@ -0,0 +1,89 @@
+package org.yamcs.parameter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.yamcs.Processor;
+import org.yamcs.ProcessorFactory;
+import org.yamcs.benchmarks.BenchmarkSupport;
+import org.yamcs.mdb.Mdb;
+import org.yamcs.mdb.XtceTmExtractor;
+import org.yamcs.tests.RefMdbPacketGenerator;
+import org.yamcs.utils.TimeEncoding;
+import org.yamcs.xtce.Parameter;
+
+/**
+ * Measures the distribution of the parameters extracted from one packet to a number of consumers having overlapping
+ * subscriptions.
+ * <p>
+ * Consumer <code>i</code> subscribes to every <code>(i % 4 + 1)</code>th parameter of the packet such that the
+ * subscriptions have different sizes but share most of their parameters.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ParameterRequestManagerBenchmark {
+
+    @Param({ "1", "10", "100" })
+    int numConsumers;
+
+    Processor proc;
+    ParameterRequestManager prm;
+    ParameterValueList pvList;
+    long delivered;
+
+    @Setup
+    public void setup() throws Exception {
+        Mdb mdb = BenchmarkSupport.refMdb();
+        RefMdbPacketGenerator tmGenerator = new RefMdbPacketGenerator();
+        proc = ProcessorFactory.create(BenchmarkSupport.REFMDB_INSTANCE, "ParameterRequestManagerBenchmark",
+                tmGenerator);
+        prm = proc.getParameterRequestManager();
+
+        XtceTmExtractor extractor = new XtceTmExtractor(mdb);
+        extractor.provideAll();
+        long now = TimeEncoding.getWallclockTime();
+        pvList = extractor.processPacket(tmGenerator.generate_PKT1_1(), now, now, 0).getParameterResult();
+
+        List<Parameter> params = new ArrayList<>();
+        for (ParameterValue pv : pvList) {
+            params.add(pv.getParameter());
+        }
+        ParameterConsumer consumer = (subscriptionId, items) -> delivered += items.size();
+        for (int i = 0; i < numConsumers; i++) {
+            int step = i % 4 + 1;
+            List<Parameter> subscription = new ArrayList<>();
+            for (int j = 0; j < params.size(); j += step) {
+                subscription.add(params.get(j));
+            }
+            prm.addRequest(subscription, consumer);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        proc.quit();
+    }
+
+    @Benchmark
+    public long update() {
+        prm.update(pvList);
+        return delivered;
+    }
+}
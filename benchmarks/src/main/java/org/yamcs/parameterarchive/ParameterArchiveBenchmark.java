@@ -0,0 +1,102 @@
+package org.yamcs.parameterarchive;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.yamcs.YConfiguration;
+import org.yamcs.benchmarks.BenchmarkSupport;
+import org.yamcs.parameter.BasicParameterValue;
+import org.yamcs.parameterarchive.ParameterGroupIdDb.ParameterGroup;
+import org.yamcs.protobuf.Yamcs.Value.Type;
+import org.yamcs.utils.IntArray;
+import org.yamcs.utils.TimeEncoding;
+import org.yamcs.utils.ValueUtility;
+
+/**
+ * Measures writing one segment of a parameter group to the parameter archive.
+ * <p>
+ * Each invocation writes a full segment ({@link #numRecords} records) into a new interval, the segment creation
+ * being excluded from the measurement.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ParameterArchiveBenchmark {
+    static final String INSTANCE = "ParameterArchiveBenchmark";
+
+    @Param({ "10", "100" })
+    int numParameters;
+
+    @Param({ "500" })
+    int numRecords;
+
+    ParameterArchive parchive;
+    ParameterGroup pg;
+    PGSegment pgSegment;
+    long intervalStart;
+
+    @Setup(Level.Trial)
+    public void setupArchive() throws Exception {
+        BenchmarkSupport.createEmptyInstance(INSTANCE);
+
+        Map<String, Object> conf = new HashMap<>();
+        Map<String, Object> bfc = new HashMap<>();
+        bfc.put("enabled", Boolean.FALSE);
+        conf.put("backFiller", bfc);
+
+        parchive = new ParameterArchive();
+        YConfiguration config = parchive.getSpec().validate(YConfiguration.wrap(conf));
+        parchive.init(INSTANCE, "benchmark", config);
+
+        int[] pids = new int[numParameters];
+        for (int i = 0; i < numParameters; i++) {
+            pids[i] = parchive.getParameterIdDb().createAndGet("/benchmark/p" + i, Type.DOUBLE);
+        }
+        pg = parchive.getParameterGroupIdDb().getGroup(IntArray.wrap(pids));
+        intervalStart = ParameterArchive.getIntervalStart(TimeEncoding.getWallclockTime());
+    }
+
+    @Setup(Level.Invocation)
+    public void createSegment() {
+        intervalStart += ParameterArchive.getIntervalDuration();
+        pgSegment = new PGSegment(pg.id, intervalStart, numParameters);
+        for (int k = 0; k < numRecords; k++) {
+            List<BasicParameterValue> values = new ArrayList<>(numParameters);
+            for (int i = 0; i < numParameters; i++) {
+                BasicParameterValue pv = new BasicParameterValue();
+                pv.setEngValue(ValueUtility.getDoubleValue(k * i));
+                values.add(pv);
+            }
+            pgSegment.addRecord(intervalStart + k * 1000L, pg.pids, values);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkSupport.dropInstance(INSTANCE);
+    }
+
+    @Benchmark
+    public void writeToArchive() throws Exception {
+        parchive.writeToArchive(pgSegment);
+    }
+}
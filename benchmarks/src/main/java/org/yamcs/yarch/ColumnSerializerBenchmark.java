@@ -0,0 +1,85 @@
+package org.yamcs.yarch;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.yamcs.benchmarks.BenchmarkSupport;
+import org.yamcs.utils.ByteArray;
+import org.yamcs.utils.TimeEncoding;
+
+/**
+ * Measures the encoding of a TM like tuple with the V3 column serializers, both directly and through the
+ * {@link TableDefinition} (which adds the column lookup and casting).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ColumnSerializerBenchmark {
+    static final String INSTANCE = "ColumnSerializerBenchmark";
+
+    TupleDefinition tdef;
+    Tuple tuple;
+    ColumnSerializer<Object>[] serializers;
+    TableDefinition tblDef;
+    ByteArray byteArray = new ByteArray(1024);
+
+    @SuppressWarnings("unchecked")
+    @Setup
+    public void setup() throws Exception {
+        YarchDatabaseInstance ydb = BenchmarkSupport.createEmptyInstance(INSTANCE);
+
+        tdef = new TupleDefinition();
+        tdef.addColumn("gentime", DataType.TIMESTAMP);
+        tdef.addColumn("seqNum", DataType.INT);
+        tdef.addColumn("rectime", DataType.TIMESTAMP);
+        tdef.addColumn("status", DataType.INT);
+        tdef.addColumn("obt", DataType.LONG);
+        tdef.addColumn("packet", DataType.BINARY);
+
+        long now = TimeEncoding.getWallclockTime();
+        tuple = new Tuple(tdef, new Object[] { now, 1234, now, 0, 1_000_000L, new byte[256] });
+
+        serializers = new ColumnSerializer[tdef.size()];
+        for (int i = 0; i < tdef.size(); i++) {
+            serializers[i] = ColumnSerializerFactory.getBasicColumnSerializerV3(tdef.getColumn(i).getType());
+        }
+
+        ydb.execute("create table tm(gentime timestamp, seqNum int, rectime timestamp, status int, obt long,"
+                + " packet binary, primary key(gentime, seqNum))");
+        tblDef = ydb.getTable("tm");
+    }
+
+    @TearDown
+    public void tearDown() {
+        BenchmarkSupport.dropInstance(INSTANCE);
+    }
+
+    @Benchmark
+    public ByteArray serializeColumns() {
+        byteArray.reset();
+        for (int i = 0; i < serializers.length; i++) {
+            serializers[i].serialize(byteArray, tuple.getColumn(i));
+        }
+        return byteArray;
+    }
+
+    @Benchmark
+    public ByteArray serializeTableValue() {
+        byteArray.reset();
+        tblDef.serializeValue(tuple, null, byteArray);
+        return byteArray;
+    }
+}
@@ -0,0 +1,104 @@
+package org.yamcs.yarch;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.yamcs.benchmarks.BenchmarkSupport;
+import org.yamcs.utils.TimeEncoding;
+
+/**
+ * Measures {@link Stream#emitTuple(Tuple)} to a number of direct subscribers and through a
+ * <code>select ... where</code> stream.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class StreamBenchmark {
+    static final String INSTANCE = "StreamBenchmark";
+
+    @Param({ "1", "10" })
+    int numSubscribers;
+
+    Stream directStream;
+    Stream selectInput;
+    Tuple tuple;
+    long received;
+
+    @Setup
+    public void setup() throws Exception {
+        YarchDatabaseInstance ydb = BenchmarkSupport.createEmptyInstance(INSTANCE);
+
+        TupleDefinition tdef = new TupleDefinition();
+        tdef.addColumn("gentime", DataType.TIMESTAMP);
+        tdef.addColumn("seqNum", DataType.INT);
+        tdef.addColumn("packet", DataType.BINARY);
+        tuple = new Tuple(tdef, new Object[] { TimeEncoding.getWallclockTime(), 5, new byte[256] });
+
+        StreamSubscriber subscriber = new StreamSubscriber() {
+            @Override
+            public void onTuple(Stream stream, Tuple t) {
+                received++;
+            }
+
+            @Override
+            public void streamClosed(Stream stream) {
+            }
+        };
+
+        directStream = createStream(ydb, "direct_in", tdef);
+        selectInput = createStream(ydb, "select_in", tdef);
+        ydb.execute("create stream select_out as select * from select_in where seqNum > 4 and seqNum < 100");
+        Stream selectOut = ydb.getStream("select_out");
+
+        for (int i = 0; i < numSubscribers; i++) {
+            directStream.addSubscriber(subscriber);
+            selectOut.addSubscriber(subscriber);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        BenchmarkSupport.dropInstance(INSTANCE);
+    }
+
+    @Benchmark
+    public long emitDirect() {
+        directStream.emitTuple(tuple);
+        return received;
+    }
+
+    @Benchmark
+    public long emitThroughSelect() {
+        selectInput.emitTuple(tuple);
+        return received;
+    }
+
+    private static Stream createStream(YarchDatabaseInstance ydb, String name, TupleDefinition tdef)
+            throws YarchException {
+        Stream s = new Stream(ydb, name, tdef) {
+            @Override
+            public void doStart() {
+            }
+
+            @Override
+            protected void doClose() {
+            }
+        };
+        ydb.addStream(s);
+        return s;
+    }
+}
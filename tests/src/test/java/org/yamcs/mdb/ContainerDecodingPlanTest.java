@@ -0,0 +1,119 @@
+package org.yamcs.mdb;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.yamcs.ProcessorConfig;
+import org.yamcs.YConfiguration;
+import org.yamcs.mdb.ContainerDecodingPlan.PositionType;
+import org.yamcs.mdb.ContainerDecodingPlan.Step;
+import org.yamcs.parameter.ContainerParameterValue;
+import org.yamcs.parameter.ParameterValue;
+import org.yamcs.parameter.ParameterValueList;
+import org.yamcs.tests.RefMdbPacketGenerator;
+import org.yamcs.utils.TimeEncoding;
+
+/**
+ * Checks that the processing with the decoding plan gives the same result as the default processing
+ */
+public class ContainerDecodingPlanTest {
+    private static Mdb mdb;
+
+    @BeforeAll
+    public static void setUpBeforeClass() throws Exception {
+        YConfiguration.setupTest("refmdb");
+        MdbFactory.reset();
+        mdb = MdbFactory.createInstanceByConfig("refmdb");
+    }
+
+    @Test
+    public void testSameResult() {
+        RefMdbPacketGenerator tmGenerator = new RefMdbPacketGenerator();
+        List<byte[]> packets = Arrays.asList(tmGenerator.generate_PKT1_1(), tmGenerator.generate_PKT1_2(),
+                tmGenerator.generate_PKT1_3(), tmGenerator.generate_PKT14(), tmGenerator.generate_PKT1_5(),
+                tmGenerator.generate_PKT1_7(), tmGenerator.generate_PKT1_9(), tmGenerator.generate_PKT1_11(),
+                tmGenerator.generate_PKT1_12(), tmGenerator.generate_PKT2(), tmGenerator.generate_PKT3(),
+                tmGenerator.generate_PKT4(), tmGenerator.generate_PKT5(), tmGenerator.generate_PKT6(),
+                tmGenerator.generate_PKT7(), tmGenerator.generate_PKT8(), tmGenerator.generate_PKT1(0, 0, (short) 3),
+                tmGenerator.generate_PKT1_10(0, 1, 30));
+
+        XtceTmExtractor interpreted = createExtractor(false);
+        XtceTmExtractor planned = createExtractor(true);
+
+        for (byte[] pkt : packets) {
+            assertSameValues(processPacket(interpreted, pkt), processPacket(planned, pkt));
+        }
+    }
+
+    @Test
+    public void testStaticPositions() {
+        XtceTmExtractor tmExtractor = createExtractor(true);
+        SubscribedContainer subscr = tmExtractor.getSubscription()
+                .getSubscribedContainer(mdb.getSequenceContainer("/REFMDB/SUBSYS1/PKT1_2"));
+        assertNotNull(subscr.decodingPlan);
+
+        // all entries of PKT1_2 have a fixed size and follow each other
+        for (Step step : subscr.decodingPlan.steps) {
+            assertNotEquals(PositionType.DYNAMIC, step.positionType);
+            assertTrue(step.sizeInBits > 0);
+        }
+    }
+
+    @Test
+    public void testGeneratedExtractor() {
+        RefMdbPacketGenerator tmGenerator = new RefMdbPacketGenerator();
+        XtceTmExtractor interpreted = createExtractor(false);
+        XtceTmExtractor generated = createExtractor(true);
+        generated.getOptions().setGenerateExtractors(true);
+
+        byte[] pkt = tmGenerator.generate_PKT1_2();
+        for (int i = 0; i <= ContainerDecodingPlan.GENERATION_THRESHOLD; i++) {
+            processPacket(generated, pkt);
+        }
+        SubscribedContainer subscr = generated.getSubscription()
+                .getSubscribedContainer(mdb.getSequenceContainer("/REFMDB/SUBSYS1/PKT1_2"));
+        assertTrue(subscr.decodingPlan.fixedLayout);
+        assertNotNull(subscr.decodingPlan.getExtractor());
+
+        assertSameValues(processPacket(interpreted, pkt), processPacket(generated, pkt));
+    }
+
+    private void assertSameValues(ParameterValueList expectedList, ParameterValueList actualList) {
+        List<ParameterValue> expected = new ArrayList<>(expectedList);
+        List<ParameterValue> actual = new ArrayList<>(actualList);
+
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            ContainerParameterValue epv = (ContainerParameterValue) expected.get(i);
+            ContainerParameterValue apv = (ContainerParameterValue) actual.get(i);
+            assertEquals(epv.getParameter(), apv.getParameter());
+            assertEquals(epv.getAbsoluteBitOffset(), apv.getAbsoluteBitOffset());
+            assertEquals(epv.getBitSize(), apv.getBitSize());
+            assertEquals(epv.getAcquisitionStatus(), apv.getAcquisitionStatus());
+            assertEquals(String.valueOf(epv.getRawValue()), String.valueOf(apv.getRawValue()));
+            assertEquals(String.valueOf(epv.getEngValue()), String.valueOf(apv.getEngValue()));
+        }
+    }
+
+    private XtceTmExtractor createExtractor(boolean decodingPlan) {
+        ProcessorConfig pconf = new ProcessorConfig();
+        pconf.getContainerProcessingOptions().setDecodingPlan(decodingPlan);
+        ProcessorData pdata = new ProcessorData("XTCEPROC", mdb, pconf);
+        XtceTmExtractor tmExtractor = new XtceTmExtractor(mdb, pdata);
+        tmExtractor.provideAll();
+        return tmExtractor;
+    }
+
+    private ParameterValueList processPacket(XtceTmExtractor tmExtractor, byte[] pkt) {
+        long now = TimeEncoding.getWallclockTime();
+        return tmExtractor.processPacket(pkt, now, now, 0).getParameterResult();
+    }
+}
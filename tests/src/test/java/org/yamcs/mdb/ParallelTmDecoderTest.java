@@ -0,0 +1,89 @@
+package org.yamcs.mdb;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.yamcs.ProcessorConfig;
+import org.yamcs.TmPacket;
+import org.yamcs.YConfiguration;
+import org.yamcs.logging.Log;
+import org.yamcs.tests.RefMdbPacketGenerator;
+import org.yamcs.utils.TimeEncoding;
+
+public class ParallelTmDecoderTest {
+    private static Mdb mdb;
+
+    @BeforeAll
+    public static void setUpBeforeClass() throws Exception {
+        YConfiguration.setupTest("refmdb");
+        MdbFactory.reset();
+        mdb = MdbFactory.createInstanceByConfig("refmdb");
+    }
+
+    @Test
+    public void testOrderPreserved() throws Exception {
+        RefMdbPacketGenerator tmGenerator = new RefMdbPacketGenerator();
+        List<byte[]> packets = List.of(tmGenerator.generate_PKT1_1(), tmGenerator.generate_PKT1_3(),
+                tmGenerator.generate_PKT2(), tmGenerator.generate_PKT4(), tmGenerator.generate_PKT1_9());
+
+        XtceTmExtractor serial = new XtceTmExtractor(mdb);
+        serial.provideAll();
+
+        List<ContainerProcessingResult> received = new ArrayList<>();
+        ProcessorData pdata = new ProcessorData("XTCEPROC", mdb, new ProcessorConfig());
+        ParallelTmDecoder decoder = new ParallelTmDecoder(mdb, pdata, "test", 4, 16, received::add,
+                new Log(ParallelTmDecoderTest.class));
+        decoder.provideAll();
+
+        int n = 1000;
+        long now = TimeEncoding.getWallclockTime();
+        for (int i = 0; i < n; i++) {
+            byte[] pkt = packets.get(i % packets.size());
+            decoder.processPacket(new TmPacket(now, now, i, pkt), mdb.getRootSequenceContainer(), now);
+        }
+        decoder.shutdown();
+
+        assertEquals(n, received.size());
+        for (int i = 0; i < n; i++) {
+            ContainerProcessingResult result = received.get(i);
+            assertEquals(i, result.seqCount);
+            byte[] pkt = packets.get(i % packets.size());
+            ContainerProcessingResult expected = serial.processPacket(pkt, now, now, i);
+            assertEquals(expected.getParameterResult().size(), result.getParameterResult().size());
+        }
+        // the packets which cannot be decoded (PKT2 is too short) are not counted, same as for the serial extractor
+        assertEquals(receivedPackets(serial.getStatistics()), receivedPackets(decoder.getStatistics()));
+    }
+
+    private static long receivedPackets(ProcessingStatistics stats) {
+        return stats.snapshot().stream().mapToLong(s -> s.getReceivedPackets()).sum();
+    }
+
+    @Test
+    public void testPacketAfterShutdown() throws Exception {
+        RefMdbPacketGenerator tmGenerator = new RefMdbPacketGenerator();
+        ProcessorData pdata = new ProcessorData("XTCEPROC", mdb, new ProcessorConfig());
+        List<ContainerProcessingResult> received = new ArrayList<>();
+        ParallelTmDecoder decoder = new ParallelTmDecoder(mdb, pdata, "test", 2, 1, received::add,
+                new Log(ParallelTmDecoderTest.class));
+        decoder.provideAll();
+        decoder.shutdown();
+
+        long now = TimeEncoding.getWallclockTime();
+        // the rejected packets do not keep the single slot of the queue
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            for (int i = 0; i < 3; i++) {
+                decoder.processPacket(new TmPacket(now, now, i, tmGenerator.generate_PKT1_1()),
+                        mdb.getRootSequenceContainer(), now);
+            }
+        });
+        assertEquals(0, received.size());
+        assertEquals(0, decoder.pending.size());
+    }
+}
@@ -43,4 +43,22 @@ public interface Observer<T> {
     default void setCancelHandler(Runnable cancelHandler) {
         throw new UnsupportedOperationException();
     }
+
+    /**
+     * Returns whether a message can be emitted without being queued (example: the network channel is not congested).
+     * <p>
+     * Producers may use this to hold back or conflate the messages while the peer is slow.
+     */
+    default boolean isReady() {
+        return true;
+    }
+
+    /**
+     * Set a {@link Runnable} that will be called when this observer becomes ready again after {@link #isReady()}
+     * returned false.
+     * <p>
+     * The default implementation ignores the handler, the producer has to check {@link #isReady()} periodically.
+     */
+    default void setOnReadyHandler(Runnable onReadyHandler) {
+    }
 }
@@ -1232,6 +1232,7 @@ public class YamcsServer {
                 .withDeprecationMessage("use: \"enabled\" property inside the plugin's configuration section instead");
         spec.addOption("archive", OptionType.ANY);
         spec.addOption("rdbConfig", OptionType.ANY);
+        spec.addOption("linkTransport", OptionType.STRING).withChoices("nio", "epoll", "auto").withDefault("nio");
 
         Map<String, Spec> extraSections = getConfigurationSections(ConfigScope.YAMCS);
         extraSections.forEach((key, sectionSpec) -> {
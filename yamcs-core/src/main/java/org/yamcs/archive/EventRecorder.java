@@ -1,6 +1,7 @@
 package org.yamcs.archive;
 
-import java.util.stream.Collectors;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.yamcs.AbstractYamcsService;
 import org.yamcs.InitException;
@@ -8,6 +9,7 @@ import org.yamcs.StreamConfig;
 import org.yamcs.StreamConfig.StreamConfigEntry;
 import org.yamcs.YConfiguration;
 import org.yamcs.utils.parser.ParseException;
+import org.yamcs.yarch.Stream;
 import org.yamcs.yarch.YarchDatabase;
 import org.yamcs.yarch.YarchDatabaseInstance;
 import org.yamcs.yarch.protobuf.Db.Event;
@@ -15,6 +17,9 @@ import org.yamcs.yarch.streamsql.StreamSqlException;
 
 /**
  * Sets up the archiving of the events coming on events_realtime and events_dump streams into the yarch table events.
+ * <p>
+ * If the textIndex option is set, the words of the event messages are also recorded into the
+ * {@link EventTextIndex}.
  * 
  * @author nm
  *
@@ -24,7 +29,10 @@ public class EventRecorder extends AbstractYamcsService {
     public static final String TABLE_NAME = "events";
     public static final String REALTIME_EVENT_STREAM_NAME = "events_realtime";
     public static final String CF_NAME = XtceTmRecorder.CF_NAME;
-    
+
+    private EventTextIndex textIndex;
+    private List<String> streamNames = new ArrayList<>();
+
     @Override
     public void init(String yamcsInstance, String serviceName, YConfiguration config) throws InitException {
         super.init(yamcsInstance, serviceName, config);
@@ -44,10 +52,29 @@ public class EventRecorder extends AbstractYamcsService {
                         + " table_format=compressed,column_family:"+CF_NAME);
             }
 
+            if (config.getBoolean("textIndex", false)) {
+                boolean created = ydb.getTable(EventTextIndex.TABLE_NAME) == null;
+                textIndex = EventTextIndex.setup(ydb);
+                if (created) {
+                    log.info("Building the text index of the existing events");
+                    textIndex.indexTable(ydb);
+                }
+                streamNames.add(EventTextIndex.STREAM_NAME);
+            } else if (ydb.getTable(EventTextIndex.TABLE_NAME) != null) {
+                // the index would miss the events recorded from now on
+                log.info("Removing the text index of the events");
+                ydb.execute("drop table " + EventTextIndex.TABLE_NAME);
+            }
+
             StreamConfig sc = StreamConfig.getInstance(yamcsInstance);
             for (StreamConfigEntry sce : sc.getEntries()) {
                 if (sce.getType() == StreamConfig.StandardStreamType.EVENT) {
                     ydb.execute("insert into " + TABLE_NAME + " select * from " + sce.getName());
+                    if (textIndex != null) {
+                        Stream s = ydb.getStream(sce.getName());
+                        s.addSubscriber(textIndex);
+                    }
+                    streamNames.add(sce.getName());
                 }
             }
         } catch (ParseException | StreamSqlException e) {
@@ -55,6 +82,14 @@ public class EventRecorder extends AbstractYamcsService {
         }
     }
 
+    /**
+     * 
+     * @return true if the words of the event messages are recorded into the {@link EventTextIndex}
+     */
+    public boolean isTextIndexEnabled() {
+        return textIndex != null;
+    }
+
     @Override
     protected void doStart() {
         notifyStarted();
@@ -63,9 +98,15 @@ public class EventRecorder extends AbstractYamcsService {
     @Override
     protected void doStop() {
         YarchDatabaseInstance ydb = YarchDatabase.getInstance(yamcsInstance);
-        StreamConfig sc = StreamConfig.getInstance(yamcsInstance);
-
-        Utils.closeTableWriters(ydb, sc.getEntries().stream().map(sce -> sce.getName()).collect(Collectors.toList()));
+        if (textIndex != null) {
+            for (String streamName : streamNames) {
+                Stream s = ydb.getStream(streamName);
+                if (s != null) {
+                    s.removeSubscriber(textIndex);
+                }
+            }
+        }
+        Utils.closeTableWriters(ydb, streamNames);
 
         notifyStopped();
     }
@@ -0,0 +1,254 @@
+package org.yamcs.archive;
+
+import static org.yamcs.StandardTupleDefinitions.BODY_COLUMN;
+import static org.yamcs.StandardTupleDefinitions.GENTIME_COLUMN;
+import static org.yamcs.StandardTupleDefinitions.SEQNUM_COLUMN;
+import static org.yamcs.StandardTupleDefinitions.SOURCE_COLUMN;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.yamcs.logging.Log;
+import org.yamcs.utils.parser.ParseException;
+import org.yamcs.yarch.DataType;
+import org.yamcs.yarch.SqlBuilder;
+import org.yamcs.yarch.Stream;
+import org.yamcs.yarch.StreamSubscriber;
+import org.yamcs.yarch.Tuple;
+import org.yamcs.yarch.TupleDefinition;
+import org.yamcs.yarch.YarchDatabaseInstance;
+import org.yamcs.yarch.protobuf.Db.Event;
+import org.yamcs.yarch.streamsql.StreamSqlException;
+import org.yamcs.yarch.streamsql.StreamSqlResult;
+
+/**
+ * Inverted index of the words appearing in the event messages.
+ * <p>
+ * The index is stored in the table {@value #TABLE_NAME} with one row for each distinct word of each event. The table
+ * has the word as the first column of the primary key followed by the key of the event, such that the events
+ * containing one word in a time interval are found with one range scan.
+ * <p>
+ * The words are the sequences of letters and digits of the message, converted to lower case.
+ */
+public class EventTextIndex implements StreamSubscriber {
+    public static final String TABLE_NAME = "events_text_index";
+    static final String STREAM_NAME = TABLE_NAME + "_in";
+    static final String TOKEN_COLUMN = "token";
+
+    static final int MIN_TOKEN_LENGTH = 2;
+    static final int MAX_TOKEN_LENGTH = 64;
+
+    /**
+     * Characters which do not match themselves in a "like" pattern.
+     */
+    static final String LIKE_SPECIAL_CHARS = "%?*+()[]{}|^$\\";
+
+    /**
+     * Lookups returning more than this number of events are abandoned, the index is not worth using in that case.
+     */
+    static final int MAX_CANDIDATES = 5000;
+
+    static final TupleDefinition TDEF = new TupleDefinition();
+    static {
+        TDEF.addColumn(TOKEN_COLUMN, DataType.STRING);
+        TDEF.addColumn(GENTIME_COLUMN, DataType.TIMESTAMP);
+        TDEF.addColumn(SOURCE_COLUMN, DataType.ENUM);
+        TDEF.addColumn(SEQNUM_COLUMN, DataType.INT);
+    }
+
+    private static final Log log = new Log(EventTextIndex.class);
+
+    final Stream stream;
+
+    private EventTextIndex(Stream stream) {
+        this.stream = stream;
+    }
+
+    /**
+     * Creates (if not already existing) the index table and the stream used to write into it.
+     */
+    static EventTextIndex setup(YarchDatabaseInstance ydb) throws StreamSqlException, ParseException {
+        if (ydb.getTable(TABLE_NAME) == null) {
+            ydb.execute("create table " + TABLE_NAME + "(" + TDEF.getStringDefinition1()
+                    + ", primary key(token, gentime, source, seqNum)) table_format=compressed,column_family:"
+                    + EventRecorder.CF_NAME);
+        }
+        if (ydb.getStream(STREAM_NAME) == null) {
+            ydb.execute("create stream " + STREAM_NAME + TDEF.getStringDefinition());
+        }
+        ydb.execute("upsert into " + TABLE_NAME + " select * from " + STREAM_NAME);
+        return new EventTextIndex(ydb.getStream(STREAM_NAME));
+    }
+
+    @Override
+    public void onTuple(Stream s, Tuple tuple) {
+        Event event = (Event) tuple.getColumn(BODY_COLUMN);
+        if (event == null || !event.hasMessage()) {
+            return;
+        }
+        Object gentime = tuple.getColumn(GENTIME_COLUMN);
+        Object source = tuple.getColumn(SOURCE_COLUMN);
+        Object seqNum = tuple.getColumn(SEQNUM_COLUMN);
+        for (String token : new LinkedHashSet<>(tokenize(event.getMessage()))) {
+            stream.emitTuple(new Tuple(TDEF, new Object[] { token, gentime, source, seqNum }));
+        }
+    }
+
+    /**
+     * Adds to the index all the events from the events table.
+     */
+    void indexTable(YarchDatabaseInstance ydb) throws StreamSqlException, ParseException {
+        StreamSqlResult r = ydb.execute("select * from " + EventRecorder.TABLE_NAME);
+        try {
+            while (r.hasNext()) {
+                onTuple(null, r.next());
+            }
+        } finally {
+            r.close();
+        }
+    }
+
+    @Override
+    public void streamClosed(Stream s) {
+        // the index stream is shared between all the event streams
+    }
+
+    /**
+     * Splits the text into lower case words. The words shorter than {@value #MIN_TOKEN_LENGTH} characters are ignored
+     * and the words longer than {@value #MAX_TOKEN_LENGTH} characters are truncated.
+     */
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        int n = text.length();
+        int i = 0;
+        while (i < n) {
+            while (i < n && !Character.isLetterOrDigit(text.charAt(i))) {
+                i++;
+            }
+            int start = i;
+            while (i < n && Character.isLetterOrDigit(text.charAt(i))) {
+                i++;
+            }
+            if (i - start >= MIN_TOKEN_LENGTH) {
+                String token = text.substring(start, Math.min(i, start + MAX_TOKEN_LENGTH));
+                tokens.add(token.toLowerCase(Locale.ROOT));
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Looks up in the index the generation times of the events whose message may contain the text.
+     * <p>
+     * The text is matched as a substring of the message, so its first word may be the end of a word of the message and
+     * its last word the beginning of one. Only the words preceded by a separator in the text are looked up: they have
+     * to be found as whole words in the message, or, for the last one if not followed by a separator, as the beginning
+     * of a word. The returned events are a superset of the matching ones, the caller has to verify that they really
+     * contain the text.
+     *
+     * @param start
+     *            - the start of the interval (inclusive) or {@link Long#MIN_VALUE}
+     * @param stop
+     *            - the end of the interval (exclusive) or {@link Long#MAX_VALUE}
+     * @return the sorted generation times of the candidate events or null if the index cannot be used for this text
+     *         (no word preceded by a separator, wildcards in the text or too many results)
+     */
+    public static Set<Long> findCandidates(YarchDatabaseInstance ydb, String text, long start, long stop)
+            throws StreamSqlException, ParseException {
+        if (ydb.getTable(TABLE_NAME) == null) {
+            return null;
+        }
+        Map<String, Boolean> words = getIndexedWords(text);
+        if (words == null || words.isEmpty()) {
+            return null;
+        }
+
+        Set<String> keys = null;
+        Set<Long> gentimes = null;
+        for (Map.Entry<String, Boolean> me : words.entrySet()) {
+            String token = me.getKey();
+            boolean prefix = me.getValue();
+            SqlBuilder sqlb = new SqlBuilder(TABLE_NAME);
+            if (prefix) {
+                sqlb.where("token >= ?", token);
+                sqlb.where("token < ?", token + Character.MAX_VALUE);
+            } else {
+                sqlb.where("token = ?", token);
+            }
+            if (start != Long.MIN_VALUE) {
+                sqlb.whereColAfterOrEqual(GENTIME_COLUMN, start);
+            }
+            if (stop != Long.MAX_VALUE) {
+                sqlb.whereColBefore(GENTIME_COLUMN, stop);
+            }
+            Set<String> tokenKeys = new HashSet<>();
+            Set<Long> tokenGentimes = new TreeSet<>();
+            StreamSqlResult r = ydb.execute(sqlb.toString(), sqlb.getQueryArgumentsArray());
+            try {
+                while (r.hasNext()) {
+                    Tuple t = r.next();
+                    String key = t.getColumn(GENTIME_COLUMN) + "/" + t.getColumn(SOURCE_COLUMN) + "/"
+                            + t.getColumn(SEQNUM_COLUMN);
+                    if (keys == null || keys.contains(key)) {
+                        if (tokenKeys.add(key) && tokenKeys.size() > MAX_CANDIDATES && keys == null) {
+                            break;
+                        }
+                        tokenGentimes.add(t.getTimestampColumn(GENTIME_COLUMN));
+                    }
+                }
+            } finally {
+                r.close();
+            }
+            if (keys == null && tokenKeys.size() > MAX_CANDIDATES) {
+                // not selective, try the next word
+                log.trace("Word '{}' matches more than {} events, not using it", token, MAX_CANDIDATES);
+                continue;
+            }
+            keys = tokenKeys;
+            gentimes = tokenGentimes;
+            if (keys.isEmpty()) {
+                break;
+            }
+        }
+        return gentimes;
+    }
+
+    /**
+     * Returns the words of the text that any message containing the text has to contain as words, mapped to true if
+     * the message word may be longer (the word ends the text) or false if it has to be equal.
+     * <p>
+     * Returns null if the text contains characters which are wildcards or have a special meaning in a "like" pattern
+     * such that the message does not necessarily contain the text literally.
+     */
+    static Map<String, Boolean> getIndexedWords(String text) {
+        Map<String, Boolean> words = new LinkedHashMap<>();
+        int n = text.length();
+        int i = 0;
+        while (i < n) {
+            while (i < n && !Character.isLetterOrDigit(text.charAt(i))) {
+                if (LIKE_SPECIAL_CHARS.indexOf(text.charAt(i)) >= 0) {
+                    return null;
+                }
+                i++;
+            }
+            int start = i;
+            while (i < n && Character.isLetterOrDigit(text.charAt(i))) {
+                i++;
+            }
+            // the first word of the text may be the end of a longer word of the message
+            if (start > 0 && i - start >= MIN_TOKEN_LENGTH) {
+                String token = text.substring(start, Math.min(i, start + MAX_TOKEN_LENGTH)).toLowerCase(Locale.ROOT);
+                // a whole word is also the beginning of a word
+                words.merge(token, i == n, (a, b) -> a && b);
+            }
+        }
+        return words;
+    }
+}
@@ -256,8 +256,9 @@ public class IndexRequestProcessor implements Runnable {
         ColumnDefinition histoColumnDefinition = tblDef.getColumnDefinition(hreq.columnName);
         TimeInterval interval = getTimeInterval(req);
 
+        // the records closer than the merge time are merged anyway, the histogram rollups can be used
         try (HistogramIterator iter = ydb.getStorageEngine(tblDef).getHistogramIterator(ydb, tblDef, hreq.columnName,
-                interval)) {
+                interval, req.getMergeTime())) {
             if (hreq.seekValue != null) {
                 iter.seek(hreq.seekValue, hreq.seekTime);
             }
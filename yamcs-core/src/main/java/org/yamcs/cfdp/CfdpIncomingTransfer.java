@@ -8,6 +8,8 @@ import static org.yamcs.cfdp.CfdpService.ETYPE_TRANSFER_RESUMED;
 import static org.yamcs.cfdp.CfdpService.ETYPE_TRANSFER_SUSPENDED;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -85,6 +87,12 @@ public class CfdpIncomingTransfer extends OngoingCfdpTransfer {
     CfdpHeader directiveHeader;
 
     final long maxFileSize;
+
+    /**
+     * Files of at least this size are reassembled on disk; negative means that all the files are kept in memory
+     */
+    final long diskReassemblyThreshold;
+    final Path reassemblyDirectory;
     /**
      * How often in millisec we should send the NAK PDUs
      */
@@ -136,6 +144,9 @@ public class CfdpIncomingTransfer extends OngoingCfdpTransfer {
         this.acknowledged = hdr.isAcknowledged();
         this.finTimer = new Timer(executor, finAckLimit, finAckTimeout);
         this.maxFileSize = config.getLong("maxFileSize", 100 * 1024 * 1024l);
+        this.diskReassemblyThreshold = config.getLong("diskReassemblyThreshold", -1);
+        this.reassemblyDirectory = Path.of(
+                config.getString("reassemblyDirectory", System.getProperty("java.io.tmpdir")));
         this.nakTimeout = config.getInt("nakTimeout", 5000);
         this.nakLimit = config.getInt("nakLimit", -1);
         this.immediateNak = config.getBoolean("immediateNak", true);
@@ -295,6 +306,17 @@ public class CfdpIncomingTransfer extends OngoingCfdpTransfer {
 
         needsFinish = acknowledged || packet.closureRequested();
 
+        if (diskReassemblyThreshold >= 0 && fileSize >= diskReassemblyThreshold && directoryListingResponse == null) {
+            try {
+                incomingDataFile.moveToDisk(reassemblyDirectory);
+            } catch (IOException e) {
+                String err = "Cannot create the reassembly file in " + reassemblyDirectory + ": " + e.getMessage();
+                log.warn("TXID{} {}", cfdpTransactionId, err);
+                pushError(err);
+                handleFault(ConditionCode.FILESTORE_REJECTION);
+                return;
+            }
+        }
         incomingDataFile.setSize(fileSize);
 
         this.acknowledged = packet.getHeader().isAcknowledged();
@@ -392,6 +414,7 @@ public class CfdpIncomingTransfer extends OngoingCfdpTransfer {
                 log.warn("TXID{} {}", cfdpTransactionId, err);
                 pushError(err);
                 handleFault(ConditionCode.FILE_SIZE_ERROR);
+                return;
             }
         } else {
             if (fdp.getEndOffset() > maxFileSize) {
@@ -401,10 +424,18 @@ public class CfdpIncomingTransfer extends OngoingCfdpTransfer {
                 pushError(err);
                 log.warn("TXID{} {}", cfdpTransactionId, err);
                 handleFault(ConditionCode.FILE_SIZE_ERROR);
+                return;
             }
         }
 
-        incomingDataFile.addSegment(fdp);
+        try {
+            incomingDataFile.addSegment(fdp);
+        } catch (UncheckedIOException e) {
+            log.warn("TXID{} {}", cfdpTransactionId, e.getMessage());
+            pushError(e.getMessage());
+            handleFault(ConditionCode.FILESTORE_REJECTION);
+            return;
+        }
         monitor.stateChanged(this);
         checkFileComplete();
     }
@@ -472,6 +503,10 @@ public class CfdpIncomingTransfer extends OngoingCfdpTransfer {
         if (!acknowledged) {
             checkTimer.cancel();
         }
+        if (conditionCode != ConditionCode.NO_ERROR) {
+            // in case of success, the data is released when saving the file
+            releaseData();
+        }
 
         if (conditionCode == ConditionCode.NO_ERROR) {
             changeState(TransferState.COMPLETED);
@@ -594,7 +629,20 @@ public class CfdpIncomingTransfer extends OngoingCfdpTransfer {
 
         // TODO: source data in metadata
 
-        fileSaveHandler.saveFile(incomingDataFile, metadata, originatingTransactionId);
+        try {
+            fileSaveHandler.saveFile(incomingDataFile, metadata, originatingTransactionId);
+        } finally {
+            releaseData();
+        }
+    }
+
+    // deletes the temporary file if the data has been reassembled on disk
+    private void releaseData() {
+        try {
+            incomingDataFile.release();
+        } catch (IOException e) {
+            log.warn("TXID{} failed to delete the reassembly file: {}", cfdpTransactionId, e.toString());
+        }
     }
 
     private AckPacket getAckEofPacket(ConditionCode code) {
@@ -6,12 +6,11 @@ import static org.yamcs.cfdp.CfdpService.ETYPE_TRANSFER_META;
 import static org.yamcs.cfdp.CfdpService.ETYPE_TRANSFER_RESUMED;
 import static org.yamcs.cfdp.CfdpService.ETYPE_TRANSFER_SUSPENDED;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.LinkedList;
-import java.util.List;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.Map;
-import java.util.Queue;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -70,9 +69,17 @@ public class CfdpOutgoingTransfer extends OngoingCfdpTransfer {
     private Bucket bucket;
     private final int maxDataSize;
     private final int sleepBetweenPdus;
+    // the delay requested for this transfer, 0 if not set
+    private final int customPduDelay;
     private final boolean closureRequested;
-    private final List<FileDataPacket> sentFileDataPackets = new ArrayList<>();
-    private Queue<FileDataPacket> toResend;
+    // the segments requested by the last NAK; they are read again from the request when resent
+    private final Deque<SegmentRequest> toResend = new ArrayDeque<>();
+    // reads the file data sequentially, opened when sending the first file data PDU
+    private InputStream dataIn;
+    // checksum of the data sent in sequence (not counting the resent data)
+    private long checksum;
+    // if not null, paces the PDUs instead of the sleepBetweenPdus
+    private CfdpUplinkScheduler scheduler;
 
     private OutTxState outTxState;
     private long transferred;
@@ -156,7 +163,8 @@ public class CfdpOutgoingTransfer extends OngoingCfdpTransfer {
         acknowledged = request.isAcknowledged();
 
         outTxState = OutTxState.START;
-        this.sleepBetweenPdus = customPduDelay != null && customPduDelay > 0 ? customPduDelay
+        this.customPduDelay = customPduDelay != null && customPduDelay > 0 ? customPduDelay : 0;
+        this.sleepBetweenPdus = this.customPduDelay > 0 ? this.customPduDelay
                 : config.getInt("sleepBetweenPdus", 500);
         this.closureRequested = request.isClosureRequested();
 
@@ -196,17 +204,65 @@ public class CfdpOutgoingTransfer extends OngoingCfdpTransfer {
         return new CfdpTransactionId(sourceId, seqNum);
     }
 
+    /**
+     * Sets the scheduler pacing the PDUs of this transfer; has to be called before {@link #start()}.
+     */
+    void setScheduler(CfdpUplinkScheduler scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * The PDU delay requested for this transfer in milliseconds, or 0 if the transfer uses the configured
+     * sleepBetweenPdus. When the transfer is paced by the scheduler, it is the minimum time between two PDUs.
+     */
+    int getCustomPduDelay() {
+        return customPduDelay;
+    }
+
     /**
      * Start the transfer
      */
     public void start() {
-        pduSendingSchedule = executor.scheduleAtFixedRate(this::sendPDU, 0, sleepBetweenPdus, TimeUnit.MILLISECONDS);
+        if (scheduler != null) {
+            executor.execute(this::startSending);
+        } else {
+            startSending();
+        }
     }
 
-    private void sendPDU() {
+    private void startSending() {
+        if (scheduler != null) {
+            scheduler.add(this);
+        } else {
+            pduSendingSchedule = executor.scheduleAtFixedRate(this::sendNextPdu, 0, sleepBetweenPdus,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void stopSending() {
+        if (scheduler != null) {
+            scheduler.remove(this);
+        }
+        if (pduSendingSchedule != null) {
+            pduSendingSchedule.cancel(false);
+        }
+    }
+
+    /**
+     * Sends the next PDU: metadata, file data or EOF.
+     *
+     * @return the size in bytes of the PDU sent or 0 if there was nothing to send
+     */
+    int sendNextPdu() {
         if (suspended) {
-            return;
+            return 0;
+        }
+        if (state == TransferState.FAILED) {
+            // abandoned
+            stopSending();
+            return 0;
         }
+        CfdpPacket packet = null;
 
         switch (outTxState) {
         case START:
@@ -216,41 +272,50 @@ public class CfdpOutgoingTransfer extends OngoingCfdpTransfer {
             }
             sendInfoEvent(ETYPE_TRANSFER_META, "Sending metadata: " + toEventMsg(metadata));
             sendPacket(metadata);
+            packet = metadata;
             this.outTxState = OutTxState.SENDING_DATA;
             offset = 0; // first file data packet starts at the start of the data
-            end = Math.min(maxDataSize, request.getFileLength());
             monitor.stateChanged(this);
             break;
         case SENDING_DATA:
             if (resendMetadata) {
                 sendPacket(metadata);
+                packet = metadata;
                 resendMetadata = false;
             } else {
                 if (offset == request.getFileLength()) {
-                    if (toResend != null && !toResend.isEmpty()) {
-                        FileDataPacket fdp = toResend.poll();
-                        sendPacket(fdp);
+                    if (!toResend.isEmpty()) {
+                        packet = getResendPacket();
+                        if (packet != null) {
+                            sendPacket(packet);
+                        }
                     } else if (!eofSent) {
                         sendEof(ConditionCode.NO_ERROR);
+                        packet = eofPacket;
                     }
                 } else {
                     end = Math.min(offset + maxDataSize, request.getFileLength());
                     FileDataPacket nextPacket = getNextFileDataPacket();
-                    sentFileDataPackets.add(nextPacket);
-                    sendPacket(nextPacket);
-                    transferred += (end - offset);
-                    offset = end;
+                    if (nextPacket != null) {
+                        sendPacket(nextPacket);
+                        transferred += (end - offset);
+                        offset = end;
+                        packet = nextPacket;
+                    }
                 }
             }
             monitor.stateChanged(this);
             break;
+        case CANCELING:
+            // the EOF is resent by the eofTimer
+            stopSending();
+            break;
         case COMPLETED:
-            pduSendingSchedule.cancel(true);
+            stopSending();
             cancelInactivityTimer();
             break;
-        default:
-            throw new IllegalStateException("unknown/illegal state");
         }
+        return packet == null ? 0 : packet.getHeader().getLength() + packet.getDataFieldLength();
     }
 
     private void sendEof(ConditionCode code) {
@@ -301,14 +366,12 @@ public class CfdpOutgoingTransfer extends OngoingCfdpTransfer {
         } else if (packet instanceof FinishedPacket) {
             processFinishedPacket((FinishedPacket) packet);
         } else if (packet instanceof NakPacket) {
-            toResend = new LinkedList<>();
+            toResend.clear();
             for (SegmentRequest segment : ((NakPacket) packet).getSegmentRequests()) {
                 if (segment.isMetadata()) {
                     resendMetadata = true;
                 } else {
-                    toResend.addAll(sentFileDataPackets.stream()
-                            .filter(x -> segment.isInRange(x.getOffset()))
-                            .collect(Collectors.toList()));
+                    toResend.add(segment);
                 }
             }
         } else if (packet instanceof KeepAlivePacket) {
@@ -377,7 +440,7 @@ public class CfdpOutgoingTransfer extends OngoingCfdpTransfer {
         log.info("TXID{} suspending transfer", cfdpTransactionId);
 
         eofTimer.cancel();
-        pduSendingSchedule.cancel(true);
+        stopSending();
         cancelInactivityTimer();
 
         suspended = true;
@@ -397,7 +460,7 @@ public class CfdpOutgoingTransfer extends OngoingCfdpTransfer {
         }
         log.info("TXID{} resuming transfer", cfdpTransactionId);
         sendInfoEvent(ETYPE_TRANSFER_RESUMED, "transfer resumed");
-        pduSendingSchedule = executor.scheduleAtFixedRate(this::sendPDU, 0, sleepBetweenPdus, TimeUnit.MILLISECONDS);
+        startSending();
         if (expectingAck()) {
             sendEof();
         }
@@ -409,6 +472,14 @@ public class CfdpOutgoingTransfer extends OngoingCfdpTransfer {
         suspended = false;
     }
 
+    @Override
+    protected void failTransfer(String failureReason) {
+        // the transfer may be abandoned while suspended, without going through sendNextPdu again
+        stopSending();
+        closeDataStream();
+        super.failTransfer(failureReason);
+    }
+
     private boolean expectingAck() {
         return (outTxState == OutTxState.SENDING_DATA
                 || outTxState == OutTxState.CANCELING)
@@ -425,6 +496,8 @@ public class CfdpOutgoingTransfer extends OngoingCfdpTransfer {
             return;
         }
         outTxState = OutTxState.COMPLETED;
+        stopSending();
+        closeDataStream();
 
         long duration = (System.currentTimeMillis() - wallclockStartTime) / 1000;
 
@@ -522,13 +595,13 @@ public class CfdpOutgoingTransfer extends OngoingCfdpTransfer {
         long filesize;
         TLV tlv;
 
+        // the checksum of the data sent so far; this is the checksum of the whole file if no error
+        checksum = this.checksum & 0xFFFFFFFFl;
         if (code == ConditionCode.NO_ERROR) {
-            checksum = request.getChecksum();
             filesize = request.getFileLength();
             tlv = null;
         } else {
             filesize = getTransferredSize();
-            checksum = ChecksumCalculator.calculateChecksum(request.getFileData(), 0l, filesize);
             tlv = TLV.getEntityIdTLV(cfdpTransactionId.getInitiatorEntity(), entityIdLength);
         }
 
@@ -544,9 +617,69 @@ public class CfdpOutgoingTransfer extends OngoingCfdpTransfer {
                 null, directiveHeader);
     }
 
+    // reads the data between offset and end; returns null if the data cannot be read
     private FileDataPacket getNextFileDataPacket() {
-        return new FileDataPacket(Arrays.copyOfRange(request.getFileData(), (int) offset, (int) end),
-                offset, dataHeader);
+        int length = (int) (end - offset);
+        try {
+            if (dataIn == null) {
+                dataIn = request.openFileData(offset, -1);
+            }
+            byte[] data = readData(dataIn, offset, length);
+            checksum += ChecksumCalculator.calculateChecksum(data, offset, length);
+            if (end == request.getFileLength()) {
+                closeDataStream();
+            }
+            return new FileDataPacket(data, offset, dataHeader);
+        } catch (IOException e) {
+            onReadError(e);
+            return null;
+        }
+    }
+
+    // sends the first PDU of the first segment to be resent; only the data already sent is resent
+    private FileDataPacket getResendPacket() {
+        SegmentRequest seg = toResend.poll();
+        long start = seg.getSegmentStart();
+        long segEnd = Math.min(seg.getSegmentEnd(), offset);
+        if (start >= segEnd) {
+            return null;
+        }
+        long pduEnd = Math.min(start + maxDataSize, segEnd);
+        if (pduEnd < segEnd) {
+            toResend.addFirst(new SegmentRequest(pduEnd, segEnd));
+        }
+        int length = (int) (pduEnd - start);
+        try (InputStream in = request.openFileData(start, length)) {
+            return new FileDataPacket(readData(in, start, length), start, dataHeader);
+        } catch (IOException e) {
+            onReadError(e);
+            return null;
+        }
+    }
+
+    private static byte[] readData(InputStream in, long offset, int length) throws IOException {
+        byte[] data = in.readNBytes(length);
+        if (data.length != length) {
+            throw new IOException("Unexpected end of data at offset " + (offset + data.length));
+        }
+        return data;
+    }
+
+    private void onReadError(IOException e) {
+        log.warn("TXID{} cannot read the file data: {}", cfdpTransactionId, e.toString());
+        pushError("Cannot read the file data: " + e.getMessage());
+        handleFault(ConditionCode.FILESTORE_REJECTION);
+    }
+
+    private void closeDataStream() {
+        if (dataIn != null) {
+            try {
+                dataIn.close();
+            } catch (IOException e) {
+                log.warn("TXID{} error closing the file data stream: {}", cfdpTransactionId, e.toString());
+            }
+            dataIn = null;
+        }
     }
 
     private AckPacket getAckPacket(ConditionCode code) {
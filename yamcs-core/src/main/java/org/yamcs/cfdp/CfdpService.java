@@ -80,6 +80,7 @@ import org.yamcs.yarch.Tuple;
 import org.yamcs.yarch.TupleDefinition;
 import org.yamcs.yarch.YarchDatabase;
 import org.yamcs.yarch.YarchDatabaseInstance;
+import org.yamcs.yarch.rocksdb.protobuf.Tablespace.ObjectProperties;
 import org.yamcs.yarch.streamsql.StreamSqlException;
 import org.yamcs.yarch.streamsql.StreamSqlResult;
 
@@ -128,6 +129,8 @@ public class CfdpService extends AbstractFileTransferService implements StreamSu
     Map<CfdpTransactionId, List<String>> directoryListingRequests = new ConcurrentHashMap<>();
 
     ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1);
+    // paces the outgoing PDUs if an uplink rate is configured
+    CfdpUplinkScheduler uplinkScheduler;
     Map<ConditionCode, FaultHandlingAction> receiverFaultHandlers;
     Map<ConditionCode, FaultHandlingAction> senderFaultHandlers;
     Stream cfdpIn;
@@ -237,11 +240,16 @@ public class CfdpService extends AbstractFileTransferService implements StreamSu
         spec.addOption("finAckTimeout", OptionType.INTEGER).withDefault(5000);
         spec.addOption("finAckLimit", OptionType.INTEGER).withDefault(5);
         spec.addOption("sleepBetweenPdus", OptionType.INTEGER).withDefault(500);
+        spec.addOption("uplinkRate", OptionType.INTEGER).withDefault(-1);
+        spec.addOption("uplinkWindow", OptionType.INTEGER).withDefault(8);
         spec.addOption("localEntities", OptionType.LIST).withElementType(OptionType.MAP).withSpec(entitySpec);
         spec.addOption("remoteEntities", OptionType.LIST).withElementType(OptionType.MAP).withSpec(entitySpec);
         spec.addOption("nakLimit", OptionType.INTEGER).withDefault(-1);
         spec.addOption("nakTimeout", OptionType.INTEGER).withDefault(5000);
         spec.addOption("immediateNak", OptionType.BOOLEAN).withDefault(true);
+        spec.addOption("maxFileSize", OptionType.INTEGER).withDefault(100 * 1024 * 1024);
+        spec.addOption("diskReassemblyThreshold", OptionType.INTEGER).withDefault(-1);
+        spec.addOption("reassemblyDirectory", OptionType.STRING);
         spec.addOption("archiveRetrievalLimit", OptionType.INTEGER).withDefault(100);
         spec.addOption("receiverFaultHandlers", OptionType.MAP).withSpec(Spec.ANY);
         spec.addOption("senderFaultHandlers", OptionType.MAP).withSpec(Spec.ANY);
@@ -297,6 +305,15 @@ public class CfdpService extends AbstractFileTransferService implements StreamSu
         pendingAfterCompletion = config.getInt("pendingAfterCompletion", 600000);
         queueConcurrentUploads = config.getBoolean("queueConcurrentUploads");
         allowConcurrentFileOverwrites = config.getBoolean("allowConcurrentFileOverwrites");
+        long uplinkRate = config.getLong("uplinkRate");
+        if (uplinkRate > 0) {
+            int uplinkWindow = config.getInt("uplinkWindow");
+            if (uplinkWindow < 1) {
+                throw new ConfigurationException("uplinkWindow has to be at least 1");
+            }
+            uplinkScheduler = new CfdpUplinkScheduler(executor, uplinkRate,
+                    (long) uplinkWindow * config.getInt("maxPduSize"));
+        }
         directoryTerminators = config.getList("directoryTerminators");
         canChangePduSize = config.getBoolean("canChangePduSize");
         pduSizePredefinedValues = config.getList("pduSizePredefinedValues");
@@ -627,6 +644,7 @@ public class CfdpService extends AbstractFileTransferService implements StreamSu
         CfdpOutgoingTransfer transfer = new CfdpOutgoingTransfer(yamcsInstance, initiatorEntityId, seqNum, creationTime,
                 executor, request, cfdpOut, config, bucket, customPduSize, customPduDelay, eventProducer, this,
                 senderFaultHandlers);
+        transfer.setScheduler(uplinkScheduler);
 
         dbStream.emitTuple(CompletedTransfer.toInitialTuple(transfer));
 
@@ -943,11 +961,15 @@ public class CfdpService extends AbstractFileTransferService implements StreamSu
     @Override
     public synchronized CfdpFileTransfer startUpload(String source, Bucket bucket, String objectName,
             String destination, final String destinationPath, TransferOptions options) throws IOException {
-        byte[] objData;
-        objData = bucket.getObject(objectName);
-        if (objData == null) {
+        // the data is read from the bucket while sending
+        ObjectProperties objProps = bucket.findObject(objectName);
+        if (objProps == null) {
             throw new InvalidRequestException("No object named '" + objectName + "' in bucket " + bucket.getName());
         }
+        if (objProps.getSize() > Integer.MAX_VALUE) {
+            throw new InvalidRequestException("Object '" + objectName + "' is too large to be uploaded: "
+                    + objProps.getSize() + " bytes");
+        }
         String absoluteDestinationPath = getAbsoluteDestinationPath(destinationPath, objectName);
         if (!allowConcurrentFileOverwrites) {
             if (pendingTransfers.values().stream()
@@ -982,7 +1004,8 @@ public class CfdpService extends AbstractFileTransferService implements StreamSu
 
         FilePutRequest request = new FilePutRequest(sourceId, destinationId, objectName, absoluteDestinationPath,
                 booleanOptions.get(OVERWRITE_OPTION), booleanOptions.get(RELIABLE_OPTION),
-                booleanOptions.get(CLOSURE_OPTION), booleanOptions.get(CREATE_PATH_OPTION), bucket, objData);
+                booleanOptions.get(CLOSURE_OPTION), booleanOptions.get(CREATE_PATH_OPTION), bucket,
+                (int) objProps.getSize());
         long creationTime = YamcsServer.getTimeService(yamcsInstance).getMissionTime();
 
         Double pduSize = optionValues.doubleOptions.get(PDU_SIZE_OPTION);
@@ -1323,7 +1346,8 @@ public class CfdpService extends AbstractFileTransferService implements StreamSu
                     .setName(PDU_DELAY_OPTION)
                     .setType(FileTransferOption.Type.DOUBLE)
                     .setTitle("PDU delay")
-                    .setDefault(Integer.toString(config.getInt("sleepBetweenPdus")))
+                    // with the uplink scheduler, the delay is an additional minimum spacing between the PDUs
+                    .setDefault(uplinkScheduler != null ? "0" : Integer.toString(config.getInt("sleepBetweenPdus")))
                     .addAllValues(pduDelayPredefinedValues.stream()
                             .map(value -> FileTransferOption.Value.newBuilder().setValue(value.toString()).build())
                             .collect(Collectors.toList()))
@@ -0,0 +1,149 @@
+package org.yamcs.cfdp;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.base.Ticker;
+
+/**
+ * Paces the PDUs of the outgoing transfers according to the bandwidth allocated to the CFDP uplink.
+ * <p>
+ * A token bucket is filled at the configured rate (bytes/second) up to the window size (the maximum number of bytes
+ * which can be sent in a burst). At each tick, the transfers are asked in turn to send their next PDU as long as tokens
+ * are available.
+ * <p>
+ * The turn passes in round-robin between the destination entities and then between the transfers of the same
+ * destination, such that a destination with many transfers does not delay the others.
+ * <p>
+ * A transfer having a custom PDU delay is skipped until the delay has passed since its previous PDU, so the delay is a
+ * minimum spacing between its PDUs (rounded up to the tick period) on top of the shared rate.
+ * <p>
+ * All the methods have to be called from the executor of the CFDP service (which is also the executor of the
+ * transfers).
+ */
+public class CfdpUplinkScheduler {
+    static final long TICK_MILLIS = 10;
+
+    final ScheduledThreadPoolExecutor executor;
+    // bytes per second
+    final long rate;
+    final long windowSize;
+    // source of the time used to refill the token bucket
+    final Ticker ticker;
+
+    private double tokens;
+    private long lastRefill;
+
+    // the transfers of each destination, in the order in which they are served
+    private final Map<Long, ArrayDeque<CfdpOutgoingTransfer>> transfers = new HashMap<>();
+    private final ArrayDeque<Long> destinations = new ArrayDeque<>();
+    private int numTransfers;
+    // for the transfers having a custom PDU delay, the earliest time (ticker nanoseconds) of their next PDU
+    private final Map<CfdpOutgoingTransfer, Long> nextPduTime = new HashMap<>();
+    private ScheduledFuture<?> tickFuture;
+
+    /**
+     * @param rate
+     *            - the number of bytes per second allocated to the CFDP PDUs
+     * @param windowSize
+     *            - the maximum number of bytes sent in one burst
+     */
+    public CfdpUplinkScheduler(ScheduledThreadPoolExecutor executor, long rate, long windowSize) {
+        this(executor, rate, windowSize, Ticker.systemTicker());
+    }
+
+    CfdpUplinkScheduler(ScheduledThreadPoolExecutor executor, long rate, long windowSize, Ticker ticker) {
+        if (rate <= 0 || windowSize <= 0) {
+            throw new IllegalArgumentException("The rate and the window size have to be positive");
+        }
+        this.executor = executor;
+        this.rate = rate;
+        this.windowSize = windowSize;
+        this.ticker = ticker;
+    }
+
+    void add(CfdpOutgoingTransfer trsf) {
+        long dest = trsf.getDestinationId();
+        ArrayDeque<CfdpOutgoingTransfer> q = transfers.get(dest);
+        if (q == null) {
+            q = new ArrayDeque<>();
+            transfers.put(dest, q);
+            destinations.add(dest);
+        } else if (q.contains(trsf)) {
+            return;
+        }
+        q.add(trsf);
+        numTransfers++;
+        long now = ticker.read();
+        if (trsf.getCustomPduDelay() > 0) {
+            nextPduTime.put(trsf, now);
+        }
+
+        if (tickFuture == null) {
+            tokens = windowSize;
+            lastRefill = now;
+            tickFuture = executor.scheduleAtFixedRate(this::tick, 0, TICK_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    void remove(CfdpOutgoingTransfer trsf) {
+        long dest = trsf.getDestinationId();
+        ArrayDeque<CfdpOutgoingTransfer> q = transfers.get(dest);
+        if (q == null || !q.remove(trsf)) {
+            return;
+        }
+        numTransfers--;
+        nextPduTime.remove(trsf);
+        if (q.isEmpty()) {
+            transfers.remove(dest);
+            destinations.remove(dest);
+        }
+        if (numTransfers == 0) {
+            tickFuture.cancel(false);
+            tickFuture = null;
+        }
+    }
+
+    int getNumTransfers() {
+        return numTransfers;
+    }
+
+    void tick() {
+        long now = ticker.read();
+        tokens = Math.min(windowSize, tokens + rate * (now - lastRefill) / 1e9);
+        lastRefill = now;
+
+        // number of turns without any PDU sent; after this many, all the transfers have been asked
+        int maxIdle = numTransfers * destinations.size();
+        int idle = 0;
+        while (tokens > 0 && idle < maxIdle && numTransfers > 0) {
+            Long dest = destinations.poll();
+            ArrayDeque<CfdpOutgoingTransfer> q = transfers.get(dest);
+            CfdpOutgoingTransfer trsf = q.poll();
+            // put them back at the end before sending because the transfer may remove itself
+            q.add(trsf);
+            destinations.add(dest);
+
+            Long next = nextPduTime.get(trsf);
+            if (next != null && now - next < 0) {
+                idle++;
+                continue;
+            }
+            int n = trsf.sendNextPdu();
+            if (n > 0) {
+                tokens -= n;
+                idle = 0;
+                if (next != null) {
+                    // replace only if the transfer has not removed itself while sending
+                    nextPduTime.replace(trsf, now + TimeUnit.MILLISECONDS.toNanos(trsf.getCustomPduDelay()));
+                }
+            } else {
+                idle++;
+            }
+        }
+    }
+}
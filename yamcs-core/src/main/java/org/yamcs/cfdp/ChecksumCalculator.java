@@ -19,11 +19,20 @@ public class ChecksumCalculator {
      * 
      */
     static long calculateChecksum(byte[] data, long fileOffset, long length) {
+        return calculateChecksum(data, 0, fileOffset, (int) length);
+    }
+
+    /**
+     * Same as {@link #calculateChecksum(byte[], long, long)} for the segment starting at dataOffset in the data
+     * buffer.
+     */
+    static long calculateChecksum(byte[] data, int dataOffset, long fileOffset, int length) {
         int k = (int) (fileOffset & 3);
         long checksum = 0;
-        int i = 0;
+        int i = dataOffset;
+        int end = dataOffset + length;
         long x = 0;
-        while (i < length) {
+        while (i < end) {
             x = (x << 8) + (data[i] & 0xFF);
             i++;
             k++;
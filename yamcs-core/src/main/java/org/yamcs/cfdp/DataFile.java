@@ -1,19 +1,41 @@
 package org.yamcs.cfdp;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
 
 import org.yamcs.cfdp.pdu.FileDataPacket;
 import org.yamcs.cfdp.pdu.SegmentRequest;
 
+/**
+ * Reassembles a file from the received file data PDUs.
+ * <p>
+ * The received parts are kept as a sorted list of disjoint segments and the checksum is computed incrementally from
+ * the data not received before.
+ * <p>
+ * The data is kept in memory unless {@link #moveToDisk(Path)} is called, after which each PDU is written at its offset
+ * in a temporary file. The file is deleted by {@link #release()} unless it has been taken over with
+ * {@link #detachFile()}.
+ */
 public class DataFile {
     List<Segment> dataFileSegments = new ArrayList<Segment>();
     // -1 means size unknown or unbounded
-    private int size = -1;
+    private long size = -1;
+    // the data when kept in memory
     byte[] data;
-    static int MAX_SIZE = Integer.MAX_VALUE;
+    // the temporary file and its channel when kept on disk
+    private Path file;
+    private FileChannel channel;
+    private long checksum;
+    // maximum size of the files kept in memory
+    static final int MAX_SIZE = Integer.MAX_VALUE;
 
     public DataFile() {
         this(-1);
@@ -21,10 +43,6 @@ public class DataFile {
 
     public DataFile(long size) {
         this.size = checkMaxSize(size);
-        if (size > MAX_SIZE) {
-            throw new UnsupportedOperationException(
-                    "file transfers larger than " + MAX_SIZE + " not supported");
-        }
         if (size > 0) {
             this.data = new byte[(int) size];
         } else {
@@ -32,93 +50,121 @@ public class DataFile {
         }
     }
 
+    /**
+     * Moves the data received so far to a new temporary file created in the given directory; the subsequent segments
+     * will be written in the file. The size of the file is then not limited to {@link #MAX_SIZE}.
+     * <p>
+     * Does nothing if the data is already on disk.
+     */
+    public synchronized void moveToDisk(Path dir) throws IOException {
+        if (file != null) {
+            return;
+        }
+        Files.createDirectories(dir);
+        Path f = Files.createTempFile(dir, "cfdp-", ".part");
+        FileChannel ch = FileChannel.open(f, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            for (Segment seg : dataFileSegments) {
+                write(ch, ByteBuffer.wrap(data, (int) seg.start, (int) seg.length()), seg.start);
+            }
+        } catch (IOException e) {
+            ch.close();
+            Files.deleteIfExists(f);
+            throw e;
+        }
+        file = f;
+        channel = ch;
+        data = null;
+    }
+
+    /**
+     * Adds the data of the packet.
+     * <p>
+     * Only the data not received before is stored; the data already received is not overwritten.
+     *
+     * @throws UncheckedIOException
+     *             if the data cannot be written to the temporary file
+     */
     public synchronized void addSegment(FileDataPacket fdp) {
-        if (size != -1 && fdp.getEndOffset() > size) {
+        long start = fdp.getOffset();
+        long end = fdp.getEndOffset();
+        if (size != -1 && end > size) {
             throw new IllegalArgumentException("Segment falls beyond the end of the file");
         }
+        if (file == null) {
+            ensureCapacity(end);
+        }
 
-        Segment newseg = new Segment(fdp.getOffset(), fdp.getEndOffset());
+        // the first segment ending at or after the start of the new one
+        int low = 0;
+        int high = dataFileSegments.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (dataFileSegments.get(mid).end < start) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        int idx = low;
 
-        if (dataFileSegments.size() == 0) {
-            dataFileSegments.add(newseg);
-            addData(fdp);
-            return;
+        // store the gaps between the existing segments overlapping or touching the new one and merge them
+        long pos = start;
+        long mergedStart = start;
+        long mergedEnd = end;
+        int k = idx;
+        while (k < dataFileSegments.size() && dataFileSegments.get(k).start <= end) {
+            Segment seg = dataFileSegments.get(k);
+            if (seg.start > pos) {
+                addData(fdp, pos, seg.start);
+            }
+            pos = Math.max(pos, seg.end);
+            mergedStart = Math.min(mergedStart, seg.start);
+            mergedEnd = Math.max(mergedEnd, seg.end);
+            k++;
         }
-        var lastSegment = dataFileSegments.get(dataFileSegments.size() - 1);
-        if (lastSegment.end == newseg.start) {
-            // happy case the new segment comes right after the last segment
-            lastSegment.end = newseg.end;
-            addData(fdp);
-            return;
+        if (pos < end) {
+            addData(fdp, pos, end);
         }
 
-        int idx = Collections.binarySearch(dataFileSegments, newseg,
-                (s1, s2) -> Long.compare(s1.start, s2.start));
+        if (k == idx) {
+            dataFileSegments.add(idx, new Segment(start, end));
+        } else {
+            Segment seg = dataFileSegments.get(idx);
+            seg.start = mergedStart;
+            seg.end = mergedEnd;
+            dataFileSegments.subList(idx + 1, k).clear();
+        }
+    }
 
-        if (idx >= 0) {// newseg offset coincides with an existing segment offset
-            Segment seg1 = dataFileSegments.get(idx);
-            assert (seg1.start == newseg.start);
-            if (seg1.end < newseg.end) {
-                // newseg is longer than seg1 and starts at the same offset
-                // replace seg1 with newseg
-                seg1.end = newseg.end;
-            }
-        } else { // the segment does not start at the same offset with an existing segment
-                 // but it might still overlap with one
-            idx = -(idx + 1);
-            if (idx == dataFileSegments.size()) {
-
-                Segment prevseg = dataFileSegments.get(idx - 1);
-                if (prevseg.end > newseg.start) {
-                    // overlaps with the last segment
-                    // extend the last segment
-                    if (prevseg.end < newseg.end) {
-                        prevseg.end = newseg.end;
-                    }
-                } else {
-                    dataFileSegments.add(newseg);
-                }
-            } else {
-                if (idx == 0) {
-                    Segment nextseg = dataFileSegments.get(0);
-                    if (newseg.end >= nextseg.start) {
-                        nextseg.start = newseg.start;
-                    } else {
-                        dataFileSegments.add(0, newseg);
-                    }
-                } else {
-                    Segment prevseg = dataFileSegments.get(idx - 1);
-                    Segment nextseg = dataFileSegments.get(idx);
-
-                    if (prevseg.end >= newseg.start && newseg.end >= nextseg.start) {
-                        // overlaps with both prev and next
-                        prevseg.end = nextseg.end;
-                        dataFileSegments.remove(idx);
-                    } else if (prevseg.end >= newseg.start) {
-                        // overlaps only with prev
-                        if (newseg.end >= prevseg.end) {
-                            prevseg.end = newseg.end;
-                        }
-                    } else if (newseg.end >= nextseg.start) {
-                        // overlaps only with next
-                        nextseg.start = newseg.start;
-                    } else { // does not overlap
-                        dataFileSegments.add(idx, newseg);
-                    }
-                }
-            }
+    private void ensureCapacity(long endOffset) {
+        if (data.length < endOffset) {
+            checkMaxSize(endOffset);
+            var length = (int) Long.min(endOffset + 1024 * 1024, MAX_SIZE);
+            data = Arrays.copyOf(data, length);
         }
+    }
 
-        addData(fdp);
+    // stores the part [from, to) of the packet data and updates the checksum
+    private void addData(FileDataPacket fdp, long from, long to) {
+        int dataOffset = (int) (from - fdp.getOffset());
+        int length = (int) (to - from);
+        if (file == null) {
+            System.arraycopy(fdp.getData(), dataOffset, data, (int) from, length);
+        } else {
+            try {
+                write(channel, ByteBuffer.wrap(fdp.getData(), dataOffset, length), from);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot write to " + file, e);
+            }
+        }
+        checksum += ChecksumCalculator.calculateChecksum(fdp.getData(), dataOffset, from, length);
     }
 
-    private void addData(FileDataPacket fdp) {
-        if (data.length < fdp.getEndOffset()) {
-            checkMaxSize(fdp.getEndOffset());
-            var length = (int) Long.min(fdp.getEndOffset() + 1024 * 1024, MAX_SIZE);
-            data = Arrays.copyOf(data, length);
+    private static void write(FileChannel ch, ByteBuffer buf, long position) throws IOException {
+        while (buf.hasRemaining()) {
+            position += ch.write(buf, position);
         }
-        System.arraycopy(fdp.getData(), 0, data, (int) fdp.getOffset(), fdp.getLength());
     }
 
     public synchronized List<SegmentRequest> getMissingChunks() {
@@ -160,19 +206,73 @@ public class DataFile {
         return this.dataFileSegments.stream().mapToLong(Segment::length).sum();
     }
 
+    /**
+     * Returns the file data; if the data is on disk, it is read in memory.
+     */
     public synchronized byte[] getData() {
         if (size == -1) {
             throw new IllegalStateException("Size unknown");
         }
+        if (file != null) {
+            checkMaxSize(size);
+            ByteBuffer buf = ByteBuffer.allocate((int) size);
+            try {
+                while (buf.hasRemaining()) {
+                    if (channel.read(buf, buf.position()) < 0) {
+                        break;
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot read " + file, e);
+            }
+            return buf.array();
+        }
+        if (data == null) {
+            throw new IllegalStateException("The data file has been released");
+        }
         if (data.length > size) {
-            return Arrays.copyOf(data, size);
+            return Arrays.copyOf(data, (int) size);
         } else {
             return data;
         }
     }
 
     /**
-     * 
+     *
+     * @return the temporary file containing the data or null if the data is kept in memory
+     */
+    public synchronized Path getFile() {
+        return file;
+    }
+
+    /**
+     * Closes the temporary file and passes its ownership to the caller: it will not be deleted by
+     * {@link #release()}.
+     *
+     * @return the temporary file or null if the data is kept in memory
+     */
+    public synchronized Path detachFile() throws IOException {
+        Path f = file;
+        if (f != null) {
+            channel.close();
+            channel = null;
+            file = null;
+        }
+        return f;
+    }
+
+    /**
+     * Closes and deletes the temporary file, if any.
+     */
+    public synchronized void release() throws IOException {
+        Path f = detachFile();
+        if (f != null) {
+            Files.deleteIfExists(f);
+        }
+    }
+
+    /**
+     *
      * @return true if all the data has been received. If size is not known return false.
      */
     public synchronized boolean isComplete() {
@@ -186,11 +286,11 @@ public class DataFile {
         return seg0.start == 0 && seg0.end == size;
     }
 
+    /**
+     *
+     * @return the modular checksum of the data received so far
+     */
     public synchronized long getChecksum() {
-        long checksum = 0;
-        for (Segment segment : this.dataFileSegments) {
-            checksum += ChecksumCalculator.calculateChecksum(data, segment.start, segment.length());
-        }
         return checksum & 0xFFFFFFFFl;
     }
 
@@ -213,7 +313,7 @@ public class DataFile {
         if (size < 0 || size < eof) {
             throw new IllegalArgumentException("Invalid size");
         }
-        this.size = checkMaxSize(size);
+        this.size = file == null ? checkMaxSize(size) : size;
     }
 
     public synchronized long getSize() {
@@ -223,7 +323,7 @@ public class DataFile {
     public static int checkMaxSize(long size) {
         if (size > MAX_SIZE) {
             throw new IllegalArgumentException(
-                    "file transfers larger than " + Integer.MAX_VALUE + " not supported");
+                    "file transfers larger than " + MAX_SIZE + " not supported in memory");
         }
         return (int) size;
     }
@@ -237,8 +337,8 @@ public class DataFile {
             this.end = end;
         }
 
-        public int length() {
-            return (int) (end - start);
+        public long length() {
+            return end - start;
         }
     }
 
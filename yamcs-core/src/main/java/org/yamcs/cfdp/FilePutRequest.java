@@ -1,5 +1,9 @@
 package org.yamcs.cfdp;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
 import org.yamcs.cfdp.pdu.CfdpPacket;
 import org.yamcs.yarch.Bucket;
 
@@ -7,12 +11,15 @@ import org.yamcs.yarch.Bucket;
  * A Put.request is a primitive that requests data delivery from a source to a destination
  */
 public class FilePutRequest extends PutRequest {
+    static final int CHECKSUM_CHUNK_SIZE = 64 * 1024;
     private long sourceId;
+    // null if the data is read from the bucket when needed
     private byte[] fileData;
+    private final int fileLength;
     private Bucket bucket;
     private boolean overwrite;
     private boolean createpath;
-    private long checksum;
+    private long checksum = -1;
 
     public FilePutRequest(long sourceId, long destinationCfdpEntityId, String sourceFileName,
             String destinationFileName, boolean overwrite, boolean acknowledged, boolean closureRequested,
@@ -26,26 +33,103 @@ public class FilePutRequest extends PutRequest {
         this.createpath = createpath;
         this.bucket = b;
         this.fileData = data;
+        this.fileLength = data.length;
         this.checksum = ChecksumCalculator.calculateChecksum(data);
     }
 
+    /**
+     * Creates a request for which the data is read from the bucket object only when sent.
+     *
+     * @param fileLength
+     *            - the size of the object
+     */
+    public FilePutRequest(long sourceId, long destinationCfdpEntityId, String sourceFileName,
+            String destinationFileName, boolean overwrite, boolean acknowledged, boolean closureRequested,
+            boolean createpath, Bucket b, int fileLength) {
+        super(destinationCfdpEntityId, sourceFileName, destinationFileName, null, null,
+                null,
+                acknowledged ? CfdpPacket.TransmissionMode.ACKNOWLEDGED : CfdpPacket.TransmissionMode.UNACKNOWLEDGED,
+                closureRequested, null, null);
+        this.sourceId = sourceId;
+        this.overwrite = overwrite;
+        this.createpath = createpath;
+        this.bucket = b;
+        this.fileLength = fileLength;
+    }
+
     public long getSourceId() {
         return this.sourceId;
     }
 
     @Override
     public int getFileLength() {
-        return fileData.length;
+        return fileLength;
     }
 
+    /**
+     * Returns the checksum of the file data.
+     * <p>
+     * If the data has not been passed in the constructor, the checksum is computed by reading the object from the
+     * bucket in chunks.
+     *
+     * @throws UncheckedIOException
+     *             if the object cannot be read
+     */
     @Override
     public long getChecksum() {
+        if (checksum == -1) {
+            checksum = fileData != null ? ChecksumCalculator.calculateChecksum(fileData) : computeChecksum();
+        }
         return this.checksum;
     }
 
+    private long computeChecksum() {
+        byte[] buf = new byte[CHECKSUM_CHUNK_SIZE];
+        long sum = 0;
+        long offset = 0;
+        try (InputStream in = openFileData(0, -1)) {
+            int n;
+            while ((n = in.readNBytes(buf, 0, buf.length)) > 0) {
+                sum += ChecksumCalculator.calculateChecksum(buf, 0, offset, n);
+                offset += n;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return sum & 0xFFFFFFFFL;
+    }
+
+    /**
+     * Returns the file data, reading it from the bucket if it has not been passed in the constructor.
+     * <p>
+     * In the latter case the whole object is loaded in memory; {@link #openFileData(long, long)} should be used
+     * instead where possible.
+     *
+     * @throws UncheckedIOException
+     *             if the object cannot be read
+     */
     @Override
     public byte[] getFileData() {
-        return fileData;
+        if (fileData != null) {
+            return fileData;
+        }
+        try (InputStream in = openFileData(0, -1)) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public InputStream openFileData(long offset, long length) throws IOException {
+        if (fileData != null) {
+            return super.openFileData(offset, length);
+        }
+        InputStream in = bucket.openObject(getSourceFileName(), offset, length);
+        if (in == null) {
+            throw new IOException("Object " + getSourceFileName() + " not found in bucket " + bucket.getName());
+        }
+        return in;
     }
 
     public Bucket getBucket() {
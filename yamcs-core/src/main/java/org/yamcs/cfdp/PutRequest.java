@@ -1,5 +1,8 @@
 package org.yamcs.cfdp;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -186,6 +189,24 @@ public class PutRequest extends CfdpRequest {
         return new byte[0];
     }
 
+    /**
+     * Opens a stream reading the file data starting at the given offset.
+     * <p>
+     * The outgoing transfers use this method to read the data when it is needed instead of keeping the whole file in
+     * memory.
+     *
+     * @param offset
+     *            - the position of the first byte to be read
+     * @param length
+     *            - the maximum number of bytes to be read or -1 to read until the end of the file
+     */
+    public InputStream openFileData(long offset, long length) throws IOException {
+        byte[] data = getFileData();
+        int start = (int) Math.min(offset, data.length);
+        int end = length < 0 ? data.length : (int) Math.min(data.length, start + length);
+        return new ByteArrayInputStream(data, start, end - start);
+    }
+
     public long getChecksum() {
         return 0;
     }
@@ -3,6 +3,7 @@ package org.yamcs.filetransfer;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Path;
 import java.util.Map;
 
 import org.yamcs.YamcsServer;
@@ -59,7 +60,12 @@ public class FileSaveHandler {
         }
 
         try {
-            bucket.putObject(this.objectName, null, metadata, file.getData());
+            Path f = file.detachFile();
+            if (f != null) {
+                bucket.moveFileToObject(this.objectName, null, metadata, f);
+            } else {
+                bucket.putObject(this.objectName, null, metadata, file.getData());
+            }
         } catch (IOException e) {
             throw new UncheckedIOException("Cannot save incoming file in bucket: " + objectName
                     + (bucket != null ? " -> " + bucket.getName() : ""), e);
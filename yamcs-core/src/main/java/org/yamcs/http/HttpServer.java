@@ -64,6 +64,7 @@ import org.yamcs.http.auth.TokenStore;
 import org.yamcs.protobuf.CancelOptions;
 import org.yamcs.protobuf.Reply;
 import org.yamcs.utils.ExceptionUtil;
+import org.yamcs.utils.NettyTransport;
 
 import com.codahale.metrics.MetricRegistry;
 import com.google.common.util.concurrent.FutureCallback;
@@ -81,8 +82,6 @@ import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.group.ChannelGroup;
 import io.netty.channel.group.DefaultChannelGroup;
-import io.netty.channel.nio.NioEventLoopGroup;
-import io.netty.channel.socket.nio.NioServerSocketChannel;
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.cors.CorsConfig;
@@ -127,6 +126,8 @@ public class HttpServer extends AbstractYamcsService {
     private String contextPath;
     private boolean reverseLookup;
     private int nThreads;
+    private NettyTransport transport;
+    private WebSocketPayloadCache webSocketPayloadCache;
 
     // Cross-origin Resource Sharing (CORS) enables use of the HTTP API in non-official client web applications
     private CorsConfig corsConfig;
@@ -170,6 +171,7 @@ public class HttpServer extends AbstractYamcsService {
         // Value in seconds. Both nginx and apache have a default timeout of 60 seconds before
         // they will close an idle WebSocket connection, therefore we choose a value well below that.
         websocketSpec.addOption("pingWhenIdleFor", OptionType.INTEGER).withDefault(40);
+        websocketSpec.addOption("payloadCacheSize", OptionType.INTEGER).withDefault(1000);
 
         Spec bindingSpec = new Spec();
         bindingSpec.addOption("address", OptionType.STRING);
@@ -196,6 +198,7 @@ public class HttpServer extends AbstractYamcsService {
                 .withElementType(OptionType.MAP)
                 .withSpec(bindingSpec);
         spec.addOption("nThreads", OptionType.INTEGER).withDefault(0);
+        spec.addOption("transport", OptionType.STRING).withChoices("nio", "epoll", "auto").withDefault("nio");
         spec.addOption("reverseLookup", OptionType.BOOLEAN).withDefault(false);
 
         // When using multiple bindings, best to avoid confusion and disable the top-level properties
@@ -276,6 +279,9 @@ public class HttpServer extends AbstractYamcsService {
             corsConfig = corsb.build();
         }
         nThreads = config.getInt("nThreads");
+        transport = NettyTransport.fromConfig(config.getString("transport"));
+        webSocketPayloadCache = new WebSocketPayloadCache(this,
+                config.getConfig("webSocket").getInt("payloadCacheSize"));
 
         addApi(new ActivitiesApi());
         addApi(new AlarmsApi(auditLog));
@@ -388,11 +394,11 @@ public class HttpServer extends AbstractYamcsService {
                 tokenStore, auditLog));
         serviceManager.startAsync().awaitHealthy(10, TimeUnit.SECONDS);
 
-        bossGroup = new NioEventLoopGroup(1);
+        bossGroup = transport.newEventLoopGroup(1, null);
 
         // Note that by default (i.e. with nThreads = 0), Netty will limit the number
         // of worker threads to 2*number of CPU cores
-        workerGroup = new NioEventLoopGroup(nThreads,
+        workerGroup = transport.newEventLoopGroup(nThreads,
                 new ThreadPerTaskExecutor(new DefaultThreadFactory("YamcsHttpServer")));
 
         // Measure global traffic, we also add a channel-specific measurer in channel-init.
@@ -414,7 +420,7 @@ public class HttpServer extends AbstractYamcsService {
 
         ServerBootstrap bootstrap = new ServerBootstrap();
         bootstrap.group(bossGroup, workerGroup)
-                .channel(NioServerSocketChannel.class)
+                .channel(transport.serverSocketChannelClass())
                 .handler(new LoggingHandler(HttpServer.class, LogLevel.DEBUG))
                 .childOption(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
                 .childHandler(new HttpServerChannelInitializer(this, sslContext, globalTrafficHandler));
@@ -479,6 +485,10 @@ public class HttpServer extends AbstractYamcsService {
         return jsonPrinter;
     }
 
+    public WebSocketPayloadCache getWebSocketPayloadCache() {
+        return webSocketPayloadCache;
+    }
+
     public boolean getReverseLookup() {
         return reverseLookup;
     }
@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.regex.Matcher;
@@ -21,12 +22,24 @@ import com.google.protobuf.util.JsonFormat;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufInputStream;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.DefaultFileRegion;
 import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.HttpChunkedInput;
 import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
 import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpResponse;
 import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.codec.http.LastHttpContent;
 import io.netty.handler.codec.http.QueryStringDecoder;
+import io.netty.handler.ssl.SslHandler;
+import io.netty.handler.stream.ChunkedNioFile;
+import io.netty.handler.stream.ChunkedStream;
+import io.netty.handler.stream.ChunkedWriteHandler;
 
 public class RouteContext extends Context {
 
@@ -213,6 +226,73 @@ public class RouteContext extends Context {
         }
     }
 
+    /**
+     * Sends the response of a call returning an {@code HttpBody} by transferring a region of the file instead of
+     * passing the body to the call observer, such that the data does not have to be held in memory.
+     * <p>
+     * If TLS is not used, the data is transferred from the file to the socket without copying it (zero-copy); otherwise
+     * it is read in chunks.
+     * <p>
+     * The file channel is closed when the transfer is finished. The call observer has to be completed without message.
+     *
+     * @param response
+     *            - the response with the status and the headers; the content length is set by this method.
+     */
+    public void sendFile(HttpResponse response, FileChannel fileChannel, long offset, long length)
+            throws IOException {
+        if (nettyContext.pipeline().get(SslHandler.class) == null) {
+            sendContent(response, new DefaultFileRegion(fileChannel, offset, length), length);
+        } else {
+            sendContent(response, new HttpChunkedInput(new ChunkedNioFile(fileChannel, offset, length, 8192)),
+                    length);
+        }
+    }
+
+    /**
+     * Same as {@link #sendFile(HttpResponse, FileChannel, long, long)} but reading the data from the input stream.
+     * <p>
+     * The stream is read in chunks as the channel becomes writable and it is closed when the transfer is finished.
+     */
+    public void sendStream(HttpResponse response, InputStream in, long length) {
+        sendContent(response, new HttpChunkedInput(new ChunkedStream(in, 8192)), length);
+    }
+
+    private void sendContent(HttpResponse response, Object content, long length) {
+        HttpUtil.setContentLength(response, length);
+        // prevents the HttpContentCompressor from changing the response into a chunked one
+        response.headers().set(HttpHeaderNames.CONTENT_ENCODING, HttpHeaderValues.IDENTITY);
+        boolean keepAlive = HttpUtil.isKeepAlive(nettyRequest);
+        response.headers().set(HttpHeaderNames.CONNECTION,
+                keepAlive ? HttpHeaderValues.KEEP_ALIVE : HttpHeaderValues.CLOSE);
+
+        reportStatusCode(response.status().code());
+        addTransferredSize(length);
+
+        Channel ch = nettyContext.channel();
+        ch.write(response);
+        ChannelFuture lastContentFuture;
+        if (content instanceof DefaultFileRegion) {
+            ch.write(content);
+            lastContentFuture = ch.writeAndFlush(LastHttpContent.EMPTY_LAST_CONTENT);
+        } else {
+            // removed by the HttpRequestHandler at the next request
+            if (nettyContext.pipeline().get(ChunkedWriteHandler.class) == null) {
+                nettyContext.pipeline().addLast(new ChunkedWriteHandler());
+            }
+            lastContentFuture = ch.writeAndFlush(content);
+        }
+        lastContentFuture.addListener(l -> {
+            if (l.isSuccess()) {
+                requestFuture.complete(null);
+            } else {
+                requestFuture.completeExceptionally(l.cause());
+            }
+        });
+        if (!keepAlive) {
+            lastContentFuture.addListener(ChannelFutureListener.CLOSE);
+        }
+    }
+
     public MediaType deriveTargetContentType() {
         return deriveTargetContentType(nettyRequest);
     }
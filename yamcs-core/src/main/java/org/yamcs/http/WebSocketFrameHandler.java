@@ -51,6 +51,7 @@ public class WebSocketFrameHandler extends SimpleChannelInboundHandler<WebSocket
 
     private List<TopicContext> contexts = new ArrayList<>();
     private Map<Integer, Observer<Message>> clientObserversByCall = new HashMap<>();
+    private Map<Integer, WebSocketObserver> observersByCall = new HashMap<>();
 
     public WebSocketFrameHandler(HttpServer httpServer, HttpRequest req, User user,
             WriteBufferWaterMark writeBufferWaterMark) {
@@ -194,6 +195,7 @@ public class WebSocketFrameHandler extends SimpleChannelInboundHandler<WebSocket
             if (ctx.getId() == callId) {
                 ctx.close();
                 clientObserversByCall.remove(callId);
+                observersByCall.remove(callId);
             }
         }
     }
@@ -215,6 +217,7 @@ public class WebSocketFrameHandler extends SimpleChannelInboundHandler<WebSocket
         });
 
         contexts.add(ctx);
+        observersByCall.put(ctx.getId(), observer);
 
         if (ctx.isClientStreaming()) {
             Observer<Message> clientObserver = topic.callMethod(ctx, observer);
@@ -271,6 +274,17 @@ public class WebSocketFrameHandler extends SimpleChannelInboundHandler<WebSocket
         log.info("{} Channel closed", nettyContext.channel().id().asShortText());
         contexts.forEach(TopicContext::close);
         contexts.clear();
+        observersByCall.clear();
+    }
+
+    @Override
+    public void channelWritabilityChanged(ChannelHandlerContext nettyContext) throws Exception {
+        if (nettyContext.channel().isWritable()) {
+            for (WebSocketObserver observer : new ArrayList<>(observersByCall.values())) {
+                observer.channelWritable();
+            }
+        }
+        super.channelWritabilityChanged(nettyContext);
     }
 
     private Topic matchTopic(String topicName) {
@@ -26,6 +26,7 @@ public class WebSocketObserver implements Observer<Message> {
     private boolean cancelled;
     private boolean completed;
     private Runnable cancelHandler;
+    private volatile Runnable onReadyHandler;
 
     private boolean replied;
     private List<Message> pendingMessages = new ArrayList<>(); // Messages received while not yet replied
@@ -70,7 +71,10 @@ public class WebSocketObserver implements Observer<Message> {
             return;
         }
 
-        sendMessage(ctx.getTopic().getName(), message, lowPriority ? LOW : NORMAL);
+        // the payload is encoded by the WebSocketServerMessageHandler, shared with the other clients if possible
+        var topicMessage = new WebSocketTopicMessage(ctx.getTopic().getName(), ctx.getId(), messageCount, message);
+        ctx.nettyContext.channel().attr(WebSocketFramePriority.ATTR).set(lowPriority ? LOW : NORMAL);
+        ctx.nettyContext.channel().writeAndFlush(topicMessage);
     }
 
     private void sendMessage(String type, Message data, WebSocketFramePriority priority) {
@@ -125,6 +129,29 @@ public class WebSocketObserver implements Observer<Message> {
         return cancelled;
     }
 
+    /**
+     * Returns true if the netty channel is writable, i.e. the messages are not piling up in the outbound buffer.
+     */
+    @Override
+    public boolean isReady() {
+        return ctx.nettyContext.channel().isWritable();
+    }
+
+    @Override
+    public void setOnReadyHandler(Runnable onReadyHandler) {
+        this.onReadyHandler = onReadyHandler;
+    }
+
+    /**
+     * Called on the netty event loop when the channel becomes writable again
+     */
+    void channelWritable() {
+        Runnable handler = onReadyHandler;
+        if (handler != null && !cancelled) {
+            handler.run();
+        }
+    }
+
     @Override
     public void setCancelHandler(Runnable cancelHandler) {
         this.cancelHandler = cancelHandler;
@@ -0,0 +1,166 @@
+package org.yamcs.http;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.yamcs.protobuf.ServerMessage;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.gson.JsonPrimitive;
+import com.google.protobuf.Any;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.Message;
+import com.google.protobuf.WireFormat;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+/**
+ * Encodes the {@link ServerMessage} of the websocket topics such that the payload (the {@code data} field) is encoded
+ * only once when it is sent to many clients.
+ * <p>
+ * The encoded payloads are kept for a short time in a cache keyed by the payload message. Equal payloads, as produced
+ * by equivalent subscriptions of different clients, are therefore serialized (to protobuf or JSON) once; the frame of
+ * each client is composed of its own small header (type, call and sequence count) followed by a read-only view of the
+ * shared encoded payload.
+ * <p>
+ * The lookup hashes and compares the payload message, so each message sent to each client still costs a deep
+ * {@code hashCode}/{@code equals} of the payload; only the serialization is saved.
+ */
+public class WebSocketPayloadCache {
+
+    // how long the encoded payloads are kept; the updates of equivalent subscriptions are sent at about the same time
+    static final long EXPIRATION_MILLIS = 2000;
+    private static final byte[] CLOSING_BRACE = new byte[] { '}' };
+
+    private final HttpServer httpServer;
+    // null if the cache is disabled
+    private final Cache<Message, EncodedPayload> cache;
+
+    /**
+     * @param maxSize
+     *            - the maximum number of payloads kept; 0 disables the cache
+     */
+    public WebSocketPayloadCache(HttpServer httpServer, int maxSize) {
+        this.httpServer = httpServer;
+        if (maxSize > 0) {
+            cache = CacheBuilder.newBuilder()
+                    .maximumSize(maxSize)
+                    .expireAfterWrite(EXPIRATION_MILLIS, TimeUnit.MILLISECONDS)
+                    .build();
+        } else {
+            cache = null;
+        }
+    }
+
+    /**
+     * Returns the protobuf serialization of the server message with the given fields.
+     */
+    public ByteBuf encodeProtobuf(String type, int call, int seq, Message data) {
+        byte[] any = getEncodedPayload(data).getProtobuf();
+
+        int size = 0;
+        if (!type.isEmpty()) {
+            size += CodedOutputStream.computeStringSize(ServerMessage.TYPE_FIELD_NUMBER, type);
+        }
+        if (call != 0) {
+            size += CodedOutputStream.computeInt32Size(ServerMessage.CALL_FIELD_NUMBER, call);
+        }
+        if (seq != 0) {
+            size += CodedOutputStream.computeInt32Size(ServerMessage.SEQ_FIELD_NUMBER, seq);
+        }
+        size += CodedOutputStream.computeTagSize(ServerMessage.DATA_FIELD_NUMBER)
+                + CodedOutputStream.computeUInt32SizeNoTag(any.length);
+
+        byte[] header = new byte[size];
+        CodedOutputStream out = CodedOutputStream.newInstance(header);
+        try {
+            if (!type.isEmpty()) {
+                out.writeString(ServerMessage.TYPE_FIELD_NUMBER, type);
+            }
+            if (call != 0) {
+                out.writeInt32(ServerMessage.CALL_FIELD_NUMBER, call);
+            }
+            if (seq != 0) {
+                out.writeInt32(ServerMessage.SEQ_FIELD_NUMBER, seq);
+            }
+            out.writeTag(ServerMessage.DATA_FIELD_NUMBER, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+            out.writeUInt32NoTag(any.length);
+            out.checkNoSpaceLeft();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return Unpooled.wrappedBuffer(header, any);
+    }
+
+    /**
+     * Returns the UTF-8 JSON representation of the server message with the given fields.
+     */
+    public ByteBuf encodeJson(String type, int call, int seq, Message data) {
+        byte[] json = getEncodedPayload(data).getJson();
+
+        StringBuilder sb = new StringBuilder("{");
+        if (!type.isEmpty()) {
+            sb.append("\"type\":").append(new JsonPrimitive(type)).append(",");
+        }
+        if (call != 0) {
+            sb.append("\"call\":").append(call).append(",");
+        }
+        if (seq != 0) {
+            sb.append("\"seq\":").append(seq).append(",");
+        }
+        sb.append("\"data\":");
+        byte[] header = sb.toString().getBytes(StandardCharsets.UTF_8);
+
+        return Unpooled.wrappedBuffer(header, json, CLOSING_BRACE);
+    }
+
+    private EncodedPayload getEncodedPayload(Message data) {
+        if (cache == null) {
+            return new EncodedPayload(data);
+        }
+        try {
+            return cache.get(data, () -> new EncodedPayload(data));
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * The payload packed in an {@link Any}, encoded lazily in each of the formats requested by the clients.
+     */
+    private class EncodedPayload {
+        final Message data;
+        private volatile byte[] protobuf;
+        private volatile byte[] json;
+
+        EncodedPayload(Message data) {
+            this.data = data;
+        }
+
+        byte[] getProtobuf() {
+            byte[] b = protobuf;
+            if (b == null) {
+                b = protobuf = Any.pack(data, HttpServer.TYPE_URL_PREFIX).toByteArray();
+            }
+            return b;
+        }
+
+        byte[] getJson() {
+            byte[] b = json;
+            if (b == null) {
+                try {
+                    String s = httpServer.getJsonPrinter().print(Any.pack(data, HttpServer.TYPE_URL_PREFIX));
+                    b = json = s.getBytes(StandardCharsets.UTF_8);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            return b;
+        }
+    }
+}
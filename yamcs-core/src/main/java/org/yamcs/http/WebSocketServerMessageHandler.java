@@ -14,6 +14,9 @@ import io.netty.handler.codec.http.websocketx.WebSocketFrame;
 /**
  * Encodes {@link ServerMessage} to either {@link BinaryWebSocketFrame} or {@link TextWebSocketFrame} depending if the
  * protobuf or json has to be sent.
+ * <p>
+ * The {@link WebSocketTopicMessage} are encoded via the {@link WebSocketPayloadCache} of the server such that the
+ * payloads shared by many clients are encoded only once.
  */
 public class WebSocketServerMessageHandler extends ChannelOutboundHandlerAdapter {
 
@@ -27,6 +30,21 @@ public class WebSocketServerMessageHandler extends ChannelOutboundHandlerAdapter
 
     @Override
     public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+        if (msg instanceof WebSocketTopicMessage) {
+            WebSocketTopicMessage topicMessage = (WebSocketTopicMessage) msg;
+            WebSocketPayloadCache payloadCache = httpServer.getWebSocketPayloadCache();
+            WebSocketFrame frame;
+            if (protobuf) {
+                frame = new BinaryWebSocketFrame(payloadCache.encodeProtobuf(topicMessage.type, topicMessage.call,
+                        topicMessage.seq, topicMessage.data));
+            } else {
+                frame = new TextWebSocketFrame(payloadCache.encodeJson(topicMessage.type, topicMessage.call,
+                        topicMessage.seq, topicMessage.data));
+            }
+            ctx.write(frame, promise);
+            return;
+        }
+
         ServerMessage serverMessage = (ServerMessage) msg;
         WebSocketFrame frame;
 
@@ -0,0 +1,23 @@
+package org.yamcs.http;
+
+import org.yamcs.protobuf.ServerMessage;
+
+import com.google.protobuf.Message;
+
+/**
+ * The fields of a {@link ServerMessage} emitted on a topic, passed to the {@link WebSocketServerMessageHandler}
+ * which encodes the payload through the {@link WebSocketPayloadCache}.
+ */
+public class WebSocketTopicMessage {
+    final String type;
+    final int call;
+    final int seq;
+    final Message data;
+
+    public WebSocketTopicMessage(String type, int call, int seq, Message data) {
+        this.type = type;
+        this.call = call;
+        this.seq = seq;
+        this.data = data;
+    }
+}
@@ -1,6 +1,10 @@
 package org.yamcs.http.api;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -16,6 +20,7 @@ import org.yamcs.http.ForbiddenException;
 import org.yamcs.http.HttpException;
 import org.yamcs.http.InternalServerErrorException;
 import org.yamcs.http.NotFoundException;
+import org.yamcs.http.RouteContext;
 import org.yamcs.logging.Log;
 import org.yamcs.protobuf.AbstractBucketsApi;
 import org.yamcs.protobuf.BucketInfo;
@@ -35,21 +40,31 @@ import org.yamcs.security.SystemPrivilege;
 import org.yamcs.security.User;
 import org.yamcs.utils.TimeEncoding;
 import org.yamcs.yarch.Bucket;
+import org.yamcs.yarch.BucketObjectStream;
 import org.yamcs.yarch.FileSystemBucket;
 import org.yamcs.yarch.YarchDatabase;
 import org.yamcs.yarch.YarchDatabaseInstance;
 import org.yamcs.yarch.rocksdb.protobuf.Tablespace.BucketProperties;
 import org.yamcs.yarch.rocksdb.protobuf.Tablespace.ObjectProperties;
 
+import com.google.common.io.ByteStreams;
 import com.google.protobuf.ByteString;
 import com.google.protobuf.Empty;
 
+import io.netty.handler.codec.http.DefaultHttpResponse;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+
 public class BucketsApi extends AbstractBucketsApi<Context> {
 
     private static final Log log = new Log(BucketsApi.class);
 
     static final Pattern BUCKET_NAME_REGEXP = Pattern.compile("\\w[\\w\\-]+");
     static final Pattern OBJ_NAME_REGEXP = Pattern.compile("[ \\w\\s\\-\\./]+");
+    static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
 
     @Override
     public void listBuckets(Context ctx, ListBucketsRequest request, Observer<ListBucketsResponse> observer) {
@@ -143,12 +158,20 @@ public class BucketsApi extends AbstractBucketsApi<Context> {
         String objName = request.getObjectName();
         Bucket bucket = verifyAndGetBucket(instance, bucketName, ctx.user);
         try {
+            if (ctx instanceof RouteContext) {
+                sendObject((RouteContext) ctx, bucket, objName);
+                observer.complete();
+                return;
+            }
             ObjectProperties props = bucket.findObject(objName);
             if (props == null) {
                 throw new NotFoundException();
             }
+            String contentType = getContentType(props);
             byte[] objData = bucket.getObject(objName);
-            String contentType = props.hasContentType() ? props.getContentType() : "application/octet-stream";
+            if (objData == null) {
+                throw new NotFoundException();
+            }
 
             HttpBody body = HttpBody.newBuilder()
                     .setContentType(contentType)
@@ -161,6 +184,114 @@ public class BucketsApi extends AbstractBucketsApi<Context> {
         }
     }
 
+    /**
+     * Streams the object (or the range requested with the Range header) directly to the client, without holding it
+     * in memory. The files of a {@link FileSystemBucket} are transferred with zero-copy when possible.
+     * <p>
+     * The object is opened before its size is determined, such that the size sent to the client is the one of the
+     * data sent, even if the object is replaced in the meanwhile.
+     */
+    private static void sendObject(RouteContext ctx, Bucket bucket, String objName) throws IOException {
+        FileChannel fc = null;
+        InputStream in = null;
+        try {
+            ObjectProperties props;
+            long size;
+            if (bucket instanceof FileSystemBucket) {
+                Path path = ((FileSystemBucket) bucket).getObjectPath(objName);
+                if (path == null) {
+                    throw new NotFoundException();
+                }
+                // the objects are replaced by moving a new file in place, the open file is not modified
+                fc = FileChannel.open(path, StandardOpenOption.READ);
+                size = fc.size();
+                // only used for the content type, derived from the object name
+                props = bucket.findObject(objName);
+            } else {
+                BucketObjectStream objStream = bucket.openObjectSnapshot(objName);
+                if (objStream == null) {
+                    throw new NotFoundException();
+                }
+                in = objStream;
+                props = objStream.getProperties();
+                size = props.getSize();
+            }
+
+            HttpResponse response;
+            long offset = 0;
+            long length = size;
+            long[] range = parseRange(ctx.nettyRequest.headers().get(HttpHeaderNames.RANGE), size);
+            if (range != null) {
+                offset = range[0];
+                length = range[1] - range[0] + 1;
+                response = new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.PARTIAL_CONTENT);
+                response.headers().set(HttpHeaderNames.CONTENT_RANGE,
+                        "bytes " + range[0] + "-" + range[1] + "/" + size);
+            } else {
+                response = new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK);
+            }
+            response.headers().set(HttpHeaderNames.CONTENT_TYPE,
+                    props == null ? DEFAULT_CONTENT_TYPE : getContentType(props));
+            response.headers().set(HttpHeaderNames.ACCEPT_RANGES, HttpHeaderValues.BYTES);
+
+            if (fc != null) {
+                ctx.sendFile(response, fc, offset, length);
+            } else {
+                in.skipNBytes(offset);
+                ctx.sendStream(response, ByteStreams.limit(in, length), length);
+            }
+        } catch (IOException | RuntimeException e) {
+            if (fc != null) {
+                fc.close();
+            }
+            if (in != null) {
+                in.close();
+            }
+            throw e;
+        }
+    }
+
+    private static String getContentType(ObjectProperties props) {
+        return props.hasContentType() ? props.getContentType() : DEFAULT_CONTENT_TYPE;
+    }
+
+    /**
+     * Parses a Range header with a single byte range.
+     * 
+     * @return the first and the last position (inclusive) or null if there is no header or if it is not supported or
+     *         not satisfiable (case in which the full object is sent)
+     */
+    static long[] parseRange(String header, long size) {
+        if (header == null || !header.startsWith("bytes=") || header.indexOf(',') != -1) {
+            return null;
+        }
+        String spec = header.substring(6).trim();
+        int idx = spec.indexOf('-');
+        if (idx == -1) {
+            return null;
+        }
+        try {
+            long first, last;
+            if (idx == 0) { // suffix range: the last n bytes
+                long n = Long.parseLong(spec.substring(1));
+                first = Math.max(0, size - n);
+                last = size - 1;
+            } else {
+                first = Long.parseLong(spec.substring(0, idx));
+                last = size - 1;
+                if (idx < spec.length() - 1) {
+                    last = Math.min(last, Long.parseLong(spec.substring(idx + 1)));
+                }
+            }
+            if (first < 0 || first > last) {
+                return null;
+            }
+            return new long[] { first, last };
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
     @Override
     public void uploadObject(Context ctx, UploadObjectRequest request, Observer<Empty> observer) {
         var instance = request.hasInstance() ? request.getInstance() : YamcsServer.GLOBAL_INSTANCE;
@@ -181,9 +312,8 @@ public class BucketsApi extends AbstractBucketsApi<Context> {
         verifyObjectName(objectName);
 
         String contentType = body.hasContentType() ? body.getContentType() : null;
-        byte[] objectData = body.getData().toByteArray();
         try {
-            bucket.putObject(objectName, contentType, body.getMetadataMap(), objectData);
+            bucket.putObject(objectName, contentType, body.getMetadataMap(), body.getData().newInput());
         } catch (IOException e) {
             throw new InternalServerErrorException("Error when uploading object to bucket: " + e.getMessage(), e);
         }
@@ -1,16 +1,13 @@
 package org.yamcs.http.api;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
-import java.util.Map.Entry;
-import java.util.TreeMap;
 import java.util.function.Consumer;
 
-import org.yamcs.logging.Log;
 import org.yamcs.parameter.Value;
 import org.yamcs.parameter.ValueArray;
 import org.yamcs.parameterarchive.ParameterValueArray;
+import org.yamcs.parameterarchive.RollupSegment;
 import org.yamcs.protobuf.Pvalue.ParameterStatus;
 import org.yamcs.protobuf.Yamcs.Value.Type;
 import org.yamcs.utils.TimeEncoding;
@@ -22,16 +19,30 @@ import org.yamcs.utils.UnsignedLong;
  * <p>
  * The output is not a bunch of parameter values, but instead a range of values limited to n, which should be fit for
  * inclusion in plots.
+ * <p>
+ * The range [start, stop] is split into buckets of equal duration; the bucket of a value is found by a division and the
+ * statistics of the buckets are kept in primitive arrays. The {@link Sample} objects are only created by
+ * {@link #collect()}.
  */
 public class Downsampler implements Consumer<ParameterValueArray> {
 
-    private static final Log log = new Log(Downsampler.class);
     private static final int DEFAULT_SAMPLE_COUNT = 500;
     private static final long DEFAULT_GAP_TIME = 120000;
 
-    private TreeMap<Long, Sample> samplesByTime = new TreeMap<>();
-    private long start;
-    private long stop;
+    private final long start;
+    private final long stop;
+    private final long step;
+    private final int numBuckets;
+
+    private final int[] counts;
+    private final double[] mins;
+    private final double[] maxs;
+    private final double[] sums;
+    private final long[] minTimes;
+    private final long[] maxTimes;
+    // expireMillis of the last value of each bucket
+    private final long[] expireMillis;
+
     private boolean useRawValue;
     private long lastSampleTime;
     private long gapTime;
@@ -54,9 +65,16 @@ public class Downsampler implements Consumer<ParameterValueArray> {
         if (step == 0) {
             step = 1;
         }
-        for (long i = start; i < stop; i += step) {
-            samplesByTime.put(i, null);
-        }
+        this.step = step;
+        this.numBuckets = (int) ((stop - start + step - 1) / step);
+
+        counts = new int[numBuckets];
+        mins = new double[numBuckets];
+        maxs = new double[numBuckets];
+        sums = new double[numBuckets];
+        minTimes = new long[numBuckets];
+        maxTimes = new long[numBuckets];
+        expireMillis = new long[numBuckets];
     }
 
     public void setUseRawValue(boolean useRawValue) {
@@ -120,41 +138,60 @@ public class Downsampler implements Consumer<ParameterValueArray> {
         int n = timestamps.length;
         Type type = useRawValue ? t.getRawType() : t.getEngType();
 
+        // one loop for each type such that there is no per value switch and boxing
         switch (type) {
         case FLOAT:
             float[] fv = va.getFloatArray();
             for (int i = 0; i < n; i++) {
-                process(timestamps[i], fv[i], expireMillis);
+                int idx = bucketIndex(timestamps[i]);
+                if (idx >= 0) {
+                    add(idx, timestamps[i], fv[i], expireMillis);
+                }
             }
             break;
         case DOUBLE:
             double[] dv = va.getDoubleArray();
             for (int i = 0; i < n; i++) {
-                process(timestamps[i], dv[i], expireMillis);
+                int idx = bucketIndex(timestamps[i]);
+                if (idx >= 0) {
+                    add(idx, timestamps[i], dv[i], expireMillis);
+                }
             }
             break;
         case UINT32:
             int[] iv = va.getIntArray();
             for (int i = 0; i < n; i++) {
-                process(timestamps[i], iv[i] & 0xFFFFFFFFL, expireMillis);
+                int idx = bucketIndex(timestamps[i]);
+                if (idx >= 0) {
+                    add(idx, timestamps[i], iv[i] & 0xFFFFFFFFL, expireMillis);
+                }
             }
             break;
         case SINT32:
             iv = va.getIntArray();
             for (int i = 0; i < n; i++) {
-                process(timestamps[i], iv[i], expireMillis);
+                int idx = bucketIndex(timestamps[i]);
+                if (idx >= 0) {
+                    add(idx, timestamps[i], iv[i], expireMillis);
+                }
             }
             break;
         case UINT64:
             long[] lv = va.getLongArray();
             for (int i = 0; i < n; i++) {
-                process(timestamps[i], UnsignedLong.toDouble(lv[i]), expireMillis);
+                int idx = bucketIndex(timestamps[i]);
+                if (idx >= 0) {
+                    add(idx, timestamps[i], UnsignedLong.toDouble(lv[i]), expireMillis);
+                }
             }
             break;
         case SINT64:
             lv = va.getLongArray();
             for (int i = 0; i < n; i++) {
-                process(timestamps[i], lv[i], expireMillis);
+                int idx = bucketIndex(timestamps[i]);
+                if (idx >= 0) {
+                    add(idx, timestamps[i], lv[i], expireMillis);
+                }
             }
             break;
         case NONE:
@@ -162,51 +199,111 @@ public class Downsampler implements Consumer<ParameterValueArray> {
             break;
         default:
             for (int i = 0; i < n; i++) {
-                process(timestamps[i], Double.NaN, expireMillis);
+                int idx = bucketIndex(timestamps[i]);
+                if (idx >= 0) {
+                    add(idx, timestamps[i], Double.NaN, expireMillis);
+                }
+            }
+        }
+    }
+
+    /**
+     * Processes pre-aggregated values. Each bucket of the rollup segment is accounted to the sample containing its
+     * start.
+     */
+    public void process(RollupSegment rs) {
+        for (int i = 0; i < rs.size(); i++) {
+            int idx = bucketIndex(rs.getStart(i));
+            if (idx < 0) {
+                continue;
             }
+            int count = rs.getCount(i);
+            if (counts[idx] == 0) {
+                mins[idx] = rs.getMin(i);
+                minTimes[idx] = rs.getMinTime(i);
+                maxs[idx] = rs.getMax(i);
+                maxTimes[idx] = rs.getMaxTime(i);
+                sums[idx] = rs.getSum(i);
+            } else {
+                if (rs.getMin(i) < mins[idx]) {
+                    mins[idx] = rs.getMin(i);
+                    minTimes[idx] = rs.getMinTime(i);
+                }
+                if (rs.getMax(i) > maxs[idx]) {
+                    maxs[idx] = rs.getMax(i);
+                    maxTimes[idx] = rs.getMaxTime(i);
+                }
+                sums[idx] += rs.getSum(i);
+            }
+            counts[idx] += count;
+            expireMillis[idx] = -1;
         }
     }
 
     public void process(long time, double value, long expireMillis) {
-        if (time > stop || time < start) {
+        int idx = bucketIndex(time);
+        if (idx < 0) {
+            // the retrievals may return values outside the range
             return;
         }
+        add(idx, time, value, expireMillis);
+    }
 
-        Entry<Long, Sample> entry = samplesByTime.floorEntry(time);
-        if (entry == null) {
-            log.warn("No interval for value {}", value);
-            return;
+    /**
+     * Returns the index of the bucket containing the given time or -1 if the time is not in the [start, stop] range
+     */
+    private int bucketIndex(long time) {
+        if (time > stop || time < start || numBuckets == 0) {
+            return -1;
         }
+        long idx = (time - start) / step;
+        // stop belongs to the last bucket
+        return idx < numBuckets ? (int) idx : numBuckets - 1;
+    }
 
-        lastSampleTime = entry.getKey();
-        Sample sample = entry.getValue();
-        if (sample == null) {
-            var newSample = new Sample(entry.getKey(), time, value, expireMillis);
-            samplesByTime.put(entry.getKey(), newSample);
+    private void add(int idx, long time, double value, long expire) {
+        lastSampleTime = start + idx * step;
+        int n = counts[idx];
+        if (n == 0) {
+            mins[idx] = maxs[idx] = sums[idx] = value;
+            minTimes[idx] = maxTimes[idx] = time;
         } else {
-            sample.process(time, value, expireMillis);
+            if (value < mins[idx]) {
+                mins[idx] = value;
+                minTimes[idx] = time;
+            }
+            if (value > maxs[idx]) {
+                maxs[idx] = value;
+                maxTimes[idx] = time;
+            }
+            sums[idx] += value;
         }
+        counts[idx] = n + 1;
+        expireMillis[idx] = expire;
     }
 
+    /**
+     * Returns the non-empty samples in time order, interleaved with gaps (samples with n = 0) where there are no values
+     * for more than the gap time.
+     */
     public List<Sample> collect() {
-        if (samplesByTime == null) {
-            return Collections.emptyList();
-        }
-        List<Sample> r = new ArrayList<>(DEFAULT_SAMPLE_COUNT);
-        Sample prev = null;
-        for (Entry<Long, Sample> e : samplesByTime.entrySet()) {
-            Sample s = e.getValue();
-            if (s == null) {
-                long t = e.getKey();
-                if (prev != null) { // Maybe generate a gap
-                    long gapTime = (prev.expireMillis != -1) ? prev.expireMillis : this.gapTime;
-                    if (t - prev.t > gapTime) {
+        List<Sample> r = new ArrayList<>(Math.min(numBuckets, DEFAULT_SAMPLE_COUNT));
+        long prevTime = TimeEncoding.INVALID_INSTANT;
+        long prevExpire = -1;
+        for (int i = 0; i < numBuckets; i++) {
+            long t = start + i * step;
+            if (counts[i] == 0) {
+                if (prevTime != TimeEncoding.INVALID_INSTANT) { // Maybe generate a gap
+                    long gapTime = (prevExpire != -1) ? prevExpire : this.gapTime;
+                    if (t - prevTime > gapTime) {
                         r.add(new Sample(t));
                     }
                 }
             } else {
-                r.add(s);
-                prev = s;
+                r.add(new Sample(t, counts[i], mins[i], minTimes[i], maxs[i], maxTimes[i], sums[i],
+                        expireMillis[i]));
+                prevTime = t;
+                prevExpire = expireMillis[i];
             }
         }
 
@@ -249,6 +346,18 @@ public class Downsampler implements Consumer<ParameterValueArray> {
             n = 1;
         }
 
+        // sample with the aggregated values of a bucket
+        Sample(long t, int n, double min, long minTime, double max, long maxTime, double sum, long expireMillis) {
+            this.t = t;
+            this.n = n;
+            this.min = min;
+            this.minTime = minTime;
+            this.max = max;
+            this.maxTime = maxTime;
+            this.avg = sum / n;
+            this.expireMillis = expireMillis;
+        }
+
         public void process(long valueTime, double value, long expireMillis) {
             this.expireMillis = expireMillis;
             if (value < min) {
@@ -13,15 +13,18 @@ import java.util.Base64;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.Set;
 import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.yamcs.YamcsServer;
+import org.yamcs.YamcsServerInstance;
 import org.yamcs.api.HttpBody;
 import org.yamcs.api.Observer;
 import org.yamcs.archive.EventRecorder;
+import org.yamcs.archive.EventTextIndex;
 import org.yamcs.events.EventProducer;
 import org.yamcs.events.EventProducerFactory;
 import org.yamcs.http.BadRequestException;
@@ -41,6 +44,7 @@ import org.yamcs.protobuf.StreamEventsRequest;
 import org.yamcs.protobuf.SubscribeEventsRequest;
 import org.yamcs.security.SystemPrivilege;
 import org.yamcs.utils.TimeEncoding;
+import org.yamcs.utils.parser.ParseException;
 import org.yamcs.yarch.SqlBuilder;
 import org.yamcs.yarch.Stream;
 import org.yamcs.yarch.StreamSubscriber;
@@ -49,11 +53,13 @@ import org.yamcs.yarch.Tuple;
 import org.yamcs.yarch.YarchDatabase;
 import org.yamcs.yarch.YarchDatabaseInstance;
 import org.yamcs.yarch.protobuf.Db;
+import org.yamcs.yarch.streamsql.StreamSqlException;
 
 import com.csvreader.CsvWriter;
 import com.google.common.collect.BiMap;
 import com.google.gson.Gson;
 import com.google.protobuf.ByteString;
+import com.google.protobuf.Timestamp;
 import com.google.protobuf.util.Timestamps;
 
 public class EventsApi extends AbstractEventsApi<Context> {
@@ -106,7 +112,8 @@ public class EventsApi extends AbstractEventsApi<Context> {
         }
 
         if (request.hasQ()) {
-            sqlb.where("body.message like ?", "%" + request.getQ() + "%");
+            addTextFilter(sqlb, instance, request.getQ(), request.hasStart() ? request.getStart() : null,
+                    request.hasStop() ? request.getStop() : null);
         }
         if (nextToken != null) {
             // TODO this currently ignores the source column (also part of the key)
@@ -285,7 +292,8 @@ public class EventsApi extends AbstractEventsApi<Context> {
         addSeverityFilter(sqlb, severity);
 
         if (request.hasQ()) {
-            sqlb.where("body.message like ?", "%" + request.getQ() + "%");
+            addTextFilter(sqlb, instance, request.getQ(), request.hasStart() ? request.getStart() : null,
+                    request.hasStop() ? request.getStop() : null);
         }
 
         var filter = request.hasFilter()
@@ -339,7 +347,8 @@ public class EventsApi extends AbstractEventsApi<Context> {
         addSeverityFilter(sqlb, severity);
 
         if (request.hasQ()) {
-            sqlb.where("body.message like ?", "%" + request.getQ() + "%");
+            addTextFilter(sqlb, instance, request.getQ(), request.hasStart() ? request.getStart() : null,
+                    request.hasStop() ? request.getStop() : null);
         }
 
         String sql = sqlb.toString();
@@ -489,6 +498,38 @@ public class EventsApi extends AbstractEventsApi<Context> {
         }
     }
 
+    /**
+     * Adds the filter on the event message.
+     * <p>
+     * If the text index is enabled, the events are first looked up in the index and only the candidate events are
+     * read from the events table. The candidates are still matched against the text, such that the result is the same
+     * as without the index.
+     */
+    private static void addTextFilter(SqlBuilder sqlb, String instance, String q, Timestamp start, Timestamp stop) {
+        sqlb.where("body.message like ?", "%" + q + "%");
+
+        YamcsServerInstance ysi = YamcsServer.getServer().getInstance(instance);
+        if (ysi == null || ysi.getServices(EventRecorder.class).stream().noneMatch(r -> r.isTextIndexEnabled())) {
+            return;
+        }
+        YarchDatabaseInstance ydb = YarchDatabase.getInstance(instance);
+        try {
+            Set<Long> candidates = EventTextIndex.findCandidates(ydb, q,
+                    start == null ? Long.MIN_VALUE : TimeEncoding.fromProtobufTimestamp(start),
+                    stop == null ? Long.MAX_VALUE : TimeEncoding.fromProtobufTimestamp(stop));
+            if (candidates == null) {
+                return;
+            }
+            if (candidates.isEmpty()) {
+                // no event matches; the invalid instant is never used as generation time
+                candidates = Collections.singleton(TimeEncoding.INVALID_INSTANT);
+            }
+            sqlb.whereColIn(GENTIME_COLUMN, candidates);
+        } catch (StreamSqlException | ParseException e) {
+            log.warn("Failed to search the event text index, falling back to a full scan", e);
+        }
+    }
+
     private void addSeverityFilter(SqlBuilder sqlb, String severity) {
         switch (severity) {
         case INFO:
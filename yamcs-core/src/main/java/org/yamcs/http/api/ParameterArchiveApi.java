@@ -36,6 +36,7 @@ import org.yamcs.parameterarchive.ParameterIdDb;
 import org.yamcs.parameterarchive.ParameterIdValueList;
 import org.yamcs.parameterarchive.ParameterInfoRetrieval;
 import org.yamcs.parameterarchive.ParameterRequest;
+import org.yamcs.parameterarchive.RollupRetrieval;
 import org.yamcs.protobuf.AbstractParameterArchiveApi;
 import org.yamcs.protobuf.Archive.GetParameterSamplesRequest;
 import org.yamcs.protobuf.Archive.ListParameterHistoryRequest;
@@ -198,11 +199,16 @@ public class ParameterArchiveApi extends AbstractParameterArchiveApi<Context> {
             pcache = processor.getParameterCache();
         }
 
-        ParameterRequest pr = new ParameterRequest(start, stop, true, !useRawValue, useRawValue, true);
-        SingleParameterRetriever spdr = new SingleParameterRetriever(parchive, pcache, pid, pr);
         try {
-            spdr.retrieve(sampler);
-        } catch (IOException e) {
+            int tier = useRawValue ? -1 : parchive.getRollupTier((stop - start) / Math.max(1, sampleCount));
+            if (tier > 0 && RollupRetrieval.hasRollups(parchive, pid.getQualifiedName())) {
+                retrieveWithRollups(parchive, pcache, pid, start, stop, tier, sampler);
+            } else {
+                ParameterRequest pr = new ParameterRequest(start, stop, true, !useRawValue, useRawValue, true);
+                SingleParameterRetriever spdr = new SingleParameterRetriever(parchive, pcache, pid, pr);
+                spdr.retrieve(sampler);
+            }
+        } catch (IOException | RocksDBException e) {
             log.warn("Received exception during parameter retrieval", e);
             throw new InternalServerErrorException(e.toString());
         }
@@ -215,6 +221,32 @@ public class ParameterArchiveApi extends AbstractParameterArchiveApi<Context> {
         observer.complete(series.build());
     }
 
+    /**
+     * Feeds the sampler with the rollups of the given tier for the part of the range where they are available and with
+     * the raw data at the two ends.
+     */
+    private void retrieveWithRollups(ParameterArchive parchive, ParameterCache pcache, ParameterWithId pid,
+            long start, long stop, int tier, Downsampler sampler) throws IOException, RocksDBException {
+        long tierMillis = tier * 1000L;
+        long rstart = Math.max(start, parchive.getRollupCoverageStart(tier));
+        rstart = Math.floorDiv(rstart + tierMillis - 1, tierMillis) * tierMillis;
+        long rstop = Math.min(stop, parchive.getRollupCoverageEnd());
+        rstop = Math.floorDiv(rstop, tierMillis) * tierMillis;
+
+        if (rstart >= rstop) {
+            ParameterRequest pr = new ParameterRequest(start, stop, true, true, false, true);
+            new SingleParameterRetriever(parchive, pcache, pid, pr).retrieve(sampler);
+            return;
+        }
+        if (start < rstart) {
+            ParameterRequest pr = new ParameterRequest(start, rstart, true, true, false, true);
+            new SingleParameterRetriever(parchive, null, pid, pr).retrieve(sampler);
+        }
+        new RollupRetrieval(parchive, pid.getQualifiedName(), rstart, rstop, tier).retrieve(sampler::process);
+        ParameterRequest pr = new ParameterRequest(rstop, stop, true, true, false, true);
+        new SingleParameterRetriever(parchive, pcache, pid, pr).retrieve(sampler);
+    }
+
     @Override
     public void getParameterRanges(Context ctx, GetParameterRangesRequest request, Observer<Ranges> observer) {
         YamcsServerInstance ysi = InstancesApi.verifyInstanceObj(request.getInstance());
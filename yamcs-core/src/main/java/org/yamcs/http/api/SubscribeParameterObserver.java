@@ -4,16 +4,20 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.yamcs.InvalidIdentification;
 import org.yamcs.NoPermissionException;
 import org.yamcs.Processor;
+import org.yamcs.YamcsServer;
 import org.yamcs.api.Observer;
 import org.yamcs.http.BadRequestException;
 import org.yamcs.logging.Log;
@@ -43,12 +47,21 @@ public class SubscribeParameterObserver implements Observer<SubscribeParametersR
     private int subscriptionId = -1;
     private ParameterWithIdRequestHelper pidrm;
 
-    private ConcurrentMap<NamedObjectId, Integer> numericIdMap = new ConcurrentHashMap<>();
+    ConcurrentMap<NamedObjectId, Integer> numericIdMap = new ConcurrentHashMap<>();
     private AtomicInteger numericIdGenerator = new AtomicInteger();
 
     // Max emitted bytes for a singular binary value updates (either raw or eng)
     private int maxBytes = -1;
 
+    // If positive, the updates are conflated and sent at most once per interval (milliseconds)
+    private volatile int updateInterval = -1;
+    // Latest value of each parameter updated since the last flush, by numeric id.
+    // Also used as lock for the conflation state.
+    private final Map<Integer, ParameterValue> pendingValues = new LinkedHashMap<>();
+    private ScheduledFuture<?> flushFuture;
+    // Set when a flush has been skipped because the response observer was not ready
+    private boolean flushDeferred;
+
     public SubscribeParameterObserver(User user, Observer<SubscribeParametersData> responseObserver) {
         this.user = user;
         this.responseObserver = responseObserver;
@@ -59,6 +72,9 @@ public class SubscribeParameterObserver implements Observer<SubscribeParametersR
         if (request.hasMaxBytes()) {
             maxBytes = request.getMaxBytes();
         }
+        if (request.hasUpdateInterval()) {
+            setUpdateInterval(request.getUpdateInterval());
+        }
 
         if (pidrm == null) {
             Processor processor = ProcessingApi.verifyProcessor(request.getInstance(), request.getProcessor());
@@ -67,6 +83,10 @@ public class SubscribeParameterObserver implements Observer<SubscribeParametersR
                 if (params.isEmpty()) {
                     return;
                 }
+                if (updateInterval > 0) {
+                    conflate(params);
+                    return;
+                }
                 SubscribeParametersData.Builder datab = SubscribeParametersData.newBuilder();
                 for (ParameterValueWithId pvwi : params) {
                     ParameterValue pval = pvwi.getParameterValue();
@@ -154,6 +174,86 @@ public class SubscribeParameterObserver implements Observer<SubscribeParametersR
         }
     }
 
+    void setUpdateInterval(int interval) {
+        synchronized (pendingValues) {
+            if (interval == updateInterval) {
+                return;
+            }
+            if (flushFuture != null) {
+                flushFuture.cancel(false);
+                flushFuture = null;
+            }
+            updateInterval = interval;
+            if (interval > 0) {
+                var exec = YamcsServer.getServer().getThreadPoolExecutor();
+                flushFuture = exec.scheduleAtFixedRate(this::flush, interval, interval, TimeUnit.MILLISECONDS);
+                responseObserver.setOnReadyHandler(this::onReady);
+            } else {
+                // send what is pending before the next updates, which are sent without delay
+                flush(true);
+            }
+        }
+    }
+
+    /**
+     * Keeps only the latest value of each parameter until the next flush
+     */
+    void conflate(List<ParameterValueWithId> params) {
+        synchronized (pendingValues) {
+            for (ParameterValueWithId pvwi : params) {
+                Integer numericId = numericIdMap.get(pvwi.getId());
+                if (numericId != null) {
+                    pendingValues.put(numericId, pvwi.getParameterValue());
+                }
+            }
+        }
+    }
+
+    /**
+     * Sends the pending values, unless the response observer is congested in which case the values are kept (and
+     * further conflated) until the next flush or until the observer becomes ready.
+     */
+    void flush() {
+        flush(false);
+    }
+
+    private void flush(boolean force) {
+        synchronized (pendingValues) {
+            if (pendingValues.isEmpty()) {
+                return;
+            }
+            if (!force && !responseObserver.isReady()) {
+                flushDeferred = true;
+                return;
+            }
+            flushDeferred = false;
+            SubscribeParametersData.Builder datab = SubscribeParametersData.newBuilder();
+            pendingValues.forEach((numericId, pval) -> datab.addValues(toGpb(pval, numericId)));
+            pendingValues.clear();
+            // send while holding the lock such that the messages are not reordered
+            responseObserver.next(datab.build());
+        }
+    }
+
+    // called when the response observer becomes ready again
+    void onReady() {
+        synchronized (pendingValues) {
+            if (flushDeferred) {
+                flush();
+            }
+        }
+    }
+
+    private void stopFlushing() {
+        synchronized (pendingValues) {
+            if (flushFuture != null) {
+                flushFuture.cancel(false);
+                flushFuture = null;
+            }
+            pendingValues.clear();
+        }
+    }
+
     private SubscribedParameterInfo generateInfo(NamedObjectId id) {
         var infob = SubscribedParameterInfo.newBuilder();
         try {
@@ -236,6 +336,7 @@ public class SubscribeParameterObserver implements Observer<SubscribeParametersR
         if (pidrm != null) {
             pidrm.quit();
         }
+        stopFlushing();
     }
 
     @Override
@@ -243,5 +344,6 @@ public class SubscribeParameterObserver implements Observer<SubscribeParametersR
         if (pidrm != null) {
             pidrm.quit();
         }
+        stopFlushing();
     }
 }
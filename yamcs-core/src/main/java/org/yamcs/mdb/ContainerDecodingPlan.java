@@ -0,0 +1,256 @@
+package org.yamcs.mdb;
+
+import java.util.List;
+
+import org.yamcs.mdb.SubscribedContainer.InheritingContainer;
+import org.yamcs.xtce.ArrayParameterEntry;
+import org.yamcs.xtce.BaseDataType;
+import org.yamcs.xtce.BinaryDataEncoding;
+import org.yamcs.xtce.BooleanDataEncoding;
+import org.yamcs.xtce.DataEncoding;
+import org.yamcs.xtce.FloatDataEncoding;
+import org.yamcs.xtce.IntegerDataEncoding;
+import org.yamcs.xtce.ParameterEntry;
+import org.yamcs.xtce.ParameterType;
+import org.yamcs.xtce.SequenceContainer;
+import org.yamcs.xtce.SequenceEntry;
+import org.yamcs.xtce.SequenceEntry.ReferenceLocationType;
+import org.yamcs.xtce.StringDataEncoding;
+
+/**
+ * Flat representation of a {@link SubscribedContainer} computed once and reused for all the packets.
+ * <p>
+ * Each subscribed entry is translated into a {@link Step} where the include condition evaluator, the data encoding of
+ * simple parameter entries and, whenever possible, the bit position of the entry are resolved in advance. The position
+ * is known in advance if the entry is located relative to the container start or if it follows an entry with a known
+ * position and a fixed size.
+ * <p>
+ * The plan is bound to the subscription at the time of the compilation; {@link SubscribedContainer} discards it each
+ * time the list of entries or inheriting containers changes.
+ */
+public class ContainerDecodingPlan {
+
+    enum PositionType {
+        /** the position is an absolute bit position in the buffer */
+        ABSOLUTE,
+        /** the position is relative to the buffer position where the container extraction has started */
+        FROM_START,
+        /** the position is relative to the end of the previous extracted entry and it is computed at runtime */
+        DYNAMIC
+    }
+
+    static final class Step {
+        final SequenceEntry entry;
+        /** null if the entry does not have an include condition */
+        final MatchCriteriaEvaluator includeEvaluator;
+        final PositionType positionType;
+        /** the bit position, interpreted according to the {@link #positionType} */
+        final int position;
+        /** the encoding of non repeated parameter entries having a base data type; null for all other entries */
+        final DataEncoding encoding;
+        /** the size in bits of the entry if known in advance, -1 otherwise */
+        final int sizeInBits;
+
+        Step(SequenceEntry entry, MatchCriteriaEvaluator includeEvaluator, PositionType positionType, int position,
+                DataEncoding encoding, int sizeInBits) {
+            this.entry = entry;
+            this.includeEvaluator = includeEvaluator;
+            this.positionType = positionType;
+            this.position = position;
+            this.encoding = encoding;
+            this.sizeInBits = sizeInBits;
+        }
+
+        @Override
+        public String toString() {
+            return entry + " position: " + positionType + "(" + position + ") size: " + sizeInBits;
+        }
+    }
+
+    /**
+     * number of packets processed with a fixed layout plan before generating its {@link ContainerExtractor}
+     */
+    static final int GENERATION_THRESHOLD = 100;
+
+    final SequenceContainer container;
+    final Step[] steps;
+    final InheritingContainer[] inheritingContainers;
+
+    /**
+     * true if all the entries have a static position, a fixed size, no include condition and an encoding supported
+     * by the {@link ContainerExtractorFactory}
+     */
+    final boolean fixedLayout;
+    /** the maximum end position of the steps positioned relative to the start or -1 if there is no such step */
+    final int fromStartEnd;
+    /** the maximum end position of the steps with absolute position or -1 if there is no such step */
+    final int absoluteEnd;
+
+    private ContainerExtractor extractor;
+    private int useCount;
+
+    private ContainerDecodingPlan(SequenceContainer container, Step[] steps,
+            InheritingContainer[] inheritingContainers) {
+        this.container = container;
+        this.steps = steps;
+        this.inheritingContainers = inheritingContainers;
+
+        boolean fixed = steps.length > 0;
+        int fse = -1;
+        int ae = -1;
+        for (Step step : steps) {
+            if (step.positionType == PositionType.DYNAMIC || step.includeEvaluator != null || step.sizeInBits <= 0
+                    || !ContainerExtractorFactory.isSupported(step.encoding)) {
+                fixed = false;
+                break;
+            }
+            int end = step.position + step.sizeInBits;
+            if (step.positionType == PositionType.FROM_START) {
+                fse = Math.max(fse, end);
+            } else {
+                ae = Math.max(ae, end);
+            }
+        }
+        this.fixedLayout = fixed;
+        this.fromStartEnd = fse;
+        this.absoluteEnd = ae;
+    }
+
+    /**
+     * Returns true if the entries of a fixed layout plan extracted from the given start position are all inside the
+     * buffer.
+     */
+    boolean fits(int startPosition, int sizeInBits) {
+        return startPosition + fromStartEnd <= sizeInBits && absoluteEnd <= sizeInBits;
+    }
+
+    /**
+     * Returns the generated extractor of a fixed layout plan or null if it has not (yet) been generated.
+     * <p>
+     * The extractor is generated after the plan has been used {@link #GENERATION_THRESHOLD} times such that the
+     * containers which are seldom received or whose subscription is still changing do not pay the compilation price.
+     */
+    ContainerExtractor getExtractor() {
+        if (extractor == null && fixedLayout && ++useCount == GENERATION_THRESHOLD) {
+            extractor = ContainerExtractorFactory.generate(this);
+        }
+        return extractor;
+    }
+
+    /**
+     * Compiles the plan for the current subscription of the container.
+     * <p>
+     * The include condition evaluators are taken from the processor data such that they are shared with the
+     * interpreted processing.
+     */
+    static ContainerDecodingPlan compile(ProcessorData pdata, SubscribedContainer subscribedContainer) {
+        List<SequenceEntry> entries = subscribedContainer.entries;
+        Step[] steps = new Step[entries.size()];
+
+        // position type and end of the previous entry; an entry in the front of the container is "following" the
+        // position where the extraction starts
+        PositionType prevType = PositionType.FROM_START;
+        int prevEnd = 0;
+        SequenceEntry prev = null;
+
+        for (int i = 0; i < steps.length; i++) {
+            SequenceEntry se = entries.get(i);
+            PositionType positionType;
+            int position;
+            if (se.getReferenceLocation() == ReferenceLocationType.CONTAINER_START) {
+                positionType = PositionType.ABSOLUTE;
+                position = se.getLocationInContainerInBits();
+            } else if (prevType != PositionType.DYNAMIC && follows(prev, se)) {
+                positionType = prevType;
+                position = prevEnd + se.getLocationInContainerInBits();
+            } else {
+                positionType = PositionType.DYNAMIC;
+                position = se.getLocationInContainerInBits();
+            }
+            MatchCriteriaEvaluator evaluator = se.getIncludeCondition() == null ? null
+                    : pdata.getEvaluator(se.getIncludeCondition());
+            DataEncoding encoding = getBaseEncoding(se);
+            int sizeInBits = encoding == null ? -1 : getFixedSizeInBits(encoding);
+
+            steps[i] = new Step(se, evaluator, positionType, position, encoding, sizeInBits);
+
+            if (positionType != PositionType.DYNAMIC && sizeInBits >= 0 && evaluator == null) {
+                prevType = positionType;
+                prevEnd = position + sizeInBits;
+            } else {
+                prevType = PositionType.DYNAMIC;
+            }
+            prev = se;
+        }
+
+        return new ContainerDecodingPlan(subscribedContainer.conainerDef, steps,
+                subscribedContainer.inheritingContainers.toArray(new InheritingContainer[0]));
+    }
+
+    /**
+     * returns true if se is extracted right after prev; prev is null if se is the first subscribed entry
+     */
+    private static boolean follows(SequenceEntry prev, SequenceEntry se) {
+        if (prev == null) {
+            return se.getIndex() == 0;
+        } else {
+            return prev.getIndex() == se.getIndex() - 1;
+        }
+    }
+
+    /**
+     * If the entry is a non repeated parameter entry having a base data type, return its encoding, otherwise return
+     * null.
+     */
+    static DataEncoding getBaseEncoding(SequenceEntry se) {
+        if (!(se instanceof ParameterEntry) || se instanceof ArrayParameterEntry || se.getRepeatEntry() != null) {
+            return null;
+        }
+        ParameterType ptype = ((ParameterEntry) se).getParameter().getParameterType();
+        if (ptype instanceof BaseDataType) {
+            return ((BaseDataType) ptype).getEncoding();
+        }
+        return null;
+    }
+
+    /**
+     * Returns the number of bits consumed by the {@link DataEncodingDecoder} when extracting a value with the given
+     * encoding or -1 if the size depends on the data.
+     */
+    static int getFixedSizeInBits(DataEncoding de) {
+        if (de.getFromBinaryTransformAlgorithm() != null) {
+            return -1;
+        }
+        if (de instanceof IntegerDataEncoding) {
+            IntegerDataEncoding ide = (IntegerDataEncoding) de;
+            return ide.getEncoding() == IntegerDataEncoding.Encoding.STRING ? -1 : ide.getSizeInBits();
+        } else if (de instanceof FloatDataEncoding) {
+            FloatDataEncoding fde = (FloatDataEncoding) de;
+            if (fde.getEncoding() == FloatDataEncoding.Encoding.STRING) {
+                return -1;
+            }
+            return fde.getSizeInBits() == 32 ? 32 : 64;
+        } else if (de instanceof BooleanDataEncoding) {
+            return 1;
+        } else if (de instanceof BinaryDataEncoding) {
+            BinaryDataEncoding bde = (BinaryDataEncoding) de;
+            return bde.getType() == BinaryDataEncoding.Type.FIXED_SIZE ? (bde.getSizeInBits() >>> 3) << 3 : -1;
+        } else if (de instanceof StringDataEncoding) {
+            StringDataEncoding sde = (StringDataEncoding) de;
+            // the string occupies the whole buffer whatever the size type
+            if (sde.getDynamicBufferSize() == null && sde.getSizeInBits() > 0) {
+                return (sde.getSizeInBits() >>> 3) << 3;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (Step step : steps) {
+            sb.append("\t").append(step).append("\n");
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,25 @@
+package org.yamcs.mdb;
+
+import org.yamcs.utils.BitBuffer;
+
+/**
+ * Extracts all the entries of a fixed layout container with straight-line code.
+ * <p>
+ * The implementations are generated at runtime by {@link ContainerExtractorFactory}.
+ */
+public interface ContainerExtractor {
+
+    /**
+     * Extract the entries from the buffer and pass them to the sequence entry processor.
+     * <p>
+     * The caller has to verify that all the entries fit inside the buffer.
+     *
+     * @param sep
+     *            - collects the extracted values
+     * @param buf
+     *            - the buffer containing the packet
+     * @param startPosition
+     *            - bit position in the buffer where the container extraction starts
+     */
+    void extract(SequenceEntryProcessor sep, BitBuffer buf, int startPosition);
+}
@@ -0,0 +1,141 @@
+package org.yamcs.mdb;
+
+import java.lang.reflect.Constructor;
+import java.nio.ByteOrder;
+
+import org.codehaus.janino.SimpleCompiler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.yamcs.mdb.ContainerDecodingPlan.PositionType;
+import org.yamcs.mdb.ContainerDecodingPlan.Step;
+import org.yamcs.xtce.BooleanDataEncoding;
+import org.yamcs.xtce.DataEncoding;
+import org.yamcs.xtce.FloatDataEncoding;
+import org.yamcs.xtce.IntegerDataEncoding;
+import org.yamcs.xtce.ParameterEntry;
+
+/**
+ * Generates with Janino a {@link ContainerExtractor} for the fixed layout {@link ContainerDecodingPlan}s.
+ * <p>
+ * The generated code reads each entry at its precomputed position with the encoding specific operations inlined,
+ * avoiding the generic dispatch in the {@link DataEncodingDecoder}.
+ */
+public class ContainerExtractorFactory {
+    static final Logger log = LoggerFactory.getLogger(ContainerExtractorFactory.class);
+    static final String PACKAGE_NAME = "org.yamcs.mdb.generated";
+
+    /**
+     * Returns true if the generated code can decode values with the given encoding.
+     */
+    static boolean isSupported(DataEncoding de) {
+        if (de == null || de.getFromBinaryTransformAlgorithm() != null) {
+            return false;
+        }
+        if (de instanceof IntegerDataEncoding) {
+            IntegerDataEncoding ide = (IntegerDataEncoding) de;
+            return ide.getEncoding() == IntegerDataEncoding.Encoding.UNSIGNED
+                    || ide.getEncoding() == IntegerDataEncoding.Encoding.TWOS_COMPLEMENT;
+        } else if (de instanceof FloatDataEncoding) {
+            return ((FloatDataEncoding) de).getEncoding() == FloatDataEncoding.Encoding.IEEE754_1985;
+        } else {
+            return de instanceof BooleanDataEncoding;
+        }
+    }
+
+    /**
+     * Generates and instantiates the extractor for a fixed layout plan.
+     *
+     * @return the extractor or null if the code could not be compiled; the plan can still be used for interpreted
+     *         processing.
+     */
+    static ContainerExtractor generate(ContainerDecodingPlan plan) {
+        String className = "Extractor" + plan.container.getQualifiedName().replaceAll("[^A-Za-z0-9_]", "_");
+        String code = generateClassCode(className, plan);
+        try {
+            log.debug("Compiling:\n{}", code);
+            SimpleCompiler compiler = new SimpleCompiler();
+            compiler.cook(code);
+            Class<?> extractorClass = compiler.getClassLoader().loadClass(PACKAGE_NAME + "." + className);
+            Constructor<?> constructor = extractorClass.getConstructor(ParameterEntry[].class);
+
+            ParameterEntry[] entries = new ParameterEntry[plan.steps.length];
+            for (int i = 0; i < entries.length; i++) {
+                entries[i] = (ParameterEntry) plan.steps[i].entry;
+            }
+            return (ContainerExtractor) constructor.newInstance((Object) entries);
+        } catch (Exception e) {
+            log.warn("Cannot generate the extractor for container {}, using the decoding plan",
+                    plan.container.getQualifiedName(), e);
+            return null;
+        }
+    }
+
+    static String generateClassCode(String className, ContainerDecodingPlan plan) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("package ").append(PACKAGE_NAME).append(";\n")
+                .append("import java.nio.ByteOrder;\n")
+                .append("import org.yamcs.mdb.SequenceEntryProcessor;\n")
+                .append("import org.yamcs.utils.BitBuffer;\n")
+                .append("import org.yamcs.utils.ValueUtility;\n")
+                .append("import org.yamcs.xtce.ParameterEntry;\n")
+                .append("public class ").append(className).append(" implements org.yamcs.mdb.ContainerExtractor {\n")
+                .append("    private final ParameterEntry[] entries;\n")
+                .append("    public ").append(className).append("(ParameterEntry[] entries) {\n")
+                .append("        this.entries = entries;\n")
+                .append("    }\n")
+                .append("    public void extract(SequenceEntryProcessor sep, BitBuffer buf, int start) {\n")
+                .append("        int p;\n")
+                .append("        long v;\n");
+
+        for (int i = 0; i < plan.steps.length; i++) {
+            Step step = plan.steps[i];
+            DataEncoding de = step.encoding;
+            sb.append("        // ").append(((ParameterEntry) step.entry).getParameter().getName()).append("\n");
+            if (step.positionType == PositionType.FROM_START) {
+                sb.append("        p = start + ").append(step.position).append(";\n");
+            } else {
+                sb.append("        p = ").append(step.position).append(";\n");
+            }
+            sb.append("        buf.setPosition(p);\n");
+            sb.append("        buf.setByteOrder(ByteOrder.")
+                    .append(de.getByteOrder() == ByteOrder.LITTLE_ENDIAN ? "LITTLE_ENDIAN" : "BIG_ENDIAN")
+                    .append(");\n");
+            sb.append("        v = buf.getBits(").append(step.sizeInBits).append(");\n");
+            sb.append("        sep.addRawValue(entries[").append(i).append("], ").append(rawValueExpression(de))
+                    .append(", p);\n");
+        }
+        sb.append("    }\n")
+                .append("}\n");
+        return sb.toString();
+    }
+
+    /**
+     * The expression converting the long v read from the buffer into the raw value, equivalent to the conversion
+     * done by the {@link DataEncodingDecoder}.
+     */
+    private static String rawValueExpression(DataEncoding de) {
+        if (de instanceof IntegerDataEncoding) {
+            IntegerDataEncoding ide = (IntegerDataEncoding) de;
+            int numBits = ide.getSizeInBits();
+            boolean unsigned = ide.getEncoding() == IntegerDataEncoding.Encoding.UNSIGNED;
+            String value = unsigned || numBits == 64 ? "v"
+                    : "((v << " + (64 - numBits) + ") >> " + (64 - numBits) + ")";
+            if (numBits <= 32) {
+                return (unsigned ? "ValueUtility.getUint32Value((int) " : "ValueUtility.getSint32Value((int) ")
+                        + value + ")";
+            } else {
+                return (unsigned ? "ValueUtility.getUint64Value(" : "ValueUtility.getSint64Value(") + value + ")";
+            }
+        } else if (de instanceof FloatDataEncoding) {
+            if (de.getSizeInBits() == 32) {
+                return "ValueUtility.getFloatValue(Float.intBitsToFloat((int) v))";
+            } else {
+                return "ValueUtility.getDoubleValue(Double.longBitsToDouble(v))";
+            }
+        } else if (de instanceof BooleanDataEncoding) {
+            return "ValueUtility.getBooleanValue(v != 0)";
+        } else {
+            throw new IllegalArgumentException("Unsupported encoding " + de);
+        }
+    }
+}
@@ -29,11 +29,38 @@ public class ContainerProcessingOptions {
 
     int maxArraySize = 10000;
 
+    /**
+     * If set to true, each subscribed container is translated into a {@link ContainerDecodingPlan} which is reused
+     * for all the packets instead of walking the container definition for each packet.
+     */
+    boolean decodingPlan = false;
+
+    /**
+     * If set to true (together with {@link #decodingPlan}), a {@link ContainerExtractor} is generated for the
+     * frequently received containers having a fixed layout.
+     */
+    boolean generateExtractors = false;
+
+    /**
+     * If greater than 1, the realtime packets are decoded in parallel on this number of threads, see
+     * {@link ParallelTmDecoder}
+     */
+    int decodingThreads = 1;
+
+    /**
+     * Maximum number of packets waiting to be decoded and delivered when decoding in parallel
+     */
+    int decodingQueueSize = 1024;
+
     public ContainerProcessingOptions(YConfiguration config) {
         if (config != null) {
             ignoreOutOfContainerEntries = config.getBoolean("ignoreOutOfContainerEntries", false);
             expirationTolerance = config.getDouble("expirationTolerance", expirationTolerance);
             maxArraySize = config.getInt("maxArraySize", maxArraySize);
+            decodingPlan = config.getBoolean("decodingPlan", decodingPlan);
+            generateExtractors = config.getBoolean("generateExtractors", generateExtractors);
+            decodingThreads = config.getInt("decodingThreads", decodingThreads);
+            decodingQueueSize = config.getInt("decodingQueueSize", decodingQueueSize);
         }
     }
 
@@ -42,6 +69,10 @@ public class ContainerProcessingOptions {
         spec.addOption("ignoreOutOfContainerEntries", OptionType.BOOLEAN).withDefault(false);
         spec.addOption("expirationTolerance", OptionType.FLOAT).withDefault(1.9);
         spec.addOption("maxArraySize", OptionType.INTEGER).withDefault(10000);
+        spec.addOption("decodingPlan", OptionType.BOOLEAN).withDefault(false);
+        spec.addOption("generateExtractors", OptionType.BOOLEAN).withDefault(false);
+        spec.addOption("decodingThreads", OptionType.INTEGER).withDefault(1);
+        spec.addOption("decodingQueueSize", OptionType.INTEGER).withDefault(1024);
 
         return spec;
     }
@@ -80,4 +111,36 @@ public class ContainerProcessingOptions {
     public int getMaxArraySize() {
         return maxArraySize;
     }
+
+    public boolean useDecodingPlan() {
+        return decodingPlan;
+    }
+
+    public void setDecodingPlan(boolean decodingPlan) {
+        this.decodingPlan = decodingPlan;
+    }
+
+    public boolean generateExtractors() {
+        return generateExtractors;
+    }
+
+    public void setGenerateExtractors(boolean generateExtractors) {
+        this.generateExtractors = generateExtractors;
+    }
+
+    public int getDecodingThreads() {
+        return decodingThreads;
+    }
+
+    public void setDecodingThreads(int decodingThreads) {
+        this.decodingThreads = decodingThreads;
+    }
+
+    public int getDecodingQueueSize() {
+        return decodingQueueSize;
+    }
+
+    public void setDecodingQueueSize(int decodingQueueSize) {
+        this.decodingQueueSize = decodingQueueSize;
+    }
 }
@@ -0,0 +1,209 @@
+package org.yamcs.mdb;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.yamcs.TmPacket;
+import org.yamcs.logging.Log;
+import org.yamcs.xtce.Parameter;
+import org.yamcs.xtce.SequenceContainer;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+/**
+ * Decodes the packets of one processor on a pool of worker threads.
+ * <p>
+ * Each worker has its own {@link XtceTmExtractor} (with an identical subscription) and the packets are partitioned
+ * on the workers by root container and CCSDS APID, such that the packets having the same APID are decoded in order
+ * by the same worker.
+ * <p>
+ * The results are delivered in the order in which the packets have been received, independent of the worker which
+ * decoded them. The delivery is performed by the worker which completes the oldest pending packet.
+ * <p>
+ * Because the decoding of a packet may overlap with the decoding of packets received before, the values of
+ * parameters from other packets used in the decoding (e.g. in include conditions or dynamic sizes) may not yet
+ * reflect the packets received just before.
+ */
+public class ParallelTmDecoder {
+    final XtceTmExtractor[] extractors;
+    final ExecutorService[] workers;
+    final ProcessingStatistics stats = new ProcessingStatistics();
+
+    final ConcurrentLinkedQueue<PendingPacket> pending = new ConcurrentLinkedQueue<>();
+    final Semaphore slots;
+    final Consumer<ContainerProcessingResult> consumer;
+    final Object deliveryLock = new Object();
+    final Log log;
+
+    /**
+     * @param name
+     *            - used for naming the worker threads
+     * @param numThreads
+     *            - number of worker threads
+     * @param queueSize
+     *            - number of packets received and not yet delivered, after which the caller of
+     *            {@link #processPacket(TmPacket, SequenceContainer, long)} is blocked
+     * @param consumer
+     *            - receives the results in order
+     */
+    public ParallelTmDecoder(Mdb mdb, ProcessorData pdata, String name, int numThreads, int queueSize,
+            Consumer<ContainerProcessingResult> consumer, Log log) {
+        this.consumer = consumer;
+        this.log = log;
+        this.slots = new Semaphore(queueSize);
+        extractors = new XtceTmExtractor[numThreads];
+        workers = new ExecutorService[numThreads];
+        for (int i = 0; i < numThreads; i++) {
+            extractors[i] = new XtceTmExtractor(mdb, pdata, stats);
+            workers[i] = Executors.newSingleThreadExecutor(
+                    new ThreadFactoryBuilder().setNameFormat("TmDecoder-" + name + "-" + i).build());
+        }
+    }
+
+    /**
+     * Queues the packet for decoding. Blocks if there are too many packets pending.
+     */
+    public void processPacket(TmPacket pkt, SequenceContainer rootContainer, long rectime) {
+        PendingPacket pp = new PendingPacket(pkt, rootContainer, rectime);
+        try {
+            slots.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        int k = partition(pkt.getPacket(), rootContainer);
+        // the order in the pending queue has to be the same as the order in the worker queue
+        synchronized (pending) {
+            pending.add(pp);
+            try {
+                workers[k].execute(() -> decode(extractors[k], pp));
+            } catch (RejectedExecutionException e) {
+                log.warn("Packet received after shutdown, ignoring it");
+                // not done, so it cannot have been delivered in the meantime
+                pending.remove(pp);
+                slots.release();
+            }
+        }
+    }
+
+    private void decode(XtceTmExtractor extractor, PendingPacket pp) {
+        try {
+            TmPacket pkt = pp.pkt;
+            pp.result = extractor.processPacket(pkt.getPacket(), pkt.getGenerationTime(), pp.rectime,
+                    pkt.getSeqCount(), pp.rootContainer);
+        } catch (Exception e) {
+            log.error("Exception while processing packet", e);
+        }
+        pp.done = true;
+        deliver();
+    }
+
+    /**
+     * Delivers the completed packets from the head of the queue.
+     */
+    private void deliver() {
+        synchronized (deliveryLock) {
+            PendingPacket pp;
+            while ((pp = pending.peek()) != null && pp.done) {
+                pending.poll();
+                slots.release();
+                if (pp.result != null) {
+                    try {
+                        consumer.accept(pp.result);
+                    } catch (Exception e) {
+                        log.error("Exception while delivering the processing result", e);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Packets with the same root container and APID are always sent to the same worker.
+     */
+    int partition(byte[] packet, SequenceContainer rootContainer) {
+        int apid = packet.length >= 2 ? ((packet[0] & 0x07) << 8) | (packet[1] & 0xFF) : 0;
+        int h = 31 * System.identityHashCode(rootContainer) + apid;
+        return Math.floorMod(h, workers.length);
+    }
+
+    public void startProviding(Parameter param) {
+        for (XtceTmExtractor extractor : extractors) {
+            extractor.startProviding(param);
+        }
+    }
+
+    public void startProviding(SequenceContainer container) {
+        for (XtceTmExtractor extractor : extractors) {
+            extractor.startProviding(container);
+        }
+    }
+
+    public void stopProviding(Parameter param) {
+        for (XtceTmExtractor extractor : extractors) {
+            extractor.stopProviding(param);
+        }
+    }
+
+    public void stopProviding(SequenceContainer container) {
+        for (XtceTmExtractor extractor : extractors) {
+            extractor.stopProviding(container);
+        }
+    }
+
+    public void provideAll() {
+        for (XtceTmExtractor extractor : extractors) {
+            extractor.provideAll();
+        }
+    }
+
+    /**
+     * All the extractors have the same subscription, this returns the one of the first extractor.
+     */
+    public Subscription getSubscription() {
+        return extractors[0].getSubscription();
+    }
+
+    public ProcessingStatistics getStatistics() {
+        return stats;
+    }
+
+    public void resetStatistics() {
+        stats.reset();
+    }
+
+    /**
+     * Stops the workers after decoding and delivering the queued packets.
+     */
+    public void shutdown() {
+        for (ExecutorService worker : workers) {
+            worker.shutdown();
+        }
+        try {
+            for (ExecutorService worker : workers) {
+                worker.awaitTermination(10, TimeUnit.SECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    static class PendingPacket {
+        final TmPacket pkt;
+        final SequenceContainer rootContainer;
+        final long rectime;
+        volatile ContainerProcessingResult result;
+        volatile boolean done;
+
+        PendingPacket(TmPacket pkt, SequenceContainer rootContainer, long rectime) {
+            this.pkt = pkt;
+            this.rootContainer = rootContainer;
+            this.rectime = rectime;
+        }
+    }
+}
@@ -16,13 +16,16 @@ public class ProcessingStatistics {
     public void newPacket(String pname, int subscribedParameterCount, long acquisitionTime,
             long generationTime, int sizeInBits) {
         TmStats s = stats.computeIfAbsent(pname, p -> new TmStats());
-        s.pname = pname;
-        s.receivedPackets++;
-        s.subscribedParameterCount = subscribedParameterCount;
-        s.lastReceived = acquisitionTime;
-        s.lastPacketTime = generationTime;
-        s.packetRateMeter.mark(1);
-        s.dataRateMeter.mark(sizeInBits);
+        // the packets may be decoded in parallel
+        synchronized (s) {
+            s.pname = pname;
+            s.receivedPackets++;
+            s.subscribedParameterCount = subscribedParameterCount;
+            s.lastReceived = acquisitionTime;
+            s.lastPacketTime = generationTime;
+            s.packetRateMeter.mark(1);
+            s.dataRateMeter.mark(sizeInBits);
+        }
         lastUpdated = System.currentTimeMillis();
     }
 
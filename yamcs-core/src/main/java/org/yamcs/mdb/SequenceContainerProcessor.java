@@ -5,6 +5,7 @@ import java.nio.BufferUnderflowException;
 import java.util.List;
 
 import org.yamcs.ContainerExtractionResult;
+import org.yamcs.mdb.ContainerDecodingPlan.Step;
 import org.yamcs.mdb.MatchCriteriaEvaluator.MatchResult;
 import org.yamcs.mdb.SubscribedContainer.InheritingContainer;
 import org.yamcs.utils.BitBuffer;
@@ -22,22 +23,16 @@ public class SequenceContainerProcessor {
 
     public void extract(SubscribedContainer subscribedContainer) throws XtceProcessingException {
         ProcessorData pdata = pcontext.proccessorData;
-        SequenceContainer containerDef = subscribedContainer.conainerDef;
         ContainerProcessingResult result = pcontext.result;
         ContainerProcessingOptions options = pcontext.options;
 
-        BitBuffer buf = pcontext.buffer;
-        // First add it to the result
-        if (pcontext.provideContainerResult) {
-            result.containers.add(new ContainerExtractionResult(containerDef,
-                    buf.array(), buf.offset(), buf.getPosition(),
-                    result.acquisitionTime, result.generationTime, result.seqCount, pcontext.derivedFromRoot));
+        if (options.useDecodingPlan()) {
+            extract(subscribedContainer, subscribedContainer.getDecodingPlan(pdata));
+            return;
         }
+        startContainer(subscribedContainer);
 
-        RateInStream ris = containerDef.getRateInStream();
-        if ((ris != null) && ris.getMaxInterval() > 0) {
-            result.expireMillis = (long) (options.getExpirationTolerance() * ris.getMaxInterval());
-        }
+        BitBuffer buf = pcontext.buffer;
         int maxposition = buf.getPosition();
 
         // then extract the entries
@@ -79,22 +74,7 @@ public class SequenceContainerProcessor {
                     }
                 }
             } catch (BufferUnderflowException | BufferOverflowException | IndexOutOfBoundsException e) {
-                if (se instanceof ParameterEntry) {
-                    ParameterEntry pe = (ParameterEntry) se;
-                    throw new XtceProcessingException(
-                            "Could not extract parameter " + pe.getParameter().getQualifiedName()
-                                    + " from container " + se.getContainer().getQualifiedName()
-                                    + " at position " + position
-                                    + " because it falls beyond the end of the container. Container size in bits: "
-                                    + buf.sizeInBits());
-                } else {
-                    throw new XtceProcessingException("Could not extract entry " + se + "of size "
-                            + buf.sizeInBits() + "bits from container " + se.getContainer().getQualifiedName()
-                            + " position " + position
-                            + "because it falls beyond the end of the container. Container size in bits: "
-                            + buf.sizeInBits());
-                }
-
+                throw outOfContainerException(se, position);
             }
             if (buf.getPosition() > maxposition) {
                 maxposition = buf.getPosition();
@@ -117,4 +97,133 @@ public class SequenceContainerProcessor {
         }
         buf.setPosition(maxposition);
     }
+
+    /**
+     * Same as {@link #extract(SubscribedContainer)} but using the precompiled plan.
+     */
+    private void extract(SubscribedContainer subscribedContainer, ContainerDecodingPlan plan)
+            throws XtceProcessingException {
+        ContainerProcessingResult result = pcontext.result;
+        ContainerProcessingOptions options = pcontext.options;
+        SequenceEntryProcessor sep = pcontext.sequenceEntryProcessor;
+
+        startContainer(subscribedContainer);
+
+        BitBuffer buf = pcontext.buffer;
+        int startPosition = buf.getPosition();
+        int maxposition = startPosition;
+
+        ContainerExtractor extractor = options.generateExtractors() ? plan.getExtractor() : null;
+        if (extractor != null && plan.fits(startPosition, buf.sizeInBits())) {
+            extractor.extract(sep, buf, startPosition);
+            maxposition = Math.max(maxposition, Math.max(startPosition + plan.fromStartEnd, plan.absoluteEnd));
+        } else {
+            maxposition = extractSteps(plan, startPosition);
+        }
+
+        int bitp = buf.getPosition();
+        for (InheritingContainer inherited : plan.inheritingContainers) {
+            if (inherited.matches(result) == MatchResult.OK) {
+                buf.setPosition(bitp);
+                extract(inherited.container);
+                if (buf.getPosition() > maxposition) {
+                    maxposition = buf.getPosition();
+                }
+            }
+        }
+        buf.setPosition(maxposition);
+    }
+
+    /**
+     * Extracts one by one the entries of the plan and returns the maximum position reached
+     */
+    private int extractSteps(ContainerDecodingPlan plan, int startPosition) {
+        ContainerProcessingResult result = pcontext.result;
+        ContainerProcessingOptions options = pcontext.options;
+        SequenceEntryProcessor sep = pcontext.sequenceEntryProcessor;
+        BitBuffer buf = pcontext.buffer;
+        int maxposition = startPosition;
+
+        for (Step step : plan.steps) {
+            SequenceEntry se = step.entry;
+            int position = buf.getPosition();
+            try {
+                if (step.includeEvaluator != null && step.includeEvaluator.evaluate(result) != MatchResult.OK) {
+                    continue;
+                }
+                switch (step.positionType) {
+                case ABSOLUTE:
+                    buf.setPosition(step.position);
+                    break;
+                case FROM_START:
+                    buf.setPosition(startPosition + step.position);
+                    break;
+                default:
+                    buf.setPosition(buf.getPosition() + step.position);
+                }
+
+                if (options.ignoreOutOfContainerEntries() && (buf.getPosition() >= buf.sizeInBits())) {
+                    break;
+                }
+                position = buf.getPosition();
+
+                if (step.encoding != null) {
+                    sep.extractParameterEntry((ParameterEntry) se, step.encoding);
+                } else if (se.getRepeatEntry() == null) {
+                    sep.extract(se);
+                } else {
+                    long n = pcontext.getIntegerValue(se.getRepeatEntry().getCount());
+                    for (int i = 0; i < n; i++) {
+                        sep.extract(se);
+                        buf.setPosition(buf.getPosition() + se.getRepeatEntry().getOffsetSizeInBits());
+                    }
+                }
+            } catch (BufferUnderflowException | BufferOverflowException | IndexOutOfBoundsException e) {
+                throw outOfContainerException(se, position);
+            }
+            if (buf.getPosition() > maxposition) {
+                maxposition = buf.getPosition();
+            }
+        }
+        return maxposition;
+    }
+
+    /**
+     * Adds the container to the result (if required) and sets the expiration time of its parameters
+     */
+    private void startContainer(SubscribedContainer subscribedContainer) {
+        SequenceContainer containerDef = subscribedContainer.conainerDef;
+        ContainerProcessingResult result = pcontext.result;
+        BitBuffer buf = pcontext.buffer;
+
+        if (pcontext.provideContainerResult) {
+            result.containers.add(new ContainerExtractionResult(containerDef,
+                    buf.array(), buf.offset(), buf.getPosition(),
+                    result.acquisitionTime, result.generationTime, result.seqCount, pcontext.derivedFromRoot));
+        }
+
+        RateInStream ris = containerDef.getRateInStream();
+        if ((ris != null) && ris.getMaxInterval() > 0) {
+            result.expireMillis = (long) (pcontext.options.getExpirationTolerance() * ris.getMaxInterval());
+        }
+    }
+
+    private XtceProcessingException outOfContainerException(SequenceEntry se, int position) {
+        BitBuffer buf = pcontext.buffer;
+        if (se instanceof ParameterEntry) {
+            ParameterEntry pe = (ParameterEntry) se;
+            return new XtceProcessingException(
+                    "Could not extract parameter " + pe.getParameter().getQualifiedName()
+                            + " from container " + se.getContainer().getQualifiedName()
+                            + " at position " + position
+                            + " because it falls beyond the end of the container. Container size in bits: "
+                            + buf.sizeInBits());
+        } else {
+            return new XtceProcessingException("Could not extract entry " + se + "of size "
+                    + buf.sizeInBits() + "bits from container " + se.getContainer().getQualifiedName()
+                    + " position " + position
+                    + "because it falls beyond the end of the container. Container size in bits: "
+                    + buf.sizeInBits());
+        }
+    }
 }
@@ -90,8 +90,6 @@ public class SequenceEntryProcessor {
     }
 
     private ContainerParameterValue extractParameter(Parameter param) {
-        ContainerProcessingResult result = pcontext.result;
-
         ParameterType ptype = param.getParameterType();
         if (ptype == null) {
             throw new XtceProcessingException(
@@ -113,6 +111,12 @@ public class SequenceEntryProcessor {
         } else {
             pv.setRawValue(rv);
         }
+        finishParameterValue(pv, startPosition);
+        return pv;
+    }
+
+    private void finishParameterValue(ContainerParameterValue pv, int startPosition) {
+        ContainerProcessingResult result = pcontext.result;
         pv.setBitSize(pcontext.buffer.getPosition() - startPosition);
 
         pcontext.proccessorData.parameterTypeProcessor.calibrate(result, pv);
@@ -120,7 +124,6 @@ public class SequenceEntryProcessor {
         pv.setAcquisitionTime(result.acquisitionTime);
         pv.setGenerationTime(result.generationTime);
         pv.setExpireMillis(result.expireMillis);
-        return pv;
     }
 
     private void extractParameterEntry(ParameterEntry pe) {
@@ -131,6 +134,38 @@ public class SequenceEntryProcessor {
         }
     }
 
+    /**
+     * Extracts a non repeated parameter entry of a base data type whose encoding has been resolved by the
+     * {@link ContainerDecodingPlan}.
+     */
+    void extractParameterEntry(ParameterEntry pe, DataEncoding encoding) {
+        pcontext.currentEntry = pe;
+        int startPosition = pcontext.buffer.getPosition();
+        Value rv = pcontext.dataEncodingProcessor.extractRaw(encoding, pcontext);
+        addRawValue(pe, rv, startPosition);
+    }
+
+    /**
+     * Adds to the result the value of a parameter entry whose raw value has been extracted from the buffer between
+     * the startPosition and the current buffer position.
+     * <p>
+     * Used by the {@link ContainerExtractor} generated code.
+     */
+    public void addRawValue(ParameterEntry pe, Value rv, int startPosition) {
+        pcontext.currentEntry = pe;
+        ContainerParameterValue pv = new ContainerParameterValue(pe.getParameter(), pcontext.buffer.offset(),
+                startPosition);
+        if (rv == null) {
+            pv.setAcquisitionStatus(AcquisitionStatus.INVALID);
+        } else {
+            pv.setRawValue(rv);
+        }
+        finishParameterValue(pv, startPosition);
+        pv.setSequenceEntry(pe);
+        pcontext.result.addTmParam(pv);
+        pcontext.currentEntry = null;
+    }
+
     private void extractArrayParameterEntry(ArrayParameterEntry pe) {
         List<IntegerValue> size = pe.getSize();
         if (size == null) {
@@ -16,6 +16,9 @@ public class SubscribedContainer {
     List<InheritingContainer> inheritingContainers = new ArrayList<>();
     boolean allEntriesAdded = false;
 
+    // compiled on demand, discarded when the subscription changes
+    volatile ContainerDecodingPlan decodingPlan;
+
     public SubscribedContainer(SequenceContainer sc) {
         this.conainerDef = sc;
     }
@@ -28,6 +31,7 @@ public class SubscribedContainer {
         int idx = Collections.binarySearch(entries, se);
         if (idx < 0) {
             entries.add(-idx - 1, se);
+            decodingPlan = null;
         }
     }
 
@@ -36,12 +40,26 @@ public class SubscribedContainer {
             return;
         }
         entries = conainerDef.getEntryList();
+        decodingPlan = null;
     }
 
     public void addIneriting(SubscribedContainer child) {
         if (!inheritingContainers.stream().anyMatch(ic -> ic.container == child)) {
             inheritingContainers.add(new InheritingContainer(child, child.conainerDef.getRestrictionCriteria()));
+            decodingPlan = null;
+        }
+    }
+
+    /**
+     * Returns the decoding plan for the current subscription, compiling it if necessary.
+     */
+    ContainerDecodingPlan getDecodingPlan(ProcessorData pdata) {
+        ContainerDecodingPlan plan = decodingPlan;
+        if (plan == null) {
+            plan = ContainerDecodingPlan.compile(pdata, this);
+            decodingPlan = plan;
         }
+        return plan;
     }
 
     public String toString() {
@@ -188,4 +188,14 @@ public class Subscription {
         return containers.get(containerDef);
     }
 
+    /**
+     * Compiles the decoding plans of all the subscribed containers whose plan is missing or has been discarded by a
+     * subscription change.
+     */
+    void compileDecodingPlans(ProcessorData pdata) {
+        for (SubscribedContainer subscr : containers.values()) {
+            subscr.getDecodingPlan(pdata);
+        }
+    }
+
 }
@@ -20,7 +20,7 @@ import org.yamcs.xtce.SequenceContainer;
 public class XtceTmExtractor {
     private static final Logger log = LoggerFactory.getLogger(XtceTmExtractor.class);
     protected final Subscription subscription;
-    private ProcessingStatistics stats = new ProcessingStatistics();
+    private final ProcessingStatistics stats;
 
     public final Mdb mdb;
     final SequenceContainer rootContainer;
@@ -41,7 +41,16 @@ public class XtceTmExtractor {
      * @param pdata
      */
     public XtceTmExtractor(Mdb mdb, ProcessorData pdata) {
+        this(mdb, pdata, new ProcessingStatistics());
+    }
+
+    /**
+     * Create a new TM extractor which updates the given statistics; used when multiple extractors are decoding in
+     * parallel for the same processor.
+     */
+    XtceTmExtractor(Mdb mdb, ProcessorData pdata, ProcessingStatistics stats) {
         this.mdb = mdb;
+        this.stats = stats;
         this.subscription = new Subscription(mdb);
         rootContainer = mdb.getRootSequenceContainer();
         this.pdata = pdata;
@@ -75,6 +84,7 @@ public class XtceTmExtractor {
                 dependencies.forEach(p -> subscription.addParameter(p));
             }
             subscription.addParameter(param);
+            compileDecodingPlans();
         }
     }
 
@@ -82,10 +92,13 @@ public class XtceTmExtractor {
      * Adds all containers and parameters to the subscription
      */
     public void provideAll() {
-        for (SequenceContainer c : mdb.getSequenceContainers()) {
-            if (c.getBaseContainer() == null) {
-                subscription.addAll(c);
+        synchronized (subscription) {
+            for (SequenceContainer c : mdb.getSequenceContainers()) {
+                if (c.getBaseContainer() == null) {
+                    subscription.addAll(c);
+                }
             }
+            compileDecodingPlans();
         }
     }
 
@@ -157,6 +170,7 @@ public class XtceTmExtractor {
     public void startProviding(SequenceContainer sequenceContainer) {
         synchronized (subscription) {
             subscription.addSequenceContainer(sequenceContainer);
+            compileDecodingPlans();
         }
     }
 
@@ -173,6 +187,13 @@ public class XtceTmExtractor {
         return subscription.toString();
     }
 
+    // compile the plans upfront rather than with the first packet
+    private void compileDecodingPlans() {
+        if (options.useDecodingPlan()) {
+            subscription.compileDecodingPlans(pdata);
+        }
+    }
+
     public void setOptions(ContainerProcessingOptions opts) {
         this.options = opts;
     }
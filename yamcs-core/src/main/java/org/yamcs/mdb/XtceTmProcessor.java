@@ -38,14 +38,26 @@ public class XtceTmProcessor extends AbstractProcessorService
     private ContainerListener containerRequestManager;
 
     public final Mdb mdb;
+    // exactly one of tmExtractor and parallelDecoder is set, the latter if the decoding is performed in parallel
     final XtceTmExtractor tmExtractor;
+    final ParallelTmDecoder parallelDecoder;
 
     public XtceTmProcessor(Processor processor) {
         this.processor = processor;
         this.mdb = processor.getMdb();
         log = new Log(getClass(), processor.getInstance());
         log.setContext(processor.getName());
-        tmExtractor = new XtceTmExtractor(mdb, processor.getProcessorData());
+        ProcessorData pdata = processor.getProcessorData();
+
+        ContainerProcessingOptions options = pdata.getProcessorConfig().getContainerProcessingOptions();
+        if (options.getDecodingThreads() > 1) {
+            tmExtractor = null;
+            parallelDecoder = new ParallelTmDecoder(mdb, pdata, processor.getInstance() + "." + processor.getName(),
+                    options.getDecodingThreads(), options.getDecodingQueueSize(), this::deliver, log);
+        } else {
+            tmExtractor = new XtceTmExtractor(mdb, pdata);
+            parallelDecoder = null;
+        }
     }
 
     /**
@@ -59,6 +71,7 @@ public class XtceTmProcessor extends AbstractProcessorService
         log = new Log(getClass());
         var pdata = new ProcessorData(getYamcsInstance(), "XTCEPROC", mdb, pconfig, Collections.emptyMap());
         tmExtractor = new XtceTmExtractor(mdb,pdata);
+        parallelDecoder = null;
     }
 
     @Override
@@ -86,7 +99,11 @@ public class XtceTmProcessor extends AbstractProcessorService
      */
     @Override
     public void startProviding(Parameter param) {
-        tmExtractor.startProviding(param);
+        if (parallelDecoder != null) {
+            parallelDecoder.startProviding(param);
+        } else {
+            tmExtractor.startProviding(param);
+        }
     }
 
     /**
@@ -94,12 +111,16 @@ public class XtceTmProcessor extends AbstractProcessorService
      */
     @Override
     public void startProvidingAll() {
-        tmExtractor.provideAll();
+        startProvidingAllContainers();
     }
 
     @Override
     public void stopProviding(Parameter param) {
-        tmExtractor.stopProviding(param);
+        if (parallelDecoder != null) {
+            parallelDecoder.stopProviding(param);
+        } else {
+            tmExtractor.stopProviding(param);
+        }
     }
 
     @Override
@@ -141,21 +162,28 @@ public class XtceTmProcessor extends AbstractProcessorService
             if (rootContainer == null) {
                 rootContainer = sc;
             }
+            if (parallelDecoder != null) {
+                parallelDecoder.processPacket(pkt, rootContainer, rectime);
+                return;
+            }
             ContainerProcessingResult result = tmExtractor.processPacket(pkt.getPacket(), pkt.getGenerationTime(),
                     rectime, pkt.getSeqCount(), rootContainer);
+            deliver(result);
+        } catch (Exception e) {
+            log.error("Exception while processing packet", e);
+        }
+    }
 
-            ParameterValueList paramResult = result.getTmParams();
-            List<ContainerExtractionResult> containerResult = result.containers;
+    private void deliver(ContainerProcessingResult result) {
+        ParameterValueList paramResult = result.getTmParams();
+        List<ContainerExtractionResult> containerResult = result.containers;
 
-            if ((containerRequestManager != null) && (containerResult.size() > 0)) {
-                containerRequestManager.update(containerResult);
-            }
+        if ((containerRequestManager != null) && (containerResult.size() > 0)) {
+            containerRequestManager.update(containerResult);
+        }
 
-            if ((parameterProcessorManager != null) && (paramResult.size() > 0)) {
-                parameterProcessorManager.process(result);
-            }
-        } catch (Exception e) {
-            log.error("Exception while processing packet", e);
+        if ((parameterProcessorManager != null) && (paramResult.size() > 0)) {
+            parameterProcessorManager.process(result);
         }
     }
 
@@ -165,11 +193,15 @@ public class XtceTmProcessor extends AbstractProcessorService
     }
 
     public void resetStatistics() {
-        tmExtractor.resetStatistics();
+        if (parallelDecoder != null) {
+            parallelDecoder.resetStatistics();
+        } else {
+            tmExtractor.resetStatistics();
+        }
     }
 
     public ProcessingStatistics getStatistics() {
-        return tmExtractor.getStatistics();
+        return parallelDecoder != null ? parallelDecoder.getStatistics() : tmExtractor.getStatistics();
     }
 
     @Override
@@ -179,17 +211,29 @@ public class XtceTmProcessor extends AbstractProcessorService
 
     @Override
     public void startProviding(SequenceContainer container) {
-        tmExtractor.startProviding(container);
+        if (parallelDecoder != null) {
+            parallelDecoder.startProviding(container);
+        } else {
+            tmExtractor.startProviding(container);
+        }
     }
 
     @Override
     public void stopProviding(SequenceContainer container) {
-        tmExtractor.stopProviding(container);
+        if (parallelDecoder != null) {
+            parallelDecoder.stopProviding(container);
+        } else {
+            tmExtractor.stopProviding(container);
+        }
     }
 
     @Override
     public void startProvidingAllContainers() {
-        tmExtractor.provideAll();
+        if (parallelDecoder != null) {
+            parallelDecoder.provideAll();
+        } else {
+            tmExtractor.provideAll();
+        }
     }
 
     @Override
@@ -202,7 +246,7 @@ public class XtceTmProcessor extends AbstractProcessorService
     }
 
     public Subscription getSubscription() {
-        return tmExtractor.getSubscription();
+        return parallelDecoder != null ? parallelDecoder.getSubscription() : tmExtractor.getSubscription();
     }
 
     @Override
@@ -212,6 +256,9 @@ public class XtceTmProcessor extends AbstractProcessorService
 
     @Override
     protected void doStop() {
+        if (parallelDecoder != null) {
+            parallelDecoder.shutdown();
+        }
         notifyStopped();
     }
 
@@ -5,8 +5,10 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
 
 import org.yamcs.xtce.DataSource;
 import org.yamcs.xtce.Parameter;
@@ -16,20 +18,48 @@ import org.yamcs.xtce.Parameter;
  * <p>
  * Can also stored a number of n values for certain parameters (required by algorithms and match criteria)
  * <p>
- * it uses a readwrite lock to synchronize access from multiple threads.
- *
+ * The values are stored in arrays indexed by {@link Parameter#getIndex()}, the index of the parameter in the MDB. The
+ * arrays are split in pages which are allocated when the first parameter from the page is added. The parameters which
+ * are not part of an MDB (and thus have no index) are stored in a map.
+ * <p>
+ * Each slot contains either the last value of the parameter or a {@link ParamBuffer} if buffering has been enabled.
+ * The non buffered values are updated without locking; the buffered values are updated under the lock of the buffer.
+ * <p>
+ * Only the lookup is indexed: the values themselves are stored and delivered as the {@link ParameterValue} objects
+ * received from the processor, there is no storage of the primitive values.
  */
 public class LastValueCache {
-    HashMap<Parameter, ParameterValue> constants = new HashMap<>();
-    HashMap<Parameter, ParameterValue> params = new HashMap<>();
-    HashMap<Parameter, ParamBuffer> bufferedParams = new HashMap<>();
+    // page size used when the number of parameters is known
+    static final int PAGE_SHIFT = 10;
+    // page size used when the number of parameters is not known, for example for the caches holding the arguments and
+    // parameters of one command; the indexes of the few parameters are spread over the whole MDB
+    static final int SMALL_PAGE_SHIFT = 6;
+
+    final HashMap<Parameter, ParameterValue> constants = new HashMap<>();
 
-    ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Slots slots;
+    // number of non empty slots
+    private final AtomicInteger count = new AtomicInteger();
 
     public LastValueCache() {
+        this.slots = new Slots(SMALL_PAGE_SHIFT, 0);
     }
 
     public LastValueCache(Collection<ParameterValue> constants) {
+        this();
+        constants.forEach(pv -> this.constants.put(pv.getParameter(), pv));
+    }
+
+    /**
+     * Creates a cache for the parameters of an MDB.
+     * 
+     * @param numParameters
+     *            the number of parameters in the MDB, used to size the page table. More parameters may be added later.
+     * @param constants
+     *            the values of the constant parameters
+     */
+    public LastValueCache(int numParameters, Collection<ParameterValue> constants) {
+        this.slots = new Slots(PAGE_SHIFT, numParameters);
         constants.forEach(pv -> this.constants.put(pv.getParameter(), pv));
     }
 
@@ -43,17 +73,14 @@ public class LastValueCache {
         if (param.getDataSource() == DataSource.CONSTANT) {
             return constants.get(param);
         }
-
-        lock.readLock().lock();
-        try {
-            ParamBuffer pb = bufferedParams.get(param);
-            if (pb != null) {
+        Object o = slots.get(param);
+        if (o instanceof ParamBuffer) {
+            ParamBuffer pb = (ParamBuffer) o;
+            synchronized (pb) {
                 return pb.end();
-            } else {
-                return params.get(param);
             }
-        } finally {
-            lock.readLock().unlock();
+        } else {
+            return (ParameterValue) o;
         }
     }
 
@@ -82,23 +109,21 @@ public class LastValueCache {
             }
         }
 
-        lock.readLock().lock();
-        try {
-            if (n == 0) {
-                return getValue(param);
-            }
+        if (n == 0) {
+            return getValue(param);
+        }
 
-            ParamBuffer pb = bufferedParams.get(param);
-            if (pb == null) {
-                throw new IllegalStateException("Buffering not enabled for " + param.getQualifiedName());
-            }
+        Object o = slots.get(param);
+        if (!(o instanceof ParamBuffer)) {
+            throw new IllegalStateException("Buffering not enabled for " + param.getQualifiedName());
+        }
+        ParamBuffer pb = (ParamBuffer) o;
+        synchronized (pb) {
             if (pb.capacity() < -n + 1) {
                 throw new IllegalStateException("Buffering enabled for " + param.getQualifiedName()
                         + " but it's capacity " + pb.capacity() + " is smaller than " + (n + 1));
             }
             return pb.nth(n);
-        } finally {
-            lock.readLock().unlock();
         }
     }
 
@@ -117,28 +142,31 @@ public class LastValueCache {
         if (param.getDataSource() == DataSource.CONSTANT) {
             throw new IllegalArgumentException("Cannot enable buffering for constant parameters");
         }
-        lock.writeLock().lock();
-        try {
-
-            ParamBuffer pb = bufferedParams.get(param);
-            if (pb == null) {
-                pb = new ParamBuffer(capacity);
-                ParameterValue pv = params.remove(param);
-                if (pv != null) {
-                    pb.add(pv);
+        while (true) {
+            Object o = slots.get(param);
+            if (o instanceof ParamBuffer) {
+                ParamBuffer pb = (ParamBuffer) o;
+                // the buffer is locked such that no value is added to it while it is copied
+                synchronized (pb) {
+                    if (capacity <= pb.capacity()) {
+                        return;
+                    }
+                    if (slots.compareAndSet(param, pb, new ParamBuffer(pb, capacity))) {
+                        return;
+                    }
                 }
-                bufferedParams.put(param, pb);
             } else {
-                if (capacity <= pb.capacity()) {
+                ParamBuffer pb = new ParamBuffer(capacity);
+                if (o != null) {
+                    pb.add((ParameterValue) o);
+                }
+                if (slots.compareAndSet(param, o, pb)) {
+                    if (o == null) {
+                        count.incrementAndGet();
+                    }
                     return;
-                } else {
-                    ParamBuffer pb1 = new ParamBuffer(pb, capacity);
-
-                    bufferedParams.put(param, pb1);
                 }
             }
-        } finally {
-            lock.writeLock().unlock();
         }
     }
 
@@ -149,24 +177,27 @@ public class LastValueCache {
      * @param pv
      */
     public void add(ParameterValue pv) {
-        lock.writeLock().lock();
-        try {
-            doAdd(pv);
-        } finally {
-            lock.writeLock().unlock();
-        }
-    }
-
-    private void doAdd(ParameterValue pv) {
         Parameter param = pv.getParameter();
         if (param.getDataSource() == DataSource.CONSTANT) {
             throw new IllegalArgumentException("Cannot add constants (they can only be added in the constructor)");
         }
-        ParamBuffer pb = bufferedParams.get(param);
-        if (pb == null) {
-            params.put(param, pv);
-        } else {
-            pb.add(pv);
+        while (true) {
+            Object o = slots.get(param);
+            if (o instanceof ParamBuffer) {
+                ParamBuffer pb = (ParamBuffer) o;
+                synchronized (pb) {
+                    // check that the buffer has not been replaced by a bigger one in the meanwhile
+                    if (slots.get(param) == pb) {
+                        pb.add(pv);
+                        return;
+                    }
+                }
+            } else if (slots.compareAndSet(param, o, pv)) {
+                if (o == null) {
+                    count.incrementAndGet();
+                }
+                return;
+            }
         }
     }
 
@@ -176,35 +207,24 @@ public class LastValueCache {
      * @param newValues
      */
     public void addAll(Collection<ParameterValue> newValues) {
-        lock.writeLock().lock();
-        try {
-            newValues.forEach(pv -> doAdd(pv));
-        } finally {
-            lock.writeLock().unlock();
+        for (ParameterValue pv : newValues) {
+            add(pv);
         }
     }
 
     public int size() {
-        lock.readLock().lock();
-        try {
-            return constants.size() + params.size() + bufferedParams.size();
-        } finally {
-            lock.readLock().unlock();
-        }
+        return constants.size() + count.get();
     }
 
     /**
-     * returns all the values from the cache
+     * returns the latest value of all the (non constant) parameters from the cache
      * 
      * @return
      */
     public Collection<ParameterValue> getValues() {
-        lock.readLock().lock();
-        try {
-            return params.values();
-        } finally {
-            lock.readLock().unlock();
-        }
+        List<ParameterValue> pvList = new ArrayList<>();
+        forEachLatest(pv -> pvList.add(pv));
+        return pvList;
     }
 
     /**
@@ -214,25 +234,118 @@ public class LastValueCache {
      */
     public List<ParameterValue> getValuesToBePersisted() {
         List<ParameterValue> pvList = new ArrayList<>();
-        lock.readLock().lock();
-        try {
-            for (var entry : bufferedParams.entrySet()) {
-                if (entry.getKey().isPersistent()) {
-                    var pv = entry.getValue().end();
-                    if (pv != null) {
-                        pvList.add(pv);
+        forEachLatest(pv -> {
+            if (pv.getParameter().isPersistent()) {
+                pvList.add(pv);
+            }
+        });
+        return pvList;
+    }
+
+    private void forEachLatest(Consumer<ParameterValue> consumer) {
+        slots.forEach(o -> {
+            ParameterValue pv;
+            if (o instanceof ParamBuffer) {
+                ParamBuffer pb = (ParamBuffer) o;
+                synchronized (pb) {
+                    pv = pb.end();
+                }
+            } else {
+                pv = (ParameterValue) o;
+            }
+            if (pv != null) {
+                consumer.accept(pv);
+            }
+        });
+    }
+
+    /**
+     * The slot of each parameter contains either null, a {@link ParameterValue} or a {@link ParamBuffer}.
+     * <p>
+     * The {@link ParameterValue} and {@link ParamBuffer} do not override equals, so the conditional operations on the
+     * map of parameters without index compare them by identity.
+     */
+    static class Slots {
+        private final int pageShift;
+        private final int pageMask;
+        private volatile AtomicReferenceArray<Object>[] pages;
+        private final ConcurrentHashMap<Parameter, Object> unindexed = new ConcurrentHashMap<>();
+
+        @SuppressWarnings("unchecked")
+        Slots(int pageShift, int numParameters) {
+            this.pageShift = pageShift;
+            this.pageMask = (1 << pageShift) - 1;
+            this.pages = new AtomicReferenceArray[(numParameters + pageMask) >>> pageShift];
+        }
+
+        Object get(Parameter param) {
+            int idx = param.getIndex();
+            if (idx < 0) {
+                return unindexed.get(param);
+            }
+            AtomicReferenceArray<Object>[] p = pages;
+            int pidx = idx >>> pageShift;
+            if (pidx >= p.length) {
+                return null;
+            }
+            AtomicReferenceArray<Object> page = p[pidx];
+            return page == null ? null : page.get(idx & pageMask);
+        }
+
+        /**
+         * Sets the slot of the parameter to update if it currently contains expect (compared by identity).
+         */
+        boolean compareAndSet(Parameter param, Object expect, Object update) {
+            int idx = param.getIndex();
+            if (idx < 0) {
+                if (expect == null) {
+                    return unindexed.putIfAbsent(param, update) == null;
+                } else {
+                    return unindexed.replace(param, expect, update);
+                }
+            }
+            return getOrCreatePage(idx).compareAndSet(idx & pageMask, expect, update);
+        }
+
+        /**
+         * Calls the consumer for each non empty slot.
+         */
+        void forEach(Consumer<Object> consumer) {
+            for (AtomicReferenceArray<Object> page : pages) {
+                if (page == null) {
+                    continue;
+                }
+                for (int i = 0; i < page.length(); i++) {
+                    Object o = page.get(i);
+                    if (o != null) {
+                        consumer.accept(o);
                     }
                 }
             }
-            for (var entry : params.entrySet()) {
-                if (entry.getKey().isPersistent()) {
-                    pvList.add(entry.getValue());
+            unindexed.values().forEach(consumer);
+        }
+
+        private AtomicReferenceArray<Object> getOrCreatePage(int idx) {
+            AtomicReferenceArray<Object>[] p = pages;
+            int pidx = idx >>> pageShift;
+            if (pidx < p.length && p[pidx] != null) {
+                return p[pidx];
+            }
+            synchronized (this) {
+                p = pages;
+                if (pidx >= p.length) {
+                    p = Arrays.copyOf(p, Math.max(pidx + 1, 2 * p.length));
+                } else if (p[pidx] != null) {
+                    return p[pidx];
+                } else {
+                    p = p.clone();
                 }
+                AtomicReferenceArray<Object> page = new AtomicReferenceArray<>(pageMask + 1);
+                p[pidx] = page;
+                pages = p;
+                return page;
             }
-        } finally {
-            lock.readLock().unlock();
         }
-        return pvList;
     }
 
     // fixed size circular buffer
@@ -244,9 +357,25 @@ public class LastValueCache {
             this.data = new ParameterValue[capacity];
         }
 
+        /**
+         * Creates a bigger buffer containing the values of pb1, copied from the oldest to the newest
+         */
         ParamBuffer(ParamBuffer pb1, int capacity) {
-            this.data = Arrays.copyOf(pb1.data, capacity);
-            this.end = pb1.end;
+            this.data = new ParameterValue[capacity];
+            if (pb1.end == -1) {
+                return;
+            }
+            int n = pb1.data.length;
+            if (pb1.data[n - 1] == null) {
+                // not wrapped yet, the values are at 0..end
+                System.arraycopy(pb1.data, 0, data, 0, pb1.end + 1);
+                this.end = pb1.end;
+            } else {
+                int oldest = pb1.incr(pb1.end);
+                System.arraycopy(pb1.data, oldest, data, 0, n - oldest);
+                System.arraycopy(pb1.data, 0, data, n - oldest, oldest);
+                this.end = n - 1;
+            }
         }
 
         public int capacity() {
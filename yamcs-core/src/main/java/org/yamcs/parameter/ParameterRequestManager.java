@@ -15,6 +15,7 @@ import org.yamcs.InvalidRequestIdentification;
 import org.yamcs.Processor;
 import org.yamcs.logging.Log;
 import org.yamcs.protobuf.Yamcs.NamedObjectId;
+import org.yamcs.utils.IntArray;
 import org.yamcs.xtce.Parameter;
 
 /**
@@ -36,6 +37,12 @@ public class ParameterRequestManager {
     // contains subscribe all
     private SubscriptionArray subscribeAllConsumers = new SubscriptionArray();
 
+    // derived from the maps above, rebuilt at the first delivery after a subscription change
+    private volatile DeliveryTable deliveryTable = DeliveryTable.EMPTY;
+    // incremented at each subscription change
+    private final AtomicInteger subscriptionVersion = new AtomicInteger();
+    private final Object deliveryTableLock = new Object();
+
     private static AtomicInteger lastSubscriptionId = new AtomicInteger();
 
     public final Processor processor;
@@ -64,6 +71,7 @@ public class ParameterRequestManager {
 
         subscribeAllConsumers.add(id);
         request2ParameterConsumerMap.put(id, consumer);
+        subscriptionVersion.incrementAndGet();
         return id;
     }
 
@@ -76,7 +84,9 @@ public class ParameterRequestManager {
      * @return
      */
     public boolean unsubscribeAll(int subscriptionId) {
-        return subscribeAllConsumers.remove(subscriptionId);
+        boolean removed = subscribeAllConsumers.remove(subscriptionId);
+        subscriptionVersion.incrementAndGet();
+        return removed;
     }
 
     /**
@@ -97,6 +107,7 @@ public class ParameterRequestManager {
         }
 
         request2ParameterConsumerMap.put(id, tpc);
+        subscriptionVersion.incrementAndGet();
         return id;
     }
 
@@ -113,6 +124,7 @@ public class ParameterRequestManager {
         subscribeToProviders(para);
         addItemToRequest(id, para);
         request2ParameterConsumerMap.put(id, tpc);
+        subscriptionVersion.incrementAndGet();
 
         return id;
     }
@@ -133,6 +145,7 @@ public class ParameterRequestManager {
             addItemToRequest(subscriptionId, paraList.get(i));
         }
         request2ParameterConsumerMap.put(subscriptionId, tpc);
+        subscriptionVersion.incrementAndGet();
     }
 
     /**
@@ -202,6 +215,7 @@ public class ParameterRequestManager {
     private void addItemToRequest(int id, Parameter para) {
         SubscriptionArray al_req = param2RequestMap.computeIfAbsent(para, k -> new SubscriptionArray());
         al_req.add(id);
+        subscriptionVersion.incrementAndGet();
     }
 
     private void removeItemFromRequest(int subscriptionId, Parameter para) {
@@ -209,6 +223,7 @@ public class ParameterRequestManager {
             SubscriptionArray al_req = param2RequestMap.get(para);
             // remove the subscription from the list of this parameter
             if (al_req.remove(subscriptionId)) {
+                subscriptionVersion.incrementAndGet();
                 /*
                  * Don't remove the al_req from the map and
                  * don't ask provider to stop providing
@@ -255,6 +270,7 @@ public class ParameterRequestManager {
             }
         }
         request2ParameterConsumerMap.remove(subscriptionId);
+        subscriptionVersion.incrementAndGet();
         return result;
     }
 
@@ -313,68 +329,133 @@ public class ParameterRequestManager {
      * 
      */
     public void update(ParameterValueList pvlist) {
-        // build the customised lists for the subscribers and send it to them
-        HashMap<Integer, ArrayList<ParameterValue>> subscription = new HashMap<>();
-        updateSubscription(subscription, pvlist);
+        DeliveryTable table = getDeliveryTable();
+        if (table.consumers.length == 0) {
+            return;
+        }
 
-        for (Map.Entry<Integer, ArrayList<ParameterValue>> entry : subscription.entrySet()) {
-            Integer subscriptionId = entry.getKey();
+        // build the customised lists for the subscribers and send it to them
+        // the lists are not reused because the consumers may keep them after the call (e.g. to process them in another
+        // thread)
+        @SuppressWarnings("unchecked")
+        List<ParameterValue>[] lists = new List[table.consumers.length];
+        for (ParameterValue pv : pvlist) {
+            int[] slots = table.getSlots(pv.getParameter());
+            if (slots == null) {
+                continue;
+            }
+            for (int k : slots) {
+                List<ParameterValue> al = lists[k];
+                if (al == null) {
+                    al = new ArrayList<>();
+                    lists[k] = al;
+                }
+                al.add(pv);
+            }
+        }
+        // the table guarantees that these slots have not received values above
+        for (int k : table.allSlots) {
+            lists[k] = new ArrayList<>(pvlist);
+        }
 
-            ArrayList<ParameterValue> al = entry.getValue();
-            ParameterConsumer consumer = request2ParameterConsumerMap.get(subscriptionId);
-            if (consumer == null) {
-                log.warn("subscriptionId {} appears in the delivery list, but there is no consumer for it",
-                        subscriptionId);
-            } else {
-                consumer.updateItems(subscriptionId, al);
+        for (int k = 0; k < lists.length; k++) {
+            if (lists[k] != null) {
+                table.consumers[k].updateItems(table.subscriptionIds[k], lists[k]);
             }
         }
     }
 
     /**
-     * adds the passed parameters to the subscription
-     * 
-     * @param subscription
-     * @param currentDelivery
+     * Returns the delivery table corresponding to the current subscription version, rebuilding it if necessary.
+     * <p>
+     * The update is called from multiple threads; only one of them rebuilds the table while the others wait for it.
      */
-    private void updateSubscription(HashMap<Integer, ArrayList<ParameterValue>> subscription,
-            Collection<ParameterValue> currentDelivery) {
-        if (currentDelivery == null) {
-            return;
+    DeliveryTable getDeliveryTable() {
+        DeliveryTable table = deliveryTable;
+        if (table.version == subscriptionVersion.get()) {
+            return table;
         }
-
-        for (Iterator<ParameterValue> it = currentDelivery.iterator(); it.hasNext();) {
-            ParameterValue pv = it.next();
-            Parameter pDef = pv.getParameter();
-            SubscriptionArray cowal = param2RequestMap.get(pDef);
-            // now walk through the requests and add this item to their delivery list
-            if (cowal == null) {
-                continue;
+        synchronized (deliveryTableLock) {
+            // read the version before building such that a change during the build triggers a new one
+            int version = subscriptionVersion.get();
+            table = deliveryTable;
+            if (table.version != version) {
+                table = buildDeliveryTable(version);
+                deliveryTable = table;
             }
+            return table;
+        }
+    }
 
-            for (int s : cowal.getArray()) {
-                ArrayList<ParameterValue> al = subscription.get(s);
-                if (al == null) {
-                    al = new ArrayList<>();
-                    subscription.put(s, al);
+    /**
+     * Assigns a slot to each subscription and computes for each subscribed parameter the slots of the subscriptions
+     * interested in it.
+     */
+    private DeliveryTable buildDeliveryTable(int version) {
+        Map<Integer, Integer> id2slot = new HashMap<>();
+        List<Integer> ids = new ArrayList<>();
+        List<ParameterConsumer> consumers = new ArrayList<>();
+        IntArray allSlots = new IntArray();
+        for (int id : subscribeAllConsumers.getArray()) {
+            int k = getSlot(id, id2slot, ids, consumers);
+            if (k >= 0) {
+                allSlots.add(k);
+            }
+        }
+        // the subscribeAll subscriptions with parameters subscribed explicitly receive each value once, as part of
+        // the full list; their slots are not added to the parameters
+        int numAllSlots = ids.size();
+
+        int maxIndex = -1;
+        List<Parameter> params = new ArrayList<>();
+        List<int[]> paramSlots = new ArrayList<>();
+        for (Map.Entry<Parameter, SubscriptionArray> me : param2RequestMap.entrySet()) {
+            IntArray slots = new IntArray();
+            for (int id : me.getValue().getArray()) {
+                int k = getSlot(id, id2slot, ids, consumers);
+                if (k >= numAllSlots) {
+                    slots.add(k);
                 }
-                al.add(pv);
+            }
+            if (slots.size() > 0) {
+                Parameter p = me.getKey();
+                params.add(p);
+                paramSlots.add(slots.toArray());
+                maxIndex = Math.max(maxIndex, p.getIndex());
             }
         }
-
-        // update the subscribeAll subscriptions
-        for (int id : subscribeAllConsumers.getArray()) {
-            ArrayList<ParameterValue> al = subscription.get(id);
-
-            if (al == null) {
-                al = new ArrayList<>();
-                subscription.put(id, al);
+        int[][] slotsByIndex = new int[maxIndex + 1][];
+        Map<Parameter, int[]> unindexedSlots = new HashMap<>();
+        for (int i = 0; i < params.size(); i++) {
+            Parameter p = params.get(i);
+            if (p.getIndex() < 0) {
+                unindexedSlots.put(p, paramSlots.get(i));
+            } else {
+                slotsByIndex[p.getIndex()] = paramSlots.get(i);
             }
+        }
 
-            for (ParameterValue pv : currentDelivery) {
-                al.add(pv);
+        return new DeliveryTable(version, ids.stream().mapToInt(Integer::intValue).toArray(),
+                consumers.toArray(new ParameterConsumer[0]), slotsByIndex, unindexedSlots, allSlots.toArray());
+    }
+
+    private int getSlot(int subscriptionId, Map<Integer, Integer> id2slot, List<Integer> ids,
+            List<ParameterConsumer> consumers) {
+        Integer k = id2slot.get(subscriptionId);
+        if (k == null) {
+            ParameterConsumer consumer = request2ParameterConsumerMap.get(subscriptionId);
+            if (consumer == null) {
+                // subscription being created or removed
+                log.debug("subscriptionId {} has parameters but there is no consumer for it", subscriptionId);
+                k = -1;
+            } else {
+                k = ids.size();
+                ids.add(subscriptionId);
+                consumers.add(consumer);
             }
+            id2slot.put(subscriptionId, k);
         }
+        return k;
     }
 
     @Override
@@ -419,4 +500,46 @@ public class ParameterRequestManager {
     public ParameterValue getLastValueFromCache(Parameter param) {
         return lastValueCache.getValue(param);
     }
+
+    /**
+     * Immutable snapshot of the subscriptions used to dispatch the values without hash lookups.
+     * <p>
+     * Each subscription has a slot (index in the {@link #consumers} array) and each subscribed parameter is mapped by
+     * its {@link Parameter#getIndex()} to the slots of the subscriptions interested in it. The parameters which are not
+     * part of the MDB (and thus have no index) are looked up in a map.
+     * <p>
+     * The subscribeAll subscriptions have the first slots ({@link #allSlots}) and receive the full list of values. If
+     * such a subscription has also parameters subscribed explicitly, they are merged into the full list: its slot is
+     * not mapped to any parameter, such that each value is delivered once.
+     */
+    static final class DeliveryTable {
+        // does not match any subscription version, such that it is replaced at the first delivery
+        static final DeliveryTable EMPTY = new DeliveryTable(-1, new int[0], new ParameterConsumer[0], new int[0][],
+                Map.of(), new int[0]);
+
+        final int version;
+        final int[] subscriptionIds;
+        final ParameterConsumer[] consumers;
+        final int[][] slotsByIndex;
+        final Map<Parameter, int[]> unindexedSlots;
+        final int[] allSlots;
+
+        DeliveryTable(int version, int[] subscriptionIds, ParameterConsumer[] consumers, int[][] slotsByIndex,
+                Map<Parameter, int[]> unindexedSlots, int[] allSlots) {
+            this.version = version;
+            this.subscriptionIds = subscriptionIds;
+            this.consumers = consumers;
+            this.slotsByIndex = slotsByIndex;
+            this.unindexedSlots = unindexedSlots;
+            this.allSlots = allSlots;
+        }
+
+        int[] getSlots(Parameter p) {
+            int idx = p.getIndex();
+            if (idx < 0) {
+                return unindexedSlots.get(p);
+            }
+            return idx < slotsByIndex.length ? slotsByIndex[idx] : null;
+        }
+    }
 }
@@ -0,0 +1,270 @@
+package org.yamcs.parameterarchive;
+
+import java.nio.ByteBuffer;
+
+import org.yamcs.parameter.Value;
+import org.yamcs.parameter.ValueArray;
+import org.yamcs.protobuf.Yamcs.Value.Type;
+import org.yamcs.utils.FloatArray;
+import org.yamcs.utils.IntArray;
+import org.yamcs.utils.ValueUtility;
+import org.yamcs.utils.VarIntUtil;
+
+/**
+ * Value segment for numeric values which keeps the data outside the Java heap, in a direct {@link ByteBuffer}.
+ * <p>
+ * It is used by the realtime filler (if configured) for the segments being built up, in order to not keep lots of
+ * long-lived arrays on the heap.
+ * <p>
+ * The serialized format is the same as the one of the corresponding heap segments ({@link IntValueSegment},
+ * {@link LongValueSegment}, {@link FloatValueSegment} and {@link DoubleValueSegment}) such that the segments read back
+ * from the archive are the regular heap segments.
+ */
+public class DirectValueSegment extends BaseSegment implements ValueSegment {
+    static final int INITIAL_CAPACITY = 64;
+
+    final Type type;
+    // 4 or 8
+    final int elementSize;
+    private ByteBuffer buf;
+    private int size;
+
+    DirectValueSegment(Type type) {
+        super(getFormatId(type));
+        this.type = type;
+        this.elementSize = (type == Type.SINT32 || type == Type.UINT32 || type == Type.FLOAT) ? 4 : 8;
+        this.buf = ByteBuffer.allocateDirect(INITIAL_CAPACITY * elementSize);
+    }
+
+    /**
+     * Returns true if the values of the given type can be stored in a {@link DirectValueSegment}
+     */
+    static boolean isSupported(Type type) {
+        switch (type) {
+        case SINT32:
+        case UINT32:
+        case FLOAT:
+        case SINT64:
+        case UINT64:
+        case TIMESTAMP:
+        case DOUBLE:
+            return true;
+        default:
+            return false;
+        }
+    }
+
+    private static byte getFormatId(Type type) {
+        switch (type) {
+        case SINT32:
+        case UINT32:
+            return FORMAT_ID_IntValueSegment;
+        case FLOAT:
+            return FORMAT_ID_FloatValueSegment;
+        case SINT64:
+        case UINT64:
+        case TIMESTAMP:
+            return FORMAT_ID_LongValueSegment;
+        case DOUBLE:
+            return FORMAT_ID_DoubleValueSegment;
+        default:
+            throw new IllegalArgumentException("Type " + type + " not supported");
+        }
+    }
+
+    @Override
+    public void add(Value value) {
+        ensureCapacity(size + 1);
+        put(size, value);
+        size++;
+    }
+
+    @Override
+    public void insert(int pos, Value value) {
+        ensureCapacity(size + 1);
+        // shift to the right; this only happens for unsorted data so it is not optimised
+        for (int i = size - 1; i >= pos; i--) {
+            if (elementSize == 4) {
+                buf.putInt((i + 1) * 4, buf.getInt(i * 4));
+            } else {
+                buf.putLong((i + 1) * 8, buf.getLong(i * 8));
+            }
+        }
+        put(pos, value);
+        size++;
+    }
+
+    private void put(int pos, Value value) {
+        switch (type) {
+        case SINT32:
+            buf.putInt(pos * 4, value.getSint32Value());
+            break;
+        case UINT32:
+            buf.putInt(pos * 4, value.getUint32Value());
+            break;
+        case FLOAT:
+            buf.putFloat(pos * 4, value.getFloatValue());
+            break;
+        case SINT64:
+            buf.putLong(pos * 8, value.getSint64Value());
+            break;
+        case UINT64:
+            buf.putLong(pos * 8, value.getUint64Value());
+            break;
+        case TIMESTAMP:
+            buf.putLong(pos * 8, value.getTimestampValue());
+            break;
+        case DOUBLE:
+            buf.putDouble(pos * 8, value.getDoubleValue());
+            break;
+        default:
+            throw new IllegalStateException();
+        }
+    }
+
+    private void ensureCapacity(int n) {
+        if (n * elementSize <= buf.capacity()) {
+            return;
+        }
+        ByteBuffer newBuf = ByteBuffer.allocateDirect(2 * buf.capacity());
+        ByteBuffer src = buf.duplicate();
+        src.position(0).limit(size * elementSize);
+        newBuf.put(src);
+        newBuf.clear();
+        buf = newBuf;
+    }
+
+    @Override
+    public Value getValue(int index) {
+        switch (type) {
+        case SINT32:
+            return ValueUtility.getSint32Value(buf.getInt(index * 4));
+        case UINT32:
+            return ValueUtility.getUint32Value(buf.getInt(index * 4));
+        case FLOAT:
+            return ValueUtility.getFloatValue(buf.getFloat(index * 4));
+        case SINT64:
+            return ValueUtility.getSint64Value(buf.getLong(index * 8));
+        case UINT64:
+            return ValueUtility.getUint64Value(buf.getLong(index * 8));
+        case TIMESTAMP:
+            return ValueUtility.getTimestampValue(buf.getLong(index * 8));
+        case DOUBLE:
+            return ValueUtility.getDoubleValue(buf.getDouble(index * 8));
+        default:
+            throw new IllegalStateException();
+        }
+    }
+
+    @Override
+    public ValueArray getRange(int posStart, int posStop, boolean ascending) {
+        int n = posStop - posStart;
+        switch (type) {
+        case SINT32:
+        case UINT32: {
+            int[] r = new int[n];
+            for (int i = 0; i < n; i++) {
+                r[i] = buf.getInt(4 * (ascending ? posStart + i : posStop - i));
+            }
+            return new ValueArray(type, r);
+        }
+        case FLOAT: {
+            float[] r = new float[n];
+            for (int i = 0; i < n; i++) {
+                r[i] = buf.getFloat(4 * (ascending ? posStart + i : posStop - i));
+            }
+            return new ValueArray(r);
+        }
+        case DOUBLE: {
+            double[] r = new double[n];
+            for (int i = 0; i < n; i++) {
+                r[i] = buf.getDouble(8 * (ascending ? posStart + i : posStop - i));
+            }
+            return new ValueArray(r);
+        }
+        default: {
+            long[] r = new long[n];
+            for (int i = 0; i < n; i++) {
+                r[i] = buf.getLong(8 * (ascending ? posStart + i : posStop - i));
+            }
+            return new ValueArray(type, r);
+        }
+        }
+    }
+
+    /**
+     * Writes the segment in the format of the corresponding heap segment.
+     * <p>
+     * The 64 bits values are written straight from the direct buffer; the 32 bits values are compressed and for that
+     * they are copied into a temporary array.
+     */
+    @Override
+    public void writeTo(ByteBuffer bb) {
+        switch (type) {
+        case SINT32:
+        case UINT32: {
+            int[] a = new int[size];
+            for (int i = 0; i < size; i++) {
+                a[i] = buf.getInt(4 * i);
+            }
+            IntValueSegment ivs = new IntValueSegment(type == Type.SINT32);
+            ivs.values = IntArray.wrap(a);
+            ivs.writeTo(bb);
+            break;
+        }
+        case FLOAT: {
+            float[] a = new float[size];
+            for (int i = 0; i < size; i++) {
+                a[i] = buf.getFloat(4 * i);
+            }
+            FloatValueSegment fvs = new FloatValueSegment();
+            fvs.values = FloatArray.wrap(a);
+            fvs.writeTo(bb);
+            break;
+        }
+        case DOUBLE:
+            bb.put(DoubleValueSegment.SUBFORMAT_ID_RAW);
+            VarIntUtil.writeVarInt32(bb, size);
+            bb.put(bb.position(), buf, 0, 8 * size);
+            bb.position(bb.position() + 8 * size);
+            break;
+        default:
+            // same header as in the LongValueSegment
+            int numericType = type == Type.UINT64 ? 0 : type == Type.SINT64 ? 1 : 2;
+            bb.put((byte) ((numericType << 4) | LongValueSegment.SUBFORMAT_ID_RAW));
+            VarIntUtil.writeVarInt32(bb, size);
+            bb.put(bb.position(), buf, 0, 8 * size);
+            bb.position(bb.position() + 8 * size);
+        }
+    }
+
+    @Override
+    public int getMaxSerializedSize() {
+        return 6 + elementSize * size;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        DirectValueSegment other = (DirectValueSegment) obj;
+        if (type != other.type || size != other.size) {
+            return false;
+        }
+        return buf.slice(0, size * elementSize).equals(other.buf.slice(0, size * elementSize));
+    }
+
+    @Override
+    public int hashCode() {
+        return buf.slice(0, size * elementSize).hashCode();
+    }
+}
@@ -1,10 +1,14 @@
 package org.yamcs.parameterarchive;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.PriorityQueue;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
 
 import org.rocksdb.RocksDBException;
@@ -44,7 +48,54 @@ public class MultiParameterRetrieval {
 
     public void retrieve(Consumer<ParameterIdValueList> consumer) throws RocksDBException, IOException {
         log.trace("Starting a parameter retrieval: {}", mpvr);
+        ForkJoinPool pool = parchive.getRetrievalPool();
+        if (pool != null) {
+            long[] boundaries = ParallelRetrieval.split(parchive, mpvr.start, mpvr.stop, pool.getParallelism());
+            if (boundaries.length > 2) {
+                retrieveParallel(pool, boundaries, consumer);
+                return;
+            }
+        }
+        retrieveSequential(consumer);
+    }
+
+    /**
+     * Retrieves the chunks [boundaries[i], boundaries[i+1]) in parallel on the pool.
+     * <p>
+     * Each chunk is limited to the requested limit; the limit is then applied again when passing the results to the
+     * consumer.
+     */
+    private void retrieveParallel(ForkJoinPool pool, long[] boundaries, Consumer<ParameterIdValueList> consumer)
+            throws RocksDBException, IOException {
+        log.trace("Retrieving {} chunks in parallel", boundaries.length - 1);
+        List<ParallelRetrieval.ChunkRetrieval<ParameterIdValueList>> tasks = new ArrayList<>(boundaries.length - 1);
+        for (int i = 0; i < boundaries.length - 1; i++) {
+            MultipleParameterRequest chunkReq = new MultipleParameterRequest(boundaries[i], boundaries[i + 1],
+                    mpvr.parameterIds, mpvr.parameterGroupIds, mpvr.ascending, mpvr.retrieveEngValues,
+                    mpvr.retrieveRawValues, mpvr.retrieveParamStatus);
+            chunkReq.setLimit(mpvr.limit);
+            MultiParameterRetrieval chunkRetrieval = new MultiParameterRetrieval(parchive, chunkReq);
+            tasks.add(chunkRetrieval::retrieveSequential);
+        }
+        if (!mpvr.ascending) {
+            Collections.reverse(tasks);
+        }
+        int[] count = new int[1];
+        try {
+            ParallelRetrieval.retrieve(pool, pool.getParallelism(), tasks, pvlist -> {
+                if (mpvr.limit > 0 && count[0] >= mpvr.limit) {
+                    throw new ConsumerAbortException();
+                }
+                consumer.accept(pvlist);
+                count[0]++;
+            });
+        } catch (ConsumerAbortException e) {
+            log.debug("Stopped early due to receiving ConsumerAbortException");
+        }
+        log.trace("Retrieval finished");
+    }
 
+    private void retrieveSequential(Consumer<ParameterIdValueList> consumer) throws RocksDBException, IOException {
         ParameterGroupIdDb pgDb = parchive.getParameterGroupIdDb();
         PriorityQueue<ParameterIterator> queue = new PriorityQueue<>(new IteratorComparator(mpvr.ascending));
         int[] parameterGroupIds = mpvr.parameterGroupIds;
@@ -71,20 +71,36 @@ public class PGSegment {
      */
     boolean frozen = false;
 
+    /**
+     * if true, the numeric values of the new parameter segments are stored outside the Java heap
+     */
+    final boolean offHeap;
+
     public PGSegment(int parameterGroupId, long interval) {
         this(parameterGroupId, interval, 1000);
     }
 
     public PGSegment(int parameterGroupId, long interval, int capacity) {
+        this(parameterGroupId, interval, capacity, false);
+    }
+
+    /**
+     * 
+     * @param offHeap
+     *            - if true, the numeric values are kept in direct buffers, see {@link DirectValueSegment}
+     */
+    public PGSegment(int parameterGroupId, long interval, int capacity, boolean offHeap) {
         this.parameterGroupId = parameterGroupId;
         this.timeSegment = new SortedTimeSegment(interval);
         this.pvSegments = new ArrayList<>(capacity);
+        this.offHeap = offHeap;
     }
 
     public PGSegment(int parameterGroupId, SortedTimeSegment timeSegment, List<ParameterValueSegment> pvSegments) {
         this.parameterGroupId = parameterGroupId;
         this.timeSegment = timeSegment;
         this.pvSegments = pvSegments;
+        this.offHeap = false;
     }
 
     public void addRecord(long instant, BasicParameterList sortedPvList) {
@@ -118,7 +134,7 @@ public class PGSegment {
             } else if (pvs.pid > pid2) {
                 // new parameter, we have to shift all existing segments to the right and insert a new segment with gaps
                 // in all positions except pos
-                ParameterValueSegment newPvs = new ParameterValueSegment(pid2, timeSegment, pos, pv);
+                ParameterValueSegment newPvs = new ParameterValueSegment(pid2, timeSegment, pos, pv, offHeap);
                 pvSegments.add(idx1, newPvs);
                 if (currentFullGaps != null && !currentFullGaps.remove(pid2)) {
                     // pid2 is part of this segment and was not part of the previous segments
@@ -146,7 +162,7 @@ public class PGSegment {
             BasicParameterValue pv = values.get(idx2);
             var pid2 = pids.get(idx2);
             // new segment to add to the end of the segment list
-            ParameterValueSegment newPvs = new ParameterValueSegment(pid2, timeSegment, pos, pv);
+            ParameterValueSegment newPvs = new ParameterValueSegment(pid2, timeSegment, pos, pv, offHeap);
             pvSegments.add(newPvs);
             if (currentFullGaps != null && !currentFullGaps.remove(pid2)) {
                 // pid2 is added to this segment but was not part of the previous segments
@@ -0,0 +1,234 @@
+package org.yamcs.parameterarchive;
+
+import static org.yamcs.parameterarchive.ParameterArchive.getIntervalDuration;
+import static org.yamcs.parameterarchive.ParameterArchive.getIntervalEnd;
+import static org.yamcs.parameterarchive.ParameterArchive.getIntervalStart;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinPool.ManagedBlocker;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.rocksdb.RocksDBException;
+import org.yamcs.parameterarchive.ParameterArchive.Partition;
+import org.yamcs.utils.TimeEncoding;
+
+/**
+ * Helper for the parallel retrieval from the parameter archive.
+ * <p>
+ * The requested time range is split into chunks at interval boundaries: one or more chunks for each partition. Since
+ * the segments do not span across intervals, the chunks can be retrieved independently of each other.
+ * <p>
+ * The chunks are retrieved on the retrieval pool of the {@link ParameterArchive} and the results are passed to the
+ * consumer in time order, in the caller thread. At most parallelism chunks are retrieved ahead of the one being
+ * consumed and each of them buffers at most {@value #QUEUE_SIZE} results, to limit the memory usage.
+ */
+class ParallelRetrieval {
+    // do not split ranges smaller than this number of intervals
+    static final int MIN_INTERVALS_PER_CHUNK = 4;
+    // maximum number of results retrieved ahead for one chunk
+    static final int QUEUE_SIZE = 1024;
+    static final long POLL_TIMEOUT_MILLIS = 100;
+
+    /**
+     * Splits the range [start, stop) into chunks aligned to the interval boundaries.
+     *
+     * @return an array of increasing timestamps b such that chunk i is [b[i], b[i+1]); b[0] = start and b[n-1] =
+     *         stop.
+     */
+    static long[] split(ParameterArchive parchive, long start, long stop, int parallelism) {
+        TreeSet<Long> boundaries = new TreeSet<>();
+        boundaries.add(start);
+        boundaries.add(stop);
+
+        for (Partition p : parchive.getPartitions(getIntervalStart(start), getIntervalEnd(stop), true)) {
+            long cstart = p.hasStart() ? Math.max(start, alignToInterval(p.getStart())) : start;
+            long cend = p.hasEnd() ? Math.min(stop, alignToInterval(p.getEnd())) : stop;
+            if (cstart >= cend) {
+                continue;
+            }
+            boundaries.add(cstart);
+            boundaries.add(cend);
+            if (cstart <= TimeEncoding.MIN_INSTANT || cend >= TimeEncoding.MAX_INSTANT) {
+                // open ended range, we cannot split it
+                continue;
+            }
+            // split the partition range into chunks with equal number of intervals
+            long base = alignToInterval(cstart);
+            long numIntervals = (cend - base) / getIntervalDuration();
+            long n = Math.min(parallelism, numIntervals / MIN_INTERVALS_PER_CHUNK);
+            for (int i = 1; i < n; i++) {
+                boundaries.add(base + i * (numIntervals / n) * getIntervalDuration());
+            }
+        }
+        return boundaries.subSet(start, true, stop, true).stream().mapToLong(Long::longValue).toArray();
+    }
+
+    // returns the start of the first interval starting at or after t
+    private static long alignToInterval(long t) {
+        long intvStart = getIntervalStart(t);
+        return intvStart == t ? t : getIntervalEnd(t) + 1;
+    }
+
+    /**
+     * Executes the chunk retrievals on the executor with at most parallelism retrievals being executed at a time and
+     * passes the results to the consumer in the order of the chunks list.
+     * <p>
+     * Each retrieval streams its results into a queue of at most {@value #QUEUE_SIZE} elements and blocks when the
+     * queue is full, until the consumer reaches its chunk.
+     * <p>
+     * If the consumer throws an exception, the remaining retrievals are cancelled and the exception is propagated.
+     */
+    static <T> void retrieve(ExecutorService executor, int parallelism, List<ChunkRetrieval<T>> chunks,
+            Consumer<T> consumer) throws RocksDBException, IOException {
+        Deque<Chunk<T>> running = new ArrayDeque<>();
+        int next = 0;
+        try {
+            while (next < chunks.size() || !running.isEmpty()) {
+                while (next < chunks.size() && running.size() < parallelism) {
+                    running.add(new Chunk<>(executor, chunks.get(next++)));
+                }
+                running.peek().consume(consumer);
+                running.poll();
+            }
+        } finally {
+            for (Chunk<T> c : running) {
+                c.cancel();
+            }
+        }
+    }
+
+    @FunctionalInterface
+    interface ChunkRetrieval<T> {
+        void retrieve(Consumer<T> consumer) throws RocksDBException, IOException;
+    }
+
+    /**
+     * One chunk being retrieved in the executor, with the queue of results not yet consumed.
+     */
+    static class Chunk<T> {
+        private static final Object END = new Object();
+
+        final BlockingQueue<Object> queue = new ArrayBlockingQueue<>(QUEUE_SIZE);
+        final Future<Void> future;
+        volatile boolean cancelled = false;
+
+        Chunk(ExecutorService executor, ChunkRetrieval<T> retrieval) {
+            future = executor.submit(() -> {
+                try {
+                    retrieval.retrieve(this::put);
+                } finally {
+                    put(END);
+                }
+                return null;
+            });
+        }
+
+        /**
+         * Called in the retrieval thread; if the queue is full, it waits for the consumer to make room.
+         * <p>
+         * The wait is a managed block such that the pool can start other threads for the chunks which are being
+         * consumed.
+         *
+         * @throws ConsumerAbortException
+         *             if the chunk has been cancelled
+         */
+        private void put(Object o) {
+            try {
+                ForkJoinPool.managedBlock(new ManagedBlocker() {
+                    boolean done = false;
+
+                    @Override
+                    public boolean isReleasable() {
+                        if (!done) {
+                            done = cancelled || queue.offer(o);
+                        }
+                        return done;
+                    }
+
+                    @Override
+                    public boolean block() throws InterruptedException {
+                        while (!done) {
+                            done = cancelled || queue.offer(o, POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                        }
+                        return true;
+                    }
+                });
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ConsumerAbortException();
+            }
+            if (cancelled) {
+                throw new ConsumerAbortException();
+            }
+        }
+
+        /**
+         * Passes all the results of the chunk to the consumer, waiting for them to be retrieved.
+         */
+        @SuppressWarnings("unchecked")
+        void consume(Consumer<T> consumer) throws RocksDBException, IOException {
+            while (true) {
+                Object o;
+                try {
+                    o = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new ParameterArchiveException("Interrupted while waiting for the retrieval", e);
+                }
+                if (o == END) {
+                    getResult(future);
+                    return;
+                } else if (o != null) {
+                    consumer.accept((T) o);
+                } else if (future.isDone() && queue.isEmpty()) {
+                    // the task did not run to the end (e.g. the executor has been shut down)
+                    getResult(future);
+                    throw new ParameterArchiveException("The retrieval has been aborted");
+                }
+            }
+        }
+
+        void cancel() {
+            cancelled = true;
+            future.cancel(true);
+        }
+    }
+
+    private static void getResult(Future<Void> future) throws RocksDBException, IOException {
+        try {
+            future.get();
+        } catch (CancellationException e) {
+            throw new ParameterArchiveException("The retrieval has been cancelled", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ParameterArchiveException("Interrupted while waiting for the retrieval", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            while (cause.getClass() == RuntimeException.class && cause.getCause() != null) {
+                // the ForkJoinPool wraps the checked exceptions, possibly more than once
+                cause = cause.getCause();
+            }
+            if (cause instanceof RocksDBException) {
+                throw (RocksDBException) cause;
+            } else if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else {
+                throw new ParameterArchiveException("Error retrieving data from the parameter archive", cause);
+            }
+        }
+    }
+}
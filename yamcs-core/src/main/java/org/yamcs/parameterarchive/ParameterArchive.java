@@ -7,8 +7,10 @@ import java.io.IOException;
 import java.io.PrintStream;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.Future;
 
 import org.rocksdb.ColumnFamilyHandle;
@@ -28,6 +30,7 @@ import org.yamcs.time.TimeService;
 import org.yamcs.utils.ByteArrayUtils;
 import org.yamcs.utils.DatabaseCorruptionException;
 import org.yamcs.utils.DecodingException;
+import org.yamcs.utils.IntArray;
 import org.yamcs.utils.IntHashSet;
 import org.yamcs.utils.PartitionedTimeInterval;
 import org.yamcs.utils.SortedIntArray;
@@ -88,6 +91,12 @@ public class ParameterArchive extends AbstractYamcsService {
     // from Yamcs 5.9.0, store the parameter archive data into a separate Column Family with this name
     public static final String CF_NAME = "parameter_archive";
 
+    // the rollups (see RollupSegment) are stored in each partition into a column family with this name
+    public static final String ROLLUP_CF_NAME = "parameter_archive_rollups";
+
+    // key in the rollup column family of the main database storing the coverage start for one tier
+    static final byte ROLLUP_COVERAGE_KEY = (byte) 0xFF;
+
     private ParameterIdDb parameterIdDb;
 
     private Tablespace tablespace;
@@ -110,6 +119,15 @@ public class ParameterArchive extends AbstractYamcsService {
     boolean sparseGroups;
     double minimumGroupOverlap;
 
+    // if not null, the retrievals over multiple intervals are performed in parallel on this pool
+    private ForkJoinPool retrievalPool;
+    int retrievalThreads;
+
+    // duration in seconds of the rollup tiers, sorted ascending; empty if the rollups are not enabled
+    int[] rollupTiers = new int[0];
+    // for each tier, the time from which the rollups are complete
+    long[] rollupCoverageStart = new long[0];
+
     @Override
     public Spec getSpec() {
         Spec spec = new Spec();
@@ -120,6 +138,15 @@ public class ParameterArchive extends AbstractYamcsService {
         spec.addOption("maxSegmentSize", OptionType.INTEGER).withDefault(500);
         spec.addOption("sparseGroups", OptionType.BOOLEAN).withDefault(true);
         spec.addOption("minimumGroupOverlap", OptionType.FLOAT).withDefault(0.5);
+        spec.addOption("retrievalThreads", OptionType.INTEGER).withDefault(1)
+                .withDescription("Number of threads used to retrieve data from different partitions/intervals "
+                        + "in parallel. The default 1 means that the retrieval is performed sequentially "
+                        + "in the thread requesting the data.");
+        spec.addOption("rollupTiers", OptionType.LIST).withElementType(OptionType.INTEGER)
+                .withDefault(Collections.emptyList())
+                .withDescription("Durations in seconds of the buckets for which the min/max/avg/count of the "
+                        + "numeric parameters are pre-computed. They are used to speed up the downsampling "
+                        + "of long time ranges. By default no rollup is computed.");
 
         return spec;
     }
@@ -151,6 +178,17 @@ public class ParameterArchive extends AbstractYamcsService {
         }
         sparseGroups = config.getBoolean("sparseGroups");
         minimumGroupOverlap = config.getDouble("minimumGroupOverlap");
+        retrievalThreads = config.getInt("retrievalThreads");
+        if (retrievalThreads < 1) {
+            throw new ConfigurationException("retrievalThreads has to be greater than 0");
+        }
+        List<Integer> tiers = config.getList("rollupTiers");
+        rollupTiers = tiers.stream().mapToInt(Integer::intValue).sorted().distinct().toArray();
+        for (int tier : rollupTiers) {
+            if (tier < 1 || tier > 86400) {
+                throw new ConfigurationException("Invalid rollup tier " + tier + "; it has to be between 1 and 86400");
+            }
+        }
 
         try {
             TablespaceRecord.Type trType = TablespaceRecord.Type.PARCHIVE_PINFO;
@@ -162,7 +200,8 @@ public class ParameterArchive extends AbstractYamcsService {
             parameterIdDb = new ParameterIdDb(yamcsInstance, tablespace, sparseGroups, minimumGroupOverlap);
 
             TablespaceRecord tr;
-            if (trl.isEmpty()) { // new database
+            boolean newDb = trl.isEmpty();
+            if (newDb) {
                 initializeDb();
             } else {// existing database
                 tr = trl.get(0);
@@ -176,6 +215,7 @@ public class ParameterArchive extends AbstractYamcsService {
                             tr.getParchiveVersion()));
                 }
             }
+            initializeRollups(newDb);
 
         } catch (RocksDBException | IOException e) {
             throw new InitException(e);
@@ -199,6 +239,80 @@ public class ParameterArchive extends AbstractYamcsService {
         partitionTbsIndex = tr.getTbsIndex();
     }
 
+    /**
+     * Reads (or creates) for each rollup tier the time from which the rollups are available.
+     * <p>
+     * If the tier is new and the database contains data, that time is set to the start of the next interval; the data
+     * before has to be retrieved and downsampled as usual.
+     */
+    private void initializeRollups(boolean newDb) throws RocksDBException {
+        rollupCoverageStart = new long[rollupTiers.length];
+        if (rollupTiers.length == 0) {
+            return;
+        }
+        YRDB db = tablespace.getRdb();
+        ColumnFamilyHandle cfh = db.createAndGetColumnFamilyHandle(ROLLUP_CF_NAME);
+        for (int i = 0; i < rollupTiers.length; i++) {
+            byte[] key = rollupCoverageKey(rollupTiers[i]);
+            byte[] v = db.get(cfh, key);
+            if (v == null) {
+                long t = newDb ? TimeEncoding.MIN_INSTANT
+                        : getIntervalEnd(timeService.getMissionTime()) + 1;
+                v = new byte[8];
+                ByteArrayUtils.encodeLong(t, v, 0);
+                db.put(cfh, key, v);
+                log.debug("Rollups for tier {}s available starting from {}", rollupTiers[i], TimeEncoding.toString(t));
+            }
+            rollupCoverageStart[i] = ByteArrayUtils.decodeLong(v, 0);
+        }
+    }
+
+    private static byte[] rollupCoverageKey(int tier) {
+        byte[] key = new byte[5];
+        key[0] = ROLLUP_COVERAGE_KEY;
+        ByteArrayUtils.encodeInt(tier, key, 1);
+        return key;
+    }
+
+    /**
+     * Returns the duration in seconds of the coarsest rollup tier not coarser than the given resolution or -1 if there
+     * is no such tier.
+     *
+     * @param resolution
+     *            - the resolution in milliseconds
+     */
+    public int getRollupTier(long resolution) {
+        int r = -1;
+        for (int tier : rollupTiers) {
+            if (tier * 1000L <= resolution) {
+                r = tier;
+            }
+        }
+        return r;
+    }
+
+    /**
+     * Returns the time from which the rollups of the given tier are available.
+     */
+    public long getRollupCoverageStart(int tier) {
+        for (int i = 0; i < rollupTiers.length; i++) {
+            if (rollupTiers[i] == tier) {
+                return rollupCoverageStart[i];
+            }
+        }
+        throw new IllegalArgumentException("No rollup tier " + tier);
+    }
+
+    /**
+     * Returns the time until which the rollups are available.
+     * <p>
+     * The recent data may still be in the memory of the realtime filler; to be on the safe side the end of the
+     * coverage is set to the start of the interval preceding the current one.
+     */
+    public long getRollupCoverageEnd() {
+        return getIntervalStart(timeService.getMissionTime()) - getIntervalDuration();
+    }
+
     public TimePartitionSchema getPartitioningSchema() {
         return partitioningSchema;
     }
@@ -396,6 +510,41 @@ public class ParameterArchive extends AbstractYamcsService {
                 writeBatch.merge(cfh, rawKey, rawValue);
             }
         }
+        if (rollupTiers.length > 0) {
+            writeRollupsToBatch(rdb, writeBatch, pgs, pgParams);
+        }
+    }
+
+    // computes the rollups of the numeric parameters of the segment.
+    // for the first segment in the interval, the rollups of the previous fillings of the interval are removed
+    private void writeRollupsToBatch(YRDB rdb, WriteBatch writeBatch, PGSegment pgs, IntArray pgParams)
+            throws RocksDBException {
+        ColumnFamilyHandle rcfh = rdb.createAndGetColumnFamilyHandle(ROLLUP_CF_NAME);
+        int pgid = pgs.getParameterGroupId();
+        long intervalStart = pgs.getInterval();
+        if (pgs.isFirstInInterval()) {
+            for (int i = 0; i < pgParams.size(); i++) {
+                for (int tier : rollupTiers) {
+                    writeBatch.deleteRange(rcfh, RollupSegment.key(pgParams.get(i), pgid, tier, intervalStart),
+                            RollupSegment.key(pgParams.get(i), pgid, tier, getIntervalEnd(intervalStart) + 1));
+                }
+            }
+        }
+        int n = pgs.getTimeSegment().size();
+        for (var pvs : pgs.pvSegments) {
+            if (pvs.engValueSegment == null || pvs.numValues() == 0) {
+                continue;
+            }
+            ParameterValueArray pva = pvs.getRange(0, n, true, false);
+            if (pva == null || !RollupSegment.isSupported(pva.getEngType())) {
+                continue;
+            }
+            for (int tier : rollupTiers) {
+                RollupSegment rs = new RollupSegment(tier * 1000L);
+                rs.add(pva.getTimestamps(), pva.getEngValues());
+                writeBatch.put(rcfh, RollupSegment.key(pvs.pid, pgid, tier, pgs.getSegmentStart()), rs.encode());
+            }
+        }
     }
 
     // writes to the archive without using the rocksdb merge operator (which merges segments together into intervals).
@@ -557,6 +706,9 @@ public class ParameterArchive extends AbstractYamcsService {
             realtimeFiller = new RealtimeArchiveFiller(this, realtimeFillerConfig);
             realtimeFiller.start();
         }
+        if (retrievalThreads > 1) {
+            retrievalPool = new ForkJoinPool(retrievalThreads);
+        }
         notifyStarted();
     }
 
@@ -570,6 +722,9 @@ public class ParameterArchive extends AbstractYamcsService {
             if (realtimeFiller != null) {
                 realtimeFiller.shutDown();
             }
+            if (retrievalPool != null) {
+                retrievalPool.shutdownNow();
+            }
         } catch (Exception e) {
             log.error("Error stopping realtime filler", e);
             notifyFailed(e);
@@ -654,7 +809,9 @@ public class ParameterArchive extends AbstractYamcsService {
             } else {
                 rdb.dropColumnFamily(p.cfName);
             }
+            rdb.dropColumnFamily(ROLLUP_CF_NAME);
         }
+        tablespace.getRdb().dropColumnFamily(ROLLUP_CF_NAME);
         partitions = new PartitionedTimeInterval<>();
 
         log.debug("removing metadata records related to main parameter archive data");
@@ -673,6 +830,7 @@ public class ParameterArchive extends AbstractYamcsService {
 
         parameterIdDb = new ParameterIdDb(yamcsInstance, tablespace, sparseGroups, minimumGroupOverlap);
         initializeDb();
+        initializeRollups(true);
         if (backFillerEnabled) {
             log.debug("Starting the back filler");
             backFiller = new BackFiller(this, backFillerConfig);
@@ -691,6 +849,15 @@ public class ParameterArchive extends AbstractYamcsService {
         return rdb.newIterator(cfh(rdb, p));
     }
 
+    /**
+     * Returns an iterator over the rollups of the partition or null if the partition does not contain rollups
+     */
+    RocksIterator getRollupIterator(Partition p) throws RocksDBException, IOException {
+        YRDB rdb = tablespace.getRdb(p.partitionDir, false);
+        ColumnFamilyHandle cfh = rdb.getColumnFamilyHandle(ROLLUP_CF_NAME);
+        return cfh == null ? null : rdb.newIterator(cfh);
+    }
+
     public SortedTimeSegment getTimeSegment(Partition p, long segmentStart, int parameterGroupId)
             throws RocksDBException, IOException {
 
@@ -835,6 +1002,22 @@ public class ParameterArchive extends AbstractYamcsService {
         return realtimeFiller;
     }
 
+    /**
+     * 
+     * @return the pool used for parallel retrievals or null if the retrieval is sequential
+     */
+    ForkJoinPool getRetrievalPool() {
+        return retrievalPool;
+    }
+
+    /**
+     * Sets the pool used for parallel retrievals; used in unit tests.
+     */
+    void setRetrievalPool(ForkJoinPool retrievalPool) {
+        this.retrievalPool = retrievalPool;
+        this.retrievalThreads = retrievalPool == null ? 1 : retrievalPool.getParallelism();
+    }
+
     public BackFiller getBackFiller() {
         return backFiller;
     }
@@ -60,12 +60,21 @@ public class ParameterValueSegment {
      * If the length is greater than 1, then all other positions will be initialised with gaps.
      */
     public ParameterValueSegment(int pid, SortedTimeSegment timeSegment, int pos, BasicParameterValue pv) {
+        this(pid, timeSegment, pos, pv, false);
+    }
+
+    /**
+     * Same as {@link #ParameterValueSegment(int, SortedTimeSegment, int, BasicParameterValue)} but if offHeap is
+     * true, the numeric values are stored outside the Java heap in {@link DirectValueSegment}s.
+     */
+    public ParameterValueSegment(int pid, SortedTimeSegment timeSegment, int pos, BasicParameterValue pv,
+            boolean offHeap) {
         this.pid = pid;
         this.timeSegment = timeSegment;
 
         Value v = pv.getEngValue();
         if (v != null) {
-            engValueSegment = getNewSegment(v.getType());
+            engValueSegment = getNewSegment(v.getType(), offHeap);
         } else {
             engValueSegment = null;
         }
@@ -75,7 +84,7 @@ public class ParameterValueSegment {
             Value rawV = pv.getRawValue();
 
             if (rawV != null) {
-                rawValueSegment = getNewSegment(rawV.getType());
+                rawValueSegment = getNewSegment(rawV.getType(), offHeap);
             } else {
                 rawValueSegment = null;
             }
@@ -278,7 +287,10 @@ public class ParameterValueSegment {
         return (BaseSegment) parameterStatusSegment;
     }
 
-    static private ValueSegment getNewSegment(Type type) {
+    static private ValueSegment getNewSegment(Type type, boolean offHeap) {
+        if (offHeap && DirectValueSegment.isSupported(type)) {
+            return new DirectValueSegment(type);
+        }
         switch (type) {
         case BINARY:
             return new BinaryValueSegment(true);
@@ -64,6 +64,9 @@ public class RealtimeArchiveFiller extends AbstractArchiveFiller {
 
     int numThreads;
 
+    // keep the numeric values of the segments being built up in direct buffers
+    boolean offHeapSegments;
+
     public RealtimeArchiveFiller(ParameterArchive parameterArchive, YConfiguration config) {
         super(parameterArchive);
         this.yamcsInstance = parameterArchive.getYamcsInstance();
@@ -73,6 +76,7 @@ public class RealtimeArchiveFiller extends AbstractArchiveFiller {
         sortingThreshold = config.getInt("sortingThreshold");
         numThreads = config.getInt("numThreads", getDefaultNumThreads());
         pastJumpThreshold = config.getLong("pastJumpThreshold") * 1000;
+        offHeapSegments = config.getBoolean("offHeapSegments", false);
         if (flushInterval * 1000 < sortingThreshold) {
             throw new ConfigurationException("flushInterval (" + flushInterval
                     + " seconds) cannot be smaller than the sorting threshold (" + sortingThreshold + " milliseconds)");
@@ -95,6 +99,11 @@ public class RealtimeArchiveFiller extends AbstractArchiveFiller {
                 "If no data is received for a parameter group in this number of seconds, then flush the data to disk. "
                         + "If data is received, the data will be flushed after maxSegmentSize data points are received")
                 .withDefault(60);
+        spec.addOption("offHeapSegments", OptionType.BOOLEAN).withDescription(
+                "If true, the numeric values of the segments being built up are kept outside the Java heap, "
+                        + "in direct buffers. This reduces the heap usage and the garbage collection pauses "
+                        + "when archiving large number of parameters.")
+                .withDefault(false);
         return spec;
     }
 
@@ -182,7 +191,7 @@ public class RealtimeArchiveFiller extends AbstractArchiveFiller {
         }
 
         SegmentQueue segQueue = queues.computeIfAbsent(pg.id,
-                id -> new SegmentQueue(pg.id, maxSegmentSize, pgs -> scheduleWriteToArchive(pgs),
+                id -> new SegmentQueue(pg.id, maxSegmentSize, offHeapSegments, pgs -> scheduleWriteToArchive(pgs),
                         interval -> readPgSegment(pg, interval)));
 
         synchronized (segQueue) {
@@ -326,6 +335,7 @@ public class RealtimeArchiveFiller extends AbstractArchiveFiller {
 
         final int parameterGroupId;
         final int maxSegmentSize;
+        final boolean offHeap;
 
         private long latestUpdateTime;
 
@@ -343,8 +353,15 @@ public class RealtimeArchiveFiller extends AbstractArchiveFiller {
         public SegmentQueue(int parameterGroupId, int maxSegmentSize,
                 Function<PGSegment, CompletableFuture<Void>> writeToArchiveFunction,
                 Function<Long, PGSegment> readFromArchiveFunction) {
+            this(parameterGroupId, maxSegmentSize, false, writeToArchiveFunction, readFromArchiveFunction);
+        }
+
+        public SegmentQueue(int parameterGroupId, int maxSegmentSize, boolean offHeap,
+                Function<PGSegment, CompletableFuture<Void>> writeToArchiveFunction,
+                Function<Long, PGSegment> readFromArchiveFunction) {
             this.parameterGroupId = parameterGroupId;
             this.maxSegmentSize = maxSegmentSize;
+            this.offHeap = offHeap;
             this.writeToArchiveFunction = writeToArchiveFunction;
             this.readFromArchiveFunction = readFromArchiveFunction;
         }
@@ -386,7 +403,7 @@ public class RealtimeArchiveFiller extends AbstractArchiveFiller {
                 }
                 // else we make a new segment continuing the previous one (if it exists)
                 var pids = pvList.getPids();
-                PGSegment seg = new PGSegment(parameterGroupId, ParameterArchive.getInterval(t), pids.size());
+                PGSegment seg = new PGSegment(parameterGroupId, ParameterArchive.getInterval(t), pids.size(), offHeap);
                 seg.addRecord(t, pvList);
                 if (prevSeg != null) {
                     prevSeg.freeze();
@@ -424,7 +441,7 @@ public class RealtimeArchiveFiller extends AbstractArchiveFiller {
             }
 
             var pids = pvList.getPids();
-            PGSegment seg = new PGSegment(parameterGroupId, ParameterArchive.getInterval(t), pids.size());
+            PGSegment seg = new PGSegment(parameterGroupId, ParameterArchive.getInterval(t), pids.size(), offHeap);
             seg.addRecord(t, pvList);
             // shift everything between k and tail to the right
             for (int i = k; i != tail; i = inc(i)) {
@@ -0,0 +1,118 @@
+package org.yamcs.parameterarchive;
+
+import static org.yamcs.parameterarchive.ParameterArchive.getIntervalEnd;
+import static org.yamcs.parameterarchive.ParameterArchive.getIntervalStart;
+
+import java.io.IOException;
+import java.util.function.Consumer;
+
+import org.rocksdb.RocksDBException;
+import org.rocksdb.RocksIterator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.yamcs.parameterarchive.ParameterArchive.Partition;
+import org.yamcs.utils.DatabaseCorruptionException;
+import org.yamcs.utils.DecodingException;
+import org.yamcs.yarch.rocksdb.AscendingRangeIterator;
+
+/**
+ * Retrieves the rollups (see {@link RollupSegment}) of one parameter for one tier.
+ * <p>
+ * The segments are delivered in no particular order (in case the parameter is part of multiple groups, the segments of
+ * each group are delivered one after the other) and only contain the buckets starting in the requested range.
+ * <p>
+ * The buckets are pre-aggregated and cannot be clipped, this is why the range has to be aligned to the tier duration:
+ * the buckets returned cover then exactly the requested range.
+ * <p>
+ * The caller has to make sure that the rollups are available for the requested range, see
+ * {@link ParameterArchive#getRollupCoverageStart(int)} and {@link ParameterArchive#getRollupCoverageEnd()}.
+ */
+public class RollupRetrieval {
+    private final Logger log = LoggerFactory.getLogger(RollupRetrieval.class);
+
+    final ParameterArchive parchive;
+    final ParameterId[] pids;
+    final long start;
+    final long stop;
+    final int tier;
+
+    /**
+     * 
+     * @param start
+     *            - start of the range (inclusive); it has to be aligned to the tier duration
+     * @param stop
+     *            - end of the range (exclusive); it has to be aligned to the tier duration
+     * @param tier
+     *            - duration of the tier in seconds
+     * @throws IllegalArgumentException
+     *             if the start or stop are not aligned to the tier duration
+     */
+    public RollupRetrieval(ParameterArchive parchive, String parameterFqn, long start, long stop, int tier) {
+        long tierMillis = tier * 1000L;
+        if (Math.floorMod(start, tierMillis) != 0 || Math.floorMod(stop, tierMillis) != 0) {
+            throw new IllegalArgumentException(
+                    "The range [" + start + ", " + stop + ") is not aligned to the tier duration " + tier + "s");
+        }
+        this.parchive = parchive;
+        this.pids = parchive.getParameterIdDb().get(parameterFqn);
+        this.start = start;
+        this.stop = stop;
+        this.tier = tier;
+    }
+
+    /**
+     * Returns true if the parameter may have rollups: it has been archived and all its engineering values are numeric.
+     */
+    public static boolean hasRollups(ParameterArchive parchive, String parameterFqn) {
+        ParameterId[] pids = parchive.getParameterIdDb().get(parameterFqn);
+        if (pids == null) {
+            return false;
+        }
+        for (ParameterId pid : pids) {
+            if (pid.getEngType() == null || !RollupSegment.isSupported(pid.getEngType())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public void retrieve(Consumer<RollupSegment> consumer) throws RocksDBException, IOException {
+        if (pids == null || start >= stop) {
+            return;
+        }
+        for (ParameterId pid : pids) {
+            int[] pgids = parchive.getParameterGroupIdDb().getAllGroups(pid.getPid());
+            for (int pgid : pgids) {
+                for (Partition p : parchive.getPartitions(getIntervalStart(start), getIntervalEnd(stop), true)) {
+                    if (p.version == 0) {
+                        log.debug("Skipping partition {} of version 0 (no rollups)", p);
+                        continue;
+                    }
+                    retrieve(p, pid.getPid(), pgid, consumer);
+                }
+            }
+        }
+    }
+
+    private void retrieve(Partition p, int pid, int pgid, Consumer<RollupSegment> consumer)
+            throws RocksDBException, IOException {
+        RocksIterator rit = parchive.getRollupIterator(p);
+        if (rit == null) {
+            return;
+        }
+        // the segments starting before the range start may contain buckets in range
+        byte[] rangeStart = RollupSegment.key(pid, pgid, tier, getIntervalStart(start));
+        byte[] rangeEnd = RollupSegment.key(pid, pgid, tier, stop - 1);
+        try (AscendingRangeIterator it = new AscendingRangeIterator(rit, rangeStart, rangeEnd)) {
+            while (it.isValid()) {
+                RollupSegment rs = RollupSegment.decode(it.value(), tier * 1000L).subRange(start, stop);
+                if (rs.size() > 0) {
+                    consumer.accept(rs);
+                }
+                it.next();
+            }
+        } catch (DecodingException e) {
+            throw new DatabaseCorruptionException(e);
+        }
+    }
+}
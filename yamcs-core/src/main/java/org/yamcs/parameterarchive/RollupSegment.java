@@ -0,0 +1,272 @@
+package org.yamcs.parameterarchive;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+import org.yamcs.parameter.ValueArray;
+import org.yamcs.protobuf.Yamcs.Value.Type;
+import org.yamcs.utils.DecodingException;
+import org.yamcs.utils.DoubleArray;
+import org.yamcs.utils.IntArray;
+import org.yamcs.utils.LongArray;
+import org.yamcs.utils.UnsignedLong;
+import org.yamcs.utils.VarIntUtil;
+
+/**
+ * Pre-aggregated values (count, min, max and sum) of one numeric parameter over fixed duration buckets.
+ * <p>
+ * The buckets are aligned to the tier duration (i.e. the bucket start is a multiple of the duration) and only the
+ * buckets containing at least one value are stored. A rollup segment is created for each segment written to the
+ * parameter archive; because the archive segments are not aligned to the tier duration, the first and the last bucket
+ * of consecutive rollup segments may have the same start.
+ */
+public class RollupSegment {
+    static final byte FORMAT_VERSION = 0;
+
+    final long duration;
+    final LongArray starts;
+    final IntArray counts;
+    final DoubleArray mins;
+    final LongArray minTimes;
+    final DoubleArray maxs;
+    final LongArray maxTimes;
+    final DoubleArray sums;
+
+    /**
+     * @param duration
+     *            - the duration of one bucket in milliseconds
+     */
+    public RollupSegment(long duration) {
+        this(duration, 0);
+    }
+
+    private RollupSegment(long duration, int capacity) {
+        this.duration = duration;
+        this.starts = new LongArray(capacity);
+        this.counts = new IntArray(capacity);
+        this.mins = new DoubleArray(capacity);
+        this.minTimes = new LongArray(capacity);
+        this.maxs = new DoubleArray(capacity);
+        this.maxTimes = new LongArray(capacity);
+        this.sums = new DoubleArray(capacity);
+    }
+
+    /**
+     * Key of a rollup segment in the rollup column family: parameter id, parameter group id, tier duration in seconds
+     * and segment start.
+     */
+    static byte[] key(int parameterId, int parameterGroupId, int tier, long segmentStart) {
+        ByteBuffer bb = ByteBuffer.allocate(20);
+        bb.putInt(parameterId);
+        bb.putInt(parameterGroupId);
+        bb.putInt(tier);
+        bb.putLong(SegmentKey.invertSign(segmentStart));
+        return bb.array();
+    }
+
+    /**
+     * Returns true if rollups can be computed for values of the given type.
+     */
+    public static boolean isSupported(Type type) {
+        switch (type) {
+        case FLOAT:
+        case DOUBLE:
+        case SINT32:
+        case UINT32:
+        case SINT64:
+        case UINT64:
+            return true;
+        default:
+            return false;
+        }
+    }
+
+    /**
+     * Adds the values from the array which has to be sorted ascending in time.
+     * <p>
+     * The values are supposed to be later in time than the values already added.
+     */
+    public void add(long[] timestamps, ValueArray values) {
+        Type type = values.getType();
+        for (int i = 0; i < timestamps.length; i++) {
+            add(timestamps[i], getDouble(type, values, i));
+        }
+    }
+
+    private static double getDouble(Type type, ValueArray values, int i) {
+        switch (type) {
+        case FLOAT:
+            return values.getFloatArray()[i];
+        case DOUBLE:
+            return values.getDoubleArray()[i];
+        case SINT32:
+            return values.getIntArray()[i];
+        case UINT32:
+            return values.getIntArray()[i] & 0xFFFFFFFFL;
+        case SINT64:
+            return values.getLongArray()[i];
+        case UINT64:
+            return UnsignedLong.toDouble(values.getLongArray()[i]);
+        default:
+            throw new IllegalArgumentException("Type " + type + " not supported");
+        }
+    }
+
+    void add(long time, double value) {
+        if (Double.isNaN(value)) {
+            return;
+        }
+        long bucketStart = Math.floorDiv(time, duration) * duration;
+        int n = starts.size();
+        if (n == 0 || starts.get(n - 1) != bucketStart) {
+            starts.add(bucketStart);
+            counts.add(1);
+            mins.add(value);
+            minTimes.add(time);
+            maxs.add(value);
+            maxTimes.add(time);
+            sums.add(value);
+            return;
+        }
+        int k = n - 1;
+        counts.set(k, counts.get(k) + 1);
+        if (value < mins.get(k)) {
+            mins.set(k, value);
+            minTimes.set(k, time);
+        }
+        if (value > maxs.get(k)) {
+            maxs.set(k, value);
+            maxTimes.set(k, time);
+        }
+        sums.set(k, sums.get(k) + value);
+    }
+
+    /**
+     * @return the number of buckets
+     */
+    public int size() {
+        return starts.size();
+    }
+
+    public long getDuration() {
+        return duration;
+    }
+
+    public long getStart(int idx) {
+        return starts.get(idx);
+    }
+
+    public int getCount(int idx) {
+        return counts.get(idx);
+    }
+
+    public double getMin(int idx) {
+        return mins.get(idx);
+    }
+
+    public long getMinTime(int idx) {
+        return minTimes.get(idx);
+    }
+
+    public double getMax(int idx) {
+        return maxs.get(idx);
+    }
+
+    public long getMaxTime(int idx) {
+        return maxTimes.get(idx);
+    }
+
+    public double getSum(int idx) {
+        return sums.get(idx);
+    }
+
+    /**
+     * Returns a segment containing only the buckets whose start is in the range [start, stop).
+     * <p>
+     * If all buckets are in range, this segment is returned.
+     */
+    public RollupSegment subRange(long start, long stop) {
+        int n = starts.size();
+        int i0 = 0;
+        while (i0 < n && starts.get(i0) < start) {
+            i0++;
+        }
+        int i1 = n;
+        while (i1 > i0 && starts.get(i1 - 1) >= stop) {
+            i1--;
+        }
+        if (i0 == 0 && i1 == n) {
+            return this;
+        }
+        RollupSegment rs = new RollupSegment(duration, i1 - i0);
+        for (int i = i0; i < i1; i++) {
+            rs.starts.add(starts.get(i));
+            rs.counts.add(counts.get(i));
+            rs.mins.add(mins.get(i));
+            rs.minTimes.add(minTimes.get(i));
+            rs.maxs.add(maxs.get(i));
+            rs.maxTimes.add(maxTimes.get(i));
+            rs.sums.add(sums.get(i));
+        }
+        return rs;
+    }
+
+    /**
+     * Encodes the segment. Except the first one, the bucket starts are stored as number of buckets from the previous
+     * one and the min/max times as offsets from the bucket start, in order to keep the size small.
+     */
+    public byte[] encode() {
+        int n = starts.size();
+        ByteBuffer bb = ByteBuffer.allocate(14 + n * 54);
+        bb.put(FORMAT_VERSION);
+        VarIntUtil.writeVarInt32(bb, n);
+        long prev = n == 0 ? 0 : starts.get(0);
+        bb.putLong(prev);
+        for (int i = 0; i < n; i++) {
+            long s = starts.get(i);
+            VarIntUtil.writeVarInt64(bb, (s - prev) / duration);
+            prev = s;
+            VarIntUtil.writeVarInt32(bb, counts.get(i));
+            bb.putDouble(mins.get(i));
+            VarIntUtil.writeVarInt64(bb, minTimes.get(i) - s);
+            bb.putDouble(maxs.get(i));
+            VarIntUtil.writeVarInt64(bb, maxTimes.get(i) - s);
+            bb.putDouble(sums.get(i));
+        }
+        byte[] r = new byte[bb.position()];
+        bb.rewind();
+        bb.get(r);
+        return r;
+    }
+
+    public static RollupSegment decode(byte[] b, long duration) throws DecodingException {
+        ByteBuffer bb = ByteBuffer.wrap(b);
+        try {
+            byte version = bb.get();
+            if (version != FORMAT_VERSION) {
+                throw new DecodingException("Invalid rollup segment format version " + version);
+            }
+            int n = VarIntUtil.readVarInt32(bb);
+            RollupSegment rs = new RollupSegment(duration, n);
+            long s = bb.getLong();
+            for (int i = 0; i < n; i++) {
+                s += VarIntUtil.readVarInt64(bb) * duration;
+                rs.starts.add(s);
+                rs.counts.add(VarIntUtil.readVarInt32(bb));
+                rs.mins.add(bb.getDouble());
+                rs.minTimes.add(s + VarIntUtil.readVarInt64(bb));
+                rs.maxs.add(bb.getDouble());
+                rs.maxTimes.add(s + VarIntUtil.readVarInt64(bb));
+                rs.sums.add(bb.getDouble());
+            }
+            return rs;
+        } catch (BufferUnderflowException e) {
+            throw new DecodingException("Cannot decode rollup segment", e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "RollupSegment [duration=" + duration + ", numBuckets=" + starts.size() + "]";
+    }
+}
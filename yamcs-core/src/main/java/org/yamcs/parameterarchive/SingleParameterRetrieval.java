@@ -1,9 +1,13 @@
 package org.yamcs.parameterarchive;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.List;
 import java.util.PriorityQueue;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
 
 import org.rocksdb.RocksDBException;
@@ -49,6 +53,15 @@ public class SingleParameterRetrieval {
 
     }
 
+    // used for retrieving one chunk in the parallel retrieval
+    private SingleParameterRetrieval(ParameterArchive parchive, ParameterId[] pids, int[] parameterGroupIds,
+            ParameterRequest req) {
+        this.req = req;
+        this.parchive = parchive;
+        this.pids = pids;
+        this.parameterGroupIds = parameterGroupIds;
+    }
+
     boolean hasData() {
         return pids != null;
     }
@@ -57,7 +70,40 @@ public class SingleParameterRetrieval {
         if (pids == null) {
             return;
         }
+        ForkJoinPool pool = parchive.getRetrievalPool();
+        if (pool != null) {
+            long[] boundaries = ParallelRetrieval.split(parchive, req.start, req.stop, pool.getParallelism());
+            if (boundaries.length > 2) {
+                retrieveParallel(pool, boundaries, consumer);
+                return;
+            }
+        }
+        retrieveSequential(consumer);
+    }
+
+    /**
+     * For each parameter id, retrieves the chunks [boundaries[i], boundaries[i+1]) in parallel on the pool
+     */
+    private void retrieveParallel(ForkJoinPool pool, long[] boundaries, Consumer<ParameterValueArray> consumer)
+            throws RocksDBException, IOException {
+        for (ParameterId pid : pids) {
+            List<ParallelRetrieval.ChunkRetrieval<ParameterValueArray>> tasks = new ArrayList<>(boundaries.length - 1);
+            for (int i = 0; i < boundaries.length - 1; i++) {
+                ParameterRequest chunkReq = new ParameterRequest(boundaries[i], boundaries[i + 1], req.ascending,
+                        req.isRetrieveEngineeringValues(), req.isRetrieveRawValues(),
+                        req.isRetrieveParameterStatus());
+                SingleParameterRetrieval chunkRetrieval = new SingleParameterRetrieval(parchive,
+                        new ParameterId[] { pid }, parameterGroupIds, chunkReq);
+                tasks.add(chunkRetrieval::retrieveSequential);
+            }
+            if (!req.ascending) {
+                Collections.reverse(tasks);
+            }
+            ParallelRetrieval.retrieve(pool, pool.getParallelism(), tasks, consumer);
+        }
+    }
 
+    private void retrieveSequential(Consumer<ParameterValueArray> consumer) throws RocksDBException, IOException {
         for (ParameterId pid : pids) {
             int[] pgids = parameterGroupIds;
             if (pgids == null) {
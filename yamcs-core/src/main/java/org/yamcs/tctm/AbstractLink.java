@@ -21,6 +21,7 @@ import org.yamcs.parameter.SystemParametersService;
 import org.yamcs.protobuf.Yamcs.Value.Type;
 import org.yamcs.time.TimeService;
 import org.yamcs.utils.DataRateMeter;
+import org.yamcs.utils.NettyTransport;
 import org.yamcs.xtce.EnumeratedParameterType;
 import org.yamcs.xtce.Parameter;
 import org.yamcs.xtce.UnitType;
@@ -28,6 +29,7 @@ import org.yamcs.xtce.UnitType;
 import com.google.common.util.concurrent.AbstractService;
 import com.google.common.util.concurrent.Service;
 
+import io.netty.channel.EventLoopGroup;
 import io.netty.channel.nio.NioEventLoopGroup;
 
 /**
@@ -58,8 +60,11 @@ public abstract class AbstractLink extends AbstractService
     /**
      * singleton for netty worker group. In the future we may have an option to create different worker groups for
      * different links but for now we stick to one.
+     * <p>
+     * It is created at first use with the transport configured by the {@code linkTransport} option in yamcs.yaml.
      */
-    static NioEventLoopGroup nelg = new NioEventLoopGroup();
+    static EventLoopGroup nelg;
+    static NettyTransport transport;
 
     @Override
     public void init(String instance, String name, YConfiguration config) throws ConfigurationException {
@@ -99,10 +104,75 @@ public abstract class AbstractLink extends AbstractService
         return "";
     }
 
-    protected static NioEventLoopGroup getEventLoop() {
+    /**
+     * Returns the event loop group shared by all the links.
+     * <p>
+     * The channels registered with this group have to be created with the channel classes of
+     * {@link #getTransport()}.
+     */
+    protected static synchronized EventLoopGroup getEventLoopGroup() {
+        if (nelg == null) {
+            transport = NettyTransport.fromConfig(getLinkTransportName());
+            nelg = transport.newEventLoopGroup(0, null);
+        }
         return nelg;
     }
 
+    /**
+     * Returns the event loop group shared by all the links if it uses the NIO transport.
+     * 
+     * @throws IllegalStateException
+     *             if another transport has been configured with the {@code linkTransport} option.
+     * @deprecated use {@link #getEventLoopGroup()} which works with all the transports.
+     */
+    @Deprecated
+    protected static NioEventLoopGroup getEventLoop() {
+        EventLoopGroup group = getEventLoopGroup();
+        if (group instanceof NioEventLoopGroup) {
+            return (NioEventLoopGroup) group;
+        }
+        throw new IllegalStateException("The links use the " + getTransport() + " transport; "
+                + "use getEventLoopGroup() instead of getEventLoop()");
+    }
+
+    /**
+     * Returns the transport of the event loop group shared by all the links.
+     */
+    protected static synchronized NettyTransport getTransport() {
+        getEventLoopGroup();
+        return transport;
+    }
+
+    /**
+     * Returns true if the class of this link overrides, below the given base class, one of the listed methods without
+     * arguments.
+     * <p>
+     * Used by the links receiving the data on the event loop to keep supporting the subclasses which override the
+     * methods of their former blocking implementation.
+     */
+    boolean overridesAny(Class<?> base, String... methodNames) {
+        for (Class<?> c = getClass(); c != base && c != null; c = c.getSuperclass()) {
+            for (String name : methodNames) {
+                try {
+                    c.getDeclaredMethod(name);
+                    return true;
+                } catch (NoSuchMethodException e) {
+                    // not overridden at this level
+                }
+            }
+        }
+        return false;
+    }
+
+    private static String getLinkTransportName() {
+        // the server configuration is not loaded when the links are used outside of a server (e.g. in unit tests)
+        YConfiguration serverConfig = YamcsServer.getServer().getConfig();
+        if (serverConfig == null) {
+            return "nio";
+        }
+        return serverConfig.getString("linkTransport", "nio");
+    }
+
     /**
      * Sets the disabled to false such that getNextPacket does not ignore the received datagrams
      */
@@ -45,4 +45,9 @@ public class CcsdsPacketInputStream implements PacketInputStream {
     public void close() throws IOException {
         dataInputStream.close();
     }
+
+    @Override
+    public boolean isRestartable() {
+        return true;
+    }
 }
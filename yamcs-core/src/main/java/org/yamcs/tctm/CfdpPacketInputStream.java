@@ -52,4 +52,9 @@ public class CfdpPacketInputStream implements PacketInputStream {
     public void close() throws IOException {
         dataInputStream.close();
     }
+
+    @Override
+    public boolean isRestartable() {
+        return true;
+    }
 }
@@ -36,4 +36,9 @@ public class FixedPacketInputStream implements PacketInputStream {
     public void close() throws IOException {
         dataInputStream.close();
     }
+
+    @Override
+    public boolean isRestartable() {
+        return true;
+    }
 }
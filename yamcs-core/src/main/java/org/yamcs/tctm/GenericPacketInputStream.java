@@ -103,7 +103,6 @@ public class GenericPacketInputStream implements PacketInputStream {
                             + " greater than maximum allowed " + maxPacketLength,
                     new PacketTooLongException(maxPacketLength, length));
         }
-        streamOffset += lengthFieldEndOffset;
         byte[] packet = new byte[length - initialBytesToStrip];
         int offset;
         if (initialBytesToStrip <= lengthFieldEndOffset) {
@@ -113,14 +112,19 @@ public class GenericPacketInputStream implements PacketInputStream {
             offset = 0;
             int skip = initialBytesToStrip - lengthFieldEndOffset;
             skipFully(dataInputStream, skip);
-            streamOffset += skip;
         }
         dataInputStream.readFully(packet, offset, packet.length - offset);
-        streamOffset += (packet.length - offset);
+        // updated only once the packet is complete such that it is correct if the packet is read again
+        streamOffset += length;
 
         return packet;
     }
 
+    @Override
+    public boolean isRestartable() {
+        return true;
+    }
+
     static void skipFully(InputStream in, int n) throws IOException {
         while (n > 0) {
             long skipped = in.skip(n);
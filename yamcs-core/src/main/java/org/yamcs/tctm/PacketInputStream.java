@@ -43,4 +43,20 @@ public interface PacketInputStream extends Closeable {
      *                if a packet read is longer than a defined limit
      */
     public byte[] readPacket() throws IOException, PacketTooLongException;
+
+    /**
+     * Returns true if, after an {@link EOFException} caused by a packet incomplete in the stream, the packet can be
+     * read again from its beginning by calling {@link #readPacket()} on a stream positioned back at the start of the
+     * packet.
+     * <p>
+     * This requires that the implementation does not read ahead beyond the end of the packet (e.g. by buffering the
+     * stream) and does not keep state between the calls to {@link #readPacket()}.
+     * <p>
+     * The links which receive the data asynchronously, such as {@link TcpTmDataLink}, use a
+     * {@link PacketInputStreamDecoder} for the restartable packet input streams and read the others from a dedicated
+     * thread.
+     */
+    default boolean isRestartable() {
+        return false;
+    }
 }
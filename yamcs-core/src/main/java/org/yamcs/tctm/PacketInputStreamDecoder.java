@@ -0,0 +1,96 @@
+package org.yamcs.tctm;
+
+import java.io.EOFException;
+import java.io.InputStream;
+import java.util.List;
+
+import org.yamcs.YConfiguration;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.ByteToMessageDecoder;
+
+/**
+ * Netty decoder which splits the received bytes into packets using a {@link PacketInputStream}. The packets are passed
+ * down the pipeline as byte arrays.
+ * <p>
+ * The packet input stream reads from the bytes received so far. If they do not contain a complete packet, the
+ * {@link EOFException} thrown by the packet input stream is caught and the packet is read again from its beginning
+ * when more data is received. This works only for the packet input streams which do not read ahead and do not keep
+ * state between packets, i.e. the ones which are {@link PacketInputStream#isRestartable() restartable}; the other ones
+ * are rejected.
+ */
+public class PacketInputStreamDecoder extends ByteToMessageDecoder {
+    final PacketInputStream packetInputStream;
+    final ByteBufInput input = new ByteBufInput();
+
+    /**
+     * @throws IllegalArgumentException
+     *             if the packet input stream is not restartable
+     */
+    public PacketInputStreamDecoder(PacketInputStream packetInputStream, YConfiguration args) {
+        if (!packetInputStream.isRestartable()) {
+            throw new IllegalArgumentException(packetInputStream.getClass().getName()
+                    + " is not restartable and cannot be used to decode the packets received asynchronously");
+        }
+        this.packetInputStream = packetInputStream;
+        packetInputStream.init(input, args);
+    }
+
+    @Override
+    protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) throws Exception {
+        int readerIndex = in.readerIndex();
+        input.buf = in;
+        try {
+            out.add(packetInputStream.readPacket());
+        } catch (EOFException e) {
+            // incomplete packet, wait for more data
+            in.readerIndex(readerIndex);
+        } finally {
+            input.buf = null;
+        }
+    }
+
+    /**
+     * Reads from the buffer being decoded; the end of the buffer is seen as end of stream.
+     */
+    static class ByteBufInput extends InputStream {
+        ByteBuf buf;
+
+        @Override
+        public int read() {
+            if (buf == null || !buf.isReadable()) {
+                return -1;
+            }
+            return buf.readUnsignedByte();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (buf == null || !buf.isReadable()) {
+                return -1;
+            }
+            int n = Math.min(len, buf.readableBytes());
+            buf.readBytes(b, off, n);
+            return n;
+        }
+
+        @Override
+        public long skip(long n) {
+            if (buf == null || n <= 0) {
+                return 0;
+            }
+            int k = (int) Math.min(n, buf.readableBytes());
+            buf.skipBytes(k);
+            return k;
+        }
+
+        @Override
+        public int available() {
+            return buf == null ? 0 : buf.readableBytes();
+        }
+    }
+}
@@ -6,6 +6,7 @@ import java.net.ConnectException;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.Socket;
+import java.util.concurrent.TimeUnit;
 
 import org.yamcs.ConfigurationException;
 import org.yamcs.Spec;
@@ -14,15 +15,52 @@ import org.yamcs.TmPacket;
 import org.yamcs.YConfiguration;
 import org.yamcs.utils.YObjectLoader;
 
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.SimpleChannelInboundHandler;
+
+/**
+ * Receives packets from a TCP server.
+ * <p>
+ * The connection is handled by the event loop group shared by all the links; the packets are delimited using the
+ * configured {@link PacketInputStream} (see {@link PacketInputStreamDecoder}).
+ * <p>
+ * If the connection cannot be established or is broken, the link retries to connect each 10 seconds.
+ * <p>
+ * The link falls back to reading the socket from a dedicated thread (the blocking mode used by the previous versions)
+ * if the packet input stream is not {@link PacketInputStream#isRestartable() restartable} or if a subclass overrides
+ * one of the deprecated {@link #openSocket()}, {@link #getNextPacket()} or {@link #run()} methods.
+ */
 public class TcpTmDataLink extends AbstractTmDataLink implements Runnable {
 
-    protected Socket tmSocket;
     protected String host;
     protected int port;
     protected long initialDelay;
 
     String packetInputStreamClassName;
     YConfiguration packetInputStreamArgs;
+    private volatile Channel channel;
+    boolean blocking;
+    // delay before reconnecting after the connection failed or was broken
+    long reconnectDelayMillis = 10_000;
+
+    /**
+     * The socket read in blocking mode.
+     * 
+     * @deprecated the socket is used only in blocking mode, the connection is otherwise handled by the event loop.
+     */
+    @Deprecated
+    protected volatile Socket tmSocket;
+    /**
+     * The packet input stream reading the socket in blocking mode.
+     * 
+     * @deprecated see {@link #tmSocket}
+     */
+    @Deprecated
     PacketInputStream packetInputStream;
     Thread thread;
 
@@ -52,47 +90,147 @@ public class TcpTmDataLink extends AbstractTmDataLink implements Runnable {
             packetInputStreamClassName = CcsdsPacketInputStream.class.getName();
             packetInputStreamArgs = YConfiguration.emptyConfig();
         }
-
-    }
-
-    protected void openSocket() throws IOException {
-        InetAddress address = InetAddress.getByName(host);
-        tmSocket = new Socket();
-        tmSocket.setKeepAlive(true);
-        tmSocket.connect(new InetSocketAddress(address, port), 1000);
-        try {
-            packetInputStream = YObjectLoader.loadObject(packetInputStreamClassName);
-        } catch (ConfigurationException e) {
-            log.error("Cannot instantiate the packetInput stream", e);
-            throw e;
+        PacketInputStream pis = YObjectLoader.loadObject(packetInputStreamClassName);
+        blocking = !pis.isRestartable() || overridesAny(TcpTmDataLink.class, "openSocket", "getNextPacket", "run");
+        if (blocking) {
+            log.debug("Reading the TM socket from a dedicated thread");
         }
-        packetInputStream.init(tmSocket.getInputStream(), packetInputStreamArgs);
     }
 
     @Override
     public void doStart() {
+        if (blocking) {
+            if (!isDisabled()) {
+                doEnable();
+            }
+            notifyStarted();
+            return;
+        }
         if (!isDisabled()) {
-            doEnable();
+            if (initialDelay > 0) {
+                getEventLoopGroup().schedule(this::reconnect, initialDelay, TimeUnit.MILLISECONDS);
+            } else {
+                connect();
+            }
         }
+        initialDelay = -1;
         notifyStarted();
     }
 
     @Override
     public void doStop() {
-        if (thread != null) {
-            thread.interrupt();
+        closeChannel();
+        stopThread();
+        notifyStopped();
+    }
+
+    /**
+     * Connects to the server unless already connected or connecting.
+     * <p>
+     * Once the channel is closed (because the connection failed or was broken), a new connection is attempted after
+     * 10 seconds if the link is still running and enabled.
+     */
+    protected synchronized void connect() {
+        if (channel != null && channel.isOpen()) {
+            return;
         }
-        if (tmSocket != null) {
-            try {
-                tmSocket.close();
-            } catch (IOException e) {
-                log.warn("Exception got when closing the tm socket:", e);
+        PacketInputStream packetInputStream = YObjectLoader.loadObject(packetInputStreamClassName);
+        var b = new Bootstrap()
+                .group(getEventLoopGroup())
+                .channel(getTransport().socketChannelClass())
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 1000)
+                .handler(new ChannelInitializer<Channel>() {
+                    @Override
+                    protected void initChannel(Channel ch) throws Exception {
+                        ch.pipeline().addLast(new PacketInputStreamDecoder(packetInputStream, packetInputStreamArgs));
+                        ch.pipeline().addLast(new PacketHandler());
+                    }
+                });
+
+        var future = b.connect(host, port);
+        channel = future.channel();
+        future.addListener((ChannelFuture f) -> {
+            if (f.isSuccess()) {
+                log.info("Link established to {}:{}", host, port);
+            } else if (isRunningAndEnabled()) {
+                Throwable e = f.cause();
+                log.warn("Cannot open TM socket {}:{}: {}. Retrying in 10 seconds.", host, port,
+                        (e instanceof ConnectException) ? e.getMessage() : e.toString());
             }
-            tmSocket = null;
+        });
+        // the channel is closed also if the connection fails
+        channel.closeFuture().addListener(f -> {
+            if (!isDisabled()) {
+                getEventLoopGroup().schedule(this::reconnect, reconnectDelayMillis, TimeUnit.MILLISECONDS);
+            }
+        });
+    }
+
+    private void reconnect() {
+        if (isRunningAndEnabled()) {
+            connect();
         }
-        notifyStopped();
     }
 
+    private void closeChannel() {
+        Channel ch = channel;
+        if (ch != null) {
+            ch.close().awaitUninterruptibly();
+            channel = null;
+        }
+    }
+
+    private void handlePacket(byte[] packet) {
+        if (!isRunningAndEnabled()) {
+            return;
+        }
+        TmPacket pwt = toTmPacket(packet);
+        if (pwt != null) {
+            processPacket(pwt);
+        }
+    }
+
+    /**
+     * Updates the statistics and passes the packet through the preprocessor
+     * 
+     * @return the preprocessed packet or null if the preprocessor discarded it
+     */
+    private TmPacket toTmPacket(byte[] packet) {
+        updateStats(packet.length);
+        TmPacket pkt = new TmPacket(timeService.getMissionTime(), packet);
+        pkt.setEarthReceptionTime(timeService.getHresMissionTime());
+        return packetPreprocessor.process(pkt);
+    }
+
+    /**
+     * Opens the socket in blocking mode.
+     * 
+     * @deprecated called only in blocking mode; in the default mode, the connection is made by {@link #connect()}.
+     */
+    @Deprecated
+    protected void openSocket() throws IOException {
+        InetAddress address = InetAddress.getByName(host);
+        Socket socket = new Socket();
+        socket.setKeepAlive(true);
+        socket.connect(new InetSocketAddress(address, port), 1000);
+        try {
+            packetInputStream = YObjectLoader.loadObject(packetInputStreamClassName);
+        } catch (ConfigurationException e) {
+            log.error("Cannot instantiate the packetInput stream", e);
+            socket.close();
+            throw e;
+        }
+        packetInputStream.init(socket.getInputStream(), packetInputStreamArgs);
+        tmSocket = socket;
+    }
+
+    /**
+     * Reads the packets in blocking mode until the link is stopped or disabled.
+     * 
+     * @deprecated see {@link #getNextPacket()}
+     */
+    @Deprecated
     @Override
     public void run() {
         if (initialDelay > 0) {
@@ -114,6 +252,14 @@ public class TcpTmDataLink extends AbstractTmDataLink implements Runnable {
         }
     }
 
+    /**
+     * Reads the next packet from the socket in blocking mode, reconnecting each 10 seconds if the socket cannot be
+     * opened or is broken.
+     * 
+     * @return the next packet or null if the link has been stopped or disabled
+     * @deprecated called only in blocking mode; in the default mode, the packets are read on the event loop.
+     */
+    @Deprecated
     public TmPacket getNextPacket() {
         TmPacket pwt = null;
         while (isRunningAndEnabled()) {
@@ -122,11 +268,7 @@ public class TcpTmDataLink extends AbstractTmDataLink implements Runnable {
                     openSocket();
                     log.info("Link established to {}:{}", host, port);
                 }
-                byte[] packet = packetInputStream.readPacket();
-                updateStats(packet.length);
-                TmPacket pkt = new TmPacket(timeService.getMissionTime(), packet);
-                pkt.setEarthReceptionTime(timeService.getHresMissionTime());
-                pwt = packetPreprocessor.process(pkt);
+                pwt = toTmPacket(packetInputStream.readPacket());
                 if (pwt != null) {
                     break;
                 }
@@ -144,7 +286,7 @@ public class TcpTmDataLink extends AbstractTmDataLink implements Runnable {
                 }
                 forceClosedSocket();
                 try {
-                    Thread.sleep(10000);
+                    Thread.sleep(reconnectDelayMillis);
                 } catch (InterruptedException e1) {
                     Thread.currentThread().interrupt();
                     return null;
@@ -158,35 +300,39 @@ public class TcpTmDataLink extends AbstractTmDataLink implements Runnable {
     }
 
     private void forceClosedSocket() {
-        if (tmSocket != null) {
+        Socket socket = tmSocket;
+        if (socket != null) {
             try {
-                tmSocket.close();
+                socket.close();
             } catch (Exception e2) {
             }
         }
         tmSocket = null;
     }
 
-    @Override
-    public void doDisable() {
-        if (tmSocket != null) {
-            try {
-                tmSocket.close();
-            } catch (IOException e) {
-                log.warn("Exception got when closing the tm socket:", e);
-            }
-            tmSocket = null;
-        }
+    private void stopThread() {
+        forceClosedSocket();
         if (thread != null) {
             thread.interrupt();
+            thread = null;
         }
     }
 
+    @Override
+    public void doDisable() {
+        closeChannel();
+        stopThread();
+    }
+
     @Override
     public void doEnable() {
-        thread = new Thread(this);
-        thread.setName(getClass().getSimpleName() + "-" + linkName);
-        thread.start();
+        if (blocking) {
+            thread = new Thread(this);
+            thread.setName(getClass().getSimpleName() + "-" + linkName);
+            thread.start();
+        } else {
+            connect();
+        }
     }
 
     @Override
@@ -194,15 +340,42 @@ public class TcpTmDataLink extends AbstractTmDataLink implements Runnable {
         if (isDisabled()) {
             return String.format("DISABLED (should connect to %s:%d)", host, port);
         }
-        if (tmSocket == null) {
-            return String.format("Not connected to %s:%d", host, port);
-        } else {
+        if (connectionStatus() == Status.OK) {
             return String.format("OK, connected to %s:%d", host, port);
+        } else {
+            return String.format("Not connected to %s:%d", host, port);
         }
     }
 
     @Override
     protected Status connectionStatus() {
-        return (tmSocket == null) ? Status.UNAVAIL : Status.OK;
+        if (blocking) {
+            return (tmSocket == null) ? Status.UNAVAIL : Status.OK;
+        }
+        Channel ch = channel;
+        return (ch != null && ch.isActive()) ? Status.OK : Status.UNAVAIL;
+    }
+
+    private class PacketHandler extends SimpleChannelInboundHandler<byte[]> {
+        @Override
+        protected void channelRead0(ChannelHandlerContext ctx, byte[] packet) {
+            handlePacket(packet);
+        }
+
+        @Override
+        public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+            if (isRunningAndEnabled()) {
+                log.warn("TM socket connection to {}:{} closed. Reconnecting in 10s.", host, port);
+            }
+            super.channelInactive(ctx);
+        }
+
+        @Override
+        public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+            if (isRunningAndEnabled()) {
+                log.warn("Cannot read TM socket {}:{}: {}", host, port, cause.toString());
+            }
+            ctx.close();
+        }
     }
 }
@@ -18,7 +18,6 @@ import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.socket.DatagramPacket;
-import io.netty.channel.socket.nio.NioDatagramChannel;
 
 /**
  * A UDP-based link that acts as a client: sending TC and receiving TM on the same socket pair.
@@ -72,7 +71,7 @@ public class UdpTcTmDataLink extends AbstractTcTmParamLink {
 
     @Override
     protected void doStart() {
-        var eventLoopGroup = getEventLoop();
+        var eventLoopGroup = getEventLoopGroup();
         eventLoopGroup.schedule(() -> createBootstrap(), initialDelay, TimeUnit.MILLISECONDS);
         addAction(new ChangeDestinationAction());
         notifyStarted();
@@ -97,14 +96,14 @@ public class UdpTcTmDataLink extends AbstractTcTmParamLink {
         if (channel != null && channel.isActive()) {
             return;
         }
-        var eventLoopGroup = getEventLoop();
+        var eventLoopGroup = getEventLoopGroup();
         var b = new Bootstrap()
                 .group(eventLoopGroup)
-                .channel(NioDatagramChannel.class)
-                .handler(new ChannelInitializer<NioDatagramChannel>() {
+                .channel(getTransport().datagramChannelClass())
+                .handler(new ChannelInitializer<Channel>() {
 
                     @Override
-                    protected void initChannel(NioDatagramChannel ch) throws Exception {
+                    protected void initChannel(Channel ch) throws Exception {
                         var pipeline = ch.pipeline();
                         pipeline.addLast(new UdpTcTmDataLinkHandler(UdpTcTmDataLink.this));
                     }
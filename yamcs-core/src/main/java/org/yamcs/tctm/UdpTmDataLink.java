@@ -1,7 +1,6 @@
 package org.yamcs.tctm;
 
 import java.io.IOException;
-import java.net.DatagramPacket;
 import java.net.DatagramSocket;
 import java.net.SocketException;
 import java.util.LinkedHashMap;
@@ -13,6 +12,16 @@ import org.yamcs.Spec.OptionType;
 import org.yamcs.TmPacket;
 import org.yamcs.YConfiguration;
 
+import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.FixedRecvByteBufAllocator;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.socket.DatagramPacket;
+
 /**
  * Receives telemetry packets via UDP. One UDP datagram = one TM packet.
  * <p>
@@ -25,15 +34,22 @@ import org.yamcs.YConfiguration;
  * Default: 0</li>
  * 
  * </ul>
+ * <p>
+ * The datagrams are received on the event loop group shared by all the links. If a subclass overrides one of the
+ * deprecated {@link #getNextPacket()} or {@link #run()} methods, the link falls back to receiving the datagrams from a
+ * dedicated thread as in the previous versions.
  */
 public class UdpTmDataLink extends AbstractTmDataLink implements Runnable {
     private volatile long invalidDatagramCount = 0;
 
-    private DatagramSocket tmSocket;
+    private volatile Channel channel;
     private int port;
+    boolean blocking;
+    // the socket read in blocking mode
+    private volatile DatagramSocket tmSocket;
+    java.net.DatagramPacket datagram;
 
     static final int MAX_LENGTH = 1500;
-    DatagramPacket datagram;
     int maxLength;
     int initialBytesToStrip;
 
@@ -58,19 +74,18 @@ public class UdpTmDataLink extends AbstractTmDataLink implements Runnable {
         port = config.getInt("port");
         maxLength = config.getInt("maxLength", MAX_LENGTH);
         initialBytesToStrip = config.getInt("initialBytesToStrip", 0);
-        datagram = new DatagramPacket(new byte[maxLength], maxLength);
-
+        blocking = overridesAny(UdpTmDataLink.class, "getNextPacket", "run");
+        if (blocking) {
+            datagram = new java.net.DatagramPacket(new byte[maxLength], maxLength);
+        }
     }
 
     @Override
     public void doStart() {
         if (!isDisabled()) {
             try {
-                tmSocket = new DatagramSocket(port);
-                Thread thread = new Thread(this);
-                thread.setName(getClass().getSimpleName() + "-" + linkName);
-                thread.start();
-            } catch (SocketException e) {
+                doEnable();
+            } catch (Exception e) {
                 notifyFailed(e);
                 return;
             }
@@ -80,12 +95,89 @@ public class UdpTmDataLink extends AbstractTmDataLink implements Runnable {
 
     @Override
     public void doStop() {
-        if (tmSocket != null) {
-            tmSocket.close();
-        }
+        closeChannel();
         notifyStopped();
     }
 
+    private void bind() throws InterruptedException {
+        var b = new Bootstrap()
+                .group(getEventLoopGroup())
+                .channel(getTransport().datagramChannelClass())
+                // the datagrams longer than maxLength are truncated
+                .option(ChannelOption.RCVBUF_ALLOCATOR, new FixedRecvByteBufAllocator(maxLength))
+                .handler(new SimpleChannelInboundHandler<DatagramPacket>() {
+                    @Override
+                    protected void channelRead0(ChannelHandlerContext ctx, DatagramPacket msg) {
+                        handleDatagram(msg.content());
+                    }
+                });
+        channel = b.bind(port).sync().channel();
+    }
+
+    private void closeChannel() {
+        Channel ch = channel;
+        if (ch != null) {
+            ch.close().awaitUninterruptibly();
+            channel = null;
+        }
+        DatagramSocket socket = tmSocket;
+        if (socket != null) {
+            socket.close();
+            tmSocket = null;
+        }
+    }
+
+    /**
+     * Called on the event loop for each datagram received.
+     */
+    private void handleDatagram(ByteBuf buf) {
+        if (!isRunningAndEnabled()) {
+            return;
+        }
+        if (!checkLength(buf.readableBytes())) {
+            return;
+        }
+        TmPacket tmPacket = toTmPacket(buf);
+        if (tmPacket != null) {
+            processPacket(tmPacket);
+        }
+    }
+
+    /**
+     * Returns false and counts the datagram as invalid if it is not longer than initialBytesToStrip
+     */
+    private boolean checkLength(int length) {
+        if (length <= initialBytesToStrip) {
+            log.warn("received datagram of size {} <= {} (initialBytesToStrip); ignored.",
+                    length, initialBytesToStrip);
+            invalidDatagramCount++;
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Strips the initial bytes from the datagram and passes the packet through the preprocessor
+     * 
+     * @return the preprocessed packet or null if the preprocessor discarded the packet
+     */
+    private TmPacket toTmPacket(ByteBuf buf) {
+        int length = buf.readableBytes();
+        updateStats(length);
+        byte[] packet = new byte[length - initialBytesToStrip];
+        buf.getBytes(buf.readerIndex() + initialBytesToStrip, packet);
+
+        TmPacket tmPacket = new TmPacket(timeService.getMissionTime(), packet);
+        tmPacket.setEarthReceptionTime(timeService.getHresMissionTime());
+        return packetPreprocessor.process(tmPacket);
+    }
+
+    /**
+     * Receives the datagrams in blocking mode until the link is stopped or disabled.
+     * 
+     * @deprecated see {@link #getNextPacket()}
+     */
+    @Deprecated
     @Override
     public void run() {
         while (isRunningAndEnabled()) {
@@ -97,47 +189,34 @@ public class UdpTmDataLink extends AbstractTmDataLink implements Runnable {
     }
 
     /**
+     * Called in blocking mode to retrieve the next packet. It blocks in reading on the socket.
      * 
-     * Called to retrieve the next packet. It blocks in readining on the multicast socket
-     * 
-     * @return anything that looks as a valid packet, just the size is taken into account to decide if it's valid or not
+     * @return the next packet or null if the link has been stopped or disabled or if the preprocessor has discarded
+     *         the packet
+     * @deprecated called only in blocking mode; by default, the datagrams are received on the event loop.
      */
+    @Deprecated
     public TmPacket getNextPacket() {
-        byte[] packet = null;
-
         while (isRunning()) {
+            DatagramSocket socket = tmSocket;
+            if (socket == null) {
+                return null;
+            }
             try {
-                tmSocket.receive(datagram);
-                int pktLength = datagram.getLength() - initialBytesToStrip;
-
-                if (pktLength <= 0) {
-                    log.warn("received datagram of size {} <= {} (initialBytesToStrip); ignored.",
-                            datagram.getLength(), initialBytesToStrip);
-                    invalidDatagramCount++;
-                    continue;
+                socket.receive(datagram);
+                if (checkLength(datagram.getLength())) {
+                    return toTmPacket(
+                            Unpooled.wrappedBuffer(datagram.getData(), datagram.getOffset(), datagram.getLength()));
                 }
-
-                updateStats(datagram.getLength());
-                packet = new byte[pktLength];
-                System.arraycopy(datagram.getData(), datagram.getOffset() + initialBytesToStrip, packet, 0, pktLength);
-                break;
             } catch (IOException e) {
                 if (!isRunning() || isDisabled()) {// the shutdown or disable will close the socket and that will
-                                                   // generate an exception
-                    // which we ignore here
+                                                   // generate an exception which we ignore here
                     return null;
                 }
                 log.warn("exception thrown when reading from the UDP socket at port {}", port, e);
             }
         }
-
-        if (packet != null) {
-            TmPacket tmPacket = new TmPacket(timeService.getMissionTime(), packet);
-            tmPacket.setEarthReceptionTime(timeService.getHresMissionTime());
-            return packetPreprocessor.process(tmPacket);
-        } else {
-            return null;
-        }
+        return null;
     }
 
     @Override
@@ -164,27 +243,29 @@ public class UdpTmDataLink extends AbstractTmDataLink implements Runnable {
     }
 
     /**
-     * Sets the disabled to true such that getNextPacket ignores the received datagrams
+     * Closes the socket such that no datagram is received
      */
     @Override
     public void doDisable() {
-        if (tmSocket != null) {
-            tmSocket.close();
-            tmSocket = null;
-        }
+        closeChannel();
     }
 
     /**
-     * Sets the disabled to false such that getNextPacket does not ignore the received datagrams
+     * Binds again the socket to receive the datagrams
      * 
+     * @throws InterruptedException
      * @throws SocketException
      */
     @Override
-    public void doEnable() throws SocketException {
-        tmSocket = new DatagramSocket(port);
-        Thread thread = new Thread(this);
-        thread.setName(getClass().getSimpleName() + "-" + linkName);
-        thread.start();
+    public void doEnable() throws InterruptedException, SocketException {
+        if (blocking) {
+            tmSocket = new DatagramSocket(port);
+            Thread thread = new Thread(this);
+            thread.setName(getClass().getSimpleName() + "-" + linkName);
+            thread.start();
+        } else {
+            bind();
+        }
     }
 
     @Override
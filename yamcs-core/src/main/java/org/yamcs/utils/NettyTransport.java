@@ -0,0 +1,87 @@
+package org.yamcs.utils;
+
+import java.util.concurrent.Executor;
+
+import org.yamcs.ConfigurationException;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollDatagramChannel;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.epoll.EpollSocketChannel;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.DatagramChannel;
+import io.netty.channel.socket.ServerSocketChannel;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioDatagramChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+
+/**
+ * The Netty transport used for the event loops and the channels.
+ * <p>
+ * {@link #NIO} is the portable Java NIO transport. {@link #EPOLL} is the native Linux transport which uses less system
+ * calls and produces less garbage; it is available only on Linux x86_64 and aarch64.
+ * <p>
+ * The channels have to be created with the channel classes of the same transport as the event loop group they are
+ * registered with.
+ */
+public enum NettyTransport {
+    NIO, EPOLL;
+
+    /**
+     * Returns the transport corresponding to the configuration value: {@code nio}, {@code epoll} or {@code auto}.
+     * <p>
+     * {@code auto} selects the native transport if available and NIO otherwise.
+     *
+     * @throws ConfigurationException
+     *             if the value is not known or if the native transport is requested but not available
+     */
+    public static NettyTransport fromConfig(String name) {
+        switch (name.toLowerCase()) {
+        case "nio":
+            return NIO;
+        case "epoll":
+            if (!Epoll.isAvailable()) {
+                throw new ConfigurationException("The epoll transport is not available: "
+                        + Epoll.unavailabilityCause().getMessage());
+            }
+            return EPOLL;
+        case "auto":
+            return Epoll.isAvailable() ? EPOLL : NIO;
+        default:
+            throw new ConfigurationException(
+                    "Unknown transport '" + name + "'. Supported values are nio, epoll or auto");
+        }
+    }
+
+    /**
+     * Creates a new event loop group of this transport.
+     *
+     * @param nThreads
+     *            - the number of threads; 0 means the Netty default (2 * number of CPU cores)
+     * @param executor
+     *            - used to create the threads; if null, the Netty default is used
+     */
+    public EventLoopGroup newEventLoopGroup(int nThreads, Executor executor) {
+        switch (this) {
+        case EPOLL:
+            return new EpollEventLoopGroup(nThreads, executor);
+        default:
+            return new NioEventLoopGroup(nThreads, executor);
+        }
+    }
+
+    public Class<? extends ServerSocketChannel> serverSocketChannelClass() {
+        return this == EPOLL ? EpollServerSocketChannel.class : NioServerSocketChannel.class;
+    }
+
+    public Class<? extends SocketChannel> socketChannelClass() {
+        return this == EPOLL ? EpollSocketChannel.class : NioSocketChannel.class;
+    }
+
+    public Class<? extends DatagramChannel> datagramChannelClass() {
+        return this == EPOLL ? EpollDatagramChannel.class : NioDatagramChannel.class;
+    }
+}
@@ -1,6 +1,7 @@
 package org.yamcs.yarch;
 
 import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
 
 import org.yamcs.logging.Log;
@@ -8,6 +9,8 @@ import org.yamcs.utils.ByteArrayUtils;
 import org.yamcs.utils.TimeInterval;
 import org.yamcs.yarch.streamsql.StreamSqlException;
 
+import com.google.common.collect.Lists;
+
 /**
  * Iterator through a table.
  * <p>
@@ -26,6 +29,9 @@ public abstract class AbstractTableWalker implements TableWalker {
     //by default everything
     private DbRange range = new DbRange();
 
+    // if not null, the walk is restricted to these ranges instead of the range above
+    private List<DbRange> ranges;
+
     //// if not null, only includes data from these partitions
     private Set<Object> partitionValueFilter;
     TimeInterval partitionTimeFilter;
@@ -61,18 +67,51 @@ public abstract class AbstractTableWalker implements TableWalker {
         running = true;
         Iterator<PartitionManager.Interval> partitionIterator = getIntervalIterator();
         try {
-            while (isRunning() && partitionIterator.hasNext()) {
-                PartitionManager.Interval interval = partitionIterator.next();
-                boolean endReached = walkInterval(interval, range, visitor);
-                if (endReached) {
-                    break;
-                }
+            if (ranges == null) {
+                walkIntervals(partitionIterator, range, visitor);
+            } else {
+                walkRanges(partitionIterator, visitor);
             }
         } finally {
             close();
         }
     }
 
+    /**
+     * Walks the intervals one after the other until the end of the range is reached or the walker is closed.
+     * <p>
+     * Subclasses may override this in order to read ahead the next intervals.
+     */
+    protected void walkIntervals(Iterator<PartitionManager.Interval> partitionIterator, DbRange range,
+            TableVisitor visitor) throws YarchException, StreamSqlException {
+        while (isRunning() && partitionIterator.hasNext()) {
+            PartitionManager.Interval interval = partitionIterator.next();
+            boolean endReached = walkInterval(interval, range, visitor);
+            if (endReached) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * Walks each of the ranges in each interval.
+     * <p>
+     * Once the end of a range has been reached in one interval, the range (and all the ranges before it) is not
+     * looked up in the next intervals, the same way the walk of one range stops.
+     */
+    private void walkRanges(Iterator<PartitionManager.Interval> partitionIterator, TableVisitor visitor)
+            throws YarchException, StreamSqlException {
+        List<DbRange> l = ascending ? ranges : Lists.reverse(ranges);
+        int first = 0;
+        while (isRunning() && first < l.size() && partitionIterator.hasNext()) {
+            PartitionManager.Interval interval = partitionIterator.next();
+            for (int i = first; i < l.size() && isRunning(); i++) {
+                if (walkInterval(interval, l.get(i), visitor)) {
+                    first = i + 1;
+                }
+            }
+        }
+    }
 
     private Iterator<PartitionManager.Interval> getIntervalIterator() {
         PartitionManager partitionManager = ydb.getPartitionManager(tableDefinition);
@@ -142,6 +181,11 @@ public abstract class AbstractTableWalker implements TableWalker {
         }
         this.range = range;
     }
+
+    @Override
+    public void setPrimaryIndexRanges(List<DbRange> ranges) {
+        this.ranges = ranges;
+    }
     
     /**
      * Runs the data in a time interval (corresponding to a time partition) sending data only that conform with the
@@ -161,4 +205,9 @@ public abstract class AbstractTableWalker implements TableWalker {
     public void close() {
         running = false;
     }
+
+    @Override
+    public boolean isFollow() {
+        return follow;
+    }
 }
@@ -0,0 +1,601 @@
+package org.yamcs.yarch;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+/**
+ * Computes one aggregate for all the groups of a {@link HashAggregator}.
+ * <p>
+ * The state of the groups is kept in arrays indexed by the group id. The count, sum, min, max and avg accumulators
+ * keep it in primitive arrays and read the primitive vectors of the {@link TupleBatch} directly, without boxing.
+ */
+public abstract class Accumulator {
+    // name of the input column, null if the accumulator does not need one
+    protected final String columnName;
+
+    protected Accumulator(String columnName) {
+        this.columnName = columnName;
+    }
+
+    /**
+     * Makes room for the groups with the id smaller than capacity.
+     */
+    protected abstract void ensureCapacity(int capacity);
+
+    protected abstract void add(int group, Tuple tuple);
+
+    /**
+     * Adds the first n rows of the batch, the row i belonging to the group groups[i].
+     */
+    protected void addBatch(TupleBatch batch, int[] groups, int n) {
+        for (int i = 0; i < n; i++) {
+            add(groups[i], batch.getTuple(i));
+        }
+    }
+
+    protected abstract Object getValue(int group);
+
+    /**
+     * Resets the state of the groups with the id smaller than numGroups.
+     */
+    protected abstract void clear(int numGroups);
+
+    /**
+     * Returns a compiled aggregate computing the value of one group with this accumulator.
+     */
+    public CompiledAggregateExpression toCompiledAggregate() {
+        ensureCapacity(1);
+        return new CompiledAggregateExpression() {
+            @Override
+            public void newData(Tuple tuple) {
+                add(0, tuple);
+            }
+
+            @Override
+            public Object getValue() {
+                return Accumulator.this.getValue(0);
+            }
+
+            @Override
+            public void clear() {
+                Accumulator.this.clear(1);
+            }
+        };
+    }
+
+    /**
+     * Counts all the rows.
+     */
+    public static Accumulator count() {
+        return new CountAccumulator(null);
+    }
+
+    /**
+     * Counts the rows having a non null value for the column.
+     */
+    public static Accumulator count(String columnName) {
+        return new CountAccumulator(columnName);
+    }
+
+    /**
+     * Sums the values of a numeric column. The result has the type of the column.
+     */
+    public static Accumulator sum(String columnName, DataType type) {
+        checkNumeric(columnName, type, "sum");
+        return type == DataType.DOUBLE ? new DoubleSumAccumulator(columnName)
+                : new LongSumAccumulator(columnName, type);
+    }
+
+    /**
+     * Computes the minimum or the maximum of the non null values of a column. The result is null if there is no
+     * value.
+     */
+    public static Accumulator minMax(String columnName, DataType type, boolean max) {
+        if (type == DataType.DOUBLE) {
+            return new DoubleMinMaxAccumulator(columnName, max);
+        } else if (DataType.isNumber(type)) {
+            return new LongMinMaxAccumulator(columnName, type, max);
+        } else {
+            return new ObjectMinMaxAccumulator(columnName, max);
+        }
+    }
+
+    /**
+     * Computes the average of the non null values of a numeric column. The result is a double or null if there is no
+     * value.
+     */
+    public static Accumulator avg(String columnName, DataType type) {
+        checkNumeric(columnName, type, "avg");
+        return new AvgAccumulator(columnName);
+    }
+
+    /**
+     * Keeps one instance of the compiled aggregate for each group. Used for the aggregates which have no specialized
+     * accumulator.
+     */
+    public static Accumulator perGroup(Supplier<CompiledAggregateExpression> supplier) {
+        return new PerGroupAccumulator(supplier);
+    }
+
+    private static void checkNumeric(String columnName, DataType type, String function) {
+        if (!DataType.isNumber(type)) {
+            throw new IllegalArgumentException(
+                    "Cannot compute " + function + " of column " + columnName + " of type " + type);
+        }
+    }
+
+    /**
+     * Returns the vector of the batch containing the values of the column as long, int or double array or null if
+     * the column is not part of the batch or is not stored in a numeric vector.
+     */
+    protected Object getNumericVector(TupleBatch batch) {
+        int col = batch.getDefinition().getColumnIndex(columnName);
+        if (col == -1) {
+            return null;
+        }
+        switch (batch.getDefinition().getColumn(col).getType().val) {
+        case BYTE:
+        case SHORT:
+        case INT:
+            return batch.getIntVector(col);
+        case LONG:
+        case TIMESTAMP:
+            return batch.getLongVector(col);
+        case DOUBLE:
+            return batch.getDoubleVector(col);
+        default:
+            return null;
+        }
+    }
+
+    static Object toType(long v, DataType type) {
+        switch (type.val) {
+        case BYTE:
+            return (byte) v;
+        case SHORT:
+            return (short) v;
+        case INT:
+            return (int) v;
+        default:
+            return v;
+        }
+    }
+}
+
+class CountAccumulator extends Accumulator {
+    long[] counts = new long[0];
+
+    // columnName null means that all the rows are counted
+    CountAccumulator(String columnName) {
+        super(columnName);
+    }
+
+    @Override
+    protected void ensureCapacity(int capacity) {
+        if (counts.length < capacity) {
+            counts = Arrays.copyOf(counts, capacity);
+        }
+    }
+
+    @Override
+    protected void add(int group, Tuple tuple) {
+        if (columnName == null || tuple.getColumn(columnName) != null) {
+            counts[group]++;
+        }
+    }
+
+    @Override
+    protected void addBatch(TupleBatch batch, int[] groups, int n) {
+        if (columnName == null) {
+            for (int i = 0; i < n; i++) {
+                counts[groups[i]]++;
+            }
+            return;
+        }
+        int col = batch.getDefinition().getColumnIndex(columnName);
+        if (col == -1) {
+            super.addBatch(batch, groups, n);
+            return;
+        }
+        for (int i = 0; i < n; i++) {
+            if (!batch.isNull(col, i)) {
+                counts[groups[i]]++;
+            }
+        }
+    }
+
+    @Override
+    protected Object getValue(int group) {
+        return counts[group];
+    }
+
+    @Override
+    protected void clear(int numGroups) {
+        Arrays.fill(counts, 0, numGroups, 0);
+    }
+}
+
+class LongSumAccumulator extends Accumulator {
+    final DataType type;
+    long[] sums = new long[0];
+
+    LongSumAccumulator(String columnName, DataType type) {
+        super(columnName);
+        this.type = type;
+    }
+
+    @Override
+    protected void ensureCapacity(int capacity) {
+        if (sums.length < capacity) {
+            sums = Arrays.copyOf(sums, capacity);
+        }
+    }
+
+    @Override
+    protected void add(int group, Tuple tuple) {
+        Number v = tuple.getColumn(columnName);
+        if (v != null) {
+            sums[group] += v.longValue();
+        }
+    }
+
+    @Override
+    protected void addBatch(TupleBatch batch, int[] groups, int n) {
+        Object vector = getNumericVector(batch);
+        if (vector instanceof long[]) {
+            int col = batch.getDefinition().getColumnIndex(columnName);
+            long[] v = (long[]) vector;
+            for (int i = 0; i < n; i++) {
+                if (!batch.isNull(col, i)) {
+                    sums[groups[i]] += v[i];
+                }
+            }
+        } else if (vector instanceof int[]) {
+            int col = batch.getDefinition().getColumnIndex(columnName);
+            int[] v = (int[]) vector;
+            for (int i = 0; i < n; i++) {
+                if (!batch.isNull(col, i)) {
+                    sums[groups[i]] += v[i];
+                }
+            }
+        } else {
+            super.addBatch(batch, groups, n);
+        }
+    }
+
+    @Override
+    protected Object getValue(int group) {
+        return toType(sums[group], type);
+    }
+
+    @Override
+    protected void clear(int numGroups) {
+        Arrays.fill(sums, 0, numGroups, 0);
+    }
+}
+
+class DoubleSumAccumulator extends Accumulator {
+    double[] sums = new double[0];
+
+    DoubleSumAccumulator(String columnName) {
+        super(columnName);
+    }
+
+    @Override
+    protected void ensureCapacity(int capacity) {
+        if (sums.length < capacity) {
+            sums = Arrays.copyOf(sums, capacity);
+        }
+    }
+
+    @Override
+    protected void add(int group, Tuple tuple) {
+        Number v = tuple.getColumn(columnName);
+        if (v != null) {
+            sums[group] += v.doubleValue();
+        }
+    }
+
+    @Override
+    protected void addBatch(TupleBatch batch, int[] groups, int n) {
+        Object vector = getNumericVector(batch);
+        if (vector instanceof double[]) {
+            int col = batch.getDefinition().getColumnIndex(columnName);
+            double[] v = (double[]) vector;
+            for (int i = 0; i < n; i++) {
+                if (!batch.isNull(col, i)) {
+                    sums[groups[i]] += v[i];
+                }
+            }
+        } else {
+            super.addBatch(batch, groups, n);
+        }
+    }
+
+    @Override
+    protected Object getValue(int group) {
+        return sums[group];
+    }
+
+    @Override
+    protected void clear(int numGroups) {
+        Arrays.fill(sums, 0, numGroups, 0);
+    }
+}
+
+class AvgAccumulator extends Accumulator {
+    double[] sums = new double[0];
+    long[] counts = new long[0];
+
+    AvgAccumulator(String columnName) {
+        super(columnName);
+    }
+
+    @Override
+    protected void ensureCapacity(int capacity) {
+        if (sums.length < capacity) {
+            sums = Arrays.copyOf(sums, capacity);
+            counts = Arrays.copyOf(counts, capacity);
+        }
+    }
+
+    @Override
+    protected void add(int group, Tuple tuple) {
+        Number v = tuple.getColumn(columnName);
+        if (v != null) {
+            sums[group] += v.doubleValue();
+            counts[group]++;
+        }
+    }
+
+    @Override
+    protected void addBatch(TupleBatch batch, int[] groups, int n) {
+        Object vector = getNumericVector(batch);
+        if (vector == null) {
+            super.addBatch(batch, groups, n);
+            return;
+        }
+        int col = batch.getDefinition().getColumnIndex(columnName);
+        for (int i = 0; i < n; i++) {
+            if (batch.isNull(col, i)) {
+                continue;
+            }
+            int g = groups[i];
+            if (vector instanceof double[]) {
+                sums[g] += ((double[]) vector)[i];
+            } else if (vector instanceof long[]) {
+                sums[g] += ((long[]) vector)[i];
+            } else {
+                sums[g] += ((int[]) vector)[i];
+            }
+            counts[g]++;
+        }
+    }
+
+    @Override
+    protected Object getValue(int group) {
+        return counts[group] == 0 ? null : sums[group] / counts[group];
+    }
+
+    @Override
+    protected void clear(int numGroups) {
+        Arrays.fill(sums, 0, numGroups, 0);
+        Arrays.fill(counts, 0, numGroups, 0);
+    }
+}
+
+class LongMinMaxAccumulator extends Accumulator {
+    final DataType type;
+    final boolean max;
+    long[] values = new long[0];
+    boolean[] hasValue = new boolean[0];
+
+    LongMinMaxAccumulator(String columnName, DataType type, boolean max) {
+        super(columnName);
+        this.type = type;
+        this.max = max;
+    }
+
+    @Override
+    protected void ensureCapacity(int capacity) {
+        if (values.length < capacity) {
+            values = Arrays.copyOf(values, capacity);
+            hasValue = Arrays.copyOf(hasValue, capacity);
+        }
+    }
+
+    private void add0(int g, long v) {
+        if (!hasValue[g] || (max ? v > values[g] : v < values[g])) {
+            values[g] = v;
+            hasValue[g] = true;
+        }
+    }
+
+    @Override
+    protected void add(int group, Tuple tuple) {
+        Number v = tuple.getColumn(columnName);
+        if (v != null) {
+            add0(group, v.longValue());
+        }
+    }
+
+    @Override
+    protected void addBatch(TupleBatch batch, int[] groups, int n) {
+        Object vector = getNumericVector(batch);
+        if (vector instanceof long[]) {
+            int col = batch.getDefinition().getColumnIndex(columnName);
+            long[] v = (long[]) vector;
+            for (int i = 0; i < n; i++) {
+                if (!batch.isNull(col, i)) {
+                    add0(groups[i], v[i]);
+                }
+            }
+        } else if (vector instanceof int[]) {
+            int col = batch.getDefinition().getColumnIndex(columnName);
+            int[] v = (int[]) vector;
+            for (int i = 0; i < n; i++) {
+                if (!batch.isNull(col, i)) {
+                    add0(groups[i], v[i]);
+                }
+            }
+        } else {
+            super.addBatch(batch, groups, n);
+        }
+    }
+
+    @Override
+    protected Object getValue(int group) {
+        return hasValue[group] ? toType(values[group], type) : null;
+    }
+
+    @Override
+    protected void clear(int numGroups) {
+        Arrays.fill(hasValue, 0, numGroups, false);
+    }
+}
+
+class DoubleMinMaxAccumulator extends Accumulator {
+    final boolean max;
+    double[] values = new double[0];
+    boolean[] hasValue = new boolean[0];
+
+    DoubleMinMaxAccumulator(String columnName, boolean max) {
+        super(columnName);
+        this.max = max;
+    }
+
+    @Override
+    protected void ensureCapacity(int capacity) {
+        if (values.length < capacity) {
+            values = Arrays.copyOf(values, capacity);
+            hasValue = Arrays.copyOf(hasValue, capacity);
+        }
+    }
+
+    private void add0(int g, double v) {
+        if (!hasValue[g] || (max ? v > values[g] : v < values[g])) {
+            values[g] = v;
+            hasValue[g] = true;
+        }
+    }
+
+    @Override
+    protected void add(int group, Tuple tuple) {
+        Number v = tuple.getColumn(columnName);
+        if (v != null) {
+            add0(group, v.doubleValue());
+        }
+    }
+
+    @Override
+    protected void addBatch(TupleBatch batch, int[] groups, int n) {
+        Object vector = getNumericVector(batch);
+        if (vector instanceof double[]) {
+            int col = batch.getDefinition().getColumnIndex(columnName);
+            double[] v = (double[]) vector;
+            for (int i = 0; i < n; i++) {
+                if (!batch.isNull(col, i)) {
+                    add0(groups[i], v[i]);
+                }
+            }
+        } else {
+            super.addBatch(batch, groups, n);
+        }
+    }
+
+    @Override
+    protected Object getValue(int group) {
+        return hasValue[group] ? values[group] : null;
+    }
+
+    @Override
+    protected void clear(int numGroups) {
+        Arrays.fill(hasValue, 0, numGroups, false);
+    }
+}
+
+class ObjectMinMaxAccumulator extends Accumulator {
+    final boolean max;
+    Object[] values = new Object[0];
+
+    ObjectMinMaxAccumulator(String columnName, boolean max) {
+        super(columnName);
+        this.max = max;
+    }
+
+    @Override
+    protected void ensureCapacity(int capacity) {
+        if (values.length < capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+    }
+
+    @Override
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    protected void add(int group, Tuple tuple) {
+        Object v = tuple.getColumn(columnName);
+        if (v == null) {
+            return;
+        }
+        if (!(v instanceof Comparable)) {
+            throw new IllegalArgumentException("Values of column " + columnName + " cannot be compared");
+        }
+        Comparable c = (Comparable) values[group];
+        if (c == null || (max ? c.compareTo(v) < 0 : c.compareTo(v) > 0)) {
+            values[group] = v;
+        }
+    }
+
+    @Override
+    protected Object getValue(int group) {
+        return values[group];
+    }
+
+    @Override
+    protected void clear(int numGroups) {
+        Arrays.fill(values, 0, numGroups, null);
+    }
+}
+
+class PerGroupAccumulator extends Accumulator {
+    final Supplier<CompiledAggregateExpression> supplier;
+    CompiledAggregateExpression[] aggregates = new CompiledAggregateExpression[0];
+
+    PerGroupAccumulator(Supplier<CompiledAggregateExpression> supplier) {
+        super(null);
+        this.supplier = supplier;
+    }
+
+    @Override
+    protected void ensureCapacity(int capacity) {
+        if (aggregates.length < capacity) {
+            aggregates = Arrays.copyOf(aggregates, capacity);
+        }
+    }
+
+    private CompiledAggregateExpression get(int group) {
+        CompiledAggregateExpression cae = aggregates[group];
+        if (cae == null) {
+            cae = supplier.get();
+            cae.clear();
+            aggregates[group] = cae;
+        }
+        return cae;
+    }
+
+    @Override
+    protected void add(int group, Tuple tuple) {
+        get(group).newData(tuple);
+    }
+
+    @Override
+    protected Object getValue(int group) {
+        return get(group).getValue();
+    }
+
+    @Override
+    protected void clear(int numGroups) {
+        // new instances are created such that the values already returned (e.g. lists) are not modified
+        Arrays.fill(aggregates, 0, numGroups, null);
+    }
+}
@@ -1,6 +1,14 @@
 package org.yamcs.yarch;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Predicate;
@@ -59,6 +67,42 @@ public interface Bucket {
     void putObject(String objectName, String contentType, Map<String, String> metadata, byte[] objectData)
             throws IOException;
 
+    /**
+     * Stores the object reading its data from the input stream until the end of the stream.
+     * <p>
+     * The stream is not closed by this method.
+     * <p>
+     * The default implementation reads the whole stream in memory; the implementations should override it to store
+     * the data as it is read.
+     */
+    default void putObject(String objectName, String contentType, Map<String, String> metadata, InputStream in)
+            throws IOException {
+        putObject(objectName, contentType, metadata, in.readAllBytes());
+    }
+
+    /**
+     * Same as {@link #putObject(String, String, Map, InputStream)} but reading the data from a channel.
+     */
+    default void putObject(String objectName, String contentType, Map<String, String> metadata,
+            ReadableByteChannel channel) throws IOException {
+        putObject(objectName, contentType, metadata, Channels.newInputStream(channel));
+    }
+
+    /**
+     * Stores the content of the file as object. The file is consumed: it is either moved into the bucket or deleted
+     * after its data has been stored (also if the object could not be stored).
+     * <p>
+     * The default implementation copies the data with {@link #putObject(String, String, Map, ReadableByteChannel)}.
+     */
+    default void moveFileToObject(String objectName, String contentType, Map<String, String> metadata, Path file)
+            throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            putObject(objectName, contentType, metadata, channel);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
     /**
      * Retrieve object from the bucket. Returns null if object does not exist.
      * 
@@ -68,6 +112,60 @@ public interface Bucket {
      */
     byte[] getObject(String objectName) throws IOException;
 
+    /**
+     * Opens a stream for reading the object data. Returns null if the object does not exist.
+     * <p>
+     * The caller has to close the returned stream.
+     */
+    default InputStream openObject(String objectName) throws IOException {
+        return openObject(objectName, 0, -1);
+    }
+
+    /**
+     * Opens a stream for reading a range of the object data. Returns null if the object does not exist.
+     * <p>
+     * The range is truncated to the object size; a negative length means until the end of the object.
+     * <p>
+     * The default implementation retrieves the whole object in memory.
+     * 
+     * @param objectName
+     * @param offset
+     *            - the position of the first byte to be read
+     * @param length
+     *            - the maximum number of bytes to be read or -1 to read until the end of the object
+     * @return the stream or null if the object does not exist
+     * @throws IOException
+     */
+    default InputStream openObject(String objectName, long offset, long length) throws IOException {
+        byte[] data = getObject(objectName);
+        if (data == null) {
+            return null;
+        }
+        int start = (int) Math.min(offset, data.length);
+        int end = length < 0 ? data.length : (int) Math.min(data.length, start + length);
+        return new ByteArrayInputStream(data, start, end - start);
+    }
+
+    /**
+     * Opens a stream for reading the object data together with the properties of the object. The stream reads the
+     * version of the object described by the properties even if the object is replaced while it is read. Returns null
+     * if the object does not exist.
+     * <p>
+     * The caller has to close the returned stream.
+     * <p>
+     * The default implementation retrieves the whole object in memory and sets the size in the properties to the
+     * size of the retrieved data.
+     */
+    default BucketObjectStream openObjectSnapshot(String objectName) throws IOException {
+        ObjectProperties props = findObject(objectName);
+        byte[] data = getObject(objectName);
+        if (props == null || data == null) {
+            return null;
+        }
+        return new BucketObjectStream(new ByteArrayInputStream(data),
+                ObjectProperties.newBuilder(props).setSize(data.length).build());
+    }
+
     void deleteObject(String objectName) throws IOException;
 
     /**
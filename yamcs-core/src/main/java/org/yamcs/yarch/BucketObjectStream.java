@@ -0,0 +1,25 @@
+package org.yamcs.yarch;
+
+import java.io.FilterInputStream;
+import java.io.InputStream;
+
+import org.yamcs.yarch.rocksdb.protobuf.Tablespace.ObjectProperties;
+
+/**
+ * Stream reading the data of one version of a bucket object, returned by {@link Bucket#openObjectSnapshot(String)}.
+ * <p>
+ * The properties (including the size) are those of the version being read, even if the object is replaced or
+ * deleted while the stream is open.
+ */
+public class BucketObjectStream extends FilterInputStream {
+    private final ObjectProperties properties;
+
+    public BucketObjectStream(InputStream in, ObjectProperties properties) {
+        super(in);
+        this.properties = properties;
+    }
+
+    public ObjectProperties getProperties() {
+        return properties;
+    }
+}
@@ -4,4 +4,19 @@ public interface CompiledExpression {
     ColumnDefinition getDefinition();
     Object getValue(Tuple tuple);  
 
-}
\ No newline at end of file
+    /**
+     * Evaluates the boolean expression for all the rows of the batch for which the selection is true and sets the
+     * selection to false for the rows where the result is false or null.
+     * <p>
+     * The default implementation builds a tuple for each row and calls {@link #getValue(Tuple)}; the expressions
+     * compiled from StreamSQL evaluate the rows directly on the column vectors of the batch.
+     */
+    default void filter(TupleBatch batch, boolean[] selection) {
+        for (int i = 0; i < batch.size(); i++) {
+            if (selection[i]) {
+                Boolean v = (Boolean) getValue(batch.getTuple(i));
+                selection[i] = v != null && v;
+            }
+        }
+    }
+}
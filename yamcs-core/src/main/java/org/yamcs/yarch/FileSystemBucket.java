@@ -1,12 +1,17 @@
 package org.yamcs.yarch;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.file.DirectoryStream;
 import java.nio.file.FileVisitOption;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -23,6 +28,8 @@ import org.yamcs.yarch.rocksdb.protobuf.Tablespace.BucketProperties;
 import org.yamcs.yarch.rocksdb.protobuf.Tablespace.ObjectProperties;
 import org.yamcs.yarch.rocksdb.protobuf.Tablespace.ObjectPropertiesOrBuilder;
 
+import com.google.common.io.ByteStreams;
+
 public class FileSystemBucket implements Bucket {
 
     private static final long DEFAULT_MAX_SIZE = 100L * 1024 * 1024; // 100MB
@@ -145,44 +152,116 @@ public class FileSystemBucket implements Bucket {
         Path path = resolvePath(objectName);
 
         if (objectName.endsWith("/")) {
-            if (!Files.exists(path)) {
-                Files.createDirectories(path);
-            } else if (!Files.isDirectory(path)) {
-                throw new IOException("Object path is already in use");
-            }
+            createDirectory(path);
         } else {
             // Current implementation ignores specified contentType, instead deriving
             // MIME type from the filename extension.
-            boolean fileExists = Files.isRegularFile(path);
-
-            // Verify limits
-            AtomicLong size = new AtomicLong(fileExists ? -Files.size(path) : 0);
-            AtomicInteger count = new AtomicInteger(fileExists ? -1 : 0);
-            Set<FileVisitOption> opts = EnumSet.of(FileVisitOption.FOLLOW_LINKS);
-            Files.walkFileTree(root, opts, Integer.MAX_VALUE, new SimpleFileVisitor<Path>() {
-                @Override
-                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
-                    size.addAndGet(attrs.size());
-                    count.incrementAndGet();
-                    return FileVisitResult.CONTINUE;
-                }
-            });
+            verifyLimits(getUsage(path), objectData.length);
+
+            if (!Files.exists(path.getParent())) { // Check to avoid error when the parent is a symlink
+                Files.createDirectories(path.getParent());
+            }
+            Files.write(path, objectData);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The data is copied to a temporary file next to the object file which is then moved in place of the object file.
+     * The copy stops as soon as the size limit of the bucket is exceeded, in which case the temporary file is removed.
+     */
+    @Override
+    public void putObject(String objectName, String contentType, Map<String, String> metadata, InputStream in)
+            throws IOException {
+        Path path = resolvePath(objectName);
 
-            long newSize = size.get() + objectData.length;
-            if (newSize > maxSize) {
-                throw new IOException("Maximum bucket size " + maxSize + " exceeded");
+        if (objectName.endsWith("/")) {
+            createDirectory(path);
+        } else {
+            // verifies also the number of objects
+            long[] usage = getUsage(path);
+            verifyLimits(usage, 0);
+
+            if (!Files.exists(path.getParent())) { // Check to avoid error when the parent is a symlink
+                Files.createDirectories(path.getParent());
+            }
+            Path tmp = Files.createTempFile(path.getParent(), "." + path.getFileName(), ".tmp");
+            try {
+                // read at most one byte more than the remaining space, enough to know that the limit is exceeded
+                long size = Files.copy(ByteStreams.limit(in, maxSize - usage[0] + 1), tmp,
+                        StandardCopyOption.REPLACE_EXISTING);
+                verifyLimits(usage, size);
+                Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tmp);
             }
+        }
+    }
 
-            int newCount = count.get() + 1;
-            if (newCount > maxObjects) {
-                throw new IOException(
-                        "Maximum number of objects in the bucket " + newCount + " exceeded");
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The file is moved in place of the object file; no data is copied if the file is on the same file system as the
+     * bucket.
+     */
+    @Override
+    public void moveFileToObject(String objectName, String contentType, Map<String, String> metadata, Path file)
+            throws IOException {
+        try {
+            if (objectName.endsWith("/")) {
+                throw new IOException("Cannot store a file as directory object " + objectName);
             }
+            Path path = resolvePath(objectName);
+            verifyLimits(getUsage(path), Files.size(file));
 
             if (!Files.exists(path.getParent())) { // Check to avoid error when the parent is a symlink
                 Files.createDirectories(path.getParent());
             }
-            Files.write(path, objectData);
+            Files.move(file, path, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private void createDirectory(Path path) throws IOException {
+        if (!Files.exists(path)) {
+            Files.createDirectories(path);
+        } else if (!Files.isDirectory(path)) {
+            throw new IOException("Object path is already in use");
+        }
+    }
+
+    /**
+     * Returns the size and the number of files in the bucket, not counting the file at the given path.
+     */
+    private long[] getUsage(Path path) throws IOException {
+        boolean fileExists = Files.isRegularFile(path);
+
+        AtomicLong size = new AtomicLong(fileExists ? -Files.size(path) : 0);
+        AtomicInteger count = new AtomicInteger(fileExists ? -1 : 0);
+        Set<FileVisitOption> opts = EnumSet.of(FileVisitOption.FOLLOW_LINKS);
+        Files.walkFileTree(root, opts, Integer.MAX_VALUE, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                size.addAndGet(attrs.size());
+                count.incrementAndGet();
+                return FileVisitResult.CONTINUE;
+            }
+        });
+        return new long[] { size.get(), count.get() };
+    }
+
+    private void verifyLimits(long[] usage, long objectSize) throws IOException {
+        long newSize = usage[0] + objectSize;
+        if (newSize > maxSize) {
+            throw new IOException("Maximum bucket size " + maxSize + " exceeded");
+        }
+
+        long newCount = usage[1] + 1;
+        if (newCount > maxObjects) {
+            throw new IOException(
+                    "Maximum number of objects in the bucket " + newCount + " exceeded");
         }
     }
 
@@ -196,6 +275,54 @@ public class FileSystemBucket implements Bucket {
         }
     }
 
+    @Override
+    public InputStream openObject(String objectName, long offset, long length) throws IOException {
+        Path path = getObjectPath(objectName);
+        if (path == null) {
+            return null;
+        }
+        FileChannel fc = FileChannel.open(path, StandardOpenOption.READ);
+        fc.position(Math.max(offset, 0));
+        InputStream in = Channels.newInputStream(fc);
+        return length < 0 ? in : ByteStreams.limit(in, length);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The file is opened before reading its attributes; since the objects are replaced by moving a new file in place,
+     * the open file keeps the data of the version being read.
+     */
+    @Override
+    public BucketObjectStream openObjectSnapshot(String objectName) throws IOException {
+        Path path = getObjectPath(objectName);
+        if (path == null) {
+            return null;
+        }
+        FileChannel fc = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            BasicFileAttributes attrs = Files.readAttributes(path, BasicFileAttributes.class);
+            ObjectProperties props = ObjectProperties.newBuilder(toObjectProperties(objectName, path, attrs))
+                    .setSize(fc.size())
+                    .build();
+            return new BucketObjectStream(Channels.newInputStream(fc), props);
+        } catch (IOException e) {
+            fc.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the path of the file storing the object or null if the object does not exist or is a directory.
+     * <p>
+     * Can be used to transfer the object data without copying it in memory (e.g. with
+     * {@link FileChannel#transferTo(long, long, java.nio.channels.WritableByteChannel)}).
+     */
+    public Path getObjectPath(String objectName) throws IOException {
+        Path path = resolvePath(objectName);
+        return Files.isRegularFile(path) ? path : null;
+    }
+
     @Override
     public void deleteObject(String objectName) throws IOException {
         Path path = resolvePath(objectName);
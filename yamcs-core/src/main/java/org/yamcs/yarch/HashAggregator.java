@@ -0,0 +1,233 @@
+package org.yamcs.yarch;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import org.yamcs.LimitExceededException;
+
+/**
+ * Hash aggregation: groups the tuples by the values of the group columns and computes the aggregates for each group.
+ * <p>
+ * The groups are found with an open addressing hash table (linear probing) storing the group ids; the aggregates are
+ * computed by {@link Accumulator}s keeping the state of all groups in arrays indexed by group id.
+ * <p>
+ * Without group columns, all the tuples belong to one group.
+ * <p>
+ * The output tuples contain the values of the group columns followed by the values of the aggregates, in the order
+ * in which the groups have been first seen.
+ */
+public class HashAggregator {
+    public static final int MAX_GROUPS = 100_000;
+    static final int INITIAL_CAPACITY = 16;
+
+    final String[] groupColumns;
+    final Accumulator[] accumulators;
+    final TupleDefinition outputDef;
+
+    // open addressing table: group id + 1, 0 meaning free slot; the size is a power of 2
+    private int[] slots;
+    private int[] groupHashes;
+    private Object[][] groupKeys;
+    private int numGroups;
+
+    // reused when adding batches
+    private int[] batchGroups = new int[0];
+
+    /**
+     *
+     * @param groupColumns
+     *            - the names of the group columns in the input tuples
+     * @param accumulators
+     *            - the accumulators computing the aggregates
+     * @param outputDef
+     *            - the definition of the output tuples: the group columns followed by the aggregates
+     */
+    public HashAggregator(List<String> groupColumns, List<Accumulator> accumulators, TupleDefinition outputDef) {
+        if (outputDef.size() != groupColumns.size() + accumulators.size()) {
+            throw new IllegalArgumentException("The output definition does not match the group columns and aggregates");
+        }
+        this.groupColumns = groupColumns.toArray(new String[0]);
+        this.accumulators = accumulators.toArray(new Accumulator[0]);
+        this.outputDef = outputDef;
+        init();
+    }
+
+    private void init() {
+        slots = new int[2 * INITIAL_CAPACITY];
+        groupHashes = new int[INITIAL_CAPACITY];
+        groupKeys = new Object[INITIAL_CAPACITY][];
+        numGroups = 0;
+        for (Accumulator acc : accumulators) {
+            acc.ensureCapacity(INITIAL_CAPACITY);
+        }
+    }
+
+    public void add(Tuple tuple) {
+        int group;
+        if (groupColumns.length == 0) {
+            group = getSingleGroup();
+        } else {
+            Object[] key = new Object[groupColumns.length];
+            for (int i = 0; i < key.length; i++) {
+                key[i] = tuple.getColumn(groupColumns[i]);
+            }
+            group = findOrAddGroup(key);
+        }
+        for (Accumulator acc : accumulators) {
+            acc.add(group, tuple);
+        }
+    }
+
+    /**
+     * Adds all the tuples of the batch. The groups are computed first for the whole batch and then each accumulator
+     * processes the batch at once.
+     */
+    public void addBatch(TupleBatch batch) {
+        int n = batch.size();
+        if (n == 0) {
+            return;
+        }
+        if (batchGroups.length < n) {
+            batchGroups = new int[n];
+        }
+        if (groupColumns.length == 0) {
+            Arrays.fill(batchGroups, 0, n, getSingleGroup());
+        } else {
+            int[] cols = new int[groupColumns.length];
+            for (int j = 0; j < cols.length; j++) {
+                cols[j] = batch.getDefinition().getColumnIndex(groupColumns[j]);
+            }
+            for (int i = 0; i < n; i++) {
+                Object[] key = new Object[cols.length];
+                for (int j = 0; j < cols.length; j++) {
+                    key[j] = batch.get(cols[j], i);
+                }
+                batchGroups[i] = findOrAddGroup(key);
+            }
+        }
+        for (Accumulator acc : accumulators) {
+            acc.addBatch(batch, batchGroups, n);
+        }
+    }
+
+    /**
+     * Returns one tuple for each group. Without group columns, one tuple is returned even if no data has been added.
+     */
+    public List<Tuple> getResult() {
+        if (groupColumns.length == 0) {
+            getSingleGroup();
+        }
+        List<Tuple> result = new ArrayList<>(numGroups);
+        for (int g = 0; g < numGroups; g++) {
+            Object[] v = new Object[outputDef.size()];
+            Object[] key = groupKeys[g];
+            System.arraycopy(key, 0, v, 0, key.length);
+            for (int i = 0; i < accumulators.length; i++) {
+                v[key.length + i] = accumulators[i].getValue(g);
+            }
+            result.add(new Tuple(outputDef, v));
+        }
+        return result;
+    }
+
+    /**
+     * Removes all the groups.
+     */
+    public void clear() {
+        for (Accumulator acc : accumulators) {
+            acc.clear(numGroups);
+        }
+        if (groupKeys.length > INITIAL_CAPACITY) {
+            init();
+        } else {
+            Arrays.fill(slots, 0);
+            Arrays.fill(groupKeys, 0, numGroups, null);
+            numGroups = 0;
+        }
+    }
+
+    public int getNumGroups() {
+        return numGroups;
+    }
+
+    private int getSingleGroup() {
+        if (numGroups == 0) {
+            newGroup(new Object[0], 0);
+        }
+        return 0;
+    }
+
+    private int findOrAddGroup(Object[] key) {
+        int h = hash(key);
+        int mask = slots.length - 1;
+        int idx = h & mask;
+        while (true) {
+            int s = slots[idx];
+            if (s == 0) {
+                int g = newGroup(key, h);
+                if (2 * numGroups > slots.length) {
+                    rehash();
+                } else {
+                    slots[idx] = g + 1;
+                }
+                return g;
+            }
+            int g = s - 1;
+            if (groupHashes[g] == h && keyEquals(groupKeys[g], key)) {
+                return g;
+            }
+            idx = (idx + 1) & mask;
+        }
+    }
+
+    private int newGroup(Object[] key, int h) {
+        if (numGroups >= MAX_GROUPS) {
+            throw new LimitExceededException("Too many groups, the limit is " + MAX_GROUPS);
+        }
+        if (numGroups == groupKeys.length) {
+            int capacity = 2 * groupKeys.length;
+            groupKeys = Arrays.copyOf(groupKeys, capacity);
+            groupHashes = Arrays.copyOf(groupHashes, capacity);
+            for (Accumulator acc : accumulators) {
+                acc.ensureCapacity(capacity);
+            }
+        }
+        int g = numGroups++;
+        groupKeys[g] = key;
+        groupHashes[g] = h;
+        return g;
+    }
+
+    // doubles the table and inserts all the groups (including the last one added)
+    private void rehash() {
+        slots = new int[2 * slots.length];
+        int mask = slots.length - 1;
+        for (int g = 0; g < numGroups; g++) {
+            int idx = groupHashes[g] & mask;
+            while (slots[idx] != 0) {
+                idx = (idx + 1) & mask;
+            }
+            slots[idx] = g + 1;
+        }
+    }
+
+    static int hash(Object[] key) {
+        int h = 1;
+        for (Object o : key) {
+            h = 31 * h + (o instanceof byte[] ? Arrays.hashCode((byte[]) o) : Objects.hashCode(o));
+        }
+        // spread the bits such that the low bits used for indexing depend on all of them
+        return h ^ (h >>> 16);
+    }
+
+    static boolean keyEquals(Object[] k1, Object[] k2) {
+        for (int i = 0; i < k1.length; i++) {
+            if (!Objects.deepEquals(k1[i], k2[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -49,7 +49,8 @@ public class HistogramReaderStream extends Stream implements Runnable {
                     mergeTime);
         }
         try {
-            iter = ydb.getStorageEngine(tblDef).getHistogramIterator(ydb, tblDef, histoColumnName, timeInterval);
+            iter = ydb.getStorageEngine(tblDef).getHistogramIterator(ydb, tblDef, histoColumnName, timeInterval,
+                    mergeTime);
             HistogramRecord r;
             while (!quit && iter.hasNext()) {
                 r = iter.next();
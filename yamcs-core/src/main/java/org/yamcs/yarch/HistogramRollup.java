@@ -0,0 +1,211 @@
+package org.yamcs.yarch;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+
+import org.yamcs.utils.StringConverter;
+import org.yamcs.utils.TaiUtcConverter.DateTimeComponents;
+import org.yamcs.utils.TimeEncoding;
+import org.yamcs.utils.TimeInterval;
+
+/**
+ * Keeps the histogram records of one column value for a long time bucket (a day or a calendar month).
+ * <p>
+ * The rollups are maintained alongside the {@link HistogramSegment}s; the records separated by less than the
+ * resolution of the rollup level are merged such that reading the histograms over long time ranges requires only a
+ * few records.
+ */
+public class HistogramRollup {
+    /**
+     * The rollup levels, from the finest to the coarsest.
+     * <p>
+     * The MONTH buckets are the calendar (UTC) months, as for the YYYY/MM partitioning.
+     */
+    public enum Level {
+        DAY(1, 24 * 3600 * 1000L, 60 * 1000L),
+        MONTH(2, 31 * 24 * 3600 * 1000L, 3600 * 1000L);
+
+        // stored in the database keys
+        private final int id;
+        private final long bucketSize;
+        private final long resolution;
+
+        private Level(int id, long bucketSize, long resolution) {
+            this.id = id;
+            this.bucketSize = bucketSize;
+            this.resolution = resolution;
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        /**
+         *
+         * @return the (maximum) duration in milliseconds of the buckets
+         */
+        public long getBucketSize() {
+            return bucketSize;
+        }
+
+        /**
+         *
+         * @return the maximum gap in milliseconds between two records which are merged
+         */
+        public long getResolution() {
+            return resolution;
+        }
+
+        /**
+         * Selects the coarsest level which can be used to read the histograms for the given interval: its resolution
+         * has to be smaller than the merge time and the interval has to cover at least one bucket.
+         *
+         * @return the selected level or null if the histogram segments have to be used
+         */
+        public static Level select(TimeInterval interval, long mergeTime) {
+            Level[] levels = values();
+            for (int i = levels.length - 1; i >= 0; i--) {
+                Level l = levels[i];
+                if (l.resolution <= mergeTime && (!interval.hasStart() || !interval.hasEnd()
+                        || interval.getEnd() - interval.getStart() >= l.bucketSize)) {
+                    return l;
+                }
+            }
+            return null;
+        }
+    }
+
+    static final int REC_SIZE = 20; // 8 bytes for start and stop, 4 bytes for num
+
+    final Level level;
+    final byte[] columnv;
+    final long bucket;
+    final ArrayList<Rec> recs;
+
+    /**
+     * Constructs an empty rollup
+     */
+    public HistogramRollup(Level level, byte[] columnv, long bucket) {
+        this.level = level;
+        this.columnv = columnv;
+        this.bucket = bucket;
+        this.recs = new ArrayList<>();
+    }
+
+    /**
+     * Constructs a rollup from its serialized value (as returned by {@link #val()})
+     */
+    public HistogramRollup(Level level, byte[] columnv, long bucket, byte[] val) {
+        this(level, columnv, bucket);
+        ByteBuffer v = ByteBuffer.wrap(val);
+        while (v.hasRemaining()) {
+            recs.add(new Rec(v.getLong(), v.getLong(), v.getInt()));
+        }
+    }
+
+    public static long bucket(Level level, long instant) {
+        if (level == Level.MONTH) {
+            DateTimeComponents dtc = TimeEncoding.toUtc(instant);
+            return (dtc.getYear() - 1970) * 12L + dtc.getMonth() - 1;
+        }
+        return Math.floorDiv(instant, level.bucketSize);
+    }
+
+    /**
+     * Returns the first instant of the bucket, the inverse of {@link #bucket(Level, long)}
+     */
+    public static long bucketStart(Level level, long bucket) {
+        if (level == Level.MONTH) {
+            int year = (int) Math.floorDiv(bucket, 12) + 1970;
+            int month = (int) Math.floorMod(bucket, 12) + 1;
+            return TimeEncoding.fromUtc(new DateTimeComponents(year, month, 1, 0, 0, 0, 0));
+        }
+        return bucket * level.bucketSize;
+    }
+
+    public Level getLevel() {
+        return level;
+    }
+
+    public long getBucket() {
+        return bucket;
+    }
+
+    public byte[] val() {
+        ByteBuffer bbv = ByteBuffer.allocate(REC_SIZE * recs.size());
+        for (Rec r : recs) {
+            bbv.putLong(r.start);
+            bbv.putLong(r.stop);
+            bbv.putInt(r.num);
+        }
+        return bbv.array();
+    }
+
+    /**
+     * Decodes one of the records serialized by {@link #val()}
+     *
+     * @param val
+     *            - the serialized rollup
+     * @param idx
+     *            - index of the record
+     */
+    public static HistogramRecord getRecord(byte[] columnv, byte[] val, int idx) {
+        ByteBuffer v = ByteBuffer.wrap(val, idx * REC_SIZE, REC_SIZE);
+        return new HistogramRecord(columnv, v.getLong(), v.getLong(), v.getInt());
+    }
+
+    public static int numRecords(byte[] val) {
+        return val.length / REC_SIZE;
+    }
+
+    public void add(long instant) {
+        add(instant, instant, 1);
+    }
+
+    /**
+     * Adds num tuples spread between start and stop, merging the records closer than the resolution.
+     * <p>
+     * The records are kept sorted; the data being usually added in time order, the search starts from the end.
+     */
+    public void add(long start, long stop, int num) {
+        long res = level.resolution;
+        int i = recs.size();
+        while (i > 0 && recs.get(i - 1).start - res > stop) {
+            i--;
+        }
+        Rec r = new Rec(start, stop, num);
+        while (i > 0 && recs.get(i - 1).stop + res >= start) {
+            Rec r1 = recs.remove(--i);
+            r.start = Math.min(r.start, r1.start);
+            r.stop = Math.max(r.stop, r1.stop);
+            r.num += r1.num;
+        }
+        recs.add(i, r);
+    }
+
+    public int size() {
+        return recs.size();
+    }
+
+    @Override
+    public String toString() {
+        return "level: " + level + ", bucket: " + bucket + ", columnv: " + StringConverter.arrayToHexString(columnv)
+                + " recs:" + recs;
+    }
+
+    static class Rec {
+        long start, stop;
+        int num;
+
+        Rec(long start, long stop, int num) {
+            this.start = start;
+            this.stop = stop;
+            this.num = num;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("time:(%d,%d), num: %d", start, stop, num);
+        }
+    }
+}
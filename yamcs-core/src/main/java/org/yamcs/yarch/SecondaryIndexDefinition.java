@@ -0,0 +1,33 @@
+package org.yamcs.yarch;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Definition of a secondary index of a table: a name unique within the table and the list of indexed columns.
+ * <p>
+ * The index allows to find the rows of the table having given values for the first indexed column without scanning
+ * the whole table.
+ */
+public class SecondaryIndexDefinition {
+    final String name;
+    final List<String> columns;
+
+    public SecondaryIndexDefinition(String name, List<String> columns) {
+        this.name = name;
+        this.columns = Collections.unmodifiableList(columns);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<String> getColumns() {
+        return columns;
+    }
+
+    @Override
+    public String toString() {
+        return name + columns;
+    }
+}
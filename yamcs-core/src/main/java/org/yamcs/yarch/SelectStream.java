@@ -1,6 +1,7 @@
 package org.yamcs.yarch;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -81,6 +82,52 @@ public class SelectStream extends Stream implements StreamSubscriber {
         }
     }
 
+    /**
+     * The where clause is evaluated on the whole batch; if there is no select list (select * from ...) and no window,
+     * the selected rows are emitted further as a batch. If the aggregates are computed directly on the input columns,
+     * the selected rows are passed as a batch to the window processor. Otherwise they are processed one by one.
+     */
+    @Override
+    public void onTupleBatch(Stream stream, TupleBatch batch) {
+        if (isClosed()) {
+            return;
+        }
+        TupleBatch selected = batch;
+        if (whereExp != null) {
+            boolean[] selection = new boolean[batch.size()];
+            Arrays.fill(selection, true);
+            whereExp.filter(batch, selection);
+            selected = batch.select(selection);
+        }
+        if (windowProc == null && selectList == null) {
+            // the stream may have been closed while the where clause was evaluated
+            if (!isClosed()) {
+                emitTupleBatch(selected);
+            }
+            return;
+        }
+        if (windowProc != null && aggInputList == null) {
+            for (Tuple t : windowProc.newBatch(selected)) {
+                if (isClosed()) {
+                    break;
+                }
+                processSelectList(t);
+            }
+            return;
+        }
+        for (int i = 0; i < selected.size(); i++) {
+            if (isClosed()) {
+                break;
+            }
+            Tuple t = selected.getTuple(i);
+            if (windowProc != null) {
+                processWindow(t);
+            } else {
+                processSelectList(t);
+            }
+        }
+    }
+
     private void processWindow(Tuple tuple) {
         if (aggInputList != null) {
             Object[] v = new Object[aggInputList.size()];
@@ -76,6 +76,16 @@ public interface StorageEngine {
     public HistogramIterator getHistogramIterator(YarchDatabaseInstance ydb, TableDefinition tblDef, String columnName,
             TimeInterval interval) throws YarchException;
 
+    /**
+     * Same as {@link #getHistogramIterator(YarchDatabaseInstance, TableDefinition, String, TimeInterval)} but the
+     * returned records may be coarser: the records separated by less than mergeTime milliseconds may be merged. This
+     * allows the engine to read pre-aggregated histograms for long time intervals.
+     */
+    default HistogramIterator getHistogramIterator(YarchDatabaseInstance ydb, TableDefinition tblDef,
+            String columnName, TimeInterval interval, long mergeTime) throws YarchException {
+        return getHistogramIterator(ydb, tblDef, columnName, interval);
+    }
+
     public BucketDatabase getBucketDatabase(YarchDatabaseInstance yarchDatabaseInstance) throws YarchException;
 
     public ProtobufDatabase getProtobufDatabase(YarchDatabaseInstance ydb) throws YarchException;
@@ -107,8 +117,22 @@ public interface StorageEngine {
      */
     public Sequence getSequence(YarchDatabaseInstance ydb, String name, boolean create) throws YarchException;
 
+    /**
+     * Creates a walker iterating through the table in the order of the given secondary index.
+     */
     public TableWalker newSecondaryIndexTableWalker(YarchDatabaseInstance ydb, TableDefinition tableDefinition,
-            boolean ascending, boolean follow);
+            SecondaryIndexDefinition indexDefinition, boolean ascending, boolean follow);
+
+    /**
+     * Adds a secondary index to an existing table, indexing the rows already in the table.
+     * <p>
+     * The method returns after the index has been built and added to the table definition.
+     * 
+     * @param indexDefinition
+     *            - the index definition, obtained from {@link TableDefinition#newSecondaryIndex(String, List)}
+     */
+    public void addSecondaryIndex(YarchDatabaseInstance ydb, TableDefinition tblDef,
+            SecondaryIndexDefinition indexDefinition) throws YarchException;
 
     /**
      * Gets the list of sequences togehter with their latest values
@@ -65,6 +65,31 @@ public abstract class Stream {
         }
     }
 
+    /**
+     * Emits a batch of tuples to all subscribers.
+     * <p>
+     * The subscribers not overriding {@link StreamSubscriber#onTupleBatch(Stream, TupleBatch)} receive the tuples one
+     * by one.
+     */
+    public void emitTupleBatch(TupleBatch batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        dataCount.addAndGet(batch.size());
+        for (StreamSubscriber s : subscribers) {
+            try {
+                s.onTupleBatch(this, batch);
+            } catch (Exception e) {
+                if (handler != null) {
+                    handler.handle(batch.getTuple(0), s, e);
+                } else {
+                    log.warn("Exception received when emitting tuple batch to subscriber " + s, e);
+                    throw e;
+                }
+            }
+        }
+    }
+
     public String getName() {
         return name;
     }
@@ -5,6 +5,22 @@ public interface StreamSubscriber {
 
     void onTuple(Stream stream, Tuple tuple);
 
+    /**
+     * Called when the stream emits a batch of tuples.
+     * <p>
+     * The default implementation passes the tuples one by one to {@link #onTuple(Stream, Tuple)}, stopping if the
+     * stream has been closed in the meanwhile. The subscribers able to process the columnar representation directly
+     * should override this method.
+     */
+    default void onTupleBatch(Stream stream, TupleBatch batch) {
+        for (int i = 0; i < batch.size(); i++) {
+            if (stream.isClosed()) {
+                break;
+            }
+            onTuple(stream, batch.getTuple(i));
+        }
+    }
+
     default void streamClosed(Stream stream) {
     }
 }
@@ -3,6 +3,7 @@ package org.yamcs.yarch;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import org.slf4j.Logger;
@@ -74,7 +75,8 @@ public class TableDefinition {
 
     private String name;
     private List<String> histoColumns;
-    private List<String> secondaryIndex;
+    // replaced (not modified) when an index is added such that it can be read without synchronization
+    private volatile List<SecondaryIndexDefinition> secondaryIndexes = Collections.emptyList();
 
     // these are the value columns which are autoincrement.
     private List<TableColumnDefinition> autoIncrementValues;
@@ -218,8 +220,8 @@ public class TableDefinition {
                 }
             }
         }
-        if (secondaryIndex != null) {
-            for (String s : secondaryIndex) {
+        for (SecondaryIndexDefinition sidx : secondaryIndexes) {
+            for (String s : sidx.getColumns()) {
                 if (!tmp.hasKey(s)) {
                     tmp.add(s, getColumnDefinition(s));
                 }
@@ -633,20 +635,36 @@ public class TableDefinition {
         computeHistoIdx();
     }
 
+    /**
+     * Adds an unnamed secondary index; a name is generated from the column names.
+     * 
+     * @see #addSecondaryIndex(String, List)
+     */
     public void setSecondaryIndex(List<String> index) throws StreamSqlException {
         if (index.isEmpty()) {
             return;
         }
+        addSecondaryIndex(null, index);
+    }
 
+    /**
+     * Verifies that a secondary index with the given name and columns can be added to the table.
+     * 
+     * @param indexName
+     *            - the name of the index; if null, a name is generated from the column names.
+     * @return the definition of the index
+     * @throws StreamSqlException
+     *             if the name is already used by another index of the table or the columns are not valid
+     */
+    public SecondaryIndexDefinition newSecondaryIndex(String indexName, List<String> index)
+            throws StreamSqlException {
+        if (index.isEmpty()) {
+            throw new GenericStreamSqlException("At least one column is required for the index");
+        }
         for (String col : index) {
             if (!tupleDef.hasColumn(col))
                 throw new StreamSqlException(ErrCode.INVALID_INDEX_COLUMN,
                         "Invalid column specified for index: " + col);
-
-            TableColumnDefinition tcd = keyDef.get(col);
-            if (tcd == null) {
-                tcd = valueDef.get(col);
-            }
         }
         for (int i = 0; i < index.size() - 1; i++) {
             String columnName = index.get(i);
@@ -657,7 +675,42 @@ public class TableDefinition {
                                 + " not supported except on the last position");
             }
         }
-        secondaryIndex = index;
+        if (indexName == null) {
+            String prefix = String.join("_", index) + "_idx";
+            indexName = prefix;
+            for (int i = 1; getSecondaryIndex(indexName) != null; i++) {
+                indexName = prefix + i;
+            }
+        } else if (getSecondaryIndex(indexName) != null) {
+            throw new GenericStreamSqlException(
+                    "An index named '" + indexName + "' already exists on table " + name);
+        }
+        return new SecondaryIndexDefinition(indexName, new ArrayList<>(index));
+    }
+
+    /**
+     * Adds a secondary index to the table.
+     * 
+     * @param indexName
+     *            - the name of the index; if null, a name is generated from the column names.
+     * @param index
+     *            - the list of columns of the index
+     * @return the definition of the index
+     */
+    public SecondaryIndexDefinition addSecondaryIndex(String indexName, List<String> index)
+            throws StreamSqlException {
+        SecondaryIndexDefinition sidx = newSecondaryIndex(indexName, index);
+        addSecondaryIndex(sidx);
+        return sidx;
+    }
+
+    /**
+     * Adds an index previously obtained from {@link #newSecondaryIndex(String, List)}
+     */
+    public synchronized void addSecondaryIndex(SecondaryIndexDefinition sidx) {
+        List<SecondaryIndexDefinition> l = new ArrayList<>(secondaryIndexes);
+        l.add(sidx);
+        secondaryIndexes = Collections.unmodifiableList(l);
         computeHistoIdx();
     }
 
@@ -677,8 +730,34 @@ public class TableDefinition {
         return histoColumns;
     }
 
+    /**
+     * 
+     * @return the columns of the first secondary index or null if the table has no secondary index
+     */
     public List<String> getSecondaryIndex() {
-        return secondaryIndex;
+        List<SecondaryIndexDefinition> l = secondaryIndexes;
+        return l.isEmpty() ? null : l.get(0).getColumns();
+    }
+
+    /**
+     * 
+     * @return the secondary indexes of the table, in the order they have been added
+     */
+    public List<SecondaryIndexDefinition> getSecondaryIndexes() {
+        return secondaryIndexes;
+    }
+
+    /**
+     * 
+     * @return the secondary index with the given name or null if there is no such index
+     */
+    public SecondaryIndexDefinition getSecondaryIndex(String indexName) {
+        for (SecondaryIndexDefinition sidx : secondaryIndexes) {
+            if (sidx.getName().equals(indexName)) {
+                return sidx;
+            }
+        }
+        return null;
     }
 
     public <T extends Object> ColumnSerializer<T> getColumnSerializer(String columnName) {
@@ -748,7 +827,7 @@ public class TableDefinition {
     }
 
     public boolean hasSecondaryIndex() {
-        return secondaryIndex != null;
+        return !secondaryIndexes.isEmpty();
     }
 
     /**
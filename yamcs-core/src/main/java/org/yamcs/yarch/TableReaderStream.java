@@ -4,6 +4,13 @@ import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Implements skeleton for table streamer that uses PartitionManager to handle partitioning.
+ * <p>
+ * If the walker does not follow the table (nofollow), the tuples are emitted in batches of {@link #BATCH_SIZE}; the
+ * tuples which do not fit the batch definition (because columns have been added to the table in the meanwhile) are
+ * emitted individually.
+ * <p>
+ * In follow mode, the tuples are emitted one by one as soon as they are read, such that the rows inserted by the
+ * subscribers (or as a consequence of their processing) during the walk are found by the walker.
  * 
  * 
  * @author nm
@@ -11,7 +18,9 @@ import java.util.concurrent.atomic.AtomicInteger;
  */
 public class TableReaderStream extends Stream implements Runnable, TableVisitor {
     static AtomicInteger count = new AtomicInteger(0);
+    static final int BATCH_SIZE = 256;
     TableWalker tblIterator;
+    TupleBatch batch;
     
     protected TableDefinition tableDefinition;;
     Thread thread;
@@ -34,6 +43,9 @@ public class TableReaderStream extends Stream implements Runnable, TableVisitor
         log.debug("starting a table stream from table {} ", tableDefinition.getName());
         try {
             tblIterator.walk(this);
+            if (batch != null && !quitting()) {
+                emitTupleBatch(batch);
+            }
         } catch (Exception e) {
             log.error("got exception ", e);
         } finally {
@@ -44,7 +56,25 @@ public class TableReaderStream extends Stream implements Runnable, TableVisitor
 
     @Override
     public Action visit(byte[] key, byte[] value) {
-        emitTuple(dataToTuple(key, value));
+        Tuple t = dataToTuple(key, value);
+        if (tblIterator.isFollow()) {
+            emitTuple(t);
+            return ACTION_CONTINUE;
+        }
+        if (batch == null) {
+            batch = new TupleBatch(tableDefinition.getTupleDefinition(), BATCH_SIZE);
+        }
+        if (batch.add(t)) {
+            if (batch.isFull()) {
+                emitTupleBatch(batch);
+                batch = null;
+            }
+        } else {
+            // does not fit the definition of the batch, emit what we have and then the tuple
+            emitTupleBatch(batch);
+            batch = null;
+            emitTuple(t);
+        }
         return ACTION_CONTINUE;
     }
 
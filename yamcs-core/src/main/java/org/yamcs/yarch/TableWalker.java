@@ -1,5 +1,6 @@
 package org.yamcs.yarch;
 
+import java.util.List;
 import java.util.Set;
 
 import org.yamcs.utils.TimeInterval;
@@ -19,9 +20,37 @@ public interface TableWalker {
 
     void setPrimaryIndexRange(DbRange tableRange);
 
+    /**
+     * Restricts the walk to the given primary key ranges, sorted in ascending order and not overlapping.
+     * <p>
+     * The default implementation walks the range covering all of them.
+     */
+    default void setPrimaryIndexRanges(List<DbRange> ranges) {
+        if (!ranges.isEmpty()) {
+            DbRange r = new DbRange();
+            r.rangeStart = ranges.get(0).rangeStart;
+            r.rangeEnd = ranges.get(ranges.size() - 1).rangeEnd;
+            setPrimaryIndexRange(r);
+        }
+    }
+
     default void setSecondaryIndexRange(DbRange skRange) {
         throw new UnsupportedOperationException();
     }
+
+    /**
+     * Restricts the walk to the given secondary key ranges, sorted in ascending order and not overlapping.
+     * <p>
+     * The default implementation walks the range covering all of them.
+     */
+    default void setSecondaryIndexRanges(List<DbRange> skRanges) {
+        if (!skRanges.isEmpty()) {
+            DbRange r = new DbRange();
+            r.rangeStart = skRanges.get(0).rangeStart;
+            r.rangeEnd = skRanges.get(skRanges.size() - 1).rangeEnd;
+            setSecondaryIndexRange(r);
+        }
+    }
     
     void walk(TableVisitor visitor) throws YarchException, StreamSqlException;
 
@@ -29,6 +58,12 @@ public interface TableWalker {
 
     boolean isBatchUpdates();
 
+    /**
+     * 
+     * @return true if the walker sees the data written in the table during the walk
+     */
+    boolean isFollow();
+
     void setBatchUpdates(boolean batchUpdates);
 
 }
@@ -0,0 +1,310 @@
+package org.yamcs.yarch;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Columnar representation of a sequence of tuples sharing the same definition.
+ * <p>
+ * The values of the numeric, timestamp and boolean columns are stored in primitive arrays, one per column, while the
+ * values of the other columns are stored in object arrays. Null values are marked in a bitset per column.
+ * <p>
+ * The batches are emitted by the streams with {@link Stream#emitTupleBatch(TupleBatch)} and passed to the
+ * subscribers via {@link StreamSubscriber#onTupleBatch(Stream, TupleBatch)}. The same batch is passed to all
+ * subscribers so it should not be modified after having been emitted.
+ */
+public class TupleBatch {
+    final TupleDefinition definition;
+    final int capacity;
+    private int size;
+
+    // one of long[], int[], double[], boolean[] or Object[] for each column
+    private final Object[] vectors;
+    private final BitSet[] nulls;
+    // definitions of the tuples returned by getTuple for the rows having null values, by mask of the null columns
+    private final Map<Long, TupleDefinition> rowDefinitions = new ConcurrentHashMap<>();
+
+    /**
+     * Creates an empty batch
+     *
+     * @param definition
+     *            - the definition of the tuples; it is shared with the tuples returned by {@link #getTuple(int)} so it
+     *            should not be modified afterwards
+     * @param capacity
+     *            - the maximum number of tuples that can be added to the batch
+     */
+    public TupleBatch(TupleDefinition definition, int capacity) {
+        this.definition = definition;
+        this.capacity = capacity;
+        int n = definition.size();
+        this.vectors = new Object[n];
+        this.nulls = new BitSet[n];
+        for (int i = 0; i < n; i++) {
+            vectors[i] = newVector(definition.getColumn(i).getType(), capacity);
+            nulls[i] = new BitSet(capacity);
+        }
+    }
+
+    private static Object newVector(DataType type, int capacity) {
+        switch (type.val) {
+        case BYTE:
+        case SHORT:
+        case INT:
+            return new int[capacity];
+        case LONG:
+        case TIMESTAMP:
+            return new long[capacity];
+        case DOUBLE:
+            return new double[capacity];
+        case BOOLEAN:
+            return new boolean[capacity];
+        default:
+            return new Object[capacity];
+        }
+    }
+
+    /**
+     * Adds the tuple at the end of the batch.
+     *
+     * @return false if the batch is full or if the tuple has columns not part of the batch definition; in this case
+     *         the tuple is not added.
+     */
+    public boolean add(Tuple t) {
+        if (size == capacity) {
+            return false;
+        }
+        TupleDefinition tdef = t.getDefinition();
+        int n = tdef.size();
+        if (tdef == definition) {
+            for (int i = 0; i < n; i++) {
+                set(i, t.getColumn(i));
+            }
+        } else {
+            for (int i = 0; i < n; i++) {
+                if (definition.getColumnIndex(tdef.getColumn(i).getName()) == -1) {
+                    return false;
+                }
+            }
+            for (int i = 0; i < definition.size(); i++) {
+                int idx = tdef.getColumnIndex(definition.getColumn(i).getName());
+                set(i, idx == -1 ? null : t.getColumn(idx));
+            }
+        }
+        size++;
+        return true;
+    }
+
+    private void set(int col, Object value) {
+        if (value == null) {
+            nulls[col].set(size);
+            return;
+        }
+        nulls[col].clear(size);
+        Object v = vectors[col];
+        if (v instanceof long[]) {
+            ((long[]) v)[size] = ((Number) value).longValue();
+        } else if (v instanceof int[]) {
+            ((int[]) v)[size] = ((Number) value).intValue();
+        } else if (v instanceof double[]) {
+            ((double[]) v)[size] = ((Number) value).doubleValue();
+        } else if (v instanceof boolean[]) {
+            ((boolean[]) v)[size] = (Boolean) value;
+        } else {
+            ((Object[]) v)[size] = value;
+        }
+    }
+
+    /**
+     *
+     * @return the number of tuples in the batch
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean isFull() {
+        return size == capacity;
+    }
+
+    /**
+     * Removes all the tuples from the batch.
+     * <p>
+     * Should not be called on a batch which has been emitted since the subscribers may keep a reference to it.
+     */
+    public void clear() {
+        for (int i = 0; i < vectors.length; i++) {
+            if (vectors[i] instanceof Object[]) {
+                Arrays.fill((Object[]) vectors[i], 0, size, null);
+            }
+        }
+        size = 0;
+    }
+
+    public TupleDefinition getDefinition() {
+        return definition;
+    }
+
+    public boolean isNull(int col, int row) {
+        return nulls[col].get(row);
+    }
+
+    /**
+     * Returns the bitset marking the rows where the column is null. It should not be modified.
+     */
+    public BitSet getNulls(int col) {
+        return nulls[col];
+    }
+
+    /**
+     * Returns the vector with the values of the LONG or TIMESTAMP column. The vector may be longer than the batch
+     * size.
+     */
+    public long[] getLongVector(int col) {
+        return (long[]) vectors[col];
+    }
+
+    /**
+     * Returns the vector with the values of the BYTE, SHORT or INT column. The vector may be longer than the batch
+     * size.
+     */
+    public int[] getIntVector(int col) {
+        return (int[]) vectors[col];
+    }
+
+    /**
+     * Returns the vector with the values of the DOUBLE column. The vector may be longer than the batch size.
+     */
+    public double[] getDoubleVector(int col) {
+        return (double[]) vectors[col];
+    }
+
+    /**
+     * Returns the vector with the values of the BOOLEAN column. The vector may be longer than the batch size.
+     */
+    public boolean[] getBooleanVector(int col) {
+        return (boolean[]) vectors[col];
+    }
+
+    /**
+     * Returns the value of the column in the given row boxed in the same type as in a {@link Tuple}.
+     *
+     * @return the value or null if the value is null or the col is -1
+     */
+    public Object get(int col, int row) {
+        if (col == -1 || nulls[col].get(row)) {
+            return null;
+        }
+        Object v = vectors[col];
+        if (v instanceof long[]) {
+            return ((long[]) v)[row];
+        } else if (v instanceof int[]) {
+            int x = ((int[]) v)[row];
+            switch (definition.getColumn(col).getType().val) {
+            case BYTE:
+                return (byte) x;
+            case SHORT:
+                return (short) x;
+            default:
+                return x;
+            }
+        } else if (v instanceof double[]) {
+            return ((double[]) v)[row];
+        } else if (v instanceof boolean[]) {
+            return ((boolean[]) v)[row];
+        } else {
+            return ((Object[]) v)[row];
+        }
+    }
+
+    /**
+     * Builds the tuple corresponding to the given row.
+     * <p>
+     * The null columns are not part of the returned tuple, the same way as for the tuples read from the tables. The
+     * tuples having the same null columns share the same definition; if there is no null column, it is the definition
+     * of the batch.
+     */
+    public Tuple getTuple(int row) {
+        int n = vectors.length;
+        List<Object> cols = new ArrayList<>(n);
+        long nullMask = 0;
+        boolean hasNulls = false;
+        for (int i = 0; i < n; i++) {
+            if (nulls[i].get(row)) {
+                hasNulls = true;
+                if (i < Long.SIZE) {
+                    nullMask |= 1L << i;
+                }
+            } else {
+                cols.add(get(i, row));
+            }
+        }
+        TupleDefinition tdef;
+        if (!hasNulls) {
+            tdef = definition;
+        } else if (n <= Long.SIZE) {
+            tdef = rowDefinitions.computeIfAbsent(nullMask, k -> rowDefinition(row));
+        } else {
+            tdef = rowDefinition(row);
+        }
+        return new Tuple(tdef, cols);
+    }
+
+    private TupleDefinition rowDefinition(int row) {
+        TupleDefinition tdef = new TupleDefinition();
+        for (int i = 0; i < vectors.length; i++) {
+            if (!nulls[i].get(row)) {
+                tdef.addColumn(definition.getColumn(i));
+            }
+        }
+        return tdef;
+    }
+
+    /**
+     * Returns a batch containing only the rows for which the selection is true.
+     * <p>
+     * If all rows are selected, this batch is returned.
+     */
+    public TupleBatch select(boolean[] selection) {
+        int n = 0;
+        for (int i = 0; i < size; i++) {
+            if (selection[i]) {
+                n++;
+            }
+        }
+        if (n == size) {
+            return this;
+        }
+        TupleBatch tb = new TupleBatch(definition, n);
+        for (int col = 0; col < vectors.length; col++) {
+            Object src = vectors[col];
+            Object dst = tb.vectors[col];
+            int k = 0;
+            for (int i = 0; i < size; i++) {
+                if (!selection[i]) {
+                    continue;
+                }
+                if (nulls[col].get(i)) {
+                    tb.nulls[col].set(k);
+                } else {
+                    System.arraycopy(src, i, dst, k, 1);
+                }
+                k++;
+            }
+        }
+        tb.size = n;
+        return tb;
+    }
+
+    @Override
+    public String toString() {
+        return "TupleBatch [size=" + size + ", definition=" + definition + "]";
+    }
+}
@@ -1,19 +1,18 @@
 package org.yamcs.yarch;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 
 import org.yamcs.yarch.streamsql.WindowSpecification;
 
 public abstract class WindowProcessor {
-    protected List<CompiledAggregateExpression> aggList;
+    protected HashAggregator aggregator;
     TupleDefinition aggOutputDef;
     final static protected List<Tuple> EMPTY_RETURN = new ArrayList<>(0);
     public TupleDefinition aggInputDef;
 
     public static WindowProcessor getInstance(WindowSpecification spec, TupleDefinition aggInputDef,
-            List<CompiledAggregateExpression> aggList, TupleDefinition aggregateOutputDef) {
+            HashAggregator aggregator, TupleDefinition aggregateOutputDef) {
         WindowProcessor wp;
         switch (spec.type) {
         case FIELD:
@@ -33,7 +32,7 @@ public abstract class WindowProcessor {
         default:
             throw new IllegalArgumentException(spec.type + " not implemented");
         }
-        wp.aggList = aggList;
+        wp.aggregator = aggregator;
         wp.aggOutputDef = aggregateOutputDef;
         wp.aggInputDef = aggInputDef;
 
@@ -42,6 +41,25 @@ public abstract class WindowProcessor {
 
     public abstract List<Tuple> newData(Tuple tuple);
 
+    /**
+     * Processes all the tuples of the batch, returning the tuples to be emitted.
+     * <p>
+     * The default implementation processes the tuples one by one.
+     */
+    public List<Tuple> newBatch(TupleBatch batch) {
+        List<Tuple> ret = EMPTY_RETURN;
+        for (int i = 0; i < batch.size(); i++) {
+            List<Tuple> l = newData(batch.getTuple(i));
+            if (!l.isEmpty()) {
+                if (ret == EMPTY_RETURN) {
+                    ret = new ArrayList<>();
+                }
+                ret.addAll(l);
+            }
+        }
+        return ret;
+    }
+
     /**
      * Called when the input stream closes, the window has the opportunity to emit some tuples before closure
      */
@@ -49,50 +67,36 @@ public abstract class WindowProcessor {
 }
 
 abstract class SlidingWindowProcessor extends WindowProcessor {
-    List<Tuple> windowTuples = new ArrayList<>();
+    boolean empty = true;
     boolean noOverlap; // if there is no overlap between the windows, some optimizations are possible
 
     public SlidingWindowProcessor(WindowSpecification spec) {
         this.noOverlap = (spec.size.compareTo(spec.advance) <= 0);
     }
     /**
-     * When windows closes, returns a list with the tuples to be emitted, otherwise returns null
+     * When windows closes, returns a list with the tuples to be emitted, otherwise returns an empty list
      */
     public List<Tuple> newData(Tuple tuple) {
         List<Tuple> ret = EMPTY_RETURN;
 
-        if (windowTuples.isEmpty()) {
+        if (empty) {
             setFirstTuple(tuple);
+            empty = false;
         } else if (isOutsideWindow(tuple)) {
             // windows closed
-            if (aggList != null) {
-                Object[] v = new Object[aggList.size()];
-                for (int i = 0; i < aggList.size(); i++) {
-                    v[i] = aggList.get(i).getValue();
-                }
-                ret = Arrays.asList(new Tuple(aggOutputDef, v));
-            } else {// TODO
+            if (aggregator == null) {// TODO
                 throw new IllegalStateException("not implemented");
             }
+            ret = aggregator.getResult();
             if (noOverlap) {
-                if (aggList != null) {
-                    for (CompiledAggregateExpression cae : aggList) {
-                        cae.clear();
-                    }
-                } else {
-                    ret = windowTuples;
-                }
-                windowTuples = new ArrayList<Tuple>();
+                aggregator.clear();
                 setFirstTuple(tuple);
             } else {// TODO
                 throw new IllegalStateException("not implemented");
             }
         }
-        windowTuples.add(tuple);
-        if (aggList != null) {
-            for (CompiledAggregateExpression cae : aggList) {
-                cae.newData(tuple);
-            }
+        if (aggregator != null) {
+            aggregator.add(tuple);
         }
         return ret;
     }
@@ -163,25 +167,23 @@ class InfiniteWindowProcessor extends WindowProcessor {
 
     @Override
     public List<Tuple> newData(Tuple tuple) {
-        if (aggList != null) {
-            for (CompiledAggregateExpression cae : aggList) {
-                cae.newData(tuple);
-            }
+        if (aggregator != null) {
+            aggregator.add(tuple);
         }
         return EMPTY_RETURN;
     }
 
     @Override
-    protected List<Tuple> streamClosed() {
-        List<Tuple> ret = EMPTY_RETURN;
-        if (aggList != null) {
-            Object[] v = new Object[aggList.size()];
-            for (int i = 0; i < aggList.size(); i++) {
-                v[i] = aggList.get(i).getValue();
-            }
-            ret = Arrays.asList(new Tuple(aggOutputDef, v));
+    public List<Tuple> newBatch(TupleBatch batch) {
+        if (aggregator != null) {
+            aggregator.addBatch(batch);
         }
-        return ret;
+        return EMPTY_RETURN;
+    }
+
+    @Override
+    protected List<Tuple> streamClosed() {
+        return aggregator == null ? EMPTY_RETURN : aggregator.getResult();
     }
 
 }
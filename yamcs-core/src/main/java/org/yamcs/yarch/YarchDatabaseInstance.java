@@ -363,6 +363,34 @@ public class YarchDatabaseInstance {
         tables.remove(name);
     }
 
+    /**
+     * Adds a secondary index to an existing table and indexes the rows already in the table.
+     * <p>
+     * The table can be written and queried while the index is built, the index is used by the queries only after the
+     * build has finished. The method returns after the build has finished.
+     * 
+     * @param indexName
+     *            - the name of the index; if null, a name is generated from the column names
+     * @param columns
+     *            - the columns of the index
+     * @return the definition of the new index
+     */
+    public SecondaryIndexDefinition addSecondaryIndex(String tableName, String indexName, List<String> columns)
+            throws StreamSqlException {
+        TableDefinition tblDef;
+        SecondaryIndexDefinition sidx;
+        synchronized (this) {
+            tblDef = tables.get(tableName);
+            if (tblDef == null) {
+                throw new YarchException("A table named '" + tableName + "' does not exists");
+            }
+            sidx = tblDef.newSecondaryIndex(indexName, columns);
+        }
+        // the build may take a while, it is not performed with the lock held
+        getStorageEngine(tblDef).addSecondaryIndex(this, tblDef, sidx);
+        return sidx;
+    }
+
     private void checkExisting(String name) {
         if (tables.containsKey(name)) {
             throw new YarchException("A table named '" + name + "' already exists");
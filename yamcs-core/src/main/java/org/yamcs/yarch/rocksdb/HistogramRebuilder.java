@@ -9,6 +9,7 @@ import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 
+import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.RocksDBException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -19,6 +20,7 @@ import org.yamcs.yarch.ColumnSerializer;
 import org.yamcs.yarch.DbRange;
 import org.yamcs.yarch.ExecutionContext;
 import org.yamcs.yarch.HistogramInfo;
+import org.yamcs.yarch.HistogramRollup;
 import org.yamcs.yarch.HistogramSegment;
 import org.yamcs.yarch.PartitionManager;
 import org.yamcs.yarch.PartitionManager.Interval;
@@ -32,6 +34,7 @@ import org.yamcs.yarch.streamsql.StreamSqlException;
 
 import static org.yamcs.yarch.HistogramSegment.segmentStart;
 import static org.yamcs.yarch.rocksdb.RdbHistogramInfo.histoDbKey;
+import static org.yamcs.yarch.rocksdb.RdbHistogramInfo.rollupDbKey;
 import static org.yamcs.yarch.rocksdb.RdbStorageEngine.dbKey;
 
 /**
@@ -124,6 +127,7 @@ public class HistogramRebuilder {
                 RdbHistogramInfo histo = (RdbHistogramInfo) hi;
                 YRDB db = tablespace.getRdb(histo.partitionDir, false);
                 db.getDb().deleteRange(dbKey(histo.tbsIndex), dbKey(histo.tbsIndex + 1));
+                RdbHistogramInfo.deleteRollups(db, histo.tbsIndex);
                 a.add(((RdbHistogramInfo) hi).tbsIndex);
             }
             tablespace.removeTbsIndices(Type.HISTOGRAM, a);
@@ -185,6 +189,9 @@ public class HistogramRebuilder {
                 if (histoInfo == null) {
                     throw new NullPointerException();
                 }
+                for (int i = 0; i < HistogramRollup.Level.values().length; i++) {
+                    rollups.add(new HashMap<>());
+                }
             }
 
             // we know the data will be sorted so we need to maintain for each column value just the last segment.
@@ -192,6 +199,9 @@ public class HistogramRebuilder {
             // start a new one
             Map<ByteArrayWrapper, HistogramSegment> values = new HashMap<>();
 
+            // same for the rollups, one map for each level
+            List<Map<ByteArrayWrapper, HistogramRollup>> rollups = new ArrayList<>();
+
             void addTuple(Tuple tuple) throws IOException, RocksDBException {
                 long time = (Long) tuple.getColumn(0);
 
@@ -217,6 +227,38 @@ public class HistogramRebuilder {
                     values.put(valuew, segment);
                 }
                 segment.merge(dtime);
+
+                for (HistogramRollup.Level level : HistogramRollup.Level.values()) {
+                    addToRollup(level, rollups.get(level.ordinal()), valuew, time);
+                }
+            }
+
+            private void addToRollup(HistogramRollup.Level level, Map<ByteArrayWrapper, HistogramRollup> m,
+                    ByteArrayWrapper valuew, long time) throws IOException, RocksDBException {
+                long bucket = HistogramRollup.bucket(level, time);
+                HistogramRollup rollup = m.get(valuew);
+                if (rollup == null || rollup.getBucket() != bucket) {
+                    YRDB rdb = tablespace.getRdb(partitionDir, false);
+                    ColumnFamilyHandle cfh = rdb.createAndGetColumnFamilyHandle(RdbHistogramInfo.ROLLUP_CF_NAME);
+                    if (rollup != null) {
+                        writeRollup(rdb, cfh, rollup, valuew.getData());
+                    }
+                    // the bucket may have been written before if the interval contains multiple partitions
+                    byte[] val = rdb.get(cfh, rollupDbKey(histoInfo.tbsIndex, level, bucket, valuew.getData()));
+                    if (val == null) {
+                        rollup = new HistogramRollup(level, valuew.getData(), bucket);
+                    } else {
+                        rollup = new HistogramRollup(level, valuew.getData(), bucket, val);
+                    }
+                    m.put(valuew, rollup);
+                }
+                rollup.add(time);
+            }
+
+            private void writeRollup(YRDB rdb, ColumnFamilyHandle cfh, HistogramRollup rollup, byte[] columnv)
+                    throws RocksDBException {
+                rdb.put(cfh, rollupDbKey(histoInfo.tbsIndex, rollup.getLevel(), rollup.getBucket(), columnv),
+                        rollup.val());
             }
 
             void flush() throws IOException, RocksDBException {
@@ -228,6 +270,14 @@ public class HistogramRebuilder {
                     byte[] dbKey = histoDbKey(histoInfo.tbsIndex, segment.getSegmentStart(), columnv);
                     rdb.put(dbKey, segment.val());
                 }
+                ColumnFamilyHandle cfh = rdb.createAndGetColumnFamilyHandle(RdbHistogramInfo.ROLLUP_CF_NAME);
+                for (Map<ByteArrayWrapper, HistogramRollup> m : rollups) {
+                    for (Map.Entry<ByteArrayWrapper, HistogramRollup> me : m.entrySet()) {
+                        writeRollup(rdb, cfh, me.getValue(), me.getKey().getData());
+                    }
+                }
+                // the histogram writer will update the rollups from now on
+                RdbHistogramInfo.setHasRollups(rdb, histoInfo.tbsIndex);
             }
         }
     }
@@ -2,17 +2,25 @@ package org.yamcs.yarch.rocksdb;
 
 import static org.yamcs.yarch.HistogramSegment.segmentStart;
 import static org.yamcs.yarch.rocksdb.RdbHistogramInfo.histoDbKey;
+import static org.yamcs.yarch.rocksdb.RdbHistogramInfo.rollupDbKey;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
+import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.RocksDBException;
+import org.rocksdb.RocksIterator;
 import org.rocksdb.Snapshot;
+import org.rocksdb.WriteBatch;
+import org.rocksdb.WriteOptions;
+import org.yamcs.logging.Log;
 import org.yamcs.utils.ByteArrayWrapper;
+import org.yamcs.yarch.HistogramRollup;
 import org.yamcs.yarch.HistogramSegment;
 import org.yamcs.yarch.Row;
 import org.yamcs.yarch.TableDefinition;
@@ -32,6 +40,7 @@ import org.yamcs.yarch.YarchException;
  *
  */
 public abstract class HistogramWriter {
+    static final Log log = new Log(HistogramWriter.class);
     static final int CLEANUP_INTERVAL = 60_000;
     final protected Tablespace tablespace;
     final protected TableDefinition tableDefinition;
@@ -83,7 +92,10 @@ public abstract class HistogramWriter {
      * handles histogram writes for one column.
      * <p>
      * Keeps a cache of recent modified histogram segments to avoid retrieving them from the db each time.
-     * 
+     * <p>
+     * The {@link HistogramRollup}s are updated together with the segments, in the same write batch such that they stay
+     * consistent after a crash. The histograms which contained data before the rollups have been introduced have to
+     * be rebuilt in order to get rollups.
      */
     class ColumnHistogramWriter {
         final String columnName;
@@ -95,6 +107,16 @@ public abstract class HistogramWriter {
             };
         };
 
+        // cache of the recently modified rollups, key is the rollup db key
+        private LinkedHashMap<ByteArrayWrapper, HistogramRollup> rollups = new LinkedHashMap<ByteArrayWrapper, HistogramRollup>() {
+            protected boolean removeEldestEntry(Map.Entry<ByteArrayWrapper, HistogramRollup> eldest) {
+                return size() > MAX_ENTRIES;
+            };
+        };
+
+        // tbsIndex -> true if the rollups are maintained for that histogram
+        private Map<Integer, Boolean> withRollups = new HashMap<>();
+
         public ColumnHistogramWriter(String columnName) {
             this.columnName = columnName;
         }
@@ -104,6 +126,7 @@ public abstract class HistogramWriter {
             try {
                 histo = (RdbHistogramInfo) table.createAndGetHistogram(time, columnName);
                 YRDB rdb = tablespace.getRdb(histo.partitionDir, false);
+                boolean updateRollups = withRollups(rdb, histo.tbsIndex);
 
                 long sstart = segmentStart(time);
                 int dtime = (int) (time % HistogramSegment.GROUPING_FACTOR);
@@ -120,7 +143,15 @@ public abstract class HistogramWriter {
                     }
                 }
                 segment.merge(dtime);
-                rdb.put(histoDbKey, segment.val());
+                if (updateRollups) {
+                    try (WriteBatch wb = new WriteBatch(); WriteOptions wo = new WriteOptions()) {
+                        wb.put(histoDbKey, segment.val());
+                        addRollups(rdb, wb, histo.tbsIndex, time, value);
+                        rdb.write(wo, wb);
+                    }
+                } else {
+                    rdb.put(histoDbKey, segment.val());
+                }
 
                 segments.put(hmkey, segment);
             } catch (RocksDBException e) {
@@ -128,8 +159,54 @@ public abstract class HistogramWriter {
             }
         }
 
+        private void addRollups(YRDB rdb, WriteBatch wb, int tbsIndex, long time, byte[] value)
+                throws RocksDBException {
+            ColumnFamilyHandle cfh = rdb.createAndGetColumnFamilyHandle(RdbHistogramInfo.ROLLUP_CF_NAME);
+            for (HistogramRollup.Level level : HistogramRollup.Level.values()) {
+                long bucket = HistogramRollup.bucket(level, time);
+                byte[] rollupDbKey = rollupDbKey(tbsIndex, level, bucket, value);
+                ByteArrayWrapper rmkey = new ByteArrayWrapper(rollupDbKey);
+
+                HistogramRollup rollup = rollups.get(rmkey);
+                if (rollup == null) {
+                    byte[] val = rdb.get(cfh, rollupDbKey);
+                    rollup = val == null ? new HistogramRollup(level, value, bucket)
+                            : new HistogramRollup(level, value, bucket, val);
+                }
+                rollup.add(time);
+                wb.put(cfh, rollupDbKey, rollup.val());
+                rollups.put(rmkey, rollup);
+            }
+        }
+
+        // the rollups are started for the new (empty) histograms
+        private boolean withRollups(YRDB rdb, int tbsIndex) throws RocksDBException {
+            Boolean b = withRollups.get(tbsIndex);
+            if (b == null) {
+                b = RdbHistogramInfo.hasRollups(rdb, tbsIndex);
+                if (!b && isEmpty(rdb, tbsIndex)) {
+                    RdbHistogramInfo.setHasRollups(rdb, tbsIndex);
+                    b = true;
+                }
+                if (!b) {
+                    log.info("The histogram {} of table {} has no rollups, rebuild the histograms to enable them",
+                            columnName, tableDefinition.getName());
+                }
+                withRollups.put(tbsIndex, b);
+            }
+            return b;
+        }
+
+        private boolean isEmpty(YRDB rdb, int tbsIndex) throws RocksDBException {
+            try (RocksIterator it = rdb.newIterator()) {
+                it.seek(RdbStorageEngine.dbKey(tbsIndex));
+                return !it.isValid() || RdbStorageEngine.tbsIndex(it.key()) != tbsIndex;
+            }
+        }
+
         public void cleanup() {
             segments.clear();
+            rollups.clear();
         }
     }
 }
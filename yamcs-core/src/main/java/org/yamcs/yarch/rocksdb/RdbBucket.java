@@ -1,18 +1,25 @@
 package org.yamcs.yarch.rocksdb;
 
 import static org.yamcs.utils.ByteArrayUtils.encodeInt;
+import static org.yamcs.yarch.rocksdb.RdbBucketDatabase.TYPE_OBJ_CHUNK;
 import static org.yamcs.yarch.rocksdb.RdbBucketDatabase.TYPE_OBJ_DATA;
 import static org.yamcs.yarch.rocksdb.RdbBucketDatabase.TYPE_OBJ_METADATA;
 import static org.yamcs.yarch.rocksdb.RdbStorageEngine.TBS_INDEX_SIZE;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import org.rocksdb.RocksDBException;
+import org.rocksdb.RocksIterator;
 import org.rocksdb.WriteBatch;
 import org.rocksdb.WriteOptions;
 import org.slf4j.Logger;
@@ -21,6 +28,7 @@ import org.yamcs.utils.ByteArrayUtils;
 import org.yamcs.utils.DatabaseCorruptionException;
 import org.yamcs.utils.TimeEncoding;
 import org.yamcs.yarch.Bucket;
+import org.yamcs.yarch.BucketObjectStream;
 import org.yamcs.yarch.rocksdb.protobuf.Tablespace.BucketProperties;
 import org.yamcs.yarch.rocksdb.protobuf.Tablespace.ObjectProperties;
 import org.yamcs.yarch.rocksdb.protobuf.Tablespace.ObjectPropertiesOrBuilder;
@@ -29,7 +37,20 @@ import org.yamcs.yarch.rocksdb.protobuf.Tablespace.TablespaceRecord.Type;
 
 import com.google.protobuf.InvalidProtocolBufferException;
 
+/**
+ * Bucket storing the objects in the main database of a tablespace.
+ * <p>
+ * The object data is stored in chunks of {@link #CHUNK_SIZE} bytes such that the objects can be written and read
+ * without holding them entirely in memory. The chunks of a new object (or of a new version of an existing object) are
+ * written under a new objectId before the metadata is updated; the readers iterate over a consistent view of the
+ * database so they are not affected by an object being replaced or deleted while they are reading it.
+ * <p>
+ * The objects written by older versions are stored as one value; they can still be read and deleted.
+ */
 public class RdbBucket implements Bucket {
+    static final int CHUNK_SIZE = 256 * 1024;
+    static final byte CHUNK_SEPARATOR = (byte) 0xFF;
+
     final int tbsIndex;
     BucketProperties bucketProps;
     final Tablespace tablespace;
@@ -108,30 +129,72 @@ public class RdbBucket implements Bucket {
     }
 
     @Override
-    public synchronized void putObject(String objectName, String contentType,
+    public void putObject(String objectName, String contentType,
             Map<String, String> metadata, byte[] objectData) throws IOException {
+        putObject(objectName, contentType, metadata, new ByteArrayInputStream(objectData));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The data chunks are written to the database as they are read from the stream; only the update of the object
+     * metadata and of the bucket properties is serialized with the other writers of the bucket.
+     */
+    @Override
+    public void putObject(String objectName, String contentType, Map<String, String> metadata, InputStream in)
+            throws IOException {
         if (objectName.isEmpty()) {
             throw new IllegalArgumentException("object name cannot be empty");
         }
         log.debug("Uploading object {} to bucket {}; contentType: {}", objectName, bucketProps.getName(), contentType);
-        ObjectProperties.Builder props = ObjectProperties.newBuilder();
-        if (metadata != null) {
-            props.putAllMetadata(metadata);
-        }
-        props.setCreated(TimeEncoding.getWallclockTime());
-        props.setSize(objectData.length);
-        if (contentType != null) {
-            props.setContentType(contentType);
+        int objectId = newObjectId();
+        YRDB rdb = tablespace.getRdb();
+        long size = 0;
+        boolean committed = false;
+        try {
+            byte[] buf = new byte[CHUNK_SIZE];
+            int chunkIdx = 0;
+            int n;
+            while ((n = in.readNBytes(buf, 0, CHUNK_SIZE)) > 0) {
+                size += n;
+                if (size > bucketProps.getMaxSize()) {
+                    throw new IOException("Maximum bucket size " + bucketProps.getMaxSize() + " exceeded");
+                }
+                rdb.put(getChunkKey(objectName, objectId, chunkIdx++), n == CHUNK_SIZE ? buf : Arrays.copyOf(buf, n));
+            }
+
+            ObjectProperties.Builder props = ObjectProperties.newBuilder();
+            if (metadata != null) {
+                props.putAllMetadata(metadata);
+            }
+            props.setCreated(TimeEncoding.getWallclockTime());
+            props.setSize(size);
+            props.setObjectId(objectId);
+            props.setChunkSize(CHUNK_SIZE);
+            if (contentType != null) {
+                props.setContentType(contentType);
+            }
+            commitObject(objectName, props.build());
+            committed = true;
+        } catch (RocksDBException e) {
+            throw new IOException("Error writing object data: " + e.toString(), e);
+        } finally {
+            if (!committed) {
+                deleteChunks(objectName, objectId);
+            }
         }
+    }
 
+    /**
+     * writes the metadata of the object whose chunks have been written, removing the data of the previous version of
+     * the object (if any)
+     */
+    private synchronized void commitObject(String objectName, ObjectProperties props)
+            throws IOException, RocksDBException {
         try (WriteBatch writeBatch = new WriteBatch();
                 WriteOptions writeOpts = new WriteOptions()) {
             ObjectProperties oldProps = findObject(objectName);
 
-            byte[] mk = getKey(TYPE_OBJ_METADATA, objectName);
-            byte[] dk = getKey(TYPE_OBJ_DATA, objectName);
-            writeBatch.put(mk, props.build().toByteArray());
-            writeBatch.put(dk, objectData);
             long bsize = bucketProps.getSize() + props.getSize() - ((oldProps == null) ? 0 : oldProps.getSize());
             if (bsize > bucketProps.getMaxSize()) {
                 throw new IOException("Maximum bucket size " + bucketProps.getMaxSize() + " exceeded");
@@ -141,6 +204,11 @@ public class RdbBucket implements Bucket {
                 throw new IOException(
                         "Maximum number of objects in the bucket " + bucketProps.getNumObjects() + " exceeded");
             }
+
+            writeBatch.put(getKey(TYPE_OBJ_METADATA, objectName), props.toByteArray());
+            if (oldProps != null && oldProps.getObjectId() != props.getObjectId()) {
+                deleteData(writeBatch, objectName, oldProps);
+            }
             BucketProperties bucketProps1 = BucketProperties.newBuilder().mergeFrom(bucketProps)
                     .setNumObjects(numobj)
                     .setSize(bsize)
@@ -153,8 +221,6 @@ public class RdbBucket implements Bucket {
 
             tablespace.getRdb().getDb().write(writeOpts, writeBatch);
             bucketProps = bucketProps1;
-        } catch (RocksDBException e) {
-            throw new IOException("Error writing object data: " + e.toString(), e);
         }
     }
 
@@ -176,14 +242,77 @@ public class RdbBucket implements Bucket {
 
     @Override
     public byte[] getObject(String objectName) throws IOException {
-        try {
-            byte[] k = getKey(TYPE_OBJ_DATA, objectName);
-            YRDB rdb = tablespace.getRdb();
+        try (InputStream in = openObject(objectName)) {
+            return in == null ? null : in.readAllBytes();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The chunks are read from the database when the stream reaches them.
+     */
+    @Override
+    public InputStream openObject(String objectName, long offset, long length) throws IOException {
+        return openObject(objectName, props -> {
+            long start = Math.min(Math.max(offset, 0), props.getSize());
+            long end = length < 0 ? props.getSize() : Math.min(props.getSize(), start + length);
+            return new long[] { start, end };
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The object is read from a database snapshot taken before reading its properties.
+     */
+    @Override
+    public BucketObjectStream openObjectSnapshot(String objectName) throws IOException {
+        return openObject(objectName, props -> new long[] { 0, props.getSize() });
+    }
 
-            return rdb.get(k);
+    /**
+     * Opens the object for reading the range returned by the function from its properties
+     */
+    private BucketObjectStream openObject(String objectName, Function<ObjectProperties, long[]> range)
+            throws IOException {
+        // the iterator sees the database as it was when the iterator has been created
+        RocksIterator it;
+        try {
+            it = tablespace.getRdb().newIterator();
         } catch (RocksDBException e) {
             throw new IOException("Failed to retrieve object: " + e.toString(), e);
         }
+        try {
+            byte[] mk = getKey(TYPE_OBJ_METADATA, objectName);
+            it.seek(mk);
+            if (!it.isValid() || !Arrays.equals(mk, it.key())) {
+                it.close();
+                return null;
+            }
+            ObjectProperties props = ObjectProperties.newBuilder().mergeFrom(it.value()).setName(objectName).build();
+            long[] r = range.apply(props);
+            long start = r[0];
+            long end = r[1];
+
+            if (!props.hasChunkSize()) {
+                byte[] dk = getKey(TYPE_OBJ_DATA, objectName);
+                it.seek(dk);
+                if (!it.isValid() || !Arrays.equals(dk, it.key())) {
+                    throw new DatabaseCorruptionException("No data found for object " + objectName);
+                }
+                byte[] data = it.value();
+                it.close();
+                return new BucketObjectStream(new ByteArrayInputStream(data, (int) start, (int) (end - start)), props);
+            }
+            return new BucketObjectStream(new ChunkInputStream(it, objectName, props, start, end), props);
+        } catch (InvalidProtocolBufferException e) {
+            it.close();
+            throw new DatabaseCorruptionException("Cannot decode data: " + e.toString(), e);
+        } catch (RuntimeException e) {
+            it.close();
+            throw e;
+        }
     }
 
     @Override
@@ -197,9 +326,8 @@ public class RdbBucket implements Bucket {
             try (WriteBatch writeBatch = new WriteBatch();
                     WriteOptions writeOpts = new WriteOptions()) {
                 byte[] mk = getKey(TYPE_OBJ_METADATA, objectName);
-                byte[] dk = getKey(TYPE_OBJ_DATA, objectName);
                 writeBatch.delete(mk);
-                writeBatch.delete(dk);
+                deleteData(writeBatch, objectName, props);
                 BucketProperties bucketProps1 = BucketProperties.newBuilder().mergeFrom(bucketProps)
                         .setNumObjects(bucketProps.getNumObjects() - 1).setSize(bucketProps.getSize() - props.getSize())
                         .build();
@@ -239,6 +367,54 @@ public class RdbBucket implements Bucket {
         return k;
     }
 
+    private byte[] getChunkKey(String objectName, int objectId, int chunkIdx) {
+        byte[] a = objectName.getBytes(StandardCharsets.UTF_8);
+        byte[] k = new byte[TBS_INDEX_SIZE + a.length + 10];
+
+        encodeInt(tbsIndex, k, 0);
+        k[TBS_INDEX_SIZE] = TYPE_OBJ_CHUNK;
+        System.arraycopy(a, 0, k, TBS_INDEX_SIZE + 1, a.length);
+        k[TBS_INDEX_SIZE + 1 + a.length] = CHUNK_SEPARATOR;
+        encodeInt(objectId, k, TBS_INDEX_SIZE + a.length + 2);
+        encodeInt(chunkIdx, k, TBS_INDEX_SIZE + a.length + 6);
+
+        return k;
+    }
+
+    private void deleteData(WriteBatch writeBatch, String objectName, ObjectProperties props)
+            throws RocksDBException {
+        if (props.hasChunkSize()) {
+            // the end key is exclusive, the chunk 0xFFFFFFFF cannot exist anyway
+            writeBatch.deleteRange(getChunkKey(objectName, props.getObjectId(), 0),
+                    getChunkKey(objectName, props.getObjectId(), -1));
+        } else {
+            writeBatch.delete(getKey(TYPE_OBJ_DATA, objectName));
+        }
+    }
+
+    // removes the chunks of an object which has not been committed
+    private void deleteChunks(String objectName, int objectId) {
+        try (WriteBatch writeBatch = new WriteBatch();
+                WriteOptions writeOpts = new WriteOptions()) {
+            writeBatch.deleteRange(getChunkKey(objectName, objectId, 0), getChunkKey(objectName, objectId, -1));
+            tablespace.getRdb().getDb().write(writeOpts, writeBatch);
+        } catch (RocksDBException e) {
+            log.warn("Failed to remove the data of the object {} from bucket {}", objectName, getName(), e);
+        }
+    }
+
+    /**
+     * Each version of an object gets a new random id such that its chunks do not overwrite the chunks of the version
+     * being replaced. 0 is not used.
+     */
+    private static int newObjectId() {
+        int id;
+        do {
+            id = ThreadLocalRandom.current().nextInt();
+        } while (id == 0);
+        return id;
+    }
+
     private void saveUpdatedBucketProperties(BucketProperties updatedBucketProperties)
             throws RocksDBException, IOException {
         try (WriteBatch writeBatch = new WriteBatch();
@@ -253,4 +429,101 @@ public class RdbBucket implements Bucket {
             this.bucketProps = updatedBucketProperties;
         }
     }
+
+    /**
+     * Reads the chunks of an object between start and end using an iterator opened before reading the object
+     * metadata.
+     */
+    class ChunkInputStream extends InputStream {
+        final RocksIterator it;
+        final String objectName;
+        final int objectId;
+        final int chunkSize;
+        final long end;
+        long pos;
+
+        byte[] chunk;
+        long chunkStart;
+        boolean closed = false;
+
+        ChunkInputStream(RocksIterator it, String objectName, ObjectProperties props, long start, long end) {
+            this.it = it;
+            this.objectName = objectName;
+            this.objectId = props.getObjectId();
+            this.chunkSize = props.getChunkSize();
+            this.pos = start;
+            this.end = end;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (closed) {
+                throw new IOException("Stream closed");
+            }
+            if (pos >= end) {
+                return -1;
+            }
+            ensureChunk();
+            return chunk[(int) (pos++ - chunkStart)] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (closed) {
+                throw new IOException("Stream closed");
+            }
+            if (pos >= end) {
+                return -1;
+            }
+            if (len == 0) {
+                return 0;
+            }
+            ensureChunk();
+            int n = (int) Math.min(len, Math.min(chunkStart + chunk.length, end) - pos);
+            System.arraycopy(chunk, (int) (pos - chunkStart), b, off, n);
+            pos += n;
+            return n;
+        }
+
+        @Override
+        public long skip(long n) {
+            long k = Math.max(0, Math.min(n, end - pos));
+            pos += k;
+            return k;
+        }
+
+        @Override
+        public int available() {
+            if (chunk == null || pos < chunkStart || pos >= chunkStart + chunk.length) {
+                return 0;
+            }
+            return (int) (Math.min(chunkStart + chunk.length, end) - pos);
+        }
+
+        // loads the chunk containing the current position if not already loaded
+        private void ensureChunk() throws IOException {
+            if (chunk == null || pos >= chunkStart + chunk.length) {
+                loadChunk((int) (pos / chunkSize));
+            }
+        }
+
+        private void loadChunk(int chunkIdx) throws IOException {
+            byte[] k = getChunkKey(objectName, objectId, chunkIdx);
+            it.seek(k);
+            if (!it.isValid() || !Arrays.equals(k, it.key())) {
+                throw new DatabaseCorruptionException(
+                        "Chunk " + chunkIdx + " of object " + objectName + " not found in bucket " + getName());
+            }
+            chunk = it.value();
+            chunkStart = (long) chunkIdx * chunkSize;
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                it.close();
+            }
+        }
+    }
 }
@@ -29,20 +29,26 @@ import org.yamcs.yarch.rocksdb.protobuf.Tablespace.TablespaceRecord.Type;
  * 4 bytes    1 byte             variable size
  * tbsIndex   0 = bucket info
  * tbsIndex   1 = metadata       objectName (up to 1000 bytes)
- * tbsIndex   2 = data           objectId (4 bytes)
+ * tbsIndex   2 = data           objectName
+ * tbsIndex   3 = data chunk     objectName 0xFF objectId (4 bytes) chunkIndex (4 bytes)
  * </pre>
  * 
  * The rocksdb value is formed by:
  * <ul>
- * <li>in case of metadata: protobuf representation of ObjectProperties (contains the objectId and key,value metadata)
- * <li>in case of user object: binary user object
+ * <li>in case of metadata: protobuf representation of ObjectProperties (contains the objectId, the chunk size and
+ * key,value metadata)
+ * <li>in case of data: binary user object (only for objects written by older versions)
+ * <li>in case of data chunk: the part of the binary user object corresponding to the chunk
  * </ul>
  * 
+ * The 0xFF separator does not appear in the UTF-8 encoding of the object name such that the chunks of one object do
+ * not mix with the chunks of another object whose name starts with the same characters.
+ * <p>
  * To retrieve an object based on the bucket name and object name,
  * <ol>
  * <li>retrieve the tbsIndex based on the bucket name
  * <li>retrieve the ObjectProperties based on the tbsIndex and object name
- * <li>retrieve the object data based on the tbsIndex and objectId
+ * <li>retrieve the object data chunks based on the tbsIndex, object name and objectId
  * </ol>
  * 
  * @author nm
@@ -56,6 +62,7 @@ public class RdbBucketDatabase implements BucketDatabase {
     final static byte TYPE_BUCKET_INFO = 0;
     final static byte TYPE_OBJ_METADATA = 1;
     final static byte TYPE_OBJ_DATA = 2;
+    final static byte TYPE_OBJ_CHUNK = 3;
 
     final static long DEFAULT_MAX_BUCKET_SIZE = 100L * 1024 * 1024; // 100MB
     final static int DEFAULT_MAX_OBJECTS_PER_BUCKET = 1000;
@@ -1,6 +1,7 @@
 package org.yamcs.yarch.rocksdb;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -12,8 +13,11 @@ import org.rocksdb.BlockBasedTableConfig;
 import org.rocksdb.BloomFilter;
 import org.rocksdb.Cache;
 import org.rocksdb.ColumnFamilyOptions;
+import org.rocksdb.CompactionStyle;
 import org.rocksdb.CompressionType;
 import org.rocksdb.DBOptions;
+import org.rocksdb.DataBlockIndexType;
+import org.rocksdb.HyperClockCache;
 import org.rocksdb.IndexType;
 import org.rocksdb.LRUCache;
 import org.rocksdb.YamcsParchiveMergeOperator;
@@ -38,8 +42,13 @@ public class RdbConfig {
     public static final String KEY_TABLESPACE_NAME_PATTERN = "tablespaceNamePattern";
     public static final String KEY_CF_PATTERN = "columnFamilyPattern";
     public static final String KEY_TF_CONFIG = "tableFormatConfig";
+    public static final String KEY_TABLE_WRITER_CONFIG = "tableWriterConfig";
+    public static final String KEY_TABLE_NAME_PATTERN = "tableNamePattern";
+    public static final String KEY_TABLE_CONFIG = "tableConfig";
+    public static final String KEY_PROFILE = "profile";
 
     public static final int DEFAULT_MAX_OPEN_FILES = 10000;
+    public static final long DEFAULT_BLOCK_CACHE_SIZE = 64 * 1024 * 1024;
 
     static final Map<String, CompressionType> COMP_TYPES = new HashMap<>();
     static {
@@ -53,6 +62,13 @@ public class RdbConfig {
         COMP_TYPES.put("zstd", CompressionType.ZSTD_COMPRESSION);
     }
 
+    static final Map<String, CompactionStyle> COMPACTION_STYLES = new HashMap<>();
+    static {
+        COMPACTION_STYLES.put("level", CompactionStyle.LEVEL);
+        COMPACTION_STYLES.put("universal", CompactionStyle.UNIVERSAL);
+        COMPACTION_STYLES.put("fifo", CompactionStyle.FIFO);
+    }
+
     static final private RdbConfig INSTANTCE = new RdbConfig();
 
     final TablespaceConfig defaultTblConfig;
@@ -106,19 +122,31 @@ public class RdbConfig {
 
         ColumnFamilyOptions defaultCfOptions = new ColumnFamilyOptions();
         ColumnFamilyOptions metadataDbCfOptions = new ColumnFamilyOptions();
-        ColumnFamilyOptions rtDataCfOptions = new ColumnFamilyOptions();
-        ColumnFamilyOptions parchiveCfOptions = new ColumnFamilyOptions();
+        ColumnFamilyOptions rtDataCfOptions;
+        ColumnFamilyOptions parchiveCfOptions;
 
         List<CfConfig> cfConfigList = new ArrayList<>();
+        List<TableWriterConfig> tableWriterConfigList = new ArrayList<>();
+        List<TableConfig> tableConfigList = new ArrayList<>();
         BlockBasedTableConfig tableFormatConfig;
 
         long targetFileSizeBase;
-        final LRUCache lruCache;
+        // shared by all the databases (partitions) of the tablespace
+        final Cache blockCache;
+        // number of intervals read in advance by the table walkers; 0 means no read-ahead
+        int readAheadIntervals = 0;
+        // number of threads reading in advance, shared by all the table walkers of the tablespace
+        int readAheadThreads = Runtime.getRuntime().availableProcessors();
 
         /**
          * default tablespace config containing default
          */
         public TablespaceConfig() {
+            this(new LRUCache(DEFAULT_BLOCK_CACHE_SIZE));
+        }
+
+        private TablespaceConfig(Cache blockCache) {
+            this.blockCache = blockCache;
             dboptions = new DBOptions();
             dboptions.setCreateIfMissing(true);
             dboptions.setKeepLogFileNum(10);
@@ -134,46 +162,32 @@ public class RdbConfig {
             defaultCfOptions.useFixedLengthPrefixExtractor(4);
             defaultCfOptions.setCompressionType(CompressionType.LZ4_COMPRESSION);
 
-            rtDataCfOptions.useFixedLengthPrefixExtractor(4);
-            rtDataCfOptions.setCompressionType(CompressionType.LZ4_COMPRESSION);
-            rtDataCfOptions.setBottommostCompressionType(CompressionType.ZSTD_COMPRESSION);
-            rtDataCfOptions.setMaxWriteBufferNumber(4);
-            rtDataCfOptions.setTargetFileSizeMultiplier(2);
-            rtDataCfOptions.setLevel0SlowdownWritesTrigger(50);
-            rtDataCfOptions.setLevel0StopWritesTrigger(100);
-
-            parchiveCfOptions.useFixedLengthPrefixExtractor(4);
-            parchiveCfOptions.setCompressionType(CompressionType.LZ4_COMPRESSION);
-            parchiveCfOptions.setTargetFileSizeMultiplier(2);
-            parchiveCfOptions.setMaxWriteBufferNumber(4);
-            parchiveCfOptions.setLevel0FileNumCompactionTrigger(20);
-            parchiveCfOptions.setLevel0SlowdownWritesTrigger(50);
-            parchiveCfOptions.setLevel0StopWritesTrigger(100);
-            parchiveCfOptions.setMergeOperator(new YamcsParchiveMergeOperator());
-
-            tableFormatConfig = new BlockBasedTableConfig();
-            tableFormatConfig.setBlockSize(256l * 1024);
-            tableFormatConfig.setFormatVersion(5);
-            tableFormatConfig.setFilterPolicy(new BloomFilter());
-            lruCache = new LRUCache(64 * 1024 * 1024);
-            tableFormatConfig.setBlockCache(lruCache);
-
-            tableFormatConfig.setIndexType(IndexType.kTwoLevelIndexSearch);
-
-            rtDataCfOptions.setTableFormatConfig(tableFormatConfig);
-            parchiveCfOptions.setTableFormatConfig(tableFormatConfig);
+            tableFormatConfig = newTableFormatConfig(blockCache);
+
             defaultCfOptions.setTableFormatConfig(tableFormatConfig);
             metadataDbCfOptions.setTableFormatConfig(tableFormatConfig);
 
-            cfConfigList.add(new CfConfig(lruCache, Pattern.compile(ParameterArchive.CF_NAME), parchiveCfOptions));
-            cfConfigList.add(new CfConfig(lruCache, Pattern.compile(XtceTmRecorder.CF_NAME), rtDataCfOptions));
-            cfConfigList.add(new CfConfig(lruCache, Pattern.compile(Tablespace.CF_METADATA), metadataDbCfOptions));
-            cfConfigList.add(new CfConfig(lruCache, Pattern.compile(YRDB.DEFAULT_CF), defaultCfOptions));
-
+            rtDataCfOptions = CfProfile.APPEND_ONLY_TIMESERIES.newOptions(blockCache);
+            parchiveCfOptions = CfProfile.PARAMETER_ARCHIVE.newOptions(blockCache);
+
+            cfConfigList.add(new CfConfig(Pattern.compile(ParameterArchive.CF_NAME), parchiveCfOptions));
+            cfConfigList.add(new CfConfig(Pattern.compile(ParameterArchive.ROLLUP_CF_NAME), parchiveCfOptions));
+            cfConfigList.add(new CfConfig(Pattern.compile(XtceTmRecorder.CF_NAME), rtDataCfOptions));
+            cfConfigList.add(new CfConfig(Pattern.compile(Tablespace.CF_METADATA), metadataDbCfOptions));
+            cfConfigList.add(new CfConfig(Pattern.compile(YRDB.DEFAULT_CF), defaultCfOptions));
+            // the column families named after the profiles, used for the tables configured with a profile
+            for (CfProfile profile : CfProfile.values()) {
+                ColumnFamilyOptions options = switch (profile) {
+                case APPEND_ONLY_TIMESERIES -> rtDataCfOptions;
+                case PARAMETER_ARCHIVE -> parchiveCfOptions;
+                default -> profile.newOptions(blockCache);
+                };
+                cfConfigList.add(new CfConfig(Pattern.compile(Pattern.quote(profile.getName())), options));
+            }
         }
 
         TablespaceConfig(YConfiguration tblspConfig) throws ConfigurationException {
-            this();
+            this(createBlockCache(tblspConfig));
             String s = tblspConfig.getString(KEY_TABLESPACE_NAME_PATTERN);
             try {
                 tablespaceNamePattern = Pattern.compile(s);
@@ -196,12 +210,46 @@ public class RdbConfig {
                 int count = 0;
                 List<YConfiguration> cfConfigs = tblspConfig.getConfigList(KEY_CF_CONFIG);
                 for (YConfiguration cfConfig : cfConfigs) {
-                    CfConfig cfConf = new CfConfig(lruCache, cfConfig);
+                    CfConfig cfConf = new CfConfig(blockCache, cfConfig);
                     cfConfigList.add(count, cfConf); // make sure to add them before the three ones added in the default
                                                      // constructor
                     count++;
                 }
             }
+            readAheadIntervals = tblspConfig.getInt("readAheadIntervals", readAheadIntervals);
+            if (readAheadIntervals < 0) {
+                throw new ConfigurationException("readAheadIntervals cannot be negative");
+            }
+            readAheadThreads = tblspConfig.getInt("readAheadThreads", readAheadThreads);
+            if (readAheadThreads < 1) {
+                throw new ConfigurationException("readAheadThreads has to be at least 1");
+            }
+            if (tblspConfig.containsKey(KEY_TABLE_WRITER_CONFIG)) {
+                for (YConfiguration twConfig : tblspConfig.getConfigList(KEY_TABLE_WRITER_CONFIG)) {
+                    tableWriterConfigList.add(new TableWriterConfig(twConfig));
+                }
+            }
+            if (tblspConfig.containsKey(KEY_TABLE_CONFIG)) {
+                for (YConfiguration tConfig : tblspConfig.getConfigList(KEY_TABLE_CONFIG)) {
+                    tableConfigList.add(new TableConfig(tConfig));
+                }
+            }
+        }
+
+        static Cache createBlockCache(YConfiguration tblspConfig) {
+            long size = DEFAULT_BLOCK_CACHE_SIZE;
+            if (tblspConfig.containsKey("blockCacheSize")) {
+                size = 1024 * tblspConfig.getLong("blockCacheSize");
+            }
+            String type = tblspConfig.getString("blockCacheType", "lru");
+            if ("lru".equals(type)) {
+                return new LRUCache(size);
+            } else if ("hyperClock".equals(type)) {
+                // 0 means that the charge of the entries is estimated automatically
+                return new HyperClockCache(size, 0, -1, false);
+            } else {
+                throw new ConfigurationException("Unknown blockCacheType '" + type + "'. Allowed types: lru, hyperClock");
+            }
         }
 
         public ColumnFamilyOptions getColumnFamilyOptions(String cfName) {
@@ -213,28 +261,227 @@ public class RdbConfig {
             return defaultCfOptions;
         }
 
+        /**
+         * 
+         * @return the first table writer config that matches the table name or null if no config matches (the table
+         *         writers write each row in the database as it comes)
+         */
+        public TableWriterConfig getTableWriterConfig(String tableName) {
+            for (TableWriterConfig twc : tableWriterConfigList) {
+                if (twc.tableNamePattern.matcher(tableName).matches()) {
+                    return twc;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * 
+         * @return the column family in which a new table has to be created according to the profile configured for
+         *         the table or null if no profile is configured (the table will be created in the default column
+         *         family)
+         */
+        public String getTableColumnFamily(String tableName) {
+            for (TableConfig tc : tableConfigList) {
+                if (tc.tableNamePattern.matcher(tableName).matches()) {
+                    return tc.profile.getName();
+                }
+            }
+            return null;
+        }
+
+        /**
+         * 
+         * @return the number of intervals (time partitions) that the table walkers read in advance on background
+         *         threads
+         */
+        public int getReadAheadIntervals() {
+            return readAheadIntervals;
+        }
+
+        /**
+         * 
+         * @return the maximum number of threads used by all the table walkers of the tablespace for reading in advance
+         */
+        public int getReadAheadThreads() {
+            return readAheadThreads;
+        }
+
         public DBOptions getDBOptions() {
             return dboptions;
         }
 
+        /**
+         * 
+         * @return the block cache shared by all the column families of all the databases of the tablespace
+         */
         public Cache getTableCache() {
-            return lruCache;
+            return blockCache;
+        }
+    }
+
+    /**
+     * Named tuning profiles providing the column family options adapted to a type of workload.
+     * <p>
+     * All the profiles keep the 4 bytes prefix extractor (the tbsIndex prefixes all the keys in the tablespace).
+     */
+    public enum CfProfile {
+        /**
+         * Data inserted in time order and read by range scans: large blocks, LZ4 on the upper levels and ZSTD on the
+         * bottommost level. These are the options used for the rt_data column family.
+         */
+        APPEND_ONLY_TIMESERIES("append-only-timeseries"),
+        /**
+         * Data read by primary key: small blocks with hash index, bloom filters in the memtable and in the block
+         * cache, with the ones of the level 0 pinned.
+         */
+        POINT_LOOKUP("point-lookup"),
+        /**
+         * Parameter archive segments, written with merge operations. These are the options used for the parameter
+         * archive column families.
+         */
+        PARAMETER_ARCHIVE("parameter-archive");
+
+        private final String name;
+
+        private CfProfile(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public static CfProfile fromName(String name) {
+            for (CfProfile p : values()) {
+                if (p.name.equals(name)) {
+                    return p;
+                }
+            }
+            throw new ConfigurationException("Unknown profile '" + name + "'. Allowed profiles: "
+                    + Arrays.stream(values()).map(CfProfile::getName).collect(Collectors.toList()));
+        }
+
+        ColumnFamilyOptions newOptions(Cache blockCache) {
+            ColumnFamilyOptions options = new ColumnFamilyOptions();
+            BlockBasedTableConfig tableFormatConfig = newTableFormatConfig(blockCache);
+            apply(options, tableFormatConfig);
+            options.setTableFormatConfig(tableFormatConfig);
+            return options;
+        }
+
+        /**
+         * Sets the profile options; the table format config has to be set on the column family options afterwards
+         * (the options can be further customized before that)
+         */
+        void apply(ColumnFamilyOptions options, BlockBasedTableConfig tableFormatConfig) {
+            options.useFixedLengthPrefixExtractor(4);
+            switch (this) {
+            case APPEND_ONLY_TIMESERIES:
+                options.setCompressionType(CompressionType.LZ4_COMPRESSION);
+                options.setBottommostCompressionType(CompressionType.ZSTD_COMPRESSION);
+                options.setMaxWriteBufferNumber(4);
+                options.setTargetFileSizeMultiplier(2);
+                options.setLevel0SlowdownWritesTrigger(50);
+                options.setLevel0StopWritesTrigger(100);
+                break;
+            case POINT_LOOKUP:
+                options.setCompressionType(CompressionType.LZ4_COMPRESSION);
+                options.setMemtablePrefixBloomSizeRatio(0.1);
+                options.setMemtableWholeKeyFiltering(true);
+                tableFormatConfig.setBlockSize(16 * 1024);
+                tableFormatConfig.setFilterPolicy(new BloomFilter(10));
+                tableFormatConfig.setIndexType(IndexType.kBinarySearch);
+                tableFormatConfig.setDataBlockIndexType(DataBlockIndexType.kDataBlockBinaryAndHash);
+                tableFormatConfig.setCacheIndexAndFilterBlocks(true);
+                tableFormatConfig.setPinL0FilterAndIndexBlocksInCache(true);
+                break;
+            case PARAMETER_ARCHIVE:
+                options.setCompressionType(CompressionType.LZ4_COMPRESSION);
+                options.setTargetFileSizeMultiplier(2);
+                options.setMaxWriteBufferNumber(4);
+                options.setLevel0FileNumCompactionTrigger(20);
+                options.setLevel0SlowdownWritesTrigger(50);
+                options.setLevel0StopWritesTrigger(100);
+                options.setMergeOperator(new YamcsParchiveMergeOperator());
+                break;
+            }
+        }
+    }
+
+    /**
+     * Configures the column family (via the profile) in which the new tables are created
+     */
+    static class TableConfig {
+        final Pattern tableNamePattern;
+        final CfProfile profile;
+
+        TableConfig(YConfiguration tConfig) {
+            String s = tConfig.getString(KEY_TABLE_NAME_PATTERN);
+            try {
+                tableNamePattern = Pattern.compile(s);
+            } catch (PatternSyntaxException e) {
+                throw new ConfigurationException("Cannot parse regexp " + e);
+            }
+            profile = CfProfile.fromName(tConfig.getString(KEY_PROFILE));
+        }
+    }
+
+    /**
+     * Configures the batching of the writes performed by the {@link RdbTableWriter}
+     */
+    public static class TableWriterConfig {
+        Pattern tableNamePattern;
+        // commit when this number of rows has been accumulated
+        int batchSize = 1000;
+        // commit at the latest after this number of milliseconds from the first row in the batch
+        long maxBatchDelay = 100;
+        // if true, the batches are committed in a separate thread
+        boolean asyncCommit = false;
+        // for the async commit, the number of batches waiting to be committed after which the writer blocks
+        int maxPendingBatches = 4;
+
+        TableWriterConfig(YConfiguration twConfig) {
+            String s = twConfig.getString(KEY_TABLE_NAME_PATTERN);
+            try {
+                tableNamePattern = Pattern.compile(s);
+            } catch (PatternSyntaxException e) {
+                throw new ConfigurationException("Cannot parse regexp " + e);
+            }
+            batchSize = twConfig.getInt("batchSize", batchSize);
+            maxBatchDelay = twConfig.getLong("maxBatchDelay", maxBatchDelay);
+            asyncCommit = twConfig.getBoolean("asyncCommit", asyncCommit);
+            maxPendingBatches = twConfig.getInt("maxPendingBatches", maxPendingBatches);
+            if (batchSize < 1 || maxBatchDelay < 1 || maxPendingBatches < 1) {
+                throw new ConfigurationException(
+                        "batchSize, maxBatchDelay and maxPendingBatches have to be positive in " + twConfig);
+            }
+        }
+
+        TableWriterConfig(Pattern tableNamePattern, int batchSize, long maxBatchDelay, boolean asyncCommit,
+                int maxPendingBatches) {
+            this.tableNamePattern = tableNamePattern;
+            this.batchSize = batchSize;
+            this.maxBatchDelay = maxBatchDelay;
+            this.asyncCommit = asyncCommit;
+            this.maxPendingBatches = maxPendingBatches;
         }
     }
 
     static class CfConfig {
         Pattern cfNamePattern;
         ColumnFamilyOptions options;
-        final LRUCache lruCache;
 
-        public CfConfig(LRUCache lruCache, Pattern cfNamePattern, ColumnFamilyOptions options) {
-            this.lruCache = lruCache;
+        public CfConfig(Pattern cfNamePattern, ColumnFamilyOptions options) {
             this.cfNamePattern = cfNamePattern;
             this.options = options;
         }
 
-        public CfConfig(LRUCache lruCache, YConfiguration cfConfig) {
-            this.lruCache = lruCache;
+        /**
+         * Creates the options from the configuration; the table format config always uses the block cache of the
+         * tablespace (unless noBlockCache is set).
+         */
+        public CfConfig(Cache blockCache, YConfiguration cfConfig) {
             String s = cfConfig.getString(KEY_CF_PATTERN);
             try {
                 cfNamePattern = Pattern.compile(s);
@@ -242,7 +489,12 @@ public class RdbConfig {
                 throw new ConfigurationException("Cannot parse regexp " + e);
             }
             options = new ColumnFamilyOptions();
-            options.useFixedLengthPrefixExtractor(4);
+            BlockBasedTableConfig tableFormatConfig = newTableFormatConfig(blockCache);
+            if (cfConfig.containsKey(KEY_PROFILE)) {
+                CfProfile.fromName(cfConfig.getString(KEY_PROFILE)).apply(options, tableFormatConfig);
+            } else {
+                options.useFixedLengthPrefixExtractor(4);
+            }
 
             if (cfConfig.containsKey("numLevels")) {
                 options.setNumLevels(cfConfig.getInt("numLevels"));
@@ -294,26 +546,65 @@ public class RdbConfig {
                         getCompressionType(cfConfig.getString("bottommostCompressionType")));
             }
 
+            if (cfConfig.containsKey("compactionStyle")) {
+                String cs = cfConfig.getString("compactionStyle");
+                CompactionStyle style = COMPACTION_STYLES.get(cs);
+                if (style == null) {
+                    throw new ConfigurationException("Unknown compaction style '" + cs + "'. Allowed styles: "
+                            + COMPACTION_STYLES.keySet());
+                }
+                options.setCompactionStyle(style);
+            }
+            // with the level compaction, the files older than the ttl are compacted;
+            // with the fifo compaction, they are deleted
+            if (cfConfig.containsKey("ttl")) {
+                options.setTtl(cfConfig.getLong("ttl"));
+            }
+
             if (cfConfig.containsKey(KEY_TF_CONFIG)) {
                 YConfiguration tfc = cfConfig.getConfig(KEY_TF_CONFIG);
-                BlockBasedTableConfig tableFormatConfig = new BlockBasedTableConfig();
                 if (tfc.containsKey("blockSize")) {
                     tableFormatConfig.setBlockSize(1024L * tfc.getLong("blockSize"));
                 }
 
-                if (tfc.containsKey("noBlockCache")) {
-                    tableFormatConfig.setNoBlockCache(tfc.getBoolean("noBlockCache"));
+                if (tfc.getBoolean("noBlockCache", false)) {
+                    tableFormatConfig.setNoBlockCache(true);
+                    tableFormatConfig.setBlockCache(null);
+                }
+                if (tfc.containsKey("partitionedIndex")) {
+                    tableFormatConfig.setIndexType(tfc.getBoolean("partitionedIndex") ? IndexType.kTwoLevelIndexSearch
+                            : IndexType.kBinarySearch);
+                }
+                if (tfc.containsKey("bloomFilterBitsPerKey")) {
+                    double bitsPerKey = tfc.getDouble("bloomFilterBitsPerKey");
+                    tableFormatConfig.setFilterPolicy(bitsPerKey > 0 ? new BloomFilter(bitsPerKey) : null);
+                }
+                if (tfc.containsKey("wholeKeyFiltering")) {
+                    tableFormatConfig.setWholeKeyFiltering(tfc.getBoolean("wholeKeyFiltering"));
+                }
+                if (tfc.containsKey("cacheIndexAndFilterBlocks")) {
+                    tableFormatConfig.setCacheIndexAndFilterBlocks(tfc.getBoolean("cacheIndexAndFilterBlocks"));
                 }
-
-                boolean partitionedIndex = tfc.getBoolean("partitionedIndex", true);
-                tableFormatConfig
-                        .setIndexType(partitionedIndex ? IndexType.kTwoLevelIndexSearch : IndexType.kBinarySearch);
-                options.setTableFormatConfig(tableFormatConfig);
             }
+            options.setTableFormatConfig(tableFormatConfig);
         }
 
     }
 
+    /**
+     * 
+     * @return the default table format config: large blocks, bloom filter and partitioned index
+     */
+    static BlockBasedTableConfig newTableFormatConfig(Cache blockCache) {
+        BlockBasedTableConfig tableFormatConfig = new BlockBasedTableConfig();
+        tableFormatConfig.setBlockSize(256l * 1024);
+        tableFormatConfig.setFormatVersion(5);
+        tableFormatConfig.setFilterPolicy(new BloomFilter());
+        tableFormatConfig.setBlockCache(blockCache);
+        tableFormatConfig.setIndexType(IndexType.kTwoLevelIndexSearch);
+        return tableFormatConfig;
+    }
+
     static CompressionType getCompressionType(String compr) {
         CompressionType ct = COMP_TYPES.get(compr);
         if (ct == null) {
@@ -1,12 +1,17 @@
 package org.yamcs.yarch.rocksdb;
 
+import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.RocksDBException;
 import org.yamcs.utils.ByteArrayUtils;
 import org.yamcs.yarch.HistogramInfo;
+import org.yamcs.yarch.HistogramRollup;
 
 import static org.yamcs.yarch.rocksdb.RdbStorageEngine.*;
 
 public class RdbHistogramInfo extends HistogramInfo {
-   
+    // the histogram rollups are stored in the partition database into a column family with this name
+    public static final String ROLLUP_CF_NAME = "histogram_rollups";
+
     final int tbsIndex;
     //for time based partitions something like 2017/11
     final String partitionDir;
@@ -25,6 +30,43 @@ public class RdbHistogramInfo extends HistogramInfo {
         
         return dbKey;
     }
+
+    /**
+     * Key of a rollup in the {@link #ROLLUP_CF_NAME} column family.
+     * <p>
+     * The bucket is stored with the sign bit flipped such that the keys of the negative buckets sort before the
+     * positive ones.
+     */
+    public static byte[] rollupDbKey(int tbsIndex, HistogramRollup.Level level, long bucket, byte[] columnv) {
+        byte[] dbKey = new byte[TBS_INDEX_SIZE + 9 + columnv.length];
+        ByteArrayUtils.encodeInt(tbsIndex, dbKey, 0);
+        dbKey[TBS_INDEX_SIZE] = (byte) level.getId();
+        ByteArrayUtils.encodeLong(bucket ^ Long.MIN_VALUE, dbKey, TBS_INDEX_SIZE + 1);
+        System.arraycopy(columnv, 0, dbKey, TBS_INDEX_SIZE + 9, columnv.length);
+        return dbKey;
+    }
+
+    /**
+     * The rollups of a histogram are used only if they cover all its data. This is the case if the histogram was empty
+     * when the first rollup has been written or if the histogram has been rebuilt; a record with the tbsIndex as key is
+     * written in the rollup column family to signal it.
+     */
+    static boolean hasRollups(YRDB rdb, int tbsIndex) throws RocksDBException {
+        ColumnFamilyHandle cfh = rdb.getColumnFamilyHandle(ROLLUP_CF_NAME);
+        return cfh != null && rdb.get(cfh, dbKey(tbsIndex)) != null;
+    }
+
+    static void setHasRollups(YRDB rdb, int tbsIndex) throws RocksDBException {
+        ColumnFamilyHandle cfh = rdb.createAndGetColumnFamilyHandle(ROLLUP_CF_NAME);
+        rdb.put(cfh, dbKey(tbsIndex), ZERO_BYTES);
+    }
+
+    static void deleteRollups(YRDB rdb, int tbsIndex) throws RocksDBException {
+        ColumnFamilyHandle cfh = rdb.getColumnFamilyHandle(ROLLUP_CF_NAME);
+        if (cfh != null) {
+            rdb.getDb().deleteRange(cfh, dbKey(tbsIndex), dbKey(tbsIndex + 1));
+        }
+    }
     
     @Override
     public String toString() {
@@ -2,6 +2,7 @@ package org.yamcs.yarch.rocksdb;
 
 import static org.yamcs.yarch.HistogramSegment.segmentStart;
 import static org.yamcs.yarch.rocksdb.RdbHistogramInfo.histoDbKey;
+import static org.yamcs.yarch.rocksdb.RdbHistogramInfo.rollupDbKey;
 
 import static org.yamcs.yarch.rocksdb.RdbStorageEngine.*;
 
@@ -14,17 +15,26 @@ import java.util.Deque;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 
+import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.RocksDBException;
+import org.rocksdb.RocksIterator;
 import org.yamcs.logging.Log;
 import org.yamcs.utils.ByteArrayUtils;
 import org.yamcs.utils.TimeInterval;
 import org.yamcs.yarch.HistogramIterator;
 import org.yamcs.yarch.HistogramRecord;
+import org.yamcs.yarch.HistogramRollup;
 import org.yamcs.yarch.HistogramSegment;
 import org.yamcs.yarch.PartitionManager;
 import org.yamcs.yarch.TableDefinition;
 
 /**
+ * Iterates over the histogram records of a column.
+ * <p>
+ * If a rollup level is specified, the records are read from the {@link HistogramRollup}s of that level for the
+ * partitions having rollups and from the histogram segments for the others. The rollup records cannot be clipped to
+ * the interval, so only the buckets fully covered by the interval are read from the rollups; the parts of the interval
+ * before the first and after the last such bucket are read from the segments.
  * 
  * @author nm
  *
@@ -45,12 +55,32 @@ public class RdbHistogramIterator implements HistogramIterator {
     String colName;
     boolean stopReached = false;
     RdbPartitionManager partMgr;
-    
+
+    final HistogramRollup.Level level;
+    // histogram of the current partition
+    RdbHistogramInfo hist;
+    // the ranges of the current partition remaining to be read after the current one
+    private Deque<Range> ranges = new ArrayDeque<>();
+    private Range range;
+    // offset in the keys of the segment start or bucket
+    int timeOffset;
+
     public RdbHistogramIterator(String yamcsInstance, Tablespace tablespace, TableDefinition tblDef,
             String colName, TimeInterval interval) throws RocksDBException, IOException {
+        this(yamcsInstance, tablespace, tblDef, colName, interval, null);
+    }
+
+    /**
+     * 
+     * @param level
+     *            - the rollup level to use or null to read the histogram segments
+     */
+    public RdbHistogramIterator(String yamcsInstance, Tablespace tablespace, TableDefinition tblDef,
+            String colName, TimeInterval interval, HistogramRollup.Level level) throws RocksDBException, IOException {
         this.interval = interval;
         this.colName = colName;
         this.tablespace = tablespace;
+        this.level = level;
 
         partMgr = tablespace.getTable(tblDef).getPartitionManager();
         partitionIterator = partMgr.intervalIterator(interval);
@@ -73,59 +103,142 @@ public class RdbHistogramIterator implements HistogramIterator {
         PartitionManager.Interval intv = partitionIterator.next();
         
         
-        RdbHistogramInfo hist = (RdbHistogramInfo) intv.getHistogram(colName);
+        hist = (RdbHistogramInfo) intv.getHistogram(colName);
         if (hist == null) {
             readNextPartition();
             return;
         }
         rdb = tablespace.getRdb(hist.partitionDir, false);
-
-        long segStart = interval.hasStart() ? segmentStart(interval.getStart()) : 0;
-        byte[] dbKeyStart = histoDbKey(hist.tbsIndex, segStart, ZERO_BYTES);
-
-        boolean strictEnd;
-        byte[] dbKeyStop;
-        if (interval.hasEnd()) {
-            strictEnd = false;
-            dbKeyStop = ByteArrayUtils.encodeInt(hist.tbsIndex, new byte[12], 0);
-            long segStop = segmentStart(interval.getEnd());
-            ByteArrayUtils.encodeLong(segStop, dbKeyStop, TBS_INDEX_SIZE);
-        } else {
-            dbKeyStop = RdbStorageEngine.dbKey(hist.tbsIndex);
-            strictEnd = false;
-        }
-        if (segmentIterator != null) {
-            segmentIterator.close();
+        try {
+            computeRanges();
+        } catch (RocksDBException e) {
+            throw new IOException(e);
         }
+        readNextRange();
+    }
 
+    // reads the next range of the current partition or moves to the next partition
+    private void readNextRange() throws IOException {
+        range = ranges.poll();
+        if (range == null) {
+            readNextPartition();
+            return;
+        }
         try {
-            segmentIterator = new AscendingRangeIterator(rdb.newIterator(), dbKeyStart, dbKeyStop);
+            openSegmentIterator(range.start, ZERO_BYTES);
         } catch (RocksDBException e) {
             throw new IOException(e);
         }
         readNextSegments();
     }
 
+    /**
+     * Splits the interval into the ranges to be read from the segments or from the rollups for the current partition.
+     */
+    private void computeRanges() throws RocksDBException {
+        ranges.clear();
+        Long start = interval.hasStart() ? interval.getStart() : null;
+        Long stop = interval.hasEnd() ? interval.getEnd() : null;
+        // the records stopping at the start of the interval are skipped
+        long minStop = start == null ? Long.MIN_VALUE : start + 1;
+        if (level == null || !RdbHistogramInfo.hasRollups(rdb, hist.tbsIndex)) {
+            ranges.add(new Range(false, start, stop, minStop));
+            return;
+        }
+        // the first and last buckets fully covered by the interval
+        long firstBucket = Long.MIN_VALUE;
+        long lastBucket = Long.MAX_VALUE;
+        if (start != null) {
+            firstBucket = HistogramRollup.bucket(level, start);
+            if (HistogramRollup.bucketStart(level, firstBucket) < start) {
+                firstBucket++;
+            }
+        }
+        if (stop != null) {
+            lastBucket = HistogramRollup.bucket(level, stop);
+            if (HistogramRollup.bucketStart(level, lastBucket + 1) - 1 > stop) {
+                lastBucket--;
+            }
+        }
+        if (firstBucket > lastBucket) {
+            ranges.add(new Range(false, start, stop, minStop));
+            return;
+        }
+
+        Long rstart = null;
+        Long rstop = null;
+        if (start != null) {
+            rstart = HistogramRollup.bucketStart(level, firstBucket);
+            if (rstart > start) {
+                ranges.add(new Range(false, start, rstart - 1, minStop));
+            }
+        }
+        if (stop != null) {
+            rstop = HistogramRollup.bucketStart(level, lastBucket + 1) - 1;
+        }
+        ranges.add(new Range(true, rstart, rstop, rstart == null ? Long.MIN_VALUE : rstart));
+        if (stop != null && rstop < stop) {
+            ranges.add(new Range(false, rstop + 1, stop, rstop + 1));
+        }
+    }
+
+    /**
+     * Opens the iterator over the segments (or rollups) of the current range starting with the segment containing the
+     * start time and the given column value.
+     */
+    private void openSegmentIterator(Long start, byte[] columnValue) throws RocksDBException {
+        if (segmentIterator != null) {
+            segmentIterator.close();
+            segmentIterator = null;
+        }
+        byte[] dbKeyStart;
+        byte[] dbKeyStop;
+        RocksIterator it;
+        if (range.rollups) {
+            timeOffset = TBS_INDEX_SIZE + 1;
+            long bstart = start == null ? Long.MIN_VALUE : HistogramRollup.bucket(level, start);
+            dbKeyStart = rollupDbKey(hist.tbsIndex, level, bstart, columnValue);
+            long bstop = range.stop == null ? Long.MAX_VALUE : HistogramRollup.bucket(level, range.stop);
+            dbKeyStop = rollupDbKey(hist.tbsIndex, level, bstop, ZERO_BYTES);
+            ColumnFamilyHandle cfh = rdb.getColumnFamilyHandle(RdbHistogramInfo.ROLLUP_CF_NAME);
+            it = rdb.newIterator(cfh);
+        } else {
+            timeOffset = TBS_INDEX_SIZE;
+            long segStart = start == null ? 0 : segmentStart(start);
+            dbKeyStart = histoDbKey(hist.tbsIndex, segStart, columnValue);
+            if (range.stop != null) {
+                dbKeyStop = ByteArrayUtils.encodeInt(hist.tbsIndex, new byte[12], 0);
+                long segStop = segmentStart(range.stop);
+                ByteArrayUtils.encodeLong(segStop, dbKeyStop, TBS_INDEX_SIZE);
+            } else {
+                dbKeyStop = RdbStorageEngine.dbKey(hist.tbsIndex);
+            }
+            it = rdb.newIterator();
+        }
+        segmentIterator = new AscendingRangeIterator(it, dbKeyStart, dbKeyStop);
+    }
+
     // reads all the segments with the same sstart time
     private void readNextSegments() throws IOException {
         if (!segmentIterator.isValid()) {
-            readNextPartition();
+            readNextRange();
             return;
         }
-        long sstart = ByteArrayUtils.decodeLong(segmentIterator.key(), RdbStorageEngine.TBS_INDEX_SIZE);
+        long sstart = ByteArrayUtils.decodeLong(segmentIterator.key(), timeOffset);
 
         while (true) {
             boolean beyondStop = addRecords(segmentIterator.key(), segmentIterator.value());
-            if (beyondStop) {
+            // the end of the interval has been reached if this is the last range
+            if (beyondStop && ranges.isEmpty()) {
                 stopReached = true;
             }
 
             segmentIterator.next();
             if (!segmentIterator.isValid()) {
-                readNextPartition();
+                readNextRange();
                 break;
             }
-            long g = ByteArrayUtils.decodeLong(segmentIterator.key(), RdbStorageEngine.TBS_INDEX_SIZE);
+            long g = ByteArrayUtils.decodeLong(segmentIterator.key(), timeOffset);
             if (g != sstart && !records.isEmpty()) {
                 break;
             }
@@ -147,9 +260,12 @@ public class RdbHistogramIterator implements HistogramIterator {
     // add all records from this segment into the queue
     // if the stop has been reached add only partially the records, return true
     private boolean addRecords(byte[] key, byte[] val) {
+        byte[] columnv = new byte[key.length - timeOffset - 8];
+        System.arraycopy(key, timeOffset + 8, columnv, 0, columnv.length);
+        if (range.rollups) {
+            return addRollupRecords(columnv, val);
+        }
         long sstart = ByteArrayUtils.decodeLong(key, RdbStorageEngine.TBS_INDEX_SIZE);
-        byte[] columnv = new byte[key.length - RdbStorageEngine.TBS_INDEX_SIZE - 8];
-        System.arraycopy(key, RdbStorageEngine.TBS_INDEX_SIZE + 8, columnv, 0, columnv.length);
 
         ByteBuffer vbb = ByteBuffer.wrap(val);
         HistogramRecord r = null;
@@ -158,10 +274,10 @@ public class RdbHistogramIterator implements HistogramIterator {
 
             long stop = sstart * HistogramSegment.GROUPING_FACTOR + vbb.getInt();
             int num = vbb.getShort();
-            if ((interval.hasStart()) && (stop <= interval.getStart())) {
+            if (stop < range.minStop) {
                 continue;
             }
-            if ((interval.hasEnd()) && (start > interval.getEnd())) {
+            if ((range.stop != null) && (start > range.stop)) {
                 if (r != null) {
                     records.addLast(r);
                 }
@@ -180,6 +296,40 @@ public class RdbHistogramIterator implements HistogramIterator {
         return false;
     }
 
+    private boolean addRollupRecords(byte[] columnv, byte[] val) {
+        int n = HistogramRollup.numRecords(val);
+        for (int i = 0; i < n; i++) {
+            HistogramRecord r = HistogramRollup.getRecord(columnv, val, i);
+            if (r.getStop() < range.minStop) {
+                continue;
+            }
+            if ((range.stop != null) && (r.getStart() > range.stop)) {
+                return true;
+            }
+            records.addLast(r);
+        }
+        return false;
+    }
+
+    /**
+     * Part of the interval read either from the segments or from the rollups.
+     */
+    static final class Range {
+        final boolean rollups;
+        // null if unbounded
+        final Long start;
+        final Long stop;
+        // the records stopping before this time are skipped
+        final long minStop;
+
+        Range(boolean rollups, Long start, Long stop, long minStop) {
+            this.rollups = rollups;
+            this.start = start;
+            this.stop = stop;
+            this.minStop = minStop;
+        }
+    }
+
     @Override
     public void seek(byte[] columnValue, long time) {
         try {
@@ -193,41 +343,35 @@ public class RdbHistogramIterator implements HistogramIterator {
             }
 
             PartitionManager.Interval intv = partitionIterator.next();
-            RdbHistogramInfo hist = (RdbHistogramInfo) intv.getHistogram(colName);
+            hist = (RdbHistogramInfo) intv.getHistogram(colName);
 
             if (hist == null) {
                 readNextPartition();
                 return;
             }
 
-            rdb = tablespace.getRdb(hist.partitionDir, false);
-            long segStart = segmentStart(time);
-            byte[] dbKeyStart = histoDbKey(hist.tbsIndex, segStart, columnValue);
-
-            byte[] dbKeyStop;
-            if (interval.hasEnd()) {
-                dbKeyStop = ByteArrayUtils.encodeInt(hist.tbsIndex, new byte[12], 0);
-                long segStop = segmentStart(interval.getEnd());
-                ByteArrayUtils.encodeLong(segStop, dbKeyStop, TBS_INDEX_SIZE);
-            } else {
-                dbKeyStop = RdbStorageEngine.dbKey(hist.tbsIndex);
+            if (rdb != null) {
+                tablespace.dispose(rdb);
             }
-            if (segmentIterator != null) {
-                segmentIterator.close();
-            }
-            segmentIterator = new AscendingRangeIterator(rdb.newIterator(), dbKeyStart, dbKeyStop);
+            rdb = tablespace.getRdb(hist.partitionDir, false);
+            computeRanges();
+            // skip the ranges before the time
+            do {
+                range = ranges.poll();
+            } while (range.stop != null && range.stop < time && !ranges.isEmpty());
+            openSegmentIterator(time, columnValue);
             if (!segmentIterator.isValid()) {
-                readNextPartition();
+                readNextRange();
                 return;
             }
 
             // we have to add the first record only partially and only if it starts at the time and value of the seek
             byte[] key = segmentIterator.key();
-            long sstart1 = ByteArrayUtils.decodeLong(key, TBS_INDEX_SIZE);
-            byte[] columnValue1 = new byte[key.length - TBS_INDEX_SIZE - 8];
-            System.arraycopy(key, TBS_INDEX_SIZE + 8, columnValue1, 0, columnValue1.length);
-            
-            if (sstart1 != sstart || !Arrays.equals(columnValue, columnValue1)) {
+            long sstart1 = ByteArrayUtils.decodeLong(key, timeOffset);
+            byte[] columnValue1 = new byte[key.length - timeOffset - 8];
+            System.arraycopy(key, timeOffset + 8, columnValue1, 0, columnValue1.length);
+            long sstart0 = range.rollups ? HistogramRollup.bucket(level, time) ^ Long.MIN_VALUE : sstart;
+            if (sstart1 != sstart0 || !Arrays.equals(columnValue, columnValue1)) {
                 readNextSegments();
                 return;
             }
@@ -17,7 +17,9 @@ import org.yamcs.utils.TimeInterval;
 import org.yamcs.yarch.BucketDatabase;
 import org.yamcs.yarch.ExecutionContext;
 import org.yamcs.yarch.HistogramIterator;
+import org.yamcs.yarch.HistogramRollup;
 import org.yamcs.yarch.ProtobufDatabase;
+import org.yamcs.yarch.SecondaryIndexDefinition;
 import org.yamcs.yarch.Sequence;
 import org.yamcs.yarch.SequenceInfo;
 import org.yamcs.yarch.StorageEngine;
@@ -213,6 +215,20 @@ public class RdbStorageEngine implements StorageEngine {
         }
     }
 
+    @Override
+    public HistogramIterator getHistogramIterator(YarchDatabaseInstance ydb, TableDefinition tblDef,
+            String columnName, TimeInterval interval, long mergeTime) throws YarchException {
+
+        checkFormatVersion(ydb, tblDef);
+        try {
+            Tablespace tblsp = getTablespace(ydb);
+            return new RdbHistogramIterator(ydb.getYamcsInstance(), tblsp, tblDef, columnName, interval,
+                    HistogramRollup.Level.select(interval, mergeTime));
+        } catch (RocksDBException | IOException e) {
+            throw new YarchException(e);
+        }
+    }
+
     @Override
     public synchronized BucketDatabase getBucketDatabase(YarchDatabaseInstance ydb) throws YarchException {
         String tablespaceName = ydb.getTablespaceName();
@@ -319,10 +335,21 @@ public class RdbStorageEngine implements StorageEngine {
 
     @Override
     public TableWalker newSecondaryIndexTableWalker(YarchDatabaseInstance ydb, TableDefinition tableDefinition,
-            boolean ascending, boolean follow) {
+            SecondaryIndexDefinition indexDefinition, boolean ascending, boolean follow) {
         Tablespace tblsp = getTablespace(ydb, tableDefinition);
 
-        return tblsp.newSecondaryIndexTableWalker(ydb, tableDefinition, ascending, follow);
+        return tblsp.newSecondaryIndexTableWalker(ydb, tableDefinition, indexDefinition, ascending, follow);
+    }
+
+    @Override
+    public void addSecondaryIndex(YarchDatabaseInstance ydb, TableDefinition tblDef,
+            SecondaryIndexDefinition indexDefinition) throws YarchException {
+        Tablespace tablespace = getTablespace(ydb, tblDef);
+        try {
+            tablespace.addSecondaryIndex(ydb.getYamcsInstance(), tblDef, indexDefinition);
+        } catch (RocksDBException e) {
+            throw new YarchException(e);
+        }
     }
 
     @Override
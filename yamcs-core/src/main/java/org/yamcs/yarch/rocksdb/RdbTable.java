@@ -1,10 +1,17 @@
 package org.yamcs.yarch.rocksdb;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.rocksdb.RocksDBException;
+import org.yamcs.logging.Log;
 import org.yamcs.utils.DatabaseCorruptionException;
+import org.yamcs.yarch.SecondaryIndexDefinition;
 import org.yamcs.yarch.Table;
 import org.yamcs.yarch.TableDefinition;
 import org.yamcs.yarch.YarchException;
@@ -25,7 +32,10 @@ public class RdbTable extends Table {
     final HistogramWriter histoWriter;
     // column family name
     final String cfName;
-    SecondaryIndexWriter indexWriter;
+    // copy on write list, the writers read it for each row
+    private volatile List<SecondaryIndexWriter> indexWriters = Collections.emptyList();
+    // the table writers hold the read lock while writing a row, the write lock is held while adding an index writer
+    final ReadWriteLock indexWritersLock = new ReentrantReadWriteLock();
 
     public RdbTable(String yamcsInstance, Tablespace tablespace, TableDefinition tblDef, int tbsIndex, String cfName) {
         super(tblDef);
@@ -37,17 +47,43 @@ public class RdbTable extends Table {
         partitionManager = new RdbPartitionManager(this, yamcsInstance, tblDef);
 
         histoWriter = HistogramWriter.newWriter(this);
-        if (tblDef.hasSecondaryIndex()) {
-            List<TablespaceRecord> trList = tablespace.filter(Type.SECONDARY_INDEX, yamcsInstance,
-                    tr -> tr.getTableName().equals(tblDef.getName()));
-            if(trList.size()!=1) {
-                throw new DatabaseCorruptionException("Expected to read 1 secondary index record, got "+trList.size());
+        List<TablespaceRecord> trList = tablespace.filter(Type.SECONDARY_INDEX, yamcsInstance,
+                tr -> tr.getTableName().equals(tblDef.getName()));
+        List<SecondaryIndexWriter> writers = new ArrayList<>();
+        for (SecondaryIndexDefinition sidx : tblDef.getSecondaryIndexes()) {
+            TablespaceRecord tr = findRecord(trList, sidx);
+            if (tr == null) {
+                throw new DatabaseCorruptionException("Cannot find the secondary index record for " + sidx
+                        + " of table " + tblDef.getName());
+            }
+            trList.remove(tr);
+            writers.add(new SecondaryIndexWriter(tablespace, tblDef, sidx, tr.getTbsIndex()));
+        }
+        indexWriters = Collections.unmodifiableList(writers);
+
+        // the remaining records are from indexes whose build has been interrupted
+        for (TablespaceRecord tr : trList) {
+            Log log = new Log(RdbTable.class, yamcsInstance);
+            log.warn("Table {}: removing incomplete secondary index {}", tblDef.getName(),
+                    tr.getSecondaryIndex().getName());
+            try {
+                tablespace.removeTbsIndex(Type.SECONDARY_INDEX, tr.getTbsIndex());
+            } catch (RocksDBException e) {
+                throw new YarchException(e);
             }
-            
-            indexWriter = new SecondaryIndexWriter(tablespace, tblDef, trList.get(0).getTbsIndex());
         }
     }
 
+    private static TablespaceRecord findRecord(List<TablespaceRecord> trList, SecondaryIndexDefinition sidx) {
+        for (TablespaceRecord tr : trList) {
+            if (tr.getSecondaryIndex().hasName() ? tr.getSecondaryIndex().getName().equals(sidx.getName())
+                    : tr.getSecondaryIndex().getColumnNameList().equals(sidx.getColumns())) {
+                return tr;
+            }
+        }
+        return null;
+    }
+
     public Tablespace getTablespace() {
         return tablespace;
     }
@@ -69,8 +105,47 @@ public class RdbTable extends Table {
         return histoWriter;
     }
 
-    public SecondaryIndexWriter getSecondaryIndexWriter() {
-        return indexWriter;
+    /**
+     * 
+     * @return the writers of all the secondary indexes including the ones being built
+     */
+    public List<SecondaryIndexWriter> getSecondaryIndexWriters() {
+        return indexWriters;
+    }
+
+    /**
+     * 
+     * @return the writer of the secondary index with the given name or null if there is no such index
+     */
+    public SecondaryIndexWriter getSecondaryIndexWriter(String indexName) {
+        for (SecondaryIndexWriter siw : indexWriters) {
+            if (siw.getIndexDefinition().getName().equals(indexName)) {
+                return siw;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Adds the writer of a new secondary index. After this method returns, all the rows written by the table writers
+     * update the new index.
+     */
+    synchronized void addSecondaryIndexWriter(SecondaryIndexWriter writer) {
+        List<SecondaryIndexWriter> l = new ArrayList<>(indexWriters);
+        l.add(writer);
+        Lock lock = indexWritersLock.writeLock();
+        lock.lock();
+        try {
+            indexWriters = Collections.unmodifiableList(l);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    synchronized void removeSecondaryIndexWriter(SecondaryIndexWriter writer) {
+        List<SecondaryIndexWriter> l = new ArrayList<>(indexWriters);
+        l.remove(writer);
+        indexWriters = Collections.unmodifiableList(l);
     }
 
     public RdbHistogramInfo createAndGetHistogram(long instant, String columnName) {
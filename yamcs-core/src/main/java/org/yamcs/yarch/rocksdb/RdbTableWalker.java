@@ -1,9 +1,18 @@
 package org.yamcs.yarch.rocksdb;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.rocksdb.ColumnFamilyHandle;
@@ -31,8 +40,14 @@ public class RdbTableWalker extends AbstractTableWalker {
     private final RdbTable table;
     static AtomicInteger count = new AtomicInteger(0);
 
+    // number of records read by the background threads in one go
+    static final int READ_AHEAD_CHUNK_SIZE = 1000;
+    // number of chunks buffered for each interval
+    static final int READ_AHEAD_QUEUE_SIZE = 4;
+
     boolean batchUpdates = false;
     protected TableVisitor visitor;
+    int readAhead = 0;
 
     protected RdbTableWalker(ExecutionContext ctx, TableDefinition tableDefinition,
             boolean ascending, boolean follow) {
@@ -95,29 +110,9 @@ public class RdbTableWalker extends AbstractTableWalker {
         var cfh = rdb.getColumnFamilyHandle(table.cfName());
 
         try {
-            List<DbIterator> itList = new ArrayList<>(interval.size());
-            // create an iterator for each partitions
-            for (Partition p : interval) {
-                p1 = (RdbPartition) p;
-                if (!ascending) {
-                    readOptions.setTotalOrderSeek(true);
-                }
-                RocksIterator rocksIt = rdb.getDb().newIterator(cfh, readOptions);
-                DbIterator it = getPartitionIterator(rocksIt, p1.tbsIndex, ascending, tableRange);
-                if (it.isValid()) {
-                    itList.add(it);
-                } else {
-                    it.close();
-                }
-            }
-
-            if (itList.size() == 0) {
+            iterator = getIntervalIterator(rdb, cfh, readOptions, interval, tableRange);
+            if (iterator == null) {
                 return false;
-            } else if (itList.size() == 1) {
-                iterator = itList.get(0);
-            } else {
-                iterator = new MergingIterator(itList,
-                        ascending ? new SuffixAscendingComparator(4) : new SuffixDescendingComparator(4));
             }
             boolean endReached;
             if (ascending) {
@@ -145,6 +140,86 @@ public class RdbTableWalker extends AbstractTableWalker {
         }
     }
 
+    /**
+     * Creates an iterator over all the partitions of the interval
+     * 
+     * @return the iterator or null if there is no data in the interval
+     */
+    private DbIterator getIntervalIterator(YRDB rdb, ColumnFamilyHandle cfh, ReadOptions readOptions,
+            PartitionManager.Interval interval, DbRange tableRange) {
+        List<DbIterator> itList = new ArrayList<>(interval.size());
+        // create an iterator for each partitions
+        for (Partition p : interval) {
+            RdbPartition p1 = (RdbPartition) p;
+            if (!ascending) {
+                readOptions.setTotalOrderSeek(true);
+            }
+            RocksIterator rocksIt = rdb.getDb().newIterator(cfh, readOptions);
+            DbIterator it = getPartitionIterator(rocksIt, p1.tbsIndex, ascending, tableRange);
+            if (it.isValid()) {
+                itList.add(it);
+            } else {
+                it.close();
+            }
+        }
+
+        if (itList.size() == 0) {
+            return null;
+        } else if (itList.size() == 1) {
+            return itList.get(0);
+        } else {
+            return new MergingIterator(itList,
+                    ascending ? new SuffixAscendingComparator(4) : new SuffixDescendingComparator(4));
+        }
+    }
+
+    /**
+     * If read-ahead is enabled, the intervals are read by background threads (at most readAhead intervals in advance
+     * of the one being visited) and passed in chunks to this thread which calls the visitor, such that the visitor
+     * sees the records in the same order as without read-ahead.
+     * <p>
+     * Read-ahead is not used for the follow mode (the data is not there yet) and for batch updates.
+     */
+    @Override
+    protected void walkIntervals(Iterator<PartitionManager.Interval> partitionIterator, DbRange range,
+            TableVisitor visitor) throws YarchException, StreamSqlException {
+        if (readAhead <= 0 || follow || batchUpdates) {
+            super.walkIntervals(partitionIterator, range, visitor);
+            return;
+        }
+        this.visitor = visitor;
+        ExecutorService executor = tablespace.getReadAheadExecutor();
+        Deque<IntervalReader> readers = new ArrayDeque<>();
+        try {
+            while (isRunning()) {
+                while (readers.size() <= readAhead && partitionIterator.hasNext()) {
+                    IntervalReader reader = new IntervalReader(partitionIterator.next(), range);
+                    readers.add(reader);
+                    executor.execute(reader);
+                }
+                IntervalReader reader = readers.poll();
+                if (reader == null) {
+                    break;
+                }
+                boolean endReached;
+                try {
+                    endReached = reader.consume();
+                } finally {
+                    reader.close();
+                }
+                if (endReached) {
+                    break;
+                }
+            }
+        } catch (RocksDBException e) {
+            throw new YarchException(e);
+        } finally {
+            for (IntervalReader reader : readers) {
+                reader.close();
+            }
+        }
+    }
+
     // return true if the end condition has been reached
     boolean runAscending(YRDB rdb, ColumnFamilyHandle cfh, DbIterator iterator, WriteBatch writeBatch, byte[] rangeEnd)
             throws RocksDBException, StreamSqlException {
@@ -261,6 +336,15 @@ public class RdbTableWalker extends AbstractTableWalker {
         return numRecordsRead;
     }
 
+    /**
+     * Sets the number of intervals (time partitions) which are read in advance on background threads.
+     * <p>
+     * 0 (default) means no read-ahead.
+     */
+    public void setReadAhead(int readAhead) {
+        this.readAhead = readAhead;
+    }
+
     public boolean isBatchUpdates() {
         return batchUpdates;
     }
@@ -269,6 +353,185 @@ public class RdbTableWalker extends AbstractTableWalker {
         this.batchUpdates = batchUpdates;
     }
 
+    static class Chunk {
+        final List<byte[]> keys = new ArrayList<>(READ_AHEAD_CHUNK_SIZE);
+        final List<byte[]> values = new ArrayList<>(READ_AHEAD_CHUNK_SIZE);
+        // set on the last chunk of the interval
+        boolean last;
+        // true if the end of the range has been reached
+        boolean endReached;
+        Exception error;
+    }
+
+    /**
+     * Reads the records of one interval on a background thread and passes them in chunks through a bounded queue to
+     * the walking thread.
+     * <p>
+     * The database is obtained (and the snapshot taken) by the walking thread which is also the one releasing it after
+     * the background thread has finished; the actions returned by the visitor are executed on the same database.
+     */
+    class IntervalReader implements Runnable {
+        final PartitionManager.Interval interval;
+        final DbRange tableRange;
+        final YRDB rdb;
+        final ColumnFamilyHandle cfh;
+        final ReadOptions readOptions;
+        final BlockingQueue<Chunk> queue = new ArrayBlockingQueue<>(READ_AHEAD_QUEUE_SIZE);
+        final AtomicBoolean started = new AtomicBoolean();
+        final CountDownLatch finished = new CountDownLatch(1);
+        volatile boolean cancelled = false;
+        boolean closed = false;
+
+        IntervalReader(PartitionManager.Interval interval, DbRange tableRange) {
+            this.interval = interval;
+            this.tableRange = tableRange;
+            RdbPartition p1 = (RdbPartition) interval.iterator().next();
+            if (p1.dir != null) {
+                log.debug("opening database {}", p1.dir);
+                rdb = tablespace.getRdb(p1.dir, false);
+            } else {
+                rdb = tablespace.getRdb();
+            }
+            readOptions = new ReadOptions();
+            readOptions.setSnapshot(ctx.getSnapshot(rdb));
+            cfh = rdb.getColumnFamilyHandle(table.cfName());
+        }
+
+        @Override
+        public void run() {
+            if (!started.compareAndSet(false, true)) {
+                return;
+            }
+            Chunk chunk = new Chunk();
+            DbIterator iterator = null;
+            try {
+                iterator = getIntervalIterator(rdb, cfh, readOptions, interval, tableRange);
+                while (iterator != null && iterator.isValid() && !cancelled) {
+                    byte[] dbKey = iterator.key();
+                    byte[] key = Arrays.copyOfRange(dbKey, 4, dbKey.length);
+                    byte[] value = iterator.value();
+                    if (ascending ? iAscendingFinished(key, value, tableRange.rangeEnd)
+                            : isDescendingFinished(key, value, tableRange.rangeStart)) {
+                        chunk.endReached = true;
+                        break;
+                    }
+                    chunk.keys.add(dbKey);
+                    chunk.values.add(value);
+                    if (chunk.keys.size() == READ_AHEAD_CHUNK_SIZE) {
+                        put(chunk);
+                        chunk = new Chunk();
+                    }
+                    if (ascending) {
+                        iterator.next();
+                    } else {
+                        iterator.prev();
+                    }
+                }
+            } catch (Exception e) {
+                chunk.error = e;
+            } finally {
+                if (iterator != null) {
+                    iterator.close();
+                }
+                chunk.last = true;
+                try {
+                    put(chunk);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                finished.countDown();
+            }
+        }
+
+        private void put(Chunk chunk) throws InterruptedException {
+            while (!cancelled) {
+                if (queue.offer(chunk, 100, TimeUnit.MILLISECONDS)) {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Passes the records of the interval to the visitor
+         * 
+         * @return true if the end of the range has been reached
+         */
+        boolean consume() throws RocksDBException, StreamSqlException {
+            while (isRunning()) {
+                Chunk chunk;
+                try {
+                    // the walker may be closed while waiting, e.g. when the tablespace is closed
+                    chunk = queue.poll(100, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    close();
+                    return false;
+                }
+                if (chunk == null) {
+                    continue;
+                }
+                if (chunk.error != null) {
+                    throw new YarchException(chunk.error);
+                }
+                for (int i = 0; i < chunk.keys.size(); i++) {
+                    if (!isRunning()) {
+                        return false;
+                    }
+                    byte[] dbKey = chunk.keys.get(i);
+                    byte[] key = Arrays.copyOfRange(dbKey, 4, dbKey.length);
+                    numRecordsRead++;
+                    TableVisitor.Action action = visitor.visit(key, chunk.values.get(i));
+                    executeAction(rdb, cfh, action, dbKey);
+                    if (action.stop()) {
+                        RdbTableWalker.this.close();
+                        return false;
+                    }
+                }
+                if (chunk.endReached) {
+                    return true;
+                }
+                if (chunk.last) {
+                    return false;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Called when the reader is dropped from the executor before having run (the tablespace is being closed): passes
+         * an error to the walking thread instead of the records.
+         */
+        void abort() {
+            if (started.compareAndSet(false, true)) {
+                Chunk chunk = new Chunk();
+                chunk.last = true;
+                chunk.error = new YarchException("The read-ahead has been stopped, the tablespace is closed");
+                queue.offer(chunk);
+                finished.countDown();
+            }
+        }
+
+        /**
+         * Stops the background reading (if still running), waits for it to finish and releases the database.
+         */
+        void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            cancelled = true;
+            if (!started.compareAndSet(false, true)) {
+                try {
+                    finished.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            readOptions.close();
+            tablespace.dispose(rdb);
+        }
+    }
+
     class RdbRawTuple extends RawTuple {
         RocksIterator iterator;
         byte[] partition;
@@ -5,6 +5,8 @@ import static org.yamcs.yarch.rocksdb.RdbStorageEngine.dbKey;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
 
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.RocksDBException;
@@ -25,6 +27,7 @@ import org.yamcs.yarch.Tuple;
 import org.yamcs.yarch.TupleDefinition;
 import org.yamcs.yarch.YarchDatabaseInstance;
 import org.yamcs.yarch.YarchException;
+import org.yamcs.yarch.rocksdb.RdbConfig.TableWriterConfig;
 
 import static org.yamcs.yarch.rocksdb.RdbStorageEngine.TBS_INDEX_SIZE;;
 
@@ -40,6 +43,11 @@ import static org.yamcs.yarch.rocksdb.RdbStorageEngine.TBS_INDEX_SIZE;;
  * <p>
  * The histograms are written by the {@link HistogramWriter}.
  *
+ * <p>
+ * If a {@link TableWriterConfig} matches the table name in the tablespace configuration, the rows are not written
+ * one by one but accumulated and committed in batches by a {@link RdbWriteBatcher}. The rows are visible to the
+ * readers (and to the other writers of the same table) only once the batch has been committed.
+ *
  * 
  * @author nm
  *
@@ -56,8 +64,9 @@ public class RdbTableWriter extends TableWriter {
     volatile boolean closed = false;
     WriteOptions wopt;
     final HistogramWriter histoWriter;
-    final SecondaryIndexWriter secondaryIndexWriter;
     TableDefinition tableDefinition;
+    // null if the rows are written one by one
+    final RdbWriteBatcher batcher;
 
     public RdbTableWriter(YarchDatabaseInstance ydb, RdbTable table, InsertMode mode) {
         super(ydb, table, mode);
@@ -73,7 +82,19 @@ public class RdbTableWriter extends TableWriter {
             wopt.setDisableWAL(true);
         }
         histoWriter = table.getHistogramWriter();
-        secondaryIndexWriter = table.getSecondaryIndexWriter();
+
+        TableWriterConfig twc = RdbConfig.getInstance().getTablespaceConfig(tablespace.getName())
+                .getTableWriterConfig(table.getName());
+        if (twc != null) {
+            batcher = new RdbWriteBatcher(twc, tablespace, table.getName(), wopt, tablespace.executor,
+                    e -> {
+                        log.error("failed to write a batch of records: ", e);
+                        YamcsServer.getServer().getCrashHandler(ydb.getYamcsInstance()).handleCrash("Archive",
+                                "failed to write a batch of records in " + table.getName() + ": " + e);
+                    });
+        } else {
+            batcher = null;
+        }
     }
 
     @Override
@@ -97,24 +118,24 @@ public class RdbTableWriter extends TableWriter {
             YRDB rdb = tablespace.getRdb(partition.dir, false);
             var cfh = rdb.createAndGetColumnFamilyHandle(table.cfName());
 
-            switch (mode) {
-            case INSERT:
-                insert(rdb, cfh, partition, t);
-                break;
-            case UPSERT:
-                upsert(rdb, cfh, partition, t);
-                break;
-            case INSERT_APPEND:
-                insertAppend(rdb, cfh, partition, t);
-                break;
-            case UPSERT_APPEND:
-                upsertAppend(rdb, cfh, partition, t);
-                break;
-            case LOAD:
-                load(rdb, cfh, partition, t);
+            // prevent a secondary index from being added while the row is written
+            Lock lock = table.indexWritersLock.readLock();
+            lock.lock();
+            try {
+                if (batcher == null) {
+                    write(rdb, cfh, partition, t);
+                    tablespace.dispose(rdb);
+                } else {
+                    // prevent the batch from being committed by the timer while the row is added
+                    synchronized (batcher) {
+                        write(rdb, cfh, partition, t);
+                        batcher.rowAdded(rdb);
+                    }
+                    batcher.awaitPendingBatches();
+                }
+            } finally {
+                lock.unlock();
             }
-
-            tablespace.dispose(rdb);
         } catch (IOException | RocksDBException | YarchException e) {
             log.error("failed to insert a record: ", e);
             YamcsServer.getServer().getCrashHandler(ydb.getYamcsInstance()).handleCrash("Archive",
@@ -122,12 +143,36 @@ public class RdbTableWriter extends TableWriter {
         }
     }
 
+    private void write(YRDB rdb, ColumnFamilyHandle cfh, RdbPartition partition, Tuple t)
+            throws RocksDBException, IOException {
+        switch (mode) {
+        case INSERT:
+            insert(rdb, cfh, partition, t);
+            break;
+        case UPSERT:
+            upsert(rdb, cfh, partition, t);
+            break;
+        case INSERT_APPEND:
+            insertAppend(rdb, cfh, partition, t);
+            break;
+        case UPSERT_APPEND:
+            upsertAppend(rdb, cfh, partition, t);
+            break;
+        case LOAD:
+            load(rdb, cfh, partition, t);
+        }
+    }
+
     private boolean load(YRDB db, ColumnFamilyHandle cfh, RdbPartition partition, Tuple t)
             throws RocksDBException, YarchException {
         Row row = tableDefinition.generateRow(t);
         byte[] k = dbKey(partition.tbsIndex, row.getKey());
         byte[] v = tableDefinition.serializeValue(t, row);
-        db.put(cfh, wopt, k, v);
+        if (batcher == null) {
+            db.put(cfh, wopt, k, v);
+        } else {
+            batcher.getBatch(db).put(cfh, k, v);
+        }
         return true;
     }
 
@@ -136,7 +181,7 @@ public class RdbTableWriter extends TableWriter {
         Row row = tableDefinition.generateRow(t);
         byte[] k = dbKey(partition.tbsIndex, row.getKey());
 
-        if (rdb.get(cfh, k) != null) {
+        if (get(rdb, cfh, k) != null) {
             return;
         }
         byte[] v = tableDefinition.serializeValue(t, row);
@@ -144,7 +189,7 @@ public class RdbTableWriter extends TableWriter {
         writeToDb(rdb, cfh, partition, k, v, row);
 
         if (histoWriter != null) {
-            histoWriter.addHistogram(row);
+            addHistogram(rdb, row);
         }
     }
 
@@ -157,7 +202,7 @@ public class RdbTableWriter extends TableWriter {
 
         boolean updated = false;
 
-        if (rdb.get(cfh, k) != null) {
+        if (get(rdb, cfh, k) != null) {
             updated = true;
         }
         writeToDb(rdb, cfh, partition, k, v, row);
@@ -166,7 +211,7 @@ public class RdbTableWriter extends TableWriter {
             if (updated) {
                 // TODO
             } else {
-                histoWriter.addHistogram(row);
+                addHistogram(rdb, row);
             }
         }
     }
@@ -180,7 +225,7 @@ public class RdbTableWriter extends TableWriter {
         boolean updated = false;
         rdb.lock(dbKey);
         try {
-            byte[] v = rdb.get(cfh, dbKey);
+            byte[] v = get(rdb, cfh, dbKey);
             if (v != null) {// append to an existing row
                 Tuple oldt = tableDefinition.deserialize(dbKey, v);
                 TupleDefinition tdef = t.getDefinition();
@@ -210,7 +255,7 @@ public class RdbTableWriter extends TableWriter {
         }
         if (histoWriter != null) {
             if (inserted) {
-                histoWriter.addHistogram(row);
+                addHistogram(rdb, row);
             } // else TODO
         }
     }
@@ -225,7 +270,7 @@ public class RdbTableWriter extends TableWriter {
 
         rdb.lock(dbKey);
         try {
-            byte[] v = rdb.get(cfh, dbKey);
+            byte[] v = get(rdb, cfh, dbKey);
             if (v != null) {// append to an existing row
                 byte[] k = Arrays.copyOfRange(dbKey, TBS_INDEX_SIZE, dbKey.length);
                 Tuple oldt = tableDefinition.deserialize(k, v);
@@ -262,15 +307,40 @@ public class RdbTableWriter extends TableWriter {
 
         if (histoWriter != null) {
             if (inserted) {
-                histoWriter.addHistogram(row);
+                addHistogram(rdb, row);
             } // else TODO
         }
     }
 
+    /**
+     * When writing in batches, the histograms are updated only once the batch containing the row has been written.
+     */
+    private void addHistogram(YRDB rdb, Row row) throws IOException, RocksDBException {
+        if (batcher == null) {
+            histoWriter.addHistogram(row);
+        } else {
+            batcher.afterWrite(rdb, () -> {
+                try {
+                    histoWriter.addHistogram(row);
+                } catch (IOException | RocksDBException e) {
+                    throw new YarchException(e);
+                }
+            });
+        }
+    }
+
+    private byte[] get(YRDB rdb, ColumnFamilyHandle cfh, byte[] key) throws RocksDBException {
+        return batcher == null ? rdb.get(cfh, key) : batcher.get(rdb, cfh, key);
+    }
+
     private void writeToDb(YRDB rdb, ColumnFamilyHandle cfh, RdbPartition partition, byte[] key, byte[] value, Row row)
             throws RocksDBException {
-
-        if (secondaryIndexWriter == null) {
+        if (batcher != null) {
+            writeToBatch(rdb, cfh, partition, key, value, row);
+            return;
+        }
+        List<SecondaryIndexWriter> indexWriters = table.getSecondaryIndexWriters();
+        if (indexWriters.isEmpty()) {
             rdb.put(cfh, key, value);
             return;
         }
@@ -278,7 +348,9 @@ public class RdbTableWriter extends TableWriter {
             try (WriteBatch writeBatch = new WriteBatch();
                     WriteOptions writeOpts = new WriteOptions()) {
                 writeBatch.put(cfh, key, value);
-                secondaryIndexWriter.addTuple(writeBatch, row, partition);
+                for (SecondaryIndexWriter siw : indexWriters) {
+                    siw.addTuple(writeBatch, row, value, partition);
+                }
                 rdb.write(writeOpts, writeBatch);
             }
         } else {// secondary index and main data go into different databases, we cannot perform the write in a batch
@@ -287,12 +359,51 @@ public class RdbTableWriter extends TableWriter {
             try (WriteBatch writeBatch = new WriteBatch();
                     WriteOptions writeOpts = new WriteOptions()) {
                 writeBatch.put(cfh, key, value);
-                secondaryIndexWriter.addTuple(writeBatch, row, partition);
+                for (SecondaryIndexWriter siw : indexWriters) {
+                    siw.addTuple(writeBatch, row, value, partition);
+                }
                 tablespace.getRdb().write(writeOpts, writeBatch);
             }
         }
     }
 
+    private void writeToBatch(YRDB rdb, ColumnFamilyHandle cfh, RdbPartition partition, byte[] key, byte[] value,
+            Row row) throws RocksDBException {
+        batcher.getBatch(rdb).put(cfh, key, value);
+        List<SecondaryIndexWriter> indexWriters = table.getSecondaryIndexWriters();
+        if (indexWriters.isEmpty()) {
+            return;
+        }
+        YRDB mainRdb = tablespace.getRdb();
+        var writeBatch = batcher.getBatch(mainRdb);
+        if (rdb != mainRdb) {
+            writeBatch.put(mainRdb.getColumnFamilyHandle(table.cfName()), key, value);
+        }
+        for (SecondaryIndexWriter siw : indexWriters) {
+            siw.addTuple(writeBatch, row, value, partition);
+        }
+    }
+
+    /**
+     * Commits the rows accumulated in the batches (if any).
+     * <p>
+     * If the async commit is configured, this method returns before the data has been written to the database.
+     */
+    public void flush() {
+        if (batcher != null) {
+            batcher.commit();
+        }
+    }
+
+    /**
+     * Commits the rows accumulated in the batches (if any) and waits until they are written to the database.
+     */
+    void sync() {
+        if (batcher != null) {
+            batcher.sync();
+        }
+    }
+
     /**
      * get the filename where the tuple would fit (can be a partition)
      * 
@@ -323,6 +434,9 @@ public class RdbTableWriter extends TableWriter {
             return;
         }
         closed = true;
+        if (batcher != null) {
+            batcher.close();
+        }
     }
 
     @Override
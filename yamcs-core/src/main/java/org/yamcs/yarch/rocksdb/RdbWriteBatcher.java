@@ -0,0 +1,300 @@
+package org.yamcs.yarch.rocksdb;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.DBOptions;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.WriteBatchWithIndex;
+import org.rocksdb.WriteOptions;
+import org.yamcs.yarch.rocksdb.RdbConfig.TableWriterConfig;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+/**
+ * Accumulates the writes of one {@link RdbTableWriter} into one {@link WriteBatchWithIndex} per database and commits
+ * them when the configured number of rows has been reached or when the oldest row has been waiting for the maximum
+ * configured delay.
+ * <p>
+ * The reads performed by the writer (to check if a row exists) go through {@link #get(YRDB, ColumnFamilyHandle, byte[])}
+ * which looks first into the batches not yet committed such that the writer sees its own writes.
+ * <p>
+ * If the async commit is configured, the batches are committed in order by a dedicated thread. The hand-over never
+ * blocks (the commit may be triggered by the timer running on the shared tablespace executor); instead, after having
+ * added a row, the writer (i.e. the stream thread) is blocked while more than maxPendingBatches are waiting to be
+ * committed.
+ * <p>
+ * The actions registered with {@link #afterWrite(YRDB, Runnable)} (e.g. the histogram updates) are run once the batch
+ * has been written, such that they never account for data lost in a crash.
+ * <p>
+ * The batch holds a reference to the partition databases such that they are not closed while there is data waiting to
+ * be written.
+ */
+class RdbWriteBatcher {
+    // used for reading from the batches, the options are not relevant for that
+    static final DBOptions DB_OPTIONS = new DBOptions();
+
+    final TableWriterConfig config;
+    final Tablespace tablespace;
+    final WriteOptions wopt;
+    final ScheduledExecutorService timer;
+    final Consumer<Exception> errorHandler;
+
+    // batches being filled; guarded by this
+    private final Map<YRDB, Batch> pending = new IdentityHashMap<>();
+    private int numRows;
+    private ScheduledFuture<?> flushFuture;
+
+    // batches handed over to the committer but not yet written, oldest first; used as monitor to wait for them
+    private final ConcurrentLinkedDeque<Batch> inFlight = new ConcurrentLinkedDeque<>();
+    private final ExecutorService committer;
+    // ensures that the batches are written one by one, in order
+    private final Object writeLock = new Object();
+
+    RdbWriteBatcher(TableWriterConfig config, Tablespace tablespace, String tableName, WriteOptions wopt,
+            ScheduledExecutorService timer, Consumer<Exception> errorHandler) {
+        this.config = config;
+        this.tablespace = tablespace;
+        this.wopt = wopt;
+        this.timer = timer;
+        this.errorHandler = errorHandler;
+        if (config.asyncCommit) {
+            committer = Executors.newSingleThreadExecutor(
+                    new ThreadFactoryBuilder().setNameFormat("RdbWriter-" + tableName).setDaemon(true).build());
+        } else {
+            committer = null;
+        }
+    }
+
+    /**
+     * Returns the batch where the writes into the given database have to be added.
+     */
+    synchronized WriteBatchWithIndex getBatch(YRDB rdb) {
+        return pending.computeIfAbsent(rdb, Batch::new).wb;
+    }
+
+    /**
+     * Registers an action to be run after the writes added so far into the batch of the given database have been
+     * written.
+     */
+    synchronized void afterWrite(YRDB rdb, Runnable action) {
+        pending.computeIfAbsent(rdb, Batch::new).afterWrite.add(action);
+    }
+
+    /**
+     * Reads the value of the key from the batches not yet committed or from the database.
+     */
+    byte[] get(YRDB rdb, ColumnFamilyHandle cfh, byte[] key) throws RocksDBException {
+        synchronized (this) {
+            Batch b = pending.get(rdb);
+            if (b != null) {
+                byte[] v = b.wb.getFromBatch(cfh, DB_OPTIONS, key);
+                if (v != null) {
+                    return v;
+                }
+            }
+        }
+        // newest first
+        Iterator<Batch> it = inFlight.descendingIterator();
+        while (it.hasNext()) {
+            Batch b = it.next();
+            if (b.rdb == rdb) {
+                byte[] v = b.getFromBatch(cfh, key);
+                if (v != null) {
+                    return v;
+                }
+            }
+        }
+        return rdb.get(cfh, key);
+    }
+
+    /**
+     * Called after each tuple processed by the writer.
+     * <p>
+     * The reference to the database obtained by the writer is kept by the batch (if it does not already have one) or
+     * released.
+     * <p>
+     * Has to be followed (outside of any lock) by a call to {@link #awaitPendingBatches()}.
+     */
+    synchronized void rowAdded(YRDB rdb) {
+        Batch b = pending.get(rdb);
+        if (b != null && !b.holdsRef) {
+            b.holdsRef = true;
+        } else {
+            tablespace.dispose(rdb);
+        }
+        if (pending.isEmpty()) {
+            // nothing written (e.g. the row already existed)
+            return;
+        }
+        numRows++;
+        if (numRows >= config.batchSize) {
+            commit();
+        } else if (flushFuture == null) {
+            flushFuture = timer.schedule(this::flushOnTimer, config.maxBatchDelay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void flushOnTimer() {
+        try {
+            commit();
+        } catch (Exception e) {
+            errorHandler.accept(e);
+        }
+    }
+
+    /**
+     * In case of async commit, blocks the caller while more than maxPendingBatches batches are waiting to be written.
+     */
+    void awaitPendingBatches() {
+        if (committer == null) {
+            return;
+        }
+        synchronized (inFlight) {
+            try {
+                while (inFlight.size() > config.maxPendingBatches) {
+                    inFlight.wait();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Commits all the pending batches (in case of async commit, hands them over to the committer without blocking)
+     */
+    synchronized void commit() {
+        if (flushFuture != null) {
+            flushFuture.cancel(false);
+            flushFuture = null;
+        }
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<Batch> batches = new ArrayList<>(pending.values());
+        pending.clear();
+        numRows = 0;
+
+        for (Batch b : batches) {
+            if (committer == null) {
+                b.write();
+                b.close();
+            } else {
+                // added in the order of the commits, such that the batches are written in the same order
+                inFlight.add(b);
+                try {
+                    committer.execute(this::writeOldest);
+                } catch (RejectedExecutionException e) {
+                    // after close, write it from this thread
+                    writeOldest();
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes the oldest batch in flight. Called once for each batch handed over to the committer.
+     */
+    private void writeOldest() {
+        synchronized (writeLock) {
+            Batch b = inFlight.peekFirst();
+            if (b == null) {
+                return;
+            }
+            b.write();
+            // once written, the data is found in the database
+            inFlight.pollFirst();
+            b.close();
+        }
+        synchronized (inFlight) {
+            inFlight.notifyAll();
+        }
+    }
+
+    /**
+     * Commits the pending batches and waits until they are written to the database.
+     */
+    void sync() {
+        commit();
+        if (committer != null) {
+            synchronized (inFlight) {
+                try {
+                    while (!inFlight.isEmpty()) {
+                        inFlight.wait();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+
+    /**
+     * Commits the pending batches and waits for the committer to finish.
+     */
+    void close() {
+        commit();
+        if (committer != null) {
+            committer.shutdown();
+            try {
+                committer.awaitTermination(1, TimeUnit.MINUTES);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    class Batch {
+        final YRDB rdb;
+        final WriteBatchWithIndex wb = new WriteBatchWithIndex(true);
+        final List<Runnable> afterWrite = new ArrayList<>();
+        boolean holdsRef = false;
+        // guarded by this; a reader may still access the batch after it has been removed from the inFlight queue
+        private boolean closed = false;
+
+        Batch(YRDB rdb) {
+            this.rdb = rdb;
+        }
+
+        synchronized byte[] getFromBatch(ColumnFamilyHandle cfh, byte[] key) throws RocksDBException {
+            return closed ? null : wb.getFromBatch(cfh, DB_OPTIONS, key);
+        }
+
+        void write() {
+            try {
+                rdb.write(wopt, wb);
+            } catch (RocksDBException | RuntimeException e) {
+                errorHandler.accept(e);
+                return;
+            }
+            for (Runnable action : afterWrite) {
+                try {
+                    action.run();
+                } catch (RuntimeException e) {
+                    errorHandler.accept(e);
+                }
+            }
+        }
+
+        synchronized void close() {
+            closed = true;
+            wb.close();
+            if (holdsRef) {
+                tablespace.dispose(rdb);
+            }
+        }
+    }
+}
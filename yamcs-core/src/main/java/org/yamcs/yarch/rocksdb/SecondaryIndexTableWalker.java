@@ -1,7 +1,9 @@
 package org.yamcs.yarch.rocksdb;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import org.rocksdb.ReadOptions;
@@ -15,6 +17,7 @@ import org.yamcs.utils.IntArray;
 import org.yamcs.utils.StringConverter;
 import org.yamcs.yarch.DataType;
 import org.yamcs.yarch.DbRange;
+import org.yamcs.yarch.SecondaryIndexDefinition;
 import org.yamcs.yarch.TableColumnDefinition;
 import org.yamcs.yarch.TableDefinition;
 import org.yamcs.yarch.TableVisitor;
@@ -44,8 +47,11 @@ import static org.yamcs.yarch.rocksdb.RdbStorageEngine.*;
 public class SecondaryIndexTableWalker implements TableWalker {
     private final RdbTable table;
     private final Tablespace tablespace;
+    private final SecondaryIndexDefinition indexDefinition;
+    private final boolean ascending;
+    private final boolean follow;
 
-    DbRange skRange;
+    List<DbRange> skRanges = Collections.singletonList(null);
     DbRange pkRange;
 
     /**
@@ -71,14 +77,17 @@ public class SecondaryIndexTableWalker implements TableWalker {
     volatile boolean running = true;
 
     protected SecondaryIndexTableWalker(Tablespace tablespace, RdbTable table,
-            boolean ascending, boolean follow) {
+            SecondaryIndexDefinition indexDefinition, boolean ascending, boolean follow) {
         this.tablespace = tablespace;
         this.table = table;
+        this.indexDefinition = indexDefinition;
+        this.ascending = ascending;
+        this.follow = follow;
 
         IntArray a = new IntArray();
         TableDefinition tblDef = table.getDefinition();
 
-        List<String> sindex = tblDef.getSecondaryIndex();
+        List<String> sindex = indexDefinition.getColumns();
         int offset = 0;
         for (String s : sindex) {
             TableColumnDefinition tcd = tblDef.getColumnDefinition(s);
@@ -108,22 +117,41 @@ public class SecondaryIndexTableWalker implements TableWalker {
      */
     public void walk(TableVisitor visitor) throws YarchException, StreamSqlException {
         this.visitor = visitor;
-        int tbsIndex = table.getSecondaryIndexWriter().getTbsIndex();
-        DbRange dbRange = RdbTableWalker.getDbRange(tbsIndex, skRange);
+        SecondaryIndexWriter indexWriter = table.getSecondaryIndexWriter(indexDefinition.getName());
+        if (indexWriter == null) {
+            throw new YarchException("Unknown index " + indexDefinition.getName() + " of table " + table.getName());
+        }
         YRDB rdb = tablespace.getRdb();
         var cfh = rdb.getColumnFamilyHandle(table.cfName());
+        List<DbRange> ranges = skRanges;
+        if (!ascending) {
+            ranges = new ArrayList<>(skRanges);
+            Collections.reverse(ranges);
+        }
 
         try (ReadOptions readOptions = new ReadOptions();
                 RocksIterator rocksIt = rdb.getDb().newIterator(cfh, readOptions);
-                AscendingRangeIterator it = new AscendingRangeIterator(rocksIt, dbRange);
                 WriteBatch writeBatch = batchUpdates ? new WriteBatch() : null;) {
-            while (isRunning() && it.isValid()) {
-                byte[] dbKey = it.key();
-                byte[] pk = getPk(dbKey);
-                if (pkInRange(pk)) {
-                    visitRow(writeBatch, pk, it.value());
+            for (DbRange skRange : ranges) {
+                if (!isRunning()) {
+                    break;
+                }
+                DbRange dbRange = RdbTableWalker.getDbRange(indexWriter.getTbsIndex(), skRange);
+                // the range iterators only position the RocksDB iterator which is closed at the end
+                AbstractDbIterator it = ascending ? new AscendingRangeIterator(rocksIt, dbRange)
+                        : new DescendingRangeIterator(rocksIt, dbRange);
+                while (isRunning() && it.isValid()) {
+                    byte[] dbKey = it.key();
+                    byte[] pk = getPk(dbKey);
+                    if (pkInRange(pk)) {
+                        visitRow(writeBatch, pk, it.value());
+                    }
+                    if (ascending) {
+                        it.next();
+                    } else {
+                        it.prev();
+                    }
                 }
-                it.next();
             }
             if (writeBatch != null) {
                 WriteOptions wo = new WriteOptions();
@@ -169,8 +197,11 @@ public class SecondaryIndexTableWalker implements TableWalker {
     }
 
     private boolean pkInRange(byte[] pk) {
-        return (pkRange == null) || (ByteArrayUtils.compare(pkRange.rangeStart, pk) >= 0
-                && ByteArrayUtils.compare(pkRange.rangeEnd, pk) <= 0);
+        if (pkRange == null) {
+            return true;
+        }
+        return (pkRange.rangeStart == null || ByteArrayUtils.compare(pk, pkRange.rangeStart) >= 0)
+                && (pkRange.rangeEnd == null || ByteArrayUtils.compare(pk, pkRange.rangeEnd) <= 0);
     }
 
     private boolean isRunning() {
@@ -206,7 +237,15 @@ public class SecondaryIndexTableWalker implements TableWalker {
 
     @Override
     public void setSecondaryIndexRange(DbRange skRange) {
-        this.skRange = skRange;
+        this.skRanges = Collections.singletonList(skRange);
+    }
+
+    /**
+     * Walks the given ranges one after the other, each of them being restricted by the primary key range.
+     */
+    @Override
+    public void setSecondaryIndexRanges(List<DbRange> skRanges) {
+        this.skRanges = skRanges;
     }
 
     @Override
@@ -218,6 +257,11 @@ public class SecondaryIndexTableWalker implements TableWalker {
         return batchUpdates;
     }
 
+    @Override
+    public boolean isFollow() {
+        return follow;
+    }
+
     public void setBatchUpdates(boolean batchUpdates) {
         this.batchUpdates = batchUpdates;
     }
@@ -5,15 +5,18 @@ import java.io.DataOutputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.function.Function;
 
+import org.rocksdb.AbstractWriteBatch;
 import org.rocksdb.RocksDBException;
-import org.rocksdb.WriteBatch;
 import org.yamcs.utils.ByteArray;
 import org.yamcs.yarch.DataType;
 import org.yamcs.yarch.Partition;
 import org.yamcs.yarch.Row;
+import org.yamcs.yarch.SecondaryIndexDefinition;
 import org.yamcs.yarch.TableColumnDefinition;
 import org.yamcs.yarch.TableDefinition;
+import org.yamcs.yarch.Tuple;
 import org.yamcs.yarch.YarchException;
 
 /**
@@ -31,13 +34,16 @@ public class SecondaryIndexWriter {
     final int tbsIndex;
     final TableDefinition tableDefinition;
     final Tablespace tablespace;
+    final SecondaryIndexDefinition indexDefinition;
     private final List<String> columns;
 
-    public SecondaryIndexWriter(Tablespace tablespace, TableDefinition tableDefinition, int tbsIndex) {
+    public SecondaryIndexWriter(Tablespace tablespace, TableDefinition tableDefinition,
+            SecondaryIndexDefinition indexDefinition, int tbsIndex) {
         this.tbsIndex = tbsIndex;
         this.tableDefinition = tableDefinition;
         this.tablespace = tablespace;
-        this.columns = tableDefinition.getSecondaryIndex();
+        this.indexDefinition = indexDefinition;
+        this.columns = indexDefinition.getColumns();
     }
 
     /**
@@ -51,11 +57,34 @@ public class SecondaryIndexWriter {
      * this is mysql non-configurable behaviour, postgresql is different by default but configurable.
      * 
      * @param writeBatch
-     * @param tuple
-     * @param dbkey
+     * @param row
+     * @param value
+     *            - the serialized value of the row, used if the row has been generated before the index has been
+     *            added to the table definition and does not contain the indexed columns
      * @param partition
      */
-    void addTuple(WriteBatch writeBatch, Row row, Partition partition) {
+    void addTuple(AbstractWriteBatch writeBatch, Row row, byte[] value, Partition partition) {
+        for (String colName : columns) {
+            if (row.getColumnDefinition(colName) == null) {
+                addTuple(writeBatch, tableDefinition.deserialize(row.getKey(), value), row.getKey(), partition);
+                return;
+            }
+        }
+        write(writeBatch, colName -> row.get(colName), row.getKey(), partition);
+    }
+
+    /**
+     * Write the secondary index for a tuple read from the table; used when building the index for the existing rows.
+     * 
+     * @param pk
+     *            - the primary key of the row
+     */
+    void addTuple(AbstractWriteBatch writeBatch, Tuple tuple, byte[] pk, Partition partition) {
+        write(writeBatch, colName -> tuple.hasColumn(colName) ? tuple.getColumn(colName) : null, pk, partition);
+    }
+
+    private void write(AbstractWriteBatch writeBatch, Function<String, Object> values, byte[] pk,
+            Partition partition) {
         RdbPartition rpart = (RdbPartition) partition;
 
         try (ByteArrayOutputStream baosValue = new ByteArrayOutputStream()) {
@@ -64,17 +93,17 @@ public class SecondaryIndexWriter {
 
             baKey.addInt(tbsIndex);
             for (String colName : columns) {
-                TableColumnDefinition tableCd = row.getColumnDefinition(colName);
+                TableColumnDefinition tableCd = tableDefinition.getColumnDefinition(colName);
                 DataType dt = tableCd.getType();
-                Object value = row.get(colName);
+                Object value = values.apply(colName);
                 if (value == null) {
                     baKey.add(dt.getTypeId());
                 } else {
-                    baKey.add((byte)(0x70 | dt.getTypeId()));
+                    baKey.add((byte) (0x70 | dt.getTypeId()));
                     tableCd.serializeValue(baKey, value);
                 }
             }
-            baKey.add(row.getKey());
+            baKey.add(pk);
             byte[] dbkey = baKey.toArray();
 
             dosValue.writeInt(rpart.tbsIndex);
@@ -84,7 +113,7 @@ public class SecondaryIndexWriter {
             }
             writeBatch.put(dbkey, baosValue.toByteArray());
         } catch (IOException e) {
-            throw new IllegalArgumentException("Cannot serialize key from tuple " + row + ": ", e);
+            throw new IllegalArgumentException("Cannot serialize key from tuple " + pk + ": ", e);
         } catch (RocksDBException e) {
             throw new YarchException(e);
         }
@@ -94,4 +123,8 @@ public class SecondaryIndexWriter {
     public int getTbsIndex() {
         return tbsIndex;
     }
+
+    public SecondaryIndexDefinition getIndexDefinition() {
+        return indexDefinition;
+    }
 }
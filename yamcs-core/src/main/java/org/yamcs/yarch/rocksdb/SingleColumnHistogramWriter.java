@@ -105,6 +105,8 @@ public class SingleColumnHistogramWriter extends HistogramWriter {
         if (wrs.containsKey(dbPartition)) {
             throw new IllegalStateException("Already queing for this partition");
         }
+        // the rebuilder overwrites the histograms and rollups of the partition, the cached ones are not valid anymore
+        colHistoWriter.cleanup();
         WhileRebuild wr = new WhileRebuild();
         wrs.put(dbPartition, wr);
         tablespace.getExecutor().schedule(() -> {
@@ -8,6 +8,7 @@ import java.util.Map.Entry;
 import org.yamcs.utils.DatabaseCorruptionException;
 import org.yamcs.yarch.DataType;
 import org.yamcs.yarch.PartitioningSpec;
+import org.yamcs.yarch.SecondaryIndexDefinition;
 import org.yamcs.yarch.TableColumnDefinition;
 import org.yamcs.yarch.TableDefinition;
 import org.yamcs.yarch.rocksdb.protobuf.Tablespace.PartitioningInfo;
@@ -49,9 +50,8 @@ class TableDefinitionSerializer {
             infob.addValueColumn(toProtobuf(cdef));
         }
 
-        List<String> scndIdx = def.getSecondaryIndex();
-        if (scndIdx != null) {
-            infob.addSecondaryIndex(SecondaryIndex.newBuilder().addAllColumnName(scndIdx).build());
+        for (SecondaryIndexDefinition sidx : def.getSecondaryIndexes()) {
+            infob.addSecondaryIndex(toProtobuf(sidx));
         }
         if (def.getCfName() != null) {
             infob.setCfName(def.getCfName());
@@ -93,6 +93,10 @@ class TableDefinitionSerializer {
 
     }
 
+    static SecondaryIndex toProtobuf(SecondaryIndexDefinition sidx) {
+        return SecondaryIndex.newBuilder().setName(sidx.getName()).addAllColumnName(sidx.getColumns()).build();
+    }
+
     private static TableColumnInfo toProtobuf(TableColumnDefinition cdef) {
         TableColumnInfo.Builder infob = TableColumnInfo.newBuilder();
         infob.setName(cdef.getName());
@@ -158,9 +162,9 @@ class TableDefinitionSerializer {
                 tdef.setPartitioningSpec(PartitioningSpec.noneSpec());
             }
 
-            if (protodef.getSecondaryIndexCount() > 0) {
-                SecondaryIndex sidx = protodef.getSecondaryIndex(0);
-                tdef.setSecondaryIndex(new ArrayList<String>(sidx.getColumnNameList()));
+            for (SecondaryIndex sidx : protodef.getSecondaryIndexList()) {
+                tdef.addSecondaryIndex(sidx.hasName() ? sidx.getName() : null,
+                        new ArrayList<String>(sidx.getColumnNameList()));
             }
         } catch (StreamSqlException e) {
             throw new DatabaseCorruptionException(e);
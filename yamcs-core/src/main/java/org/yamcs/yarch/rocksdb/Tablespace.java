@@ -8,12 +8,17 @@ import static org.yamcs.yarch.rocksdb.RdbStorageEngine.dbKey;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.WeakHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -33,6 +38,7 @@ import org.yamcs.utils.IntArray;
 import org.yamcs.yarch.DataType;
 import org.yamcs.yarch.ExecutionContext;
 import org.yamcs.yarch.Partition;
+import org.yamcs.yarch.SecondaryIndexDefinition;
 import org.yamcs.yarch.Sequence;
 import org.yamcs.yarch.SequenceInfo;
 import org.yamcs.yarch.TableColumnDefinition;
@@ -114,6 +120,9 @@ public class Tablespace {
 
     static final byte METADATA_FB_SEQ = 3;// first byte of metadata records keys that contain sequences
 
+    // number of index entries written in one batch when building a secondary index for an existing table
+    static final int INDEX_BUILD_BATCH_SIZE = 1000;
+
     YRDB mainDb;
     ColumnFamilyHandle cfMetadata;
     long maxTbsIndex;
@@ -126,6 +135,8 @@ public class Tablespace {
 
     Map<TableWalker, Object> walkers = Collections.synchronizedMap(new WeakHashMap<TableWalker, Object>());
     final ScheduledThreadPoolExecutor executor;
+    // used by the table walkers to read ahead the next intervals; created when first needed
+    private ExecutorService readAheadExecutor;
 
     Map<TableDefinition, List<RdbTableWriter>> tableWriters = new HashMap<>();
 
@@ -490,6 +501,11 @@ public class Tablespace {
 
     public void createTable(String yamcsInstance, TableDefinition tblDef) throws YarchException, RocksDBException {
         synchronized (tables) {
+            if (tblDef.getCfName() == null) {
+                // the column family of the profile configured for the table, if any
+                tblDef.setCfName(RdbConfig.getInstance().getTablespaceConfig(name)
+                        .getTableColumnFamily(tblDef.getName()));
+            }
             ProtoTableDefinition rtd = TableDefinitionSerializer.toProtobuf(tblDef, tblDef.getKeyDefinition(),
                     tblDef.getValueDefinition());
             TablespaceRecord.Builder trb = TablespaceRecord.newBuilder();
@@ -502,7 +518,7 @@ public class Tablespace {
             for (SecondaryIndex sidx : rtd.getSecondaryIndexList()) {
                 TablespaceRecord.Builder trbsidx = TablespaceRecord.newBuilder();
                 trbsidx.setType(Type.SECONDARY_INDEX);
-                trbsidx.setSecondaryIndex(sidx);// only one secondary index supported for now
+                trbsidx.setSecondaryIndex(sidx);
                 trbsidx.setTableName(tblDef.getName());
                 createMetadataRecord(yamcsInstance, trbsidx);
             }
@@ -552,6 +568,95 @@ public class Tablespace {
         updateRecord(yamcsInstance, trb);
     }
 
+    /**
+     * Adds a secondary index to an existing table and builds it from the rows already in the table.
+     * <p>
+     * The table writers continue writing during the build: the rows written after the start of the build are added to
+     * the new index by the writers themselves. The index is added to the table definition (and thus used by the
+     * queries) only after the build has finished.
+     * <p>
+     * If the build is interrupted by a shutdown, the partial index is removed when the table is loaded.
+     * 
+     * @param sidx
+     *            - the index definition, obtained from {@link TableDefinition#newSecondaryIndex(String, List)}
+     */
+    void addSecondaryIndex(String yamcsInstance, TableDefinition tblDef, SecondaryIndexDefinition sidx)
+            throws RocksDBException, YarchException {
+        RdbTable table;
+        SecondaryIndexWriter writer;
+        synchronized (tables) {
+            table = verifyTable(tblDef);
+            if (table.getSecondaryIndexWriter(sidx.getName()) != null) {
+                throw new YarchException("The index " + sidx.getName() + " of table " + tblDef.getName()
+                        + " already exists or is being built");
+            }
+            TablespaceRecord.Builder trb = TablespaceRecord.newBuilder();
+            trb.setType(Type.SECONDARY_INDEX);
+            trb.setSecondaryIndex(TableDefinitionSerializer.toProtobuf(sidx));
+            trb.setTableName(tblDef.getName());
+            TablespaceRecord tr = createMetadataRecord(yamcsInstance, trb);
+
+            writer = new SecondaryIndexWriter(this, tblDef, sidx, tr.getTbsIndex());
+            table.addSecondaryIndexWriter(writer);
+        }
+        log.info("Building secondary index {} of table {}", sidx, tblDef.getName());
+        try {
+            // make sure that the rows written before the index writer has been added are in the database
+            List<RdbTableWriter> writers;
+            synchronized (tableWriters) {
+                writers = new ArrayList<>(tableWriters.getOrDefault(tblDef, Collections.emptyList()));
+            }
+            for (RdbTableWriter w : writers) {
+                w.sync();
+            }
+            long count = buildSecondaryIndex(table, writer);
+            log.info("Secondary index {} of table {} built with {} rows", sidx.getName(), tblDef.getName(), count);
+        } catch (RocksDBException | RuntimeException e) {
+            table.removeSecondaryIndexWriter(writer);
+            removeTbsIndex(Type.SECONDARY_INDEX, writer.getTbsIndex());
+            throw e;
+        }
+        synchronized (tables) {
+            tblDef.addSecondaryIndex(sidx);
+            saveTableDefinition(yamcsInstance, tblDef, tblDef.getKeyDefinition(), tblDef.getValueDefinition());
+        }
+    }
+
+    private long buildSecondaryIndex(RdbTable table, SecondaryIndexWriter writer) throws RocksDBException {
+        TableDefinition tblDef = table.getDefinition();
+        long count = 0;
+        for (Partition p : table.partitionManager.getPartitions()) {
+            RdbPartition rpart = (RdbPartition) p;
+            YRDB rdb = getRdb(rpart.dir, false);
+            try (WriteBatch wb = new WriteBatch(); WriteOptions wo = new WriteOptions()) {
+                ColumnFamilyHandle cfh = rdb.getColumnFamilyHandle(table.cfName());
+                if (cfh == null) {
+                    continue;
+                }
+                byte[] prefix = dbKey(rpart.tbsIndex);
+                try (AscendingRangeIterator it = new AscendingRangeIterator(rdb.newIterator(cfh), prefix, prefix)) {
+                    while (it.isValid()) {
+                        byte[] dbKey = it.key();
+                        byte[] pk = Arrays.copyOfRange(dbKey, TBS_INDEX_SIZE, dbKey.length);
+                        writer.addTuple(wb, tblDef.deserialize(pk, it.value()), pk, rpart);
+                        count++;
+                        if (wb.count() >= INDEX_BUILD_BATCH_SIZE) {
+                            mainDb.write(wo, wb);
+                            wb.clear();
+                        }
+                        it.next();
+                    }
+                }
+                if (wb.count() > 0) {
+                    mainDb.write(wo, wb);
+                }
+            } finally {
+                dispose(rdb);
+            }
+        }
+        return count;
+    }
+
     /**
      * @throws YarchException
      * 
@@ -682,6 +787,7 @@ public class Tablespace {
         }
         ctx.setTablespace(this);
         RdbTableWalker rrs = new RdbTableWalker(ctx, tblDef, ascending, follow);
+        rrs.setReadAhead(RdbConfig.getInstance().getTablespaceConfig(name).getReadAheadIntervals());
         walkers.put(rrs, DUMMY);
         return rrs;
     }
@@ -717,15 +823,51 @@ public class Tablespace {
         for (TableWalker rrs : walkers.keySet()) {
             rrs.close();
         }
+        List<RdbTableWriter> writers = new ArrayList<>();
+        synchronized (tableWriters) {
+            tableWriters.values().forEach(writers::addAll);
+        }
+        for (RdbTableWriter w : writers) {
+            w.close();
+        }
         synchronized (sequences) {
             for (RdbSequence seq : sequences.values()) {
                 seq.close();
             }
             sequences.clear();
         }
+        synchronized (this) {
+            if (readAheadExecutor != null) {
+                // the walkers waiting for the dropped readers get an error instead of blocking forever
+                for (Runnable r : readAheadExecutor.shutdownNow()) {
+                    if (r instanceof RdbTableWalker.IntervalReader) {
+                        ((RdbTableWalker.IntervalReader) r).abort();
+                    }
+                }
+            }
+        }
         rdbFactory.shutdown();
     }
 
+    /**
+     * Returns the pool of threads used by the table walkers for reading in advance.
+     * <p>
+     * The number of threads is bounded by the configuration; the intervals of all the walkers are queued in the order
+     * in which they are submitted, such that the interval visited by each walker is always read before the ones it
+     * requested in advance.
+     */
+    synchronized ExecutorService getReadAheadExecutor() {
+        if (readAheadExecutor == null) {
+            int n = RdbConfig.getInstance().getTablespaceConfig(name).getReadAheadThreads();
+            ThreadPoolExecutor tpe = new ThreadPoolExecutor(n, n, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                    new ThreadFactoryBuilder().setNameFormat("Tablespace-" + name + "-readahead-%d").setDaemon(true)
+                            .build());
+            tpe.allowCoreThreadTimeOut(true);
+            readAheadExecutor = tpe;
+        }
+        return readAheadExecutor;
+    }
+
     public Sequence getSequence(String name, boolean create) throws YarchException, RocksDBException {
         synchronized (sequences) {
             RdbSequence seq = sequences.get(name);
@@ -773,9 +915,10 @@ public class Tablespace {
     }
 
     public TableWalker newSecondaryIndexTableWalker(YarchDatabaseInstance ydb, TableDefinition tblDef,
-            boolean ascending, boolean follow) {
+            SecondaryIndexDefinition indexDefinition, boolean ascending, boolean follow) {
 
-        TableWalker tw = new SecondaryIndexTableWalker(this, verifyTable(tblDef), ascending, follow);
+        TableWalker tw = new SecondaryIndexTableWalker(this, verifyTable(tblDef), indexDefinition, ascending,
+                follow);
         walkers.put(tw, DUMMY);
         return tw;
     }
@@ -24,6 +24,7 @@ import org.rocksdb.RocksDBException;
 import org.rocksdb.RocksIterator;
 import org.rocksdb.Snapshot;
 import org.rocksdb.WriteBatch;
+import org.rocksdb.WriteBatchWithIndex;
 import org.rocksdb.WriteOptions;
 import org.yamcs.utils.StringConverter;
 import org.yamcs.yarch.rocksdb.RdbConfig.TablespaceConfig;
@@ -404,6 +405,13 @@ public class YRDB {
         db.write(writeOpts, writeBatch);
     }
 
+    public void write(WriteOptions writeOpts, WriteBatchWithIndex writeBatch) throws RocksDBException {
+        if (closed) {
+            throw new IllegalStateException("Database is closed");
+        }
+        db.write(writeOpts, writeBatch);
+    }
+
     public Snapshot getSnapshot() {
         if (closed) {
             throw new IllegalStateException("Database is closed");
@@ -1,5 +1,6 @@
 package org.yamcs.yarch.streamsql;
 
+import org.yamcs.yarch.Accumulator;
 import org.yamcs.yarch.ColumnDefinition;
 import org.yamcs.yarch.CompiledAggregateExpression;
 import org.yamcs.yarch.CompiledExpression;
@@ -70,4 +71,35 @@ public abstract class AggregateExpression extends Expression {
 
     abstract public CompiledAggregateExpression getCompiledAggregate() throws StreamSqlException;
 
+    /**
+     * Returns the accumulator computing this aggregate for each group of a {@link org.yamcs.yarch.HashAggregator}.
+     * <p>
+     * The default implementation keeps one compiled aggregate for each group; the aggregates having a specialized
+     * accumulator override this method.
+     */
+    public Accumulator getAccumulator() throws StreamSqlException {
+        getCompiledAggregate(); // report the compilation errors now
+        return Accumulator.perGroup(() -> {
+            try {
+                return getCompiledAggregate();
+            } catch (StreamSqlException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    /**
+     * @return true if the aggregate has been called with * as argument (e.g. count(*))
+     */
+    public boolean isStar() {
+        return star;
+    }
+
+    /**
+     * @return the name of the input column of the aggregate (the first argument)
+     */
+    protected String getInputColumnName() {
+        return children[0].getColumnName();
+    }
+
 }
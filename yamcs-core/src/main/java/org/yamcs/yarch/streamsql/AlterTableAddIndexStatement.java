@@ -0,0 +1,58 @@
+package org.yamcs.yarch.streamsql;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.yamcs.yarch.DataType;
+import org.yamcs.yarch.ExecutionContext;
+import org.yamcs.yarch.SecondaryIndexDefinition;
+import org.yamcs.yarch.Tuple;
+import org.yamcs.yarch.TupleDefinition;
+import org.yamcs.yarch.YarchDatabaseInstance;
+import org.yamcs.yarch.YarchException;
+
+/**
+ * Adds a secondary index to an existing table:
+ * <code>
+ * ALTER TABLE &lt;name&gt; ADD INDEX &lt;index_name&gt; (&lt;column&gt;, ...)
+ * </code>
+ * <p>
+ * The rows already in the table are indexed before the statement returns; the table can be written and queried in
+ * the meantime.
+ */
+public class AlterTableAddIndexStatement extends SimpleStreamSqlStatement {
+    final String tableName;
+    final String indexName;
+    final List<String> columns;
+
+    public AlterTableAddIndexStatement(String tableName, String indexName, List<String> columns) {
+        this.tableName = tableName;
+        this.indexName = indexName;
+        this.columns = columns;
+    }
+
+    private static final TupleDefinition TDEF = new TupleDefinition();
+    static {
+        TDEF.addColumn("table", DataType.STRING);
+        TDEF.addColumn("index", DataType.STRING);
+        TDEF.addColumn("columns", DataType.STRING);
+    }
+
+    @Override
+    protected void execute(ExecutionContext context, Consumer<Tuple> consumer) throws StreamSqlException {
+        YarchDatabaseInstance ydb = context.getDb();
+        SecondaryIndexDefinition sidx;
+        try {
+            sidx = ydb.addSecondaryIndex(tableName, indexName, columns);
+        } catch (YarchException e) {
+            throw new GenericStreamSqlException("Cannot add index: " + e.getMessage());
+        }
+        Tuple tuple = new Tuple(TDEF, new Object[] { tableName, sidx.getName(), String.join(", ", sidx.getColumns()) });
+        consumer.accept(tuple);
+    }
+
+    @Override
+    protected TupleDefinition getResultDefinition() {
+        return TDEF;
+    }
+}
@@ -9,10 +9,12 @@ import org.yamcs.yarch.TupleDefinition;
 import org.yamcs.yarch.YarchDatabaseInstance;
 
 /**
- * Alter table supports only
+ * Renames a table:
  * <code>
  * ALTER TABLE &lt;name&gt; RENAME TO &lt;new_name&gt;
  * </code>
+ * 
+ * @see AlterTableAddIndexStatement
  */
 public class AlterTableStatement extends SimpleStreamSqlStatement {
     final String oldName;
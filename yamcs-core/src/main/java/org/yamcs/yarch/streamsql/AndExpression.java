@@ -33,6 +33,18 @@ public class AndExpression extends Expression {
         code.append(")");
     }
 
+    @Override
+    protected String[] getVectorCode(List<Expression> boxed) throws StreamSqlException {
+        String notNull = "true";
+        String value = "true";
+        for (Expression expr : children) {
+            String[] c = getVectorBooleanCode(expr, boxed);
+            notNull = and(notNull, c[0]);
+            value = and(value, c[1]);
+        }
+        return new String[] { notNull, value };
+    }
+
     @Override
     public void doBind() throws StreamSqlException {
         for (Expression c : children) {
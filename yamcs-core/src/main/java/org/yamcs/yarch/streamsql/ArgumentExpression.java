@@ -1,5 +1,7 @@
 package org.yamcs.yarch.streamsql;
 
+import java.util.List;
+
 import org.yamcs.yarch.ColumnDefinition;
 import org.yamcs.yarch.CompiledExpression;
 import org.yamcs.yarch.DataType;
@@ -34,6 +36,15 @@ public class ArgumentExpression extends Expression implements CompiledExpression
         }
     }
 
+    @Override
+    protected String[] getVectorCode(List<Expression> boxed) {
+        if (constantValue == null || !type.isPrimitiveJavaType()) {
+            return null;
+        }
+        return new String[] { "true",
+                "((" + type.javaType() + ")__sql_args[" + n + "])." + type.primitiveJavaType() + "Value()" };
+    }
+
     @Override
     public ColumnDefinition getDefinition() {
         return null;
@@ -1,5 +1,6 @@
 package org.yamcs.yarch.streamsql;
 
+import java.util.List;
 import java.util.Set;
 
 import org.yamcs.utils.parser.ParseException;
@@ -133,6 +134,15 @@ public class ColumnExpression extends Expression {
         }
     }
 
+    @Override
+    protected String[] getVectorCode(List<Expression> boxed) {
+        if (fieldName != null) {
+            return null;
+        }
+        String sname = sanitizeName(name);
+        return new String[] { "!__null" + sname, type.isPrimitiveJavaType() ? "__p" + sname : null };
+    }
+
     @Override
     public void collectRequiredInputs(Set<ColumnDefinition> inputs) {
         if (className == null) {
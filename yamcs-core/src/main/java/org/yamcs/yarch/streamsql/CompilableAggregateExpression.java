@@ -17,6 +17,9 @@ public abstract class CompilableAggregateExpression extends AggregateExpression
 
     private static AtomicInteger counter = new AtomicInteger();
 
+    // compiled once, instantiated for each group
+    private Class<?> compiledClass;
+
     
     public void collectRequiredInputs(Set<ColumnDefinition> inputs) {
         inputs.add(cdef);
@@ -24,6 +27,19 @@ public abstract class CompilableAggregateExpression extends AggregateExpression
     
     @Override
     public CompiledAggregateExpression getCompiledAggregate() throws StreamSqlException {
+        try {
+            if (compiledClass == null) {
+                compiledClass = compileAggregateClass();
+            }
+            return (CompiledAggregateExpression) compiledClass.getDeclaredConstructor().newInstance();
+        } catch (StreamSqlException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new StreamSqlException(ErrCode.COMPILE_ERROR, e.toString());
+        }
+    }
+
+    private Class<?> compileAggregateClass() throws Exception {
         String className = "AggregateExpression" + counter.incrementAndGet();
         StringBuilder code = new StringBuilder();
         code.append("package org.yamcs.yarch;\n")
@@ -43,14 +59,9 @@ public abstract class CompilableAggregateExpression extends AggregateExpression
         code.append("\t}\n")
                 .append("}");
 
-        try {
-            SimpleCompiler compiler = new SimpleCompiler();
-            compiler.cook(code.toString());
-            Class<?> cexprClass = compiler.getClassLoader().loadClass("org.yamcs.yarch." + className);
-            return (CompiledAggregateExpression) cexprClass.newInstance();
-        } catch (Exception e) {
-            throw new StreamSqlException(ErrCode.COMPILE_ERROR, e.toString());
-        }
+        SimpleCompiler compiler = new SimpleCompiler();
+        compiler.cook(code.toString());
+        return compiler.getClassLoader().loadClass("org.yamcs.yarch." + className);
     }
 
     protected abstract void aggregateFillCode_clear(StringBuilder code);
@@ -6,6 +6,7 @@ import java.util.function.Consumer;
 
 import org.yamcs.yarch.ExecutionContext;
 import org.yamcs.yarch.PartitioningSpec;
+import org.yamcs.yarch.SecondaryIndexDefinition;
 import org.yamcs.yarch.TableDefinition;
 import org.yamcs.yarch.Tuple;
 import org.yamcs.yarch.TupleDefinition;
@@ -20,19 +21,19 @@ public class CreateTableStatement extends SimpleStreamSqlStatement {
     TupleDefinition tupleDefinition;
     List<String> primaryKey;
     ArrayList<String> histoColumns;
-    List<String> index;
+    List<SecondaryIndexDefinition> indexes;
     PartitioningSpec partitioningSpec;
     String tablespace;
     String engine;
     List<TableFormatOption> formatOptions = new ArrayList<>();
 
     public CreateTableStatement(boolean ifNotExists, String tableName, TupleDefinition tupleDefinition,
-            List<String> primaryKey, List<String> index) {
+            List<String> primaryKey, List<SecondaryIndexDefinition> indexes) {
         this.ifNotExists = ifNotExists;
         this.tableName = tableName;
         this.tupleDefinition = tupleDefinition;
         this.primaryKey = primaryKey;
-        this.index = index;
+        this.indexes = indexes;
     }
 
     public void setTablespace(String tablespace) {
@@ -98,8 +99,10 @@ public class CreateTableStatement extends SimpleStreamSqlStatement {
                 tableDefinition.setHistogramColumns(histoColumns);
             }
 
-            if (index != null) {
-                tableDefinition.setSecondaryIndex(index);
+            if (indexes != null) {
+                for (SecondaryIndexDefinition sidx : indexes) {
+                    tableDefinition.addSecondaryIndex(sidx.getName(), sidx.getColumns());
+                }
             }
             try {
                 ydb.createTable(tableDefinition);
@@ -0,0 +1,42 @@
+package org.yamcs.yarch.streamsql;
+
+import java.util.function.Consumer;
+
+import org.yamcs.yarch.DataType;
+import org.yamcs.yarch.ExecutionContext;
+import org.yamcs.yarch.Tuple;
+import org.yamcs.yarch.TupleDefinition;
+
+/**
+ * Shows how a select statement would be executed: which index is used to walk the table, the conditions pushed down
+ * to the index and partition levels and the estimated number of rows.
+ * <p>
+ * The select statement is not executed.
+ */
+public class ExplainStatement extends SimpleStreamSqlStatement {
+
+    private static final TupleDefinition TDEF = new TupleDefinition();
+    static {
+        TDEF.addColumn("operation", DataType.STRING);
+        TDEF.addColumn("detail", DataType.STRING);
+    }
+
+    private final SelectExpression expression;
+
+    public ExplainStatement(SelectExpression expression) {
+        this.expression = expression;
+    }
+
+    @Override
+    public void execute(ExecutionContext c, Consumer<Tuple> consumer) throws StreamSqlException {
+        expression.bind(c);
+        for (String[] line : expression.explain()) {
+            consumer.accept(new Tuple(TDEF, new Object[] { line[0], line[1] }));
+        }
+    }
+
+    @Override
+    protected TupleDefinition getResultDefinition() {
+        return TDEF;
+    }
+}
@@ -2,6 +2,7 @@ package org.yamcs.yarch.streamsql;
 
 import java.io.StringReader;
 import java.lang.reflect.Constructor;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
@@ -181,8 +182,8 @@ public abstract class Expression {
         source.append("\t}\n");
 
         source.append("\tpublic Object getValue(Tuple tuple) {\n");
+        Set<ColumnDefinition> inputs = new HashSet<>();
         if (!isConstant()) {
-            Set<ColumnDefinition> inputs = new HashSet<>();
             collectRequiredInputs(inputs);
 
             fillCode_InputDefVars(inputs, source);
@@ -193,8 +194,11 @@ public abstract class Expression {
         source.append("\n\t\treturn ");
         fillCode_getValueReturn(source);
         source.append(";\n");
-        source.append("\t}\n")
-                .append("\tpublic ColumnDefinition getDefinition() {\n")
+        source.append("\t}\n");
+        if (type == DataType.BOOLEAN && !isConstant()) {
+            fillCode_filter(inputs, source);
+        }
+        source.append("\tpublic ColumnDefinition getDefinition() {\n")
                 .append("\t\treturn cdef;\n")
                 .append("\t}\n")
                 .append("}\n");
@@ -217,6 +221,142 @@ public abstract class Expression {
         }
     }
 
+    /**
+     * Generates the vectorized {@link CompiledExpression#filter(org.yamcs.yarch.TupleBatch, boolean[])} method.
+     * <p>
+     * The column vectors and null bitmaps are retrieved once per batch. For each row, the values of the numeric and
+     * boolean columns are read into primitive variables and the parts of the expression supporting it (see
+     * {@link #getVectorCode(List)}) are evaluated as a primitive boolean predicate. The other parts are evaluated as in
+     * {@link CompiledExpression#getValue(org.yamcs.yarch.Tuple)}, on the boxed values of the columns they use.
+     */
+    private void fillCode_filter(Collection<ColumnDefinition> inputs, StringBuilder code) throws StreamSqlException {
+        List<Expression> boxed = new ArrayList<>();
+        String[] cond = getVectorBooleanCode(this, boxed);
+        Set<ColumnDefinition> boxedInputs = new HashSet<>();
+        for (Expression e : boxed) {
+            e.collectRequiredInputs(boxedInputs);
+        }
+
+        code.append("\tpublic void filter(TupleBatch batch, boolean[] selection) {\n")
+                .append("\t\tTupleDefinition __tdef = batch.getDefinition();\n");
+        for (ColumnDefinition cd : inputs) {
+            String sname = sanitizeName(cd.getName());
+            String idx = "idx" + sname;
+            code.append("\t\tint " + idx + " = __tdef.getColumnIndex(\"" + cd.getName() + "\");\n")
+                    .append("\t\tjava.util.BitSet __n" + sname + " = " + idx + " == -1 ? null : batch.getNulls(" + idx
+                            + ");\n");
+            String vtype = getVectorType(cd.getType());
+            if (vtype != null) {
+                code.append("\t\t" + vtype + "[] __v" + sname + " = " + idx + " == -1 ? null : batch.get"
+                        + Character.toUpperCase(vtype.charAt(0)) + vtype.substring(1) + "Vector(" + idx + ");\n");
+            }
+        }
+        code.append("\t\tfor (int __row = 0; __row < batch.size(); __row++) {\n")
+                .append("\t\t\tif (!selection[__row]) {\n")
+                .append("\t\t\t\tcontinue;\n")
+                .append("\t\t\t}\n");
+        for (ColumnDefinition cd : inputs) {
+            String sname = sanitizeName(cd.getName());
+            DataType dtype = cd.getType();
+            String vtype = getVectorType(dtype);
+            code.append("\t\t\tboolean __null" + sname + " = __n" + sname + " == null || __n" + sname
+                    + ".get(__row);\n");
+            if (vtype != null) {
+                String ptype = dtype.primitiveJavaType();
+                String cast = ptype.equals(vtype) ? "" : "(" + ptype + ") ";
+                code.append("\t\t\t" + ptype + " __p" + sname + " = __null" + sname + " ? "
+                        + ("boolean".equals(ptype) ? "false" : "0") + " : " + cast + "__v" + sname + "[__row];\n");
+            }
+            if (boxedInputs.contains(cd)) {
+                String javaType = dtype.javaType();
+                if (vtype != null) {
+                    code.append("\t\t\t" + javaType + " col" + sname + " = __null" + sname + " ? null : "
+                            + javaType + ".valueOf(__p" + sname + ");\n");
+                } else {
+                    code.append("\t\t\t" + javaType + " col" + sname + " = (" + javaType + ")batch.get(idx"
+                            + sname + ", __row);\n");
+                }
+            }
+        }
+        for (int k = 0; k < boxed.size(); k++) {
+            Expression e = boxed.get(k);
+            e.fillCode_getValueBody(code);
+            code.append("\t\t\tObject __b" + k + " = ");
+            e.fillCode_getValueReturn(code);
+            code.append(";\n");
+        }
+        code.append("\t\t\tselection[__row] = " + and(cond[0], cond[1]) + ";\n")
+                .append("\t\t}\n")
+                .append("\t}\n");
+    }
+
+    /**
+     * Used by the vectorized filter to evaluate the expression on the current row of a batch without boxing the values.
+     * <p>
+     * Returns two java expressions: the first is a primitive boolean true if the value of this expression is not null,
+     * the second is the value as a primitive (for example a long or a boolean), valid only if the value is not null. The
+     * second one is null if the type of this expression has no primitive representation.
+     * <p>
+     * Returns null (and does not add anything to the list) if the expression cannot be evaluated this way.
+     *
+     * @param boxed
+     *            - the boolean sub-expressions which have to be evaluated on the boxed values, see
+     *            {@link #getVectorBooleanCode(Expression, List)}
+     */
+    protected String[] getVectorCode(List<Expression> boxed) throws StreamSqlException {
+        return null;
+    }
+
+    /**
+     * Returns the code of the boolean expression for the vectorized filter, as {@link #getVectorCode(List)}. If the
+     * expression cannot be evaluated on the primitive values, it is added to the list of the expressions evaluated on
+     * the boxed values and the returned code refers to the result of that evaluation.
+     */
+    static String[] getVectorBooleanCode(Expression e, List<Expression> boxed) throws StreamSqlException {
+        int n = boxed.size();
+        String[] code = e.getVectorCode(boxed);
+        if (code == null || code[1] == null) {
+            boxed.subList(n, boxed.size()).clear();
+            String var = "__b" + boxed.size();
+            boxed.add(e);
+            code = new String[] { "(" + var + " != null)", "((Boolean) " + var + ").booleanValue()" };
+        }
+        return code;
+    }
+
+    /**
+     * Returns the java code of the conjunction of two primitive boolean expressions
+     */
+    static String and(String c1, String c2) {
+        if ("true".equals(c1)) {
+            return c2;
+        } else if ("true".equals(c2)) {
+            return c1;
+        } else {
+            return "(" + c1 + " && " + c2 + ")";
+        }
+    }
+
+    // the type of the elements of the TupleBatch vector holding the values of the given type or null if the values are
+    // not stored in a primitive vector
+    private static String getVectorType(DataType dtype) {
+        switch (dtype.val) {
+        case BYTE:
+        case SHORT:
+        case INT:
+            return "int";
+        case LONG:
+        case TIMESTAMP:
+            return "long";
+        case DOUBLE:
+            return "double";
+        case BOOLEAN:
+            return "boolean";
+        default:
+            return null;
+        }
+    }
+
     /**
      * when the expression behaves like a column expression, this is the column name
      * 
@@ -1,5 +1,7 @@
 package org.yamcs.yarch.streamsql;
 
+import java.util.List;
+
 import org.yamcs.yarch.DataType;
 
 public class IsNullExpression extends Expression {
@@ -15,6 +17,15 @@ public class IsNullExpression extends Expression {
         type = DataType.BOOLEAN;
     }
 
+    @Override
+    protected String[] getVectorCode(List<Expression> boxed) throws StreamSqlException {
+        String[] c = children[0].getVectorCode(boxed);
+        if (c == null) {
+            return null;
+        }
+        return new String[] { "true", isNullClause.negation ? c[0] : "!" + c[0] };
+    }
+
     @Override
     public void fillCode_getValueReturn(StringBuilder code) throws StreamSqlException {
 
@@ -5,6 +5,7 @@ import java.math.BigDecimal;
 import org.yamcs.yarch.Stream;
 import org.yamcs.yarch.StreamSubscriber;
 import org.yamcs.yarch.Tuple;
+import org.yamcs.yarch.TupleBatch;
 import org.yamcs.yarch.TupleDefinition;
 import org.yamcs.yarch.YarchDatabaseInstance;
 
@@ -38,7 +39,22 @@ public class LimitedStream extends Stream implements StreamSubscriber {
     // Called when the input stream received a tuple
     @Override
     public void onTuple(Stream stream, Tuple tuple) {
-        long inputDataCount = stream.getDataCount();
+        process(tuple, stream.getDataCount());
+    }
+
+    // Called when the input stream emits a batch; the data count has been already incremented with the batch size
+    @Override
+    public void onTupleBatch(Stream stream, TupleBatch batch) {
+        long base = stream.getDataCount() - batch.size();
+        for (int i = 0; i < batch.size() && !isClosed(); i++) {
+            if (base + i + 1 < offset + 1) {
+                continue;
+            }
+            process(batch.getTuple(i), base + i + 1);
+        }
+    }
+
+    private void process(Tuple tuple, long inputDataCount) {
         if (inputDataCount < offset + 1) {
             return;
         }
@@ -4,6 +4,7 @@ import org.yamcs.yarch.DataType;
 import org.yamcs.yarch.FilterableTarget;
 
 import java.util.ArrayList;
+import java.util.List;
 
 public class OrExpression extends Expression {
 
@@ -41,6 +42,26 @@ public class OrExpression extends Expression {
         code.append(")");
     }
 
+    @Override
+    protected String[] getVectorCode(List<Expression> boxed) throws StreamSqlException {
+        // as SqlExpressions.OR, the result is null if any of the values is null
+        String notNull = "true";
+        StringBuilder value = new StringBuilder("(");
+        boolean first = true;
+        for (Expression expr : children) {
+            String[] c = getVectorBooleanCode(expr, boxed);
+            notNull = and(notNull, c[0]);
+            if (!first) {
+                value.append(" || ");
+            } else {
+                first = false;
+            }
+            value.append(c[1]);
+        }
+        value.append(")");
+        return new String[] { notNull, value.toString() };
+    }
+
     @Override
     public String toString() {
         StringBuffer sb = new StringBuffer();
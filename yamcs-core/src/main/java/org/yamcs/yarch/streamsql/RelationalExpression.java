@@ -1,5 +1,7 @@
 package org.yamcs.yarch.streamsql;
 
+import java.util.List;
+
 import org.yamcs.utils.parser.ParseException;
 import org.yamcs.yarch.ArrayDataType;
 import org.yamcs.yarch.CompiledExpression;
@@ -128,6 +130,46 @@ public class RelationalExpression extends Expression {
         }
     }
 
+    @Override
+    protected String[] getVectorCode(List<Expression> boxed) throws StreamSqlException {
+        DataType ltype = children[0].getType();
+        DataType rtype = children[1].getType();
+        boolean bool = ltype == DataType.BOOLEAN && rtype == DataType.BOOLEAN;
+        if (!bool && !(DataType.isNumber(ltype) && DataType.isNumber(rtype))) {
+            return null;
+        }
+        if (relOp == RelOp.OVERLAP || (bool && relOp != RelOp.EQUAL && relOp != RelOp.NOT_EQUAL)) {
+            return null;
+        }
+        String[] c0 = children[0].getVectorCode(boxed);
+        String[] c1 = children[1].getVectorCode(boxed);
+        if (c0 == null || c1 == null || c0[1] == null || c1[1] == null) {
+            return null;
+        }
+        if (bool) {
+            // booleans are not comparable, they are compared with Objects.equals which is never null
+            String eq = "(" + c0[0] + " ? " + and(c1[0], c0[1] + " == " + c1[1]) + " : !" + c1[0] + ")";
+            return new String[] { "true", relOp == RelOp.EQUAL ? eq : "!" + eq };
+        }
+        String v0 = c0[1];
+        String v1 = c1[1];
+        String compare;
+        if (ltype == DataType.DOUBLE && rtype == DataType.DOUBLE) {
+            compare = "Double.compare";
+        } else {
+            // as in SqlExpressions, the numbers are compared as longs unless both are doubles
+            compare = "Long.compare";
+            if (ltype == DataType.DOUBLE) {
+                v0 = "(long) " + v0;
+            }
+            if (rtype == DataType.DOUBLE) {
+                v1 = "(long) " + v1;
+            }
+        }
+        return new String[] { and(c0[0], c1[0]),
+                "(" + compare + "(" + v0 + ", " + v1 + ") " + relOp.getSign() + " 0)" };
+    }
+
     @Override
     public String toString() {
         return children[0] + " " + relOp.getSign() + " " + children[1];
@@ -0,0 +1,113 @@
+package org.yamcs.yarch.streamsql;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.yamcs.logging.Log;
+import org.yamcs.utils.ByteArrayUtils;
+import org.yamcs.utils.ByteArrayWrapper;
+import org.yamcs.utils.TimeInterval;
+import org.yamcs.yarch.DbRange;
+import org.yamcs.yarch.HistogramIterator;
+import org.yamcs.yarch.HistogramRecord;
+import org.yamcs.yarch.TableDefinition;
+import org.yamcs.yarch.YarchDatabaseInstance;
+import org.yamcs.yarch.YarchException;
+
+/**
+ * Estimates the number of rows of a table in a time interval using the table histograms.
+ * <p>
+ * The histograms count the rows for each value of the histogram column in time segments (the time being the first
+ * column of the table). The rows having no value for the histogram column are not counted and the segments
+ * overlapping the interval ends are counted completely, the results are therefore approximations.
+ */
+class RowCountEstimator {
+    static Log log = new Log(RowCountEstimator.class);
+
+    /**
+     * Reading the histograms stops after this number of records; the count obtained so far is returned as a lower
+     * bound of the real count.
+     */
+    static final int MAX_RECORDS = 100_000;
+
+    final YarchDatabaseInstance ydb;
+    final TableDefinition tableDefinition;
+
+    RowCountEstimator(YarchDatabaseInstance ydb, TableDefinition tableDefinition) {
+        this.ydb = ydb;
+        this.tableDefinition = tableDefinition;
+    }
+
+    /**
+     *
+     * @return true if the number of rows having some values for the given column can be estimated
+     */
+    boolean canEstimate(String columnName) {
+        List<String> histoColumns = tableDefinition.getHistogramColumns();
+        return histoColumns != null && histoColumns.contains(columnName);
+    }
+
+    /**
+     * Estimates the total number of rows in the interval.
+     *
+     * @return the estimated number of rows or -1 if the table has no histogram
+     */
+    long estimateRows(TimeInterval interval) {
+        List<String> histoColumns = tableDefinition.getHistogramColumns();
+        if (histoColumns == null || histoColumns.isEmpty()) {
+            return -1;
+        }
+        return estimateRows(histoColumns.get(0), null, null, interval);
+    }
+
+    /**
+     * Estimates the number of rows in the interval having one of the given values in the column and a value within
+     * the given range.
+     *
+     * @param values
+     *            - serialized column values; if null, the values are not restricted to a set
+     * @param valueRange
+     *            - range of serialized column values, the ends being inclusive; if null, the values are not
+     *            restricted to a range
+     * @return the estimated number of rows or -1 if the column has no histogram
+     */
+    long estimateRows(String columnName, Collection<byte[]> values, DbRange valueRange, TimeInterval interval) {
+        if (!canEstimate(columnName)) {
+            return -1;
+        }
+        Set<ByteArrayWrapper> valueSet = null;
+        if (values != null) {
+            valueSet = new HashSet<>();
+            for (byte[] v : values) {
+                valueSet.add(new ByteArrayWrapper(v));
+            }
+        }
+        long count = 0;
+        int numRecords = 0;
+        // only the counts are needed, the records can be merged as much as possible
+        try (HistogramIterator it = ydb.getStorageEngine(tableDefinition).getHistogramIterator(ydb,
+                tableDefinition, columnName, interval, Long.MAX_VALUE)) {
+            while (it.hasNext() && numRecords++ < MAX_RECORDS) {
+                HistogramRecord hr = it.next();
+                byte[] v = hr.getColumnv();
+                if ((valueSet == null || valueSet.contains(new ByteArrayWrapper(v))) && inRange(valueRange, v)) {
+                    count += hr.getNumTuples();
+                }
+            }
+        } catch (YarchException e) {
+            log.warn("Cannot read the histograms of table {}: {}", tableDefinition.getName(), e.getMessage());
+            return -1;
+        }
+        return count;
+    }
+
+    static boolean inRange(DbRange range, byte[] v) {
+        if (range == null) {
+            return true;
+        }
+        return (range.rangeStart == null || ByteArrayUtils.compare(v, range.rangeStart) >= 0)
+                && (range.rangeEnd == null || ByteArrayUtils.compare(v, range.rangeEnd) <= 0);
+    }
+}
@@ -2,14 +2,16 @@ package org.yamcs.yarch.streamsql;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
+import org.yamcs.yarch.Accumulator;
 import org.yamcs.yarch.ColumnDefinition;
-import org.yamcs.yarch.CompiledAggregateExpression;
 import org.yamcs.yarch.CompiledExpression;
 import org.yamcs.yarch.ConstantValueCompiledExpression;
 import org.yamcs.yarch.DataType;
 import org.yamcs.yarch.ExecutionContext;
+import org.yamcs.yarch.HashAggregator;
 import org.yamcs.yarch.SelectStream;
 import org.yamcs.yarch.Stream;
 import org.yamcs.yarch.TupleDefinition;
@@ -42,6 +44,9 @@ import org.yamcs.utils.parser.ParseException;
  * 
  * 
  * P1.2 is performed by the WindowProcessor If there is no aggregate, then P3 follows directly after P1.1
+ * <p>
+ * P2 is performed by a {@link HashAggregator} which groups the tuples by the values of the group by columns. The group
+ * by columns are the first columns of aggOutputDef.
  * 
  * 
  * @author nm
@@ -51,6 +56,7 @@ public class SelectExpression implements StreamExpression {
     List<SelectItem> selectList; // a,b+4,c
     TupleSourceExpression tupleSourceExpression; // t,u,v (but only one table/stream supported for the moment)
     Expression whereClause; // x and y
+    List<String> groupBy; // x
     WindowSpecification windowSpec;// [SIZE 1000 ADVANCE 1000 ON a]
     TupleDefinition inputDef, outputDef, minOutputDef, aggInputDef = null, aggOutputDef = null;
     List<AggregateExpression> aggList = null;
@@ -73,6 +79,10 @@ public class SelectExpression implements StreamExpression {
         this.whereClause = whereClause;
     }
 
+    public void setGroupBy(List<String> groupBy) {
+        this.groupBy = groupBy;
+    }
+
     public void setWindow(WindowSpecification windowSpec) {
         this.windowSpec = windowSpec;
     }
@@ -108,6 +118,9 @@ public class SelectExpression implements StreamExpression {
         }
 
         if (selectList.size() == 1 && selectList.get(0) == SelectItem.STAR) {
+            if (groupBy != null) {
+                throw new GenericStreamSqlException("Cannot select * when grouping by columns");
+            }
             selectStar = true;
         }
 
@@ -157,7 +170,7 @@ public class SelectExpression implements StreamExpression {
         }
 
         // bind aggregates
-        if (!aggList.isEmpty()) {
+        if (!aggList.isEmpty() || groupBy != null) {
             if (windowSpec == null) {
                 windowSpec = WindowSpecification.INFINITE_WINDOW;
             }
@@ -191,7 +204,25 @@ public class SelectExpression implements StreamExpression {
                     throw new StreamSqlException(ErrCode.ERROR, e.toString());
                 }
             }
-            // add all the fields from the groupBy TODO
+            // add all the fields from the groupBy
+            if (groupBy != null) {
+                for (String name : groupBy) {
+                    ColumnDefinition cd = inputDef.getColumn(name);
+                    if (cd == null) {
+                        throw new GenericStreamSqlException("'" + name + "' is not an input column");
+                    }
+                    if (aggInputDef.getColumn(name) == null) {
+                        aggInputDef.addColumn(cd);
+                        try {
+                            ColumnExpression cexpr = new ColumnExpression(name);
+                            cexpr.bind(inputDef);
+                            aggInputList.add(cexpr);
+                        } catch (ParseException e) {
+                            throw new StreamSqlException(ErrCode.ERROR, e.toString());
+                        }
+                    }
+                }
+            }
 
             boolean hasComputations = false;
             // add all children of the aggregate expressions
@@ -215,6 +246,11 @@ public class SelectExpression implements StreamExpression {
                 aggInputList = null;
             }
             aggOutputDef = new TupleDefinition();
+            if (groupBy != null) {
+                for (String name : groupBy) {
+                    aggOutputDef.addColumn(inputDef.getColumn(name));
+                }
+            }
             for (AggregateExpression aggExpr : aggList) {
                 aggExpr.bindAggregate((aggInputDef == null) ? inputDef : aggInputDef);
                 aggOutputDef.addColumn(aggExpr.getColumnName(), aggExpr.getType());
@@ -245,12 +281,14 @@ public class SelectExpression implements StreamExpression {
             }
         }
 
-        List<CompiledAggregateExpression> caggList = null;
+        HashAggregator aggregator = null;
         if (aggOutputDef != null) {
-            caggList = new ArrayList<>();
+            List<Accumulator> accumulators = new ArrayList<>();
             for (AggregateExpression aexpr : aggList) {
-                caggList.add(aexpr.getCompiledAggregate());
+                accumulators.add(aexpr.getAccumulator());
             }
+            aggregator = new HashAggregator(groupBy == null ? Collections.emptyList() : groupBy, accumulators,
+                    aggOutputDef);
         }
 
         List<CompiledExpression> cselectList = null;
@@ -272,7 +310,7 @@ public class SelectExpression implements StreamExpression {
         }
         WindowProcessor windowProc = null;
         if (windowSpec != null) {
-            windowProc = WindowProcessor.getInstance(windowSpec, aggInputDef, caggList, aggOutputDef);
+            windowProc = WindowProcessor.getInstance(windowSpec, aggInputDef, aggregator, aggOutputDef);
         }
 
         YarchDatabaseInstance ydb = c.getDb();
@@ -289,6 +327,32 @@ public class SelectExpression implements StreamExpression {
         }
     }
 
+    /**
+     * Describes how the expression would be executed, without executing it. Has to be called after binding.
+     * 
+     * @return a list of pairs (operation, detail)
+     */
+    List<String[]> explain() throws StreamSqlException {
+        if (whereClause != null) {
+            whereClause.addFilter(tupleSourceExpression);
+        }
+        List<String[]> l = tupleSourceExpression.explain();
+        if (whereClause != null) {
+            l.add(new String[] { "filter", "where clause evaluated on each tuple" });
+        }
+        if (aggOutputDef != null) {
+            l.add(new String[] { "aggregate", aggList.size() + " aggregate expression(s)"
+                    + (groupBy == null ? "" : " grouped by " + groupBy) });
+        }
+        if (offset != null) {
+            l.add(new String[] { "offset", offset.toString() });
+        }
+        if (limit != null) {
+            l.add(new String[] { "limit", limit.toString() });
+        }
+        return l;
+    }
+
     @Override
     public boolean isFinite() {
         return tupleSourceExpression.isFinite();
@@ -34,10 +34,13 @@ public class SelectTableStatement implements StreamSqlStatement {
         resultListener.start(stream.getDefinition());
 
         stream.addSubscriber(new StreamSubscriber() {
+            // not using the stream data count since it is incremented with the full size of the batches
+            long count = 0;
+
             @Override
             public void onTuple(Stream stream, Tuple tuple) {
                 resultListener.next(tuple);
-                if (stream.getDataCount() >= limit) {
+                if (++count >= limit) {
                     stream.close();
                 }
             }
@@ -99,9 +99,9 @@ public class StreamSqlParser implements StreamSqlParserConstants {
       break;
     case K_PROTOBUF:
       jj_consume_token(K_PROTOBUF);
-      jj_consume_token(131);
+      jj_consume_token(134);
       className = jj_consume_token(S_STRING);
-      jj_consume_token(132);
+      jj_consume_token(135);
                                                      dataType =  DataType.protobuf(getNonEscapedString(className.image));
       break;
     case S_IDENTIFIER:
@@ -114,8 +114,8 @@ public class StreamSqlParser implements StreamSqlParserConstants {
       throw new ParseException();
     }
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-    case 133:
-      jj_consume_token(133);
+    case 136:
+      jj_consume_token(136);
             dataType = DataType.array(dataType);
       break;
     default:
@@ -147,6 +147,7 @@ public class StreamSqlParser implements StreamSqlParserConstants {
     case K_DELETE:
     case K_DESCRIBE:
     case K_DROP:
+    case K_EXPLAIN:
     case K_INSERT:
     case K_INSERT_APPEND:
     case K_LOAD:
@@ -186,6 +187,9 @@ public class StreamSqlParser implements StreamSqlParserConstants {
         case K_DESCRIBE:
           statement = DescribeStatement();
           break;
+        case K_EXPLAIN:
+          statement = ExplainStatement();
+          break;
         default:
           jj_la1[2] = jj_gen;
           if (jj_2_3(2)) {
@@ -236,8 +240,9 @@ public class StreamSqlParser implements StreamSqlParserConstants {
     TupleDefinition tupleDefinition=new TupleDefinition();
     ArrayList<String> primaryKey=new ArrayList<String>();
     ArrayList<String> partitions=new ArrayList<String>();
-        ArrayList<String> index=new ArrayList<String>();
-    String tableName, pk, partitionColumn, indexColumn ;
+        ArrayList<String> index;
+        ArrayList<SecondaryIndexDefinition> indexes=new ArrayList<SecondaryIndexDefinition>();
+    String tableName, pk, partitionColumn, indexColumn, indexName ;
     boolean ifNotExists=false;
     boolean autoincrement = false;
 
@@ -258,13 +263,16 @@ public class StreamSqlParser implements StreamSqlParserConstants {
       ;
     }
     tableName = ObjectName();
-    jj_consume_token(131);
+    jj_consume_token(134);
     label_1:
     while (true) {
       tcd = TableColumnDefinition();
-      jj_consume_token(134);
+      jj_consume_token(137);
                                             tupleDefinition.addColumn(tcd);
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+      case K_ADD:
+      case K_EXPLAIN:
+      case K_GROUP:
       case S_IDENTIFIER:
       case S_DOUBLE_QUOTED_IDENTIFIER:
         ;
@@ -276,54 +284,72 @@ public class StreamSqlParser implements StreamSqlParserConstants {
     }
     jj_consume_token(K_PRIMARY);
     jj_consume_token(K_KEY);
-    jj_consume_token(131);
+    jj_consume_token(134);
     pk = ObjectName();
                                               primaryKey.add(pk);
     label_2:
     while (true) {
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-      case 134:
+      case 137:
         ;
         break;
       default:
         jj_la1[6] = jj_gen;
         break label_2;
       }
-      jj_consume_token(134);
+      jj_consume_token(137);
       pk = ObjectName();
                                                                                         primaryKey.add(pk);
     }
-    jj_consume_token(132);
-    switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-    case 134:
-      jj_consume_token(134);
+    jj_consume_token(135);
+    label_3:
+    while (true) {
+      switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+      case 137:
+        ;
+        break;
+      default:
+        jj_la1[7] = jj_gen;
+        break label_3;
+      }
+      jj_consume_token(137);
       jj_consume_token(K_INDEX);
-      jj_consume_token(131);
+                     indexName=null; index=new ArrayList<String>();
+      switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+      case K_ADD:
+      case K_EXPLAIN:
+      case K_GROUP:
+      case S_IDENTIFIER:
+      case S_DOUBLE_QUOTED_IDENTIFIER:
+        indexName = ObjectName();
+        break;
+      default:
+        jj_la1[8] = jj_gen;
+        ;
+      }
+      jj_consume_token(134);
       indexColumn = ObjectName();
-                                                 index.add(indexColumn);
-      label_3:
+                                     index.add(indexColumn);
+      label_4:
       while (true) {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-        case 134:
+        case 137:
           ;
           break;
         default:
-          jj_la1[7] = jj_gen;
-          break label_3;
+          jj_la1[9] = jj_gen;
+          break label_4;
         }
-        jj_consume_token(134);
+        jj_consume_token(137);
         indexColumn = ObjectName();
-                                                                                                        index.add(indexColumn);
+                                                                                            index.add(indexColumn);
       }
-      jj_consume_token(132);
-      break;
-    default:
-      jj_la1[8] = jj_gen;
-      ;
+      jj_consume_token(135);
+        indexes.add(new SecondaryIndexDefinition(indexName, index));
     }
-    jj_consume_token(132);
-      cts=new CreateTableStatement(ifNotExists, tableName, tupleDefinition, primaryKey, index);
-    label_4:
+    jj_consume_token(135);
+      cts=new CreateTableStatement(ifNotExists, tableName, tupleDefinition, primaryKey, indexes);
+    label_5:
     while (true) {
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
       case K_ENGINE:
@@ -334,8 +360,8 @@ public class StreamSqlParser implements StreamSqlParserConstants {
         ;
         break;
       default:
-        jj_la1[9] = jj_gen;
-        break label_4;
+        jj_la1[10] = jj_gen;
+        break label_5;
       }
       TableOption(cts);
     }
@@ -356,7 +382,7 @@ public class StreamSqlParser implements StreamSqlParserConstants {
                         tcd.setAutoIncrement(true);
       break;
     default:
-      jj_la1[10] = jj_gen;
+      jj_la1[11] = jj_gen;
       ;
     }
    {if (true) return tcd;}
@@ -370,24 +396,24 @@ public class StreamSqlParser implements StreamSqlParserConstants {
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
     case K_HISTOGRAM:
       jj_consume_token(K_HISTOGRAM);
-      jj_consume_token(131);
+      jj_consume_token(134);
       columnName = ObjectName();
                                               cts.addHistogramColumn(columnName);
-      label_5:
+      label_6:
       while (true) {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-        case 134:
+        case 137:
           ;
           break;
         default:
-          jj_la1[11] = jj_gen;
-          break label_5;
+          jj_la1[12] = jj_gen;
+          break label_6;
         }
-        jj_consume_token(134);
+        jj_consume_token(137);
         columnName = ObjectName();
                                                                                                                 cts.addHistogramColumn(columnName);
       }
-      jj_consume_token(132);
+      jj_consume_token(135);
       break;
     case K_ENGINE:
       jj_consume_token(K_ENGINE);
@@ -407,26 +433,26 @@ public class StreamSqlParser implements StreamSqlParserConstants {
       break;
     case K_TABLE_FORMAT:
       jj_consume_token(K_TABLE_FORMAT);
-      jj_consume_token(135);
+      jj_consume_token(138);
       tfo = TableFormatOption();
                                                   cts.addTableFormatOption(tfo);
-      label_6:
+      label_7:
       while (true) {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-        case 134:
+        case 137:
           ;
           break;
         default:
-          jj_la1[12] = jj_gen;
-          break label_6;
+          jj_la1[13] = jj_gen;
+          break label_7;
         }
-        jj_consume_token(134);
+        jj_consume_token(137);
         tfo = TableFormatOption();
                                                       cts.addTableFormatOption(tfo);
       }
       break;
     default:
-      jj_la1[13] = jj_gen;
+      jj_la1[14] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -440,51 +466,51 @@ public class StreamSqlParser implements StreamSqlParserConstants {
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
     case K_TIME:
       jj_consume_token(K_TIME);
-      jj_consume_token(131);
+      jj_consume_token(134);
       cname1 = ObjectName();
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-      case 131:
-        jj_consume_token(131);
+      case 134:
+        jj_consume_token(134);
         t = jj_consume_token(S_STRING);
-        jj_consume_token(132);
+        jj_consume_token(135);
                                            timePartSchema = getNonEscapedString(t.image);
         break;
       default:
-        jj_la1[14] = jj_gen;
+        jj_la1[15] = jj_gen;
         ;
       }
-      jj_consume_token(132);
+      jj_consume_token(135);
                          pspec = PartitioningSpec.timeSpec(cname1, timePartSchema);
       break;
     case K_VALUE:
       jj_consume_token(K_VALUE);
-      jj_consume_token(131);
+      jj_consume_token(134);
       cname1 = ObjectName();
-      jj_consume_token(132);
+      jj_consume_token(135);
            pspec = PartitioningSpec.valueSpec(cname1);
       break;
     case K_TIME_AND_VALUE:
       jj_consume_token(K_TIME_AND_VALUE);
-      jj_consume_token(131);
+      jj_consume_token(134);
       cname1 = ObjectName();
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-      case 131:
-        jj_consume_token(131);
+      case 134:
+        jj_consume_token(134);
         t = jj_consume_token(S_STRING);
-        jj_consume_token(132);
+        jj_consume_token(135);
                                               timePartSchema =  getNonEscapedString(t.image);
         break;
       default:
-        jj_la1[15] = jj_gen;
+        jj_la1[16] = jj_gen;
         ;
       }
-      jj_consume_token(134);
+      jj_consume_token(137);
       cname2 = ObjectName();
-      jj_consume_token(132);
+      jj_consume_token(135);
                 pspec = PartitioningSpec.timeAndValueSpec(cname1, cname2, timePartSchema);
       break;
     default:
-      jj_la1[16] = jj_gen;
+      jj_la1[17] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -502,12 +528,12 @@ public class StreamSqlParser implements StreamSqlParserConstants {
       break;
     case K_COLUMN_FAMILY:
       jj_consume_token(K_COLUMN_FAMILY);
-      jj_consume_token(136);
+      jj_consume_token(139);
       cfName = ObjectName();
                                              tfo = new CreateTableStatement.TableFormatOption("COLUMN_FAMILY", cfName);
       break;
     default:
-      jj_la1[17] = jj_gen;
+      jj_la1[18] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -533,7 +559,7 @@ public class StreamSqlParser implements StreamSqlParserConstants {
                                                            follow=false;
         break;
       default:
-        jj_la1[18] = jj_gen;
+        jj_la1[19] = jj_gen;
         ;
       }
                 if(expression instanceof SelectExpression) {
@@ -541,12 +567,12 @@ public class StreamSqlParser implements StreamSqlParserConstants {
                 }
             {if (true) return new CreateStreamStatement(name, expression);}
       break;
-    case 131:
+    case 134:
       tupleDefinition = TupleDefinition();
             {if (true) return new CreateStreamStatement(name,tupleDefinition);}
       break;
     default:
-      jj_la1[19] = jj_gen;
+      jj_la1[20] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -582,7 +608,7 @@ public class StreamSqlParser implements StreamSqlParserConstants {
                                            ifExists=true;
       break;
     default:
-      jj_la1[20] = jj_gen;
+      jj_la1[21] = jj_gen;
       ;
     }
     name = ObjectName();
@@ -642,6 +668,14 @@ public class StreamSqlParser implements StreamSqlParserConstants {
     throw new Error("Missing return statement in function");
   }
 
+  final public ExplainStatement ExplainStatement() throws ParseException, StreamSqlException {
+    SelectExpression expression;
+    jj_consume_token(K_EXPLAIN);
+    expression = SelectExpression();
+        {if (true) return new ExplainStatement(expression);}
+    throw new Error("Missing return statement in function");
+  }
+
   final public AlterSequenceStatement AlterSequenceStatement() throws ParseException, StreamSqlException {
     String name;
     BigDecimal n = new BigDecimal(0);
@@ -655,22 +689,55 @@ public class StreamSqlParser implements StreamSqlParserConstants {
       n = NumericConstant();
       break;
     default:
-      jj_la1[21] = jj_gen;
+      jj_la1[22] = jj_gen;
       ;
     }
         {if (true) return new AlterSequenceStatement(name, n.longValue());}
     throw new Error("Missing return statement in function");
   }
 
-  final public AlterTableStatement AlterTableStatement() throws ParseException, StreamSqlException {
-    String name, newName;
+  final public StreamSqlStatement AlterTableStatement() throws ParseException, StreamSqlException {
+    String name, newName, indexName, indexColumn;
+    ArrayList<String> index=new ArrayList<String>();
     jj_consume_token(K_ALTER);
     jj_consume_token(K_TABLE);
     name = ObjectName();
-    jj_consume_token(K_RENAME);
-    jj_consume_token(K_TO);
-    newName = ObjectName();
+    switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+    case K_RENAME:
+      jj_consume_token(K_RENAME);
+      jj_consume_token(K_TO);
+      newName = ObjectName();
         {if (true) return new AlterTableStatement(name, newName);}
+      break;
+    case K_ADD:
+      jj_consume_token(K_ADD);
+      jj_consume_token(K_INDEX);
+      indexName = ObjectName();
+      jj_consume_token(134);
+      indexColumn = ObjectName();
+                                    index.add(indexColumn);
+      label_8:
+      while (true) {
+        switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+        case 137:
+          ;
+          break;
+        default:
+          jj_la1[23] = jj_gen;
+          break label_8;
+        }
+        jj_consume_token(137);
+        indexColumn = ObjectName();
+                                                                                           index.add(indexColumn);
+      }
+      jj_consume_token(135);
+        {if (true) return new AlterTableAddIndexStatement(name, indexName, index);}
+      break;
+    default:
+      jj_la1[24] = jj_gen;
+      jj_consume_token(-1);
+      throw new ParseException();
+    }
     throw new Error("Missing return statement in function");
   }
 
@@ -684,7 +751,7 @@ public class StreamSqlParser implements StreamSqlParserConstants {
       expression = MergeExpression();
       break;
     default:
-      jj_la1[22] = jj_gen;
+      jj_la1[25] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -726,7 +793,7 @@ public class StreamSqlParser implements StreamSqlParserConstants {
                  insertMode = InsertMode.LOAD;
       break;
     default:
-      jj_la1[23] = jj_gen;
+      jj_la1[26] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -738,33 +805,33 @@ public class StreamSqlParser implements StreamSqlParserConstants {
       expression = StreamExpression();
              {if (true) return new InsertStatement(name, expression, insertMode);}
       break;
-    case 131:
-      jj_consume_token(131);
+    case 134:
+      jj_consume_token(134);
       cn = ObjectName();
                               columns.add(cn);
-      label_7:
+      label_9:
       while (true) {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-        case 134:
+        case 137:
           ;
           break;
         default:
-          jj_la1[24] = jj_gen;
-          break label_7;
+          jj_la1[27] = jj_gen;
+          break label_9;
         }
-        jj_consume_token(134);
+        jj_consume_token(137);
         cn = ObjectName();
                                                                      columns.add(cn);
       }
-      jj_consume_token(132);
+      jj_consume_token(135);
       jj_consume_token(K_VALUES);
-      jj_consume_token(131);
+      jj_consume_token(134);
       selectList = SelectList();
-      jj_consume_token(132);
+      jj_consume_token(135);
             {if (true) return new InsertStatement(name, new InsertValuesExpression(columns, selectList), InsertMode.INSERT);}
       break;
     default:
-      jj_la1[25] = jj_gen;
+      jj_la1[28] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -781,17 +848,17 @@ public class StreamSqlParser implements StreamSqlParserConstants {
     jj_consume_token(K_MERGE);
     tsrc = TupleSourceExpression();
                                      mergeExpr.addTupleSourceExpression(tsrc);
-    label_8:
+    label_10:
     while (true) {
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-      case 134:
+      case 137:
         ;
         break;
       default:
-        jj_la1[26] = jj_gen;
-        break label_8;
+        jj_la1[29] = jj_gen;
+        break label_10;
       }
-      jj_consume_token(134);
+      jj_consume_token(137);
       tsrc = TupleSourceExpression();
                                       mergeExpr.addTupleSourceExpression(tsrc);
     }
@@ -804,7 +871,7 @@ public class StreamSqlParser implements StreamSqlParserConstants {
                                mergeExpr.setAscending(ascending);
       break;
     default:
-      jj_la1[27] = jj_gen;
+      jj_la1[30] = jj_gen;
       ;
     }
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -812,7 +879,7 @@ public class StreamSqlParser implements StreamSqlParserConstants {
       jj_consume_token(K_LIMIT);
       if (jj_2_11(2)) {
         offset = NumericConstant();
-        jj_consume_token(134);
+        jj_consume_token(137);
       } else {
         ;
       }
@@ -820,7 +887,7 @@ public class StreamSqlParser implements StreamSqlParserConstants {
                                   mergeExpr.setLimit(offset, limit);
       break;
     default:
-      jj_la1[28] = jj_gen;
+      jj_la1[31] = jj_gen;
       ;
     }
         {if (true) return mergeExpr;}
@@ -840,7 +907,7 @@ public class StreamSqlParser implements StreamSqlParserConstants {
       expression = Expression();
       break;
     default:
-      jj_la1[29] = jj_gen;
+      jj_la1[32] = jj_gen;
       ;
     }
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -849,7 +916,7 @@ public class StreamSqlParser implements StreamSqlParserConstants {
       limit = NumericConstant();
       break;
     default:
-      jj_la1[30] = jj_gen;
+      jj_la1[33] = jj_gen;
       ;
     }
         {if (true) return new DeleteStatement(tableName, expression, limit.longValue());}
@@ -867,22 +934,22 @@ public class StreamSqlParser implements StreamSqlParserConstants {
     tableName = ObjectName();
     jj_consume_token(K_SET);
     colName = ObjectName();
-    jj_consume_token(135);
+    jj_consume_token(138);
     colValue = Expression();
           updateList.add(new UpdateTableStatement.UpdateItem(colName, colValue));
-    label_9:
+    label_11:
     while (true) {
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-      case 134:
+      case 137:
         ;
         break;
       default:
-        jj_la1[31] = jj_gen;
-        break label_9;
+        jj_la1[34] = jj_gen;
+        break label_11;
       }
-      jj_consume_token(134);
+      jj_consume_token(137);
       colName = ObjectName();
-      jj_consume_token(135);
+      jj_consume_token(138);
       colValue = Expression();
           updateList.add(new UpdateTableStatement.UpdateItem(colName, colValue));
     }
@@ -892,7 +959,7 @@ public class StreamSqlParser implements StreamSqlParserConstants {
       whereExpr = Expression();
       break;
     default:
-      jj_la1[32] = jj_gen;
+      jj_la1[35] = jj_gen;
       ;
     }
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -901,7 +968,7 @@ public class StreamSqlParser implements StreamSqlParserConstants {
       limit = NumericConstant();
       break;
     default:
-      jj_la1[33] = jj_gen;
+      jj_la1[36] = jj_gen;
       ;
     }
         {if (true) return new UpdateTableStatement(tableName, updateList, whereExpr, limit.longValue());}
@@ -914,15 +981,15 @@ public class StreamSqlParser implements StreamSqlParserConstants {
     ArrayList<Expression> list = new ArrayList<Expression>();
     expr = AndExpression();
                                list.add(expr);
-    label_10:
+    label_12:
     while (true) {
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
       case K_OR:
         ;
         break;
       default:
-        jj_la1[34] = jj_gen;
-        break label_10;
+        jj_la1[37] = jj_gen;
+        break label_12;
       }
       jj_consume_token(K_OR);
       expr = AndExpression();
@@ -943,40 +1010,40 @@ public class StreamSqlParser implements StreamSqlParserConstants {
       expr = UnaryLogicalExpression();
     } else {
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-      case 131:
-        jj_consume_token(131);
+      case 134:
+        jj_consume_token(134);
         expr = Expression();
-        jj_consume_token(132);
+        jj_consume_token(135);
         break;
       default:
-        jj_la1[35] = jj_gen;
+        jj_la1[38] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
     }
             list.add(expr);
-    label_11:
+    label_13:
     while (true) {
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
       case K_AND:
         ;
         break;
       default:
-        jj_la1[36] = jj_gen;
-        break label_11;
+        jj_la1[39] = jj_gen;
+        break label_13;
       }
       jj_consume_token(K_AND);
       if (jj_2_13(3)) {
         expr = UnaryLogicalExpression();
       } else {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-        case 131:
-          jj_consume_token(131);
+        case 134:
+          jj_consume_token(134);
           expr = Expression();
-          jj_consume_token(132);
+          jj_consume_token(135);
           break;
         default:
-          jj_la1[37] = jj_gen;
+          jj_la1[40] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -997,7 +1064,7 @@ public class StreamSqlParser implements StreamSqlParserConstants {
             notset = true;
       break;
     default:
-      jj_la1[38] = jj_gen;
+      jj_la1[41] = jj_gen;
       ;
     }
     expr = RelationalExpression();
@@ -1021,23 +1088,23 @@ public class StreamSqlParser implements StreamSqlParserConstants {
     case K_IS:
     case K_LIKE:
     case K_NOT:
-    case 135:
-    case 142:
-    case 150:
-    case 151:
-    case 152:
+    case 138:
+    case 145:
+    case 153:
+    case 154:
+    case 155:
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-      case 135:
-      case 142:
-      case 150:
-      case 151:
-      case 152:
+      case 138:
+      case 145:
+      case 153:
+      case 154:
+      case 155:
         relOp = RelOp();
         expr = SimpleExpression();
                                                retExpr=new RelationalExpression(retExpr,expr,relOp);
         break;
       default:
-        jj_la1[39] = jj_gen;
+        jj_la1[42] = jj_gen;
         if (jj_2_14(2)) {
           inClause = InClause();
                                         retExpr=new InExpression(expr, inClause);
@@ -1053,7 +1120,7 @@ public class StreamSqlParser implements StreamSqlParserConstants {
                                       retExpr = new IsNullExpression(expr, isNullClause);
             break;
           default:
-            jj_la1[40] = jj_gen;
+            jj_la1[43] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
@@ -1061,7 +1128,7 @@ public class StreamSqlParser implements StreamSqlParserConstants {
       }
       break;
     default:
-      jj_la1[41] = jj_gen;
+      jj_la1[44] = jj_gen;
       ;
     }
         {if (true) return retExpr;}
@@ -1073,17 +1140,17 @@ public class StreamSqlParser implements StreamSqlParserConstants {
     Expression expr;
     expr = Expression();
                       list.add(expr);
-    label_12:
+    label_14:
     while (true) {
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-      case 134:
+      case 137:
         ;
         break;
       default:
-        jj_la1[42] = jj_gen;
-        break label_12;
+        jj_la1[45] = jj_gen;
+        break label_14;
       }
-      jj_consume_token(134);
+      jj_consume_token(137);
       expr = Expression();
                                                                list.add(expr);
     }
@@ -1100,13 +1167,13 @@ public class StreamSqlParser implements StreamSqlParserConstants {
             inClause.setNegation(true);
       break;
     default:
-      jj_la1[43] = jj_gen;
+      jj_la1[46] = jj_gen;
       ;
     }
     jj_consume_token(K_IN);
-    jj_consume_token(131);
+    jj_consume_token(134);
     list = ExpressionList();
-    jj_consume_token(132);
+    jj_consume_token(135);
                                        inClause.setList(list);
     {if (true) return inClause;}
     throw new Error("Missing return statement in function");
@@ -1118,7 +1185,7 @@ public class StreamSqlParser implements StreamSqlParserConstants {
       jj_consume_token(K_NOT);
       break;
     default:
-      jj_la1[44] = jj_gen;
+      jj_la1[47] = jj_gen;
       ;
     }
     jj_consume_token(K_BETWEEN);
@@ -1136,7 +1203,7 @@ public class StreamSqlParser implements StreamSqlParserConstants {
             likeClause.setNegation(true);
       break;
     default:
-      jj_la1[45] = jj_gen;
+      jj_la1[48] = jj_gen;
       ;
     }
     jj_consume_token(K_LIKE);
@@ -1150,7 +1217,7 @@ public class StreamSqlParser implements StreamSqlParserConstants {
                  likeClause.setPattern(nextArgAsString());
       break;
     default:
-      jj_la1[46] = jj_gen;
+      jj_la1[49] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -1167,7 +1234,7 @@ public class StreamSqlParser implements StreamSqlParserConstants {
                  isNullClause.setNegation(true);
       break;
     default:
-      jj_la1[47] = jj_gen;
+      jj_la1[50] = jj_gen;
       ;
     }
     jj_consume_token(K_NULL);
@@ -1182,12 +1249,12 @@ public class StreamSqlParser implements StreamSqlParserConstants {
     List<BitwiseOp> ops = new ArrayList<BitwiseOp>();
     expr = AdditiveExpression();
                                  exprs.add(expr);
-    label_13:
+    label_15:
     while (true) {
       if (jj_2_17(2)) {
         ;
       } else {
-        break label_13;
+        break label_15;
       }
       bitwiseOp = BitwiseOp();
       expr = AdditiveExpression();
@@ -1208,17 +1275,17 @@ public class StreamSqlParser implements StreamSqlParserConstants {
     List<AddOp> ops = new ArrayList<AddOp>();
     expr = MultiplicativeExpression();
                                        exprs.add(expr);
-    label_14:
+    label_16:
     while (true) {
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-      case 138:
-      case 139:
-      case 147:
+      case 141:
+      case 142:
+      case 150:
         ;
         break;
       default:
-        jj_la1[48] = jj_gen;
-        break label_14;
+        jj_la1[51] = jj_gen;
+        break label_16;
       }
       addOp = AddOp();
       expr = MultiplicativeExpression();
@@ -1239,17 +1306,17 @@ public class StreamSqlParser implements StreamSqlParserConstants {
     List<MultOp> ops=new ArrayList<MultOp>();
     expr = ExponentExpression();
                                exprs.add(expr);
-    label_15:
+    label_17:
     while (true) {
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
       case K_MOD:
-      case 148:
-      case 149:
+      case 151:
+      case 152:
         ;
         break;
       default:
-        jj_la1[49] = jj_gen;
-        break label_15;
+        jj_la1[52] = jj_gen;
+        break label_17;
       }
       multOp = MultOp();
       expr = MultiplicativeExpression();
@@ -1268,13 +1335,13 @@ public class StreamSqlParser implements StreamSqlParserConstants {
     expr = UnaryExpression();
                             retExpr=expr;
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-    case 137:
-      jj_consume_token(137);
+    case 140:
+      jj_consume_token(140);
       expr = UnaryExpression();
                                    retExpr=new ExponentExpression(retExpr,expr);
       break;
     default:
-      jj_la1[50] = jj_gen;
+      jj_la1[53] = jj_gen;
       ;
     }
         {if (true) return retExpr;}
@@ -1285,24 +1352,24 @@ public class StreamSqlParser implements StreamSqlParserConstants {
     Expression expr;
     boolean negative=false;
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-    case 138:
-    case 139:
+    case 141:
+    case 142:
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-      case 138:
-        jj_consume_token(138);
+      case 141:
+        jj_consume_token(141);
         break;
-      case 139:
-        jj_consume_token(139);
+      case 142:
+        jj_consume_token(142);
                 negative=true;
         break;
       default:
-        jj_la1[51] = jj_gen;
+        jj_la1[54] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
       break;
     default:
-      jj_la1[52] = jj_gen;
+      jj_la1[55] = jj_gen;
       ;
     }
     expr = PrimaryExpression();
@@ -1353,35 +1420,38 @@ public class StreamSqlParser implements StreamSqlParserConstants {
                {if (true) return nextArg();}
       break;
     default:
-      jj_la1[53] = jj_gen;
+      jj_la1[56] = jj_gen;
       if (jj_2_18(3)) {
-        jj_consume_token(131);
+        jj_consume_token(134);
         expr = SimpleExpression();
-        jj_consume_token(132);
+        jj_consume_token(135);
                                                     {if (true) return expr;}
       } else {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
         case K_ARRAY:
           jj_consume_token(K_ARRAY);
-          jj_consume_token(140);
+          jj_consume_token(143);
           exprList = ExpressionList();
-          jj_consume_token(141);
+          jj_consume_token(144);
                                                  {if (true) return new ArrayExpression(exprList);}
           break;
         default:
-          jj_la1[54] = jj_gen;
+          jj_la1[57] = jj_gen;
           if (jj_2_19(2147483647)) {
             expr = FunctionCall();
                                                      {if (true) return expr;}
           } else {
             switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+            case K_ADD:
+            case K_EXPLAIN:
+            case K_GROUP:
             case S_IDENTIFIER:
             case S_DOUBLE_QUOTED_IDENTIFIER:
               name = ObjectName();
                        {if (true) return new ColumnExpression(name);}
               break;
             default:
-              jj_la1[55] = jj_gen;
+              jj_la1[58] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
             }
@@ -1399,12 +1469,24 @@ public class StreamSqlParser implements StreamSqlParserConstants {
       jj_consume_token(S_IDENTIFIER);
                            {if (true) return token.image;}
       break;
+    case K_ADD:
+      jj_consume_token(K_ADD);
+                           {if (true) return token.image;}
+      break;
+    case K_EXPLAIN:
+      jj_consume_token(K_EXPLAIN);
+                           {if (true) return token.image;}
+      break;
+    case K_GROUP:
+      jj_consume_token(K_GROUP);
+                           {if (true) return token.image;}
+      break;
     case S_DOUBLE_QUOTED_IDENTIFIER:
       jj_consume_token(S_DOUBLE_QUOTED_IDENTIFIER);
                                   String s1 = token.image; {if (true) return s1.substring(1, s1.length() - 1);}
       break;
     default:
-      jj_la1[56] = jj_gen;
+      jj_la1[59] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -1413,28 +1495,28 @@ public class StreamSqlParser implements StreamSqlParserConstants {
 
   final public BitwiseOp BitwiseOp() throws ParseException, StreamSqlException {
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-    case 142:
-      jj_consume_token(142);
+    case 145:
+      jj_consume_token(145);
          {if (true) return BitwiseOp.AND;}
       break;
-    case 143:
-      jj_consume_token(143);
+    case 146:
+      jj_consume_token(146);
          {if (true) return BitwiseOp.OR;}
       break;
-    case 144:
-      jj_consume_token(144);
+    case 147:
+      jj_consume_token(147);
          {if (true) return BitwiseOp.XOR;}
       break;
-    case 145:
-      jj_consume_token(145);
+    case 148:
+      jj_consume_token(148);
           {if (true) return BitwiseOp.LSHIFT;}
       break;
-    case 146:
-      jj_consume_token(146);
+    case 149:
+      jj_consume_token(149);
           {if (true) return BitwiseOp.RSHIFT;}
       break;
     default:
-      jj_la1[57] = jj_gen;
+      jj_la1[60] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -1443,20 +1525,20 @@ public class StreamSqlParser implements StreamSqlParserConstants {
 
   final public AddOp AddOp() throws ParseException, StreamSqlException {
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-    case 138:
-      jj_consume_token(138);
+    case 141:
+      jj_consume_token(141);
          {if (true) return AddOp.PLUS;}
       break;
-    case 139:
-      jj_consume_token(139);
+    case 142:
+      jj_consume_token(142);
          {if (true) return AddOp.MINUS;}
       break;
-    case 147:
-      jj_consume_token(147);
+    case 150:
+      jj_consume_token(150);
           {if (true) return AddOp.STRING_PLUS;}
       break;
     default:
-      jj_la1[58] = jj_gen;
+      jj_la1[61] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -1465,12 +1547,12 @@ public class StreamSqlParser implements StreamSqlParserConstants {
 
   final public MultOp MultOp() throws ParseException, StreamSqlException {
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-    case 148:
-      jj_consume_token(148);
+    case 151:
+      jj_consume_token(151);
          {if (true) return MultOp.MULT;}
       break;
-    case 149:
-      jj_consume_token(149);
+    case 152:
+      jj_consume_token(152);
          {if (true) return MultOp.DIV;}
       break;
     case K_MOD:
@@ -1478,7 +1560,7 @@ public class StreamSqlParser implements StreamSqlParserConstants {
            {if (true) return MultOp.MOD;}
       break;
     default:
-      jj_la1[59] = jj_gen;
+      jj_la1[62] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -1487,49 +1569,49 @@ public class StreamSqlParser implements StreamSqlParserConstants {
 
   final public RelOp RelOp() throws ParseException, StreamSqlException {
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-    case 135:
-      jj_consume_token(135);
+    case 138:
+      jj_consume_token(138);
          {if (true) return RelOp.EQUAL;}
       break;
-    case 150:
-      jj_consume_token(150);
-      jj_consume_token(135);
+    case 153:
+      jj_consume_token(153);
+      jj_consume_token(138);
              {if (true) return RelOp.NOT_EQUAL;}
       break;
     default:
-      jj_la1[60] = jj_gen;
+      jj_la1[63] = jj_gen;
       if (jj_2_20(2)) {
-        jj_consume_token(151);
-        jj_consume_token(135);
+        jj_consume_token(154);
+        jj_consume_token(138);
                           {if (true) return RelOp.GREATER_OR_EQUAL;}
       } else {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-        case 151:
-          jj_consume_token(151);
+        case 154:
+          jj_consume_token(154);
          {if (true) return RelOp.GREATER;}
           break;
         default:
-          jj_la1[61] = jj_gen;
+          jj_la1[64] = jj_gen;
           if (jj_2_21(2)) {
-            jj_consume_token(152);
-            jj_consume_token(151);
+            jj_consume_token(155);
+            jj_consume_token(154);
                           {if (true) return RelOp.NOT_EQUAL;}
           } else if (jj_2_22(2)) {
-            jj_consume_token(152);
-            jj_consume_token(135);
+            jj_consume_token(155);
+            jj_consume_token(138);
                           {if (true) return RelOp.LESS_OR_EQUAL;}
           } else if (jj_2_23(2)) {
-            jj_consume_token(142);
-            jj_consume_token(142);
+            jj_consume_token(145);
+            jj_consume_token(145);
                           {if (true) return RelOp.OVERLAP;}
           } else {
             switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-            case 152:
-              jj_consume_token(152);
+            case 155:
+              jj_consume_token(155);
          {if (true) return RelOp.LESS;}
               break;
             default:
-              jj_la1[62] = jj_gen;
+              jj_la1[65] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
             }
@@ -1542,17 +1624,17 @@ public class StreamSqlParser implements StreamSqlParserConstants {
 
   final public void Arguments() throws ParseException, StreamSqlException {
     Argument();
-    label_16:
+    label_18:
     while (true) {
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-      case 134:
+      case 137:
         ;
         break;
       default:
-        jj_la1[63] = jj_gen;
-        break label_16;
+        jj_la1[66] = jj_gen;
+        break label_18;
       }
-      jj_consume_token(134);
+      jj_consume_token(137);
       Argument();
     }
   }
@@ -1560,7 +1642,7 @@ public class StreamSqlParser implements StreamSqlParserConstants {
   final public void Argument() throws ParseException, StreamSqlException {
     if (jj_2_24(2)) {
       jj_consume_token(S_IDENTIFIER);
-      jj_consume_token(153);
+      jj_consume_token(156);
     } else {
       ;
     }
@@ -1582,7 +1664,7 @@ public class StreamSqlParser implements StreamSqlParserConstants {
                                 expression.setAscending(ascending);
       break;
     default:
-      jj_la1[64] = jj_gen;
+      jj_la1[67] = jj_gen;
       ;
     }
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -1590,7 +1672,7 @@ public class StreamSqlParser implements StreamSqlParserConstants {
       jj_consume_token(K_LIMIT);
       if (jj_2_25(2)) {
         offset = NumericConstant();
-        jj_consume_token(134);
+        jj_consume_token(137);
       } else {
         ;
       }
@@ -1598,7 +1680,7 @@ public class StreamSqlParser implements StreamSqlParserConstants {
                                   expression.setLimit(offset, limit);
       break;
     default:
-      jj_la1[65] = jj_gen;
+      jj_la1[68] = jj_gen;
       ;
     }
         {if (true) return expression;}
@@ -1611,6 +1693,8 @@ public class StreamSqlParser implements StreamSqlParserConstants {
     Expression whereClause=null;
     SelectExpression selectExpr=new SelectExpression();
     WindowSpecification windowSpec;
+    List<String> groupBy;
+    String groupColumn;
     jj_consume_token(K_SELECT);
     selectList = SelectList();
                                         selectExpr.setSelectList(selectList);
@@ -1618,14 +1702,14 @@ public class StreamSqlParser implements StreamSqlParserConstants {
     tsrc = TupleSourceExpression();
                                            selectExpr.setFirstSource(tsrc);
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-    case 140:
-      jj_consume_token(140);
+    case 143:
+      jj_consume_token(143);
       windowSpec = WindowSpecification();
                                             selectExpr.setWindow(windowSpec);
-      jj_consume_token(141);
+      jj_consume_token(144);
       break;
     default:
-      jj_la1[66] = jj_gen;
+      jj_la1[69] = jj_gen;
       ;
     }
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -1635,7 +1719,33 @@ public class StreamSqlParser implements StreamSqlParserConstants {
                                          selectExpr.setWhereClause(whereClause);
       break;
     default:
-      jj_la1[67] = jj_gen;
+      jj_la1[70] = jj_gen;
+      ;
+    }
+    switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+    case K_GROUP:
+      jj_consume_token(K_GROUP);
+      jj_consume_token(K_BY);
+      groupColumn = ObjectName();
+                                                 groupBy = new ArrayList<String>(); groupBy.add(groupColumn);
+      label_19:
+      while (true) {
+        switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+        case 137:
+          ;
+          break;
+        default:
+          jj_la1[71] = jj_gen;
+          break label_19;
+        }
+        jj_consume_token(137);
+        groupColumn = ObjectName();
+                                     groupBy.add(groupColumn);
+      }
+       selectExpr.setGroupBy(groupBy);
+      break;
+    default:
+      jj_la1[72] = jj_gen;
       ;
     }
         {if (true) return selectExpr;}
@@ -1648,17 +1758,17 @@ public class StreamSqlParser implements StreamSqlParserConstants {
     SelectItem selectItem;
     selectItem = SelectItem();
                             selectList.add(selectItem);
-    label_17:
+    label_20:
     while (true) {
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-      case 134:
+      case 137:
         ;
         break;
       default:
-        jj_la1[68] = jj_gen;
-        break label_17;
+        jj_la1[73] = jj_gen;
+        break label_20;
       }
-      jj_consume_token(134);
+      jj_consume_token(137);
       selectItem = SelectItem();
                                     selectList.add(selectItem);
     }
@@ -1671,11 +1781,14 @@ public class StreamSqlParser implements StreamSqlParserConstants {
     Expression expr;
     SelectItem selectItem;
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-    case 148:
-      jj_consume_token(148);
+    case 151:
+      jj_consume_token(151);
             {if (true) return SelectItem.STAR;}
       break;
+    case K_ADD:
     case K_ARRAY:
+    case K_EXPLAIN:
+    case K_GROUP:
     case K_NULL:
     case S_INTEGER:
     case S_FLOAT:
@@ -1683,13 +1796,16 @@ public class StreamSqlParser implements StreamSqlParserConstants {
     case S_IDENTIFIER:
     case S_DOUBLE_QUOTED_IDENTIFIER:
     case S_QMARK:
-    case 131:
-    case 138:
-    case 139:
+    case 134:
+    case 141:
+    case 142:
       expr = SimpleExpression();
                                 selectItem=new SelectItem(expr);
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+      case K_ADD:
       case K_AS:
+      case K_EXPLAIN:
+      case K_GROUP:
       case S_IDENTIFIER:
       case S_DOUBLE_QUOTED_IDENTIFIER:
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -1697,20 +1813,20 @@ public class StreamSqlParser implements StreamSqlParserConstants {
           jj_consume_token(K_AS);
           break;
         default:
-          jj_la1[69] = jj_gen;
+          jj_la1[74] = jj_gen;
           ;
         }
         name = ObjectName();
             selectItem.setAlias(name);
         break;
       default:
-        jj_la1[70] = jj_gen;
+        jj_la1[75] = jj_gen;
         ;
       }
       {if (true) return selectItem;}
       break;
     default:
-      jj_la1[71] = jj_gen;
+      jj_la1[76] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -1722,6 +1838,9 @@ public class StreamSqlParser implements StreamSqlParserConstants {
     WindowSpecification wspec;
     BigDecimal size, advance;
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+    case K_ADD:
+    case K_EXPLAIN:
+    case K_GROUP:
     case S_IDENTIFIER:
     case S_DOUBLE_QUOTED_IDENTIFIER:
       name = ObjectName();
@@ -1747,14 +1866,14 @@ public class StreamSqlParser implements StreamSqlParserConstants {
                         wspec = new WindowSpecification(size,advance,WindowSpecification.Type.FIELD,field);
         break;
       default:
-        jj_la1[72] = jj_gen;
+        jj_la1[77] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
    {if (true) return wspec;}
       break;
     default:
-      jj_la1[73] = jj_gen;
+      jj_la1[78] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -1767,6 +1886,9 @@ public class StreamSqlParser implements StreamSqlParserConstants {
     String name, histoColumn;
     BigDecimal mergeTime;
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+    case K_ADD:
+    case K_EXPLAIN:
+    case K_GROUP:
     case S_IDENTIFIER:
     case S_DOUBLE_QUOTED_IDENTIFIER:
       name = ObjectName();
@@ -1774,32 +1896,32 @@ public class StreamSqlParser implements StreamSqlParserConstants {
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
       case K_HISTOGRAM:
         jj_consume_token(K_HISTOGRAM);
-        jj_consume_token(131);
+        jj_consume_token(134);
         histoColumn = ObjectName();
                                                          tsrc.setHistogramColumn(histoColumn);
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-        case 134:
-          jj_consume_token(134);
+        case 137:
+          jj_consume_token(137);
           mergeTime = NumericConstant();
                                                  tsrc.setHistogramMergeTime(mergeTime);
           break;
         default:
-          jj_la1[74] = jj_gen;
+          jj_la1[79] = jj_gen;
           ;
         }
-        jj_consume_token(132);
+        jj_consume_token(135);
         break;
       default:
-        jj_la1[75] = jj_gen;
+        jj_la1[80] = jj_gen;
         ;
       }
       break;
     default:
-      jj_la1[76] = jj_gen;
+      jj_la1[81] = jj_gen;
       if (jj_2_26(3)) {
-        jj_consume_token(131);
+        jj_consume_token(134);
         expr = StreamExpression();
-        jj_consume_token(132);
+        jj_consume_token(135);
                                                        tsrc=new TupleSourceExpression(expr);
       } else {
         jj_consume_token(-1);
@@ -1814,26 +1936,26 @@ public class StreamSqlParser implements StreamSqlParserConstants {
     String columnName;
     TupleDefinition tupleDefinition=new TupleDefinition();
     DataType columnType;
-    jj_consume_token(131);
+    jj_consume_token(134);
     columnName = ObjectName();
     columnType = DataTypeDefinition();
                                                                  tupleDefinition.addColumn(columnName,columnType);
-    label_18:
+    label_21:
     while (true) {
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-      case 134:
+      case 137:
         ;
         break;
       default:
-        jj_la1[77] = jj_gen;
-        break label_18;
+        jj_la1[82] = jj_gen;
+        break label_21;
       }
-      jj_consume_token(134);
+      jj_consume_token(137);
       columnName = ObjectName();
       columnType = DataTypeDefinition();
                                                                   tupleDefinition.addColumn(columnName,columnType);
     }
-    jj_consume_token(132);
+    jj_consume_token(135);
         {if (true) return tupleDefinition;}
     throw new Error("Missing return statement in function");
   }
@@ -1853,13 +1975,13 @@ public class StreamSqlParser implements StreamSqlParserConstants {
                      ascending=false;
         break;
       default:
-        jj_la1[78] = jj_gen;
+        jj_la1[83] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
       break;
     default:
-      jj_la1[79] = jj_gen;
+      jj_la1[84] = jj_gen;
       ;
     }
     {if (true) return ascending;}
@@ -1871,9 +1993,12 @@ public class StreamSqlParser implements StreamSqlParserConstants {
    List<Expression> args=null;
    boolean star=false;
     name = ObjectName();
-    jj_consume_token(131);
+    jj_consume_token(134);
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+    case K_ADD:
     case K_ARRAY:
+    case K_EXPLAIN:
+    case K_GROUP:
     case K_NOT:
     case K_NULL:
     case S_INTEGER:
@@ -1882,12 +2007,15 @@ public class StreamSqlParser implements StreamSqlParserConstants {
     case S_IDENTIFIER:
     case S_DOUBLE_QUOTED_IDENTIFIER:
     case S_QMARK:
-    case 131:
-    case 138:
-    case 139:
-    case 148:
+    case 134:
+    case 141:
+    case 142:
+    case 151:
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+      case K_ADD:
       case K_ARRAY:
+      case K_EXPLAIN:
+      case K_GROUP:
       case K_NOT:
       case K_NULL:
       case S_INTEGER:
@@ -1896,26 +2024,26 @@ public class StreamSqlParser implements StreamSqlParserConstants {
       case S_IDENTIFIER:
       case S_DOUBLE_QUOTED_IDENTIFIER:
       case S_QMARK:
-      case 131:
-      case 138:
-      case 139:
+      case 134:
+      case 141:
+      case 142:
         args = ExpressionList();
         break;
-      case 148:
-        jj_consume_token(148);
+      case 151:
+        jj_consume_token(151);
                    star=true;
         break;
       default:
-        jj_la1[80] = jj_gen;
+        jj_la1[85] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
       break;
     default:
-      jj_la1[81] = jj_gen;
+      jj_la1[86] = jj_gen;
       ;
     }
-    jj_consume_token(132);
+    jj_consume_token(135);
       {if (true) return FunctionExpressionFactory.get(name, args, star);}
     throw new Error("Missing return statement in function");
   }
@@ -1929,7 +2057,7 @@ public class StreamSqlParser implements StreamSqlParserConstants {
       jj_consume_token(S_FLOAT);
       break;
     default:
-      jj_la1[82] = jj_gen;
+      jj_la1[87] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -2128,130 +2256,119 @@ public class StreamSqlParser implements StreamSqlParserConstants {
     finally { jj_save(25, xla); }
   }
 
-  private boolean jj_3R_99() {
-    if (jj_3R_100()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_92() {
-    if (jj_scan_token(148)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_72() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_92()) {
-    jj_scanpos = xsp;
-    if (jj_3R_93()) {
-    jj_scanpos = xsp;
-    if (jj_3R_94()) return true;
-    }
-    }
+  private boolean jj_3R_30() {
+    if (jj_scan_token(K_ALTER)) return true;
+    if (jj_scan_token(K_SEQUENCE)) return true;
     return false;
   }
 
-  private boolean jj_3R_54() {
-    if (jj_3R_59()) return true;
+  private boolean jj_3R_42() {
+    if (jj_scan_token(K_NOT)) return true;
     return false;
   }
 
-  private boolean jj_3R_53() {
-    if (jj_3R_58()) return true;
+  private boolean jj_3R_97() {
+    if (jj_3R_40()) return true;
     return false;
   }
 
-  private boolean jj_3R_38() {
+  private boolean jj_3R_33() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_53()) {
-    jj_scanpos = xsp;
-    if (jj_3R_54()) return true;
-    }
+    if (jj_3R_42()) jj_scanpos = xsp;
+    if (jj_3R_43()) return true;
     return false;
   }
 
-  private boolean jj_3R_75() {
-    if (jj_scan_token(147)) return true;
+  private boolean jj_3R_96() {
+    if (jj_3R_102()) return true;
     return false;
   }
 
-  private boolean jj_3R_74() {
-    if (jj_scan_token(139)) return true;
+  private boolean jj_3R_95() {
+    if (jj_scan_token(K_ARRAY)) return true;
+    if (jj_scan_token(143)) return true;
+    if (jj_3R_105()) return true;
     return false;
   }
 
-  private boolean jj_3R_73() {
-    if (jj_scan_token(138)) return true;
+  private boolean jj_3_18() {
+    if (jj_scan_token(134)) return true;
+    if (jj_3R_39()) return true;
+    if (jj_scan_token(135)) return true;
     return false;
   }
 
-  private boolean jj_3R_64() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_73()) {
-    jj_scanpos = xsp;
-    if (jj_3R_74()) {
-    jj_scanpos = xsp;
-    if (jj_3R_75()) return true;
-    }
-    }
+  private boolean jj_3R_94() {
+    if (jj_scan_token(S_QMARK)) return true;
     return false;
   }
 
-  private boolean jj_3R_61() {
-    if (jj_3R_68()) return true;
+  private boolean jj_3R_93() {
+    if (jj_scan_token(K_NULL)) return true;
     return false;
   }
 
-  private boolean jj_3_16() {
-    if (jj_3R_33()) return true;
+  private boolean jj_3R_92() {
+    if (jj_scan_token(S_STRING)) return true;
     return false;
   }
 
-  private boolean jj_3R_28() {
-    if (jj_scan_token(K_ALTER)) return true;
-    if (jj_scan_token(K_TABLE)) return true;
+  private boolean jj_3R_91() {
+    if (jj_scan_token(S_FLOAT)) return true;
     return false;
   }
 
-  private boolean jj_3_15() {
-    if (jj_3R_32()) return true;
+  private boolean jj_3_13() {
+    if (jj_3R_33()) return true;
     return false;
   }
 
-  private boolean jj_3R_49() {
-    if (jj_scan_token(146)) return true;
+  private boolean jj_3R_111() {
+    if (jj_scan_token(134)) return true;
     return false;
   }
 
-  private boolean jj_3_14() {
-    if (jj_3R_31()) return true;
+  private boolean jj_3_12() {
+    if (jj_3R_33()) return true;
     return false;
   }
 
-  private boolean jj_3R_48() {
-    if (jj_scan_token(145)) return true;
+  private boolean jj_3R_22() {
+    if (jj_scan_token(K_CREATE)) return true;
+    if (jj_scan_token(K_TABLE)) return true;
     return false;
   }
 
-  private boolean jj_3R_47() {
-    if (jj_scan_token(144)) return true;
+  private boolean jj_3R_90() {
+    if (jj_scan_token(S_INTEGER)) return true;
     return false;
   }
 
-  private boolean jj_3R_55() {
+  private boolean jj_3R_76() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_60()) {
+    if (jj_3R_90()) {
     jj_scanpos = xsp;
-    if (jj_3_14()) {
+    if (jj_3R_91()) {
     jj_scanpos = xsp;
-    if (jj_3_15()) {
+    if (jj_3R_92()) {
     jj_scanpos = xsp;
-    if (jj_3_16()) {
+    if (jj_3R_93()) {
+    jj_scanpos = xsp;
+    if (jj_3R_94()) {
+    jj_scanpos = xsp;
+    if (jj_3_18()) {
     jj_scanpos = xsp;
-    if (jj_3R_61()) return true;
+    if (jj_3R_95()) {
+    jj_scanpos = xsp;
+    if (jj_3R_96()) {
+    jj_scanpos = xsp;
+    if (jj_3R_97()) return true;
+    }
+    }
+    }
+    }
     }
     }
     }
@@ -2259,639 +2376,673 @@ public class StreamSqlParser implements StreamSqlParserConstants {
     return false;
   }
 
-  private boolean jj_3R_60() {
-    if (jj_3R_67()) return true;
-    if (jj_3R_36()) return true;
+  private boolean jj_3R_29() {
+    if (jj_scan_token(K_SHOW)) return true;
+    if (jj_scan_token(K_SEQUENCES)) return true;
     return false;
   }
 
-  private boolean jj_3R_46() {
-    if (jj_scan_token(143)) return true;
+  private boolean jj_3_26() {
+    if (jj_scan_token(134)) return true;
+    if (jj_3R_41()) return true;
     return false;
   }
 
-  private boolean jj_3R_34() {
+  private boolean jj_3R_108() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_45()) {
-    jj_scanpos = xsp;
-    if (jj_3R_46()) {
-    jj_scanpos = xsp;
-    if (jj_3R_47()) {
-    jj_scanpos = xsp;
-    if (jj_3R_48()) {
+    if (jj_3_12()) {
     jj_scanpos = xsp;
-    if (jj_3R_49()) return true;
-    }
-    }
-    }
+    if (jj_3R_111()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_45() {
-    if (jj_scan_token(142)) return true;
+  private boolean jj_3R_83() {
+    if (jj_3R_40()) return true;
     return false;
   }
 
-  private boolean jj_3R_40() {
-    if (jj_3R_36()) return true;
+  private boolean jj_3R_72() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_55()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_27() {
-    if (jj_scan_token(K_ALTER)) return true;
-    if (jj_scan_token(K_SEQUENCE)) return true;
+    if (jj_3R_83()) {
+    jj_scanpos = xsp;
+    if (jj_3_26()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_104() {
-    if (jj_scan_token(148)) return true;
+  private boolean jj_3R_28() {
+    if (jj_scan_token(K_SHOW)) return true;
+    if (jj_scan_token(K_DATABASES)) return true;
     return false;
   }
 
-  private boolean jj_3R_103() {
-    if (jj_3R_99()) return true;
+  private boolean jj_3R_89() {
+    if (jj_scan_token(142)) return true;
     return false;
   }
 
-  private boolean jj_3R_52() {
-    if (jj_scan_token(S_DOUBLE_QUOTED_IDENTIFIER)) return true;
+  private boolean jj_3R_106() {
+    if (jj_3R_108()) return true;
     return false;
   }
 
-  private boolean jj_3R_101() {
+  private boolean jj_3R_75() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_103()) {
+    if (jj_scan_token(141)) {
     jj_scanpos = xsp;
-    if (jj_3R_104()) return true;
+    if (jj_3R_89()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_37() {
+  private boolean jj_3R_68() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_51()) {
-    jj_scanpos = xsp;
-    if (jj_3R_52()) return true;
-    }
+    if (jj_3R_75()) jj_scanpos = xsp;
+    if (jj_3R_76()) return true;
     return false;
   }
 
-  private boolean jj_3R_51() {
-    if (jj_scan_token(S_IDENTIFIER)) return true;
+  private boolean jj_3R_27() {
+    if (jj_scan_token(K_SHOW)) return true;
+    if (jj_scan_token(K_ENGINES)) return true;
     return false;
   }
 
-  private boolean jj_3_19() {
-    if (jj_3R_37()) return true;
-    if (jj_scan_token(131)) return true;
+  private boolean jj_3R_77() {
+    if (jj_scan_token(140)) return true;
+    if (jj_3R_68()) return true;
     return false;
   }
 
-  private boolean jj_3R_29() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_scan_token(115)) {
-    jj_scanpos = xsp;
-    if (jj_scan_token(118)) return true;
-    }
+  private boolean jj_3R_25() {
+    if (jj_scan_token(K_SHOW)) return true;
+    if (jj_scan_token(K_STREAM)) return true;
     return false;
   }
 
-  private boolean jj_3R_19() {
-    if (jj_scan_token(K_CREATE)) return true;
-    if (jj_scan_token(K_TABLE)) return true;
+  private boolean jj_3_10() {
+    if (jj_3R_31()) return true;
     return false;
   }
 
-  private boolean jj_3R_39() {
-    if (jj_scan_token(K_NOT)) return true;
+  private boolean jj_3_9() {
+    if (jj_3R_30()) return true;
     return false;
   }
 
-  private boolean jj_3R_96() {
-    if (jj_3R_37()) return true;
-    if (jj_scan_token(131)) return true;
+  private boolean jj_3R_62() {
+    if (jj_3R_68()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_101()) jj_scanpos = xsp;
-    if (jj_scan_token(132)) return true;
+    if (jj_3R_77()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_91() {
-    if (jj_3R_37()) return true;
+  private boolean jj_3_8() {
+    if (jj_3R_29()) return true;
     return false;
   }
 
-  private boolean jj_3R_30() {
+  private boolean jj_3_7() {
+    if (jj_3R_28()) return true;
+    return false;
+  }
+
+  private boolean jj_3_6() {
+    if (jj_3R_27()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_26() {
+    if (jj_scan_token(K_SHOW)) return true;
+    if (jj_scan_token(K_TABLES)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_104() {
+    if (jj_3R_39()) return true;
+    return false;
+  }
+
+  private boolean jj_3_5() {
+    if (jj_3R_26()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_103() {
+    if (jj_scan_token(151)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_101() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_39()) jj_scanpos = xsp;
-    if (jj_3R_40()) return true;
+    if (jj_3R_103()) {
+    jj_scanpos = xsp;
+    if (jj_3R_104()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_90() {
-    if (jj_3R_96()) return true;
+  private boolean jj_3_4() {
+    if (jj_3R_25()) return true;
     return false;
   }
 
-  private boolean jj_3R_89() {
-    if (jj_scan_token(K_ARRAY)) return true;
-    if (jj_scan_token(140)) return true;
-    if (jj_3R_99()) return true;
+  private boolean jj_3R_69() {
+    if (jj_3R_78()) return true;
+    if (jj_3R_53()) return true;
     return false;
   }
 
-  private boolean jj_3_18() {
-    if (jj_scan_token(131)) return true;
-    if (jj_3R_36()) return true;
-    if (jj_scan_token(132)) return true;
+  private boolean jj_3_3() {
+    if (jj_3R_24()) return true;
     return false;
   }
 
-  private boolean jj_3R_88() {
-    if (jj_scan_token(S_QMARK)) return true;
+  private boolean jj_3R_24() {
+    if (jj_scan_token(K_SHOW)) return true;
+    if (jj_scan_token(K_STREAMS)) return true;
     return false;
   }
 
-  private boolean jj_3R_87() {
-    if (jj_scan_token(K_NULL)) return true;
+  private boolean jj_3R_53() {
+    if (jj_3R_62()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_69()) { jj_scanpos = xsp; break; }
+    }
     return false;
   }
 
-  private boolean jj_3R_26() {
-    if (jj_scan_token(K_SHOW)) return true;
-    if (jj_scan_token(K_SEQUENCES)) return true;
+  private boolean jj_3R_82() {
+    if (jj_3R_101()) return true;
     return false;
   }
 
-  private boolean jj_3R_86() {
-    if (jj_scan_token(S_STRING)) return true;
+  private boolean jj_3_2() {
+    if (jj_3R_23()) return true;
     return false;
   }
 
-  private boolean jj_3R_85() {
-    if (jj_scan_token(S_FLOAT)) return true;
+  private boolean jj_3R_63() {
+    if (jj_3R_70()) return true;
+    if (jj_3R_53()) return true;
     return false;
   }
 
-  private boolean jj_3_13() {
-    if (jj_3R_30()) return true;
+  private boolean jj_3_1() {
+    if (jj_3R_22()) return true;
     return false;
   }
 
-  private boolean jj_3R_105() {
-    if (jj_scan_token(131)) return true;
+  private boolean jj_3R_38() {
+    if (jj_3R_53()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_63()) { jj_scanpos = xsp; break; }
+    }
     return false;
   }
 
-  private boolean jj_3R_25() {
-    if (jj_scan_token(K_SHOW)) return true;
-    if (jj_scan_token(K_DATABASES)) return true;
+  private boolean jj_3_11() {
+    if (jj_3R_32()) return true;
+    if (jj_scan_token(137)) return true;
     return false;
   }
 
-  private boolean jj_3_12() {
-    if (jj_3R_30()) return true;
+  private boolean jj_3R_71() {
+    if (jj_scan_token(K_SELECT)) return true;
+    if (jj_3R_82()) return true;
     return false;
   }
 
-  private boolean jj_3R_84() {
-    if (jj_scan_token(S_INTEGER)) return true;
+  private boolean jj_3_17() {
+    if (jj_3R_37()) return true;
+    if (jj_3R_38()) return true;
     return false;
   }
 
-  private boolean jj_3R_70() {
+  private boolean jj_3R_65() {
+    if (jj_scan_token(K_MERGE)) return true;
+    if (jj_3R_72()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_39() {
+    if (jj_3R_38()) return true;
     Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_84()) {
-    jj_scanpos = xsp;
-    if (jj_3R_85()) {
-    jj_scanpos = xsp;
-    if (jj_3R_86()) {
-    jj_scanpos = xsp;
-    if (jj_3R_87()) {
-    jj_scanpos = xsp;
-    if (jj_3R_88()) {
-    jj_scanpos = xsp;
-    if (jj_3_18()) {
-    jj_scanpos = xsp;
-    if (jj_3R_89()) {
-    jj_scanpos = xsp;
-    if (jj_3R_90()) {
-    jj_scanpos = xsp;
-    if (jj_3R_91()) return true;
-    }
-    }
-    }
-    }
-    }
-    }
-    }
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3_17()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_24() {
-    if (jj_scan_token(K_SHOW)) return true;
-    if (jj_scan_token(K_ENGINES)) return true;
+  private boolean jj_3_25() {
+    if (jj_3R_32()) return true;
+    if (jj_scan_token(137)) return true;
     return false;
   }
 
-  private boolean jj_3R_102() {
+  private boolean jj_3R_88() {
+    if (jj_scan_token(K_NOT)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_23() {
+    if (jj_scan_token(K_CREATE)) return true;
+    if (jj_scan_token(K_STREAM)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_64() {
+    if (jj_3R_71()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_74() {
+    if (jj_scan_token(K_IS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_12()) {
-    jj_scanpos = xsp;
-    if (jj_3R_105()) return true;
-    }
+    if (jj_3R_88()) jj_scanpos = xsp;
+    if (jj_scan_token(K_NULL)) return true;
     return false;
   }
 
-  private boolean jj_3_10() {
-    if (jj_3R_28()) return true;
+  private boolean jj_3R_46() {
+    if (jj_scan_token(S_STRING)) return true;
     return false;
   }
 
-  private boolean jj_3_9() {
-    if (jj_3R_27()) return true;
+  private boolean jj_3R_47() {
+    if (jj_scan_token(S_QMARK)) return true;
     return false;
   }
 
-  private boolean jj_3R_22() {
-    if (jj_scan_token(K_SHOW)) return true;
-    if (jj_scan_token(K_STREAM)) return true;
+  private boolean jj_3_24() {
+    if (jj_scan_token(S_IDENTIFIER)) return true;
+    if (jj_scan_token(156)) return true;
     return false;
   }
 
-  private boolean jj_3_8() {
-    if (jj_3R_26()) return true;
+  private boolean jj_3R_45() {
+    if (jj_scan_token(K_NOT)) return true;
     return false;
   }
 
-  private boolean jj_3_7() {
-    if (jj_3R_25()) return true;
+  private boolean jj_3R_36() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_45()) jj_scanpos = xsp;
+    if (jj_scan_token(K_LIKE)) return true;
+    xsp = jj_scanpos;
+    if (jj_3R_46()) {
+    jj_scanpos = xsp;
+    if (jj_3R_47()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_83() {
-    if (jj_scan_token(139)) return true;
+  private boolean jj_3R_87() {
+    if (jj_scan_token(155)) return true;
     return false;
   }
 
-  private boolean jj_3_6() {
-    if (jj_3R_24()) return true;
+  private boolean jj_3R_35() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_scan_token(64)) jj_scanpos = xsp;
+    if (jj_scan_token(K_BETWEEN)) return true;
+    if (jj_3R_39()) return true;
     return false;
   }
 
-  private boolean jj_3_26() {
-    if (jj_scan_token(131)) return true;
-    if (jj_3R_38()) return true;
+  private boolean jj_3_23() {
+    if (jj_scan_token(145)) return true;
+    if (jj_scan_token(145)) return true;
     return false;
   }
 
-  private boolean jj_3_5() {
-    if (jj_3R_23()) return true;
+  private boolean jj_3_22() {
+    if (jj_scan_token(155)) return true;
+    if (jj_scan_token(138)) return true;
     return false;
   }
 
-  private boolean jj_3R_100() {
-    if (jj_3R_102()) return true;
+  private boolean jj_3_21() {
+    if (jj_scan_token(155)) return true;
+    if (jj_scan_token(154)) return true;
     return false;
   }
 
-  private boolean jj_3_4() {
-    if (jj_3R_22()) return true;
+  private boolean jj_3R_86() {
+    if (jj_scan_token(154)) return true;
     return false;
   }
 
-  private boolean jj_3R_23() {
-    if (jj_scan_token(K_SHOW)) return true;
-    if (jj_scan_token(K_TABLES)) return true;
+  private boolean jj_3_20() {
+    if (jj_scan_token(154)) return true;
+    if (jj_scan_token(138)) return true;
     return false;
   }
 
-  private boolean jj_3R_69() {
+  private boolean jj_3R_85() {
+    if (jj_scan_token(153)) return true;
+    if (jj_scan_token(138)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_84() {
+    if (jj_scan_token(138)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_73() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_scan_token(138)) {
+    if (jj_3R_84()) {
+    jj_scanpos = xsp;
+    if (jj_3R_85()) {
+    jj_scanpos = xsp;
+    if (jj_3_20()) {
+    jj_scanpos = xsp;
+    if (jj_3R_86()) {
     jj_scanpos = xsp;
-    if (jj_3R_83()) return true;
+    if (jj_3_21()) {
+    jj_scanpos = xsp;
+    if (jj_3_22()) {
+    jj_scanpos = xsp;
+    if (jj_3_23()) {
+    jj_scanpos = xsp;
+    if (jj_3R_87()) return true;
+    }
+    }
+    }
+    }
+    }
+    }
     }
     return false;
   }
 
-  private boolean jj_3_3() {
-    if (jj_3R_21()) return true;
+  private boolean jj_3R_44() {
+    if (jj_scan_token(K_NOT)) return true;
     return false;
   }
 
-  private boolean jj_3R_62() {
+  private boolean jj_3R_34() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_69()) jj_scanpos = xsp;
-    if (jj_3R_70()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_77() {
-    if (jj_3R_37()) return true;
+    if (jj_3R_44()) jj_scanpos = xsp;
+    if (jj_scan_token(K_IN)) return true;
+    if (jj_scan_token(134)) return true;
     return false;
   }
 
-  private boolean jj_3R_66() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_77()) {
-    jj_scanpos = xsp;
-    if (jj_3_26()) return true;
-    }
+  private boolean jj_3R_100() {
+    if (jj_scan_token(K_MOD)) return true;
     return false;
   }
 
-  private boolean jj_3R_21() {
-    if (jj_scan_token(K_SHOW)) return true;
-    if (jj_scan_token(K_STREAMS)) return true;
+  private boolean jj_3R_99() {
+    if (jj_scan_token(152)) return true;
     return false;
   }
 
-  private boolean jj_3R_71() {
-    if (jj_scan_token(137)) return true;
-    if (jj_3R_62()) return true;
+  private boolean jj_3R_98() {
+    if (jj_scan_token(151)) return true;
     return false;
   }
 
-  private boolean jj_3R_56() {
-    if (jj_3R_62()) return true;
+  private boolean jj_3R_78() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_71()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3_2() {
-    if (jj_3R_20()) return true;
+    if (jj_3R_98()) {
+    jj_scanpos = xsp;
+    if (jj_3R_99()) {
+    jj_scanpos = xsp;
+    if (jj_3R_100()) return true;
+    }
+    }
     return false;
   }
 
-  private boolean jj_3_1() {
-    if (jj_3R_19()) return true;
+  private boolean jj_3R_105() {
+    if (jj_3R_106()) return true;
     return false;
   }
 
-  private boolean jj_3R_63() {
-    if (jj_3R_72()) return true;
-    if (jj_3R_50()) return true;
+  private boolean jj_3R_60() {
+    if (jj_3R_65()) return true;
     return false;
   }
 
-  private boolean jj_3R_50() {
-    if (jj_3R_56()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_63()) { jj_scanpos = xsp; break; }
-    }
+  private boolean jj_3R_81() {
+    if (jj_scan_token(150)) return true;
     return false;
   }
 
-  private boolean jj_3R_98() {
-    if (jj_3R_36()) return true;
+  private boolean jj_3R_59() {
+    if (jj_3R_64()) return true;
     return false;
   }
 
-  private boolean jj_3R_97() {
-    if (jj_scan_token(148)) return true;
+  private boolean jj_3R_80() {
+    if (jj_scan_token(142)) return true;
     return false;
   }
 
-  private boolean jj_3R_95() {
+  private boolean jj_3R_41() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_97()) {
+    if (jj_3R_59()) {
     jj_scanpos = xsp;
-    if (jj_3R_98()) return true;
+    if (jj_3R_60()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_57() {
-    if (jj_3R_64()) return true;
-    if (jj_3R_50()) return true;
+  private boolean jj_3R_79() {
+    if (jj_scan_token(141)) return true;
     return false;
   }
 
-  private boolean jj_3R_35() {
-    if (jj_3R_50()) return true;
+  private boolean jj_3R_70() {
     Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_57()) { jj_scanpos = xsp; break; }
+    xsp = jj_scanpos;
+    if (jj_3R_79()) {
+    jj_scanpos = xsp;
+    if (jj_3R_80()) {
+    jj_scanpos = xsp;
+    if (jj_3R_81()) return true;
+    }
     }
     return false;
   }
 
-  private boolean jj_3R_76() {
-    if (jj_3R_95()) return true;
+  private boolean jj_3R_67() {
+    if (jj_3R_74()) return true;
     return false;
   }
 
-  private boolean jj_3_11() {
-    if (jj_3R_29()) return true;
-    if (jj_scan_token(134)) return true;
+  private boolean jj_3R_52() {
+    if (jj_scan_token(149)) return true;
     return false;
   }
 
-  private boolean jj_3R_20() {
-    if (jj_scan_token(K_CREATE)) return true;
-    if (jj_scan_token(K_STREAM)) return true;
+  private boolean jj_3_16() {
+    if (jj_3R_36()) return true;
     return false;
   }
 
-  private boolean jj_3R_65() {
-    if (jj_scan_token(K_SELECT)) return true;
-    if (jj_3R_76()) return true;
+  private boolean jj_3R_51() {
+    if (jj_scan_token(148)) return true;
     return false;
   }
 
-  private boolean jj_3_17() {
-    if (jj_3R_34()) return true;
-    if (jj_3R_35()) return true;
+  private boolean jj_3R_110() {
+    if (jj_scan_token(151)) return true;
     return false;
   }
 
-  private boolean jj_3R_59() {
-    if (jj_scan_token(K_MERGE)) return true;
-    if (jj_3R_66()) return true;
+  private boolean jj_3R_50() {
+    if (jj_scan_token(147)) return true;
     return false;
   }
 
-  private boolean jj_3R_36() {
-    if (jj_3R_35()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3_17()) { jj_scanpos = xsp; break; }
-    }
+  private boolean jj_3R_109() {
+    if (jj_3R_105()) return true;
     return false;
   }
 
-  private boolean jj_3_25() {
-    if (jj_3R_29()) return true;
-    if (jj_scan_token(134)) return true;
+  private boolean jj_3_15() {
+    if (jj_3R_35()) return true;
     return false;
   }
 
-  private boolean jj_3R_82() {
-    if (jj_scan_token(K_NOT)) return true;
+  private boolean jj_3R_49() {
+    if (jj_scan_token(146)) return true;
     return false;
   }
 
-  private boolean jj_3R_68() {
-    if (jj_scan_token(K_IS)) return true;
+  private boolean jj_3R_107() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_82()) jj_scanpos = xsp;
-    if (jj_scan_token(K_NULL)) return true;
+    if (jj_3R_109()) {
+    jj_scanpos = xsp;
+    if (jj_3R_110()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_58() {
-    if (jj_3R_65()) return true;
+  private boolean jj_3R_37() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_48()) {
+    jj_scanpos = xsp;
+    if (jj_3R_49()) {
+    jj_scanpos = xsp;
+    if (jj_3R_50()) {
+    jj_scanpos = xsp;
+    if (jj_3R_51()) {
+    jj_scanpos = xsp;
+    if (jj_3R_52()) return true;
+    }
+    }
+    }
+    }
     return false;
   }
 
-  private boolean jj_3R_43() {
-    if (jj_scan_token(S_STRING)) return true;
+  private boolean jj_3R_48() {
+    if (jj_scan_token(145)) return true;
     return false;
   }
 
-  private boolean jj_3R_44() {
-    if (jj_scan_token(S_QMARK)) return true;
+  private boolean jj_3_14() {
+    if (jj_3R_34()) return true;
     return false;
   }
 
-  private boolean jj_3R_42() {
-    if (jj_scan_token(K_NOT)) return true;
+  private boolean jj_3R_32() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_scan_token(118)) {
+    jj_scanpos = xsp;
+    if (jj_scan_token(121)) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_33() {
+  private boolean jj_3R_61() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_42()) jj_scanpos = xsp;
-    if (jj_scan_token(K_LIKE)) return true;
-    xsp = jj_scanpos;
-    if (jj_3R_43()) {
+    if (jj_3R_66()) {
+    jj_scanpos = xsp;
+    if (jj_3_14()) {
     jj_scanpos = xsp;
-    if (jj_3R_44()) return true;
+    if (jj_3_15()) {
+    jj_scanpos = xsp;
+    if (jj_3_16()) {
+    jj_scanpos = xsp;
+    if (jj_3R_67()) return true;
+    }
+    }
+    }
     }
     return false;
   }
 
-  private boolean jj_3_24() {
-    if (jj_scan_token(S_IDENTIFIER)) return true;
-    if (jj_scan_token(153)) return true;
+  private boolean jj_3R_66() {
+    if (jj_3R_73()) return true;
+    if (jj_3R_39()) return true;
     return false;
   }
 
-  private boolean jj_3R_32() {
+  private boolean jj_3R_43() {
+    if (jj_3R_39()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_scan_token(61)) jj_scanpos = xsp;
-    if (jj_scan_token(K_BETWEEN)) return true;
-    if (jj_3R_36()) return true;
+    if (jj_3R_61()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_81() {
-    if (jj_scan_token(152)) return true;
-    return false;
-  }
-
-  private boolean jj_3_23() {
-    if (jj_scan_token(142)) return true;
-    if (jj_scan_token(142)) return true;
+  private boolean jj_3R_58() {
+    if (jj_scan_token(S_DOUBLE_QUOTED_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3_22() {
-    if (jj_scan_token(152)) return true;
-    if (jj_scan_token(135)) return true;
+  private boolean jj_3R_31() {
+    if (jj_scan_token(K_ALTER)) return true;
+    if (jj_scan_token(K_TABLE)) return true;
     return false;
   }
 
-  private boolean jj_3_21() {
-    if (jj_scan_token(152)) return true;
-    if (jj_scan_token(151)) return true;
+  private boolean jj_3R_57() {
+    if (jj_scan_token(K_GROUP)) return true;
     return false;
   }
 
-  private boolean jj_3R_80() {
-    if (jj_scan_token(151)) return true;
+  private boolean jj_3R_56() {
+    if (jj_scan_token(K_EXPLAIN)) return true;
     return false;
   }
 
-  private boolean jj_3R_41() {
-    if (jj_scan_token(K_NOT)) return true;
+  private boolean jj_3R_55() {
+    if (jj_scan_token(K_ADD)) return true;
     return false;
   }
 
-  private boolean jj_3R_31() {
+  private boolean jj_3R_102() {
+    if (jj_3R_40()) return true;
+    if (jj_scan_token(134)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_41()) jj_scanpos = xsp;
-    if (jj_scan_token(K_IN)) return true;
-    if (jj_scan_token(131)) return true;
-    return false;
-  }
-
-  private boolean jj_3_20() {
-    if (jj_scan_token(151)) return true;
-    if (jj_scan_token(135)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_79() {
-    if (jj_scan_token(150)) return true;
-    if (jj_scan_token(135)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_78() {
+    if (jj_3R_107()) jj_scanpos = xsp;
     if (jj_scan_token(135)) return true;
     return false;
   }
 
-  private boolean jj_3R_67() {
+  private boolean jj_3R_40() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_78()) {
-    jj_scanpos = xsp;
-    if (jj_3R_79()) {
-    jj_scanpos = xsp;
-    if (jj_3_20()) {
-    jj_scanpos = xsp;
-    if (jj_3R_80()) {
+    if (jj_3R_54()) {
     jj_scanpos = xsp;
-    if (jj_3_21()) {
+    if (jj_3R_55()) {
     jj_scanpos = xsp;
-    if (jj_3_22()) {
+    if (jj_3R_56()) {
     jj_scanpos = xsp;
-    if (jj_3_23()) {
+    if (jj_3R_57()) {
     jj_scanpos = xsp;
-    if (jj_3R_81()) return true;
-    }
-    }
-    }
+    if (jj_3R_58()) return true;
     }
     }
     }
@@ -2899,13 +3050,14 @@ public class StreamSqlParser implements StreamSqlParserConstants {
     return false;
   }
 
-  private boolean jj_3R_94() {
-    if (jj_scan_token(K_MOD)) return true;
+  private boolean jj_3R_54() {
+    if (jj_scan_token(S_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3R_93() {
-    if (jj_scan_token(149)) return true;
+  private boolean jj_3_19() {
+    if (jj_3R_40()) return true;
+    if (jj_scan_token(134)) return true;
     return false;
   }
 
@@ -2920,7 +3072,7 @@ public class StreamSqlParser implements StreamSqlParserConstants {
   private Token jj_scanpos, jj_lastpos;
   private int jj_la;
   private int jj_gen;
-  final private int[] jj_la1 = new int[83];
+  final private int[] jj_la1 = new int[88];
   static private int[] jj_la1_0;
   static private int[] jj_la1_1;
   static private int[] jj_la1_2;
@@ -2934,19 +3086,19 @@ public class StreamSqlParser implements StreamSqlParserConstants {
       jj_la1_init_4();
    }
    private static void jj_la1_init_0() {
-      jj_la1_0 = new int[] {0x50000,0x0,0x50100000,0x50900101,0x0,0x0,0x0,0x0,0x0,0x0,0x4000,0x0,0x0,0x0,0x0,0x0,0x0,0x600000,0x0,0x1000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200,0x0,0x0,0x0,0x0,0x8000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x800,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1000,0x1000,0x800,0x0,0x0,0x0,0x0,0x0,0x0,0x20002000,0x20002000,0x800,0x800,0x0,};
+      jj_la1_0 = new int[] {0xa0000,0x0,0xa0200000,0xa1200201,0x0,0x20,0x0,0x0,0x20,0x0,0x0,0x8000,0x0,0x0,0x0,0x0,0x0,0x0,0xc00000,0x0,0x2000,0x0,0x0,0x0,0x20,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x400,0x0,0x0,0x0,0x0,0x10000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1000,0x20,0x20,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2000,0x2020,0x1020,0x0,0x20,0x0,0x0,0x20,0x0,0x40004000,0x40004000,0x1020,0x1020,0x0,};
    }
    private static void jj_la1_init_1() {
-      jj_la1_1 = new int[] {0x4080011,0x0,0x2060002,0x2060002,0x1000,0x0,0x0,0x0,0x0,0x804,0x0,0x0,0x0,0x804,0x0,0x0,0x0,0x0,0x40000000,0x0,0x1000,0x0,0x8000000,0x2060000,0x0,0x8000000,0x0,0x0,0x1000000,0x0,0x1000000,0x0,0x0,0x1000000,0x0,0x0,0x0,0x0,0x20000000,0x0,0x200000,0x20a02000,0x0,0x20000000,0x20000000,0x20000000,0x0,0x20000000,0x0,0x10000000,0x0,0x0,0x0,0x80000000,0x0,0x0,0x0,0x0,0x0,0x10000000,0x0,0x0,0x0,0x0,0x0,0x1000000,0x0,0x0,0x0,0x0,0x0,0x80000000,0x0,0x0,0x0,0x800,0x0,0x0,0x0,0x0,0xa0000000,0xa0000000,0x0,};
+      jj_la1_1 = new int[] {0x20400022,0x0,0x10300104,0x10300104,0x8000,0x1100,0x0,0x0,0x1100,0x0,0x4008,0x0,0x0,0x0,0x4008,0x0,0x0,0x0,0x0,0x0,0x0,0x8000,0x0,0x0,0x0,0x40000000,0x10300000,0x0,0x40000000,0x0,0x0,0x8000000,0x0,0x8000000,0x0,0x0,0x8000000,0x0,0x0,0x0,0x0,0x0,0x0,0x1000000,0x5010000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80000000,0x0,0x0,0x0,0x0,0x0,0x1100,0x1100,0x0,0x0,0x80000000,0x0,0x0,0x0,0x0,0x0,0x8000000,0x0,0x0,0x0,0x1000,0x0,0x0,0x1100,0x1100,0x0,0x1100,0x0,0x4000,0x1100,0x0,0x0,0x0,0x1100,0x1100,0x0,};
    }
    private static void jj_la1_init_2() {
-      jj_la1_2 = new int[] {0x84000800,0x0,0x200000,0x2200000,0x0,0x0,0x0,0x0,0x0,0x100,0x0,0x0,0x0,0x100,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200000,0x0,0x0,0x200000,0x0,0x10,0x0,0x0,0x0,0x0,0x0,0x0,0x8,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2,0x1000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,};
+      jj_la1_2 = new int[] {0x20004000,0x0,0x1000000,0x11000000,0x0,0x0,0x0,0x0,0x0,0x0,0x800,0x0,0x0,0x0,0x800,0x0,0x0,0x0,0x0,0x2,0x0,0x0,0x0,0x0,0x40000,0x1000000,0x0,0x0,0x1000000,0x0,0x80,0x0,0x0,0x0,0x0,0x0,0x0,0x40,0x0,0x0,0x0,0x1,0x0,0x0,0x1,0x0,0x1,0x1,0x1,0x0,0x1,0x0,0x0,0x0,0x0,0x0,0x4,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4,0x10,0x8000000,0x0,0x0,0x0,0x0,0x0,0x0,0x5,0x5,0x0,};
    }
    private static void jj_la1_init_3() {
-      jj_la1_3 = new int[] {0x40000000,0x0,0xe00,0xe00,0x0,0x40000000,0x0,0x0,0x0,0xa,0x0,0x0,0x0,0xa,0x0,0x0,0x4030,0x0,0x0,0x0,0x0,0x40000,0x0,0xc00,0x0,0x0,0x0,0x0,0x0,0x20000,0x0,0x0,0x20000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8000000,0x0,0x0,0x0,0x0,0x0,0x0,0x8480000,0x0,0x40000000,0x40000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000,0x0,0x0,0x40000000,0x48480000,0x90,0x40000000,0x0,0x0,0x40000000,0x0,0x0,0x0,0x48480000,0x48480000,0x480000,};
+      jj_la1_3 = new int[] {0x4,0x0,0x7000,0x7000,0x0,0x0,0x0,0x0,0x0,0x0,0x50,0x0,0x0,0x0,0x50,0x0,0x0,0x20180,0x0,0x0,0x0,0x0,0x200000,0x0,0x0,0x0,0x6000,0x0,0x0,0x0,0x0,0x0,0x100000,0x0,0x0,0x100000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40000000,0x0,0x0,0x0,0x0,0x0,0x0,0x42400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100000,0x0,0x0,0x0,0x0,0x0,0x42400000,0x480,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x42400000,0x42400000,0x2400000,};
    }
    private static void jj_la1_init_4() {
-      jj_la1_4 = new int[] {0x0,0x20,0x0,0x0,0x0,0x2,0x40,0x40,0x40,0x0,0x0,0x40,0x40,0x0,0x8,0x8,0x0,0x0,0x0,0x8,0x0,0x0,0x0,0x0,0x40,0x8,0x40,0x0,0x0,0x0,0x0,0x40,0x0,0x0,0x0,0x8,0x0,0x8,0x0,0x1c04080,0x0,0x1c04080,0x40,0x0,0x0,0x0,0x4,0x0,0x80c00,0x300000,0x200,0xc00,0xc00,0x4,0x0,0x2,0x2,0x7c000,0x80c00,0x300000,0x400080,0x800000,0x1000000,0x40,0x0,0x0,0x1000,0x0,0x40,0x0,0x2,0x100c0e,0x0,0x2,0x40,0x0,0x2,0x40,0x0,0x0,0x100c0e,0x100c0e,0x0,};
+      jj_la1_4 = new int[] {0x2,0x100,0x0,0x0,0x0,0x12,0x200,0x200,0x12,0x200,0x0,0x0,0x200,0x200,0x0,0x40,0x40,0x0,0x0,0x0,0x40,0x0,0x0,0x200,0x0,0x0,0x0,0x200,0x40,0x200,0x0,0x0,0x0,0x0,0x200,0x0,0x0,0x0,0x40,0x0,0x40,0x0,0xe020400,0x0,0xe020400,0x200,0x0,0x0,0x0,0x20,0x0,0x406000,0x1800000,0x1000,0x6000,0x6000,0x20,0x0,0x12,0x12,0x3e0000,0x406000,0x1800000,0x2000400,0x4000000,0x8000000,0x200,0x0,0x0,0x8000,0x0,0x200,0x0,0x200,0x0,0x12,0x806072,0x0,0x12,0x200,0x0,0x12,0x200,0x0,0x0,0x806072,0x806072,0x0,};
    }
   final private JJCalls[] jj_2_rtns = new JJCalls[26];
   private boolean jj_rescan = false;
@@ -2963,7 +3115,7 @@ public class StreamSqlParser implements StreamSqlParserConstants {
     token = new Token();
     jj_ntk = -1;
     jj_gen = 0;
-    for (int i = 0; i < 83; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 88; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -2978,7 +3130,7 @@ public class StreamSqlParser implements StreamSqlParserConstants {
     token = new Token();
     jj_ntk = -1;
     jj_gen = 0;
-    for (int i = 0; i < 83; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 88; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -2989,7 +3141,7 @@ public class StreamSqlParser implements StreamSqlParserConstants {
     token = new Token();
     jj_ntk = -1;
     jj_gen = 0;
-    for (int i = 0; i < 83; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 88; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -3000,7 +3152,7 @@ public class StreamSqlParser implements StreamSqlParserConstants {
     token = new Token();
     jj_ntk = -1;
     jj_gen = 0;
-    for (int i = 0; i < 83; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 88; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -3010,7 +3162,7 @@ public class StreamSqlParser implements StreamSqlParserConstants {
     token = new Token();
     jj_ntk = -1;
     jj_gen = 0;
-    for (int i = 0; i < 83; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 88; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -3020,7 +3172,7 @@ public class StreamSqlParser implements StreamSqlParserConstants {
     token = new Token();
     jj_ntk = -1;
     jj_gen = 0;
-    for (int i = 0; i < 83; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 88; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -3135,12 +3287,12 @@ public class StreamSqlParser implements StreamSqlParserConstants {
   /** Generate ParseException. */
   public ParseException generateParseException() {
     jj_expentries.clear();
-    boolean[] la1tokens = new boolean[154];
+    boolean[] la1tokens = new boolean[157];
     if (jj_kind >= 0) {
       la1tokens[jj_kind] = true;
       jj_kind = -1;
     }
-    for (int i = 0; i < 83; i++) {
+    for (int i = 0; i < 88; i++) {
       if (jj_la1[i] == jj_gen) {
         for (int j = 0; j < 32; j++) {
           if ((jj_la1_0[i] & (1<<j)) != 0) {
@@ -3161,7 +3313,7 @@ public class StreamSqlParser implements StreamSqlParserConstants {
         }
       }
     }
-    for (int i = 0; i < 154; i++) {
+    for (int i = 0; i < 157; i++) {
       if (la1tokens[i]) {
         jj_expentry = new int[1];
         jj_expentry[0] = i;
@@ -11,257 +11,263 @@ public interface StreamSqlParserConstants {
   /** End of File. */
   int EOF = 0;
   /** RegularExpression Id. */
-  int K_ADVANCE = 5;
+  int K_ADD = 5;
   /** RegularExpression Id. */
-  int K_AFAP = 6;
+  int K_ADVANCE = 6;
   /** RegularExpression Id. */
-  int K_ALL = 7;
+  int K_AFAP = 7;
   /** RegularExpression Id. */
-  int K_ALTER = 8;
+  int K_ALL = 8;
   /** RegularExpression Id. */
-  int K_AND = 9;
+  int K_ALTER = 9;
   /** RegularExpression Id. */
-  int K_ANY = 10;
+  int K_AND = 10;
   /** RegularExpression Id. */
-  int K_ARRAY = 11;
+  int K_ANY = 11;
   /** RegularExpression Id. */
-  int K_AS = 12;
+  int K_ARRAY = 12;
   /** RegularExpression Id. */
-  int K_ASC = 13;
+  int K_AS = 13;
   /** RegularExpression Id. */
-  int K_AUTO_INCREMENT = 14;
+  int K_ASC = 14;
   /** RegularExpression Id. */
-  int K_BETWEEN = 15;
+  int K_AUTO_INCREMENT = 15;
   /** RegularExpression Id. */
-  int K_BOOLEAN = 16;
+  int K_BETWEEN = 16;
   /** RegularExpression Id. */
-  int K_BY = 17;
+  int K_BOOLEAN = 17;
   /** RegularExpression Id. */
-  int K_BYTE = 18;
+  int K_BY = 18;
   /** RegularExpression Id. */
-  int K_CHAR = 19;
+  int K_BYTE = 19;
   /** RegularExpression Id. */
-  int K_CLOSE = 20;
+  int K_CHAR = 20;
   /** RegularExpression Id. */
-  int K_COLUMN_FAMILY = 21;
+  int K_CLOSE = 21;
   /** RegularExpression Id. */
-  int K_COMPRESSED = 22;
+  int K_COLUMN_FAMILY = 22;
   /** RegularExpression Id. */
-  int K_CREATE = 23;
+  int K_COMPRESSED = 23;
   /** RegularExpression Id. */
-  int K_CURRENT = 24;
+  int K_CREATE = 24;
   /** RegularExpression Id. */
-  int K_DATABASES = 25;
+  int K_CURRENT = 25;
   /** RegularExpression Id. */
-  int K_DATE = 26;
+  int K_DATABASES = 26;
   /** RegularExpression Id. */
-  int K_DECIMAL = 27;
+  int K_DATE = 27;
   /** RegularExpression Id. */
-  int K_DELETE = 28;
+  int K_DECIMAL = 28;
   /** RegularExpression Id. */
-  int K_DESC = 29;
+  int K_DELETE = 29;
   /** RegularExpression Id. */
-  int K_DESCRIBE = 30;
+  int K_DESC = 30;
   /** RegularExpression Id. */
-  int K_DISTINCT = 31;
+  int K_DESCRIBE = 31;
   /** RegularExpression Id. */
-  int K_DOUBLE = 32;
+  int K_DISTINCT = 32;
   /** RegularExpression Id. */
-  int K_DROP = 33;
+  int K_DOUBLE = 33;
   /** RegularExpression Id. */
-  int K_ENGINE = 34;
+  int K_DROP = 34;
   /** RegularExpression Id. */
-  int K_ENGINES = 35;
+  int K_ENGINE = 35;
   /** RegularExpression Id. */
-  int K_ENUM = 36;
+  int K_ENGINES = 36;
   /** RegularExpression Id. */
-  int K_ESCAPE = 37;
+  int K_ENUM = 37;
   /** RegularExpression Id. */
-  int K_EXISTS = 38;
+  int K_ESCAPE = 38;
   /** RegularExpression Id. */
-  int K_FIXED_DELAY = 39;
+  int K_EXISTS = 39;
   /** RegularExpression Id. */
-  int K_FLOAT = 40;
+  int K_EXPLAIN = 40;
   /** RegularExpression Id. */
-  int K_FROM = 41;
+  int K_FIXED_DELAY = 41;
   /** RegularExpression Id. */
-  int K_HAVING = 42;
+  int K_FLOAT = 42;
   /** RegularExpression Id. */
-  int K_HISTOGRAM = 43;
+  int K_FROM = 43;
   /** RegularExpression Id. */
-  int K_IF = 44;
+  int K_GROUP = 44;
   /** RegularExpression Id. */
-  int K_IN = 45;
+  int K_HAVING = 45;
   /** RegularExpression Id. */
-  int K_IN_KEY = 46;
+  int K_HISTOGRAM = 46;
   /** RegularExpression Id. */
-  int K_INPUT = 47;
+  int K_IF = 47;
   /** RegularExpression Id. */
-  int K_INDEX = 48;
+  int K_IN = 48;
   /** RegularExpression Id. */
-  int K_INSERT = 49;
+  int K_IN_KEY = 49;
   /** RegularExpression Id. */
-  int K_INSERT_APPEND = 50;
+  int K_INPUT = 50;
   /** RegularExpression Id. */
-  int K_INT = 51;
+  int K_INDEX = 51;
   /** RegularExpression Id. */
-  int K_INTO = 52;
+  int K_INSERT = 52;
   /** RegularExpression Id. */
-  int K_IS = 53;
+  int K_INSERT_APPEND = 53;
   /** RegularExpression Id. */
-  int K_KEY = 54;
+  int K_INT = 54;
   /** RegularExpression Id. */
-  int K_LIKE = 55;
+  int K_INTO = 55;
   /** RegularExpression Id. */
-  int K_LIMIT = 56;
+  int K_IS = 56;
   /** RegularExpression Id. */
-  int K_LOAD = 57;
+  int K_KEY = 57;
   /** RegularExpression Id. */
-  int K_LONG = 58;
+  int K_LIKE = 58;
   /** RegularExpression Id. */
-  int K_MERGE = 59;
+  int K_LIMIT = 59;
   /** RegularExpression Id. */
-  int K_MOD = 60;
+  int K_LOAD = 60;
   /** RegularExpression Id. */
-  int K_NOT = 61;
+  int K_LONG = 61;
   /** RegularExpression Id. */
-  int K_NOFOLLOW = 62;
+  int K_MERGE = 62;
   /** RegularExpression Id. */
-  int K_NULL = 63;
+  int K_MOD = 63;
   /** RegularExpression Id. */
-  int K_NULLS = 64;
+  int K_NOT = 64;
   /** RegularExpression Id. */
-  int K_ON = 65;
+  int K_NOFOLLOW = 65;
   /** RegularExpression Id. */
-  int K_ONLY = 66;
+  int K_NULL = 66;
   /** RegularExpression Id. */
-  int K_OR = 67;
+  int K_NULLS = 67;
   /** RegularExpression Id. */
-  int K_ORDER = 68;
+  int K_ON = 68;
   /** RegularExpression Id. */
-  int K_ORIGINAL = 69;
+  int K_ONLY = 69;
   /** RegularExpression Id. */
-  int K_OUT = 70;
+  int K_OR = 70;
   /** RegularExpression Id. */
-  int K_OUTPUT = 71;
+  int K_ORDER = 71;
   /** RegularExpression Id. */
-  int K_PARTITION = 72;
+  int K_ORIGINAL = 72;
   /** RegularExpression Id. */
-  int K_PORT = 73;
+  int K_OUT = 73;
   /** RegularExpression Id. */
-  int K_PRIMARY = 74;
+  int K_OUTPUT = 74;
   /** RegularExpression Id. */
-  int K_PROTOBUF = 75;
+  int K_PARTITION = 75;
   /** RegularExpression Id. */
-  int K_RANGE = 76;
+  int K_PORT = 76;
   /** RegularExpression Id. */
-  int K_READ = 77;
+  int K_PRIMARY = 77;
   /** RegularExpression Id. */
-  int K_REAL = 78;
+  int K_PROTOBUF = 78;
   /** RegularExpression Id. */
-  int K_RENAME = 79;
+  int K_RANGE = 79;
   /** RegularExpression Id. */
-  int K_RESTART = 80;
+  int K_READ = 80;
   /** RegularExpression Id. */
-  int K_REVERSE = 81;
+  int K_REAL = 81;
   /** RegularExpression Id. */
-  int K_ROW = 82;
+  int K_RENAME = 82;
   /** RegularExpression Id. */
-  int K_ROWS = 83;
+  int K_RESTART = 83;
   /** RegularExpression Id. */
-  int K_SAMPLE = 84;
+  int K_REVERSE = 84;
   /** RegularExpression Id. */
-  int K_SELECT = 85;
+  int K_ROW = 85;
   /** RegularExpression Id. */
-  int K_SEQUENCE = 86;
+  int K_ROWS = 86;
   /** RegularExpression Id. */
-  int K_SET = 87;
+  int K_SAMPLE = 87;
   /** RegularExpression Id. */
-  int K_SIZE = 88;
+  int K_SELECT = 88;
   /** RegularExpression Id. */
-  int K_SHOW = 89;
+  int K_SEQUENCE = 89;
   /** RegularExpression Id. */
-  int K_SHRT = 90;
+  int K_SET = 90;
   /** RegularExpression Id. */
-  int K_SMALLINT = 91;
+  int K_SIZE = 91;
   /** RegularExpression Id. */
-  int K_SEQUENCES = 92;
+  int K_SHOW = 92;
   /** RegularExpression Id. */
-  int K_STREAM = 93;
+  int K_SHRT = 93;
   /** RegularExpression Id. */
-  int K_STREAMS = 94;
+  int K_SMALLINT = 94;
   /** RegularExpression Id. */
-  int K_STRING = 95;
+  int K_SEQUENCES = 95;
   /** RegularExpression Id. */
-  int K_TABLE = 96;
+  int K_STREAM = 96;
   /** RegularExpression Id. */
-  int K_TABLE_FORMAT = 97;
+  int K_STREAMS = 97;
   /** RegularExpression Id. */
-  int K_TABLES = 98;
+  int K_STRING = 98;
   /** RegularExpression Id. */
-  int K_TABLESPACE = 99;
+  int K_TABLE = 99;
   /** RegularExpression Id. */
-  int K_TIME = 100;
+  int K_TABLE_FORMAT = 100;
   /** RegularExpression Id. */
-  int K_TIME_AND_VALUE = 101;
+  int K_TABLES = 101;
   /** RegularExpression Id. */
-  int K_TO = 102;
+  int K_TABLESPACE = 102;
   /** RegularExpression Id. */
-  int K_TUPLES = 103;
+  int K_TIME = 103;
   /** RegularExpression Id. */
-  int K_UNIQUE = 104;
+  int K_TIME_AND_VALUE = 104;
   /** RegularExpression Id. */
-  int K_UPDATE = 105;
+  int K_TO = 105;
   /** RegularExpression Id. */
-  int K_UPSERT = 106;
+  int K_TUPLES = 106;
   /** RegularExpression Id. */
-  int K_UPSERT_APPEND = 107;
+  int K_UNIQUE = 107;
   /** RegularExpression Id. */
-  int K_USE = 108;
+  int K_UPDATE = 108;
   /** RegularExpression Id. */
-  int K_USING = 109;
+  int K_UPSERT = 109;
   /** RegularExpression Id. */
-  int K_VALUE = 110;
+  int K_UPSERT_APPEND = 110;
   /** RegularExpression Id. */
-  int K_VALUES = 111;
+  int K_USE = 111;
   /** RegularExpression Id. */
-  int K_WHEN = 112;
+  int K_USING = 112;
   /** RegularExpression Id. */
-  int K_WHERE = 113;
+  int K_VALUE = 113;
   /** RegularExpression Id. */
-  int K_WITH = 114;
+  int K_VALUES = 114;
   /** RegularExpression Id. */
-  int S_INTEGER = 115;
+  int K_WHEN = 115;
   /** RegularExpression Id. */
-  int DECIMAL_LITERAL = 116;
+  int K_WHERE = 116;
   /** RegularExpression Id. */
-  int HEX_LITERAL = 117;
+  int K_WITH = 117;
   /** RegularExpression Id. */
-  int S_FLOAT = 118;
+  int S_INTEGER = 118;
   /** RegularExpression Id. */
-  int EXPONENT = 119;
+  int DECIMAL_LITERAL = 119;
   /** RegularExpression Id. */
-  int DIGIT = 120;
+  int HEX_LITERAL = 120;
   /** RegularExpression Id. */
-  int HEX_DIGIT = 121;
+  int S_FLOAT = 121;
   /** RegularExpression Id. */
-  int SIGN = 122;
+  int EXPONENT = 122;
   /** RegularExpression Id. */
-  int S_STRING = 123;
+  int DIGIT = 123;
   /** RegularExpression Id. */
-  int LINE_COMMENT = 124;
+  int HEX_DIGIT = 124;
   /** RegularExpression Id. */
-  int MULTI_LINE_COMMENT = 125;
+  int SIGN = 125;
   /** RegularExpression Id. */
-  int S_IDENTIFIER = 126;
+  int S_STRING = 126;
   /** RegularExpression Id. */
-  int LETTER = 127;
+  int LINE_COMMENT = 127;
   /** RegularExpression Id. */
-  int SPECIAL_CHARS = 128;
+  int MULTI_LINE_COMMENT = 128;
   /** RegularExpression Id. */
-  int S_DOUBLE_QUOTED_IDENTIFIER = 129;
+  int S_IDENTIFIER = 129;
   /** RegularExpression Id. */
-  int S_QMARK = 130;
+  int LETTER = 130;
+  /** RegularExpression Id. */
+  int SPECIAL_CHARS = 131;
+  /** RegularExpression Id. */
+  int S_DOUBLE_QUOTED_IDENTIFIER = 132;
+  /** RegularExpression Id. */
+  int S_QMARK = 133;
 
   /** Lexical state. */
   int DEFAULT = 0;
@@ -273,6 +279,7 @@ public interface StreamSqlParserConstants {
     "\"\\t\"",
     "\"\\r\"",
     "\"\\n\"",
+    "\"ADD\"",
     "\"ADVANCE\"",
     "\"AFAP\"",
     "\"ALL\"",
@@ -307,9 +314,11 @@ public interface StreamSqlParserConstants {
     "\"ENUM\"",
     "\"ESCAPE\"",
     "\"EXISTS\"",
+    "\"EXPLAIN\"",
     "\"FIXED_DELAY\"",
     "\"FLOAT\"",
     "\"FROM\"",
+    "\"GROUP\"",
     "\"HAVING\"",
     "\"HISTOGRAM\"",
     "\"IF\"",
@@ -24,209 +24,209 @@ private final int jjStopStringLiteralDfa_0(int pos, long active0, long active1,
    switch (pos)
    {
       case 0:
-         if ((active2 & 0x200000L) != 0L)
+         if ((active2 & 0x1000000L) != 0L)
             return 16;
-         if ((active2 & 0x800L) != 0L)
-            return 13;
-         if ((active0 & 0xffffffffffffffe0L) != 0L || (active1 & 0x7ffffffffffffL) != 0L)
+         if ((active0 & 0xffffffffffffffe0L) != 0L || (active1 & 0x3fffffffffffffL) != 0L)
          {
-            jjmatchedKind = 126;
+            jjmatchedKind = 129;
             return 35;
          }
+         if ((active2 & 0x4000L) != 0L)
+            return 13;
          return -1;
       case 1:
-         if ((active0 & 0xffc00ffffff9cfe0L) != 0L || (active1 & 0x7ffbfffffffc1L) != 0L)
+         if ((active0 & 0xfe007ffffff39fe0L) != 0L || (active1 & 0x3ffdfffffffe0fL) != 0L)
          {
             if (jjmatchedPos != 1)
             {
-               jjmatchedKind = 126;
+               jjmatchedKind = 129;
                jjmatchedPos = 1;
             }
             return 35;
          }
-         if ((active0 & 0x3ff00000063000L) != 0L || (active1 & 0x400000003eL) != 0L)
+         if ((active0 & 0x1ff8000000c6000L) != 0L || (active1 & 0x200000001f0L) != 0L)
             return 35;
          return -1;
       case 2:
-         if ((active0 & 0xcf878ffffffdc960L) != 0L || (active1 & 0x7efbfff73ff35L) != 0L)
+         if ((active0 & 0x2000000000000L) != 0L)
          {
             if (jjmatchedPos != 2)
             {
-               jjmatchedKind = 126;
+               jjmatchedKind = 129;
                jjmatchedPos = 2;
             }
-            return 35;
+            return 24;
          }
-         if ((active0 & 0x400000000000L) != 0L)
+         if ((active0 & 0x7c3c7ffffffb92c0L) != 0L || (active1 & 0x3f7dfffb9ff9aeL) != 0L)
          {
             if (jjmatchedPos != 2)
             {
-               jjmatchedKind = 126;
+               jjmatchedKind = 129;
                jjmatchedPos = 2;
             }
-            return 24;
+            return 35;
          }
-         if ((active0 & 0x3058000000002680L) != 0L || (active1 & 0x1000008c00c0L) != 0L)
+         if ((active0 & 0x82c0000000004d20L) != 0L || (active1 & 0x800004600601L) != 0L)
             return 35;
          return -1;
       case 3:
-         if ((active0 & 0x86900212640c0040L) != 0L || (active1 & 0x5003003086205L) != 0L)
-            return 35;
-         if ((active0 & 0x400000000000L) != 0L)
+         if ((active0 & 0x483c77db37e39240L) != 0L || (active1 & 0x177c7fe39ced82L) != 0L)
          {
             if (jjmatchedPos != 3)
             {
-               jjmatchedKind = 126;
+               jjmatchedKind = 129;
                jjmatchedPos = 3;
             }
-            return 24;
+            return 35;
          }
-         if ((active0 & 0x49078ded9bf1c920L) != 0L || (active1 & 0x2ef8ffc739db0L) != 0L)
+         if ((active0 & 0x34800824c8180080L) != 0L || (active1 & 0x2801801843102cL) != 0L)
+            return 35;
+         if ((active0 & 0x2000000000000L) != 0L)
          {
             if (jjmatchedPos != 3)
             {
-               jjmatchedKind = 126;
+               jjmatchedKind = 129;
                jjmatchedPos = 3;
             }
-            return 35;
+            return 24;
          }
          return -1;
       case 4:
-         if ((active0 & 0x400000004000L) != 0L || (active1 & 0x2000000000L) != 0L)
+         if ((active0 & 0x3063dbb7c30040L) != 0L || (active1 & 0x7c07c39c6d02L) != 0L)
          {
             if (jjmatchedPos != 4)
             {
-               jjmatchedKind = 126;
+               jjmatchedKind = 129;
                jjmatchedPos = 4;
             }
-            return 24;
+            return 35;
          }
-         if ((active0 & 0x40060ceddbe18020L) != 0L || (active1 & 0xf80f8738da0L) != 0L)
+         if ((active0 & 0x2000000008000L) != 0L || (active1 & 0x10000000000L) != 0L)
          {
             if (jjmatchedPos != 4)
             {
-               jjmatchedKind = 126;
+               jjmatchedKind = 129;
                jjmatchedPos = 4;
             }
-            return 35;
+            return 24;
          }
-         if ((active0 & 0x901810000100900L) != 0L || (active1 & 0x2e00f04001011L) != 0L)
+         if ((active0 & 0x480c140000201200L) != 0L || (active1 & 0x17007820008088L) != 0L)
             return 35;
          return -1;
       case 5:
-         if ((active0 & 0x400000000000L) != 0L)
+         if ((active0 & 0x2000000000000L) != 0L)
             return 24;
-         if ((active0 & 0x40000800cb618020L) != 0L || (active1 & 0x18430d20L) != 0L)
+         if ((active0 & 0x20000008000L) != 0L || (active1 & 0x11000000000L) != 0L)
          {
             if (jjmatchedPos != 5)
             {
-               jjmatchedKind = 126;
+               jjmatchedKind = 129;
                jjmatchedPos = 5;
             }
-            return 35;
+            return 24;
          }
-         if ((active0 & 0x8000004000L) != 0L || (active1 & 0x2200000000L) != 0L)
+         if ((active0 & 0x410196c30040L) != 0L || (active1 & 0xc2186902L) != 0L)
          {
             if (jjmatchedPos != 5)
             {
-               jjmatchedKind = 126;
+               jjmatchedKind = 129;
                jjmatchedPos = 5;
             }
-            return 24;
+            return 35;
          }
-         if ((active0 & 0x6046d10800000L) != 0L || (active1 & 0x8f8ce0308080L) != 0L)
+         if ((active0 & 0x3020da21000000L) != 0L || (active1 & 0x47c6701840400L) != 0L)
             return 35;
          return -1;
       case 6:
-         if ((active0 & 0x809018020L) != 0L || (active1 & 0x40030400L) != 0L)
-            return 35;
-         if ((active0 & 0x4008000204000L) != 0L || (active1 & 0x82200000000L) != 0L)
+         if ((active0 & 0x400184800000L) != 0L || (active1 & 0x40c2004902L) != 0L)
          {
-            jjmatchedKind = 126;
+            jjmatchedKind = 129;
             jjmatchedPos = 6;
-            return 24;
+            return 35;
          }
-         if ((active0 & 0x40000800c2400000L) != 0L || (active1 & 0x818400920L) != 0L)
+         if ((active0 & 0x20020000408000L) != 0L || (active1 & 0x411000000000L) != 0L)
          {
-            jjmatchedKind = 126;
+            jjmatchedKind = 129;
             jjmatchedPos = 6;
-            return 35;
+            return 24;
          }
+         if ((active0 & 0x11012030040L) != 0L || (active1 & 0x200182000L) != 0L)
+            return 35;
          return -1;
       case 7:
-         if ((active0 & 0x4008000204000L) != 0L || (active1 & 0x82200000000L) != 0L)
+         if ((active0 & 0x400004800000L) != 0L || (active1 & 0x4000000800L) != 0L)
          {
             if (jjmatchedPos != 7)
             {
-               jjmatchedKind = 126;
+               jjmatchedKind = 129;
                jjmatchedPos = 7;
             }
-            return 24;
+            return 35;
          }
-         if ((active0 & 0x80002400000L) != 0L || (active1 & 0x800000100L) != 0L)
+         if ((active0 & 0x180000000L) != 0L || (active1 & 0xc2004102L) != 0L)
+            return 35;
+         if ((active0 & 0x20020000408000L) != 0L || (active1 & 0x411000000000L) != 0L)
          {
             if (jjmatchedPos != 7)
             {
-               jjmatchedKind = 126;
+               jjmatchedKind = 129;
                jjmatchedPos = 7;
             }
-            return 35;
+            return 24;
          }
-         if ((active0 & 0x40000000c0000000L) != 0L || (active1 & 0x18400820L) != 0L)
-            return 35;
          return -1;
       case 8:
-         if ((active0 & 0x400000L) != 0L || (active1 & 0x800000000L) != 0L)
+         if ((active0 & 0x20020000408000L) != 0L || (active1 & 0x411000000000L) != 0L)
          {
-            jjmatchedKind = 126;
+            jjmatchedKind = 129;
             jjmatchedPos = 8;
-            return 35;
+            return 24;
          }
-         if ((active0 & 0x4008000204000L) != 0L || (active1 & 0x82200000000L) != 0L)
+         if ((active0 & 0x800000L) != 0L || (active1 & 0x4000000000L) != 0L)
          {
-            jjmatchedKind = 126;
+            jjmatchedKind = 129;
             jjmatchedPos = 8;
-            return 24;
+            return 35;
          }
-         if ((active0 & 0x80002000000L) != 0L || (active1 & 0x10000100L) != 0L)
+         if ((active0 & 0x400004000000L) != 0L || (active1 & 0x80000800L) != 0L)
             return 35;
          return -1;
       case 9:
-         if ((active0 & 0x4008000204000L) != 0L || (active1 & 0x82200000000L) != 0L)
+         if ((active0 & 0x20020000408000L) != 0L || (active1 & 0x411000000000L) != 0L)
          {
-            jjmatchedKind = 126;
+            jjmatchedKind = 129;
             jjmatchedPos = 9;
             return 24;
          }
-         if ((active0 & 0x400000L) != 0L || (active1 & 0x800000000L) != 0L)
+         if ((active0 & 0x800000L) != 0L || (active1 & 0x4000000000L) != 0L)
             return 35;
          return -1;
       case 10:
-         if ((active0 & 0x8000000000L) != 0L)
+         if ((active0 & 0x20000000000L) != 0L)
             return 24;
-         if ((active0 & 0x4000000204000L) != 0L || (active1 & 0x82200000000L) != 0L)
+         if ((active0 & 0x20000000408000L) != 0L || (active1 & 0x411000000000L) != 0L)
          {
-            jjmatchedKind = 126;
+            jjmatchedKind = 129;
             jjmatchedPos = 10;
             return 24;
          }
          return -1;
       case 11:
-         if ((active1 & 0x200000000L) != 0L)
+         if ((active1 & 0x1000000000L) != 0L)
             return 24;
-         if ((active0 & 0x4000000204000L) != 0L || (active1 & 0x82000000000L) != 0L)
+         if ((active0 & 0x20000000408000L) != 0L || (active1 & 0x410000000000L) != 0L)
          {
-            jjmatchedKind = 126;
+            jjmatchedKind = 129;
             jjmatchedPos = 11;
             return 24;
          }
          return -1;
       case 12:
-         if ((active0 & 0x4000000200000L) != 0L || (active1 & 0x80000000000L) != 0L)
+         if ((active0 & 0x20000000400000L) != 0L || (active1 & 0x400000000000L) != 0L)
             return 24;
-         if ((active0 & 0x4000L) != 0L || (active1 & 0x2000000000L) != 0L)
+         if ((active0 & 0x8000L) != 0L || (active1 & 0x10000000000L) != 0L)
          {
-            jjmatchedKind = 126;
+            jjmatchedKind = 129;
             jjmatchedPos = 12;
             return 24;
          }
@@ -250,107 +250,110 @@ private int jjMoveStringLiteralDfa0_0()
    switch(curChar)
    {
       case 33:
-         return jjStopAtPos(0, 150);
+         return jjStopAtPos(0, 153);
       case 38:
-         return jjStopAtPos(0, 142);
+         return jjStopAtPos(0, 145);
       case 40:
-         return jjStopAtPos(0, 131);
+         return jjStopAtPos(0, 134);
       case 41:
-         return jjStopAtPos(0, 132);
+         return jjStopAtPos(0, 135);
       case 42:
-         jjmatchedKind = 148;
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x200L);
+         jjmatchedKind = 151;
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x1000L);
       case 43:
-         return jjStopAtPos(0, 138);
+         return jjStopAtPos(0, 141);
       case 44:
-         return jjStopAtPos(0, 134);
+         return jjStopAtPos(0, 137);
       case 45:
-         return jjStartNfaWithStates_0(0, 139, 13);
+         return jjStartNfaWithStates_0(0, 142, 13);
       case 47:
-         return jjStartNfaWithStates_0(0, 149, 16);
+         return jjStartNfaWithStates_0(0, 152, 16);
       case 58:
-         return jjStopAtPos(0, 136);
+         return jjStopAtPos(0, 139);
       case 60:
-         jjmatchedKind = 152;
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x20000L);
+         jjmatchedKind = 155;
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x100000L);
       case 61:
-         jjmatchedKind = 135;
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x2000000L);
+         jjmatchedKind = 138;
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x10000000L);
       case 62:
-         jjmatchedKind = 151;
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x40000L);
+         jjmatchedKind = 154;
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x200000L);
       case 63:
-         return jjStopAtPos(0, 130);
+         return jjStopAtPos(0, 133);
       case 91:
-         jjmatchedKind = 140;
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x20L);
+         jjmatchedKind = 143;
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x100L);
       case 93:
-         return jjStopAtPos(0, 141);
-      case 94:
          return jjStopAtPos(0, 144);
+      case 94:
+         return jjStopAtPos(0, 147);
       case 65:
       case 97:
-         return jjMoveStringLiteralDfa1_0(0x7fe0L, 0x0L, 0x0L);
+         return jjMoveStringLiteralDfa1_0(0xffe0L, 0x0L, 0x0L);
       case 66:
       case 98:
-         return jjMoveStringLiteralDfa1_0(0x78000L, 0x0L, 0x0L);
+         return jjMoveStringLiteralDfa1_0(0xf0000L, 0x0L, 0x0L);
       case 67:
       case 99:
-         return jjMoveStringLiteralDfa1_0(0x1f80000L, 0x0L, 0x0L);
+         return jjMoveStringLiteralDfa1_0(0x3f00000L, 0x0L, 0x0L);
       case 68:
       case 100:
-         return jjMoveStringLiteralDfa1_0(0x3fe000000L, 0x0L, 0x0L);
+         return jjMoveStringLiteralDfa1_0(0x7fc000000L, 0x0L, 0x0L);
       case 69:
       case 101:
-         return jjMoveStringLiteralDfa1_0(0x7c00000000L, 0x0L, 0x0L);
+         return jjMoveStringLiteralDfa1_0(0x1f800000000L, 0x0L, 0x0L);
       case 70:
       case 102:
-         return jjMoveStringLiteralDfa1_0(0x38000000000L, 0x0L, 0x0L);
+         return jjMoveStringLiteralDfa1_0(0xe0000000000L, 0x0L, 0x0L);
+      case 71:
+      case 103:
+         return jjMoveStringLiteralDfa1_0(0x100000000000L, 0x0L, 0x0L);
       case 72:
       case 104:
-         return jjMoveStringLiteralDfa1_0(0xc0000000000L, 0x0L, 0x0L);
+         return jjMoveStringLiteralDfa1_0(0x600000000000L, 0x0L, 0x0L);
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa1_0(0x3ff00000000000L, 0x0L, 0x0L);
+         return jjMoveStringLiteralDfa1_0(0x1ff800000000000L, 0x0L, 0x0L);
       case 75:
       case 107:
-         return jjMoveStringLiteralDfa1_0(0x40000000000000L, 0x0L, 0x0L);
+         return jjMoveStringLiteralDfa1_0(0x200000000000000L, 0x0L, 0x0L);
       case 76:
       case 108:
-         return jjMoveStringLiteralDfa1_0(0x780000000000000L, 0x0L, 0x0L);
+         return jjMoveStringLiteralDfa1_0(0x3c00000000000000L, 0x0L, 0x0L);
       case 77:
       case 109:
-         return jjMoveStringLiteralDfa1_0(0x1800000000000000L, 0x0L, 0x0L);
+         return jjMoveStringLiteralDfa1_0(0xc000000000000000L, 0x0L, 0x0L);
       case 78:
       case 110:
-         return jjMoveStringLiteralDfa1_0(0xe000000000000000L, 0x1L, 0x0L);
+         return jjMoveStringLiteralDfa1_0(0x0L, 0xfL, 0x0L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa1_0(0x0L, 0xfeL, 0x0L);
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x7f0L, 0x0L);
       case 80:
       case 112:
-         return jjMoveStringLiteralDfa1_0(0x0L, 0xf00L, 0x0L);
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x7800L, 0x0L);
       case 82:
       case 114:
-         return jjMoveStringLiteralDfa1_0(0x0L, 0xff000L, 0x0L);
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x7f8000L, 0x0L);
       case 83:
       case 115:
-         return jjMoveStringLiteralDfa1_0(0x0L, 0xfff00000L, 0x0L);
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x7ff800000L, 0x0L);
       case 84:
       case 116:
-         return jjMoveStringLiteralDfa1_0(0x0L, 0xff00000000L, 0x0L);
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x7f800000000L, 0x0L);
       case 85:
       case 117:
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x3f0000000000L, 0x0L);
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x1f80000000000L, 0x0L);
       case 86:
       case 118:
-         return jjMoveStringLiteralDfa1_0(0x0L, 0xc00000000000L, 0x0L);
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x6000000000000L, 0x0L);
       case 87:
       case 119:
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x7000000000000L, 0x0L);
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x38000000000000L, 0x0L);
       case 124:
-         jjmatchedKind = 143;
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x80000L);
+         jjmatchedKind = 146;
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x400000L);
       default :
          return jjMoveNfa_0(0, 0);
    }
@@ -365,108 +368,108 @@ private int jjMoveStringLiteralDfa1_0(long active0, long active1, long active2)
    switch(curChar)
    {
       case 42:
-         if ((active2 & 0x200L) != 0L)
-            return jjStopAtPos(1, 137);
+         if ((active2 & 0x1000L) != 0L)
+            return jjStopAtPos(1, 140);
          break;
       case 60:
-         if ((active2 & 0x20000L) != 0L)
-            return jjStopAtPos(1, 145);
+         if ((active2 & 0x100000L) != 0L)
+            return jjStopAtPos(1, 148);
          break;
       case 62:
-         if ((active2 & 0x40000L) != 0L)
-            return jjStopAtPos(1, 146);
-         else if ((active2 & 0x2000000L) != 0L)
-            return jjStopAtPos(1, 153);
+         if ((active2 & 0x200000L) != 0L)
+            return jjStopAtPos(1, 149);
+         else if ((active2 & 0x10000000L) != 0L)
+            return jjStopAtPos(1, 156);
          break;
       case 93:
-         if ((active2 & 0x20L) != 0L)
-            return jjStopAtPos(1, 133);
+         if ((active2 & 0x100L) != 0L)
+            return jjStopAtPos(1, 136);
          break;
       case 65:
       case 97:
-         return jjMoveStringLiteralDfa2_0(active0, 0x40006000000L, active1, 0xc00f00101100L, active2, 0L);
+         return jjMoveStringLiteralDfa2_0(active0, 0x20000c000000L, active1, 0x6007800808800L, active2, 0L);
       case 68:
       case 100:
-         return jjMoveStringLiteralDfa2_0(active0, 0x20L, active1, 0L, active2, 0L);
+         return jjMoveStringLiteralDfa2_0(active0, 0x60L, active1, 0L, active2, 0L);
       case 69:
       case 101:
-         return jjMoveStringLiteralDfa2_0(active0, 0x840000078008000L, active1, 0x10e3e000L, active2, 0L);
+         return jjMoveStringLiteralDfa2_0(active0, 0x42000000f0010000L, active1, 0x871f0000L, active2, 0L);
       case 70:
       case 102:
-         if ((active0 & 0x100000000000L) != 0L)
-            return jjStartNfaWithStates_0(1, 44, 35);
-         return jjMoveStringLiteralDfa2_0(active0, 0x40L, active1, 0L, active2, 0L);
+         if ((active0 & 0x800000000000L) != 0L)
+            return jjStartNfaWithStates_0(1, 47, 35);
+         return jjMoveStringLiteralDfa2_0(active0, 0x80L, active1, 0L, active2, 0L);
       case 72:
       case 104:
-         return jjMoveStringLiteralDfa2_0(active0, 0x80000L, active1, 0x3000006000000L, active2, 0L);
+         return jjMoveStringLiteralDfa2_0(active0, 0x100000L, active1, 0x18000030000000L, active2, 0L);
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa2_0(active0, 0x180088080000000L, active1, 0x4003001000000L, active2, 0L);
+         return jjMoveStringLiteralDfa2_0(active0, 0xc00420100000000L, active1, 0x20018008000000L, active2, 0L);
       case 76:
       case 108:
-         return jjMoveStringLiteralDfa2_0(active0, 0x10000100180L, active1, 0L, active2, 0L);
+         return jjMoveStringLiteralDfa2_0(active0, 0x40000200300L, active1, 0L, active2, 0L);
       case 77:
       case 109:
-         return jjMoveStringLiteralDfa2_0(active0, 0L, active1, 0x8000000L, active2, 0L);
+         return jjMoveStringLiteralDfa2_0(active0, 0L, active1, 0x40000000L, active2, 0L);
       case 78:
       case 110:
-         if ((active0 & 0x200000000000L) != 0L)
+         if ((active0 & 0x1000000000000L) != 0L)
          {
-            jjmatchedKind = 45;
+            jjmatchedKind = 48;
             jjmatchedPos = 1;
          }
-         else if ((active1 & 0x2L) != 0L)
+         else if ((active1 & 0x10L) != 0L)
          {
-            jjmatchedKind = 65;
+            jjmatchedKind = 68;
             jjmatchedPos = 1;
          }
-         return jjMoveStringLiteralDfa2_0(active0, 0x1fc01c00000600L, active1, 0x10000000004L, active2, 0L);
+         return jjMoveStringLiteralDfa2_0(active0, 0xfe003800000c00L, active1, 0x80000000020L, active2, 0L);
       case 79:
       case 111:
-         if ((active1 & 0x4000000000L) != 0L)
-            return jjStartNfaWithStates_0(1, 102, 35);
-         return jjMoveStringLiteralDfa2_0(active0, 0x7600000100610000L, active1, 0xc0200L, active2, 0L);
+         if ((active1 & 0x20000000000L) != 0L)
+            return jjStartNfaWithStates_0(1, 105, 35);
+         return jjMoveStringLiteralDfa2_0(active0, 0xb000000200c20000L, active1, 0x601003L, active2, 0L);
       case 80:
       case 112:
-         return jjMoveStringLiteralDfa2_0(active0, 0L, active1, 0xe0000000000L, active2, 0L);
+         return jjMoveStringLiteralDfa2_0(active0, 0L, active1, 0x700000000000L, active2, 0L);
       case 82:
       case 114:
-         if ((active1 & 0x8L) != 0L)
+         if ((active1 & 0x40L) != 0L)
          {
-            jjmatchedKind = 67;
+            jjmatchedKind = 70;
             jjmatchedPos = 1;
          }
-         return jjMoveStringLiteralDfa2_0(active0, 0x20200800800L, active1, 0xc30L, active2, 0L);
+         return jjMoveStringLiteralDfa2_0(active0, 0x180401001000L, active1, 0x6180L, active2, 0L);
       case 83:
       case 115:
-         if ((active0 & 0x1000L) != 0L)
+         if ((active0 & 0x2000L) != 0L)
          {
-            jjmatchedKind = 12;
+            jjmatchedKind = 13;
             jjmatchedPos = 1;
          }
-         else if ((active0 & 0x20000000000000L) != 0L)
-            return jjStartNfaWithStates_0(1, 53, 35);
-         return jjMoveStringLiteralDfa2_0(active0, 0x2000002000L, active1, 0x300000000000L, active2, 0L);
+         else if ((active0 & 0x100000000000000L) != 0L)
+            return jjStartNfaWithStates_0(1, 56, 35);
+         return jjMoveStringLiteralDfa2_0(active0, 0x4000004000L, active1, 0x1800000000000L, active2, 0L);
       case 84:
       case 116:
-         return jjMoveStringLiteralDfa2_0(active0, 0L, active1, 0xe0000000L, active2, 0L);
+         return jjMoveStringLiteralDfa2_0(active0, 0L, active1, 0x700000000L, active2, 0L);
       case 85:
       case 117:
-         return jjMoveStringLiteralDfa2_0(active0, 0x8000000001004000L, active1, 0x80000000c1L, active2, 0L);
+         return jjMoveStringLiteralDfa2_0(active0, 0x2008000L, active1, 0x4000000060cL, active2, 0L);
       case 88:
       case 120:
-         return jjMoveStringLiteralDfa2_0(active0, 0x4000000000L, active1, 0L, active2, 0L);
+         return jjMoveStringLiteralDfa2_0(active0, 0x18000000000L, active1, 0L, active2, 0L);
       case 89:
       case 121:
-         if ((active0 & 0x20000L) != 0L)
+         if ((active0 & 0x40000L) != 0L)
          {
-            jjmatchedKind = 17;
+            jjmatchedKind = 18;
             jjmatchedPos = 1;
          }
-         return jjMoveStringLiteralDfa2_0(active0, 0x40000L, active1, 0L, active2, 0L);
+         return jjMoveStringLiteralDfa2_0(active0, 0x80000L, active1, 0L, active2, 0L);
       case 124:
-         if ((active2 & 0x80000L) != 0L)
-            return jjStopAtPos(1, 147);
+         if ((active2 & 0x400000L) != 0L)
+            return jjStopAtPos(1, 150);
          break;
       default :
          break;
@@ -485,112 +488,114 @@ private int jjMoveStringLiteralDfa2_0(long old0, long active0, long old1, long a
    switch(curChar)
    {
       case 95:
-         return jjMoveStringLiteralDfa3_0(active0, 0x400000000000L, active1, 0L);
+         return jjMoveStringLiteralDfa3_0(active0, 0x2000000000000L, active1, 0L);
       case 65:
       case 97:
-         return jjMoveStringLiteralDfa3_0(active0, 0x200000000080040L, active1, 0x8006000L);
+         return jjMoveStringLiteralDfa3_0(active0, 0x1000000000100080L, active1, 0x40030000L);
       case 66:
       case 98:
-         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0xf00000000L);
+         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0x7800000000L);
       case 67:
       case 99:
-         if ((active0 & 0x2000L) != 0L)
-            return jjStartNfaWithStates_0(2, 13, 35);
-         return jjMoveStringLiteralDfa3_0(active0, 0x2008000000L, active1, 0L);
+         if ((active0 & 0x4000L) != 0L)
+            return jjStartNfaWithStates_0(2, 14, 35);
+         return jjMoveStringLiteralDfa3_0(active0, 0x4010000000L, active1, 0L);
       case 68:
       case 100:
-         if ((active0 & 0x200L) != 0L)
-            return jjStartNfaWithStates_0(2, 9, 35);
-         else if ((active0 & 0x1000000000000000L) != 0L)
-            return jjStartNfaWithStates_0(2, 60, 35);
-         return jjMoveStringLiteralDfa3_0(active0, 0x1000000000000L, active1, 0x20000000010L);
+         if ((active0 & 0x20L) != 0L)
+            return jjStartNfaWithStates_0(2, 5, 35);
+         else if ((active0 & 0x400L) != 0L)
+            return jjStartNfaWithStates_0(2, 10, 35);
+         else if ((active0 & 0x8000000000000000L) != 0L)
+            return jjStartNfaWithStates_0(2, 63, 35);
+         return jjMoveStringLiteralDfa3_0(active0, 0x8000000000000L, active1, 0x100000000080L);
       case 69:
       case 101:
-         if ((active1 & 0x100000000000L) != 0L)
-            return jjStartNfaWithStates_0(2, 108, 35);
-         return jjMoveStringLiteralDfa3_0(active0, 0x800000L, active1, 0x3000000000000L);
+         if ((active1 & 0x800000000000L) != 0L)
+            return jjStartNfaWithStates_0(2, 111, 35);
+         return jjMoveStringLiteralDfa3_0(active0, 0x1000000L, active1, 0x18000000000000L);
       case 70:
       case 102:
-         return jjMoveStringLiteralDfa3_0(active0, 0x4000000000000000L, active1, 0L);
+         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0x2L);
       case 71:
       case 103:
-         return jjMoveStringLiteralDfa3_0(active0, 0xc00000000L, active1, 0L);
+         return jjMoveStringLiteralDfa3_0(active0, 0x1800000000L, active1, 0L);
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa3_0(active0, 0x4000000000L, active1, 0x210000000420L);
+         return jjMoveStringLiteralDfa3_0(active0, 0x8000000000L, active1, 0x1080000002100L);
       case 75:
       case 107:
-         return jjMoveStringLiteralDfa3_0(active0, 0x80000000000000L, active1, 0L);
+         return jjMoveStringLiteralDfa3_0(active0, 0x400000000000000L, active1, 0L);
       case 76:
       case 108:
-         if ((active0 & 0x80L) != 0L)
-            return jjStartNfaWithStates_0(2, 7, 35);
-         return jjMoveStringLiteralDfa3_0(active0, 0x8000000010200000L, active1, 0xc00000200005L);
+         if ((active0 & 0x100L) != 0L)
+            return jjStartNfaWithStates_0(2, 8, 35);
+         return jjMoveStringLiteralDfa3_0(active0, 0x20400000L, active1, 0x600000100002cL);
       case 77:
       case 109:
-         return jjMoveStringLiteralDfa3_0(active0, 0x100000000400000L, active1, 0x3000100000L);
+         return jjMoveStringLiteralDfa3_0(active0, 0x800000000800000L, active1, 0x18000800000L);
       case 78:
       case 110:
-         return jjMoveStringLiteralDfa3_0(active0, 0x400000000000000L, active1, 0x9000L);
+         return jjMoveStringLiteralDfa3_0(active0, 0x2000000000000000L, active1, 0x48000L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa3_0(active0, 0x30200110000L, active1, 0x6000800L);
+         return jjMoveStringLiteralDfa3_0(active0, 0x1c0400220000L, active1, 0x30004000L);
       case 80:
       case 112:
-         return jjMoveStringLiteralDfa3_0(active0, 0x800000000000L, active1, 0x8000000000L);
+         return jjMoveStringLiteralDfa3_0(active0, 0x4010000000000L, active1, 0x40000000000L);
       case 81:
       case 113:
-         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0x10400000L);
+         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0x82000000L);
       case 82:
       case 114:
-         return jjMoveStringLiteralDfa3_0(active0, 0x800000001000800L, active1, 0xe0000300L);
+         return jjMoveStringLiteralDfa3_0(active0, 0x4000000002001000L, active1, 0x700001800L);
       case 83:
       case 115:
-         return jjMoveStringLiteralDfa3_0(active0, 0x60800e0000000L, active1, 0xc0000010000L);
+         return jjMoveStringLiteralDfa3_0(active0, 0x304001c0000000L, active1, 0x600000080000L);
       case 84:
       case 116:
-         if ((active0 & 0x8000000000000L) != 0L)
+         if ((active0 & 0x40000000000000L) != 0L)
          {
-            jjmatchedKind = 51;
+            jjmatchedKind = 54;
             jjmatchedPos = 2;
          }
-         else if ((active0 & 0x2000000000000000L) != 0L)
-            return jjStartNfaWithStates_0(2, 61, 35);
-         else if ((active1 & 0x40L) != 0L)
+         else if ((active1 & 0x1L) != 0L)
+            return jjStartNfaWithStates_0(2, 64, 35);
+         else if ((active1 & 0x200L) != 0L)
          {
-            jjmatchedKind = 70;
+            jjmatchedKind = 73;
             jjmatchedPos = 2;
          }
-         else if ((active1 & 0x800000L) != 0L)
-            return jjStartNfaWithStates_0(2, 87, 35);
-         return jjMoveStringLiteralDfa3_0(active0, 0x1000000604c100L, active1, 0x4000000000080L);
+         else if ((active1 & 0x4000000L) != 0L)
+            return jjStartNfaWithStates_0(2, 90, 35);
+         return jjMoveStringLiteralDfa3_0(active0, 0x8000000c098200L, active1, 0x20000000000400L);
       case 85:
       case 117:
-         return jjMoveStringLiteralDfa3_0(active0, 0x1100000000L, active1, 0L);
+         return jjMoveStringLiteralDfa3_0(active0, 0x2200000000L, active1, 0L);
       case 86:
       case 118:
-         return jjMoveStringLiteralDfa3_0(active0, 0x40000000020L, active1, 0x20000L);
+         return jjMoveStringLiteralDfa3_0(active0, 0x200000000040L, active1, 0x100000L);
       case 87:
       case 119:
-         if ((active1 & 0x40000L) != 0L)
+         if ((active1 & 0x200000L) != 0L)
          {
-            jjmatchedKind = 82;
+            jjmatchedKind = 85;
             jjmatchedPos = 2;
          }
-         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0x80000L);
+         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0x400000L);
       case 88:
       case 120:
-         return jjMoveStringLiteralDfa3_0(active0, 0x8000000000L, active1, 0L);
+         return jjMoveStringLiteralDfa3_0(active0, 0x20000000000L, active1, 0L);
       case 89:
       case 121:
-         if ((active0 & 0x400L) != 0L)
-            return jjStartNfaWithStates_0(2, 10, 35);
-         else if ((active0 & 0x40000000000000L) != 0L)
-            return jjStartNfaWithStates_0(2, 54, 35);
+         if ((active0 & 0x800L) != 0L)
+            return jjStartNfaWithStates_0(2, 11, 35);
+         else if ((active0 & 0x200000000000000L) != 0L)
+            return jjStartNfaWithStates_0(2, 57, 35);
          break;
       case 90:
       case 122:
-         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0x1000000L);
+         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0x8000000L);
       default :
          break;
    }
@@ -609,121 +614,121 @@ private int jjMoveStringLiteralDfa3_0(long old0, long active0, long old1, long a
    {
       case 65:
       case 97:
-         return jjMoveStringLiteralDfa4_0(active0, 0x12002800820L, active1, 0x20000008000L);
+         return jjMoveStringLiteralDfa4_0(active0, 0x44005001040L, active1, 0x100000040000L);
       case 66:
       case 98:
-         return jjMoveStringLiteralDfa4_0(active0, 0x100000000L, active1, 0L);
+         return jjMoveStringLiteralDfa4_0(active0, 0x200000000L, active1, 0L);
       case 67:
       case 99:
-         if ((active0 & 0x20000000L) != 0L)
+         if ((active0 & 0x40000000L) != 0L)
          {
-            jjmatchedKind = 29;
+            jjmatchedKind = 30;
             jjmatchedPos = 3;
          }
-         return jjMoveStringLiteralDfa4_0(active0, 0x40000000L, active1, 0L);
+         return jjMoveStringLiteralDfa4_0(active0, 0x80000000L, active1, 0L);
       case 68:
       case 100:
-         if ((active0 & 0x200000000000000L) != 0L)
-            return jjStartNfaWithStates_0(3, 57, 35);
-         else if ((active1 & 0x2000L) != 0L)
-            return jjStartNfaWithStates_0(3, 77, 35);
+         if ((active0 & 0x1000000000000000L) != 0L)
+            return jjStartNfaWithStates_0(3, 60, 35);
+         else if ((active1 & 0x10000L) != 0L)
+            return jjStartNfaWithStates_0(3, 80, 35);
          break;
       case 69:
       case 101:
-         if ((active0 & 0x40000L) != 0L)
-            return jjStartNfaWithStates_0(3, 18, 35);
-         else if ((active0 & 0x4000000L) != 0L)
-            return jjStartNfaWithStates_0(3, 26, 35);
-         else if ((active0 & 0x80000000000000L) != 0L)
-            return jjStartNfaWithStates_0(3, 55, 35);
-         else if ((active1 & 0x1000000L) != 0L)
-            return jjStartNfaWithStates_0(3, 88, 35);
-         else if ((active1 & 0x1000000000L) != 0L)
+         if ((active0 & 0x80000L) != 0L)
+            return jjStartNfaWithStates_0(3, 19, 35);
+         else if ((active0 & 0x8000000L) != 0L)
+            return jjStartNfaWithStates_0(3, 27, 35);
+         else if ((active0 & 0x400000000000000L) != 0L)
+            return jjStartNfaWithStates_0(3, 58, 35);
+         else if ((active1 & 0x8000000L) != 0L)
+            return jjStartNfaWithStates_0(3, 91, 35);
+         else if ((active1 & 0x8000000000L) != 0L)
          {
-            jjmatchedKind = 100;
+            jjmatchedKind = 103;
             jjmatchedPos = 3;
          }
-         return jjMoveStringLiteralDfa4_0(active0, 0x7008010000100L, active1, 0xc2060220010L);
+         return jjMoveStringLiteralDfa4_0(active0, 0x38020020000200L, active1, 0x610301100080L);
       case 71:
       case 103:
-         if ((active0 & 0x400000000000000L) != 0L)
-            return jjStartNfaWithStates_0(3, 58, 35);
-         return jjMoveStringLiteralDfa4_0(active0, 0x800000000000000L, active1, 0x1020L);
+         if ((active0 & 0x2000000000000000L) != 0L)
+            return jjStartNfaWithStates_0(3, 61, 35);
+         return jjMoveStringLiteralDfa4_0(active0, 0x4000000000000000L, active1, 0x8100L);
       case 72:
       case 104:
-         if ((active1 & 0x4000000000000L) != 0L)
-            return jjStartNfaWithStates_0(3, 114, 35);
+         if ((active1 & 0x20000000000000L) != 0L)
+            return jjStartNfaWithStates_0(3, 117, 35);
          break;
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa4_0(active0, 0x100040c08000000L, active1, 0x80000000L);
+         return jjMoveStringLiteralDfa4_0(active0, 0x800201810000000L, active1, 0x400000000L);
       case 75:
       case 107:
-         return jjMoveStringLiteralDfa4_0(active0, 0x400000000000L, active1, 0L);
+         return jjMoveStringLiteralDfa4_0(active0, 0x2000000000000L, active1, 0L);
       case 76:
       case 108:
-         if ((active0 & 0x8000000000000000L) != 0L)
+         if ((active1 & 0x4L) != 0L)
          {
-            jjmatchedKind = 63;
+            jjmatchedKind = 66;
             jjmatchedPos = 3;
          }
-         else if ((active1 & 0x4000L) != 0L)
-            return jjStartNfaWithStates_0(3, 78, 35);
-         return jjMoveStringLiteralDfa4_0(active0, 0x10000L, active1, 0x8f08000001L);
+         else if ((active1 & 0x20000L) != 0L)
+            return jjStartNfaWithStates_0(3, 81, 35);
+         return jjMoveStringLiteralDfa4_0(active0, 0x10000020000L, active1, 0x47840000008L);
       case 77:
       case 109:
-         if ((active0 & 0x1000000000L) != 0L)
-            return jjStartNfaWithStates_0(3, 36, 35);
-         else if ((active0 & 0x20000000000L) != 0L)
-            return jjStartNfaWithStates_0(3, 41, 35);
-         return jjMoveStringLiteralDfa4_0(active0, 0L, active1, 0x400L);
+         if ((active0 & 0x2000000000L) != 0L)
+            return jjStartNfaWithStates_0(3, 37, 35);
+         else if ((active0 & 0x80000000000L) != 0L)
+            return jjStartNfaWithStates_0(3, 43, 35);
+         return jjMoveStringLiteralDfa4_0(active0, 0L, active1, 0x2000L);
       case 78:
       case 110:
-         if ((active1 & 0x1000000000000L) != 0L)
-            return jjStartNfaWithStates_0(3, 112, 35);
-         return jjMoveStringLiteralDfa4_0(active0, 0L, active1, 0x200000000000L);
+         if ((active1 & 0x8000000000000L) != 0L)
+            return jjStartNfaWithStates_0(3, 115, 35);
+         return jjMoveStringLiteralDfa4_0(active0, 0L, active1, 0x1000000000000L);
       case 79:
       case 111:
-         if ((active0 & 0x10000000000000L) != 0L)
-            return jjStartNfaWithStates_0(3, 52, 35);
-         return jjMoveStringLiteralDfa4_0(active0, 0x4000000000004000L, active1, 0L);
+         if ((active0 & 0x80000000000000L) != 0L)
+            return jjStartNfaWithStates_0(3, 55, 35);
+         return jjMoveStringLiteralDfa4_0(active0, 0x8000L, active1, 0x2L);
       case 80:
       case 112:
-         if ((active0 & 0x40L) != 0L)
-            return jjStartNfaWithStates_0(3, 6, 35);
-         else if ((active0 & 0x200000000L) != 0L)
-            return jjStartNfaWithStates_0(3, 33, 35);
-         return jjMoveStringLiteralDfa4_0(active0, 0x400000L, active1, 0x100080L);
+         if ((active0 & 0x80L) != 0L)
+            return jjStartNfaWithStates_0(3, 7, 35);
+         else if ((active0 & 0x400000000L) != 0L)
+            return jjStartNfaWithStates_0(3, 34, 35);
+         return jjMoveStringLiteralDfa4_0(active0, 0x800000L, active1, 0x800400L);
       case 81:
       case 113:
-         return jjMoveStringLiteralDfa4_0(active0, 0L, active1, 0x10000000000L);
+         return jjMoveStringLiteralDfa4_0(active0, 0L, active1, 0x80000000000L);
       case 82:
       case 114:
-         if ((active0 & 0x80000L) != 0L)
-            return jjStartNfaWithStates_0(3, 19, 35);
-         return jjMoveStringLiteralDfa4_0(active0, 0x1000000L, active1, 0x2000004000000L);
+         if ((active0 & 0x100000L) != 0L)
+            return jjStartNfaWithStates_0(3, 20, 35);
+         return jjMoveStringLiteralDfa4_0(active0, 0x2000000L, active1, 0x10000020000000L);
       case 83:
       case 115:
-         if ((active1 & 0x80000L) != 0L)
-            return jjStartNfaWithStates_0(3, 83, 35);
-         return jjMoveStringLiteralDfa4_0(active0, 0x4000100000L, active1, 0L);
+         if ((active1 & 0x400000L) != 0L)
+            return jjStartNfaWithStates_0(3, 86, 35);
+         return jjMoveStringLiteralDfa4_0(active0, 0x8000200000L, active1, 0L);
       case 84:
       case 116:
-         if ((active1 & 0x200L) != 0L)
-            return jjStartNfaWithStates_0(3, 73, 35);
-         return jjMoveStringLiteralDfa4_0(active0, 0x80080000000L, active1, 0x10900L);
+         if ((active1 & 0x1000L) != 0L)
+            return jjStartNfaWithStates_0(3, 76, 35);
+         return jjMoveStringLiteralDfa4_0(active0, 0x400100000000L, active1, 0x84800L);
       case 85:
       case 117:
-         return jjMoveStringLiteralDfa4_0(active0, 0x800000200000L, active1, 0xc00010400000L);
+         return jjMoveStringLiteralDfa4_0(active0, 0x4100000400000L, active1, 0x6000082000000L);
       case 87:
       case 119:
-         if ((active1 & 0x2000000L) != 0L)
-            return jjStartNfaWithStates_0(3, 89, 35);
-         return jjMoveStringLiteralDfa4_0(active0, 0x8000L, active1, 0L);
+         if ((active1 & 0x10000000L) != 0L)
+            return jjStartNfaWithStates_0(3, 92, 35);
+         return jjMoveStringLiteralDfa4_0(active0, 0x10000L, active1, 0L);
       case 89:
       case 121:
-         if ((active1 & 0x4L) != 0L)
-            return jjStartNfaWithStates_0(3, 66, 35);
+         if ((active1 & 0x20L) != 0L)
+            return jjStartNfaWithStates_0(3, 69, 35);
          break;
       default :
          break;
@@ -742,98 +747,100 @@ private int jjMoveStringLiteralDfa4_0(long old0, long active0, long old1, long a
    switch(curChar)
    {
       case 95:
-         return jjMoveStringLiteralDfa5_0(active0, 0x4000L, active1, 0x2000000000L);
+         return jjMoveStringLiteralDfa5_0(active0, 0x8000L, active1, 0x10000000000L);
       case 65:
       case 97:
-         return jjMoveStringLiteralDfa5_0(active0, 0L, active1, 0x60010400L);
+         return jjMoveStringLiteralDfa5_0(active0, 0x10000000000L, active1, 0x300082000L);
       case 66:
       case 98:
-         return jjMoveStringLiteralDfa5_0(active0, 0x2000000L, active1, 0L);
+         return jjMoveStringLiteralDfa5_0(active0, 0x4000000L, active1, 0L);
       case 67:
       case 99:
-         return jjMoveStringLiteralDfa5_0(active0, 0L, active1, 0x200000L);
+         return jjMoveStringLiteralDfa5_0(active0, 0L, active1, 0x1000000L);
       case 68:
       case 100:
-         return jjMoveStringLiteralDfa5_0(active0, 0x8000000000L, active1, 0L);
+         return jjMoveStringLiteralDfa5_0(active0, 0x20000000000L, active1, 0L);
       case 69:
       case 101:
-         if ((active0 & 0x100000L) != 0L)
-            return jjStartNfaWithStates_0(4, 20, 35);
-         else if ((active0 & 0x800000000000000L) != 0L)
-            return jjStartNfaWithStates_0(4, 59, 35);
-         else if ((active1 & 0x1000L) != 0L)
-            return jjStartNfaWithStates_0(4, 76, 35);
-         else if ((active1 & 0x100000000L) != 0L)
+         if ((active0 & 0x200000L) != 0L)
+            return jjStartNfaWithStates_0(4, 21, 35);
+         else if ((active0 & 0x4000000000000000L) != 0L)
+            return jjStartNfaWithStates_0(4, 62, 35);
+         else if ((active1 & 0x8000L) != 0L)
+            return jjStartNfaWithStates_0(4, 79, 35);
+         else if ((active1 & 0x800000000L) != 0L)
          {
-            jjmatchedKind = 96;
+            jjmatchedKind = 99;
             jjmatchedPos = 4;
          }
-         else if ((active1 & 0x400000000000L) != 0L)
+         else if ((active1 & 0x2000000000000L) != 0L)
          {
-            jjmatchedKind = 110;
+            jjmatchedKind = 113;
             jjmatchedPos = 4;
          }
-         else if ((active1 & 0x2000000000000L) != 0L)
-            return jjStartNfaWithStates_0(4, 113, 35);
-         return jjMoveStringLiteralDfa5_0(active0, 0x400001018000L, active1, 0x808e10400000L);
+         else if ((active1 & 0x10000000000000L) != 0L)
+            return jjStartNfaWithStates_0(4, 116, 35);
+         return jjMoveStringLiteralDfa5_0(active0, 0x2000002030000L, active1, 0x4047082000000L);
       case 71:
       case 103:
-         if ((active1 & 0x200000000000L) != 0L)
-            return jjStartNfaWithStates_0(4, 109, 35);
+         if ((active1 & 0x1000000000000L) != 0L)
+            return jjStartNfaWithStates_0(4, 112, 35);
          break;
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa5_0(active0, 0x80000000L, active1, 0x120L);
+         return jjMoveStringLiteralDfa5_0(active0, 0x100000000L, active1, 0x900L);
       case 76:
       case 108:
-         return jjMoveStringLiteralDfa5_0(active0, 0x4000000100000000L, active1, 0x8100000L);
+         return jjMoveStringLiteralDfa5_0(active0, 0x200000000L, active1, 0x40800002L);
       case 77:
       case 109:
-         return jjMoveStringLiteralDfa5_0(active0, 0x8200000L, active1, 0x8000L);
+         return jjMoveStringLiteralDfa5_0(active0, 0x10400000L, active1, 0x40000L);
       case 78:
       case 110:
-         return jjMoveStringLiteralDfa5_0(active0, 0x40c00000020L, active1, 0x80000000L);
+         return jjMoveStringLiteralDfa5_0(active0, 0x201800000040L, active1, 0x400000000L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa5_0(active0, 0x80000000000L, active1, 0x800L);
+         return jjMoveStringLiteralDfa5_0(active0, 0x400000000000L, active1, 0x4000L);
       case 80:
       case 112:
-         return jjMoveStringLiteralDfa5_0(active0, 0x2000000000L, active1, 0L);
+         if ((active0 & 0x100000000000L) != 0L)
+            return jjStartNfaWithStates_0(4, 44, 35);
+         return jjMoveStringLiteralDfa5_0(active0, 0x4000000000L, active1, 0L);
       case 82:
       case 114:
-         if ((active0 & 0x100L) != 0L)
-            return jjStartNfaWithStates_0(4, 8, 35);
-         else if ((active1 & 0x10L) != 0L)
-            return jjStartNfaWithStates_0(4, 68, 35);
-         return jjMoveStringLiteralDfa5_0(active0, 0x6000040400000L, active1, 0xc0000020000L);
+         if ((active0 & 0x200L) != 0L)
+            return jjStartNfaWithStates_0(4, 9, 35);
+         else if ((active1 & 0x80L) != 0L)
+            return jjStartNfaWithStates_0(4, 71, 35);
+         return jjMoveStringLiteralDfa5_0(active0, 0x30000080800000L, active1, 0x600000100000L);
       case 83:
       case 115:
-         if ((active1 & 0x1L) != 0L)
-            return jjStartNfaWithStates_0(4, 64, 35);
+         if ((active1 & 0x8L) != 0L)
+            return jjStartNfaWithStates_0(4, 67, 35);
          break;
       case 84:
       case 116:
-         if ((active0 & 0x10000000000L) != 0L)
-            return jjStartNfaWithStates_0(4, 40, 35);
-         else if ((active0 & 0x800000000000L) != 0L)
-            return jjStartNfaWithStates_0(4, 47, 35);
-         else if ((active0 & 0x100000000000000L) != 0L)
-            return jjStartNfaWithStates_0(4, 56, 35);
-         else if ((active1 & 0x4000000L) != 0L)
-            return jjStartNfaWithStates_0(4, 90, 35);
-         return jjMoveStringLiteralDfa5_0(active0, 0x4010800000L, active1, 0x20000000000L);
+         if ((active0 & 0x40000000000L) != 0L)
+            return jjStartNfaWithStates_0(4, 42, 35);
+         else if ((active0 & 0x4000000000000L) != 0L)
+            return jjStartNfaWithStates_0(4, 50, 35);
+         else if ((active0 & 0x800000000000000L) != 0L)
+            return jjStartNfaWithStates_0(4, 59, 35);
+         else if ((active1 & 0x20000000L) != 0L)
+            return jjStartNfaWithStates_0(4, 93, 35);
+         return jjMoveStringLiteralDfa5_0(active0, 0x8021000000L, active1, 0x100000000000L);
       case 85:
       case 117:
-         return jjMoveStringLiteralDfa5_0(active0, 0L, active1, 0x10000000080L);
+         return jjMoveStringLiteralDfa5_0(active0, 0L, active1, 0x80000000400L);
       case 88:
       case 120:
-         if ((active0 & 0x1000000000000L) != 0L)
-            return jjStartNfaWithStates_0(4, 48, 35);
+         if ((active0 & 0x8000000000000L) != 0L)
+            return jjStartNfaWithStates_0(4, 51, 35);
          break;
       case 89:
       case 121:
-         if ((active0 & 0x800L) != 0L)
-            return jjStartNfaWithStates_0(4, 11, 35);
+         if ((active0 & 0x1000L) != 0L)
+            return jjStartNfaWithStates_0(4, 12, 35);
          break;
       default :
          break;
@@ -852,102 +859,102 @@ private int jjMoveStringLiteralDfa5_0(long old0, long active0, long old1, long a
    switch(curChar)
    {
       case 95:
-         return jjMoveStringLiteralDfa6_0(active0, 0x8000000000L, active1, 0x200000000L);
+         return jjMoveStringLiteralDfa6_0(active0, 0x20000000000L, active1, 0x1000000000L);
       case 65:
       case 97:
-         return jjMoveStringLiteralDfa6_0(active0, 0xa010000L, active1, 0x2000000000L);
+         return jjMoveStringLiteralDfa6_0(active0, 0x14020000L, active1, 0x10000000000L);
       case 66:
       case 98:
-         return jjMoveStringLiteralDfa6_0(active0, 0L, active1, 0x800L);
+         return jjMoveStringLiteralDfa6_0(active0, 0L, active1, 0x4000L);
       case 67:
       case 99:
-         return jjMoveStringLiteralDfa6_0(active0, 0x20L, active1, 0L);
+         return jjMoveStringLiteralDfa6_0(active0, 0x40L, active1, 0L);
       case 69:
       case 101:
-         if ((active0 & 0x800000L) != 0L)
-            return jjStartNfaWithStates_0(5, 23, 35);
-         else if ((active0 & 0x10000000L) != 0L)
-            return jjStartNfaWithStates_0(5, 28, 35);
-         else if ((active0 & 0x100000000L) != 0L)
-            return jjStartNfaWithStates_0(5, 32, 35);
-         else if ((active0 & 0x400000000L) != 0L)
+         if ((active0 & 0x1000000L) != 0L)
+            return jjStartNfaWithStates_0(5, 24, 35);
+         else if ((active0 & 0x20000000L) != 0L)
+            return jjStartNfaWithStates_0(5, 29, 35);
+         else if ((active0 & 0x200000000L) != 0L)
+            return jjStartNfaWithStates_0(5, 33, 35);
+         else if ((active0 & 0x800000000L) != 0L)
          {
-            jjmatchedKind = 34;
+            jjmatchedKind = 35;
             jjmatchedPos = 5;
          }
-         else if ((active0 & 0x2000000000L) != 0L)
-            return jjStartNfaWithStates_0(5, 37, 35);
-         else if ((active1 & 0x8000L) != 0L)
-            return jjStartNfaWithStates_0(5, 79, 35);
-         else if ((active1 & 0x100000L) != 0L)
-            return jjStartNfaWithStates_0(5, 84, 35);
-         else if ((active1 & 0x10000000000L) != 0L)
-            return jjStartNfaWithStates_0(5, 104, 35);
-         else if ((active1 & 0x20000000000L) != 0L)
-            return jjStartNfaWithStates_0(5, 105, 35);
-         return jjMoveStringLiteralDfa6_0(active0, 0x800408000L, active1, 0L);
+         else if ((active0 & 0x4000000000L) != 0L)
+            return jjStartNfaWithStates_0(5, 38, 35);
+         else if ((active1 & 0x40000L) != 0L)
+            return jjStartNfaWithStates_0(5, 82, 35);
+         else if ((active1 & 0x800000L) != 0L)
+            return jjStartNfaWithStates_0(5, 87, 35);
+         else if ((active1 & 0x80000000000L) != 0L)
+            return jjStartNfaWithStates_0(5, 107, 35);
+         else if ((active1 & 0x100000000000L) != 0L)
+            return jjStartNfaWithStates_0(5, 108, 35);
+         return jjMoveStringLiteralDfa6_0(active0, 0x1000810000L, active1, 0L);
       case 71:
       case 103:
-         if ((active0 & 0x40000000000L) != 0L)
-            return jjStartNfaWithStates_0(5, 42, 35);
-         else if ((active1 & 0x80000000L) != 0L)
-            return jjStartNfaWithStates_0(5, 95, 35);
-         return jjMoveStringLiteralDfa6_0(active0, 0x80000000000L, active1, 0L);
+         if ((active0 & 0x200000000000L) != 0L)
+            return jjStartNfaWithStates_0(5, 45, 35);
+         else if ((active1 & 0x400000000L) != 0L)
+            return jjStartNfaWithStates_0(5, 98, 35);
+         return jjMoveStringLiteralDfa6_0(active0, 0x400000000000L, active1, 0L);
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa6_0(active0, 0x40004000L, active1, 0x8000000L);
+         return jjMoveStringLiteralDfa6_0(active0, 0x10080008000L, active1, 0x40000000L);
       case 76:
       case 108:
-         return jjMoveStringLiteralDfa6_0(active0, 0x4000000000000000L, active1, 0L);
+         return jjMoveStringLiteralDfa6_0(active0, 0L, active1, 0x2L);
       case 77:
       case 109:
-         if ((active1 & 0x20000000L) != 0L)
+         if ((active1 & 0x100000000L) != 0L)
          {
-            jjmatchedKind = 93;
+            jjmatchedKind = 96;
             jjmatchedPos = 5;
          }
-         return jjMoveStringLiteralDfa6_0(active0, 0L, active1, 0x40000000L);
+         return jjMoveStringLiteralDfa6_0(active0, 0L, active1, 0x200000000L);
       case 78:
       case 110:
-         return jjMoveStringLiteralDfa6_0(active0, 0x81200000L, active1, 0x10400020L);
+         return jjMoveStringLiteralDfa6_0(active0, 0x102400000L, active1, 0x82000100L);
       case 82:
       case 114:
-         return jjMoveStringLiteralDfa6_0(active0, 0L, active1, 0x10400L);
+         return jjMoveStringLiteralDfa6_0(active0, 0L, active1, 0x82000L);
       case 83:
       case 115:
-         if ((active0 & 0x4000000000L) != 0L)
-            return jjStartNfaWithStates_0(5, 38, 35);
-         else if ((active1 & 0x400000000L) != 0L)
+         if ((active0 & 0x8000000000L) != 0L)
+            return jjStartNfaWithStates_0(5, 39, 35);
+         else if ((active1 & 0x2000000000L) != 0L)
          {
-            jjmatchedKind = 98;
+            jjmatchedKind = 101;
             jjmatchedPos = 5;
          }
-         else if ((active1 & 0x8000000000L) != 0L)
-            return jjStartNfaWithStates_0(5, 103, 35);
-         else if ((active1 & 0x800000000000L) != 0L)
-            return jjStartNfaWithStates_0(5, 111, 35);
-         return jjMoveStringLiteralDfa6_0(active0, 0L, active1, 0x800020000L);
+         else if ((active1 & 0x40000000000L) != 0L)
+            return jjStartNfaWithStates_0(5, 106, 35);
+         else if ((active1 & 0x4000000000000L) != 0L)
+            return jjStartNfaWithStates_0(5, 114, 35);
+         return jjMoveStringLiteralDfa6_0(active0, 0L, active1, 0x4000100000L);
       case 84:
       case 116:
-         if ((active0 & 0x2000000000000L) != 0L)
+         if ((active0 & 0x10000000000000L) != 0L)
          {
-            jjmatchedKind = 49;
+            jjmatchedKind = 52;
             jjmatchedPos = 5;
          }
-         else if ((active1 & 0x80L) != 0L)
-            return jjStartNfaWithStates_0(5, 71, 35);
-         else if ((active1 & 0x200000L) != 0L)
-            return jjStartNfaWithStates_0(5, 85, 35);
-         else if ((active1 & 0x40000000000L) != 0L)
+         else if ((active1 & 0x400L) != 0L)
+            return jjStartNfaWithStates_0(5, 74, 35);
+         else if ((active1 & 0x1000000L) != 0L)
+            return jjStartNfaWithStates_0(5, 88, 35);
+         else if ((active1 & 0x200000000000L) != 0L)
          {
-            jjmatchedKind = 106;
+            jjmatchedKind = 109;
             jjmatchedPos = 5;
          }
-         return jjMoveStringLiteralDfa6_0(active0, 0x4000000000000L, active1, 0x80000000100L);
+         return jjMoveStringLiteralDfa6_0(active0, 0x20000000000000L, active1, 0x400000000800L);
       case 89:
       case 121:
-         if ((active0 & 0x400000000000L) != 0L)
-            return jjStartNfaWithStates_0(5, 46, 24);
+         if ((active0 & 0x2000000000000L) != 0L)
+            return jjStartNfaWithStates_0(5, 49, 24);
          break;
       default :
          break;
@@ -966,74 +973,76 @@ private int jjMoveStringLiteralDfa6_0(long old0, long active0, long old1, long a
    switch(curChar)
    {
       case 95:
-         return jjMoveStringLiteralDfa7_0(active0, 0x4000000200000L, active1, 0x80000000000L);
+         return jjMoveStringLiteralDfa7_0(active0, 0x20000000400000L, active1, 0x400000000000L);
       case 65:
       case 97:
-         return jjMoveStringLiteralDfa7_0(active0, 0L, active1, 0x20L);
+         return jjMoveStringLiteralDfa7_0(active0, 0L, active1, 0x100L);
       case 66:
       case 98:
-         return jjMoveStringLiteralDfa7_0(active0, 0x40000000L, active1, 0L);
+         return jjMoveStringLiteralDfa7_0(active0, 0x80000000L, active1, 0L);
       case 67:
       case 99:
-         return jjMoveStringLiteralDfa7_0(active0, 0x80000000L, active1, 0x10400000L);
+         return jjMoveStringLiteralDfa7_0(active0, 0x100000000L, active1, 0x82000000L);
       case 68:
       case 100:
-         return jjMoveStringLiteralDfa7_0(active0, 0x8000000000L, active1, 0L);
+         return jjMoveStringLiteralDfa7_0(active0, 0x20000000000L, active1, 0L);
       case 69:
       case 101:
-         if ((active0 & 0x20L) != 0L)
-            return jjStartNfaWithStates_0(6, 5, 35);
-         else if ((active1 & 0x20000L) != 0L)
-            return jjStartNfaWithStates_0(6, 81, 35);
+         if ((active0 & 0x40L) != 0L)
+            return jjStartNfaWithStates_0(6, 6, 35);
+         else if ((active1 & 0x100000L) != 0L)
+            return jjStartNfaWithStates_0(6, 84, 35);
          break;
       case 70:
       case 102:
-         return jjMoveStringLiteralDfa7_0(active0, 0L, active1, 0x200000000L);
+         return jjMoveStringLiteralDfa7_0(active0, 0L, active1, 0x1000000000L);
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa7_0(active0, 0L, active1, 0x100L);
+         return jjMoveStringLiteralDfa7_0(active0, 0L, active1, 0x800L);
       case 76:
       case 108:
-         if ((active0 & 0x8000000L) != 0L)
-            return jjStartNfaWithStates_0(6, 27, 35);
+         if ((active0 & 0x10000000L) != 0L)
+            return jjStartNfaWithStates_0(6, 28, 35);
          break;
       case 78:
       case 110:
-         if ((active0 & 0x8000L) != 0L)
-            return jjStartNfaWithStates_0(6, 15, 35);
-         else if ((active0 & 0x10000L) != 0L)
+         if ((active0 & 0x10000L) != 0L)
             return jjStartNfaWithStates_0(6, 16, 35);
-         return jjMoveStringLiteralDfa7_0(active0, 0x4000L, active1, 0x2008000000L);
+         else if ((active0 & 0x20000L) != 0L)
+            return jjStartNfaWithStates_0(6, 17, 35);
+         else if ((active0 & 0x10000000000L) != 0L)
+            return jjStartNfaWithStates_0(6, 40, 35);
+         return jjMoveStringLiteralDfa7_0(active0, 0x8000L, active1, 0x10040000000L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa7_0(active0, 0x4000000000000000L, active1, 0L);
+         return jjMoveStringLiteralDfa7_0(active0, 0L, active1, 0x2L);
       case 80:
       case 112:
-         return jjMoveStringLiteralDfa7_0(active0, 0L, active1, 0x800000000L);
+         return jjMoveStringLiteralDfa7_0(active0, 0L, active1, 0x4000000000L);
       case 82:
       case 114:
-         return jjMoveStringLiteralDfa7_0(active0, 0x80000000000L, active1, 0L);
+         return jjMoveStringLiteralDfa7_0(active0, 0x400000000000L, active1, 0L);
       case 83:
       case 115:
-         if ((active0 & 0x800000000L) != 0L)
-            return jjStartNfaWithStates_0(6, 35, 35);
-         else if ((active1 & 0x40000000L) != 0L)
-            return jjStartNfaWithStates_0(6, 94, 35);
-         return jjMoveStringLiteralDfa7_0(active0, 0x2400000L, active1, 0L);
+         if ((active0 & 0x1000000000L) != 0L)
+            return jjStartNfaWithStates_0(6, 36, 35);
+         else if ((active1 & 0x200000000L) != 0L)
+            return jjStartNfaWithStates_0(6, 97, 35);
+         return jjMoveStringLiteralDfa7_0(active0, 0x4800000L, active1, 0L);
       case 84:
       case 116:
-         if ((active0 & 0x1000000L) != 0L)
-            return jjStartNfaWithStates_0(6, 24, 35);
-         else if ((active1 & 0x10000L) != 0L)
-            return jjStartNfaWithStates_0(6, 80, 35);
+         if ((active0 & 0x2000000L) != 0L)
+            return jjStartNfaWithStates_0(6, 25, 35);
+         else if ((active1 & 0x80000L) != 0L)
+            return jjStartNfaWithStates_0(6, 83, 35);
          break;
       case 85:
       case 117:
-         return jjMoveStringLiteralDfa7_0(active0, 0L, active1, 0x800L);
+         return jjMoveStringLiteralDfa7_0(active0, 0L, active1, 0x4000L);
       case 89:
       case 121:
-         if ((active1 & 0x400L) != 0L)
-            return jjStartNfaWithStates_0(6, 74, 35);
+         if ((active1 & 0x2000L) != 0L)
+            return jjStartNfaWithStates_0(6, 77, 35);
          break;
       default :
          break;
@@ -1053,50 +1062,50 @@ private int jjMoveStringLiteralDfa7_0(long old0, long active0, long old1, long a
    {
       case 65:
       case 97:
-         return jjMoveStringLiteralDfa8_0(active0, 0x4080000000000L, active1, 0x80800000000L);
+         return jjMoveStringLiteralDfa8_0(active0, 0x20400000000000L, active1, 0x404000000000L);
       case 67:
       case 99:
-         return jjMoveStringLiteralDfa8_0(active0, 0x4000L, active1, 0L);
+         return jjMoveStringLiteralDfa8_0(active0, 0x8000L, active1, 0L);
       case 68:
       case 100:
-         return jjMoveStringLiteralDfa8_0(active0, 0L, active1, 0x2000000000L);
+         return jjMoveStringLiteralDfa8_0(active0, 0L, active1, 0x10000000000L);
       case 69:
       case 101:
-         if ((active0 & 0x40000000L) != 0L)
-            return jjStartNfaWithStates_0(7, 30, 35);
-         else if ((active1 & 0x400000L) != 0L)
+         if ((active0 & 0x80000000L) != 0L)
+            return jjStartNfaWithStates_0(7, 31, 35);
+         else if ((active1 & 0x2000000L) != 0L)
          {
-            jjmatchedKind = 86;
+            jjmatchedKind = 89;
             jjmatchedPos = 7;
          }
-         return jjMoveStringLiteralDfa8_0(active0, 0x8002000000L, active1, 0x10000000L);
+         return jjMoveStringLiteralDfa8_0(active0, 0x20004000000L, active1, 0x80000000L);
       case 70:
       case 102:
-         if ((active1 & 0x800L) != 0L)
-            return jjStartNfaWithStates_0(7, 75, 35);
-         return jjMoveStringLiteralDfa8_0(active0, 0x200000L, active1, 0L);
+         if ((active1 & 0x4000L) != 0L)
+            return jjStartNfaWithStates_0(7, 78, 35);
+         return jjMoveStringLiteralDfa8_0(active0, 0x400000L, active1, 0L);
       case 76:
       case 108:
-         if ((active1 & 0x20L) != 0L)
-            return jjStartNfaWithStates_0(7, 69, 35);
+         if ((active1 & 0x100L) != 0L)
+            return jjStartNfaWithStates_0(7, 72, 35);
          break;
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa8_0(active0, 0L, active1, 0x200000100L);
+         return jjMoveStringLiteralDfa8_0(active0, 0L, active1, 0x1000000800L);
       case 83:
       case 115:
-         return jjMoveStringLiteralDfa8_0(active0, 0x400000L, active1, 0L);
+         return jjMoveStringLiteralDfa8_0(active0, 0x800000L, active1, 0L);
       case 84:
       case 116:
-         if ((active0 & 0x80000000L) != 0L)
-            return jjStartNfaWithStates_0(7, 31, 35);
-         else if ((active1 & 0x8000000L) != 0L)
-            return jjStartNfaWithStates_0(7, 91, 35);
+         if ((active0 & 0x100000000L) != 0L)
+            return jjStartNfaWithStates_0(7, 32, 35);
+         else if ((active1 & 0x40000000L) != 0L)
+            return jjStartNfaWithStates_0(7, 94, 35);
          break;
       case 87:
       case 119:
-         if ((active0 & 0x4000000000000000L) != 0L)
-            return jjStartNfaWithStates_0(7, 62, 35);
+         if ((active1 & 0x2L) != 0L)
+            return jjStartNfaWithStates_0(7, 65, 35);
          break;
       default :
          break;
@@ -1115,41 +1124,41 @@ private int jjMoveStringLiteralDfa8_0(long old0, long active0, long old1, long a
    switch(curChar)
    {
       case 95:
-         return jjMoveStringLiteralDfa9_0(active0, 0L, active1, 0x2000000000L);
+         return jjMoveStringLiteralDfa9_0(active0, 0L, active1, 0x10000000000L);
       case 65:
       case 97:
-         return jjMoveStringLiteralDfa9_0(active0, 0x200000L, active1, 0L);
+         return jjMoveStringLiteralDfa9_0(active0, 0x400000L, active1, 0L);
       case 67:
       case 99:
-         return jjMoveStringLiteralDfa9_0(active0, 0L, active1, 0x800000000L);
+         return jjMoveStringLiteralDfa9_0(active0, 0L, active1, 0x4000000000L);
       case 69:
       case 101:
-         return jjMoveStringLiteralDfa9_0(active0, 0x400000L, active1, 0L);
+         return jjMoveStringLiteralDfa9_0(active0, 0x800000L, active1, 0L);
       case 76:
       case 108:
-         return jjMoveStringLiteralDfa9_0(active0, 0x8000000000L, active1, 0L);
+         return jjMoveStringLiteralDfa9_0(active0, 0x20000000000L, active1, 0L);
       case 77:
       case 109:
-         if ((active0 & 0x80000000000L) != 0L)
-            return jjStartNfaWithStates_0(8, 43, 35);
+         if ((active0 & 0x400000000000L) != 0L)
+            return jjStartNfaWithStates_0(8, 46, 35);
          break;
       case 78:
       case 110:
-         if ((active1 & 0x100L) != 0L)
-            return jjStartNfaWithStates_0(8, 72, 35);
+         if ((active1 & 0x800L) != 0L)
+            return jjStartNfaWithStates_0(8, 75, 35);
          break;
       case 80:
       case 112:
-         return jjMoveStringLiteralDfa9_0(active0, 0x4000000000000L, active1, 0x80000000000L);
+         return jjMoveStringLiteralDfa9_0(active0, 0x20000000000000L, active1, 0x400000000000L);
       case 82:
       case 114:
-         return jjMoveStringLiteralDfa9_0(active0, 0x4000L, active1, 0x200000000L);
+         return jjMoveStringLiteralDfa9_0(active0, 0x8000L, active1, 0x1000000000L);
       case 83:
       case 115:
-         if ((active0 & 0x2000000L) != 0L)
-            return jjStartNfaWithStates_0(8, 25, 35);
-         else if ((active1 & 0x10000000L) != 0L)
-            return jjStartNfaWithStates_0(8, 92, 35);
+         if ((active0 & 0x4000000L) != 0L)
+            return jjStartNfaWithStates_0(8, 26, 35);
+         else if ((active1 & 0x80000000L) != 0L)
+            return jjStartNfaWithStates_0(8, 95, 35);
          break;
       default :
          break;
@@ -1169,26 +1178,26 @@ private int jjMoveStringLiteralDfa9_0(long old0, long active0, long old1, long a
    {
       case 65:
       case 97:
-         return jjMoveStringLiteralDfa10_0(active0, 0x8000000000L, active1, 0L);
+         return jjMoveStringLiteralDfa10_0(active0, 0x20000000000L, active1, 0L);
       case 68:
       case 100:
-         if ((active0 & 0x400000L) != 0L)
-            return jjStartNfaWithStates_0(9, 22, 35);
+         if ((active0 & 0x800000L) != 0L)
+            return jjStartNfaWithStates_0(9, 23, 35);
          break;
       case 69:
       case 101:
-         if ((active1 & 0x800000000L) != 0L)
-            return jjStartNfaWithStates_0(9, 99, 35);
-         return jjMoveStringLiteralDfa10_0(active0, 0x4000L, active1, 0L);
+         if ((active1 & 0x4000000000L) != 0L)
+            return jjStartNfaWithStates_0(9, 102, 35);
+         return jjMoveStringLiteralDfa10_0(active0, 0x8000L, active1, 0L);
       case 77:
       case 109:
-         return jjMoveStringLiteralDfa10_0(active0, 0x200000L, active1, 0x200000000L);
+         return jjMoveStringLiteralDfa10_0(active0, 0x400000L, active1, 0x1000000000L);
       case 80:
       case 112:
-         return jjMoveStringLiteralDfa10_0(active0, 0x4000000000000L, active1, 0x80000000000L);
+         return jjMoveStringLiteralDfa10_0(active0, 0x20000000000000L, active1, 0x400000000000L);
       case 86:
       case 118:
-         return jjMoveStringLiteralDfa10_0(active0, 0L, active1, 0x2000000000L);
+         return jjMoveStringLiteralDfa10_0(active0, 0L, active1, 0x10000000000L);
       default :
          break;
    }
@@ -1207,20 +1216,20 @@ private int jjMoveStringLiteralDfa10_0(long old0, long active0, long old1, long
    {
       case 65:
       case 97:
-         return jjMoveStringLiteralDfa11_0(active0, 0L, active1, 0x2200000000L);
+         return jjMoveStringLiteralDfa11_0(active0, 0L, active1, 0x11000000000L);
       case 69:
       case 101:
-         return jjMoveStringLiteralDfa11_0(active0, 0x4000000000000L, active1, 0x80000000000L);
+         return jjMoveStringLiteralDfa11_0(active0, 0x20000000000000L, active1, 0x400000000000L);
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa11_0(active0, 0x200000L, active1, 0L);
+         return jjMoveStringLiteralDfa11_0(active0, 0x400000L, active1, 0L);
       case 77:
       case 109:
-         return jjMoveStringLiteralDfa11_0(active0, 0x4000L, active1, 0L);
+         return jjMoveStringLiteralDfa11_0(active0, 0x8000L, active1, 0L);
       case 89:
       case 121:
-         if ((active0 & 0x8000000000L) != 0L)
-            return jjStartNfaWithStates_0(10, 39, 24);
+         if ((active0 & 0x20000000000L) != 0L)
+            return jjStartNfaWithStates_0(10, 41, 24);
          break;
       default :
          break;
@@ -1240,17 +1249,17 @@ private int jjMoveStringLiteralDfa11_0(long old0, long active0, long old1, long
    {
       case 69:
       case 101:
-         return jjMoveStringLiteralDfa12_0(active0, 0x4000L, active1, 0L);
+         return jjMoveStringLiteralDfa12_0(active0, 0x8000L, active1, 0L);
       case 76:
       case 108:
-         return jjMoveStringLiteralDfa12_0(active0, 0x200000L, active1, 0x2000000000L);
+         return jjMoveStringLiteralDfa12_0(active0, 0x400000L, active1, 0x10000000000L);
       case 78:
       case 110:
-         return jjMoveStringLiteralDfa12_0(active0, 0x4000000000000L, active1, 0x80000000000L);
+         return jjMoveStringLiteralDfa12_0(active0, 0x20000000000000L, active1, 0x400000000000L);
       case 84:
       case 116:
-         if ((active1 & 0x200000000L) != 0L)
-            return jjStartNfaWithStates_0(11, 97, 24);
+         if ((active1 & 0x1000000000L) != 0L)
+            return jjStartNfaWithStates_0(11, 100, 24);
          break;
       default :
          break;
@@ -1270,21 +1279,21 @@ private int jjMoveStringLiteralDfa12_0(long old0, long active0, long old1, long
    {
       case 68:
       case 100:
-         if ((active0 & 0x4000000000000L) != 0L)
-            return jjStartNfaWithStates_0(12, 50, 24);
-         else if ((active1 & 0x80000000000L) != 0L)
-            return jjStartNfaWithStates_0(12, 107, 24);
+         if ((active0 & 0x20000000000000L) != 0L)
+            return jjStartNfaWithStates_0(12, 53, 24);
+         else if ((active1 & 0x400000000000L) != 0L)
+            return jjStartNfaWithStates_0(12, 110, 24);
          break;
       case 78:
       case 110:
-         return jjMoveStringLiteralDfa13_0(active0, 0x4000L, active1, 0L);
+         return jjMoveStringLiteralDfa13_0(active0, 0x8000L, active1, 0L);
       case 85:
       case 117:
-         return jjMoveStringLiteralDfa13_0(active0, 0L, active1, 0x2000000000L);
+         return jjMoveStringLiteralDfa13_0(active0, 0L, active1, 0x10000000000L);
       case 89:
       case 121:
-         if ((active0 & 0x200000L) != 0L)
-            return jjStartNfaWithStates_0(12, 21, 24);
+         if ((active0 & 0x400000L) != 0L)
+            return jjStartNfaWithStates_0(12, 22, 24);
          break;
       default :
          break;
@@ -1304,13 +1313,13 @@ private int jjMoveStringLiteralDfa13_0(long old0, long active0, long old1, long
    {
       case 69:
       case 101:
-         if ((active1 & 0x2000000000L) != 0L)
-            return jjStartNfaWithStates_0(13, 101, 24);
+         if ((active1 & 0x10000000000L) != 0L)
+            return jjStartNfaWithStates_0(13, 104, 24);
          break;
       case 84:
       case 116:
-         if ((active0 & 0x4000L) != 0L)
-            return jjStartNfaWithStates_0(13, 14, 24);
+         if ((active0 & 0x8000L) != 0L)
+            return jjStartNfaWithStates_0(13, 15, 24);
          break;
       default :
          break;
@@ -1350,15 +1359,15 @@ private int jjMoveNfa_0(int startState, int curPos)
                case 24:
                   if ((0x3ff401800000000L & l) == 0L)
                      break;
-                  if (kind > 126)
-                     kind = 126;
+                  if (kind > 129)
+                     kind = 129;
                   jjCheckNAdd(24);
                   break;
                case 0:
                   if ((0x3ff000000000000L & l) != 0L)
                   {
-                     if (kind > 115)
-                        kind = 115;
+                     if (kind > 118)
+                        kind = 118;
                      jjCheckNAddStates(0, 5);
                   }
                   else if (curChar == 34)
@@ -1377,8 +1386,8 @@ private int jjMoveNfa_0(int startState, int curPos)
                case 2:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 115)
-                     kind = 115;
+                  if (kind > 118)
+                     kind = 118;
                   jjstateSet[jjnewStateCnt++] = 2;
                   break;
                case 3:
@@ -1388,8 +1397,8 @@ private int jjMoveNfa_0(int startState, int curPos)
                case 4:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 118)
-                     kind = 118;
+                  if (kind > 121)
+                     kind = 121;
                   jjCheckNAddStates(6, 8);
                   break;
                case 5:
@@ -1399,8 +1408,8 @@ private int jjMoveNfa_0(int startState, int curPos)
                case 7:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 118)
-                     kind = 118;
+                  if (kind > 121)
+                     kind = 121;
                   jjstateSet[jjnewStateCnt++] = 7;
                   break;
                case 8:
@@ -1414,8 +1423,8 @@ private int jjMoveNfa_0(int startState, int curPos)
                case 10:
                   if (curChar != 39)
                      break;
-                  if (kind > 123)
-                     kind = 123;
+                  if (kind > 126)
+                     kind = 126;
                   jjstateSet[jjnewStateCnt++] = 11;
                   break;
                case 11:
@@ -1429,15 +1438,15 @@ private int jjMoveNfa_0(int startState, int curPos)
                case 13:
                   if (curChar != 45)
                      break;
-                  if (kind > 124)
-                     kind = 124;
+                  if (kind > 127)
+                     kind = 127;
                   jjCheckNAdd(14);
                   break;
                case 14:
                   if ((0xffffffffffffdbffL & l) == 0L)
                      break;
-                  if (kind > 124)
-                     kind = 124;
+                  if (kind > 127)
+                     kind = 127;
                   jjCheckNAdd(14);
                   break;
                case 15:
@@ -1465,8 +1474,8 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjCheckNAddTwoStates(20, 18);
                   break;
                case 21:
-                  if (curChar == 47 && kind > 125)
-                     kind = 125;
+                  if (curChar == 47 && kind > 128)
+                     kind = 128;
                   break;
                case 22:
                   if (curChar == 47)
@@ -1481,21 +1490,21 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjCheckNAddTwoStates(26, 27);
                   break;
                case 27:
-                  if (curChar == 34 && kind > 129)
-                     kind = 129;
+                  if (curChar == 34 && kind > 132)
+                     kind = 132;
                   break;
                case 28:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 115)
-                     kind = 115;
+                  if (kind > 118)
+                     kind = 118;
                   jjCheckNAddStates(0, 5);
                   break;
                case 29:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 115)
-                     kind = 115;
+                  if (kind > 118)
+                     kind = 118;
                   jjCheckNAdd(29);
                   break;
                case 30:
@@ -1513,8 +1522,8 @@ private int jjMoveNfa_0(int startState, int curPos)
                case 34:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 118)
-                     kind = 118;
+                  if (kind > 121)
+                     kind = 121;
                   jjstateSet[jjnewStateCnt++] = 34;
                   break;
                default : break;
@@ -1531,14 +1540,14 @@ private int jjMoveNfa_0(int startState, int curPos)
                case 35:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 126)
-                        kind = 126;
+                     if (kind > 129)
+                        kind = 129;
                      jjCheckNAdd(24);
                   }
                   if ((0x7fffffe07fffffeL & l) != 0L)
                   {
-                     if (kind > 126)
-                        kind = 126;
+                     if (kind > 129)
+                        kind = 129;
                      jjCheckNAddTwoStates(23, 24);
                   }
                   break;
@@ -1546,8 +1555,8 @@ private int jjMoveNfa_0(int startState, int curPos)
                case 23:
                   if ((0x7fffffe07fffffeL & l) == 0L)
                      break;
-                  if (kind > 126)
-                     kind = 126;
+                  if (kind > 129)
+                     kind = 129;
                   jjCheckNAddTwoStates(23, 24);
                   break;
                case 1:
@@ -1557,8 +1566,8 @@ private int jjMoveNfa_0(int startState, int curPos)
                case 2:
                   if ((0x7e0000007eL & l) == 0L)
                      break;
-                  if (kind > 115)
-                     kind = 115;
+                  if (kind > 118)
+                     kind = 118;
                   jjCheckNAdd(2);
                   break;
                case 6:
@@ -1572,8 +1581,8 @@ private int jjMoveNfa_0(int startState, int curPos)
                   jjCheckNAddTwoStates(12, 10);
                   break;
                case 14:
-                  if (kind > 124)
-                     kind = 124;
+                  if (kind > 127)
+                     kind = 127;
                   jjstateSet[jjnewStateCnt++] = 14;
                   break;
                case 17:
@@ -1586,8 +1595,8 @@ private int jjMoveNfa_0(int startState, int curPos)
                case 24:
                   if ((0x7fffffe87fffffeL & l) == 0L)
                      break;
-                  if (kind > 126)
-                     kind = 126;
+                  if (kind > 129)
+                     kind = 129;
                   jjCheckNAdd(24);
                   break;
                case 26:
@@ -1620,8 +1629,8 @@ private int jjMoveNfa_0(int startState, int curPos)
                case 14:
                   if ((jjbitVec0[i2] & l2) == 0L)
                      break;
-                  if (kind > 124)
-                     kind = 124;
+                  if (kind > 127)
+                     kind = 127;
                   jjstateSet[jjnewStateCnt++] = 14;
                   break;
                case 17:
@@ -1670,22 +1679,22 @@ null, null, null, null, null, null, null, null, null, null, null, null, null, nu
 null, null, null, null, null, null, null, null, null, null, null, null, null, null, 
 null, null, null, null, null, null, null, null, null, null, null, null, null, null, 
 null, null, null, null, null, null, null, null, null, null, null, null, null, null, 
-null, null, null, null, null, "\77", "\50", "\51", "\133\135", "\54", "\75", "\72", 
-"\52\52", "\53", "\55", "\133", "\135", "\46", "\174", "\136", "\74\74", "\76\76", 
-"\174\174", "\52", "\57", "\41", "\76", "\74", "\75\76", };
+null, null, null, null, null, null, null, null, "\77", "\50", "\51", "\133\135", 
+"\54", "\75", "\72", "\52\52", "\53", "\55", "\133", "\135", "\46", "\174", "\136", 
+"\74\74", "\76\76", "\174\174", "\52", "\57", "\41", "\76", "\74", "\75\76", };
 
 /** Lexer state names. */
 public static final String[] lexStateNames = {
    "DEFAULT",
 };
 static final long[] jjtoToken = {
-   0xffffffffffffffe1L, 0x484fffffffffffffL, 0x3fffffeL, 
+   0xffffffffffffffe1L, 0x427fffffffffffffL, 0x1ffffff2L, 
 };
 static final long[] jjtoSkip = {
-   0x1eL, 0x3000000000000000L, 0x0L, 
+   0x1eL, 0x8000000000000000L, 0x1L, 
 };
 static final long[] jjtoSpecial = {
-   0x0L, 0x3000000000000000L, 0x0L, 
+   0x0L, 0x8000000000000000L, 0x1L, 
 };
 protected SimpleCharStream input_stream;
 private final int[] jjrounds = new int[35];
@@ -1,17 +1,27 @@
 package org.yamcs.yarch.streamsql;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.yamcs.logging.Log;
+import org.yamcs.utils.ByteArrayUtils;
+import org.yamcs.utils.TimeEncoding;
 import org.yamcs.utils.TimeInterval;
 import org.yamcs.yarch.ColumnDefinition;
+import org.yamcs.yarch.ByteArrayComparator;
 import org.yamcs.yarch.DataType;
 import org.yamcs.yarch.DbRange;
 import org.yamcs.yarch.ExecutionContext;
 import org.yamcs.yarch.FilterableTarget;
 import org.yamcs.yarch.PartitioningSpec;
+import org.yamcs.yarch.SecondaryIndexDefinition;
 import org.yamcs.yarch.TableColumnDefinition;
 import org.yamcs.yarch.TableDefinition;
 import org.yamcs.yarch.TableWalker;
@@ -23,6 +33,12 @@ import com.google.common.collect.BiMap;
 public class TableWalkerBuilder implements FilterableTarget {
     static Log log = new Log(TableWalkerBuilder.class);
 
+    /**
+     * The cost of retrieving one row through a secondary index relative to the cost of retrieving one row when walking
+     * the table in the primary key order. Each index entry requires a random read of the row from the table.
+     */
+    static final int INDEX_ROW_COST = 4;
+
     final private ExecutionContext ctx;
     final private YarchDatabaseInstance ydb;
     final private TableDefinition tableDefinition;
@@ -33,8 +49,29 @@ public class TableWalkerBuilder implements FilterableTarget {
     // filter on primary key
     private DbRange pkRange;
 
-    // filter on secondary key
-    private DbRange skRange;
+    // serialized values of the first primary key column resulted from a "in" condition
+    private List<byte[]> pkValues;
+
+    // filter on the second column of the primary key, used when the first column is restricted to one value
+    private DbRange pk1Range;
+
+    // filters on the first column of the secondary indexes, by index name
+    private Map<String, DbRange> skRanges = new HashMap<>();
+    // serialized values (sorted, without duplicates) of the first column of the secondary indexes resulted from "="
+    // and "in" conditions, by index name
+    private Map<String, List<byte[]>> skValues = new HashMap<>();
+
+    // restriction of the first column of the primary key if it is a timestamp; used to estimate the number of rows
+    private TimeInterval keyTimeInterval = new TimeInterval();
+
+    // descriptions of the conditions which can be used by the table walker, by column name
+    private Map<String, List<String>> conditions = new LinkedHashMap<>();
+
+    // result of the planning: the chosen secondary index (null for walking in the primary key order) and the
+    // estimated number of rows (-1 if unknown)
+    private boolean planned = false;
+    private SecondaryIndexDefinition chosenIndex;
+    private long estimatedRows = -1;
 
     private boolean ascending = true;
     private boolean follow = false;
@@ -48,6 +85,7 @@ public class TableWalkerBuilder implements FilterableTarget {
     @Override
     public void addRelOpFilter(ColumnExpression cexpr, RelOp relOp, Object value) throws StreamSqlException {
         String columnName = cexpr.getName();
+        boolean used = false;
 
         TableColumnDefinition col0 = tableDefinition.getKeyDefinition().get(0);
         if (col0.getName().equals(columnName)) {
@@ -65,26 +103,48 @@ public class TableWalkerBuilder implements FilterableTarget {
             addToRange(pkRange, relOp, val);
 
             if (tableDefinition.isPartitionedByTime()) {
-                addPartitionTimeFilter(relOp, (Long) columnValue);
+                addTimeFilter(partitionTimeFilter, relOp, (Long) columnValue);
             }
+            if (col0.getType() == DataType.TIMESTAMP) {
+                addTimeFilter(keyTimeInterval, relOp, (Long) columnValue);
+            }
+            used = true;
         } else {
-            List<String> sidx = tableDefinition.getSecondaryIndex();
-            if (sidx != null && sidx.get(0).equals(columnName)) {
+            if (tableDefinition.getKeyDefinition().size() > 1) {
+                TableColumnDefinition col1 = tableDefinition.getKeyDefinition().get(1);
+                // the enum values are stored as numbers, their order is not the order of the strings
+                if (col1.getName().equals(columnName) && col1.getType() != DataType.ENUM) {
+                    try {
+                        byte[] val = col1.getSerializer().toByteArray(DataType.castAs(col1.getType(), value));
+                        if (pk1Range == null) {
+                            pk1Range = new DbRange();
+                        }
+                        addToRange(pk1Range, relOp, val);
+                        used = true;
+                    } catch (IllegalArgumentException e) {
+                        throw new StreamSqlException(ErrCode.ERROR, e.getMessage());
+                    }
+                }
+            }
+            byte[] skval = null;
+            for (SecondaryIndexDefinition sidx : tableDefinition.getSecondaryIndexes()) {
+                if (!sidx.getColumns().get(0).equals(columnName) || relOp == RelOp.NOT_EQUAL) {
+                    continue;
+                }
                 TableColumnDefinition tcd = tableDefinition.getColumnDefinition(columnName);
-                byte[] val = null;
-                try {
-                    Object columnValue = DataType.castAs(tcd.getType(), value);
-                    val = tcd.getSerializer().toByteArray(columnValue);
-                } catch (IllegalArgumentException e) {
-                    throw new StreamSqlException(ErrCode.ERROR, e.getMessage());
+                // the enum values are stored as numbers, their order is not the order of the strings
+                if (tcd.getType() == DataType.ENUM && relOp != RelOp.EQUAL) {
+                    continue;
+                }
+                if (skval == null) {
+                    skval = toSkValue(tcd, value);
                 }
-                if (skRange == null) {
-                    skRange = new DbRange();
+                if (relOp == RelOp.EQUAL) {
+                    addSkValues(sidx.getName(), Collections.singletonList(skval));
+                } else {
+                    addToRange(skRanges.computeIfAbsent(sidx.getName(), k -> new DbRange()), relOp, skval);
                 }
-                byte[] b = new byte[val.length+1];
-                b[0] = (byte)(0x70|tcd.getType().getTypeId());
-                System.arraycopy(val, 0, b, 1, val.length);
-                addToRange(skRange, relOp, b);
+                used = true;
             }
         }
 
@@ -101,21 +161,62 @@ public class TableWalkerBuilder implements FilterableTarget {
                 }
             }
         }
+        if (used && relOp != RelOp.NOT_EQUAL) {
+            addCondition(columnName, columnName + " " + relOp.getSign() + " " + formatValue(columnName, value));
+        }
+    }
+
+    /**
+     * Serializes the value as it appears in the secondary index key: the type followed by the serialized value.
+     */
+    private static byte[] toSkValue(TableColumnDefinition tcd, Object value) throws StreamSqlException {
+        byte[] val = null;
+        try {
+            Object columnValue = DataType.castAs(tcd.getType(), value);
+            val = tcd.getSerializer().toByteArray(columnValue);
+        } catch (IllegalArgumentException e) {
+            throw new StreamSqlException(ErrCode.ERROR, e.getMessage());
+        }
+        byte[] skval = new byte[val.length + 1];
+        skval[0] = (byte) (0x70 | tcd.getType().getTypeId());
+        System.arraycopy(val, 0, skval, 1, val.length);
+        return skval;
+    }
+
+    /**
+     * Restricts the first column of the index to the given values, intersecting them with the values from the
+     * previous conditions.
+     */
+    private void addSkValues(String indexName, List<byte[]> values) {
+        ByteArrayComparator cmp = new ByteArrayComparator();
+        List<byte[]> sorted = new ArrayList<>(values);
+        sorted.sort(cmp);
+        List<byte[]> existing = skValues.get(indexName);
+        List<byte[]> l = new ArrayList<>(sorted.size());
+        for (byte[] v : sorted) {
+            if (!l.isEmpty() && cmp.compare(l.get(l.size() - 1), v) == 0) {
+                continue;
+            }
+            if (existing == null || Collections.binarySearch(existing, v, cmp) >= 0) {
+                l.add(v);
+            }
+        }
+        skValues.put(indexName, l);
     }
 
-    private void addPartitionTimeFilter(RelOp relOp, long time) {
+    private static void addTimeFilter(TimeInterval interval, RelOp relOp, long time) {
         switch (relOp) {
         case GREATER:
         case GREATER_OR_EQUAL:
-            partitionTimeFilter.setStart(time);
+            interval.setStart(time);
             break;
         case LESS:
         case LESS_OR_EQUAL:
-            partitionTimeFilter.setEnd(time);
+            interval.setEnd(time);
             break;
         case EQUAL:
-            partitionTimeFilter.setStart(time);
-            partitionTimeFilter.setEnd(time);
+            interval.setStart(time);
+            interval.setEnd(time);
             break;
         case NOT_EQUAL:
             // TODO support multiple ranges
@@ -125,6 +226,27 @@ public class TableWalkerBuilder implements FilterableTarget {
         }
     }
 
+    /**
+     * If the first column of the primary key is restricted to one value, the range on the second column can be
+     * appended to it because the key is the concatenation of the serialized columns.
+     */
+    private DbRange getPkRange() {
+        if (pk1Range == null || pkRange.rangeStart == null || pkRange.rangeStart != pkRange.rangeEnd) {
+            return pkRange;
+        }
+        byte[] val = pkRange.rangeStart;
+        DbRange r = new DbRange();
+        r.rangeStart = pk1Range.rangeStart == null ? val : concat(val, pk1Range.rangeStart);
+        r.rangeEnd = pk1Range.rangeEnd == null ? val : concat(val, pk1Range.rangeEnd);
+        return r;
+    }
+
+    private static byte[] concat(byte[] a, byte[] b) {
+        byte[] r = Arrays.copyOf(a, a.length + b.length);
+        System.arraycopy(b, 0, r, a.length, b.length);
+        return r;
+    }
+
     private void addToRange(DbRange range, RelOp relOp, byte[] val) {
 
         // TODO FIX to allow multiple ranges
@@ -150,10 +272,20 @@ public class TableWalkerBuilder implements FilterableTarget {
     }
 
     /**
-     * currently adds only filters on value based partitions
+     * adds filters on the first column of the primary key and of the secondary indexes (only for "in", not for "not
+     * in") and on value based partitions
      */
     @Override
     public void addInFilter(ColumnExpression cexpr, boolean negation, Set<Object> values) throws StreamSqlException {
+        TableColumnDefinition col0 = tableDefinition.getKeyDefinition().get(0);
+        if (!negation) {
+            if (col0.getName().equals(cexpr.getName())) {
+                addPkInFilter(col0, values);
+            } else {
+                addSkInFilter(cexpr.getName(), values);
+            }
+        }
+
         if (!tableDefinition.hasPartitioning()) {
             return;
         }
@@ -185,6 +317,91 @@ public class TableWalkerBuilder implements FilterableTarget {
         return;
     }
 
+    private void addPkInFilter(TableColumnDefinition col0, Set<Object> values) throws StreamSqlException {
+        List<byte[]> l = new ArrayList<>(values.size());
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (Object value : values) {
+            try {
+                Object columnValue = DataType.castAs(col0.getType(), value);
+                byte[] val = col0.getSerializer().toByteArray(columnValue);
+                if (pkValues == null || pkValues.stream().anyMatch(v -> Arrays.equals(v, val))) {
+                    l.add(val);
+                }
+                if (col0.getType() == DataType.TIMESTAMP) {
+                    long t = (Long) columnValue;
+                    min = Math.min(min, t);
+                    max = Math.max(max, t);
+                }
+            } catch (IllegalArgumentException e) {
+                throw new StreamSqlException(ErrCode.ERROR, e.getMessage());
+            }
+        }
+        if (min <= max) {
+            if (tableDefinition.isPartitionedByTime()) {
+                // restrict the partitions to those containing the values
+                restrictInterval(partitionTimeFilter, min, max);
+            }
+            restrictInterval(keyTimeInterval, min, max);
+        }
+        l.sort(new ByteArrayComparator());
+        pkValues = l;
+        addCondition(col0.getName(), col0.getName() + " IN (" + values.size() + " values)");
+    }
+
+    private static void restrictInterval(TimeInterval interval, long min, long max) {
+        interval.setStart(interval.hasStart() ? Math.max(interval.getStart(), min) : min);
+        interval.setEnd(interval.hasEnd() ? Math.min(interval.getEnd(), max) : max);
+    }
+
+    private void addSkInFilter(String columnName, Set<Object> values) throws StreamSqlException {
+        List<byte[]> l = null;
+        for (SecondaryIndexDefinition sidx : tableDefinition.getSecondaryIndexes()) {
+            if (!sidx.getColumns().get(0).equals(columnName)) {
+                continue;
+            }
+            if (l == null) {
+                TableColumnDefinition tcd = tableDefinition.getColumnDefinition(columnName);
+                l = new ArrayList<>(values.size());
+                for (Object value : values) {
+                    l.add(toSkValue(tcd, value));
+                }
+            }
+            addSkValues(sidx.getName(), l);
+        }
+        if (l != null) {
+            addCondition(columnName, columnName + " IN (" + values.size() + " values)");
+        }
+    }
+
+    /**
+     * Transforms the values from the "in" condition into ranges, keeping only those within the primary key range.
+     */
+    private List<DbRange> getPkRanges() {
+        ByteArrayComparator cmp = new ByteArrayComparator();
+        List<DbRange> ranges = new ArrayList<>(pkValues.size());
+        byte[] prev = null;
+        for (byte[] v : pkValues) {
+            if (prev != null && cmp.compare(prev, v) == 0) {
+                continue;
+            }
+            prev = v;
+            if (pkRange != null) {
+                if (pkRange.rangeStart != null && ByteArrayUtils.compare(v, pkRange.rangeStart) < 0) {
+                    continue;
+                }
+                if (pkRange.rangeEnd != null && ByteArrayUtils.compare(v, pkRange.rangeEnd) > 0) {
+                    continue;
+                }
+            }
+            DbRange r = new DbRange();
+            r.rangeStart = v;
+            r.rangeEnd = v;
+            ranges.add(r);
+        }
+        return ranges;
+    }
+
     // if the value partitioning column is of type Enum, we have to convert all
     // the values (used in the query for filtering) from String to Short
     // the values that do not have an enum are eliminated (because they cannot be possibly matching the query)
@@ -217,22 +434,217 @@ public class TableWalkerBuilder implements FilterableTarget {
         if (!ascending) {
             follow = false;
         }
+        plan();
         TableWalker tw;
-        if (skRange == null) {
+        if (chosenIndex == null) {
             tw = ydb.getStorageEngine(tableDefinition).newTableWalker(ctx, tableDefinition, ascending, follow);
             tw.setPartitionFilter(partitionTimeFilter, partitionValueFilter);
         } else {
-            tw = ydb.getStorageEngine(tableDefinition).newSecondaryIndexTableWalker(ydb, tableDefinition, ascending,
-                    follow);
-            tw.setSecondaryIndexRange(skRange);
+            log.debug("Using secondary index {} for table {}, estimated rows: {}", chosenIndex,
+                    tableDefinition.getName(), estimatedRows);
+            tw = ydb.getStorageEngine(tableDefinition).newSecondaryIndexTableWalker(ydb, tableDefinition,
+                    chosenIndex, ascending, follow);
+            tw.setSecondaryIndexRanges(getSkRanges(chosenIndex));
         }
-      
-        if (pkRange != null) {
-            tw.setPrimaryIndexRange(pkRange);
+
+        if (pkValues != null && chosenIndex == null) {
+            tw.setPrimaryIndexRanges(getPkRanges());
+        } else if (pkRange != null) {
+            tw.setPrimaryIndexRange(getPkRange());
         }
         return tw;
     }
 
+    /**
+     * Transforms the values and the range of the first column of the secondary index into ranges of the index key.
+     * <p>
+     * If the index has only one column, the key of an index entry is formed by the column value followed by the
+     * primary key, so the primary key range can be appended to each value.
+     */
+    private List<DbRange> getSkRanges(SecondaryIndexDefinition sidx) {
+        DbRange range = skRanges.get(sidx.getName());
+        List<byte[]> values = skValues.get(sidx.getName());
+        if (values == null) {
+            return Collections.singletonList(range);
+        }
+        DbRange pkr = (sidx.getColumns().size() == 1 && pkRange != null) ? getPkRange() : null;
+        List<DbRange> ranges = new ArrayList<>(values.size());
+        for (byte[] v : values) {
+            if (!RowCountEstimator.inRange(range, v)) {
+                continue;
+            }
+            DbRange r = new DbRange();
+            r.rangeStart = (pkr == null || pkr.rangeStart == null) ? v : concat(v, pkr.rangeStart);
+            r.rangeEnd = (pkr == null || pkr.rangeEnd == null) ? v : concat(v, pkr.rangeEnd);
+            ranges.add(r);
+        }
+        return ranges;
+    }
+
+    private void plan() {
+        if (!planned) {
+            chosenIndex = chooseSecondaryIndex();
+            planned = true;
+        }
+    }
+
+    /**
+     * Chooses the secondary index used to walk the table or returns null if the table has to be walked in the
+     * primary key order.
+     * <p>
+     * A primary key restricted to one or a set of values is always preferred. Otherwise, if the table has histograms
+     * on the indexed columns, the number of rows retrieved through each usable index is estimated and compared with
+     * the number of rows walked in the primary key order, taking into account that retrieving the rows through an
+     * index is more expensive ({@link #INDEX_ROW_COST}).
+     * <p>
+     * Without estimates, the preference is (from the most to the least selective):
+     * <ol>
+     * <li>a secondary index with the first column restricted to one or a set of values</li>
+     * <li>a range on the primary key</li>
+     * <li>a range on the first column of a secondary index</li>
+     * </ol>
+     */
+    private SecondaryIndexDefinition chooseSecondaryIndex() {
+        if ((skRanges.isEmpty() && skValues.isEmpty()) || pkValues != null
+                || (pkRange != null && pkRange.rangeStart != null && pkRange.rangeStart == pkRange.rangeEnd)) {
+            return null;
+        }
+
+        RowCountEstimator estimator = new RowCountEstimator(ydb, tableDefinition);
+        long pkRows = estimator.estimateRows(keyTimeInterval);
+        if (pkRows >= 0) {
+            SecondaryIndexDefinition best = null;
+            long bestRows = Long.MAX_VALUE;
+            for (SecondaryIndexDefinition sidx : tableDefinition.getSecondaryIndexes()) {
+                long rows = estimateIndexRows(estimator, sidx);
+                if (rows >= 0 && rows < bestRows) {
+                    best = sidx;
+                    bestRows = rows;
+                }
+            }
+            if (best != null) {
+                if (bestRows * INDEX_ROW_COST < pkRows) {
+                    estimatedRows = bestRows;
+                    return best;
+                } else {
+                    estimatedRows = pkRows;
+                    return null;
+                }
+            }
+        }
+
+        // go through the indexes in the definition order such that the choice is deterministic
+        SecondaryIndexDefinition rangeIdx = null;
+        for (SecondaryIndexDefinition sidx : tableDefinition.getSecondaryIndexes()) {
+            if (skValues.containsKey(sidx.getName())) {
+                return sidx;
+            }
+            if (rangeIdx == null && skRanges.containsKey(sidx.getName())) {
+                rangeIdx = sidx;
+            }
+        }
+        if (pkRange != null && (pkRange.rangeStart != null || pkRange.rangeEnd != null)) {
+            return null;
+        }
+        return rangeIdx;
+    }
+
+    /**
+     * @return the estimated number of rows retrieved through the index or -1 if the index cannot be used or there is
+     *         no histogram for its first column
+     */
+    private long estimateIndexRows(RowCountEstimator estimator, SecondaryIndexDefinition sidx) {
+        List<byte[]> values = skValues.get(sidx.getName());
+        DbRange range = skRanges.get(sidx.getName());
+        if (values == null && range == null) {
+            return -1;
+        }
+        // the histograms contain the serialized values without the type prefix of the index key
+        List<byte[]> hvalues = null;
+        if (values != null) {
+            hvalues = new ArrayList<>(values.size());
+            for (byte[] v : values) {
+                hvalues.add(Arrays.copyOfRange(v, 1, v.length));
+            }
+        }
+        DbRange hrange = null;
+        if (range != null) {
+            hrange = new DbRange();
+            hrange.rangeStart = range.rangeStart == null ? null
+                    : Arrays.copyOfRange(range.rangeStart, 1, range.rangeStart.length);
+            hrange.rangeEnd = range.rangeEnd == null ? null
+                    : Arrays.copyOfRange(range.rangeEnd, 1, range.rangeEnd.length);
+        }
+        return estimator.estimateRows(sidx.getColumns().get(0), hvalues, hrange, keyTimeInterval);
+    }
+
+    /**
+     * Describes how the table will be walked: the order, the conditions used to restrict the walk, the partitions
+     * and the estimated number of rows.
+     * <p>
+     * Each element of the returned list is a pair (operation, detail).
+     */
+    public List<String[]> explain() {
+        plan();
+        List<String[]> l = new ArrayList<>();
+        String order = ascending ? "ascending" : "descending";
+        List<String> usedColumns = new ArrayList<>();
+        if (chosenIndex == null) {
+            List<TableColumnDefinition> keyDef = tableDefinition.getKeyDefinition();
+            l.add(new String[] { "scan", "table " + tableDefinition.getName() + " by primary key "
+                    + keyDef.stream().map(c -> c.getName()).toList() + " " + order });
+            usedColumns.add(keyDef.get(0).getName());
+            if (keyDef.size() > 1 && pkValues == null) {
+                usedColumns.add(keyDef.get(1).getName());
+            }
+        } else {
+            l.add(new String[] { "scan", "table " + tableDefinition.getName() + " by index " + chosenIndex.getName()
+                    + chosenIndex.getColumns() + " " + order });
+            usedColumns.add(chosenIndex.getColumns().get(0));
+            if (chosenIndex.getColumns().size() == 1) {
+                usedColumns.add(tableDefinition.getKeyDefinition().get(0).getName());
+            }
+        }
+        for (String column : usedColumns) {
+            for (String cond : conditions.getOrDefault(column, Collections.emptyList())) {
+                l.add(new String[] { "key condition", cond });
+            }
+        }
+        if (chosenIndex == null) {
+            if (tableDefinition.isPartitionedByTime()
+                    && (partitionTimeFilter.hasStart() || partitionTimeFilter.hasEnd())) {
+                l.add(new String[] { "partition time", partitionTimeFilter.toStringEncoded() });
+            }
+            if (partitionValueFilter != null) {
+                l.add(new String[] { "partition values", partitionValueFilter.toString() });
+            }
+        }
+        if (estimatedRows < 0) {
+            RowCountEstimator estimator = new RowCountEstimator(ydb, tableDefinition);
+            estimatedRows = chosenIndex == null ? estimator.estimateRows(keyTimeInterval)
+                    : estimateIndexRows(estimator, chosenIndex);
+        }
+        if (estimatedRows >= 0) {
+            l.add(new String[] { "estimated rows", Long.toString(estimatedRows) });
+        }
+        return l;
+    }
+
+    private void addCondition(String columnName, String description) {
+        conditions.computeIfAbsent(columnName, k -> new ArrayList<>()).add(description);
+    }
+
+    private String formatValue(String columnName, Object value) {
+        ColumnDefinition cd = tableDefinition.getColumnDefinition(columnName);
+        if (cd != null && cd.getType() == DataType.TIMESTAMP && value instanceof Long) {
+            return TimeEncoding.toString((Long) value);
+        } else if (value instanceof String) {
+            return "'" + value + "'";
+        } else {
+            return String.valueOf(value);
+        }
+    }
+
     public void setAscending(boolean ascending) {
         this.ascending = ascending;
     }
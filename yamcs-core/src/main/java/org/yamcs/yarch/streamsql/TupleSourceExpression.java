@@ -1,6 +1,8 @@
 package org.yamcs.yarch.streamsql;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 
 import org.yamcs.logging.Log;
@@ -173,6 +175,32 @@ public class TupleSourceExpression implements FilterableTarget {
         return stream;
     }
 
+    /**
+     * Describes how the tuples are retrieved, after the filters have been added.
+     * 
+     * @return a list of pairs (operation, detail)
+     */
+    List<String[]> explain() {
+        List<String[]> l = new ArrayList<>();
+        switch (type) {
+        case STREAM_EXPRESSION:
+            l.add(new String[] { "subscribe", "stream expression" });
+            break;
+        case STREAM:
+            l.add(new String[] { "subscribe", "stream " + objectName });
+            break;
+        case TABLE:
+            l.addAll(tableWalkerBuilder.explain());
+            break;
+        case TABLE_HISTOGRAM:
+            l.add(new String[] { "scan", "histogram of table " + objectName + " column " + histoColumn });
+            break;
+        default:
+            throw new IllegalStateException();
+        }
+        return l;
+    }
+
     public void setHistogramMergeTime(BigDecimal mergeTime) {
         histogramMergeTime = mergeTime;
     }
@@ -96,6 +96,22 @@ public class ValueExpression extends Expression {
         }
     }
 
+    @Override
+    protected String[] getVectorCode(List<Expression> boxed) {
+        String value;
+        if ((constantValue instanceof Byte) || (constantValue instanceof Short) || (constantValue instanceof Integer)
+                || (constantValue instanceof Boolean)) {
+            value = constantValue.toString();
+        } else if (constantValue instanceof Long) {
+            value = constantValue + "l";
+        } else if (constantValue instanceof Double && Double.isFinite((Double) constantValue)) {
+            value = constantValue + "d";
+        } else {
+            return null;
+        }
+        return new String[] { "true", value };
+    }
+
     @Override
     public CompiledExpression compile() {
         ColumnDefinition def = new ColumnDefinition(constantValue.toString(), type);
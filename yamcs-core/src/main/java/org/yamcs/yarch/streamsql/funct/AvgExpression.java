@@ -0,0 +1,46 @@
+package org.yamcs.yarch.streamsql.funct;
+
+import org.yamcs.utils.parser.ParseException;
+import org.yamcs.yarch.Accumulator;
+import org.yamcs.yarch.CompiledAggregateExpression;
+import org.yamcs.yarch.DataType;
+import org.yamcs.yarch.streamsql.AggregateExpression;
+import org.yamcs.yarch.streamsql.Expression;
+import org.yamcs.yarch.streamsql.StreamSqlException;
+import org.yamcs.yarch.streamsql.StreamSqlException.ErrCode;
+
+/**
+ * Aggregate returning the average of the non null values of the numeric argument.
+ */
+public class AvgExpression extends AggregateExpression {
+
+    public AvgExpression(Expression[] args, boolean star) throws ParseException {
+        super(args, star);
+        if (star || children.length != 1) {
+            throw new ParseException("avg() takes exactly one argument");
+        }
+    }
+
+    @Override
+    protected void doBind() throws StreamSqlException {
+        if (!DataType.isNumber(children[0].getType())) {
+            throw new StreamSqlException(ErrCode.BAD_ARG_TYPE,
+                    "avg() requires a numeric argument, got " + children[0].getType());
+        }
+        type = DataType.DOUBLE;
+    }
+
+    @Override
+    public Accumulator getAccumulator() throws StreamSqlException {
+        try {
+            return Accumulator.avg(getInputColumnName(), children[0].getType());
+        } catch (IllegalArgumentException e) {
+            throw new StreamSqlException(ErrCode.BAD_ARG_TYPE, e.getMessage());
+        }
+    }
+
+    @Override
+    public CompiledAggregateExpression getCompiledAggregate() throws StreamSqlException {
+        return getAccumulator().toCompiledAggregate();
+    }
+}
@@ -1,11 +1,15 @@
 package org.yamcs.yarch.streamsql.funct;
 
+import org.yamcs.yarch.Accumulator;
 import org.yamcs.yarch.DataType;
 import org.yamcs.yarch.streamsql.CompilableAggregateExpression;
 import org.yamcs.yarch.streamsql.Expression;
 import org.yamcs.utils.parser.ParseException;
 import org.yamcs.yarch.streamsql.StreamSqlException;
 
+/**
+ * count(*) counts all the rows, count(x) counts only the rows where x is not null.
+ */
 public class CountExpression extends CompilableAggregateExpression {
 
     public CountExpression(Expression[] args, boolean star) throws ParseException {
@@ -36,7 +40,18 @@ public class CountExpression extends CompilableAggregateExpression {
 
     @Override
     protected void aggregateFillCode_newData(StringBuilder code) throws StreamSqlException {
-        code.append("\t\tcount++");
+        if (isStar()) {
+            code.append("\t\tcount++");
+        } else {
+            // count(x) counts only the rows where x is not null
+            fillCode_InputDefVars(inputDef.getColumnDefinitions(), code);
+            code.append("\t\tif (col" + children[0].getColumnName() + " != null) count++");
+        }
         code.append(";\n");
     }
+
+    @Override
+    public Accumulator getAccumulator() {
+        return isStar() ? Accumulator.count() : Accumulator.count(getInputColumnName());
+    }
 }
@@ -15,6 +15,9 @@ public class FunctionExpressionFactory {
     static {
         addFunction("count", CountExpression.class);
         addFunction("sum", SumExpression.class);
+        addFunction("min", MinExpression.class);
+        addFunction("max", MaxExpression.class);
+        addFunction("avg", AvgExpression.class);
         addFunction("aggregatelist", AggregateListExpression.class);
         addFunction("firstval", FirstValExpression.class);
         addFunction("substring", SubstringExpression.class);
@@ -0,0 +1,41 @@
+package org.yamcs.yarch.streamsql.funct;
+
+import org.yamcs.utils.parser.ParseException;
+import org.yamcs.yarch.Accumulator;
+import org.yamcs.yarch.CompiledAggregateExpression;
+import org.yamcs.yarch.streamsql.AggregateExpression;
+import org.yamcs.yarch.streamsql.Expression;
+import org.yamcs.yarch.streamsql.StreamSqlException;
+import org.yamcs.yarch.streamsql.StreamSqlException.ErrCode;
+
+/**
+ * Aggregate returning the minimum of the non null values of the argument.
+ */
+public class MinExpression extends AggregateExpression {
+
+    public MinExpression(Expression[] args, boolean star) throws ParseException {
+        super(args, star);
+        if (star || children.length != 1) {
+            throw new ParseException("min() takes exactly one argument");
+        }
+    }
+
+    @Override
+    protected void doBind() throws StreamSqlException {
+        type = children[0].getType();
+    }
+
+    @Override
+    public Accumulator getAccumulator() throws StreamSqlException {
+        try {
+            return Accumulator.minMax(getInputColumnName(), getType(), false);
+        } catch (IllegalArgumentException e) {
+            throw new StreamSqlException(ErrCode.BAD_ARG_TYPE, e.getMessage());
+        }
+    }
+
+    @Override
+    public CompiledAggregateExpression getCompiledAggregate() throws StreamSqlException {
+        return getAccumulator().toCompiledAggregate();
+    }
+}
@@ -1,10 +1,12 @@
 package org.yamcs.yarch.streamsql.funct;
 
+import org.yamcs.yarch.Accumulator;
 import org.yamcs.yarch.streamsql.CompilableAggregateExpression;
 import org.yamcs.yarch.streamsql.Expression;
 
 import org.yamcs.utils.parser.ParseException;
 import org.yamcs.yarch.streamsql.StreamSqlException;
+import org.yamcs.yarch.streamsql.StreamSqlException.ErrCode;
 
 public class SumExpression extends CompilableAggregateExpression {
 
@@ -41,4 +43,13 @@ public class SumExpression extends CompilableAggregateExpression {
         code.append("\t\tsum+=col" + children[0].getColumnName());
         code.append(";\n");
     }
+
+    @Override
+    public Accumulator getAccumulator() throws StreamSqlException {
+        try {
+            return Accumulator.sum(getInputColumnName(), getType());
+        } catch (IllegalArgumentException e) {
+            throw new StreamSqlException(ErrCode.BAD_ARG_TYPE, e.getMessage());
+        }
+    }
 }
@@ -0,0 +1,104 @@
+package org.yamcs.archive;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+import org.yamcs.StandardTupleDefinitions;
+import org.yamcs.yarch.Stream;
+import org.yamcs.yarch.Tuple;
+import org.yamcs.yarch.YarchTestCase;
+import org.yamcs.yarch.protobuf.Db.Event;
+
+public class EventTextIndexTest extends YarchTestCase {
+
+    @Test
+    public void testTokenize() {
+        assertEquals(Arrays.asList("battery", "voltage", "low", "27", "5v"),
+                EventTextIndex.tokenize("Battery voltage LOW: 27.5V (a)"));
+        assertEquals(EventTextIndex.MAX_TOKEN_LENGTH, EventTextIndex.tokenize("x".repeat(100)).get(0).length());
+    }
+
+    @Test
+    public void testLookup() throws Exception {
+        ydb.execute("create stream events_in" + StandardTupleDefinitions.EVENT.getStringDefinition());
+        Stream s = ydb.getStream("events_in");
+        EventTextIndex index = EventTextIndex.setup(ydb);
+        s.addSubscriber(index);
+
+        String[] messages = { "Battery voltage low", "Battery temperature high", "Heater switched on",
+                "Temperature nominal", "battery charging" };
+        for (int i = 0; i < 100; i++) {
+            String source = i % 2 == 0 ? "src1" : "src2";
+            Event ev = Event.newBuilder().setGenerationTime(i).setSource(source).setSeqNumber(i)
+                    .setMessage(messages[i % messages.length]).build();
+            s.emitTuple(new Tuple(StandardTupleDefinitions.EVENT, new Object[] { (long) i, source, i, ev }));
+        }
+
+        assertEquals(times(0, 5, 100), EventTextIndex.findCandidates(ydb, " voltage", Long.MIN_VALUE, Long.MAX_VALUE));
+        assertEquals(union(times(1, 5, 100), times(3, 5, 100)),
+                EventTextIndex.findCandidates(ydb, "battery TEMP", 0, 100));
+        assertEquals(union(times(0, 5, 50), times(1, 5, 50), times(4, 5, 50)),
+                EventTextIndex.findCandidates(ydb, "temperature battery ", 0, 50));
+        assertEquals(times(1, 5, 50), EventTextIndex.findCandidates(ydb, "xx temperature battery ", 0, 50));
+        assertEquals(times(4, 5, 100), EventTextIndex.findCandidates(ydb, "battery charg", 4, Long.MAX_VALUE));
+        assertEquals(new TreeSet<>(), EventTextIndex.findCandidates(ydb, " temp ", Long.MIN_VALUE, Long.MAX_VALUE));
+        assertNull(EventTextIndex.findCandidates(ydb, "- ", Long.MIN_VALUE, Long.MAX_VALUE));
+    }
+
+    @Test
+    public void testInfix() throws Exception {
+        ydb.execute("create stream events_in" + StandardTupleDefinitions.EVENT.getStringDefinition());
+        Stream s = ydb.getStream("events_in");
+        EventTextIndex index = EventTextIndex.setup(ydb);
+        s.addSubscriber(index);
+
+        String[] messages = { "OVERTEMP detected", "battery low", "Temperature nominal" };
+        for (int i = 0; i < messages.length; i++) {
+            Event ev = Event.newBuilder().setGenerationTime(i).setSource("src").setSeqNumber(i)
+                    .setMessage(messages[i]).build();
+            s.emitTuple(new Tuple(StandardTupleDefinitions.EVENT, new Object[] { (long) i, "src", i, ev }));
+        }
+
+        // a single word can be anywhere inside a word of the message, the index cannot be used
+        assertNull(EventTextIndex.findCandidates(ydb, "temp", Long.MIN_VALUE, Long.MAX_VALUE));
+        assertNull(EventTextIndex.findCandidates(ydb, "attery", Long.MIN_VALUE, Long.MAX_VALUE));
+        // only the words preceded by a separator are looked up
+        assertEquals(times(1, 1, 2), EventTextIndex.findCandidates(ydb, "attery lo", Long.MIN_VALUE, Long.MAX_VALUE));
+        assertEquals(times(0, 1, 1), EventTextIndex.findCandidates(ydb, "ERTEMP det", Long.MIN_VALUE, Long.MAX_VALUE));
+        // wildcards of the like pattern
+        assertNull(EventTextIndex.findCandidates(ydb, "battery ?ow", Long.MIN_VALUE, Long.MAX_VALUE));
+        assertNull(EventTextIndex.findCandidates(ydb, "battery % low", Long.MIN_VALUE, Long.MAX_VALUE));
+    }
+
+    @Test
+    public void testIndexedWords() {
+        assertEquals(Map.of(), EventTextIndex.getIndexedWords("battery"));
+        assertEquals(Map.of("low", true), EventTextIndex.getIndexedWords("battery low"));
+        assertEquals(Map.of("voltage", false, "low", true), EventTextIndex.getIndexedWords("battery voltage low"));
+        assertEquals(Map.of("voltage", false), EventTextIndex.getIndexedWords(" voltage voltage"));
+        assertNull(EventTextIndex.getIndexedWords("temp(a)"));
+    }
+
+    static Set<Long> times(int first, int step, int stop) {
+        Set<Long> s = new TreeSet<>();
+        for (long t = first; t < stop; t += step) {
+            s.add(t);
+        }
+        return s;
+    }
+
+    @SafeVarargs
+    static Set<Long> union(Set<Long>... sets) {
+        Set<Long> s = new TreeSet<>();
+        for (Set<Long> s1 : sets) {
+            s.addAll(s1);
+        }
+        return s;
+    }
+}
@@ -0,0 +1,196 @@
+package org.yamcs.cfdp;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.yamcs.YConfiguration;
+import org.yamcs.cfdp.pdu.CfdpHeader;
+import org.yamcs.cfdp.pdu.CfdpPacket;
+import org.yamcs.cfdp.pdu.EofPacket;
+import org.yamcs.cfdp.pdu.FileDataPacket;
+import org.yamcs.cfdp.pdu.NakPacket;
+import org.yamcs.cfdp.pdu.SegmentRequest;
+import org.yamcs.events.EventProducer;
+import org.yamcs.filetransfer.TransferMonitor;
+import org.yamcs.protobuf.TransferState;
+import org.yamcs.utils.TimeEncoding;
+import org.yamcs.yarch.Bucket;
+import org.yamcs.yarch.Stream;
+import org.yamcs.yarch.Tuple;
+
+public class CfdpOutgoingTransferTest {
+    static final String OBJECT_NAME = "test-object";
+    // with the configuration below, the file data PDUs carry 84 bytes of data
+    static final int MAX_DATA_SIZE = 84;
+
+    ScheduledThreadPoolExecutor executor;
+    Bucket bucket;
+    Stream cfdpOut;
+    List<CfdpPacket> sent = new ArrayList<>();
+    List<TrackedInputStream> opened = new ArrayList<>();
+    byte[] data;
+
+    @BeforeAll
+    public static void beforeClass() {
+        TimeEncoding.setUp();
+    }
+
+    @BeforeEach
+    public void before() throws Exception {
+        executor = new ScheduledThreadPoolExecutor(1);
+        data = new byte[1000];
+        new Random().nextBytes(data);
+
+        bucket = mock(Bucket.class);
+        when(bucket.getName()).thenReturn("test-bucket");
+        when(bucket.openObject(eq(OBJECT_NAME), anyLong(), anyLong())).thenAnswer(inv -> {
+            int offset = (int) (long) inv.getArgument(1);
+            long length = inv.getArgument(2);
+            int end = length < 0 ? data.length : (int) Math.min(data.length, offset + length);
+            TrackedInputStream in = new TrackedInputStream(data, offset, end - offset);
+            opened.add(in);
+            return in;
+        });
+
+        cfdpOut = mock(Stream.class);
+        doAnswer(inv -> {
+            sent.add(CfdpPacket.fromTuple((Tuple) inv.getArgument(0)));
+            return null;
+        }).when(cfdpOut).emitTuple(any());
+    }
+
+    @AfterEach
+    public void after() throws Exception {
+        executor.shutdownNow();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testNakResend() throws Exception {
+        FilePutRequest request = new FilePutRequest(1, 2, OBJECT_NAME, "dest", false, true, false, false,
+                bucket, data.length);
+        YConfiguration config = YConfiguration.wrap(Map.<String, Object> of("entityIdLength", 2,
+                "sequenceNrLength", 4, "maxPduSize", 100));
+        CfdpOutgoingTransfer trsf = new CfdpOutgoingTransfer("test", 1, 1, 0, executor, request, cfdpOut, config,
+                bucket, null, null, mock(EventProducer.class), mock(TransferMonitor.class), null);
+
+        // metadata, file data and EOF
+        while (trsf.sendNextPdu() > 0) {
+        }
+        EofPacket eof = (EofPacket) sent.get(sent.size() - 1);
+        assertEquals(ChecksumCalculator.calculateChecksum(data), eof.getFileChecksum());
+        // the data is read sequentially from one stream
+        verify(bucket).openObject(OBJECT_NAME, 0, -1);
+
+        CfdpHeader header = new CfdpHeader(true, true, true, false, 2, 4, 1, 2, 1);
+        trsf.processPacket(new NakPacket(0, data.length,
+                List.of(new SegmentRequest(MAX_DATA_SIZE, 2 * MAX_DATA_SIZE + 10)), header));
+        executor.submit(() -> {
+        }).get();
+
+        sent.clear();
+        while (trsf.sendNextPdu() > 0) {
+        }
+        // only the requested segments are read back from the bucket
+        verify(bucket).openObject(OBJECT_NAME, MAX_DATA_SIZE, MAX_DATA_SIZE);
+        verify(bucket).openObject(OBJECT_NAME, 2 * MAX_DATA_SIZE, 10);
+
+        assertEquals(2, sent.size());
+        FileDataPacket fdp1 = (FileDataPacket) sent.get(0);
+        assertEquals(MAX_DATA_SIZE, fdp1.getOffset());
+        assertArrayEquals(Arrays.copyOfRange(data, MAX_DATA_SIZE, 2 * MAX_DATA_SIZE), fdp1.getData());
+        FileDataPacket fdp2 = (FileDataPacket) sent.get(1);
+        assertEquals(2 * MAX_DATA_SIZE, fdp2.getOffset());
+        assertArrayEquals(Arrays.copyOfRange(data, 2 * MAX_DATA_SIZE, 2 * MAX_DATA_SIZE + 10), fdp2.getData());
+        assertTrue(sent.stream().noneMatch(p -> p instanceof EofPacket));
+    }
+
+    @Test
+    public void testLazyChecksum() throws Exception {
+        // several chunks, the last one not aligned to 4 bytes
+        data = new byte[2 * FilePutRequest.CHECKSUM_CHUNK_SIZE + 1001];
+        new Random().nextBytes(data);
+        FilePutRequest request = new FilePutRequest(1, 2, OBJECT_NAME, "dest", false, true, false, false,
+                bucket, data.length);
+        assertEquals(ChecksumCalculator.calculateChecksum(data), request.getChecksum());
+        verify(bucket).openObject(OBJECT_NAME, 0, -1);
+    }
+
+    @Test
+    public void testAbandon() throws Exception {
+        CfdpOutgoingTransfer trsf = startTransfer();
+        trsf.abandonTransfer("test");
+        executor.submit(() -> {
+        }).get();
+
+        assertEquals(TransferState.FAILED, trsf.getTransferState());
+        assertTrue(opened.get(0).closed);
+        assertEquals(0, trsf.sendNextPdu());
+    }
+
+    @Test
+    public void testAbandonSuspended() throws Exception {
+        CfdpOutgoingTransfer trsf = startTransfer();
+        executor.submit(() -> trsf.suspend()).get();
+        assertFalse(opened.get(0).closed);
+        trsf.abandonTransfer("test");
+        executor.submit(() -> {
+        }).get();
+
+        assertEquals(TransferState.FAILED, trsf.getTransferState());
+        assertTrue(opened.get(0).closed);
+    }
+
+    // sends the metadata and the first two file data PDUs
+    private CfdpOutgoingTransfer startTransfer() {
+        FilePutRequest request = new FilePutRequest(1, 2, OBJECT_NAME, "dest", false, true, false, false,
+                bucket, data.length);
+        YConfiguration config = YConfiguration.wrap(Map.<String, Object> of("entityIdLength", 2,
+                "sequenceNrLength", 4, "maxPduSize", 100));
+        CfdpOutgoingTransfer trsf = new CfdpOutgoingTransfer("test", 1, 1, 0, executor, request, cfdpOut, config,
+                bucket, null, null, mock(EventProducer.class), mock(TransferMonitor.class), null);
+        for (int i = 0; i < 3; i++) {
+            trsf.sendNextPdu();
+        }
+        assertEquals(1, opened.size());
+        assertFalse(opened.get(0).closed);
+        return trsf;
+    }
+
+    static class TrackedInputStream extends ByteArrayInputStream {
+        boolean closed = false;
+
+        TrackedInputStream(byte[] buf, int offset, int length) {
+            super(buf, offset, length);
+        }
+
+        @Override
+        public void close() throws IOException {
+            closed = true;
+            super.close();
+        }
+    }
+}
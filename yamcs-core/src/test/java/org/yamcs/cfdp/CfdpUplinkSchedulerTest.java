@@ -0,0 +1,164 @@
+package org.yamcs.cfdp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.base.Ticker;
+
+public class CfdpUplinkSchedulerTest {
+    ScheduledThreadPoolExecutor executor;
+    ScheduledFuture<?> tickFuture;
+    // the transfers in the order in which they have sent PDUs
+    List<String> sent = new ArrayList<>();
+
+    @BeforeEach
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public void before() {
+        // the ticks are triggered by the test
+        executor = mock(ScheduledThreadPoolExecutor.class);
+        tickFuture = mock(ScheduledFuture.class);
+        when(executor.scheduleAtFixedRate(any(), anyLong(), anyLong(), any(TimeUnit.class)))
+                .thenReturn((ScheduledFuture) tickFuture);
+    }
+
+    @Test
+    public void testPacing() {
+        long rate = 10_000;
+        long window = 1000;
+        int pduSize = 100;
+        FakeTicker ticker = new FakeTicker();
+        CfdpUplinkScheduler scheduler = new CfdpUplinkScheduler(executor, rate, window, ticker);
+        scheduler.add(transfer("t1", 1, pduSize));
+
+        // the first tick sends a full window
+        scheduler.tick();
+        assertEquals(window / pduSize, sent.size());
+
+        // no time has passed, no tokens left
+        scheduler.tick();
+        assertEquals(window / pduSize, sent.size());
+
+        // 10ms at 10000 bytes/s: 100 bytes, one PDU per tick
+        for (int i = 0; i < 50; i++) {
+            ticker.advance(CfdpUplinkScheduler.TICK_MILLIS, TimeUnit.MILLISECONDS);
+            scheduler.tick();
+            assertEquals(window / pduSize + i + 1, sent.size());
+        }
+
+        // half a PDU of tokens is enough to send one PDU, the bucket is then in debt
+        ticker.advance(5, TimeUnit.MILLISECONDS);
+        scheduler.tick();
+        assertEquals(window / pduSize + 51, sent.size());
+        ticker.advance(5, TimeUnit.MILLISECONDS);
+        scheduler.tick();
+        assertEquals(window / pduSize + 51, sent.size());
+
+        // after a long pause, at most one window is sent in a burst
+        ticker.advance(1, TimeUnit.HOURS);
+        scheduler.tick();
+        assertEquals(2 * window / pduSize + 51, sent.size());
+    }
+
+    @Test
+    public void testRoundRobin() {
+        // 5.5 PDUs of tokens at the first tick
+        CfdpUplinkScheduler scheduler = new CfdpUplinkScheduler(executor, 1, 550);
+        scheduler.add(transfer("a1", 1, 100));
+        scheduler.add(transfer("a2", 1, 100));
+        scheduler.add(transfer("b1", 2, 100));
+        // has nothing to send
+        scheduler.add(transfer("b2", 2, 0));
+
+        scheduler.tick();
+        // the destinations are served in turn, then the transfers of each destination
+        assertEquals(Arrays.asList("a1", "b1", "a2", "a1", "b1", "a2"), sent);
+    }
+
+    @Test
+    public void testRemove() {
+        CfdpUplinkScheduler scheduler = new CfdpUplinkScheduler(executor, 1, 1000);
+        CfdpOutgoingTransfer a1 = transfer("a1", 1, 100);
+        CfdpOutgoingTransfer b1 = transfer("b1", 2, 100);
+        scheduler.add(a1);
+        scheduler.add(b1);
+        scheduler.add(a1);
+        assertEquals(2, scheduler.getNumTransfers());
+
+        scheduler.remove(a1);
+        scheduler.tick();
+        assertTrue(sent.stream().allMatch(s -> s.equals("b1")));
+
+        scheduler.remove(b1);
+        assertEquals(0, scheduler.getNumTransfers());
+        verify(tickFuture).cancel(false);
+    }
+
+    @Test
+    public void testCustomPduDelay() {
+        FakeTicker ticker = new FakeTicker();
+        // plenty of bandwidth, the spacing is given by the PDU delay
+        CfdpUplinkScheduler scheduler = new CfdpUplinkScheduler(executor, 1_000_000, 1000, ticker);
+        CfdpOutgoingTransfer slow = transfer("s", 1, 100);
+        when(slow.getCustomPduDelay()).thenReturn(50);
+        scheduler.add(slow);
+        scheduler.add(transfer("f", 2, 100));
+
+        scheduler.tick();
+        // the slow transfer sends one PDU, the other one uses the rest of the window
+        assertEquals(1, sent.stream().filter(s -> s.equals("s")).count());
+        assertEquals(10, sent.size());
+
+        for (int i = 1; i <= 10; i++) {
+            ticker.advance(CfdpUplinkScheduler.TICK_MILLIS, TimeUnit.MILLISECONDS);
+            scheduler.tick();
+            // one more PDU every 50ms
+            assertEquals(1 + i / 5, sent.stream().filter(s -> s.equals("s")).count());
+        }
+
+        scheduler.remove(slow);
+        ticker.advance(1, TimeUnit.SECONDS);
+        scheduler.tick();
+        assertEquals(3, sent.stream().filter(s -> s.equals("s")).count());
+    }
+
+    static class FakeTicker extends Ticker {
+        long nanos;
+
+        void advance(long duration, TimeUnit unit) {
+            nanos += unit.toNanos(duration);
+        }
+
+        @Override
+        public long read() {
+            return nanos;
+        }
+    }
+
+    // the transfer records its name in the sent list each time it sends a PDU of the given size
+    private CfdpOutgoingTransfer transfer(String name, long destinationId, int pduSize) {
+        CfdpOutgoingTransfer trsf = mock(CfdpOutgoingTransfer.class);
+        when(trsf.getDestinationId()).thenReturn(destinationId);
+        when(trsf.sendNextPdu()).thenAnswer(inv -> {
+            if (pduSize > 0) {
+                sent.add(name);
+            }
+            return pduSize;
+        });
+        return trsf;
+    }
+}
@@ -5,10 +5,13 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.python.bouncycastle.util.Arrays;
 import org.yamcs.cfdp.pdu.FileDataPacket;
 import org.yamcs.cfdp.pdu.SegmentRequest;
@@ -142,6 +145,47 @@ public class DataFileTest {
         verify(df);
     }
 
+    @Test
+    public void testChecksum() {
+        DataFile df = new DataFile(n);
+        df.addSegment(getSegment(10, 13));
+        df.addSegment(getSegment(0, 11));
+        df.addSegment(getSegment(30, 7));
+        df.addSegment(getSegment(5, 50));
+        df.addSegment(getSegment(50, n - 50));
+        assertTrue(df.isComplete());
+        assertEquals(ChecksumCalculator.calculateChecksum(data), df.getChecksum());
+    }
+
+    @Test
+    public void testDisk(@TempDir Path dir) throws Exception {
+        DataFile df = new DataFile();
+        df.addSegment(getSegment(10, 10));
+        df.moveToDisk(dir);
+        Path file = df.getFile();
+        assertTrue(Files.exists(file));
+
+        df.setSize(n);
+        df.addSegment(getSegment(50, n - 50));
+        df.addSegment(getSegment(0, 15));
+        df.addSegment(getSegment(15, 40));
+        assertTrue(df.isComplete());
+        assertEquals(ChecksumCalculator.calculateChecksum(data), df.getChecksum());
+        assertArrayEquals(data, df.getData());
+
+        Path f = df.detachFile();
+        assertEquals(file, f);
+        assertArrayEquals(data, Files.readAllBytes(f));
+        df.release();
+        assertTrue(Files.exists(f));
+
+        df = new DataFile(n);
+        df.moveToDisk(dir);
+        file = df.getFile();
+        df.release();
+        assertFalse(Files.exists(file));
+    }
+
     private FileDataPacket getSegment(int offset, int length) {
         return new FileDataPacket(Arrays.copyOfRange(data, offset, offset + length), offset, null);
     }
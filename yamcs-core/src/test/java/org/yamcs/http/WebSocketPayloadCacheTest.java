@@ -0,0 +1,99 @@
+package org.yamcs.http;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+import org.yamcs.protobuf.ServerMessage;
+
+import com.google.gson.JsonParser;
+import com.google.protobuf.Any;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.BytesValue;
+import com.google.protobuf.Message;
+import com.google.protobuf.StringValue;
+import com.google.protobuf.TypeRegistry;
+import com.google.protobuf.util.JsonFormat;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+
+public class WebSocketPayloadCacheTest {
+
+    @Test
+    public void testProtobufEncoding() {
+        WebSocketPayloadCache cache = new WebSocketPayloadCache(null, 10);
+        // large enough for the length of the data to be encoded on two bytes
+        Message data = BytesValue.of(ByteString.copyFrom(new byte[300]));
+
+        checkProtobuf(cache, "parameters", 3, 17, data);
+        // shared payload, different header
+        checkProtobuf(cache, "parameters", 4, 1, data);
+        // default values are not encoded
+        checkProtobuf(cache, "", 0, 0, data);
+        checkProtobuf(new WebSocketPayloadCache(null, 0), "time", 1, 200, data);
+    }
+
+    private void checkProtobuf(WebSocketPayloadCache cache, String type, int call, int seq, Message data) {
+        byte[] expected = ServerMessage.newBuilder()
+                .setType(type)
+                .setCall(call)
+                .setSeq(seq)
+                .setData(Any.pack(data, HttpServer.TYPE_URL_PREFIX))
+                .build()
+                .toByteArray();
+        ByteBuf buf = cache.encodeProtobuf(type, call, seq, data);
+        try {
+            assertArrayEquals(expected, ByteBufUtil.getBytes(buf));
+        } finally {
+            buf.release();
+        }
+    }
+
+    @Test
+    public void testJsonEncoding() throws Exception {
+        TypeRegistry typeRegistry = TypeRegistry.newBuilder()
+                .add(BytesValue.getDescriptor())
+                .add(StringValue.getDescriptor())
+                .build();
+        JsonFormat.Printer jsonPrinter = JsonFormat.printer().usingTypeRegistry(typeRegistry);
+        HttpServer httpServer = new HttpServer() {
+            @Override
+            public JsonFormat.Printer getJsonPrinter() {
+                return jsonPrinter;
+            }
+        };
+
+        WebSocketPayloadCache cache = new WebSocketPayloadCache(httpServer, 10);
+        Message data = BytesValue.of(ByteString.copyFrom(new byte[300]));
+        checkJson(cache, jsonPrinter, "parameters", 3, 17, data);
+        // shared payload, different header
+        checkJson(cache, jsonPrinter, "parameters", 4, 1, data);
+        // default values are not encoded
+        checkJson(cache, jsonPrinter, "", 0, 0, data);
+        checkJson(cache, jsonPrinter, "time", 0, 5, data);
+        checkJson(cache, jsonPrinter, "time", 5, 0, data);
+        // characters to be escaped
+        checkJson(cache, jsonPrinter, "a\"b\\c\u00e9", 1, 2, StringValue.of("x\"y\n\u00e9\u2603"));
+        checkJson(new WebSocketPayloadCache(httpServer, 0), jsonPrinter, "time", 1, 200, data);
+    }
+
+    private void checkJson(WebSocketPayloadCache cache, JsonFormat.Printer jsonPrinter, String type, int call, int seq,
+            Message data) throws Exception {
+        String expected = jsonPrinter.print(ServerMessage.newBuilder()
+                .setType(type)
+                .setCall(call)
+                .setSeq(seq)
+                .setData(Any.pack(data, HttpServer.TYPE_URL_PREFIX))
+                .build());
+        ByteBuf buf = cache.encodeJson(type, call, seq, data);
+        try {
+            String actual = new String(ByteBufUtil.getBytes(buf), StandardCharsets.UTF_8);
+            assertEquals(JsonParser.parseString(expected), JsonParser.parseString(actual), actual);
+        } finally {
+            buf.release();
+        }
+    }
+}
@@ -7,6 +7,9 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.yamcs.http.api.Downsampler.Sample;
+import org.yamcs.parameter.ValueArray;
+import org.yamcs.parameterarchive.ParameterValueArray;
+import org.yamcs.protobuf.Yamcs.Value.Type;
 
 public class DownsamplerTest {
 
@@ -26,6 +29,7 @@ public class DownsamplerTest {
 
         // Add to same bucket
         sampler.process(2, 10, -1);
+        samples = sampler.collect();
         assertEquals(1, samples.size());
         assertEquals((5 + 10) / 2., samples.get(0).avg, 1e-10);
         assertEquals(2, samples.get(0).n);
@@ -63,6 +67,48 @@ public class DownsamplerTest {
         assertEquals(1, samples.size());
     }
 
+    @Test
+    public void testAcceptArray() {
+        Downsampler sampler1 = new Downsampler(0, 1000, 10);
+        Downsampler sampler2 = new Downsampler(0, 1000, 10);
+        long[] timestamps = new long[200];
+        int[] values = new int[200];
+        for (int i = 0; i < 200; i++) {
+            timestamps[i] = 5 * i;
+            values[i] = (i * 37) % 101 - 50;
+            sampler1.process(timestamps[i], values[i], -1);
+        }
+        sampler2.accept(new ParameterValueArray(timestamps, new ValueArray(Type.SINT32, values), null, null));
+
+        List<Sample> samples1 = sampler1.collect();
+        List<Sample> samples2 = sampler2.collect();
+        assertEquals(10, samples2.size());
+        for (int i = 0; i < 10; i++) {
+            Sample s1 = samples1.get(i);
+            Sample s2 = samples2.get(i);
+            assertEquals(100 * i, s2.t);
+            assertEquals(20, s2.n);
+            assertEquals(s1.min, s2.min, 1e-10);
+            assertEquals(s1.minTime, s2.minTime);
+            assertEquals(s1.max, s2.max, 1e-10);
+            assertEquals(s1.maxTime, s2.maxTime);
+            assertEquals(s1.avg, s2.avg, 1e-10);
+        }
+    }
+
+    @Test
+    public void testGap() {
+        Downsampler sampler = new Downsampler(0, 1000, 10);
+        sampler.setGapTime(150);
+        sampler.process(10, 1, -1);
+        sampler.process(910, 2, -1);
+        List<Sample> samples = sampler.collect();
+        // the first value, gaps for the empty buckets starting 200 ms later and the second value
+        assertEquals(9, samples.size());
+        assertEquals(200, samples.get(1).t);
+        assertEquals(0, samples.get(1).n);
+    }
+
     @Test
     public void testSamplingInvalid() {
         assertThrows(IllegalArgumentException.class, () -> {
@@ -0,0 +1,170 @@
+package org.yamcs.http.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.yamcs.api.Observer;
+import org.yamcs.parameter.ParameterValue;
+import org.yamcs.parameter.ParameterValueWithId;
+import org.yamcs.protobuf.SubscribeParametersData;
+import org.yamcs.protobuf.Yamcs.NamedObjectId;
+import org.yamcs.security.User;
+import org.yamcs.utils.TimeEncoding;
+import org.yamcs.utils.ValueUtility;
+
+public class SubscribeParameterObserverTest {
+    static final NamedObjectId P1 = NamedObjectId.newBuilder().setName("/test/p1").build();
+    static final NamedObjectId P2 = NamedObjectId.newBuilder().setName("/test/p2").build();
+
+    MyObserver responseObserver;
+    SubscribeParameterObserver observer;
+
+    @BeforeAll
+    public static void beforeClass() {
+        TimeEncoding.setUp();
+    }
+
+    @BeforeEach
+    public void before() {
+        responseObserver = new MyObserver();
+        observer = new SubscribeParameterObserver(new User("test", null), responseObserver);
+        observer.numericIdMap.put(P1, 1);
+        observer.numericIdMap.put(P2, 2);
+        // the periodic flush does not trigger during the test, the flushes are called explicitly
+        observer.setUpdateInterval(3600_000);
+    }
+
+    @AfterEach
+    public void after() {
+        observer.complete();
+    }
+
+    @Test
+    public void testConflation() {
+        observer.conflate(List.of(pv(P1, 1), pv(P2, 1)));
+        observer.conflate(List.of(pv(P1, 2)));
+        observer.conflate(List.of(pv(P1, 3)));
+        assertTrue(responseObserver.messages.isEmpty());
+
+        observer.flush();
+        assertEquals(1, responseObserver.messages.size());
+        SubscribeParametersData data = responseObserver.messages.get(0);
+        assertEquals(2, data.getValuesCount());
+        // the latest value of each parameter, in the order of the first update
+        assertEquals(1, data.getValues(0).getNumericId());
+        assertEquals(3, data.getValues(0).getEngValue().getSint32Value());
+        assertEquals(2, data.getValues(1).getNumericId());
+        assertEquals(1, data.getValues(1).getEngValue().getSint32Value());
+
+        // nothing is sent if there has been no update since the last flush
+        observer.flush();
+        assertEquals(1, responseObserver.messages.size());
+    }
+
+    @Test
+    public void testUnknownId() {
+        NamedObjectId p3 = NamedObjectId.newBuilder().setName("/test/p3").build();
+        observer.conflate(List.of(pv(p3, 1)));
+        observer.flush();
+        assertTrue(responseObserver.messages.isEmpty());
+    }
+
+    @Test
+    public void testDeferredFlush() {
+        observer.conflate(List.of(pv(P1, 1)));
+        responseObserver.ready = false;
+        observer.flush();
+        assertTrue(responseObserver.messages.isEmpty());
+
+        // the values keep being conflated while the channel is not writable
+        observer.conflate(List.of(pv(P1, 2), pv(P2, 5)));
+        observer.flush();
+        assertTrue(responseObserver.messages.isEmpty());
+
+        responseObserver.ready = true;
+        observer.flush();
+        assertEquals(1, responseObserver.messages.size());
+        SubscribeParametersData data = responseObserver.messages.get(0);
+        assertEquals(2, data.getValuesCount());
+        assertEquals(2, data.getValues(0).getEngValue().getSint32Value());
+        assertEquals(5, data.getValues(1).getEngValue().getSint32Value());
+    }
+
+    @Test
+    public void testOnReady() {
+        assertNotNull(responseObserver.onReadyHandler);
+
+        // nothing has been deferred
+        observer.conflate(List.of(pv(P1, 1)));
+        responseObserver.onReadyHandler.run();
+        assertTrue(responseObserver.messages.isEmpty());
+
+        responseObserver.ready = false;
+        observer.flush();
+        assertTrue(responseObserver.messages.isEmpty());
+
+        // the deferred values are sent as soon as the channel is writable, without waiting for the next flush
+        responseObserver.ready = true;
+        responseObserver.onReadyHandler.run();
+        assertEquals(1, responseObserver.messages.size());
+        assertEquals(1, responseObserver.messages.get(0).getValues(0).getEngValue().getSint32Value());
+
+        // the deferred flag has been cleared
+        observer.conflate(List.of(pv(P1, 2)));
+        responseObserver.onReadyHandler.run();
+        assertEquals(1, responseObserver.messages.size());
+    }
+
+    @Test
+    public void testDisableConflation() {
+        observer.conflate(List.of(pv(P1, 1)));
+        responseObserver.ready = false;
+
+        // the pending values are sent even if the observer is not ready
+        observer.setUpdateInterval(-1);
+        assertEquals(1, responseObserver.messages.size());
+    }
+
+    static ParameterValueWithId pv(NamedObjectId id, int value) {
+        ParameterValue pv = new ParameterValue(id.getName());
+        pv.setEngValue(ValueUtility.getSint32Value(value));
+        return new ParameterValueWithId(pv, id);
+    }
+
+    static class MyObserver implements Observer<SubscribeParametersData> {
+        List<SubscribeParametersData> messages = new ArrayList<>();
+        boolean ready = true;
+        Runnable onReadyHandler;
+
+        @Override
+        public void next(SubscribeParametersData message) {
+            messages.add(message);
+        }
+
+        @Override
+        public void completeExceptionally(Throwable t) {
+        }
+
+        @Override
+        public void complete() {
+        }
+
+        @Override
+        public boolean isReady() {
+            return ready;
+        }
+
+        @Override
+        public void setOnReadyHandler(Runnable onReadyHandler) {
+            this.onReadyHandler = onReadyHandler;
+        }
+    }
+}
@@ -5,9 +5,16 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.yamcs.YConfiguration;
+import org.yamcs.mdb.Mdb;
+import org.yamcs.mdb.MdbFactory;
 import org.yamcs.parameter.LastValueCache.ParamBuffer;
 import org.yamcs.utils.TimeEncoding;
 import org.yamcs.xtce.DataSource;
@@ -112,4 +119,78 @@ public class LastValueCacheTest {
         assertEquals(p1v1, lvc.getValue(p1, -2));
         assertEquals(p1v0, lvc.getValue(p1, -3));
     }
+
+    @Test
+    public void testMdbParameters() throws Exception {
+        YConfiguration.setupTest(null);
+        Mdb mdb = MdbFactory.createInstanceByConfig("refmdb");
+        int n = mdb.getParameters().size();
+        // the indexes are dense
+        assertEquals(IntStream.range(0, n).boxed().collect(Collectors.toSet()),
+                mdb.getParameters().stream().map(Parameter::getIndex).collect(Collectors.toSet()));
+
+        List<Parameter> params = mdb.getParameters().stream()
+                .filter(p -> p.getDataSource() != DataSource.CONSTANT)
+                .collect(Collectors.toList());
+        long numPersistent = params.stream().filter(Parameter::isPersistent).count();
+
+        // sized for the MDB and with the small pages extended as needed
+        for (LastValueCache lvc : List.of(new LastValueCache(n, Collections.emptyList()), new LastValueCache())) {
+            for (Parameter p : params) {
+                lvc.add(new ParameterValue(p));
+            }
+            // parameter without index
+            lvc.add(p1v0);
+
+            assertEquals(params.size() + 1, lvc.size());
+            assertEquals(params.size() + 1, lvc.getValues().size());
+            assertEquals(numPersistent, lvc.getValuesToBePersisted().size());
+            for (Parameter p : params) {
+                assertEquals(p, lvc.getValue(p).getParameter());
+            }
+            assertEquals(p1v0, lvc.getValue(p1));
+            assertNull(lvc.getValue(new Parameter("unknown")));
+        }
+    }
+
+    @Test
+    public void testUnindexed() {
+        LastValueCache lvc = new LastValueCache();
+        lvc.add(p1v0);
+        assertEquals(1, lvc.size());
+        assertEquals(p1v0, lvc.getValue(p1));
+
+        lvc.enableBuffering(p1, 3);
+        lvc.add(p1v1);
+        lvc.add(p1v2);
+        assertEquals(1, lvc.size());
+        assertEquals(p1v2, lvc.getValue(p1));
+        assertEquals(p1v1, lvc.getValue(p1, -1));
+        assertEquals(p1v0, lvc.getValue(p1, -2));
+        assertEquals(Arrays.asList(p1v2), lvc.getValues());
+        assertNull(lvc.getValue(new Parameter("unknown")));
+    }
+
+    @Test
+    public void testEnlargeWrappedBuffer() {
+        LastValueCache lvc = new LastValueCache();
+        lvc.enableBuffering(p1, 2);
+        lvc.add(p1v0);
+        lvc.add(p1v1);
+        lvc.add(p1v2);
+        // the buffer has wrapped: p1v2 is at the position 0 and p1v1 at the position 1
+        assertEquals(p1v2, lvc.getValue(p1, 0));
+        assertEquals(p1v1, lvc.getValue(p1, -1));
+
+        lvc.enableBuffering(p1, 4);
+        assertEquals(p1v2, lvc.getValue(p1, 0));
+        assertEquals(p1v1, lvc.getValue(p1, -1));
+        assertNull(lvc.getValue(p1, -2));
+
+        lvc.add(p1v3);
+        assertEquals(p1v3, lvc.getValue(p1, 0));
+        assertEquals(p1v2, lvc.getValue(p1, -1));
+        assertEquals(p1v1, lvc.getValue(p1, -2));
+        assertNull(lvc.getValue(p1, -3));
+    }
 }
@@ -0,0 +1,275 @@
+package org.yamcs.parameter;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.yamcs.InvalidIdentification;
+import org.yamcs.Processor;
+import org.yamcs.ProcessorFactory;
+import org.yamcs.YConfiguration;
+import org.yamcs.events.EventProducerFactory;
+import org.yamcs.mdb.Mdb;
+import org.yamcs.mdb.MdbFactory;
+import org.yamcs.parameter.ParameterRequestManager.DeliveryTable;
+import org.yamcs.protobuf.Yamcs.NamedObjectId;
+import org.yamcs.xtce.Parameter;
+
+import com.google.common.util.concurrent.AbstractService;
+
+public class ParameterRequestManagerTest {
+    static String instance = "BogusSAT";
+    static Mdb mdb;
+    static int count;
+    ParameterRequestManager prm;
+    Parameter p1, p2, p3;
+    // not part of the MDB
+    Parameter unindexed;
+
+    @BeforeAll
+    public static void beforeClass() throws Exception {
+        YConfiguration.setupTest(instance);
+        EventProducerFactory.setMockup(false);
+        MdbFactory.reset();
+    }
+
+    @BeforeEach
+    public void before() throws Exception {
+        Processor proc = ProcessorFactory.create(instance, "ParameterRequestManagerTest" + (count++),
+                new MyProvider());
+        mdb = proc.getMdb();
+        prm = proc.getParameterProcessorManager().getParameterRequestManager();
+        p1 = mdb.getParameter("/BogusSAT/SC001/BusElectronics/Battery_Voltage");
+        p2 = mdb.getParameter("/BogusSAT/SC001/BusElectronics/Battery_Current");
+        p3 = mdb.getParameter("/BogusSAT/SC001/BusElectronics/Solar_Array_Voltage_1");
+        unindexed = new Parameter("unindexed");
+        unindexed.setQualifiedName("/test/unindexed");
+    }
+
+    @Test
+    public void testAddRemove() throws Exception {
+        MyConsumer c1 = new MyConsumer();
+        MyConsumer c2 = new MyConsumer();
+        int id1 = prm.addRequest(List.of(p1, p2), c1);
+        int id2 = prm.addRequest(List.of(p2, unindexed), c2);
+
+        DeliveryTable table = prm.getDeliveryTable();
+        assertEquals(2, table.consumers.length);
+        assertEquals(0, table.allSlots.length);
+        int k1 = slot(table, id1);
+        int k2 = slot(table, id2);
+        assertSame(c1, table.consumers[k1]);
+        assertSame(c2, table.consumers[k2]);
+        assertArrayEquals(new int[] { k1 }, table.getSlots(p1));
+        assertArrayEquals(sorted(new int[] { k1, k2 }), sorted(table.getSlots(p2)));
+        assertArrayEquals(new int[] { k2 }, table.getSlots(unindexed));
+        assertNull(table.getSlots(p3));
+        // the table is reused as long as the subscriptions do not change
+        assertSame(table, prm.getDeliveryTable());
+
+        prm.update(pvlist(p1, p2, p3, unindexed));
+        assertEquals(List.of(p1, p2), c1.received());
+        assertEquals(List.of(p2, unindexed), c2.received());
+
+        // add a parameter to a subscription
+        prm.addItemsToRequest(id1, p3);
+        DeliveryTable table1 = prm.getDeliveryTable();
+        assertNotSame(table, table1);
+        assertArrayEquals(new int[] { slot(table1, id1) }, table1.getSlots(p3));
+
+        // remove a parameter from a subscription
+        prm.removeItemsFromRequest(id2, p2);
+        c1.clear();
+        c2.clear();
+        prm.update(pvlist(p1, p2, p3, unindexed));
+        assertEquals(List.of(p1, p2, p3), c1.received());
+        assertEquals(List.of(unindexed), c2.received());
+
+        // remove a subscription
+        prm.removeRequest(id1);
+        DeliveryTable table2 = prm.getDeliveryTable();
+        assertEquals(1, table2.consumers.length);
+        assertSame(c2, table2.consumers[0]);
+        assertEquals(id2, table2.subscriptionIds[0]);
+        assertNull(table2.getSlots(p1));
+        c1.clear();
+        c2.clear();
+        prm.update(pvlist(p1, p2, p3, unindexed));
+        assertTrue(c1.lists.isEmpty());
+        assertEquals(List.of(unindexed), c2.received());
+    }
+
+    @Test
+    public void testSubscribeAll() {
+        MyConsumer c1 = new MyConsumer();
+        MyConsumer c2 = new MyConsumer();
+        int id1 = prm.addRequest(List.of(p1), c1);
+        int id2 = prm.subscribeAll(c2);
+
+        DeliveryTable table = prm.getDeliveryTable();
+        assertEquals(2, table.consumers.length);
+        assertArrayEquals(new int[] { slot(table, id2) }, table.allSlots);
+        assertArrayEquals(new int[] { slot(table, id1) }, table.getSlots(p1));
+
+        prm.update(pvlist(p1, p2, unindexed));
+        assertEquals(List.of(p1), c1.received());
+        assertEquals(List.of(p1, p2, unindexed), c2.received());
+
+        prm.unsubscribeAll(id2);
+        DeliveryTable table1 = prm.getDeliveryTable();
+        assertEquals(0, table1.allSlots.length);
+        c2.clear();
+        prm.update(pvlist(p1, p2));
+        assertTrue(c2.lists.isEmpty());
+    }
+
+    @Test
+    public void testSubscribeAllAndParameters() throws Exception {
+        MyConsumer c1 = new MyConsumer();
+        MyConsumer c2 = new MyConsumer();
+        int id1 = prm.subscribeAll(c1);
+        // the same subscription has also some explicit parameters
+        prm.addItemsToRequest(id1, List.of(p1, unindexed));
+        // and the same consumer has a second subscription
+        int id2 = prm.addRequest(List.of(p1), c1);
+        int id3 = prm.addRequest(List.of(p1, p2), c2);
+
+        DeliveryTable table = prm.getDeliveryTable();
+        assertEquals(3, table.consumers.length);
+        int k1 = slot(table, id1);
+        assertArrayEquals(new int[] { k1 }, table.allSlots);
+        // the explicit parameters are merged into the full list
+        assertArrayEquals(sorted(new int[] { slot(table, id2), slot(table, id3) }), sorted(table.getSlots(p1)));
+        assertNull(table.getSlots(unindexed));
+
+        prm.update(pvlist(p1, p2, p3, unindexed));
+        // each subscription is delivered separately, the subscribeAll one receives each value once
+        assertEquals(List.of(id1, id2), c1.ids);
+        assertEquals(List.of(p1, p2, p3, unindexed), params(c1.lists.get(0)));
+        assertEquals(List.of(p1), params(c1.lists.get(1)));
+        assertEquals(List.of(p1, p2), c2.received());
+
+        // without the subscribeAll, the explicit parameters are delivered on their own
+        prm.unsubscribeAll(id1);
+        c1.clear();
+        prm.update(pvlist(p1, p2, p3, unindexed));
+        assertEquals(List.of(id1, id2), c1.ids);
+        assertEquals(List.of(p1, unindexed), params(c1.lists.get(0)));
+        assertEquals(List.of(p1), params(c1.lists.get(1)));
+    }
+
+    static int slot(DeliveryTable table, int subscriptionId) {
+        for (int k = 0; k < table.subscriptionIds.length; k++) {
+            if (table.subscriptionIds[k] == subscriptionId) {
+                return k;
+            }
+        }
+        throw new AssertionError("no slot for subscription " + subscriptionId);
+    }
+
+    static int[] sorted(int[] a) {
+        int[] b = a.clone();
+        Arrays.sort(b);
+        return b;
+    }
+
+    static ParameterValueList pvlist(Parameter... params) {
+        ParameterValueList pvlist = new ParameterValueList();
+        for (Parameter p : params) {
+            pvlist.add(new ParameterValue(p));
+        }
+        return pvlist;
+    }
+
+    static List<Parameter> params(List<ParameterValue> pvs) {
+        List<Parameter> l = new ArrayList<>();
+        for (ParameterValue pv : pvs) {
+            l.add(pv.getParameter());
+        }
+        return l;
+    }
+
+    static class MyConsumer implements ParameterConsumer {
+        List<Integer> ids = new ArrayList<>();
+        List<List<ParameterValue>> lists = new ArrayList<>();
+
+        @Override
+        public void updateItems(int subscriptionId, List<ParameterValue> items) {
+            ids.add(subscriptionId);
+            lists.add(items);
+        }
+
+        // the parameters received in all the deliveries
+        List<Parameter> received() {
+            List<Parameter> l = new ArrayList<>();
+            for (List<ParameterValue> pvs : lists) {
+                l.addAll(params(pvs));
+            }
+            return l;
+        }
+
+        void clear() {
+            ids.clear();
+            lists.clear();
+        }
+    }
+
+    // accepts all the subscriptions, the values are passed directly to the PRM by the tests
+    static class MyProvider extends AbstractService implements ParameterProvider {
+        @Override
+        public void init(Processor processor, YConfiguration config, Object spec) {
+            processor.getParameterProcessorManager().addParameterProvider(this);
+        }
+
+        @Override
+        public void setParameterProcessor(ParameterProcessor parameterProcessor) {
+        }
+
+        @Override
+        public void startProviding(Parameter paramDef) {
+        }
+
+        @Override
+        public void startProvidingAll() {
+        }
+
+        @Override
+        public void stopProviding(Parameter paramDef) {
+        }
+
+        @Override
+        public boolean canProvide(NamedObjectId paraId) {
+            return true;
+        }
+
+        @Override
+        public Parameter getParameter(NamedObjectId paraId) throws InvalidIdentification {
+            return mdb.getParameter(paraId.getName());
+        }
+
+        @Override
+        public boolean canProvide(Parameter param) {
+            return true;
+        }
+
+        @Override
+        protected void doStart() {
+            notifyStarted();
+        }
+
+        @Override
+        protected void doStop() {
+            notifyStopped();
+        }
+    }
+}
@@ -38,6 +38,11 @@ public abstract class BaseParchiveTest {
     }
 
     public void openDb(String partitioningSchema, boolean sparseGroups, double minOverlap) throws Exception {
+        openDb(partitioningSchema, sparseGroups, minOverlap, new HashMap<>());
+    }
+
+    public void openDb(String partitioningSchema, boolean sparseGroups, double minOverlap, Map<String, Object> conf)
+            throws Exception {
         Path dbroot = Path.of(YarchDatabase.getDataDir(), instance);
         FileUtils.deleteRecursivelyIfExists(dbroot);
         FileUtils.deleteRecursivelyIfExists(Path.of(dbroot + ".rdb"));
@@ -48,7 +53,6 @@ public abstract class BaseParchiveTest {
             rse.dropTablespace(instance);
         }
         rse.createTablespace(instance);
-        Map<String, Object> conf = new HashMap<>();
 
         if (partitioningSchema != null) {
             conf.put("partitioningSchema", partitioningSchema);
@@ -0,0 +1,74 @@
+package org.yamcs.parameterarchive;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import org.junit.jupiter.api.Test;
+import org.yamcs.parameter.Value;
+import org.yamcs.protobuf.Yamcs.Value.Type;
+import org.yamcs.utils.DecodingException;
+import org.yamcs.utils.ValueUtility;
+
+public class DirectValueSegmentTest {
+
+    @Test
+    public void testInt() throws DecodingException {
+        DirectValueSegment dvs = new DirectValueSegment(Type.SINT32);
+        IntValueSegment ivs = new IntValueSegment(true);
+        for (int i = 0; i < 1000; i++) {
+            Value v = ValueUtility.getSint32Value(i * i - 500);
+            dvs.add(v);
+            ivs.add(v);
+        }
+        Value v = ValueUtility.getSint32Value(-3);
+        dvs.insert(10, v);
+        ivs.insert(10, v);
+
+        assertEquals(ivs.size(), dvs.size());
+        assertEquals(ivs.getValue(10), dvs.getValue(10));
+        assertEquals(ivs.getValue(11), dvs.getValue(11));
+        assertArrayEquals(ivs.getRange(5, 20, true).getIntArray(), dvs.getRange(5, 20, true).getIntArray());
+        assertArrayEquals(ivs.getRange(5, 20, false).getIntArray(), dvs.getRange(5, 20, false).getIntArray());
+
+        assertArrayEquals(SegmentEncoderDecoder.encode(ivs), SegmentEncoderDecoder.encode(dvs));
+    }
+
+    @Test
+    public void testDouble() throws DecodingException {
+        DirectValueSegment dvs = new DirectValueSegment(Type.DOUBLE);
+        for (int i = 0; i < 100; i++) {
+            dvs.add(ValueUtility.getDoubleValue(i / 3.0));
+        }
+        byte[] encoded = SegmentEncoderDecoder.encode(dvs);
+        DoubleValueSegment dvs1 = (DoubleValueSegment) SegmentEncoderDecoder.decode(encoded, 0);
+        assertEquals(100, dvs1.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(dvs.getValue(i), dvs1.getValue(i));
+        }
+    }
+
+    @Test
+    public void testLong() throws DecodingException {
+        DirectValueSegment dvs = new DirectValueSegment(Type.TIMESTAMP);
+        for (int i = 0; i < 100; i++) {
+            dvs.add(ValueUtility.getTimestampValue(1000L * i));
+        }
+        LongValueSegment lvs1 = (LongValueSegment) SegmentEncoderDecoder.decode(SegmentEncoderDecoder.encode(dvs), 0);
+        assertEquals(100, lvs1.size());
+        assertEquals(ValueUtility.getTimestampValue(99000L), lvs1.getValue(99));
+    }
+
+    @Test
+    public void testEquals() {
+        DirectValueSegment dvs1 = new DirectValueSegment(Type.FLOAT);
+        DirectValueSegment dvs2 = new DirectValueSegment(Type.FLOAT);
+        for (int i = 0; i < 100; i++) {
+            dvs1.add(ValueUtility.getFloatValue(i));
+            dvs2.add(ValueUtility.getFloatValue(i));
+        }
+        assertEquals(dvs1, dvs2);
+        dvs2.add(ValueUtility.getFloatValue(3));
+        assertNotEquals(dvs1, dvs2);
+    }
+}
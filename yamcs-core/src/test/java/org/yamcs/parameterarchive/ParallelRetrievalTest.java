@@ -0,0 +1,130 @@
+package org.yamcs.parameterarchive;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.yamcs.parameterarchive.ParallelRetrieval.ChunkRetrieval;
+
+public class ParallelRetrievalTest {
+    ForkJoinPool pool;
+
+    @BeforeEach
+    public void before() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterEach
+    public void after() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    public void testOrder() throws Exception {
+        int n = 3 * ParallelRetrieval.QUEUE_SIZE;
+        List<ChunkRetrieval<Integer>> chunks = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            int first = i * n;
+            chunks.add(c -> {
+                for (int k = first; k < first + n; k++) {
+                    c.accept(k);
+                }
+            });
+        }
+        List<Integer> result = new ArrayList<>();
+        ParallelRetrieval.retrieve(pool, 4, chunks, result::add);
+
+        assertEquals(6 * n, result.size());
+        for (int k = 0; k < result.size(); k++) {
+            assertEquals(k, result.get(k));
+        }
+    }
+
+    @Test
+    public void testBoundedReadAhead() throws Exception {
+        AtomicInteger produced = new AtomicInteger();
+        int n = 10 * ParallelRetrieval.QUEUE_SIZE;
+        ChunkRetrieval<Integer> chunk = c -> {
+            for (int k = 0; k < n; k++) {
+                produced.incrementAndGet();
+                c.accept(k);
+            }
+        };
+        AtomicInteger consumed = new AtomicInteger();
+        int[] maxAhead = new int[1];
+        ParallelRetrieval.retrieve(pool, 4, List.of(chunk), k -> {
+            if (k % 100 == 0) {
+                // give the retrieval time to fill the queue
+                sleep(1);
+            }
+            int c = consumed.incrementAndGet();
+            maxAhead[0] = Math.max(maxAhead[0], produced.get() - c);
+        });
+        assertEquals(n, consumed.get());
+        // the queue, the value being added and the one being consumed
+        assertTrue(maxAhead[0] <= ParallelRetrieval.QUEUE_SIZE + 2, "read ahead " + maxAhead[0]);
+    }
+
+    @Test
+    public void testConsumerAbort() throws Exception {
+        AtomicInteger started = new AtomicInteger();
+        AtomicInteger finished = new AtomicInteger();
+        List<ChunkRetrieval<Integer>> chunks = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            chunks.add(c -> {
+                started.incrementAndGet();
+                try {
+                    // never ending retrieval
+                    for (int k = 0;; k++) {
+                        c.accept(k);
+                    }
+                } finally {
+                    finished.incrementAndGet();
+                }
+            });
+        }
+        int[] count = new int[1];
+        assertThrows(ConsumerAbortException.class, () -> ParallelRetrieval.retrieve(pool, 4, chunks, k -> {
+            if (++count[0] == 10) {
+                throw new ConsumerAbortException();
+            }
+        }));
+        // the retrievals which have been started, including one blocked on its full queue, are stopped; the
+        // cancelled ones which were not started yet never start.
+        assertTrue(started.get() >= 1);
+        for (int i = 0; i < 1000 && finished.get() < started.get(); i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(started.get(), finished.get());
+    }
+
+    @Test
+    public void testError() throws Exception {
+        ChunkRetrieval<Integer> chunk = c -> {
+            c.accept(1);
+            throw new IOException("test");
+        };
+        List<Integer> result = new ArrayList<>();
+        IOException e = assertThrows(IOException.class,
+                () -> ParallelRetrieval.retrieve(pool, 4, List.of(chunk), result::add));
+        assertEquals("test", e.getMessage());
+        assertEquals(List.of(1), result);
+    }
+
+    static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,16 +1,20 @@
 package org.yamcs.parameterarchive;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.yamcs.parameterarchive.TestUtils.checkEquals;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -25,6 +29,7 @@ import org.yamcs.protobuf.Pvalue.AcquisitionStatus;
 import org.yamcs.protobuf.Yamcs.Value.Type;
 import org.yamcs.utils.IntArray;
 import org.yamcs.utils.TimeEncoding;
+import org.yamcs.utils.ValueUtility;
 import org.yamcs.xtce.Parameter;
 
 public class ParameterArchiveTest extends BaseParchiveTest {
@@ -589,6 +594,157 @@ public class ParameterArchiveTest extends BaseParchiveTest {
         checkEquals(l2a.get(0), 100, pv1_0, pv1_1);
     }
 
+    @ParameterizedTest
+    @ValueSource(strings = { "none", "YYYY/MM" })
+    public void testParallelRetrieval(String partitioningSchema) throws Exception {
+        openDb(partitioningSchema);
+        ParameterValue pv = getParameterValue(p1, 0, "v", 0);
+        int p1id = pidMap.createAndGet(p1.getQualifiedName(), pv.getEngValue().getType(),
+                pv.getRawValue().getType());
+        var pg1 = pgidMap.getGroup(IntArray.wrap(p1id));
+
+        // 100 values, 3 in each interval, spanning a month boundary
+        long t0 = TimeEncoding.parse("2024-01-28T00:00:00Z");
+        long dt = ParameterArchive.getIntervalDuration() / 3;
+        PGSegment pgs = null;
+        for (int i = 0; i < 100; i++) {
+            long t = t0 + i * dt;
+            if (pgs == null || pgs.getInterval() != ParameterArchive.getInterval(t)) {
+                if (pgs != null) {
+                    parchive.writeToArchive(pgs);
+                }
+                pgs = new PGSegment(pg1.id, ParameterArchive.getInterval(t));
+            }
+            pgs.addRecord(t, pg1.pids, Arrays.asList(getParameterValue(p1, t, "v" + i, i)));
+        }
+        parchive.writeToArchive(pgs);
+
+        long start = t0 + 5 * dt;
+        long stop = t0 + 95 * dt;
+        List<ParameterValueArray> seqAsc = retrieveSingleParamSingleGroup(start, stop, p1id, pg1.id, true);
+        List<ParameterValueArray> seqDesc = retrieveSingleParamSingleGroup(start, stop, p1id, pg1.id, false);
+        List<ParameterIdValueList> seqMulti = retrieveMultipleParameters(start, stop, new int[] { p1id },
+                new int[] { pg1.id }, false, 50);
+
+        parchive.setRetrievalPool(new ForkJoinPool(4));
+        assertTrue(ParallelRetrieval.split(parchive, start, stop, 4).length > 2);
+
+        List<ParameterValueArray> parAsc = retrieveSingleParamSingleGroup(start, stop, p1id, pg1.id, true);
+        List<ParameterValueArray> parDesc = retrieveSingleParamSingleGroup(start, stop, p1id, pg1.id, false);
+        List<ParameterIdValueList> parMulti = retrieveMultipleParameters(start, stop, new int[] { p1id },
+                new int[] { pg1.id }, false, 50);
+
+        assertEquals(90, timestamps(seqAsc).size());
+        assertEquals(timestamps(seqAsc), timestamps(parAsc));
+        assertEquals(timestamps(seqDesc), timestamps(parDesc));
+        assertEquals(50, parMulti.size());
+        for (int i = 0; i < 50; i++) {
+            assertEquals(seqMulti.get(i).instant, parMulti.get(i).instant);
+        }
+        parchive.getRetrievalPool().shutdown();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "none", "YYYY/MM" })
+    public void testRollups(String partitioningSchema) throws Exception {
+        Map<String, Object> conf = new HashMap<>();
+        conf.put("rollupTiers", Arrays.asList(3600, 60));
+        openDb(partitioningSchema, false, 0, conf);
+        assertEquals(-1, parchive.getRollupTier(59_000));
+        assertEquals(60, parchive.getRollupTier(600_000));
+        assertEquals(3600, parchive.getRollupTier(7200_000));
+        assertEquals(TimeEncoding.MIN_INSTANT, parchive.getRollupCoverageStart(60));
+
+        int p1id = pidMap.createAndGet(p1.getQualifiedName(), Type.DOUBLE);
+        var pg1 = pgidMap.getGroup(IntArray.wrap(p1id));
+
+        // one value every 10 seconds over two intervals, written in segments of 100 values
+        long t0 = ParameterArchive.getIntervalStart(TimeEncoding.parse("2024-01-31T22:00:00Z"));
+        int n = (int) (2 * ParameterArchive.getIntervalDuration() / 10_000);
+        PGSegment pgs = null;
+        for (int i = 0; i < n; i++) {
+            long t = t0 + i * 10_000L;
+            ParameterValue pv = new ParameterValue(p1);
+            pv.setGenerationTime(t);
+            pv.setEngValue(ValueUtility.getDoubleValue(i % 7));
+            long interval = ParameterArchive.getInterval(t);
+            if (pgs == null || pgs.getInterval() != interval) {
+                if (pgs != null) {
+                    parchive.writeToArchive(pgs);
+                }
+                pgs = new PGSegment(pg1.id, interval);
+                pgs.addRecord(t, pg1.pids, Arrays.asList(pv));
+            } else if (pgs.size() == 100) {
+                pgs.freeze();
+                parchive.writeToArchive(pgs);
+                PGSegment pgs1 = new PGSegment(pg1.id, interval);
+                pgs1.addRecord(t, pg1.pids, Arrays.asList(pv));
+                pgs1.continueSegment(pgs);
+                pgs = pgs1;
+            } else {
+                pgs.addRecord(t, pg1.pids, Arrays.asList(pv));
+            }
+        }
+        parchive.writeToArchive(pgs);
+
+        // the buckets are not clipped, the range has to be aligned to the tier
+        assertThrows(IllegalArgumentException.class,
+                () -> new RollupRetrieval(parchive, p1.getQualifiedName(), t0 + 1, t0 + 120_000, 60));
+
+        long start = Math.floorDiv(t0 + 60_000, 60_000) * 60_000 + 60_000;
+        long stop = Math.floorDiv(t0 + 2 * ParameterArchive.getIntervalDuration() - 60_000, 60_000) * 60_000;
+        List<RollupSegment> l = new ArrayList<>();
+        new RollupRetrieval(parchive, p1.getQualifiedName(), start, stop, 60).retrieve(l::add);
+
+        Map<Long, double[]> buckets = new HashMap<>();
+        for (RollupSegment rs : l) {
+            for (int k = 0; k < rs.size(); k++) {
+                double[] b = buckets.computeIfAbsent(rs.getStart(k),
+                        x -> new double[] { 0, Double.MAX_VALUE, -Double.MAX_VALUE, 0 });
+                b[0] += rs.getCount(k);
+                b[1] = Math.min(b[1], rs.getMin(k));
+                b[2] = Math.max(b[2], rs.getMax(k));
+                b[3] += rs.getSum(k);
+            }
+        }
+        int total = 0;
+        for (var e : buckets.entrySet()) {
+            long bstart = e.getKey();
+            assertTrue(bstart >= start && bstart < stop);
+            double[] expected = new double[] { 0, Double.MAX_VALUE, -Double.MAX_VALUE, 0 };
+            for (int i = 0; i < n; i++) {
+                long t = t0 + i * 10_000L;
+                if (t >= bstart && t < bstart + 60_000) {
+                    expected[0]++;
+                    expected[1] = Math.min(expected[1], i % 7);
+                    expected[2] = Math.max(expected[2], i % 7);
+                    expected[3] += i % 7;
+                }
+            }
+            assertArrayEquals(expected, e.getValue(), 1e-9);
+            total += (int) e.getValue()[0];
+        }
+        assertEquals((stop - start) / 10_000, total);
+
+        RollupSegment rs = l.get(0);
+        RollupSegment rs1 = RollupSegment.decode(rs.encode(), rs.getDuration());
+        assertEquals(rs.size(), rs1.size());
+        for (int k = 0; k < rs.size(); k++) {
+            assertEquals(rs.getStart(k), rs1.getStart(k));
+            assertEquals(rs.getMinTime(k), rs1.getMinTime(k));
+            assertEquals(rs.getMaxTime(k), rs1.getMaxTime(k));
+        }
+    }
+
+    private List<Long> timestamps(List<ParameterValueArray> l) {
+        List<Long> r = new ArrayList<>();
+        for (ParameterValueArray pva : l) {
+            for (long t : pva.timestamps) {
+                r.add(t);
+            }
+        }
+        return r;
+    }
 
     public static YConfiguration backFillerDisabledConfig() {
         Map<String, Object> pam = new HashMap<>();
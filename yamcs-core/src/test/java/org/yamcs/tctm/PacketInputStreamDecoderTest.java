@@ -0,0 +1,48 @@
+package org.yamcs.tctm;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.yamcs.YConfiguration;
+
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+
+public class PacketInputStreamDecoderTest {
+
+    @Test
+    public void testSplitPackets() {
+        EmbeddedChannel ch = new EmbeddedChannel(
+                new PacketInputStreamDecoder(new CcsdsPacketInputStream(), YConfiguration.emptyConfig()));
+
+        byte[] p1 = ccsdsPacket(10, (byte) 1);
+        byte[] p2 = ccsdsPacket(20, (byte) 2);
+        byte[] data = new byte[p1.length + p2.length];
+        System.arraycopy(p1, 0, data, 0, p1.length);
+        System.arraycopy(p2, 0, data, p1.length, p2.length);
+
+        // first packet header split
+        ch.writeInbound(Unpooled.wrappedBuffer(data, 0, 3));
+        assertNull(ch.readInbound());
+        // end of the first packet and start of the second
+        ch.writeInbound(Unpooled.wrappedBuffer(data, 3, p1.length + 5));
+        assertArrayEquals(p1, (byte[]) ch.readInbound());
+        assertNull(ch.readInbound());
+
+        ch.writeInbound(Unpooled.wrappedBuffer(data, p1.length + 8, p2.length - 8));
+        assertArrayEquals(p2, (byte[]) ch.readInbound());
+        assertNull(ch.readInbound());
+        ch.finish();
+    }
+
+    static byte[] ccsdsPacket(int length, byte fill) {
+        byte[] p = new byte[length];
+        Arrays.fill(p, fill);
+        p[4] = (byte) ((length - 7) >> 8);
+        p[5] = (byte) (length - 7);
+        return p;
+    }
+}
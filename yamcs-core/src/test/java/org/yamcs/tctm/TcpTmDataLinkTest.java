@@ -0,0 +1,149 @@
+package org.yamcs.tctm;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.yamcs.LoggingUtils;
+import org.yamcs.TmPacket;
+import org.yamcs.YConfiguration;
+import org.yamcs.events.EventProducerFactory;
+import org.yamcs.tctm.Link.Status;
+import org.yamcs.utils.TimeEncoding;
+
+public class TcpTmDataLinkTest {
+    ServerSocket serverSocket;
+    ArrayBlockingQueue<TmPacket> pktQueue = new ArrayBlockingQueue<>(10);
+
+    @BeforeAll
+    public static void beforeClass() {
+        EventProducerFactory.setMockup(false);
+        TimeEncoding.setUp();
+        LoggingUtils.configureLogging(Level.SEVERE);
+    }
+
+    @BeforeEach
+    public void before() throws Exception {
+        serverSocket = new ServerSocket(0);
+        serverSocket.setSoTimeout(5000);
+    }
+
+    @AfterEach
+    public void after() throws Exception {
+        serverSocket.close();
+    }
+
+    @Test
+    public void testReconnect() throws Exception {
+        TcpTmDataLink link = createLink(CcsdsPacketInputStream.class);
+        assertFalse(link.blocking);
+        checkReconnect(link);
+    }
+
+    @Test
+    public void testReconnectBlocking() throws Exception {
+        // the packet input streams which are not restartable are read from a thread
+        TcpTmDataLink link = createLink(NotRestartableInputStream.class);
+        assertTrue(link.blocking);
+        checkReconnect(link);
+    }
+
+    @Test
+    public void testNotRestartableDecoder() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new PacketInputStreamDecoder(new NotRestartableInputStream(), YConfiguration.emptyConfig()));
+    }
+
+    private void checkReconnect(TcpTmDataLink link) throws Exception {
+        link.startAsync();
+        link.awaitRunning();
+
+        // connect
+        Socket socket = serverSocket.accept();
+        byte[] p1 = PacketInputStreamDecoderTest.ccsdsPacket(20, (byte) 1);
+        sendPacket(socket, p1);
+        TmPacket pkt1 = pktQueue.poll(5, TimeUnit.SECONDS);
+        assertNotNull(pkt1);
+        assertArrayEquals(p1, pkt1.getPacket());
+        assertEquals(Status.OK, link.connectionStatus());
+
+        // disconnect; the server is closed such that the link stays disconnected
+        int port = serverSocket.getLocalPort();
+        socket.close();
+        serverSocket.close();
+        waitForStatus(link, Status.UNAVAIL);
+        Thread.sleep(300);
+        assertEquals(Status.UNAVAIL, link.connectionStatus());
+
+        // the link reconnects once the server is back
+        serverSocket = new ServerSocket();
+        serverSocket.setReuseAddress(true);
+        serverSocket.bind(new InetSocketAddress(port));
+        serverSocket.setSoTimeout(5000);
+        socket = serverSocket.accept();
+        byte[] p2 = PacketInputStreamDecoderTest.ccsdsPacket(30, (byte) 2);
+        sendPacket(socket, p2);
+        TmPacket pkt2 = pktQueue.poll(5, TimeUnit.SECONDS);
+        assertNotNull(pkt2);
+        assertArrayEquals(p2, pkt2.getPacket());
+        assertEquals(Status.OK, link.connectionStatus());
+        assertEquals(2, link.getDataInCount());
+
+        link.stopAsync();
+        link.awaitTerminated();
+        socket.close();
+    }
+
+    private TcpTmDataLink createLink(Class<? extends PacketInputStream> packetInputStreamClass) {
+        Map<String, Object> config = new HashMap<>();
+        config.put("host", "localhost");
+        config.put("port", serverSocket.getLocalPort());
+        config.put("packetInputStreamClassName", packetInputStreamClass.getName());
+        TcpTmDataLink link = new TcpTmDataLink();
+        link.init("test", "test", YConfiguration.wrap(config));
+        link.reconnectDelayMillis = 100;
+        link.setTmSink(p -> pktQueue.add(p));
+        return link;
+    }
+
+    private static void sendPacket(Socket socket, byte[] packet) throws Exception {
+        OutputStream os = socket.getOutputStream();
+        // split in two writes to check the reassembly
+        os.write(packet, 0, 3);
+        os.flush();
+        Thread.sleep(10);
+        os.write(packet, 3, packet.length - 3);
+        os.flush();
+    }
+
+    private static void waitForStatus(TcpTmDataLink link, Status status) throws InterruptedException {
+        for (int i = 0; i < 500 && link.connectionStatus() != status; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(status, link.connectionStatus());
+    }
+
+    public static class NotRestartableInputStream extends CcsdsPacketInputStream {
+        @Override
+        public boolean isRestartable() {
+            return false;
+        }
+    }
+}
@@ -1,12 +1,19 @@
 package org.yamcs.yarch;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -66,6 +73,81 @@ public class FileSystemBucketTest {
         }
     }
 
+    @Test
+    public void testStreams() throws IOException {
+        var bucket = new FileSystemBucket("bucket", testDir.resolve("bucket"));
+        Files.createDirectory(bucket.getBucketRoot());
+        byte[] data = new byte[10000];
+        Arrays.fill(data, 0, 5000, (byte) 1);
+
+        bucket.putObject("a/b.bin", null, Map.of(), new ByteArrayInputStream(data));
+        assertArrayEquals(data, bucket.getObject("a/b.bin"));
+        try (InputStream in = bucket.openObject("a/b.bin", 4990, 20)) {
+            assertArrayEquals(Arrays.copyOfRange(data, 4990, 5010), in.readAllBytes());
+        }
+        assertNull(bucket.openObject("a/c.bin", 0, 10));
+
+        bucket.setMaxSize(15000);
+        assertThrows(IOException.class,
+                () -> bucket.putObject("a/c.bin", null, Map.of(), new ByteArrayInputStream(new byte[6000])));
+        // the temporary file has been removed
+        assertFalse(Files.exists(bucket.getBucketRoot().resolve("a/c.bin")));
+        try (var files = Files.list(bucket.getBucketRoot().resolve("a"))) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    public void testSnapshot() throws IOException {
+        var bucket = new FileSystemBucket("bucket", testDir.resolve("bucket"));
+        Files.createDirectory(bucket.getBucketRoot());
+        byte[] data = new byte[10000];
+        Arrays.fill(data, 0, 5000, (byte) 1);
+        bucket.putObject("a/b.bin", null, Map.of(), data);
+        assertNull(bucket.openObjectSnapshot("a/c.bin"));
+        assertNull(bucket.openObjectSnapshot("a"));
+
+        // the object replaced after being opened is still read with its size
+        try (BucketObjectStream in = bucket.openObjectSnapshot("a/b.bin")) {
+            bucket.putObject("a/b.bin", null, Map.of(), new ByteArrayInputStream(new byte[10]));
+            assertEquals("a/b.bin", in.getProperties().getName());
+            assertEquals(data.length, in.getProperties().getSize());
+            assertArrayEquals(data, in.readAllBytes());
+        }
+        try (BucketObjectStream in = bucket.openObjectSnapshot("a/b.bin")) {
+            assertEquals(10, in.getProperties().getSize());
+        }
+    }
+
+    @Test
+    public void testStreamLimits() throws IOException {
+        var bucket = new FileSystemBucket("bucket", testDir.resolve("bucket"));
+        Files.createDirectory(bucket.getBucketRoot());
+        bucket.putObject("a.bin", null, Map.of(), new byte[10000]);
+        bucket.setMaxSize(15000);
+
+        // the copy of an endless stream stops as soon as the limit is exceeded
+        long[] count = new long[1];
+        InputStream endless = new InputStream() {
+            @Override
+            public int read() {
+                count[0]++;
+                return 0;
+            }
+        };
+        assertThrows(IOException.class, () -> bucket.putObject("b.bin", null, Map.of(), endless));
+        assertEquals(5001, count[0]);
+        try (var files = Files.list(bucket.getBucketRoot())) {
+            assertEquals(1, files.count());
+        }
+
+        // the stream is not read at all if there is no room for one more object
+        bucket.setMaxObjects(1);
+        count[0] = 0;
+        assertThrows(IOException.class, () -> bucket.putObject("b.bin", null, Map.of(), endless));
+        assertEquals(0, count[0]);
+    }
+
     @AfterEach
     public void afterEach() throws IOException {
         FileUtils.deleteRecursivelyIfExists(testDir);
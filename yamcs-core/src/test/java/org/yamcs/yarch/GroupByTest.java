@@ -0,0 +1,123 @@
+package org.yamcs.yarch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.yamcs.yarch.streamsql.StreamSqlException;
+import org.yamcs.yarch.streamsql.StreamSqlResult;
+
+public class GroupByTest extends YarchTestCase {
+    // more than one batch of the table reader
+    static final int N = 1000;
+
+    @BeforeEach
+    public void populate() throws Exception {
+        execute("create table test1(gentime timestamp, seq int, name string, v double, primary key(gentime, seq))");
+        execute("create stream test1_in(gentime timestamp, seq int, name string, v double)");
+        execute("insert into test1 select * from test1_in");
+        Stream s = ydb.getStream("test1_in");
+        for (int i = 0; i < N; i++) {
+            // the rows with i multiple of 10 have no v
+            Double v = (i % 10 == 0) ? null : Double.valueOf(i);
+            s.emitTuple(new Tuple(s.getDefinition(), new Object[] { 1000L * i, i, "n" + (i % 3), v }));
+        }
+        execute("close stream test1_in");
+    }
+
+    @Test
+    public void testTableGroupBy() throws Exception {
+        List<Tuple> tlist = select("select name, count(*), sum(seq), min(seq), max(seq) from test1 group by name");
+        assertEquals(3, tlist.size());
+        for (int k = 0; k < 3; k++) {
+            Tuple t = tlist.get(k);
+            assertEquals("n" + k, t.getColumn("name"));
+            long count = 0;
+            long sum = 0;
+            for (int i = k; i < N; i += 3) {
+                count++;
+                sum += i;
+            }
+            assertEquals(count, ((Number) t.getColumn(1)).longValue());
+            assertEquals(sum, ((Number) t.getColumn(2)).longValue());
+            assertEquals(k, t.getColumn(3));
+            assertEquals(N - 1 - (N - 1 - k) % 3, t.getColumn(4));
+        }
+    }
+
+    @Test
+    public void testNullValues() throws Exception {
+        List<Tuple> tlist = select("select count(v), min(v), max(v), avg(v) from test1 where seq < 20");
+        assertEquals(1, tlist.size());
+        Tuple t = tlist.get(0);
+        assertEquals(18L, ((Number) t.getColumn(0)).longValue());
+        assertEquals(1.0, t.getColumn(1));
+        assertEquals(19.0, t.getColumn(2));
+        // (1+...+19 - 10)/18
+        assertEquals(10.0, t.getColumn(3));
+
+        tlist = select("select seq, min(v), avg(v) from test1 where seq = 10 group by seq");
+        assertEquals(1, tlist.size());
+        assertNull(tlist.get(0).getColumn(1));
+        assertNull(tlist.get(0).getColumn(2));
+    }
+
+    @Test
+    public void testCountNullValues() throws Exception {
+        // count(*) counts all the rows, count(v) only those where v is not null
+        List<Tuple> tlist = select("select name, count(*), count(v) from test1 where seq < 30 group by name");
+        assertEquals(3, tlist.size());
+        for (Tuple t : tlist) {
+            assertEquals(10L, ((Number) t.getColumn(1)).longValue());
+            // one of the multiples of 10 in each group
+            assertEquals(9L, ((Number) t.getColumn(2)).longValue());
+        }
+
+        execute("create stream test1_out as select count(*), count(v) from test1 where seq < 30");
+        tlist = fetchAll("test1_out");
+        assertEquals(1, tlist.size());
+        assertEquals(30L, ((Number) tlist.get(0).getColumn(0)).longValue());
+        assertEquals(27L, ((Number) tlist.get(0).getColumn(1)).longValue());
+    }
+
+    @Test
+    public void testMultipleColumns() throws Exception {
+        List<Tuple> tlist = select("select name, seq, count(*) from test1 where seq < 6 group by name, seq");
+        assertEquals(6, tlist.size());
+        for (int i = 0; i < 6; i++) {
+            assertEquals("n" + (i % 3), tlist.get(i).getColumn("name"));
+            assertEquals(Integer.valueOf(i), tlist.get(i).getColumn("seq"));
+        }
+    }
+
+    @Test
+    public void testStreamGroupBy() throws Exception {
+        execute("create stream test1_out as select name, count(*), avg(seq) from test1 group by name");
+        List<Tuple> tlist = fetchAll("test1_out");
+        assertEquals(3, tlist.size());
+        assertEquals("n0", tlist.get(0).getColumn("name"));
+        assertEquals(334L, ((Number) tlist.get(0).getColumn(1)).longValue());
+        assertEquals(499.5, tlist.get(0).getColumn(2));
+    }
+
+    @Test
+    public void testInvalid() throws Exception {
+        assertThrows(StreamSqlException.class, () -> select("select * from test1 group by name"));
+        assertThrows(StreamSqlException.class, () -> select("select avg(name) from test1"));
+    }
+
+    private List<Tuple> select(String query) throws Exception {
+        List<Tuple> l = new ArrayList<>();
+        StreamSqlResult r = ydb.execute(query);
+        while (r.hasNext()) {
+            l.add(r.next());
+        }
+        r.close();
+        return l;
+    }
+}
@@ -0,0 +1,95 @@
+package org.yamcs.yarch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+import org.yamcs.utils.TimeEncoding;
+import org.yamcs.utils.TimeInterval;
+import org.yamcs.yarch.HistogramRollup.Level;
+import org.yamcs.yarch.HistogramRollup.Rec;
+
+public class HistogramRollupTest {
+    static final long MIN = 60_000;
+
+    @Test
+    public void testMerge() {
+        HistogramRollup rollup = new HistogramRollup(Level.DAY, "g1".getBytes(), 0);
+        rollup.add(1000);
+        rollup.add(1000 + MIN);
+        assertEquals(1, rollup.size());
+
+        // more than one minute gap
+        rollup.add(10 * MIN);
+        assertEquals(2, rollup.size());
+        assertRecEquals(1000, 1000 + MIN, 2, rollup.recs.get(0));
+        assertRecEquals(10 * MIN, 10 * MIN, 1, rollup.recs.get(1));
+
+        // out of order
+        rollup.add(5 * MIN);
+        assertEquals(3, rollup.size());
+        assertRecEquals(5 * MIN, 5 * MIN, 1, rollup.recs.get(1));
+
+        // joins all
+        rollup.add(MIN, 9 * MIN, 10);
+        assertEquals(1, rollup.size());
+        assertRecEquals(1000, 10 * MIN, 14, rollup.recs.get(0));
+    }
+
+    @Test
+    public void testSerialization() {
+        HistogramRollup rollup = new HistogramRollup(Level.MONTH, "g1".getBytes(), 3);
+        rollup.add(1000);
+        rollup.add(10 * 3600_000L);
+        byte[] val = rollup.val();
+        assertEquals(2, HistogramRollup.numRecords(val));
+
+        HistogramRollup rollup1 = new HistogramRollup(Level.MONTH, "g1".getBytes(), 3, val);
+        assertEquals(2, rollup1.size());
+        assertRecEquals(10 * 3600_000L, 10 * 3600_000L, 1, rollup1.recs.get(1));
+
+        HistogramRecord hr = HistogramRollup.getRecord("g1".getBytes(), val, 1);
+        assertEquals(10 * 3600_000L, hr.getStart());
+        assertEquals(1, hr.getNumTuples());
+    }
+
+    @Test
+    public void testSelect() {
+        TimeInterval week = new TimeInterval(0, 7 * 24 * 3600_000L);
+        assertNull(Level.select(week, 2000));
+        assertEquals(Level.DAY, Level.select(week, 10 * MIN));
+        // the interval is shorter than one month
+        assertEquals(Level.DAY, Level.select(week, 10 * 3600_000L));
+        assertEquals(Level.MONTH, Level.select(new TimeInterval(), 10 * 3600_000L));
+        assertNull(Level.select(new TimeInterval(0, 3600_000L), 10 * MIN));
+    }
+
+    @Test
+    public void testBucket() {
+        assertEquals(0, HistogramRollup.bucket(Level.DAY, 0));
+        assertEquals(-1, HistogramRollup.bucket(Level.DAY, -1));
+        assertEquals(1, HistogramRollup.bucket(Level.DAY, 24 * 3600_000L));
+        assertEquals(-24 * 3600_000L, HistogramRollup.bucketStart(Level.DAY, -1));
+    }
+
+    @Test
+    public void testMonthBucket() {
+        TimeEncoding.setUp();
+        long jan2024 = (2024 - 1970) * 12;
+        assertEquals(jan2024, HistogramRollup.bucket(Level.MONTH, TimeEncoding.parse("2024-01-01T00:00:00Z")));
+        assertEquals(jan2024, HistogramRollup.bucket(Level.MONTH, TimeEncoding.parse("2024-01-31T23:59:59.999Z")));
+        // leap year
+        assertEquals(jan2024 + 1, HistogramRollup.bucket(Level.MONTH, TimeEncoding.parse("2024-02-29T12:00:00Z")));
+        assertEquals(jan2024 + 2, HistogramRollup.bucket(Level.MONTH, TimeEncoding.parse("2024-03-01T00:00:00Z")));
+        assertEquals(-1, HistogramRollup.bucket(Level.MONTH, TimeEncoding.parse("1969-12-31T00:00:00Z")));
+
+        assertEquals(TimeEncoding.parse("2024-02-01T00:00:00Z"), HistogramRollup.bucketStart(Level.MONTH, jan2024 + 1));
+        assertEquals(TimeEncoding.parse("1969-12-01T00:00:00Z"), HistogramRollup.bucketStart(Level.MONTH, -1));
+    }
+
+    private void assertRecEquals(long start, long stop, int num, Rec r) {
+        assertEquals(start, r.start);
+        assertEquals(stop, r.stop);
+        assertEquals(num, r.num);
+    }
+}
@@ -0,0 +1,77 @@
+package org.yamcs.yarch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.yamcs.utils.TimeEncoding;
+
+public class PrimaryKeyInTest extends YarchTestCase {
+
+    @Test
+    public void testIn() throws Exception {
+        execute("create table test1(gentime timestamp, seq int, primary key(gentime, seq)) "
+                + "partition by time(gentime('YYYY/DOY'))");
+        execute("create stream test1_in(gentime timestamp, seq int)");
+        execute("insert into test1 select * from test1_in");
+        Stream s = ydb.getStream("test1_in");
+        long t0 = TimeEncoding.parse("2020-01-01T00:00:00");
+        for (int i = 0; i < 1000; i++) {
+            s.emitTuple(new Tuple(s.getDefinition(), new Object[] { t0 + i * 3600_000L, i }));
+        }
+
+        List<Object> times = Arrays.asList(t0 + 500 * 3600_000L, t0 + 3 * 3600_000L, t0 + 3 * 3600_000L + 1,
+                t0 + 999 * 3600_000L);
+        assertEquals(Arrays.asList(3, 500, 999), selectSeq("select * from test1 where gentime in (?, ?, ?, ?)", times));
+        assertEquals(Arrays.asList(999, 500, 3),
+                selectSeq("select * from test1 where gentime in (?, ?, ?, ?) order desc", times));
+
+        List<Object> args = new ArrayList<>(times);
+        args.add(t0 + 100 * 3600_000L);
+        assertEquals(Arrays.asList(500), selectSeq(
+                "select * from test1 where gentime in (?, ?, ?, ?) and gentime >= ? and seq < 999", args));
+        assertEquals(Arrays.asList(500, 999), selectSeq("select * from test1 where gentime in (?, ?, ?, ?) "
+                + "and gentime in (?, ?, ?, ?, ?, ?)", Arrays.asList(times.get(0), times.get(1), times.get(2),
+                        times.get(3), times.get(0), times.get(3), 1L, 2L, 3L, t0)));
+    }
+
+    @Test
+    public void testSecondKeyColumn() throws Exception {
+        execute("create table test2(name string, t long, x int, primary key(name, t, x))");
+        for (String name : Arrays.asList("a", "ab", "b")) {
+            for (int i = 0; i < 100; i++) {
+                execute("insert into test2(name, t, x) values('" + name + "', " + i + ", " + i + ")");
+            }
+        }
+        assertEquals(Arrays.asList(10, 11, 12),
+                selectSeq("select * from test2 where name = 'a' and t >= 10 and t < 13", List.of(), "x"));
+        assertEquals(Arrays.asList(98, 99),
+                selectSeq("select * from test2 where name = 'ab' and t > 97", List.of(), "x"));
+        assertEquals(Arrays.asList(12, 11, 10),
+                selectSeq("select * from test2 where name = 'b' and t <= 12 and t >= 10 order desc", List.of(), "x"));
+        assertEquals(4, select("select * from test2 where name >= 'a' and name < 'b' and t < 2", List.of()).size());
+    }
+
+    private List<Integer> selectSeq(String query, List<Object> args) throws Exception {
+        return selectSeq(query, args, "seq");
+    }
+
+    private List<Integer> selectSeq(String query, List<Object> args, String column) throws Exception {
+        List<Integer> l = new ArrayList<>();
+        for (Tuple t : select(query, args)) {
+            l.add(t.getIntColumn(column));
+        }
+        return l;
+    }
+
+    private List<Tuple> select(String query, List<Object> args) throws Exception {
+        var result = ydb.execute(query, args.toArray());
+        List<Tuple> tuples = new ArrayList<>();
+        result.forEachRemaining(tuples::add);
+        result.close();
+        return tuples;
+    }
+}
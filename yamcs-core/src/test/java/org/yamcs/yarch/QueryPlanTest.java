@@ -0,0 +1,88 @@
+package org.yamcs.yarch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.yamcs.yarch.streamsql.StreamSqlResult;
+
+public class QueryPlanTest extends YarchTestCase {
+    static final int N = 1000;
+
+    @BeforeEach
+    public void populate() throws Exception {
+        execute("create table test1(gentime timestamp, seq int, name string, primary key(gentime, seq), "
+                + "index(name)) histogram(name)");
+        execute("create stream test1_in(gentime timestamp, seq int, name string)");
+        execute("insert into test1 select * from test1_in");
+        Stream s = ydb.getStream("test1_in");
+        for (int i = 0; i < N; i++) {
+            s.emitTuple(new Tuple(s.getDefinition(), new Object[] { 1000L * i, i, "n" + (i % 100) }));
+        }
+        // closing the stream flushes the histograms
+        execute("close stream test1_in");
+    }
+
+    @Test
+    public void testIndexChosen() throws Exception {
+        List<String> plan = explain("explain select * from test1 where name = 'n5'");
+        assertTrue(plan.get(0).startsWith("scan: table test1 by index name_idx"), plan.toString());
+        assertTrue(plan.contains("key condition: name == 'n5'"), plan.toString());
+        assertTrue(plan.contains("estimated rows: 10"), plan.toString());
+        assertTrue(plan.contains("filter: where clause evaluated on each tuple"), plan.toString());
+
+        plan = explain("explain select * from test1 where name in ('n5', 'n7', 'x') limit 3");
+        assertTrue(plan.get(0).startsWith("scan: table test1 by index name_idx"), plan.toString());
+        assertTrue(plan.contains("estimated rows: 20"), plan.toString());
+        assertTrue(plan.contains("limit: 3"), plan.toString());
+    }
+
+    @Test
+    public void testPrimaryKeyChosen() throws Exception {
+        // the index would retrieve all the rows
+        List<String> plan = explain("explain select * from test1 where name >= 'n'");
+        assertTrue(plan.get(0).startsWith("scan: table test1 by primary key [gentime, seq]"), plan.toString());
+        assertTrue(plan.contains("estimated rows: " + N), plan.toString());
+
+        plan = explain("explain select * from test1 where gentime in (?, ?) and name = 'n1'", 1000L, 2000L);
+        assertTrue(plan.get(0).startsWith("scan: table test1 by primary key"), plan.toString());
+        assertTrue(plan.contains("key condition: gentime IN (2 values)"), plan.toString());
+    }
+
+    @Test
+    public void testInOnIndex() throws Exception {
+        // the rows are returned in the order of the index
+        assertEquals(List.of(5, 105, 205, 7, 107, 207), selectSeq(
+                "select * from test1 where name in ('n5', 'n7', 'x') and seq < 300"));
+        assertEquals(List.of(907, 807, 905, 805), selectSeq(
+                "select * from test1 where name in ('n7', 'n5') and seq > 800 order desc"));
+        // the primary key range is appended to the index value
+        assertEquals(List.of(7, 107), selectSeq("select * from test1 where name in ('n7', 'n5') and name = 'n7' "
+                + "and gentime < ?", 200_000L));
+    }
+
+    private List<String> explain(String query, Object... args) throws Exception {
+        List<String> l = new ArrayList<>();
+        StreamSqlResult r = ydb.execute(query, args);
+        while (r.hasNext()) {
+            Tuple t = r.next();
+            l.add(t.getColumn("operation") + ": " + t.getColumn("detail"));
+        }
+        r.close();
+        return l;
+    }
+
+    private List<Integer> selectSeq(String query, Object... args) throws Exception {
+        List<Integer> l = new ArrayList<>();
+        StreamSqlResult r = ydb.execute(query, args);
+        while (r.hasNext()) {
+            l.add(r.next().getIntColumn("seq"));
+        }
+        r.close();
+        return l;
+    }
+}
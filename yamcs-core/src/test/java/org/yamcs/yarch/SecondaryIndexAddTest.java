@@ -0,0 +1,86 @@
+package org.yamcs.yarch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.yamcs.yarch.streamsql.StreamSqlException;
+import org.yamcs.yarch.streamsql.StreamSqlResult;
+
+public class SecondaryIndexAddTest extends YarchTestCase {
+    static final int N = 10;
+
+    void populate(String tblName, String indexes) throws Exception {
+        ydb.execute("create table " + tblName + "(a int, b int, c int, d string, primary key(a,b)" + indexes + ")");
+        ydb.execute("create stream abcd_in(a int, b int, c int, d string)");
+        ydb.execute("insert into " + tblName + " select * from abcd_in");
+        Stream s = ydb.getStream("abcd_in");
+
+        for (int a = 0; a < N; a++) {
+            for (int b = 0; b < N; b++) {
+                s.emitTuple(new Tuple(s.getDefinition(), Arrays.asList(a, b, a + b, "r" + a + b)));
+            }
+        }
+        execute("close stream abcd_in");
+    }
+
+    @Test
+    public void testMultipleIndexes() throws Exception {
+        populate("test1", ", index c_idx(c), index(d)");
+        TableDefinition tdef = ydb.getTable("test1");
+        assertEquals(2, tdef.getSecondaryIndexes().size());
+        assertEquals(Arrays.asList("c"), tdef.getSecondaryIndex("c_idx").getColumns());
+        assertEquals(Arrays.asList("d"), tdef.getSecondaryIndex("d_idx").getColumns());
+
+        assertEquals(Arrays.asList(0, 1, 2, 3), selectA("select * from test1 where c = 3"));
+        assertEquals(Arrays.asList(3, 2, 1, 0), selectA("select * from test1 where c = 3 order desc"));
+        assertEquals(Arrays.asList(4), selectA("select * from test1 where d = 'r45'"));
+        assertEquals(Arrays.asList(4), selectA("select * from test1 where c > 5 and d = 'r45'"));
+
+        YarchDatabase.removeInstance(instance);
+        ydb = YarchDatabase.getInstance(instance);
+        tdef = ydb.getTable("test1");
+        assertEquals(Arrays.asList("c_idx", "d_idx"), Arrays.asList(tdef.getSecondaryIndexes().get(0).getName(),
+                tdef.getSecondaryIndexes().get(1).getName()));
+        assertEquals(Arrays.asList(4), selectA("select * from test1 where d = 'r45'"));
+    }
+
+    @Test
+    public void testDuplicateName() throws Exception {
+        assertThrows(StreamSqlException.class, () -> {
+            ydb.execute("create table invalid1 (a int, b int, primary key(a), index x(b), index x(a))");
+        });
+    }
+
+    @Test
+    public void testAddIndex() throws Exception {
+        populate("test2", "");
+        ydb.execute("alter table test2 add index c_idx(c)");
+        assertEquals(Arrays.asList("c"), ydb.getTable("test2").getSecondaryIndex("c_idx").getColumns());
+        assertEquals(Arrays.asList(0, 1, 2, 3), selectA("select * from test2 where c = 3"));
+
+        // rows written after the index has been built
+        ydb.execute("insert into test2(a, b, c, d) values(20, 0, 3, 'x')");
+        assertEquals(Arrays.asList(0, 1, 2, 3, 20), selectA("select * from test2 where c = 3"));
+
+        assertThrows(StreamSqlException.class, () -> ydb.execute("alter table test2 add index c_idx(d)"));
+
+        YarchDatabase.removeInstance(instance);
+        ydb = YarchDatabase.getInstance(instance);
+        assertEquals(Arrays.asList(0, 1, 2, 3, 20), selectA("select * from test2 where c = 3"));
+    }
+
+    private List<Integer> selectA(String query) throws Exception {
+        List<Integer> l = new ArrayList<>();
+        StreamSqlResult r = ydb.execute(query);
+        while (r.hasNext()) {
+            l.add(r.next().getIntColumn("a"));
+        }
+        r.close();
+        return l;
+    }
+}
@@ -91,6 +91,18 @@ public class StreamSqlParserTest extends YarchTestCase {
 
         assertNull(tbl);
     }
+
+    @Test
+    public void testKeywordColumns() throws ParseException, StreamSqlException {
+        execute("create table kwcol_test1(id long, group string, add int, explain int, primary key(id))");
+        TableDefinition tbl = ydb.getTable("kwcol_test1");
+        assertNotNull(tbl.getColumnDefinition("group"));
+        assertNotNull(tbl.getColumnDefinition("add"));
+        assertNotNull(tbl.getColumnDefinition("explain"));
+
+        execute("select id from kwcol_test1 where group in ('a', 'b') and add = 1");
+        execute("drop table kwcol_test1");
+    }
     /* @Test
     public void testShowStreams() throws Exception {
         ydb.execute("create input stream testshow_is1(a int, b timestamp)");
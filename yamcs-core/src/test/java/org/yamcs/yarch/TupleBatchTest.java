@@ -0,0 +1,233 @@
+package org.yamcs.yarch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.yamcs.yarch.streamsql.Expression;
+import org.yamcs.yarch.streamsql.StreamSqlParser;
+
+public class TupleBatchTest extends YarchTestCase {
+    // the columns read with TupleBatch.get
+    Set<Integer> boxedColumns = new HashSet<>();
+
+    @Test
+    public void testBatch() {
+        TupleDefinition tdef = new TupleDefinition();
+        tdef.addColumn("a", DataType.INT);
+        tdef.addColumn("b", DataType.TIMESTAMP);
+        tdef.addColumn("c", DataType.STRING);
+        tdef.addColumn("d", DataType.SHORT);
+
+        TupleBatch batch = new TupleBatch(tdef, 3);
+        batch.add(new Tuple(tdef, new Object[] { 1, 10L, "x", (short) 3 }));
+        Tuple t = new Tuple();
+        t.addColumn("a", 2);
+        batch.add(t);
+        batch.add(new Tuple(tdef, new Object[] { 3, 30L, "z", (short) 5 }));
+        assertTrue(batch.isFull());
+        assertFalse(batch.add(t));
+
+        assertEquals(2, batch.getIntVector(0)[1]);
+        assertEquals(30L, batch.getLongVector(1)[2]);
+        assertEquals((short) 3, batch.get(3, 0));
+
+        Tuple t1 = batch.getTuple(1);
+        assertEquals(1, t1.size());
+        assertEquals(2, t1.getIntColumn("a"));
+        assertNull(t1.getColumn("b"));
+        // the definitions are shared
+        assertSame(tdef, batch.getTuple(0).getDefinition());
+        assertSame(tdef, batch.getTuple(2).getDefinition());
+        assertSame(t1.getDefinition(), batch.getTuple(1).getDefinition());
+
+        TupleBatch sel = batch.select(new boolean[] { false, true, true });
+        assertEquals(2, sel.size());
+        assertTrue(sel.isNull(1, 0));
+        assertEquals("z", sel.get(2, 1));
+        assertSame(batch, batch.select(new boolean[] { true, true, true }));
+
+        Tuple t2 = new Tuple();
+        t2.addColumn("e", 2);
+        assertFalse(new TupleBatch(tdef, 3).add(t2));
+    }
+
+    @Test
+    public void testWhereAndLimit() throws Exception {
+        execute("create table tbl1(k int, v long, primary key(k))");
+        for (int i = 0; i < 1000; i++) {
+            execute("insert into tbl1(k, v) values(" + i + ", " + (i % 10) + ")");
+        }
+
+        List<Tuple> tuples = select("select * from tbl1 where v = 3");
+        assertEquals(100, tuples.size());
+        for (Tuple t : tuples) {
+            assertEquals(3, t.getIntColumn("k") % 10);
+        }
+
+        tuples = select("select * from tbl1 where v = 3 limit 30, 5");
+        assertEquals(5, tuples.size());
+        assertEquals(303, tuples.get(0).getIntColumn("k"));
+
+        tuples = select("select * from tbl1 limit 300");
+        assertEquals(300, tuples.size());
+        assertEquals(299, tuples.get(299).getIntColumn("k"));
+    }
+
+    @Test
+    public void testCloseDuringBatch() throws Exception {
+        execute("create stream batchclose_in1(a int)");
+        execute("create stream batchclose_in2(a int)");
+        Stream in1 = ydb.getStream("batchclose_in1");
+        Stream in2 = ydb.getStream("batchclose_in2");
+        TupleDefinition tdef = in1.getDefinition();
+
+        // closes out1 while the batch is being delivered, before it reaches out1
+        List<SelectStream> toClose = new ArrayList<>();
+        in1.addSubscriber((s, t) -> toClose.forEach(Stream::close));
+        // select * from batchclose_in1
+        SelectStream out1 = new SelectStream(ydb, in1, null, null, null, null, tdef, tdef);
+        toClose.add(out1);
+        List<Tuple> received1 = new ArrayList<>();
+        out1.addSubscriber(new StreamSubscriber() {
+            @Override
+            public void onTuple(Stream s, Tuple t) {
+                received1.add(t);
+            }
+
+            @Override
+            public void onTupleBatch(Stream s, TupleBatch b) {
+                // unlike the default implementation, does not check if the stream is closed
+                for (int i = 0; i < b.size(); i++) {
+                    received1.add(b.getTuple(i));
+                }
+            }
+        });
+
+        // select * from batchclose_in2 with a select list; closed by its subscriber after the first row of the batch
+        SelectStream out2 = new SelectStream(ydb, in2, null, null, null, List.of(SelectStream.STAR), tdef, tdef);
+        List<Tuple> received2 = new ArrayList<>();
+        out2.addSubscriber((s, t) -> {
+            received2.add(t);
+            out2.close();
+        });
+
+        TupleBatch batch = new TupleBatch(tdef, 3);
+        for (int i = 1; i <= 3; i++) {
+            batch.add(new Tuple(tdef, new Object[] { i }));
+        }
+        in1.emitTupleBatch(batch);
+        in2.emitTupleBatch(batch);
+
+        assertTrue(out1.isClosed());
+        assertEquals(0, received1.size());
+        assertTrue(out2.isClosed());
+        assertEquals(1, received2.size());
+    }
+
+    @Test
+    public void testVectorFilter() throws Exception {
+        TupleDefinition tdef = new TupleDefinition();
+        tdef.addColumn("a", DataType.INT);
+        tdef.addColumn("b", DataType.LONG);
+        tdef.addColumn("d", DataType.DOUBLE);
+        tdef.addColumn("f", DataType.BOOLEAN);
+        tdef.addColumn("s", DataType.STRING);
+
+        TupleBatch batch = new TupleBatch(tdef, 10) {
+            @Override
+            public Object get(int col, int row) {
+                boxedColumns.add(col);
+                return super.get(col, row);
+            }
+        };
+        batch.add(new Tuple(tdef, new Object[] { 1, 10L, 0.5, true, "x" }));
+        batch.add(new Tuple(tdef, new Object[] { 2, 20L, 2.5, false, "y" }));
+        batch.add(new Tuple(tdef, new Object[] { 3, null, 3.0, null, "x" }));
+        batch.add(new Tuple(tdef, new Object[] { null, 10L, null, true, null }));
+        batch.add(new Tuple(tdef, new Object[] { 5, 50L, -1.5, false, "z" }));
+        batch.add(new Tuple(tdef, new Object[] { null, null, null, null, null }));
+
+        // evaluated on the column vectors only
+        Set<Integer> none = Set.of();
+        assertEquals(none, checkFilter(batch, "a > 2", 2, 4));
+        assertEquals(none, checkFilter(batch, "a >= 2 and b < 30", 1));
+        // as for the tuples, or is null if any of the operands is null
+        assertEquals(none, checkFilter(batch, "a > 2 or b = 10", 0, 4));
+        // a double and an int are compared as longs
+        assertEquals(none, checkFilter(batch, "d < a", 0, 4));
+        assertEquals(none, checkFilter(batch, "d >= 2 and d < 3", 1));
+        assertEquals(none, checkFilter(batch, "f is null", 2, 5));
+        assertEquals(none, checkFilter(batch, "a is not null and f is not null", 0, 1, 4));
+        assertEquals(none, checkFilter(batch, "s is null", 3, 5));
+        assertEquals(none, checkFilter(batch, "f = f", 0, 1, 2, 3, 4, 5));
+        assertEquals(none, checkFilter(batch, "a = ? or b >= ?", new Object[] { 1, 40L }, 0, 4));
+
+        // the comparison of strings is evaluated on the boxed values
+        assertEquals(Set.of(4), checkFilter(batch, "s = 'x' and a > 1", 2));
+        assertEquals(Set.of(4), checkFilter(batch, "s = 'x' or a > 4", 0, 2, 4));
+    }
+
+    // checks the result of the filter and returns the columns whose boxed values have been read by the filter
+    private Set<Integer> checkFilter(TupleBatch batch, String where, int... expectedRows) throws Exception {
+        return checkFilter(batch, where, new Object[0], expectedRows);
+    }
+
+    private Set<Integer> checkFilter(TupleBatch batch, String where, Object[] args, int... expectedRows)
+            throws Exception {
+        StreamSqlParser parser = new StreamSqlParser(new StringReader(where));
+        parser.setArgs(args);
+        Expression expr = parser.Expression();
+        expr.bind(batch.getDefinition());
+        CompiledExpression cexpr = expr.compile();
+
+        boolean[] expected = new boolean[batch.size()];
+        for (int row : expectedRows) {
+            expected[row] = true;
+        }
+        boolean[] selection = new boolean[batch.size()];
+        Arrays.fill(selection, true);
+        boxedColumns.clear();
+        cexpr.filter(batch, selection);
+        Set<Integer> filterBoxedColumns = new HashSet<>(boxedColumns);
+        for (int row = 0; row < batch.size(); row++) {
+            assertEquals(expected[row], selection[row], where + ", row " + row);
+            // same result as the evaluation on the tuple
+            assertEquals(expected[row], Boolean.TRUE.equals(cexpr.getValue(batch.getTuple(row))),
+                    where + ", row " + row);
+        }
+
+        // the rows not selected are not evaluated
+        boolean[] none = new boolean[batch.size()];
+        cexpr.filter(batch, none);
+        assertFalse(contains(none, true));
+        return filterBoxedColumns;
+    }
+
+    private static boolean contains(boolean[] a, boolean v) {
+        for (boolean b : a) {
+            if (b == v) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private List<Tuple> select(String query) throws Exception {
+        var result = ydb.execute(query);
+        List<Tuple> tuples = new ArrayList<>();
+        result.forEachRemaining(tuples::add);
+        result.close();
+        return tuples;
+    }
+}
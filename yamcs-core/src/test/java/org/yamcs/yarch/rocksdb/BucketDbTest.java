@@ -6,8 +6,11 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.io.InputStream;
 import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -19,6 +22,7 @@ import org.junit.jupiter.api.Test;
 import org.yamcs.utils.FileUtils;
 import org.yamcs.utils.TimeEncoding;
 import org.yamcs.yarch.Bucket;
+import org.yamcs.yarch.BucketObjectStream;
 import org.yamcs.yarch.rocksdb.protobuf.Tablespace.ObjectProperties;
 
 public class BucketDbTest {
@@ -179,6 +183,74 @@ public class BucketDbTest {
         bucketDb.getTablespace().close();
     }
 
+    @Test
+    public void testChunks() throws Exception {
+        RdbBucketDatabase bucketDb = createDb(5);
+        Bucket b = bucketDb.createBucket("bucket1");
+        byte[] objectData = new byte[3 * RdbBucket.CHUNK_SIZE + 1000];
+        random.nextBytes(objectData);
+        b.putObject("obj1", null, null, new ByteArrayInputStream(objectData));
+        assertEquals(objectData.length, b.findObject("obj1").getSize());
+        assertArrayEquals(objectData, b.getObject("obj1"));
+
+        // range spanning two chunks
+        int offset = RdbBucket.CHUNK_SIZE - 10;
+        try (InputStream in = b.openObject("obj1", offset, 100)) {
+            assertArrayEquals(Arrays.copyOfRange(objectData, offset, offset + 100), in.readAllBytes());
+        }
+        // range past the end
+        try (InputStream in = b.openObject("obj1", objectData.length - 10, 100)) {
+            assertEquals(10, in.readAllBytes().length);
+        }
+        assertNull(b.openObject("obj2", 0, 10));
+
+        // the stream opened before replacing the object reads the old data
+        byte[] objectData2 = new byte[10];
+        try (InputStream in = b.openObject("obj1")) {
+            b.putObject("obj1", null, null, objectData2);
+            assertArrayEquals(objectData, in.readAllBytes());
+        }
+        assertArrayEquals(objectData2, b.getObject("obj1"));
+        assertEquals(10, b.getProperties().getSize());
+
+        b.deleteObject("obj1");
+        assertNull(b.getObject("obj1"));
+        assertEquals(0, b.getProperties().getSize());
+        bucketDb.getTablespace().close();
+    }
+
+    @Test
+    public void testSnapshot() throws Exception {
+        RdbBucketDatabase bucketDb = createDb(6);
+        Bucket b = bucketDb.createBucket("bucket1");
+        byte[] objectData = new byte[2 * RdbBucket.CHUNK_SIZE + 10];
+        random.nextBytes(objectData);
+        b.putObject("obj1", "application/x-test", null, new ByteArrayInputStream(objectData));
+        assertNull(b.openObjectSnapshot("obj2"));
+
+        // the properties and the data are those of the version opened
+        try (BucketObjectStream in = b.openObjectSnapshot("obj1")) {
+            b.putObject("obj1", null, null, new byte[10]);
+            assertEquals("obj1", in.getProperties().getName());
+            assertEquals("application/x-test", in.getProperties().getContentType());
+            assertEquals(objectData.length, in.getProperties().getSize());
+
+            // byte by byte across the chunk boundary, then the rest
+            in.skipNBytes(RdbBucket.CHUNK_SIZE - 2);
+            for (int i = RdbBucket.CHUNK_SIZE - 2; i < RdbBucket.CHUNK_SIZE + 2; i++) {
+                assertEquals(objectData[i] & 0xFF, in.read());
+            }
+            assertArrayEquals(Arrays.copyOfRange(objectData, RdbBucket.CHUNK_SIZE + 2, objectData.length),
+                    in.readAllBytes());
+            assertEquals(-1, in.read());
+        }
+        try (BucketObjectStream in = b.openObjectSnapshot("obj1")) {
+            assertEquals(10, in.getProperties().getSize());
+            assertEquals(10, in.readAllBytes().length);
+        }
+        bucketDb.getTablespace().close();
+    }
+
     private RdbBucketDatabase createDb(int n) throws Exception {
         String dir = testDir + File.separator + "tablespace" + n;
         Tablespace tablespace = new Tablespace("tablespace" + n);
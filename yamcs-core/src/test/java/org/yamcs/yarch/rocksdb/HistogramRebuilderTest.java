@@ -20,6 +20,7 @@ import org.yamcs.yarch.ColumnSerializerFactory;
 import org.yamcs.yarch.DataType;
 import org.yamcs.yarch.HistogramIterator;
 import org.yamcs.yarch.HistogramRecord;
+import org.yamcs.yarch.HistogramRollup;
 import org.yamcs.yarch.PartitionManager;
 import org.yamcs.yarch.TableDefinition;
 import org.yamcs.yarch.TableWriter;
@@ -108,6 +109,87 @@ public class HistogramRebuilderTest extends YarchTestCase {
         iter.close();
     }
 
+    @Test
+    public void testRollups() throws Exception {
+        createTable(true);
+        tblDef = ydb.getTable(tblName);
+        rse = (RdbStorageEngine) ydb.getStorageEngine(tblDef);
+        TableWriter tw = rse.newTableWriter(ydb, tblDef, InsertMode.INSERT);
+        // one tuple every 30 seconds during 3 days, starting at the beginning of a rollup bucket
+        long t0 = HistogramRollup.bucket(HistogramRollup.Level.DAY, t1) * 24 * 3600_000L;
+        int n = 3 * 24 * 120;
+        for (int i = 0; i < n; i++) {
+            tw.onTuple(null, new Tuple(tblDef.getTupleDefinition(), new Object[] { t0 + 30_000L * i, i, "p1" }));
+        }
+        tw.close();
+
+        List<HistogramRecord> hourly = getRecords(2000);
+        assertEquals(3 * 24, hourly.size());
+        assertEquals(n, hourly.stream().mapToInt(HistogramRecord::getNumTuples).sum());
+
+        // one record for each day
+        List<HistogramRecord> daily = getRecords(600_000);
+        assertEquals(3, daily.size());
+        assertEquals(n, daily.stream().mapToInt(HistogramRecord::getNumTuples).sum());
+        assertEquals(t0, daily.get(0).getStart());
+        assertEquals(t0 + 30_000L * (n - 1), daily.get(2).getStop());
+
+        Tablespace tablespace = rse.getTablespace(ydb.getName());
+        HistogramRebuilder rebuilder = new HistogramRebuilder(tablespace, ydb, tblName);
+        rebuilder.rebuild().get();
+        assertEquals(3 * 24, getRecords(2000).size());
+
+        daily = getRecords(600_000);
+        assertEquals(3, daily.size());
+        assertEquals(n, daily.stream().mapToInt(HistogramRecord::getNumTuples).sum());
+    }
+
+    @Test
+    public void testRollupsPartialBuckets() throws Exception {
+        createTable(true);
+        tblDef = ydb.getTable(tblName);
+        rse = (RdbStorageEngine) ydb.getStorageEngine(tblDef);
+        TableWriter tw = rse.newTableWriter(ydb, tblDef, InsertMode.INSERT);
+        // one tuple every 30 seconds during 3 days, starting at the beginning of a rollup bucket
+        long t0 = HistogramRollup.bucket(HistogramRollup.Level.DAY, t1) * 24 * 3600_000L;
+        int n = 3 * 24 * 120;
+        for (int i = 0; i < n; i++) {
+            tw.onTuple(null, new Tuple(tblDef.getTupleDefinition(), new Object[] { t0 + 30_000L * i, i, "p1" }));
+        }
+        tw.close();
+
+        // from the middle of the first day to the middle of the third day
+        TimeInterval interval = new TimeInterval(t0 + 12 * 3600_000L, t0 + 60 * 3600_000L - 1);
+        List<HistogramRecord> hourly = getRecords(interval, 2000);
+        assertEquals(48, hourly.size());
+        assertEquals(48 * 120, hourly.stream().mapToInt(HistogramRecord::getNumTuples).sum());
+
+        // the second day is read from the rollup, the partial days at the edges from the segments
+        List<HistogramRecord> daily = getRecords(interval, 600_000);
+        assertEquals(12 + 1 + 12, daily.size());
+        assertEquals(48 * 120, daily.stream().mapToInt(HistogramRecord::getNumTuples).sum());
+        assertEquals(interval.getStart(), daily.get(0).getStart());
+        assertEquals(t0 + 24 * 3600_000L, daily.get(12).getStart());
+        assertEquals(t0 + 48 * 3600_000L - 30_000, daily.get(12).getStop());
+        assertEquals(interval.getEnd() + 1 - 30_000, daily.get(24).getStop());
+
+        // no bucket fully covered
+        interval = new TimeInterval(t0 + 12 * 3600_000L, t0 + 36 * 3600_000L - 1);
+        assertEquals(24, getRecords(interval, 600_000).size());
+    }
+
+    private List<HistogramRecord> getRecords(long mergeTime) throws Exception {
+        return getRecords(new TimeInterval(), mergeTime);
+    }
+
+    private List<HistogramRecord> getRecords(TimeInterval interval, long mergeTime) throws Exception {
+        List<HistogramRecord> l = new ArrayList<>();
+        try (HistogramIterator iter = rse.getHistogramIterator(ydb, tblDef, "name", interval, mergeTime)) {
+            iter.forEachRemaining(l::add);
+        }
+        return l;
+    }
+
     Thread startWriter(int n, int m, int seqStart, String p, Semaphore semaphore) {
         Thread thread = new Thread(() -> {
             int seq = seqStart;
@@ -0,0 +1,73 @@
+package org.yamcs.yarch.rocksdb;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.rocksdb.BlockBasedTableConfig;
+import org.rocksdb.ColumnFamilyOptions;
+import org.rocksdb.HyperClockCache;
+import org.rocksdb.RocksDB;
+import org.yamcs.ConfigurationException;
+import org.yamcs.YConfiguration;
+import org.yamcs.parameterarchive.ParameterArchive;
+import org.yamcs.yarch.rocksdb.RdbConfig.TablespaceConfig;
+
+public class RdbConfigTest {
+
+    @BeforeAll
+    public static void beforeClass() {
+        RocksDB.loadLibrary();
+    }
+
+    @Test
+    public void testProfiles() {
+        TablespaceConfig tc = new TablespaceConfig(YConfiguration.wrap(Map.of(
+                "tablespaceNamePattern", ".*",
+                "blockCacheSize", 1024,
+                "tableConfig", List.of(Map.of("tableNamePattern", "pp_.*", "profile", "point-lookup")),
+                "columnFamilyConfig", List.of(Map.of("columnFamilyPattern", "cf1",
+                        "profile", "append-only-timeseries",
+                        "ttl", 3600,
+                        "tableFormatConfig", Map.of("blockSize", 64))))));
+
+        assertEquals("point-lookup", tc.getTableColumnFamily("pp_test"));
+        assertNull(tc.getTableColumnFamily("test"));
+
+        ColumnFamilyOptions cf1Options = tc.getColumnFamilyOptions("cf1");
+        assertEquals(4, cf1Options.maxWriteBufferNumber());
+        assertEquals(3600, cf1Options.ttl());
+        assertEquals(64 * 1024, ((BlockBasedTableConfig) cf1Options.tableFormatConfig()).blockSize());
+
+        ColumnFamilyOptions plOptions = tc.getColumnFamilyOptions("point-lookup");
+        assertEquals(16 * 1024, ((BlockBasedTableConfig) plOptions.tableFormatConfig()).blockSize());
+
+        assertSame(tc.getColumnFamilyOptions(ParameterArchive.CF_NAME),
+                tc.getColumnFamilyOptions(ParameterArchive.ROLLUP_CF_NAME));
+    }
+
+    @Test
+    public void testHyperClockCache() {
+        TablespaceConfig tc = new TablespaceConfig(YConfiguration.wrap(Map.of(
+                "tablespaceNamePattern", ".*",
+                "blockCacheType", "hyperClock")));
+        assertTrue(tc.getTableCache() instanceof HyperClockCache);
+    }
+
+    @Test
+    public void testInvalid() {
+        assertThrows(ConfigurationException.class, () -> new TablespaceConfig(YConfiguration.wrap(Map.of(
+                "tablespaceNamePattern", ".*",
+                "tableConfig", List.of(Map.of("tableNamePattern", "pp_.*", "profile", "xyz"))))));
+        assertThrows(ConfigurationException.class, () -> new TablespaceConfig(YConfiguration.wrap(Map.of(
+                "tablespaceNamePattern", ".*",
+                "blockCacheType", "xyz"))));
+    }
+}
@@ -0,0 +1,156 @@
+package org.yamcs.yarch.rocksdb;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.yamcs.utils.TimeEncoding;
+import org.yamcs.yarch.DbRange;
+import org.yamcs.yarch.ExecutionContext;
+import org.yamcs.yarch.Stream;
+import org.yamcs.yarch.TableDefinition;
+import org.yamcs.yarch.TableVisitor;
+import org.yamcs.yarch.Tuple;
+import org.yamcs.yarch.YarchDatabase;
+import org.yamcs.yarch.YarchTestCase;
+
+public class RdbTableWalkerReadAheadTest extends YarchTestCase {
+    static final int NUM_DAYS = 10;
+    static final int RECORDS_PER_DAY = 2500;
+
+    private void populate() throws Exception {
+        execute("create table test1(gentime timestamp, seq int, primary key(gentime, seq)) "
+                + "partition by time(gentime('YYYY/DOY'))");
+        execute("create stream test1_in(gentime timestamp, seq int)");
+        execute("insert into test1 select * from test1_in");
+        Stream s = ydb.getStream("test1_in");
+        long t0 = TimeEncoding.parse("2020-01-01T00:00:00");
+        int seq = 0;
+        for (int d = 0; d < NUM_DAYS; d++) {
+            for (int i = 0; i < RECORDS_PER_DAY; i++) {
+                s.emitTuple(new Tuple(s.getDefinition(), new Object[] { t0 + d * 86400_000L + i * 1000L, seq++ }));
+            }
+        }
+    }
+
+    private List<Integer> walk(boolean ascending, int readAhead, int limit) throws Exception {
+        TableDefinition tdef = ydb.getTable("test1");
+        RdbStorageEngine storageEngine = (RdbStorageEngine) ydb.getStorageEngine(tdef);
+        Tablespace tablespace = storageEngine.getTablespace(instance);
+        List<Integer> result = new ArrayList<>();
+        try (ExecutionContext ctx = new ExecutionContext(ydb)) {
+            RdbTableWalker walker = (RdbTableWalker) tablespace.newTableWalker(ctx, tdef, ascending, false);
+            walker.setReadAhead(readAhead);
+            walker.walk((key, value) -> {
+                result.add(tdef.deserialize(key, value).getIntColumn("seq"));
+                return result.size() == limit ? TableVisitor.ACTION_STOP : TableVisitor.ACTION_CONTINUE;
+            });
+        }
+        return result;
+    }
+
+    @Test
+    public void testOrder() throws Exception {
+        populate();
+        List<Integer> expected = walk(true, 0, -1);
+        assertEquals(NUM_DAYS * RECORDS_PER_DAY, expected.size());
+        assertEquals(expected, walk(true, 2, -1));
+
+        List<Integer> desc = walk(false, 3, -1);
+        assertEquals(NUM_DAYS * RECORDS_PER_DAY, desc.size());
+        for (int i = 0; i < desc.size(); i++) {
+            assertEquals(expected.get(expected.size() - 1 - i), desc.get(i));
+        }
+    }
+
+    @Test
+    public void testStop() throws Exception {
+        populate();
+        List<Integer> l = walk(true, 2, 3000);
+        assertEquals(3000, l.size());
+        assertEquals(2999, l.get(2999));
+    }
+
+    @Test
+    public void testRange() throws Exception {
+        populate();
+        TableDefinition tdef = ydb.getTable("test1");
+        RdbStorageEngine storageEngine = (RdbStorageEngine) ydb.getStorageEngine(tdef);
+        Tablespace tablespace = storageEngine.getTablespace(instance);
+        long t0 = TimeEncoding.parse("2020-01-02T00:00:00");
+        long t1 = TimeEncoding.parse("2020-01-05T00:00:00");
+
+        List<Long> times = new ArrayList<>();
+        try (ExecutionContext ctx = new ExecutionContext(ydb)) {
+            RdbTableWalker walker = (RdbTableWalker) tablespace.newTableWalker(ctx, tdef, true, false);
+            walker.setReadAhead(2);
+            DbRange range = new DbRange();
+            range.rangeStart = tdef.generateRow(new Tuple(tdef.getTupleDefinition(), new Object[] { t0, 0 })).getKey();
+            range.rangeEnd = tdef.generateRow(new Tuple(tdef.getTupleDefinition(), new Object[] { t1, 0 })).getKey();
+            walker.setPrimaryIndexRange(range);
+            walker.walk((key, value) -> {
+                times.add(tdef.deserialize(key, value).getTimestampColumn("gentime"));
+                return TableVisitor.ACTION_CONTINUE;
+            });
+        }
+        assertEquals(3 * RECORDS_PER_DAY, times.size());
+        assertTrue(times.get(0) >= t0);
+        assertTrue(times.get(times.size() - 1) < t1);
+    }
+
+    @Test
+    public void testCloseTablespace() throws Exception {
+        populate();
+        TableDefinition tdef = ydb.getTable("test1");
+        RdbStorageEngine storageEngine = (RdbStorageEngine) ydb.getStorageEngine(tdef);
+        Tablespace tablespace = storageEngine.getTablespace(instance);
+
+        // occupy all the read-ahead threads such that the intervals of the walker stay queued
+        ThreadPoolExecutor executor = (ThreadPoolExecutor) tablespace.getReadAheadExecutor();
+        CountDownLatch release = new CountDownLatch(1);
+        for (int i = 0; i < executor.getMaximumPoolSize(); i++) {
+            executor.execute(() -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+
+        ExecutionContext ctx = new ExecutionContext(ydb);
+        RdbTableWalker walker = (RdbTableWalker) tablespace.newTableWalker(ctx, tdef, true, false);
+        walker.setReadAhead(2);
+        AtomicInteger count = new AtomicInteger();
+        Thread t = new Thread(() -> {
+            try {
+                walker.walk((key, value) -> {
+                    count.incrementAndGet();
+                    return TableVisitor.ACTION_CONTINUE;
+                });
+            } catch (Exception e) {
+                // expected, the tablespace is closed
+            }
+        });
+        t.start();
+        // wait for the walker to queue its intervals
+        while (executor.getQueue().size() < 3) {
+            Thread.sleep(10);
+        }
+
+        YarchDatabase.removeInstance(instance);
+        storageEngine.dropTablespace(instance);
+        t.join(10000);
+        assertFalse(t.isAlive());
+        assertEquals(0, count.get());
+        release.countDown();
+        ctx.close();
+    }
+}
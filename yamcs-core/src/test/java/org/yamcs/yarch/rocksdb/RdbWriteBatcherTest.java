@@ -0,0 +1,115 @@
+package org.yamcs.yarch.rocksdb;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.WriteOptions;
+import org.yamcs.utils.FileUtils;
+import org.yamcs.yarch.rocksdb.RdbConfig.TableWriterConfig;
+
+public class RdbWriteBatcherTest {
+    static Path testDir = Path.of(System.getProperty("java.io.tmpdir"), "RdbWriteBatcherTest");
+    Tablespace tablespace;
+    YRDB rdb;
+    ColumnFamilyHandle cfh;
+
+    @BeforeEach
+    public void before() throws Exception {
+        FileUtils.deleteRecursivelyIfExists(testDir);
+        tablespace = new Tablespace("test");
+        tablespace.setCustomDataDir(testDir.toString());
+        tablespace.loadDb(false);
+        rdb = tablespace.getRdb();
+        cfh = rdb.createAndGetColumnFamilyHandle("batcher_test");
+    }
+
+    @AfterEach
+    public void after() {
+        tablespace.close();
+    }
+
+    @Test
+    public void testSync() throws Exception {
+        TableWriterConfig twc = new TableWriterConfig(Pattern.compile(".*"), 3, 60_000, false, 1);
+        RdbWriteBatcher batcher = new RdbWriteBatcher(twc, tablespace, "test", new WriteOptions(), tablespace.executor,
+                e -> fail(e.toString()));
+
+        for (int i = 0; i < 2; i++) {
+            batcher.getBatch(rdb).put(cfh, key(i), key(i));
+            batcher.rowAdded(rdb);
+        }
+        // not yet committed but visible through the batcher
+        assertNull(rdb.get(cfh, key(1)));
+        assertArrayEquals(key(1), batcher.get(rdb, cfh, key(1)));
+
+        batcher.getBatch(rdb).put(cfh, key(2), key(2));
+        batcher.rowAdded(rdb);
+        // the batch size has been reached
+        for (int i = 0; i < 3; i++) {
+            assertArrayEquals(key(i), rdb.get(cfh, key(i)));
+        }
+        batcher.close();
+    }
+
+    @Test
+    public void testAsync() throws Exception {
+        TableWriterConfig twc = new TableWriterConfig(Pattern.compile(".*"), 10, 60_000, true, 2);
+        RdbWriteBatcher batcher = new RdbWriteBatcher(twc, tablespace, "test", new WriteOptions(), tablespace.executor,
+                e -> fail(e.toString()));
+        for (int i = 0; i < 100; i++) {
+            batcher.getBatch(rdb).put(cfh, key(i), key(i));
+            batcher.rowAdded(rdb);
+            batcher.awaitPendingBatches();
+            assertArrayEquals(key(i), batcher.get(rdb, cfh, key(i)));
+        }
+        batcher.close();
+        for (int i = 0; i < 100; i++) {
+            assertArrayEquals(key(i), rdb.get(cfh, key(i)));
+        }
+    }
+
+    @Test
+    public void testAfterWrite() throws Exception {
+        TableWriterConfig twc = new TableWriterConfig(Pattern.compile(".*"), 3, 60_000, true, 1);
+        RdbWriteBatcher batcher = new RdbWriteBatcher(twc, tablespace, "test", new WriteOptions(), tablespace.executor,
+                e -> fail(e.toString()));
+        AtomicInteger written = new AtomicInteger();
+        for (int i = 0; i < 2; i++) {
+            int k = i;
+            batcher.getBatch(rdb).put(cfh, key(i), key(i));
+            batcher.afterWrite(rdb, () -> {
+                // the data is in the database when the action is run
+                assertArrayEquals(key(k), rdbGet(key(k)));
+                written.incrementAndGet();
+            });
+            batcher.rowAdded(rdb);
+            batcher.awaitPendingBatches();
+        }
+        assertEquals(0, written.get());
+        batcher.sync();
+        assertEquals(2, written.get());
+        batcher.close();
+    }
+
+    private byte[] rdbGet(byte[] key) {
+        try {
+            return rdb.get(cfh, key);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static byte[] key(int i) {
+        return new byte[] { (byte) (i >> 8), (byte) i };
+    }
+}
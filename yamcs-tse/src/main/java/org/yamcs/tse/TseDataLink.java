@@ -41,7 +41,6 @@ import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.ChannelPipeline;
 import io.netty.channel.EventLoopGroup;
-import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.handler.codec.LengthFieldBasedFrameDecoder;
 import io.netty.handler.codec.LengthFieldPrepender;
 import io.netty.handler.codec.protobuf.ProtobufDecoder;
@@ -225,7 +224,7 @@ public class TseDataLink extends AbstractLink {
 
     @Override
     protected void doStart() {
-        EventLoopGroup eventLoopGroup = getEventLoop();
+        EventLoopGroup eventLoopGroup = getEventLoopGroup();
         eventLoopGroup.schedule(() -> createBootstrap(), initialDelay, TimeUnit.MILLISECONDS);
         notifyStarted();
     }
@@ -238,10 +237,10 @@ public class TseDataLink extends AbstractLink {
             return;
         }
         TimeService timeService = YamcsServer.getTimeService(yamcsInstance);
-        EventLoopGroup eventLoopGroup = getEventLoop();
+        EventLoopGroup eventLoopGroup = getEventLoopGroup();
         Bootstrap b = new Bootstrap()
                 .group(eventLoopGroup)
-                .channel(NioSocketChannel.class)
+                .channel(getTransport().socketChannelClass())
                 .option(ChannelOption.SO_KEEPALIVE, true)
                 .handler(new ChannelInitializer<>() {
 
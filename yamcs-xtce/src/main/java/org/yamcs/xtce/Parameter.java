@@ -4,7 +4,7 @@ package org.yamcs.xtce;
  * A Parameter is a description of something that can have a value; it is not the value itself.
  */
 public class Parameter extends NameDescription {
-    private static final long serialVersionUID = 3L;
+    private static final long serialVersionUID = 4L;
     ParameterType parameterType;
     DataSource dataSource = DataSource.TELEMETERED;
     /**
@@ -22,6 +22,11 @@ public class Parameter extends NameDescription {
      */
     String recordingGroup = null;
 
+    /**
+     * index of the parameter in the MDB or -1 if it has not been added to an MDB
+     */
+    private int index = -1;
+
     public Parameter(String name) {
         super(name);
     }
@@ -97,4 +102,18 @@ public class Parameter extends NameDescription {
         this.persistent = persistent;
     }
 
+    /**
+     * Returns the index of this parameter in the MDB it belongs to or -1 if the parameter has not been added to an MDB.
+     * <p>
+     * The indexes are assigned by the {@link XtceDb} when the parameters are added, starting from 0 without gaps, such
+     * that they can be used to store data related to the parameters in arrays instead of hash maps.
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    void setIndex(int index) {
+        this.index = index;
+    }
+
 }
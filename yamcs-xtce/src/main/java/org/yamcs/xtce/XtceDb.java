@@ -489,13 +489,21 @@ public class XtceDb implements Serializable {
 
     private void buildParameterMap(SpaceSystem ss) {
         for (Parameter p : ss.getParameters()) {
-            parameters.put(p.getQualifiedName(), p);
+            addToParameterMap(p);
         }
         for (SpaceSystem ss1 : ss.getSubSystems()) {
             buildParameterMap(ss1);
         }
     }
 
+    /**
+     * Adds the parameter to the map and assigns it the next index (or the index of the parameter it replaces)
+     */
+    private void addToParameterMap(Parameter p) {
+        Parameter old = parameters.put(p.getQualifiedName(), p);
+        p.setIndex(old == null ? parameters.size() - 1 : old.getIndex());
+    }
+
     private void buildParameterTypeMap(SpaceSystem ss) {
         for (ParameterType t : ss.getParameterTypes()) {
             String qualifiedName = ((NameDescription) t).getQualifiedName();
@@ -650,7 +658,7 @@ public class XtceDb implements Serializable {
                 }
 
                 ss.addParameter(p);
-                parameters.put(p.getQualifiedName(), p);
+                addToParameterMap(p);
 
                 parameterAliases.add(p);
                 XtceAliasSet aliases = p.getAliasSet();